@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.PREDICT;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.remote.ConnectorUtils;
+
+/**
+ * Parsing of remote model responses into model tensors, with the built-in embedding post-process functions and with the
+ * response filters of the chat blueprints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConnectorUtilsBenchmark {
+
+    @Param({ "openai_chat", "openai_embedding", "bedrock_claude", "bedrock_titan_embedding", "cohere_embed" })
+    public String response;
+
+    private HttpConnector connector;
+    private Map<String, String> parameters;
+    private String modelResponse;
+
+    @Setup
+    public void setup() {
+        modelResponse = Fixtures.resource(response + "_response.json");
+        switch (response) {
+            case "openai_chat":
+                connector = Fixtures.connector(Fixtures.OPENAI_CHAT_BODY, null);
+                parameters = Map.of("response_filter", "$.choices[0].message.content");
+                break;
+            case "openai_embedding":
+                connector = Fixtures.connector(Fixtures.OPENAI_EMBEDDING_BODY, MLPostProcessFunction.OPENAI_EMBEDDING);
+                parameters = Map.of();
+                break;
+            case "bedrock_claude":
+                connector = Fixtures.connector(Fixtures.BEDROCK_CLAUDE_BODY, null);
+                parameters = Map.of("response_filter", "$.content[0].text");
+                break;
+            case "bedrock_titan_embedding":
+                connector = Fixtures.connector(Fixtures.BEDROCK_TITAN_EMBEDDING_BODY, MLPostProcessFunction.BEDROCK_EMBEDDING);
+                parameters = Map.of();
+                break;
+            case "cohere_embed":
+                connector = Fixtures.connector(Fixtures.COHERE_EMBED_BODY, MLPostProcessFunction.COHERE_EMBEDDING);
+                parameters = Map.of();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown response: " + response);
+        }
+    }
+
+    @Benchmark
+    public ModelTensors processOutput() throws IOException {
+        return ConnectorUtils.processOutput(PREDICT.name(), modelResponse, connector, null, parameters, null);
+    }
+}
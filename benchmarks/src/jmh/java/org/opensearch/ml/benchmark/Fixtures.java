@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.HttpConnector;
+
+/**
+ * Connectors and model responses shared by the benchmarks, shaped like the requests and responses of the OpenAI, Bedrock and
+ * Cohere blueprints.
+ */
+final class Fixtures {
+
+    static final String OPENAI_CHAT_BODY = "{ \"model\": \"${parameters.model}\", \"messages\": ${parameters.messages},"
+        + " \"temperature\": ${parameters.temperature} }";
+    static final String OPENAI_EMBEDDING_BODY = "{ \"input\": ${parameters.input}, \"model\": \"${parameters.model}\" }";
+    static final String BEDROCK_CLAUDE_BODY = "{ \"anthropic_version\": \"bedrock-2023-05-31\", \"max_tokens\": ${parameters.max_tokens},"
+        + " \"system\": \"${parameters.system_prompt}\", \"messages\": [{ \"role\": \"user\", \"content\": \"${parameters.prompt}\" }] }";
+    static final String BEDROCK_TITAN_EMBEDDING_BODY = "{ \"inputText\": \"${parameters.inputText}\" }";
+    static final String COHERE_EMBED_BODY = "{ \"texts\": ${parameters.texts}, \"truncate\": \"${parameters.truncate}\","
+        + " \"input_type\": \"${parameters.input_type}\" }";
+
+    static final String PROMPT = "You are a helpful assistant. Answer the question with the search results and cite the sources."
+        + " Question: how does OpenSearch run approximate k-NN search on large indices?";
+    static final String SEARCH_RESULT = "OpenSearch builds HNSW graphs per segment with the Lucene, Faiss or NMSLIB engines. Queries "
+        + "visit each graph and merge the top k results. \"Quotes\" and\nnew lines appear in real documents.";
+
+    private Fixtures() {}
+
+    static HttpConnector connector(String requestBody, String postProcessFunction) {
+        ConnectorAction action = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("https://api.example.com/v1/predict")
+            .headers(Map.of("Authorization", "Bearer ${credential.api_key}", "Content-Type", "application/json"))
+            .requestBody(requestBody)
+            .postProcessFunction(postProcessFunction)
+            .build();
+        return HttpConnector.builder().name("benchmark connector").version("1").protocol("http").actions(List.of(action)).build();
+    }
+
+    static String resource(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Fixture not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
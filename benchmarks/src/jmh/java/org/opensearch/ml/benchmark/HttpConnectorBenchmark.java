@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.PREDICT;
+import static org.opensearch.ml.common.utils.StringUtils.gson;
+import static org.opensearch.ml.common.utils.StringUtils.toJson;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.ml.common.connector.HttpConnector;
+
+/**
+ * Request payload creation of a remote model prediction, the substitution of the request parameters into the request body
+ * template of the connector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HttpConnectorBenchmark {
+
+    @Param({ "openai_chat", "openai_embedding", "bedrock_claude", "bedrock_titan_embedding", "cohere_embed" })
+    public String payload;
+
+    private HttpConnector connector;
+    private Map<String, String> parameters;
+
+    @Setup
+    public void setup() {
+        List<String> texts = List.of(Fixtures.SEARCH_RESULT, Fixtures.PROMPT, Fixtures.SEARCH_RESULT, Fixtures.PROMPT);
+        parameters = new HashMap<>();
+        switch (payload) {
+            case "openai_chat":
+                connector = Fixtures.connector(Fixtures.OPENAI_CHAT_BODY, null);
+                parameters.put("model", "gpt-4o-mini");
+                parameters.put("temperature", "0.2");
+                parameters
+                    .put(
+                        "messages",
+                        toJson(
+                            List
+                                .of(
+                                    Map.of("role", "system", "content", Fixtures.PROMPT),
+                                    Map.of("role", "user", "content", Fixtures.SEARCH_RESULT)
+                                )
+                        )
+                    );
+                break;
+            case "openai_embedding":
+                connector = Fixtures.connector(Fixtures.OPENAI_EMBEDDING_BODY, null);
+                parameters.put("model", "text-embedding-3-small");
+                parameters.put("input", toJson(texts));
+                break;
+            case "bedrock_claude":
+                connector = Fixtures.connector(Fixtures.BEDROCK_CLAUDE_BODY, null);
+                parameters.put("max_tokens", "512");
+                parameters.put("system_prompt", escape(Fixtures.PROMPT));
+                parameters.put("prompt", escape(Fixtures.SEARCH_RESULT));
+                break;
+            case "bedrock_titan_embedding":
+                connector = Fixtures.connector(Fixtures.BEDROCK_TITAN_EMBEDDING_BODY, null);
+                parameters.put("inputText", escape(Fixtures.SEARCH_RESULT));
+                break;
+            case "cohere_embed":
+                connector = Fixtures.connector(Fixtures.COHERE_EMBED_BODY, null);
+                parameters.put("texts", toJson(texts));
+                parameters.put("truncate", "END");
+                parameters.put("input_type", "search_document");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown payload: " + payload);
+        }
+    }
+
+    @Benchmark
+    public String createPayload() {
+        // createPayload parses the parameters in place, like the executor each invocation works on its own copy
+        return connector.createPayload(PREDICT.name(), new HashMap<>(parameters));
+    }
+
+    private static String escape(String value) {
+        String json = gson.toJson(value);
+        return json.substring(1, json.length() - 1);
+    }
+}
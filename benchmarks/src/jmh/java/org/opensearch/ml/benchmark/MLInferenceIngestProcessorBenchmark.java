@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.PREDICT;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.engine.algorithms.remote.ConnectorUtils;
+import org.opensearch.ml.processor.MLInferenceIngestProcessor;
+import org.opensearch.test.client.NoOpClient;
+
+/**
+ * Input and output mapping of the ml_inference ingest processor around a prediction, with a client answering every prediction
+ * with a parsed OpenAI embedding response, so only the work of the processor is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MLInferenceIngestProcessorBenchmark {
+
+    @Param({ "dot_path", "json_path" })
+    public String inputMap;
+
+    private PredictionClient client;
+    private MLInferenceIngestProcessor processor;
+    private Map<String, Object> source;
+
+    @Setup
+    public void setup() throws Exception {
+        ModelTensorOutput output = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(
+                List
+                    .of(
+                        ConnectorUtils
+                            .processOutput(
+                                PREDICT.name(),
+                                Fixtures.resource("openai_embedding_response.json"),
+                                Fixtures.connector(Fixtures.OPENAI_EMBEDDING_BODY, null),
+                                null,
+                                Map.of(),
+                                null
+                            )
+                    )
+            )
+            .build();
+        client = new PredictionClient(MLTaskResponse.builder().output(output).build());
+
+        source = new HashMap<>();
+        source.put("title", "Approximate k-NN search");
+        source.put("passage_text", Fixtures.SEARCH_RESULT);
+        source
+            .put(
+                "book",
+                Map.of("chapters", List.of(Map.of("text", Fixtures.SEARCH_RESULT), Map.of("text", Fixtures.PROMPT)), "pages", 412)
+            );
+
+        Map<String, Object> config = new HashMap<>();
+        config.put("model_id", "benchmark_model_id");
+        if (inputMap.equals("dot_path")) {
+            config.put("input_map", List.of(Map.of("input", "passage_text")));
+        } else {
+            config.put("input_map", List.of(Map.of("input", "$.book.chapters[*].text")));
+        }
+        config.put("output_map", List.of(Map.of("passage_embedding", "data[0].embedding")));
+        processor = new MLInferenceIngestProcessor.Factory(null, client, NamedXContentRegistry.EMPTY)
+            .create(Map.of(), "benchmark", null, config);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public IngestDocument execute() {
+        IngestDocument ingestDocument = new IngestDocument(new HashMap<>(source), new HashMap<>());
+        processor.execute(ingestDocument, (result, e) -> {
+            if (e != null) {
+                throw new IllegalStateException("ml_inference processor failed", e);
+            }
+        });
+        return ingestDocument;
+    }
+
+    private static class PredictionClient extends NoOpClient {
+        private final MLTaskResponse response;
+
+        private PredictionClient(MLTaskResponse response) {
+            super(MLInferenceIngestProcessorBenchmark.class.getSimpleName());
+            this.response = response;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <Request extends ActionRequest, Response extends ActionResponse> void doExecute(
+            ActionType<Response> action,
+            Request request,
+            ActionListener<Response> listener
+        ) {
+            listener.onResponse((Response) response);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.PREDICT;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.remote.ConnectorUtils;
+
+/**
+ * Transport serialization and REST rendering of the model tensors of a remote model prediction, a batch of dense embeddings or
+ * the parsed answer of a chat model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelTensorBenchmark {
+
+    @Param({ "openai_embedding", "openai_chat" })
+    public String tensors;
+
+    private ModelTensors modelTensors;
+    private BytesReference serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        String response = Fixtures.resource(tensors + "_response.json");
+        if (tensors.equals("openai_embedding")) {
+            modelTensors = ConnectorUtils
+                .processOutput(
+                    PREDICT.name(),
+                    response,
+                    Fixtures.connector(Fixtures.OPENAI_EMBEDDING_BODY, MLPostProcessFunction.OPENAI_EMBEDDING),
+                    null,
+                    Map.of(),
+                    null
+                );
+        } else {
+            modelTensors = ConnectorUtils
+                .processOutput(PREDICT.name(), response, Fixtures.connector(Fixtures.OPENAI_CHAT_BODY, null), null, Map.of(), null);
+        }
+        serialized = writeTo();
+    }
+
+    @Benchmark
+    public BytesReference writeTo() throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            modelTensors.writeTo(out);
+            return out.bytes();
+        }
+    }
+
+    @Benchmark
+    public ModelTensors readFrom() throws IOException {
+        return new ModelTensors(serialized.streamInput());
+    }
+
+    @Benchmark
+    public BytesReference toXContent() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        modelTensors.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        return BytesReference.bytes(builder);
+    }
+}
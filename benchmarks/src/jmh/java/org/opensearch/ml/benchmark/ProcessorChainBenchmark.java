@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.ml.engine.processor.ProcessorChain;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Output processors applied to the answer of a chat model: strip the markdown fence, extract the JSON object and keep the
+ * sources. Remote predictions build the chain from the connector parameters on every response, so both the reused chain and
+ * the chain built per response are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProcessorChainBenchmark {
+
+    private static final List<Map<String, Object>> OUTPUT_PROCESSORS = List
+        .of(
+            Map.of("type", "regex_replace", "pattern", "```(json)?", "replacement", ""),
+            Map.of("type", "extract_json", "extract_type", "object"),
+            Map.of("type", "jsonpath_filter", "path", "$.sources"),
+            Map.of("type", "to_string")
+        );
+
+    private String answer;
+    private ProcessorChain processorChain;
+
+    @Setup
+    public void setup() {
+        answer = JsonPath.read(Fixtures.resource("openai_chat_response.json"), "$.choices[0].message.content");
+        processorChain = new ProcessorChain(OUTPUT_PROCESSORS);
+        if (!StringUtils.isJson((String) processorChain.process(answer))) {
+            throw new IllegalStateException("The output processors did not extract the sources of the answer");
+        }
+    }
+
+    @Benchmark
+    public Object process() {
+        return processorChain.process(answer);
+    }
+
+    @Benchmark
+    public Object createAndProcess() {
+        return new ProcessorChain(OUTPUT_PROCESSORS).process(answer);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.ml.common.utils.StringUtils;
+
+/**
+ * JSON helpers used on every remote prediction: validating and parsing model responses, and turning request parameters into
+ * the string parameters of a connector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringUtilsBenchmark {
+
+    @Param({ "openai_chat", "cohere_embed" })
+    public String response;
+
+    private String json;
+    private Map<String, Object> parsed;
+    private Map<String, Object> parameters;
+
+    @Setup
+    public void setup() {
+        json = Fixtures.resource(response + "_response.json");
+        parsed = StringUtils.fromJson(json, "response");
+        parameters = Map
+            .of(
+                "prompt",
+                Fixtures.PROMPT,
+                "texts",
+                List.of(Fixtures.SEARCH_RESULT, Fixtures.PROMPT),
+                "max_tokens",
+                512,
+                "response",
+                parsed
+            );
+    }
+
+    @Benchmark
+    public boolean isJson() {
+        return StringUtils.isJson(json);
+    }
+
+    @Benchmark
+    public Map<String, Object> fromJson() {
+        return StringUtils.fromJson(json, "response");
+    }
+
+    @Benchmark
+    public String toJson() {
+        return StringUtils.toJson(parsed);
+    }
+
+    @Benchmark
+    public Map<String, String> getParameterMap() {
+        return StringUtils.getParameterMap(parameters);
+    }
+}
@@ -40,6 +40,12 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
     public static final String SKIP_SSL_VERIFICATION_FIELD = "skip_ssl_verification";
     public static final String MUTUAL_TLS_ENABLED_FIELD = "mutual_tls_enabled";
     public static final String KEYSTORE_TYPE_FIELD = "keystore_type";
+    public static final String MAX_PENDING_CONNECTION_ACQUIRES_FIELD = "max_pending_connection_acquires";
+    public static final String CONNECTION_ACQUISITION_TIMEOUT_FIELD = "connection_acquisition_timeout";
+    public static final String CONNECTION_TTL_FIELD = "connection_ttl";
+    public static final String CONNECTION_MAX_IDLE_TIME_FIELD = "connection_max_idle_time";
+    public static final String HTTP2_ENABLED_FIELD = "http2_enabled";
+    public static final String TCP_KEEP_ALIVE_FIELD = "tcp_keep_alive";
 
     public static final Integer MAX_CONNECTION_DEFAULT_VALUE = Integer.valueOf(30);
     public static final Integer CONNECTION_TIMEOUT_DEFAULT_VALUE = Integer.valueOf(30);
@@ -54,6 +60,7 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
     // CertificateProcessor.KeystoreType.from() falls back to PEM when the type is not set
     public static final Version MINIMAL_SUPPORTED_VERSION_FOR_RETRY = Version.V_2_15_0;
     public static final Version MINIMAL_SUPPORTED_VERSION_FOR_MTLS = CommonValue.VERSION_3_9_0;
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_POOL_TUNING = CommonValue.VERSION_3_9_0;
     private Integer maxConnections;
     private Integer connectionTimeout;
     private Integer readTimeout;
@@ -64,8 +71,17 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
     private Boolean skipSslVerification;
     private Boolean mutualTlsEnabled;
     private String keystoreType;
+    // Connection pool tuning, no defaults: the HTTP client defaults apply when not set
+    private Integer maxPendingConnectionAcquires;
+    // in seconds
+    private Integer connectionAcquisitionTimeout;
+    // in seconds
+    private Integer connectionTtl;
+    // in seconds
+    private Integer connectionMaxIdleTime;
+    private Boolean http2Enabled;
+    private Boolean tcpKeepAlive;
 
-    @Builder(toBuilder = true)
     public ConnectorClientConfig(
         Integer maxConnections,
         Integer connectionTimeout,
@@ -77,6 +93,45 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         Boolean skipSslVerification,
         Boolean mutualTlsEnabled,
         String keystoreType
+    ) {
+        this(
+            maxConnections,
+            connectionTimeout,
+            readTimeout,
+            retryBackoffMillis,
+            retryTimeoutSeconds,
+            maxRetryTimes,
+            retryBackoffPolicy,
+            skipSslVerification,
+            mutualTlsEnabled,
+            keystoreType,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+
+    @Builder(toBuilder = true)
+    public ConnectorClientConfig(
+        Integer maxConnections,
+        Integer connectionTimeout,
+        Integer readTimeout,
+        Integer retryBackoffMillis,
+        Integer retryTimeoutSeconds,
+        Integer maxRetryTimes,
+        RetryBackoffPolicy retryBackoffPolicy,
+        Boolean skipSslVerification,
+        Boolean mutualTlsEnabled,
+        String keystoreType,
+        Integer maxPendingConnectionAcquires,
+        Integer connectionAcquisitionTimeout,
+        Integer connectionTtl,
+        Integer connectionMaxIdleTime,
+        Boolean http2Enabled,
+        Boolean tcpKeepAlive
     ) {
         this.maxConnections = maxConnections;
         this.connectionTimeout = connectionTimeout;
@@ -88,6 +143,12 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         this.skipSslVerification = skipSslVerification;
         this.mutualTlsEnabled = mutualTlsEnabled;
         this.keystoreType = keystoreType;
+        this.maxPendingConnectionAcquires = maxPendingConnectionAcquires;
+        this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+        this.connectionTtl = connectionTtl;
+        this.connectionMaxIdleTime = connectionMaxIdleTime;
+        this.http2Enabled = http2Enabled;
+        this.tcpKeepAlive = tcpKeepAlive;
     }
 
     public ConnectorClientConfig(StreamInput input) throws IOException {
@@ -107,6 +168,14 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
                 this.mutualTlsEnabled = input.readOptionalBoolean();
                 this.keystoreType = input.readOptionalString();
             }
+            if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_POOL_TUNING)) {
+                this.maxPendingConnectionAcquires = input.readOptionalInt();
+                this.connectionAcquisitionTimeout = input.readOptionalInt();
+                this.connectionTtl = input.readOptionalInt();
+                this.connectionMaxIdleTime = input.readOptionalInt();
+                this.http2Enabled = input.readOptionalBoolean();
+                this.tcpKeepAlive = input.readOptionalBoolean();
+            }
         }
     }
 
@@ -144,6 +213,14 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
                 out.writeOptionalBoolean(mutualTlsEnabled);
                 out.writeOptionalString(keystoreType);
             }
+            if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_POOL_TUNING)) {
+                out.writeOptionalInt(maxPendingConnectionAcquires);
+                out.writeOptionalInt(connectionAcquisitionTimeout);
+                out.writeOptionalInt(connectionTtl);
+                out.writeOptionalInt(connectionMaxIdleTime);
+                out.writeOptionalBoolean(http2Enabled);
+                out.writeOptionalBoolean(tcpKeepAlive);
+            }
         }
     }
 
@@ -180,6 +257,24 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         if (keystoreType != null) {
             builder.field(KEYSTORE_TYPE_FIELD, keystoreType);
         }
+        if (maxPendingConnectionAcquires != null) {
+            builder.field(MAX_PENDING_CONNECTION_ACQUIRES_FIELD, maxPendingConnectionAcquires);
+        }
+        if (connectionAcquisitionTimeout != null) {
+            builder.field(CONNECTION_ACQUISITION_TIMEOUT_FIELD, connectionAcquisitionTimeout);
+        }
+        if (connectionTtl != null) {
+            builder.field(CONNECTION_TTL_FIELD, connectionTtl);
+        }
+        if (connectionMaxIdleTime != null) {
+            builder.field(CONNECTION_MAX_IDLE_TIME_FIELD, connectionMaxIdleTime);
+        }
+        if (http2Enabled != null) {
+            builder.field(HTTP2_ENABLED_FIELD, http2Enabled);
+        }
+        if (tcpKeepAlive != null) {
+            builder.field(TCP_KEEP_ALIVE_FIELD, tcpKeepAlive);
+        }
         return builder.endObject();
     }
 
@@ -199,6 +294,12 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         Boolean skipSslVerification = SKIP_SSL_VERIFICATION_DEFAULT_VALUE;
         Boolean mutualTlsEnabled = MUTUAL_TLS_ENABLED_DEFAULT_VALUE;
         String keystoreType = null; // No default - CertificateProcessor handles PEM fallback
+        Integer maxPendingConnectionAcquires = null;
+        Integer connectionAcquisitionTimeout = null;
+        Integer connectionTtl = null;
+        Integer connectionMaxIdleTime = null;
+        Boolean http2Enabled = null;
+        Boolean tcpKeepAlive = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -236,6 +337,24 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
                 case KEYSTORE_TYPE_FIELD:
                     keystoreType = parser.textOrNull();
                     break;
+                case MAX_PENDING_CONNECTION_ACQUIRES_FIELD:
+                    maxPendingConnectionAcquires = parser.intValue();
+                    break;
+                case CONNECTION_ACQUISITION_TIMEOUT_FIELD:
+                    connectionAcquisitionTimeout = parser.intValue();
+                    break;
+                case CONNECTION_TTL_FIELD:
+                    connectionTtl = parser.intValue();
+                    break;
+                case CONNECTION_MAX_IDLE_TIME_FIELD:
+                    connectionMaxIdleTime = parser.intValue();
+                    break;
+                case HTTP2_ENABLED_FIELD:
+                    http2Enabled = parser.booleanValue();
+                    break;
+                case TCP_KEEP_ALIVE_FIELD:
+                    tcpKeepAlive = parser.booleanValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -253,6 +372,12 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
             .skipSslVerification(skipSslVerification)
             .mutualTlsEnabled(mutualTlsEnabled)
             .keystoreType(keystoreType)
+            .maxPendingConnectionAcquires(maxPendingConnectionAcquires)
+            .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+            .connectionTtl(connectionTtl)
+            .connectionMaxIdleTime(connectionMaxIdleTime)
+            .http2Enabled(http2Enabled)
+            .tcpKeepAlive(tcpKeepAlive)
             .build();
     }
 }
@@ -7,8 +7,10 @@ package org.opensearch.ml.common.contextmanager;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 import org.opensearch.ml.common.agent.MLToolSpec;
 import org.opensearch.ml.common.conversation.Interaction;
@@ -16,14 +18,24 @@ import org.opensearch.ml.common.input.execute.agent.ContentBlock;
 import org.opensearch.ml.common.input.execute.agent.Message;
 import org.opensearch.ml.common.input.execute.agent.ToolCall;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Context object that contains all components of the agent execution context.
  * This object is passed to context managers for inspection and transformation.
+ * <p>
+ * Token counts are kept per message and per tool interaction, so each one is tokenized once when it enters the context and
+ * {@link #getEstimatedTokenCount()} only counts what was added since the previous call. Messages and interactions must not be
+ * modified in place once added; replace them or the list holding them instead. Contexts built for the hooks of one agent run
+ * share a {@link TokenCountCache}, so the elements they have in common are not tokenized again.
  */
 @Data
 @Builder
@@ -31,6 +43,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ContextManagerContext {
 
+    private static final TokenCounter DEFAULT_TOKEN_COUNTER = new CharacterBasedTokenCounter();
+
     /**
      * The invocation state from the hook system
      */
@@ -76,68 +90,59 @@ public class ContextManagerContext {
     @Builder.Default
     private Map<String, String> parameters = new HashMap<>();
 
+    /**
+     * Token counter used for the token count of the context, character based unless a tokenizer matching the LLM is set
+     */
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private TokenCounter tokenCounter = DEFAULT_TOKEN_COUNTER;
+
+    /**
+     * Token counts shared with the other contexts of the agent run, used while its token counter is the one of this context
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private TokenCountCache tokenCountCache;
+
+    // running token counts of the context, created on first use
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient TokenTally tokenTally;
+
     /**
      * Get the total token count for the current context.
      * This is a utility method that can be used by context managers.
      * @return estimated token count
      */
     public int getEstimatedTokenCount() {
-        int tokenCount = 0;
-
-        // Estimate tokens for system prompt
-        if (systemPrompt != null) {
-            int systemTokens = estimateTokens(systemPrompt);
-            tokenCount += systemTokens;
-        }
-
-        // Estimate tokens for user prompt
-        if (userPrompt != null) {
-            int userTokens = estimateTokens(userPrompt);
-            tokenCount += userTokens;
+        if (tokenTally == null) {
+            tokenTally = new TokenTally();
         }
+        long tokenCount = tokenTally.systemPrompt.count(systemPrompt) + tokenTally.userPrompt.count(userPrompt);
 
-        // Estimate tokens for chat history — use structured history when in structured mode,
+        // Count tokens for chat history — use structured history when in structured mode,
         // otherwise use legacy history. Avoids double-counting if both are populated.
         if (isStructuredMode()) {
-            for (Message message : structuredChatHistory) {
-                if (message.getContent() != null) {
-                    for (ContentBlock block : message.getContent()) {
-                        if (block.getText() != null) {
-                            tokenCount += estimateTokens(block.getText());
-                        }
-                    }
-                }
-                // Count tool-call metadata (function names + JSON arguments)
-                if (message.getToolCalls() != null) {
-                    for (ToolCall toolCall : message.getToolCalls()) {
-                        if (toolCall.getFunction() != null) {
-                            if (toolCall.getFunction().getName() != null) {
-                                tokenCount += estimateTokens(toolCall.getFunction().getName());
-                            }
-                            if (toolCall.getFunction().getArguments() != null) {
-                                tokenCount += estimateTokens(toolCall.getFunction().getArguments());
-                            }
-                        }
-                    }
-                }
-            }
+            tokenCount += tokenTally.structuredChatHistory.sum(structuredChatHistory, m -> countCached(m, this::countTokens));
         } else {
-            for (Interaction interaction : chatHistory) {
-                if (interaction.getInput() != null) {
-                    tokenCount += estimateTokens(interaction.getInput());
-                }
-                if (interaction.getResponse() != null) {
-                    tokenCount += estimateTokens(interaction.getResponse());
-                }
-            }
+            tokenCount += tokenTally.chatHistory.sum(chatHistory, i -> countCached(i, this::countTokens));
         }
 
-        // Estimate tokens for tool interactions
-        for (String interaction : toolInteractions) {
-            tokenCount += estimateTokens(interaction);
-        }
+        tokenCount += tokenTally.toolInteractions.sum(toolInteractions, t -> countCached(t, this::countTokens));
 
-        return tokenCount;
+        return (int) Math.min(tokenCount, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Set the token counter. Token counts computed with the previous counter are dropped.
+     * @param tokenCounter the token counter, null for the character based default
+     */
+    public void setTokenCounter(TokenCounter tokenCounter) {
+        this.tokenCounter = tokenCounter != null ? tokenCounter : DEFAULT_TOKEN_COUNTER;
+        this.tokenTally = null;
     }
 
     /**
@@ -188,19 +193,42 @@ public class ContextManagerContext {
         return structuredChatHistory != null && !structuredChatHistory.isEmpty();
     }
 
-    /**
-     * Simple token estimation based on character count.
-     * This is a fallback method - more sophisticated token counting should be implemented
-     * in dedicated TokenCounter implementations.
-     * @param text the text to estimate tokens for
-     * @return estimated token count
-     */
-    private int estimateTokens(String text) {
+    private <T> int countCached(T element, ToIntFunction<T> counter) {
+        TokenCountCache cache = tokenCountCache;
+        if (cache == null || cache.getTokenCounter() != tokenCounter) {
+            return counter.applyAsInt(element);
+        }
+        return cache.count(element, counter);
+    }
+
+    private int countTokens(String text) {
         if (text == null || text.isEmpty()) {
             return 0;
         }
-        // Rough estimation: 1 token per 4 characters
-        return (int) Math.ceil(text.length() / 4.0);
+        return (tokenCounter != null ? tokenCounter : DEFAULT_TOKEN_COUNTER).count(text);
+    }
+
+    private int countTokens(Message message) {
+        int tokenCount = 0;
+        if (message.getContent() != null) {
+            for (ContentBlock block : message.getContent()) {
+                tokenCount += countTokens(block.getText());
+            }
+        }
+        // Count tool-call metadata (function names + JSON arguments)
+        if (message.getToolCalls() != null) {
+            for (ToolCall toolCall : message.getToolCalls()) {
+                if (toolCall.getFunction() != null) {
+                    tokenCount += countTokens(toolCall.getFunction().getName());
+                    tokenCount += countTokens(toolCall.getFunction().getArguments());
+                }
+            }
+        }
+        return tokenCount;
+    }
+
+    private int countTokens(Interaction interaction) {
+        return countTokens(interaction.getInput()) + countTokens(interaction.getResponse());
     }
 
     /**
@@ -254,4 +282,85 @@ public class ContextManagerContext {
         }
         parameters.put(key, value);
     }
+
+    /**
+     * Running token counts of the parts of the context.
+     */
+    private final class TokenTally {
+        private final TextTally systemPrompt = new TextTally();
+        private final TextTally userPrompt = new TextTally();
+        private final ListTally chatHistory = new ListTally();
+        private final ListTally structuredChatHistory = new ListTally();
+        private final ListTally toolInteractions = new ListTally();
+    }
+
+    /**
+     * Token count of the last text counted, recounted only when the text changes.
+     */
+    private final class TextTally {
+        private String text;
+        private int tokens;
+
+        int count(String value) {
+            if (value != text) {
+                tokens = value == null ? 0 : countCached(value, ContextManagerContext.this::countTokens);
+                text = value;
+            }
+            return tokens;
+        }
+    }
+
+    /**
+     * Token count of a list, with the token count of each element remembered by identity. When the list was only appended to
+     * since the previous call, only the new elements are counted; otherwise the total is summed from the remembered counts and
+     * only elements not seen before are tokenized.
+     */
+    private static final class ListTally {
+        private List<?> list;
+        private int size;
+        private Object first;
+        private Object last;
+        private long tokens;
+        private Map<Object, Integer> elementTokens = new IdentityHashMap<>();
+
+        <T> long sum(List<T> current, ToIntFunction<T> counter) {
+            if (current == null || current.isEmpty()) {
+                list = current;
+                size = 0;
+                first = null;
+                last = null;
+                tokens = 0;
+                elementTokens.clear();
+                return 0;
+            }
+            int currentSize = current.size();
+            boolean appended = current == list
+                && currentSize >= size
+                && (size == 0 || (current.get(0) == first && current.get(size - 1) == last));
+            int from = appended ? size : 0;
+            if (!appended) {
+                // keep only the counts of elements still in the list
+                Map<Object, Integer> previous = elementTokens;
+                elementTokens = new IdentityHashMap<>(currentSize);
+                for (T element : current) {
+                    Integer count = previous.get(element);
+                    if (count != null) {
+                        elementTokens.put(element, count);
+                    }
+                }
+                tokens = 0;
+            }
+            for (int i = from; i < currentSize; i++) {
+                T element = current.get(i);
+                if (element != null) {
+                    tokens += elementTokens.computeIfAbsent(element, e -> counter.applyAsInt(element));
+                }
+            }
+            list = current;
+            size = currentSize;
+            first = current.get(0);
+            last = current.get(currentSize - 1);
+            return tokens;
+        }
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.contextmanager;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import lombok.Getter;
+
+/**
+ * Token counts of context elements (prompts, messages, interactions) for one token counter, remembered by identity.
+ * One cache is shared by all the contexts built during an agent run, so an element is tokenized once when it enters
+ * the context instead of once per hook.
+ */
+public class TokenCountCache {
+    @Getter
+    private final TokenCounter tokenCounter;
+    private final Map<Object, Integer> counts = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public TokenCountCache(TokenCounter tokenCounter) {
+        this.tokenCounter = tokenCounter;
+    }
+
+    /**
+     * Get the token count of an element, counting it only if it was not counted before.
+     * @param element the element to count
+     * @param counter counts the tokens of the element
+     * @param <T> the element type
+     * @return the token count of the element
+     */
+    public <T> int count(T element, ToIntFunction<T> counter) {
+        Integer count = counts.get(element);
+        if (count == null) {
+            // tokenize outside the lock, concurrent hooks may count the same element twice but never block each other
+            count = counter.applyAsInt(element);
+            counts.put(element, count);
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of elements counted
+     */
+    public int size() {
+        return counts.size();
+    }
+}
@@ -10,6 +10,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.opensearch.ml.common.contextmanager.TokenCountCache;
+import org.opensearch.ml.common.contextmanager.TokenCounter;
+
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -20,6 +23,8 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class HookRegistry {
     private final Map<Class<? extends HookEvent>, List<HookCallback<? extends HookEvent>>> callbacks;
+    // token counts of the context elements of the agent run, shared by the contexts built for its hooks
+    private TokenCountCache tokenCountCache;
 
     /**
      * Constructor for HookRegistry
@@ -83,6 +88,18 @@ public class HookRegistry {
         return eventCallbacks != null ? eventCallbacks.size() : 0;
     }
 
+    /**
+     * Get the token counts of the context elements seen by the hooks of this agent run
+     * @param tokenCounter The token counter of the context
+     * @return The token count cache for the token counter, a new one if the token counter changed
+     */
+    public synchronized TokenCountCache getTokenCountCache(TokenCounter tokenCounter) {
+        if (tokenCountCache == null || tokenCountCache.getTokenCounter() != tokenCounter) {
+            tokenCountCache = new TokenCountCache(tokenCounter);
+        }
+        return tokenCountCache;
+    }
+
     /**
      * Clear all registered callbacks
      */
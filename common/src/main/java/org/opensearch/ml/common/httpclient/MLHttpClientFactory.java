@@ -15,7 +15,11 @@ import java.util.regex.Pattern;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.TrustManager;
 
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+
 import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.ProtocolNegotiation;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
@@ -49,6 +53,32 @@ public class MLHttpClientFactory {
         List<Pattern> connectorTrustedPrivateEndpoints,
         List<Pattern> connectorRestrictedIpPatterns,
         boolean skipSslVerification
+    ) {
+        return getAsyncHttpClient(
+            connectionTimeout,
+            readTimeout,
+            maxConnections,
+            connectorPrivateIpEnabled,
+            connectorTrustedPrivateEndpoints,
+            connectorRestrictedIpPatterns,
+            skipSslVerification,
+            null
+        );
+    }
+
+    /**
+     * Create an HTTP client with the connection pool tuned from the connector client config.
+     * @param poolConfig connector client config holding the pool settings, null to use the HTTP client defaults
+     */
+    public static SdkAsyncHttpClient getAsyncHttpClient(
+        Duration connectionTimeout,
+        Duration readTimeout,
+        int maxConnections,
+        boolean connectorPrivateIpEnabled,
+        List<Pattern> connectorTrustedPrivateEndpoints,
+        List<Pattern> connectorRestrictedIpPatterns,
+        boolean skipSslVerification,
+        ConnectorClientConfig poolConfig
     ) {
         return doPrivileged(() -> {
             if (skipSslVerification) {
@@ -66,11 +96,14 @@ public class MLHttpClientFactory {
                     maxConnections,
                     skipSslVerification
                 );
-            SdkAsyncHttpClient delegate = NettyNioAsyncHttpClient
-                .builder()
-                .connectionTimeout(connectionTimeout)
-                .readTimeout(readTimeout)
-                .maxConcurrency(maxConnections)
+            SdkAsyncHttpClient delegate = configurePool(
+                NettyNioAsyncHttpClient
+                    .builder()
+                    .connectionTimeout(connectionTimeout)
+                    .readTimeout(readTimeout)
+                    .maxConcurrency(maxConnections),
+                poolConfig
+            )
                 .buildWithDefaults(
                     AttributeMap.builder().put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, skipSslVerification).build()
                 );
@@ -94,6 +127,33 @@ public class MLHttpClientFactory {
         boolean skipSslVerification,
         KeyManager[] keyManagers,
         TrustManager[] trustManagers
+    ) {
+        return getAsyncHttpClient(
+            connectionTimeout,
+            readTimeout,
+            maxConnections,
+            connectorPrivateIpEnabled,
+            connectorTrustedPrivateEndpoints,
+            connectorRestrictedIpPatterns,
+            skipSslVerification,
+            keyManagers,
+            trustManagers,
+            null
+        );
+    }
+
+    // mTLS overload with the connection pool tuned from the connector client config
+    public static SdkAsyncHttpClient getAsyncHttpClient(
+        Duration connectionTimeout,
+        Duration readTimeout,
+        int maxConnections,
+        boolean connectorPrivateIpEnabled,
+        List<Pattern> connectorTrustedPrivateEndpoints,
+        List<Pattern> connectorRestrictedIpPatterns,
+        boolean skipSslVerification,
+        KeyManager[] keyManagers,
+        TrustManager[] trustManagers,
+        ConnectorClientConfig poolConfig
     ) {
         // No client cert / trust material → reuse OSS's pristine path verbatim
         if (keyManagers == null && trustManagers == null) {
@@ -104,16 +164,20 @@ public class MLHttpClientFactory {
                 connectorPrivateIpEnabled,
                 connectorTrustedPrivateEndpoints,
                 connectorRestrictedIpPatterns,
-                skipSslVerification
+                skipSslVerification,
+                poolConfig
             );
         }
 
         return doPrivileged(() -> {
-            NettyNioAsyncHttpClient.Builder clientBuilder = NettyNioAsyncHttpClient
-                .builder()
-                .connectionTimeout(connectionTimeout)
-                .readTimeout(readTimeout)
-                .maxConcurrency(maxConnections);
+            NettyNioAsyncHttpClient.Builder clientBuilder = configurePool(
+                NettyNioAsyncHttpClient
+                    .builder()
+                    .connectionTimeout(connectionTimeout)
+                    .readTimeout(readTimeout)
+                    .maxConcurrency(maxConnections),
+                poolConfig
+            );
 
             SdkAsyncHttpClient delegate = MLTlsClientConfigurer.build(clientBuilder, keyManagers, trustManagers, skipSslVerification);
 
@@ -125,4 +189,34 @@ public class MLHttpClientFactory {
             );
         });
     }
+
+    /**
+     * Apply the connection pool settings of a connector, settings that are not set keep the HTTP client defaults.
+     */
+    static NettyNioAsyncHttpClient.Builder configurePool(NettyNioAsyncHttpClient.Builder builder, ConnectorClientConfig poolConfig) {
+        if (poolConfig == null) {
+            return builder;
+        }
+        if (poolConfig.getMaxPendingConnectionAcquires() != null) {
+            builder.maxPendingConnectionAcquires(poolConfig.getMaxPendingConnectionAcquires());
+        }
+        if (poolConfig.getConnectionAcquisitionTimeout() != null) {
+            builder.connectionAcquisitionTimeout(Duration.ofSeconds(poolConfig.getConnectionAcquisitionTimeout()));
+        }
+        if (poolConfig.getConnectionTtl() != null) {
+            builder.connectionTimeToLive(Duration.ofSeconds(poolConfig.getConnectionTtl()));
+        }
+        if (poolConfig.getConnectionMaxIdleTime() != null) {
+            builder.connectionMaxIdleTime(Duration.ofSeconds(poolConfig.getConnectionMaxIdleTime()));
+            builder.useIdleConnectionReaper(true);
+        }
+        if (Boolean.TRUE.equals(poolConfig.getHttp2Enabled())) {
+            // HTTPS endpoints negotiate the protocol with ALPN and fall back to HTTP/1.1 if the server doesn't support HTTP/2
+            builder.protocol(Protocol.HTTP2).protocolNegotiation(ProtocolNegotiation.ALPN);
+        }
+        if (poolConfig.getTcpKeepAlive() != null) {
+            builder.tcpKeepAlive(poolConfig.getTcpKeepAlive());
+        }
+        return builder;
+    }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.input;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_9_0;
 import static org.opensearch.ml.common.input.remote.RemoteInferenceMLInput.ACTION_TYPE_FIELD;
 
 import java.io.IOException;
@@ -31,6 +32,7 @@ import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.ml.common.input.parameter.textsimilarity.TextSimilarityParameters;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
@@ -127,7 +129,8 @@ public class MLInput implements Input {
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeEnum(algorithm);
-        if (parameters != null) {
+        // nodes before 3.9 can't read text similarity parameters, they score every document one by one
+        if (parameters != null && !(parameters instanceof TextSimilarityParameters && out.getVersion().before(VERSION_3_9_0))) {
             out.writeBoolean(true);
             parameters.writeTo(out);
         } else {
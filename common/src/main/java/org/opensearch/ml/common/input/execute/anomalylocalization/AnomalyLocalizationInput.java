@@ -7,11 +7,13 @@ package org.opensearch.ml.common.input.execute.anomalylocalization;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.index.query.AbstractQueryBuilder.parseInnerQueryBuilder;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_9_0;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.opensearch.core.ParseField;
@@ -28,7 +30,6 @@ import org.opensearch.ml.common.input.Input;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregatorFactories;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 
 /**
@@ -36,7 +37,6 @@ import lombok.Data;
  */
 @ExecuteInput(algorithms = { FunctionName.ANOMALY_LOCALIZATION })
 @Data
-@AllArgsConstructor
 public class AnomalyLocalizationInput implements Input {
 
     public static final String FIELD_INDEX_NAME = "index_name";
@@ -49,12 +49,33 @@ public class AnomalyLocalizationInput implements Input {
     public static final String FIELD_NUM_OUTPUTS = "num_outputs";
     public static final String FIELD_ANOMALY_START_TIME = "anomaly_start_time";
     public static final String FIELD_FILTER_QUERY = "filter_query";
+    public static final String FIELD_MODE = "mode";
     public static final NamedXContentRegistry.Entry XCONTENT_REGISTRY_ENTRY = new NamedXContentRegistry.Entry(
         Input.class,
         new ParseField(FunctionName.ANOMALY_LOCALIZATION.name()),
         parser -> parse(parser)
     );
 
+    /**
+     * How entities are localized.
+     */
+    public enum Mode {
+        // pages through the entities of each bucket with its own searches
+        EXACT,
+        // pages through the entities of all buckets together, one multi-search per page
+        FUSED,
+        // only compares the heaviest entities of each bucket, reports a bound of the contribution of the other entities
+        APPROXIMATE;
+
+        public static Mode from(String value) {
+            try {
+                return Mode.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Wrong anomaly localization mode: " + value);
+            }
+        }
+    }
+
     public static AnomalyLocalizationInput parse(XContentParser parser) throws IOException {
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         String indexName = null;
@@ -67,6 +88,7 @@ public class AnomalyLocalizationInput implements Input {
         int numOutputs = 0;
         Optional<Long> anomalyStartTime = Optional.empty();
         Optional<QueryBuilder> filterQuery = Optional.empty();
+        Mode mode = Mode.EXACT;
 
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
             switch (parser.currentName()) {
@@ -119,6 +141,10 @@ public class AnomalyLocalizationInput implements Input {
                     filterQuery = Optional.of(parseInnerQueryBuilder(parser));
                     ensureExpectedToken(XContentParser.Token.END_OBJECT, parser.currentToken(), parser);
                     break;
+                case FIELD_MODE:
+                    parser.nextToken();
+                    mode = Mode.from(parser.text());
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -134,7 +160,8 @@ public class AnomalyLocalizationInput implements Input {
             minTimeInterval,
             numOutputs,
             anomalyStartTime,
-            filterQuery
+            filterQuery,
+            mode
         );
     }
 
@@ -148,6 +175,60 @@ public class AnomalyLocalizationInput implements Input {
     private final int numOutputs; // max number of values from localization/slicing
     private final Optional<Long> anomalyStartTime; // time when anomaly change starts
     private final Optional<QueryBuilder> filterQuery; // filter of data
+    private final Mode mode; // how entities are localized
+
+    public AnomalyLocalizationInput(
+        String indexName,
+        List<String> attributeFieldNames,
+        List<AggregationBuilder> aggregations,
+        String timeFieldName,
+        long startTime,
+        long endTime,
+        long minTimeInterval,
+        int numOutputs,
+        Optional<Long> anomalyStartTime,
+        Optional<QueryBuilder> filterQuery
+    ) {
+        this(
+            indexName,
+            attributeFieldNames,
+            aggregations,
+            timeFieldName,
+            startTime,
+            endTime,
+            minTimeInterval,
+            numOutputs,
+            anomalyStartTime,
+            filterQuery,
+            Mode.EXACT
+        );
+    }
+
+    public AnomalyLocalizationInput(
+        String indexName,
+        List<String> attributeFieldNames,
+        List<AggregationBuilder> aggregations,
+        String timeFieldName,
+        long startTime,
+        long endTime,
+        long minTimeInterval,
+        int numOutputs,
+        Optional<Long> anomalyStartTime,
+        Optional<QueryBuilder> filterQuery,
+        Mode mode
+    ) {
+        this.indexName = indexName;
+        this.attributeFieldNames = attributeFieldNames;
+        this.aggregations = aggregations;
+        this.timeFieldName = timeFieldName;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.minTimeInterval = minTimeInterval;
+        this.numOutputs = numOutputs;
+        this.anomalyStartTime = anomalyStartTime;
+        this.filterQuery = filterQuery;
+        this.mode = mode == null ? Mode.EXACT : mode;
+    }
 
     public AnomalyLocalizationInput(StreamInput in) throws IOException {
         this.indexName = in.readString();
@@ -160,6 +241,7 @@ public class AnomalyLocalizationInput implements Input {
         this.numOutputs = in.readInt();
         this.anomalyStartTime = Optional.ofNullable(in.readOptionalLong());
         this.filterQuery = Optional.ofNullable(in.readOptionalNamedWriteable(QueryBuilder.class));
+        this.mode = in.getVersion().onOrAfter(VERSION_3_9_0) ? in.readEnum(Mode.class) : Mode.EXACT;
     }
 
     @Override
@@ -190,6 +272,9 @@ public class AnomalyLocalizationInput implements Input {
         if (filterQuery.isPresent()) {
             builder.field(FIELD_FILTER_QUERY, filterQuery.get());
         }
+        if (mode != Mode.EXACT) {
+            builder.field(FIELD_MODE, mode.name().toLowerCase(Locale.ROOT));
+        }
         builder.endObject();
         return builder;
     }
@@ -206,5 +291,8 @@ public class AnomalyLocalizationInput implements Input {
         out.writeInt(numOutputs);
         out.writeOptionalLong(anomalyStartTime.orElse(null));
         out.writeOptionalNamedWriteable(filterQuery.orElse(null));
+        if (out.getVersion().onOrAfter(VERSION_3_9_0)) {
+            out.writeEnum(mode);
+        }
     }
 }
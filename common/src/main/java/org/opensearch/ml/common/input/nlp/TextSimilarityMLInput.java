@@ -31,6 +31,7 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 
 /**
  * MLInput which supports a text similarity algorithm
@@ -89,6 +90,9 @@ public class TextSimilarityMLInput extends MLInput {
             parser.nextToken();
 
             switch (fieldName) {
+                case ML_PARAMETERS_FIELD:
+                    parameters = parser.namedObject(MLAlgoParams.class, functionName.name(), null);
+                    break;
                 case TEXT_DOCS_FIELD:
                     ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
                     while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.input.parameter.textembedding;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_9_0;
 
 import java.io.IOException;
 import java.util.Locale;
@@ -63,9 +64,23 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
     );
 
     @Builder(toBuilder = true)
-    public AsymmetricTextEmbeddingParameters(EmbeddingContentType embeddingContentType, SparseEmbeddingFormat sparseEmbeddingFormat) {
+    public AsymmetricTextEmbeddingParameters(
+        EmbeddingContentType embeddingContentType,
+        SparseEmbeddingFormat sparseEmbeddingFormat,
+        Integer sparsePruneTopK,
+        Boolean sparseWeightQuantization
+    ) {
         this.embeddingContentType = embeddingContentType;
         this.sparseEmbeddingFormat = sparseEmbeddingFormat != null ? sparseEmbeddingFormat : SparseEmbeddingFormat.WORD;
+        if (sparsePruneTopK != null && sparsePruneTopK <= 0) {
+            throw new IllegalArgumentException(SPARSE_PRUNE_TOP_K_FIELD + " should be positive");
+        }
+        this.sparsePruneTopK = sparsePruneTopK;
+        this.sparseWeightQuantization = sparseWeightQuantization;
+    }
+
+    public AsymmetricTextEmbeddingParameters(EmbeddingContentType embeddingContentType, SparseEmbeddingFormat sparseEmbeddingFormat) {
+        this(embeddingContentType, sparseEmbeddingFormat, null, null);
     }
 
     // Constructor for backward compatibility
@@ -84,11 +99,17 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
         } else {
             this.sparseEmbeddingFormat = SparseEmbeddingFormat.WORD;
         }
+        if (streamInputVersion.onOrAfter(VERSION_3_9_0)) {
+            this.sparsePruneTopK = in.readOptionalInt();
+            this.sparseWeightQuantization = in.readOptionalBoolean();
+        }
     }
 
     public static MLAlgoParams parse(XContentParser parser) throws IOException {
         EmbeddingContentType embeddingContentType = null;
         SparseEmbeddingFormat sparseEmbeddingFormat = null;
+        Integer sparsePruneTopK = null;
+        Boolean sparseWeightQuantization = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -104,16 +125,24 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
                     String formatType = parser.text();
                     sparseEmbeddingFormat = SparseEmbeddingFormat.valueOf(formatType.toUpperCase(Locale.ROOT));
                     break;
+                case SPARSE_PRUNE_TOP_K_FIELD:
+                    sparsePruneTopK = parser.intValue();
+                    break;
+                case SPARSE_WEIGHT_QUANTIZATION_FIELD:
+                    sparseWeightQuantization = parser.booleanValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new AsymmetricTextEmbeddingParameters(embeddingContentType, sparseEmbeddingFormat);
+        return new AsymmetricTextEmbeddingParameters(embeddingContentType, sparseEmbeddingFormat, sparsePruneTopK, sparseWeightQuantization);
     }
 
     public static final String EMBEDDING_CONTENT_TYPE_FIELD = "content_type";
     public static final String SPARSE_EMBEDDING_FORMAT_FIELD = "sparse_embedding_format";
+    public static final String SPARSE_PRUNE_TOP_K_FIELD = "sparse_prune_top_k";
+    public static final String SPARSE_WEIGHT_QUANTIZATION_FIELD = "sparse_weight_quantization";
 
     // The type of the content to be embedded
     private EmbeddingContentType embeddingContentType;
@@ -121,6 +150,12 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
     // The format of the embedding output
     private SparseEmbeddingFormat sparseEmbeddingFormat;
 
+    // Keep only the top k weighted tokens of sparse embeddings
+    private Integer sparsePruneTopK;
+
+    // Quantize sparse embedding weights to one byte each
+    private Boolean sparseWeightQuantization;
+
     @Override
     public int getVersion() {
         return 1;
@@ -138,6 +173,10 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
         if (streamOutputVersion.onOrAfter(Version.V_3_2_0)) {
             out.writeOptionalString(sparseEmbeddingFormat != null ? sparseEmbeddingFormat.name() : null);
         }
+        if (streamOutputVersion.onOrAfter(VERSION_3_9_0)) {
+            out.writeOptionalInt(sparsePruneTopK);
+            out.writeOptionalBoolean(sparseWeightQuantization);
+        }
     }
 
     @Override
@@ -147,6 +186,12 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
             xContentBuilder.field(EMBEDDING_CONTENT_TYPE_FIELD, embeddingContentType.name());
         }
         xContentBuilder.field(SPARSE_EMBEDDING_FORMAT_FIELD, sparseEmbeddingFormat.name());
+        if (sparsePruneTopK != null) {
+            xContentBuilder.field(SPARSE_PRUNE_TOP_K_FIELD, sparsePruneTopK);
+        }
+        if (sparseWeightQuantization != null) {
+            xContentBuilder.field(SPARSE_WEIGHT_QUANTIZATION_FIELD, sparseWeightQuantization);
+        }
         xContentBuilder.endObject();
         return xContentBuilder;
     }
@@ -169,6 +214,8 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
         }
         AsymmetricTextEmbeddingParameters other = (AsymmetricTextEmbeddingParameters) obj;
         return Objects.equals(embeddingContentType, other.embeddingContentType)
-            && Objects.equals(sparseEmbeddingFormat, other.sparseEmbeddingFormat);
+            && Objects.equals(sparseEmbeddingFormat, other.sparseEmbeddingFormat)
+            && Objects.equals(sparsePruneTopK, other.sparsePruneTopK)
+            && Objects.equals(sparseWeightQuantization, other.sparseWeightQuantization);
     }
 }
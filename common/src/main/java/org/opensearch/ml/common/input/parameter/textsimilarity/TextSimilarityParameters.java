@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.input.parameter.textsimilarity;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+import java.io.IOException;
+
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.annotation.MLAlgoParameter;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Parameters of a text similarity (cross-encoder) prediction.
+ * <p>
+ * {@code batch_size} is the number of (query, document) pairs scored by one forward pass, {@code max_sequence_length} truncates
+ * each pair to that many tokens, and {@code top_k} only returns the k best scoring documents, each with the position of the
+ * document in the request.
+ */
+@Data
+@MLAlgoParameter(algorithms = { FunctionName.TEXT_SIMILARITY })
+public class TextSimilarityParameters implements MLAlgoParams {
+
+    public static final String PARSE_FIELD_NAME = FunctionName.TEXT_SIMILARITY.name();
+    public static final NamedXContentRegistry.Entry XCONTENT_REGISTRY = new NamedXContentRegistry.Entry(
+        MLAlgoParams.class,
+        new ParseField(PARSE_FIELD_NAME),
+        it -> parse(it)
+    );
+
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+    public static final String MAX_SEQUENCE_LENGTH_FIELD = "max_sequence_length";
+    public static final String TOP_K_FIELD = "top_k";
+
+    private Integer batchSize;
+    private Integer maxSequenceLength;
+    private Integer topK;
+
+    @Builder(toBuilder = true)
+    public TextSimilarityParameters(Integer batchSize, Integer maxSequenceLength, Integer topK) {
+        if (batchSize != null && batchSize <= 0) {
+            throw new IllegalArgumentException(BATCH_SIZE_FIELD + " should be positive");
+        }
+        if (maxSequenceLength != null && maxSequenceLength <= 2) {
+            throw new IllegalArgumentException(MAX_SEQUENCE_LENGTH_FIELD + " should be greater than 2");
+        }
+        if (topK != null && topK <= 0) {
+            throw new IllegalArgumentException(TOP_K_FIELD + " should be positive");
+        }
+        this.batchSize = batchSize;
+        this.maxSequenceLength = maxSequenceLength;
+        this.topK = topK;
+    }
+
+    public TextSimilarityParameters(StreamInput in) throws IOException {
+        this.batchSize = in.readOptionalInt();
+        this.maxSequenceLength = in.readOptionalInt();
+        this.topK = in.readOptionalInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalInt(batchSize);
+        out.writeOptionalInt(maxSequenceLength);
+        out.writeOptionalInt(topK);
+    }
+
+    public static TextSimilarityParameters parse(XContentParser parser) throws IOException {
+        Integer batchSize = null;
+        Integer maxSequenceLength = null;
+        Integer topK = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue(false);
+                    break;
+                case MAX_SEQUENCE_LENGTH_FIELD:
+                    maxSequenceLength = parser.intValue(false);
+                    break;
+                case TOP_K_FIELD:
+                    topK = parser.intValue(false);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new TextSimilarityParameters(batchSize, maxSequenceLength, topK);
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public String getWriteableName() {
+        return PARSE_FIELD_NAME;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (batchSize != null) {
+            builder.field(BATCH_SIZE_FIELD, batchSize);
+        }
+        if (maxSequenceLength != null) {
+            builder.field(MAX_SEQUENCE_LENGTH_FIELD, maxSequenceLength);
+        }
+        if (topK != null) {
+            builder.field(TOP_K_FIELD, topK);
+        }
+        builder.endObject();
+        return builder;
+    }
+}
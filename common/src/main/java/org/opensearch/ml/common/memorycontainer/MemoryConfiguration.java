@@ -9,12 +9,14 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.common.CommonValue.ML_AGENTIC_MEMORY_SYSTEM_INDEX_PREFIX;
 import static org.opensearch.ml.common.CommonValue.TENANT_ID_FIELD;
 import static org.opensearch.ml.common.CommonValue.VERSION_3_8_0;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_9_0;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.DEFAULT_MEMORY_INDEX_PREFIX;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.DIMENSION_FIELD;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.DISABLE_HISTORY_FIELD;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.DISABLE_SESSION_FIELD;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.EMBEDDING_MODEL_ID_FIELD;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.EMBEDDING_MODEL_TYPE_FIELD;
+import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.GROUP_COMMIT_FIELD;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.INDEX_PREFIX_INVALID_CHARACTERS_ERROR;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.INDEX_SETTINGS_FIELD;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.INVALID_EMBEDDING_MODEL_TYPE_ERROR;
@@ -41,6 +43,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.cluster.metadata.MetadataCreateIndexService;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -88,6 +91,11 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
      * the container index and survives partial-update merges; distinct from field absence.
      */
     private boolean retentionPolicyExplicitlyNull = false;
+    /**
+     * When true, memory writes of the container are grouped into shared bulk requests that wait for the next refresh of the memory
+     * indices, instead of forcing a refresh per write.
+     */
+    private boolean groupCommit;
 
     @Builder
     public MemoryConfiguration(
@@ -104,7 +112,8 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
         Boolean disableSession,
         Boolean useSystemIndex,
         String tenantId,
-        Map<MemoryType, RetentionRule> retentionPolicy
+        Map<MemoryType, RetentionRule> retentionPolicy,
+        Boolean groupCommit
     ) {
         // Apply defaults for Boolean parameters
         boolean effectiveUseSystemIndex = (useSystemIndex != null) ? useSystemIndex : true;
@@ -139,6 +148,7 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
         this.useSystemIndex = effectiveUseSystemIndex;
         this.tenantId = tenantId;
         this.retentionPolicy = retentionPolicy;
+        this.groupCommit = groupCommit != null && groupCommit;
     }
 
     private String buildIndexPrefix(String indexPrefix, boolean useSystemIndex) {
@@ -192,6 +202,9 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
             }
             this.retentionPolicyExplicitlyNull = input.readBoolean();
         }
+        if (input.getVersion().onOrAfter(VERSION_3_9_0)) {
+            this.groupCommit = input.readBoolean();
+        }
     }
 
     @Override
@@ -237,6 +250,9 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
             }
             out.writeBoolean(retentionPolicyExplicitlyNull);
         }
+        if (out.getVersion().onOrAfter(VERSION_3_9_0)) {
+            out.writeBoolean(groupCommit);
+        }
     }
 
     @Override
@@ -284,6 +300,9 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
         builder.field(DISABLE_HISTORY_FIELD, disableHistory);
         builder.field(DISABLE_SESSION_FIELD, disableSession);
         builder.field(USE_SYSTEM_INDEX_FIELD, useSystemIndex);
+        if (groupCommit) {
+            builder.field(GROUP_COMMIT_FIELD, true);
+        }
         if (tenantId != null) {
             builder.field(TENANT_ID_FIELD, tenantId);
         }
@@ -320,6 +339,7 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
         String tenantId = null;
         Map<MemoryType, RetentionRule> retentionPolicy = null;
         boolean retentionPolicyIsExplicitlyNull = false;
+        boolean groupCommit = false;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -371,6 +391,9 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
                 case USE_SYSTEM_INDEX_FIELD:
                     useSystemIndex = parser.booleanValue();
                     break;
+                case GROUP_COMMIT_FIELD:
+                    groupCommit = parser.booleanValue();
+                    break;
                 case RETENTION_POLICY_FIELD:
                     if (parser.currentToken() == XContentParser.Token.VALUE_NULL) {
                         retentionPolicy = null;
@@ -402,6 +425,7 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
             .useSystemIndex(useSystemIndex)
             .tenantId(tenantId)
             .retentionPolicy(retentionPolicy)
+            .groupCommit(groupCommit)
             .build();
         config.setRetentionPolicyExplicitlyNull(retentionPolicyIsExplicitlyNull);
         return config;
@@ -470,6 +494,13 @@ public class MemoryConfiguration implements ToXContentObject, Writeable {
         return getFinalMemoryIndexPrefix() + memoryType.getIndexSuffix();
     }
 
+    /**
+     * Refresh policy of memory writes. Writes of group commit containers wait for the next refresh rather than forcing one.
+     */
+    public WriteRequest.RefreshPolicy getWriteRefreshPolicy() {
+        return groupCommit ? WriteRequest.RefreshPolicy.WAIT_UNTIL : WriteRequest.RefreshPolicy.IMMEDIATE;
+    }
+
     public String getSessionIndexName() {
         return getIndexName(MemoryType.SESSIONS);
     }
@@ -32,6 +32,7 @@ public class MemoryContainerConstants {
     public static final String DISABLE_HISTORY_FIELD = "disable_history";
     public static final String DISABLE_SESSION_FIELD = "disable_session";
     public static final String USE_SYSTEM_INDEX_FIELD = "use_system_index";
+    public static final String GROUP_COMMIT_FIELD = "group_commit";
     public static final String MEMORY_INDEX_PREFIX_FIELD = "index_prefix";
     public static final String EMBEDDING_MODEL_TYPE_FIELD = "embedding_model_type";
     public static final String EMBEDDING_MODEL_ID_FIELD = "embedding_model_id";
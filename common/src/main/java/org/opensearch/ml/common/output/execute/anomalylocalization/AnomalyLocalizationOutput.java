@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.output.execute.anomalylocalization;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_9_0;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -110,11 +111,13 @@ public class AnomalyLocalizationOutput implements Output {
         public static final String FIELD_END_TIME = "end_time";
         public static final String FIELD_OVERALL_VALUE = "overall_aggregate_value";
         public static final String FIELD_ENTITIES = "entities";
+        public static final String FIELD_CONTRIBUTION_ERROR_BOUND = "contribution_error_bound";
 
         private long startTime; // start time of the bucket
         private long endTime;   // end time of the bucket
         private double overallAggValue; // overall value of the bucket
         private List<Entity> entities = null; // localized entities of the bucket
+        private Double contributionErrorBound = null; // max contribution of entities missed by approximate localization
 
         private Optional<Bucket> base = Optional.empty();
         private Optional<Counter> counter = Optional.empty();
@@ -127,6 +130,9 @@ public class AnomalyLocalizationOutput implements Output {
             if (in.readBoolean()) {
                 this.entities = in.readList(Entity::new);
             }
+            if (in.getVersion().onOrAfter(VERSION_3_9_0)) {
+                this.contributionErrorBound = in.readOptionalDouble();
+            }
         }
 
         @Override
@@ -140,6 +146,9 @@ public class AnomalyLocalizationOutput implements Output {
                 out.writeBoolean(true);
                 out.writeList(entities);
             }
+            if (out.getVersion().onOrAfter(VERSION_3_9_0)) {
+                out.writeOptionalDouble(contributionErrorBound);
+            }
         }
 
         @SneakyThrows
@@ -151,6 +160,9 @@ public class AnomalyLocalizationOutput implements Output {
             if (this.entities != null && !this.entities.isEmpty()) {
                 builder.field(FIELD_ENTITIES, this.entities);
             }
+            if (this.contributionErrorBound != null) {
+                builder.field(FIELD_CONTRIBUTION_ERROR_BOUND, this.contributionErrorBound);
+            }
             builder.endObject();
             return builder;
         }
@@ -281,6 +293,10 @@ public class AnomalyLocalizationOutput implements Output {
                 case AnomalyLocalizationOutput.Bucket.FIELD_ENTITIES:
                     parseEntities(parser, bucket);
                     break;
+                case AnomalyLocalizationOutput.Bucket.FIELD_CONTRIBUTION_ERROR_BOUND:
+                    parser.nextToken();
+                    bucket.setContributionErrorBound(parser.doubleValue());
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -6,6 +6,8 @@
 package org.opensearch.ml.common.output.model;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_9_0;
 import static org.opensearch.ml.common.utils.StringUtils.gson;
 
 import java.io.IOException;
@@ -15,6 +17,7 @@ import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -50,8 +53,8 @@ public class ModelTensor implements Writeable, ToXContentObject {
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
+    private SparseVector sparseVector;// sparse embedding, rendered as dataAsMap
 
-    @Builder
     public ModelTensor(
         String name,
         Number[] data,
@@ -60,6 +63,20 @@ public class ModelTensor implements Writeable, ToXContentObject {
         ByteBuffer byteBuffer,
         String result,
         Map<String, ?> dataAsMap
+    ) {
+        this(name, data, shape, dataType, byteBuffer, result, dataAsMap, null);
+    }
+
+    @Builder
+    public ModelTensor(
+        String name,
+        Number[] data,
+        long[] shape,
+        MLResultDataType dataType,
+        ByteBuffer byteBuffer,
+        String result,
+        Map<String, ?> dataAsMap,
+        SparseVector sparseVector
     ) {
         if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
@@ -71,6 +88,7 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.byteBuffer = byteBuffer;
         this.result = result;
         this.dataAsMap = dataAsMap;
+        this.sparseVector = sparseVector;
     }
 
     public ModelTensor(String name, String result) {
@@ -102,8 +120,9 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (result != null) {
             builder.field(RESULT_FIELD, result);
         }
-        if (dataAsMap != null) {
-            builder.field(DATA_AS_MAP_FIELD, dataAsMap);
+        Map<String, ?> map = getDataAsMap();
+        if (map != null) {
+            builder.field(DATA_AS_MAP_FIELD, map);
         }
         builder.endObject();
         return builder;
@@ -235,6 +254,21 @@ public class ModelTensor implements Writeable, ToXContentObject {
             String mapStr = in.readString();
             this.dataAsMap = gson.fromJson(mapStr, Map.class);
         }
+        if (in.getVersion().onOrAfter(VERSION_3_9_0) && in.readBoolean()) {
+            this.sparseVector = new SparseVector(in);
+        }
+    }
+
+    /**
+     * Get the whole result in map. A sparse vector is converted to the map form {"response": [{token: weight}]} here,
+     * so it's only materialized when the output is consumed as a map or rendered.
+     * @return result map
+     */
+    public Map<String, ?> getDataAsMap() {
+        if (dataAsMap == null && sparseVector != null) {
+            return Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(sparseVector.toMap()));
+        }
+        return dataAsMap;
     }
 
     @SuppressWarnings("removal")
@@ -276,11 +310,14 @@ public class ModelTensor implements Writeable, ToXContentObject {
             out.writeBoolean(false);
         }
         out.writeOptionalString(result);
-        if (dataAsMap != null) {
+        boolean writeSparseVector = sparseVector != null && out.getVersion().onOrAfter(VERSION_3_9_0);
+        // nodes on older versions can't read the sparse vector, send it in the map form instead
+        Map<String, ?> map = writeSparseVector ? dataAsMap : getDataAsMap();
+        if (map != null) {
             out.writeBoolean(true);
             try {
                 AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                    out.writeString(gson.toJson(dataAsMap));
+                    out.writeString(gson.toJson(map));
                     return null;
                 });
             } catch (PrivilegedActionException e) {
@@ -289,6 +326,12 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
+        if (out.getVersion().onOrAfter(VERSION_3_9_0)) {
+            out.writeBoolean(writeSparseVector);
+            if (writeSparseVector) {
+                sparseVector.writeTo(out);
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,198 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.output.model;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Compact sparse vector generated by sparse encoding and sparse tokenize models: token ids sorted in ascending order with their
+ * weights, plus the decoded tokens when the output format is word. It is carried as is between nodes and only converted to the
+ * token-to-weight map form when the model output is rendered, see {@link ModelTensor#getDataAsMap()}.
+ */
+@Getter
+@EqualsAndHashCode
+public class SparseVector implements Writeable {
+
+    // weights are quantized to unsigned bytes
+    private static final int QUANTIZATION_LEVELS = 255;
+
+    private final int[] tokenIds;
+    private final float[] weights;
+    // decoded tokens, null for token id format
+    private final String[] tokens;
+    // quantization step of the weights, 0 if weights are not quantized
+    private final float quantizationScale;
+
+    public SparseVector(int[] tokenIds, float[] weights, String[] tokens) {
+        this(tokenIds, weights, tokens, 0f);
+    }
+
+    private SparseVector(int[] tokenIds, float[] weights, String[] tokens, float quantizationScale) {
+        if (tokenIds == null || weights == null || tokenIds.length != weights.length) {
+            throw new IllegalArgumentException("Sparse vector token ids and weights should have the same length");
+        }
+        if (tokens != null && tokens.length != tokenIds.length) {
+            throw new IllegalArgumentException("Sparse vector token ids and tokens should have the same length");
+        }
+        if (isSorted(tokenIds)) {
+            this.tokenIds = tokenIds;
+            this.weights = weights;
+            this.tokens = tokens;
+        } else {
+            int[] order = IntStream
+                .range(0, tokenIds.length)
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> tokenIds[i]))
+                .mapToInt(i -> i)
+                .toArray();
+            this.tokenIds = new int[order.length];
+            this.weights = new float[order.length];
+            this.tokens = tokens == null ? null : new String[order.length];
+            for (int i = 0; i < order.length; i++) {
+                this.tokenIds[i] = tokenIds[order[i]];
+                this.weights[i] = weights[order[i]];
+                if (tokens != null) {
+                    this.tokens[i] = tokens[order[i]];
+                }
+            }
+        }
+        this.quantizationScale = quantizationScale;
+    }
+
+    public SparseVector(StreamInput in) throws IOException {
+        int size = in.readVInt();
+        this.tokenIds = new int[size];
+        int previous = 0;
+        for (int i = 0; i < size; i++) {
+            // token ids are sorted, so only the deltas are written
+            previous += in.readVInt();
+            tokenIds[i] = previous;
+        }
+        this.tokens = in.readBoolean() ? in.readStringArray() : null;
+        this.quantizationScale = in.readFloat();
+        this.weights = new float[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = quantizationScale > 0 ? Byte.toUnsignedInt(in.readByte()) * quantizationScale : in.readFloat();
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(tokenIds.length);
+        int previous = 0;
+        for (int tokenId : tokenIds) {
+            out.writeVInt(tokenId - previous);
+            previous = tokenId;
+        }
+        if (tokens != null) {
+            out.writeBoolean(true);
+            out.writeStringArray(tokens);
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeFloat(quantizationScale);
+        for (float weight : weights) {
+            if (quantizationScale > 0) {
+                out.writeByte((byte) Math.round(weight / quantizationScale));
+            } else {
+                out.writeFloat(weight);
+            }
+        }
+    }
+
+    public int size() {
+        return tokenIds.length;
+    }
+
+    /**
+     * Keep only the k tokens with the highest weights.
+     * @param k number of tokens to keep
+     * @return pruned sparse vector, or this vector if it has no more than k tokens
+     */
+    public SparseVector topK(int k) {
+        if (k <= 0 || k >= tokenIds.length) {
+            return this;
+        }
+        // positions of the k highest weights, back in token id order
+        int[] kept = IntStream
+            .range(0, tokenIds.length)
+            .boxed()
+            .sorted((a, b) -> Float.compare(weights[b], weights[a]))
+            .limit(k)
+            .mapToInt(i -> i)
+            .sorted()
+            .toArray();
+        int[] keptIds = new int[k];
+        float[] keptWeights = new float[k];
+        String[] keptTokens = tokens == null ? null : new String[k];
+        for (int i = 0; i < k; i++) {
+            keptIds[i] = tokenIds[kept[i]];
+            keptWeights[i] = weights[kept[i]];
+            if (tokens != null) {
+                keptTokens[i] = tokens[kept[i]];
+            }
+        }
+        return new SparseVector(keptIds, keptWeights, keptTokens, quantizationScale);
+    }
+
+    /**
+     * Quantize weights to 255 levels between 0 and the max weight, so each weight takes one byte on the wire.
+     * @return quantized sparse vector, or this vector if it is already quantized, empty or has negative weights
+     */
+    public SparseVector quantize() {
+        if (quantizationScale > 0 || weights.length == 0) {
+            return this;
+        }
+        float max = 0f;
+        for (float weight : weights) {
+            if (weight < 0) {
+                return this;
+            }
+            max = Math.max(max, weight);
+        }
+        if (max == 0f) {
+            return this;
+        }
+        float scale = max / QUANTIZATION_LEVELS;
+        float[] quantized = new float[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            quantized[i] = Math.round(weights[i] / scale) * scale;
+        }
+        return new SparseVector(tokenIds, quantized, tokens, scale);
+    }
+
+    /**
+     * Convert to the map form returned to users: token (or token id when tokens are absent) to weight.
+     * @return map of token to weight in token id order
+     */
+    public Map<String, Float> toMap() {
+        Map<String, Float> tokenWeights = new LinkedHashMap<>();
+        for (int i = 0; i < tokenIds.length; i++) {
+            tokenWeights.put(tokens != null ? tokens[i] : String.valueOf(tokenIds[i]), weights[i]);
+        }
+        return tokenWeights;
+    }
+
+    private static boolean isSorted(int[] tokenIds) {
+        for (int i = 1; i < tokenIds.length; i++) {
+            if (tokenIds[i - 1] > tokenIds[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
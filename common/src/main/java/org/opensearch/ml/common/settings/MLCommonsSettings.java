@@ -515,6 +515,116 @@ public final class MLCommonsSettings {
     public static final Setting<Integer> ML_COMMONS_MASTER_KEY_CACHE_TTL_MINUTES = Setting
         .intSetting(ML_PLUGIN_SETTING_PREFIX + "master_key_cache_ttl_minutes", 5, 1, 1440, Setting.Property.NodeScope);
 
+    /**
+     * TTL in seconds for decrypted connector credentials kept in memory, so connector execution, model deploy and agent runs don't
+     * decrypt the same credentials on every call. Cached plaintext is zeroed when it is evicted.
+     * Set to 0 to disable the cache and decrypt credentials on every call.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_DECRYPTED_CREDENTIAL_CACHE_TTL_SECONDS = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "decrypted_credential_cache_ttl_seconds", 60, 0, 3600, Setting.Property.NodeScope);
+
+    /**
+     * Maximum number of deserialized models trained by built-in algorithms (KMeans, linear regression, logistic regression,
+     * RCF summarize) kept in memory on each node to serve predict requests against models that are not deployed.
+     * Set to 0 to disable the cache and load the model from the model index on every predict request.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_TRAINED_MODEL_CACHE_MAX_SIZE = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "trained_model_cache_max_size", 100, 0, 10000, Setting.Property.NodeScope);
+
+    /**
+     * TTL for trained model cache entries in minutes. Entries are invalidated on model update and delete, the TTL bounds how long a
+     * node that missed the invalidation keeps serving a stale model.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_TRAINED_MODEL_CACHE_TTL_MINUTES = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "trained_model_cache_ttl_minutes", 10, 1, 1440, Setting.Property.NodeScope);
+
+    /**
+     * Maximum number of MCP connectors whose tool specs and client session are kept on each node for agent runs.
+     * Set to 0 to disable the cache and list tools from the MCP server on every agent run.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_MCP_TOOL_SPEC_CACHE_MAX_SIZE = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "mcp_tool_spec_cache_max_size", 100, 0, 10000, Setting.Property.NodeScope);
+
+    /**
+     * TTL for cached MCP tool specs in minutes. Tools added to or removed from the MCP server are picked up after the TTL, or right
+     * away when the tools of the connector are listed through the list tools API.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_MCP_TOOL_SPEC_CACHE_TTL_MINUTES = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "mcp_tool_spec_cache_ttl_minutes", 5, 1, 1440, Setting.Property.NodeScope);
+
+    /**
+     * Maximum number of parsed agent definitions kept on each node for agent execution.
+     * Set to 0 to disable the cache and read the agent from the agent index on every execution.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_AGENT_CACHE_MAX_SIZE = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "agent_cache_max_size", 500, 0, 100000, Setting.Property.NodeScope);
+
+    /**
+     * TTL for cached agents in minutes. Entries are invalidated on agent update and delete, the TTL bounds how long a node that
+     * missed the invalidation keeps executing a stale agent definition.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_AGENT_CACHE_TTL_MINUTES = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "agent_cache_ttl_minutes", 10, 1, 1440, Setting.Property.NodeScope);
+
+    /**
+     * TTL in minutes of the MCP server kept on each node with the tools of the MCP tools index. The server is rebuilt on all nodes
+     * when tools are registered, updated or removed, the TTL bounds how long a node that missed the invalidation serves stale tools.
+     * Set to 0 to build the server from the MCP tools index for every MCP request.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_MCP_SERVER_CACHE_TTL_MINUTES = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "mcp_server_cache_ttl_minutes", 10, 0, 1440, Setting.Property.NodeScope);
+
+    /**
+     * How long memory writes of memory containers created with group_commit are buffered before they are written with one bulk
+     * request, in milliseconds.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_WINDOW_MS = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "agentic_memory_group_commit_window_ms", 20, 1, 1000, Setting.Property.NodeScope);
+
+    /**
+     * Maximum number of buffered memory writes per bulk request of group commit memory containers. A full batch is written right away.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_MAX_BATCH_SIZE = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "agentic_memory_group_commit_max_batch_size", 100, 1, 10000, Setting.Property.NodeScope);
+
+    /**
+     * Maximum number of parsed memory containers kept on each node for memory operations.
+     * Set to 0 to disable the cache and read the memory container from the memory container index on every operation.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_MEMORY_CONTAINER_CACHE_MAX_SIZE = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "memory_container_cache_max_size", 1000, 0, 100000, Setting.Property.NodeScope);
+
+    /**
+     * TTL for cached memory containers in seconds. Entries are invalidated on memory container update and delete, the TTL bounds
+     * how long a node that missed the invalidation keeps using a stale memory container configuration.
+     *
+     * This is a static setting that must be configured in opensearch.yml and requires a cluster restart to take effect.
+     */
+    public static final Setting<Integer> ML_COMMONS_MEMORY_CONTAINER_CACHE_TTL_SECONDS = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "memory_container_cache_ttl_seconds", 60, 1, 3600, Setting.Property.NodeScope);
+
     /** This setting sets the remote metadata type */
     public static final Setting<String> REMOTE_METADATA_TYPE = Setting
         .simpleString(ML_PLUGIN_SETTING_PREFIX + REMOTE_METADATA_TYPE_KEY, Setting.Property.NodeScope, Setting.Property.Final);
@@ -556,6 +666,30 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // Record latency histograms of the predict phases (dispatch, transport, payload, HTTP, post-process...) per model and
+    // connector, reported by the stats API as ml_predict_phase_latency
+    public static final Setting<Boolean> ML_COMMONS_PREDICT_PHASE_METRICS_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "predict_phase_metrics_enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Create a tracing span for each predict phase, spans are exported when the telemetry tracer of the node is enabled
+    public static final Setting<Boolean> ML_COMMONS_PREDICT_PHASE_TRACING_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "predict_phase_tracing_enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Record the token usage of remote models read from the LLM responses, and the time to first token and inter-token latency
+    // of streams, reported by the stats API as ml_token_usage
+    public static final Setting<Boolean> ML_COMMONS_TOKEN_METRICS_ENABLED = Setting
+        .boolSetting(ML_PLUGIN_SETTING_PREFIX + "token_metrics_enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     // Feature flag for Agentic memory APIs
     public static final Setting<Boolean> ML_COMMONS_AGENTIC_MEMORY_ENABLED = Setting
         .boolSetting(ML_PLUGIN_SETTING_PREFIX + "agentic_memory_enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
@@ -601,6 +735,21 @@ public final class MLCommonsSettings {
     public static final Setting<Boolean> ML_COMMONS_STREAM_ENABLED = Setting
         .boolSetting(ML_PLUGIN_SETTING_PREFIX + "stream_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // Streamed chunks are buffered and sent together once this many bytes are buffered
+    public static final Setting<Integer> ML_COMMONS_STREAM_FLUSH_MAX_BYTES = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "stream_flush_max_bytes", 4096, 0, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Maximum time a streamed chunk is buffered before it is sent. 0 sends every chunk as soon as it is produced
+    public static final Setting<Integer> ML_COMMONS_STREAM_FLUSH_MAX_DELAY_MS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "stream_flush_max_delay_ms",
+            0,
+            0,
+            10_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     // Maximum allowed JSON string size in bytes for JSON parsing/validation (default: 100MB)
     // Set to -1 to disable size limit (unlimited)
     public static final Setting<Integer> ML_COMMONS_MAX_JSON_SIZE = Setting
@@ -645,6 +794,40 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // Number of memory containers the retention job processes concurrently
+    public static final Setting<Integer> ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "memory.retention_job_container_concurrency",
+            4,
+            1,
+            32,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Slices of each retention delete-by-query request, 0 lets OpenSearch pick one slice per shard
+    public static final Setting<Integer> ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "memory.retention_job_delete_slices",
+            0,
+            0,
+            32,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Write thread pool queue size above which the retention job waits the throttle delay before starting the next container.
+    // -1 disables the check.
+    public static final Setting<Integer> ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "memory.retention_job_write_queue_threshold",
+            100,
+            -1,
+            100000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Integer> ML_COMMONS_MEMORY_ORPHAN_TTL_DAYS = Setting
         .intSetting(ML_PLUGIN_SETTING_PREFIX + "memory.orphan_ttl_days", 7, 1, 365, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
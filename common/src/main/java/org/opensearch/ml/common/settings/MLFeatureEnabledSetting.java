@@ -80,6 +80,10 @@ public class MLFeatureEnabledSetting {
 
     private volatile Integer maxJsonSize;
 
+    private volatile Integer streamFlushMaxBytes;
+
+    private volatile Integer streamFlushMaxDelayMillis;
+
     private volatile Boolean isMcpHeaderPassthroughEnabled;
 
     private volatile Boolean isAGUIEnabled;
@@ -110,6 +114,8 @@ public class MLFeatureEnabledSetting {
         isIndexInsightEnabled = ML_COMMONS_INDEX_INSIGHT_FEATURE_ENABLED.get(settings);
         isStreamEnabled = ML_COMMONS_STREAM_ENABLED.get(settings);
         maxJsonSize = MLCommonsSettings.ML_COMMONS_MAX_JSON_SIZE.get(settings);
+        streamFlushMaxBytes = MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_BYTES.get(settings);
+        streamFlushMaxDelayMillis = MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_DELAY_MS.get(settings);
         isMcpHeaderPassthroughEnabled = ML_COMMONS_MCP_HEADER_PASSTHROUGH_ENABLED.get(settings);
         isAGUIEnabled = ML_COMMONS_AG_UI_ENABLED.get(settings);
 
@@ -167,6 +173,12 @@ public class MLFeatureEnabledSetting {
             }
         });
         clusterService.getClusterSettings().addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_MAX_JSON_SIZE, it -> maxJsonSize = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_BYTES, it -> streamFlushMaxBytes = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_DELAY_MS, it -> streamFlushMaxDelayMillis = it);
     }
 
     /**
@@ -341,6 +353,20 @@ public class MLFeatureEnabledSetting {
         return maxJsonSize;
     }
 
+    /**
+     * @return number of buffered bytes after which streamed chunks are sent
+     */
+    public int getStreamFlushMaxBytes() {
+        return streamFlushMaxBytes;
+    }
+
+    /**
+     * @return maximum time in milliseconds a streamed chunk is buffered before it is sent, 0 if chunks are not buffered
+     */
+    public int getStreamFlushMaxDelayMillis() {
+        return streamFlushMaxDelayMillis;
+    }
+
     /**
      * Whether the MCP header passthrough feature is enabled. If disabled, MCP headers will not be passed through to MCP connectors.
      * @return whether the MCP header passthrough feature is enabled.
@@ -0,0 +1,17 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import org.opensearch.action.ActionType;
+
+public class MLAgentCacheInvalidateAction extends ActionType<MLAgentCacheInvalidateNodesResponse> {
+    public static final MLAgentCacheInvalidateAction INSTANCE = new MLAgentCacheInvalidateAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/agents/invalidate_cache";
+
+    private MLAgentCacheInvalidateAction() {
+        super(NAME, MLAgentCacheInvalidateNodesResponse::new);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import lombok.Getter;
+
+public class MLAgentCacheInvalidateNodeRequest extends TransportRequest {
+    @Getter
+    private MLAgentCacheInvalidateNodesRequest invalidateNodesRequest;
+
+    public MLAgentCacheInvalidateNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.invalidateNodesRequest = new MLAgentCacheInvalidateNodesRequest(in);
+    }
+
+    public MLAgentCacheInvalidateNodeRequest(MLAgentCacheInvalidateNodesRequest request) {
+        this.invalidateNodesRequest = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        invalidateNodesRequest.writeTo(out);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * Request to drop an agent from the agent cache of nodes, sent after the agent is updated or deleted.
+ */
+@Getter
+public class MLAgentCacheInvalidateNodesRequest extends BaseNodesRequest<MLAgentCacheInvalidateNodesRequest> {
+
+    private String agentId;
+    private String tenantId;
+
+    public MLAgentCacheInvalidateNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.agentId = in.readString();
+        this.tenantId = in.readOptionalString();
+    }
+
+    /**
+     * @param nodeIds nodes to invalidate the agent on, all nodes if empty
+     * @param agentId agent id
+     * @param tenantId tenant id
+     */
+    public MLAgentCacheInvalidateNodesRequest(String[] nodeIds, String agentId, String tenantId) {
+        super(nodeIds);
+        this.agentId = agentId;
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(agentId);
+        out.writeOptionalString(tenantId);
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.mcpserver.action;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ml.common.transport.mcpserver.responses.invalidate.MLMcpServerCacheInvalidateNodesResponse;
+
+public class MLMcpServerCacheInvalidateAction extends ActionType<MLMcpServerCacheInvalidateNodesResponse> {
+    public static final MLMcpServerCacheInvalidateAction INSTANCE = new MLMcpServerCacheInvalidateAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/mcp/server/invalidate_cache";
+
+    private MLMcpServerCacheInvalidateAction() {
+        super(NAME, MLMcpServerCacheInvalidateNodesResponse::new);
+    }
+}
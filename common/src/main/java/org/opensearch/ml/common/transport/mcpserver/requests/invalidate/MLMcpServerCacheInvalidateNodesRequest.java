@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.mcpserver.requests.invalidate;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+/**
+ * Request to drop the MCP server of nodes, sent after MCP tools are registered, updated or removed.
+ */
+public class MLMcpServerCacheInvalidateNodesRequest extends BaseNodesRequest<MLMcpServerCacheInvalidateNodesRequest> {
+
+    public MLMcpServerCacheInvalidateNodesRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    /**
+     * @param nodeIds nodes to invalidate the MCP server on, all nodes if empty
+     */
+    public MLMcpServerCacheInvalidateNodesRequest(String... nodeIds) {
+        super(nodeIds);
+    }
+}
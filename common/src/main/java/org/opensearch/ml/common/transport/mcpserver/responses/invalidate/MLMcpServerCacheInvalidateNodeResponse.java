@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.mcpserver.responses.invalidate;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+public class MLMcpServerCacheInvalidateNodeResponse extends BaseNodeResponse {
+
+    public MLMcpServerCacheInvalidateNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+
+    public MLMcpServerCacheInvalidateNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+}
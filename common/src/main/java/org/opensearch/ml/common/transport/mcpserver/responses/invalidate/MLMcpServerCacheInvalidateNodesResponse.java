@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.mcpserver.responses.invalidate;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLMcpServerCacheInvalidateNodesResponse extends BaseNodesResponse<MLMcpServerCacheInvalidateNodeResponse> {
+
+    public MLMcpServerCacheInvalidateNodesResponse(StreamInput in) throws IOException {
+        super(new ClusterName(in), in.readList(MLMcpServerCacheInvalidateNodeResponse::new), in.readList(FailedNodeException::new));
+    }
+
+    public MLMcpServerCacheInvalidateNodesResponse(
+        ClusterName clusterName,
+        List<MLMcpServerCacheInvalidateNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<MLMcpServerCacheInvalidateNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public List<MLMcpServerCacheInvalidateNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(MLMcpServerCacheInvalidateNodeResponse::new);
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.memorycontainer;
+
+import org.opensearch.action.ActionType;
+
+public class MLMemoryContainerCacheInvalidateAction extends ActionType<MLMemoryContainerCacheInvalidateNodesResponse> {
+    public static final MLMemoryContainerCacheInvalidateAction INSTANCE = new MLMemoryContainerCacheInvalidateAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/memory_containers/invalidate_cache";
+
+    private MLMemoryContainerCacheInvalidateAction() {
+        super(NAME, MLMemoryContainerCacheInvalidateNodesResponse::new);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.memorycontainer;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import lombok.Getter;
+
+public class MLMemoryContainerCacheInvalidateNodeRequest extends TransportRequest {
+    @Getter
+    private MLMemoryContainerCacheInvalidateNodesRequest invalidateNodesRequest;
+
+    public MLMemoryContainerCacheInvalidateNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.invalidateNodesRequest = new MLMemoryContainerCacheInvalidateNodesRequest(in);
+    }
+
+    public MLMemoryContainerCacheInvalidateNodeRequest(MLMemoryContainerCacheInvalidateNodesRequest request) {
+        this.invalidateNodesRequest = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        invalidateNodesRequest.writeTo(out);
+    }
+}
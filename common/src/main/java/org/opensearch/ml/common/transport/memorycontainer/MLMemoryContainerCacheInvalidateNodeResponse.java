@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.memorycontainer;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+public class MLMemoryContainerCacheInvalidateNodeResponse extends BaseNodeResponse {
+
+    public MLMemoryContainerCacheInvalidateNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+
+    public MLMemoryContainerCacheInvalidateNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+}
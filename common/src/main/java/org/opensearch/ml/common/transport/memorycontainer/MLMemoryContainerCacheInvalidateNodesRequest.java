@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.memorycontainer;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * Request to drop a memory container from the memory container cache of nodes, sent after the container is updated or deleted.
+ */
+@Getter
+public class MLMemoryContainerCacheInvalidateNodesRequest extends BaseNodesRequest<MLMemoryContainerCacheInvalidateNodesRequest> {
+
+    private String memoryContainerId;
+
+    public MLMemoryContainerCacheInvalidateNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.memoryContainerId = in.readString();
+    }
+
+    /**
+     * @param nodeIds nodes to invalidate the memory container on, all nodes if empty
+     * @param memoryContainerId memory container id
+     */
+    public MLMemoryContainerCacheInvalidateNodesRequest(String[] nodeIds, String memoryContainerId) {
+        super(nodeIds);
+        this.memoryContainerId = memoryContainerId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(memoryContainerId);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.memorycontainer;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLMemoryContainerCacheInvalidateNodesResponse extends BaseNodesResponse<MLMemoryContainerCacheInvalidateNodeResponse> {
+
+    public MLMemoryContainerCacheInvalidateNodesResponse(StreamInput in) throws IOException {
+        super(new ClusterName(in), in.readList(MLMemoryContainerCacheInvalidateNodeResponse::new), in.readList(FailedNodeException::new));
+    }
+
+    public MLMemoryContainerCacheInvalidateNodesResponse(
+        ClusterName clusterName,
+        List<MLMemoryContainerCacheInvalidateNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<MLMemoryContainerCacheInvalidateNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public List<MLMemoryContainerCacheInvalidateNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(MLMemoryContainerCacheInvalidateNodeResponse::new);
+    }
+}
@@ -121,6 +121,69 @@ public class ConnectorClientConfigTest {
         Assert.assertNull(readConfig.getKeystoreType());
     }
 
+    @Test
+    public void writeTo_ReadFromStream_poolTuningOptions() throws IOException {
+        ConnectorClientConfig config = ConnectorClientConfig
+            .builder()
+            .maxConnections(10)
+            .maxPendingConnectionAcquires(100)
+            .connectionAcquisitionTimeout(5)
+            .connectionTtl(300)
+            .connectionMaxIdleTime(30)
+            .http2Enabled(true)
+            .tcpKeepAlive(true)
+            .build();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(CommonValue.VERSION_3_9_0);
+        config.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(CommonValue.VERSION_3_9_0);
+        Assert.assertEquals(config, ConnectorClientConfig.fromStream(input));
+
+        output = new BytesStreamOutput();
+        output.setVersion(CommonValue.VERSION_3_8_0);
+        config.writeTo(output);
+        input = output.bytes().streamInput();
+        input.setVersion(CommonValue.VERSION_3_8_0);
+        ConnectorClientConfig readConfig = ConnectorClientConfig.fromStream(input);
+
+        // pool tuning fields are not written to pre-3.9.0 nodes
+        Assert.assertEquals(Integer.valueOf(10), readConfig.getMaxConnections());
+        Assert.assertNull(readConfig.getMaxPendingConnectionAcquires());
+        Assert.assertNull(readConfig.getConnectionTtl());
+        Assert.assertNull(readConfig.getHttp2Enabled());
+    }
+
+    @Test
+    public void parse_poolTuningOptions() throws IOException {
+        String jsonStr = "{\"max_connection\":10,\"max_pending_connection_acquires\":100,\"connection_acquisition_timeout\":5,"
+            + "\"connection_ttl\":300,\"connection_max_idle_time\":30,\"http2_enabled\":true,\"tcp_keep_alive\":false}";
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(
+                new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()),
+                null,
+                jsonStr
+            );
+        parser.nextToken();
+
+        ConnectorClientConfig config = ConnectorClientConfig.parse(parser);
+
+        Assert.assertEquals(Integer.valueOf(100), config.getMaxPendingConnectionAcquires());
+        Assert.assertEquals(Integer.valueOf(5), config.getConnectionAcquisitionTimeout());
+        Assert.assertEquals(Integer.valueOf(300), config.getConnectionTtl());
+        Assert.assertEquals(Integer.valueOf(30), config.getConnectionMaxIdleTime());
+        Assert.assertEquals(Boolean.TRUE, config.getHttp2Enabled());
+        Assert.assertEquals(Boolean.FALSE, config.getTcpKeepAlive());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        config.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String content = TestHelper.xContentBuilderToString(builder);
+        Assert.assertTrue(content.contains("\"connection_ttl\":300"));
+        Assert.assertTrue(content.contains("\"http2_enabled\":true"));
+    }
+
     @Test
     public void toXContent() throws IOException {
         ConnectorClientConfig config = ConnectorClientConfig
@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.opensearch.ml.common.input.execute.agent.ContentBlock;
@@ -205,4 +206,105 @@ public class ContextManagerContextTest {
         assertEquals(2, context.getStructuredChatHistory().size());
         assertTrue(context.isStructuredMode());
     }
+
+    @Test
+    public void testGetEstimatedTokenCountCountsEachInteractionOnce() {
+        AtomicInteger counted = new AtomicInteger();
+        ContextManagerContext context = ContextManagerContext.builder().systemPrompt("system").build();
+        context.setTokenCounter(new CharacterBasedTokenCounter() {
+            @Override
+            public int count(String text) {
+                counted.incrementAndGet();
+                return super.count(text);
+            }
+        });
+        context.addToolInteraction("12345678");
+        context.addToolInteraction("1234");
+
+        assertEquals(2 + 2 + 1, context.getEstimatedTokenCount());
+        assertEquals(3, counted.get());
+        // unchanged context is not tokenized again
+        assertEquals(5, context.getEstimatedTokenCount());
+        assertEquals(3, counted.get());
+
+        // only the appended interaction is tokenized
+        context.addToolInteraction("123456789012");
+        assertEquals(8, context.getEstimatedTokenCount());
+        assertEquals(4, counted.get());
+
+        // dropping the oldest interaction reuses the counts of the remaining ones
+        context.setToolInteractions(new ArrayList<>(context.getToolInteractions().subList(1, 3)));
+        assertEquals(6, context.getEstimatedTokenCount());
+        assertEquals(4, counted.get());
+
+        context.getToolInteractions().remove(0);
+        assertEquals(5, context.getEstimatedTokenCount());
+        assertEquals(4, counted.get());
+
+        context.setSystemPrompt("system prompt");
+        assertEquals(7, context.getEstimatedTokenCount());
+        assertEquals(5, counted.get());
+    }
+
+    @Test
+    public void testGetEstimatedTokenCountSharesCountsAcrossContexts() {
+        AtomicInteger counted = new AtomicInteger();
+        TokenCounter tokenCounter = new CharacterBasedTokenCounter() {
+            @Override
+            public int count(String text) {
+                counted.incrementAndGet();
+                return super.count(text);
+            }
+        };
+        TokenCountCache cache = new TokenCountCache(tokenCounter);
+        String systemPrompt = "system";
+        List<String> interactions = new ArrayList<>(List.of("12345678", "1234"));
+
+        ContextManagerContext first = ContextManagerContext
+            .builder()
+            .systemPrompt(systemPrompt)
+            .toolInteractions(new ArrayList<>(interactions))
+            .tokenCounter(tokenCounter)
+            .tokenCountCache(cache)
+            .build();
+        assertEquals(5, first.getEstimatedTokenCount());
+        assertEquals(3, counted.get());
+
+        // a context built for the next hook only tokenizes the new interaction
+        interactions.add("123456789012");
+        ContextManagerContext second = ContextManagerContext
+            .builder()
+            .systemPrompt(systemPrompt)
+            .toolInteractions(new ArrayList<>(interactions))
+            .tokenCounter(tokenCounter)
+            .tokenCountCache(cache)
+            .build();
+        assertEquals(8, second.getEstimatedTokenCount());
+        assertEquals(4, counted.get());
+        assertEquals(4, cache.size());
+
+        // the cache is not used with another token counter
+        second.setTokenCounter(new CharacterBasedTokenCounter());
+        assertEquals(8, second.getEstimatedTokenCount());
+        assertEquals(4, counted.get());
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void testSetTokenCounter() {
+        ContextManagerContext context = ContextManagerContext.builder().userPrompt("hello world").build();
+        assertEquals(3, context.getEstimatedTokenCount());
+
+        context.setTokenCounter(new CharacterBasedTokenCounter() {
+            @Override
+            public int count(String text) {
+                return text.split(" ").length;
+            }
+        });
+        assertEquals(2, context.getEstimatedTokenCount());
+
+        context.setTokenCounter(null);
+        assertNotNull(context.getTokenCounter());
+        assertEquals(3, context.getEstimatedTokenCount());
+    }
 }
@@ -198,6 +198,25 @@ public class AsymmetricTextEmbeddingParametersTest {
         assert (jsonStr.contains("\"sparse_embedding_format\":\"TOKEN_ID\""));
     }
 
+    @Test
+    public void readInputStream_WithSparsePruningAndQuantization() throws IOException {
+        AsymmetricTextEmbeddingParameters params = AsymmetricTextEmbeddingParameters
+            .builder()
+            .sparseEmbeddingFormat(SparseEmbeddingFormat.TOKEN_ID)
+            .sparsePruneTopK(64)
+            .sparseWeightQuantization(true)
+            .build();
+        readInputStream(params);
+        TestHelper.testParse(params, function);
+    }
+
+    @Test
+    public void constructor_InvalidSparsePruneTopK() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("sparse_prune_top_k should be positive");
+        AsymmetricTextEmbeddingParameters.builder().sparsePruneTopK(0).build();
+    }
+
     private void readInputStream(AsymmetricTextEmbeddingParameters params) throws IOException {
         BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
         params.writeTo(bytesStreamOutput);
@@ -12,6 +12,7 @@ import java.util.Collections;
 import java.util.Optional;
 
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentFactory;
@@ -115,4 +116,52 @@ public class AnomalyLocalizationInputTests {
 
         assertEquals(input, newInput);
     }
+
+    @Test
+    public void testMode() throws Exception {
+        AnomalyLocalizationInput input = new AnomalyLocalizationInput(
+            "indexName",
+            Arrays.asList("attribute"),
+            Arrays.asList(AggregationBuilders.max("max").field("field")),
+            "@timestamp",
+            0L,
+            10L,
+            1L,
+            2,
+            Optional.empty(),
+            Optional.empty(),
+            AnomalyLocalizationInput.Mode.APPROXIMATE
+        );
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder = input.toXContent(builder, null);
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(
+                new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()),
+                null,
+                builder.toString()
+            );
+        parser.nextToken();
+        assertEquals(input, AnomalyLocalizationInput.parse(parser));
+
+        NamedWriteableRegistry registry = new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables()
+        );
+        BytesStreamOutput out = new BytesStreamOutput();
+        input.writeTo(out);
+        assertEquals(input, new AnomalyLocalizationInput(new NamedWriteableAwareStreamInput(out.bytes().streamInput(), registry)));
+
+        // nodes before the mode was added localize exactly
+        out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_0_0);
+        input.writeTo(out);
+        StreamInput in = new NamedWriteableAwareStreamInput(out.bytes().streamInput(), registry);
+        in.setVersion(Version.V_3_0_0);
+        assertEquals(AnomalyLocalizationInput.Mode.EXACT, new AnomalyLocalizationInput(in).getMode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongMode() {
+        AnomalyLocalizationInput.Mode.from("sketch");
+    }
 }
@@ -17,14 +17,18 @@
  */
 package org.opensearch.ml.common.input.nlp;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentType;
@@ -42,6 +46,7 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.textsimilarity.TextSimilarityParameters;
 import org.opensearch.search.SearchModule;
 
 public class TextSimilarityMLInputTest {
@@ -118,6 +123,22 @@ public class TextSimilarityMLInputTest {
         assert (queryText.equals("today is sunny"));
     }
 
+    @Test
+    public void testParseJson_WithParameters() throws IOException {
+        String json = "{\"algorithm\":\"TEXT_SIMILARITY\",\"parameters\":{\"batch_size\":16,\"top_k\":5},"
+            + "\"query_text\":\"today is sunny\",\"text_docs\":[\"That is a happy dog\",\"it's summer\"]}";
+        List<NamedXContentRegistry.Entry> entries = new ArrayList<>(
+            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()
+        );
+        entries.add(TextSimilarityParameters.XCONTENT_REGISTRY);
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(entries), null, json);
+        parser.nextToken();
+
+        MLInput parsedInput = MLInput.parse(parser, input.getFunctionName().name());
+        assertEquals(TextSimilarityParameters.builder().batchSize(16).topK(5).build(), parsedInput.getParameters());
+        assertEquals(2, ((TextSimilarityInputDataSet) parsedInput.getInputDataset()).getTextDocs().size());
+    }
+
     @Test
     public void testParseJson_NoPairs_ThenFail() throws IOException {
         String json = "{\"algorithm\":\"TEXT_SIMILARITY\",\"query_text\":\"today is sunny\",\"text_docs\":[]}";
@@ -149,4 +170,23 @@ public class TextSimilarityMLInputTest {
         assert (newPairs.equals(oldPairs));
     }
 
+    @Test
+    public void testStreaming_WithParameters() throws IOException {
+        input.setParameters(TextSimilarityParameters.builder().batchSize(16).maxSequenceLength(256).build());
+        BytesStreamOutput outbytes = new BytesStreamOutput();
+        input.writeTo(outbytes);
+        TextSimilarityMLInput newInput = new TextSimilarityMLInput(outbytes.bytes().streamInput());
+        assertEquals(input.getParameters(), newInput.getParameters());
+
+        // nodes before 3.9 don't get the parameters
+        outbytes = new BytesStreamOutput();
+        outbytes.setVersion(Version.V_3_0_0);
+        input.writeTo(outbytes);
+        StreamInput in = outbytes.bytes().streamInput();
+        in.setVersion(Version.V_3_0_0);
+        newInput = new TextSimilarityMLInput(in);
+        assertNull(newInput.getParameters());
+        assertEquals(2, ((TextSimilarityInputDataSet) newInput.getInputDataset()).getTextDocs().size());
+    }
+
 }
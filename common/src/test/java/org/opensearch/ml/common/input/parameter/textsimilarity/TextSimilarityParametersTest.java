@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.input.parameter.textsimilarity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.TestHelper;
+
+public class TextSimilarityParametersTest {
+
+    TextSimilarityParameters params;
+    private Function<XContentParser, TextSimilarityParameters> function = parser -> {
+        try {
+            return TextSimilarityParameters.parse(parser);
+        } catch (IOException e) {
+            throw new RuntimeException("failed to parse TextSimilarityParameters", e);
+        }
+    };
+
+    @Before
+    public void setUp() {
+        params = TextSimilarityParameters.builder().batchSize(16).maxSequenceLength(256).topK(10).build();
+    }
+
+    @Test
+    public void parse_TextSimilarityParameters() throws IOException {
+        TestHelper.testParse(params, function);
+    }
+
+    @Test
+    public void parse_EmptyTextSimilarityParameters() throws IOException {
+        TestHelper.testParse(TextSimilarityParameters.builder().build(), function);
+    }
+
+    @Test
+    public void readInputStream_Success() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        params.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        assertEquals(params, new TextSimilarityParameters(streamInput));
+    }
+
+    @Test
+    public void invalidParameters() {
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> TextSimilarityParameters.builder().batchSize(0).build()
+        );
+        assertEquals("batch_size should be positive", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> TextSimilarityParameters.builder().maxSequenceLength(2).build());
+        assertEquals("max_sequence_length should be greater than 2", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> TextSimilarityParameters.builder().topK(-1).build());
+        assertEquals("top_k should be positive", e.getMessage());
+    }
+}
@@ -16,6 +16,7 @@ import java.io.IOException;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
@@ -480,4 +481,27 @@ public class MemoryStorageConfigTests {
         assertEquals(".plugins-ml-am-default-test-memory-", result);
         assertTrue(config.isUseSystemIndex()); // Verify default value
     }
+
+    @Test
+    public void testGroupCommit() throws IOException {
+        assertFalse(minimalConfig.isGroupCommit());
+        assertEquals(WriteRequest.RefreshPolicy.IMMEDIATE, minimalConfig.getWriteRefreshPolicy());
+
+        String jsonStr = "{\"index_prefix\":\"group-commit-index\",\"group_commit\":true}";
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, jsonStr);
+        parser.nextToken();
+        MemoryConfiguration config = MemoryConfiguration.parse(parser);
+        assertTrue(config.isGroupCommit());
+        assertEquals(WriteRequest.RefreshPolicy.WAIT_UNTIL, config.getWriteRefreshPolicy());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        config.toXContent(builder, EMPTY_PARAMS);
+        assertTrue(TestHelper.xContentBuilderToString(builder).contains("\"group_commit\":true"));
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        config.writeTo(bytesStreamOutput);
+        assertTrue(new MemoryConfiguration(bytesStreamOutput.bytes().streamInput()).isGroupCommit());
+    }
 }
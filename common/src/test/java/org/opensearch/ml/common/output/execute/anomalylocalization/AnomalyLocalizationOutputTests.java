@@ -6,14 +6,17 @@
 package org.opensearch.ml.common.output.execute.anomalylocalization;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
@@ -54,4 +57,32 @@ public class AnomalyLocalizationOutputTests {
 
         assertEquals(output, newOutput);
     }
+
+    @Test
+    public void testContributionErrorBound() throws Exception {
+        output.getResults().get("agg").getBuckets().get(0).setContributionErrorBound(1.5);
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        output.writeTo(out);
+        assertEquals(output, new AnomalyLocalizationOutput(out.bytes().streamInput()));
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder = output.toXContent(builder, null);
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, null, builder.toString());
+        assertEquals(output, AnomalyLocalizationOutput.parse(parser));
+    }
+
+    @Test
+    public void testContributionErrorBoundNotSentToOldNodes() throws Exception {
+        output.getResults().get("agg").getBuckets().get(0).setContributionErrorBound(1.5);
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_0_0);
+        output.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_0_0);
+        AnomalyLocalizationOutput newOutput = new AnomalyLocalizationOutput(in);
+
+        assertNull(newOutput.getResults().get("agg").getBuckets().get(0).getContributionErrorBound());
+    }
 }
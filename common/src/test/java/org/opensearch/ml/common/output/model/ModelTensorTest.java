@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.output.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
@@ -14,12 +15,14 @@ import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -144,4 +147,44 @@ public class ModelTensorTest {
 
         spyTensor.toString();
     }
+
+    @Test
+    public void test_SparseVector_StreamInAndOut() throws IOException {
+        SparseVector sparseVector = new SparseVector(new int[] { 2, 1 }, new float[] { 0.5f, 1.5f }, new String[] { "dog", "cat" });
+        ModelTensor tensor = ModelTensor.builder().name("output").sparseVector(sparseVector).build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+
+        assertEquals(sparseVector, parsedTensor.getSparseVector());
+        assertEquals(Map.of("response", List.of(Map.of("cat", 1.5f, "dog", 0.5f))), parsedTensor.getDataAsMap());
+    }
+
+    @Test
+    public void test_SparseVector_StreamOut_OldVersion() throws IOException {
+        SparseVector sparseVector = new SparseVector(new int[] { 1 }, new float[] { 1.5f }, null);
+        ModelTensor tensor = ModelTensor.builder().name("output").sparseVector(sparseVector).build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_3_1_0);
+        tensor.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_1_0);
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+
+        assertNull(parsedTensor.getSparseVector());
+        assertEquals(Map.of("response", List.of(Map.of("1", 1.5))), parsedTensor.getDataAsMap());
+    }
+
+    @Test
+    public void test_SparseVector_ToXContent() throws IOException {
+        SparseVector sparseVector = new SparseVector(new int[] { 1, 2 }, new float[] { 1.5f, 0.5f }, new String[] { "cat", "dog" });
+        ModelTensor tensor = ModelTensor.builder().name("output").sparseVector(sparseVector).build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        String modelTensorContent = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"name\":\"output\",\"dataAsMap\":{\"response\":[{\"cat\":1.5,\"dog\":0.5}]}}", modelTensorContent);
+    }
 }
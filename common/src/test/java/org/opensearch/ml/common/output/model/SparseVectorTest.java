@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.output.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+public class SparseVectorTest {
+
+    @Test
+    public void constructor_SortsByTokenId() {
+        SparseVector vector = new SparseVector(new int[] { 30, 10, 20 }, new float[] { 3f, 1f, 2f }, new String[] { "c", "a", "b" });
+        assertArrayEquals(new int[] { 10, 20, 30 }, vector.getTokenIds());
+        assertArrayEquals(new float[] { 1f, 2f, 3f }, vector.getWeights(), 0f);
+        assertArrayEquals(new String[] { "a", "b", "c" }, vector.getTokens());
+        assertEquals(List.of("a", "b", "c"), List.copyOf(vector.toMap().keySet()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_LengthMismatch() {
+        new SparseVector(new int[] { 1, 2 }, new float[] { 1f }, null);
+    }
+
+    @Test
+    public void toMap_TokenIds() {
+        SparseVector vector = new SparseVector(new int[] { 1000, 2000 }, new float[] { 1.5f, 0.5f }, null);
+        assertEquals(Map.of("1000", 1.5f, "2000", 0.5f), vector.toMap());
+    }
+
+    @Test
+    public void streamInAndOut() throws IOException {
+        SparseVector vector = new SparseVector(new int[] { 5, 100, 30000 }, new float[] { 0.1f, 2.5f, 1.2f }, new String[] { "x", "y", "z" });
+        assertEquals(vector, readWrite(vector));
+
+        SparseVector tokenIdVector = new SparseVector(new int[] { 7, 8 }, new float[] { 1f, 2f }, null);
+        SparseVector parsed = readWrite(tokenIdVector);
+        assertNull(parsed.getTokens());
+        assertEquals(tokenIdVector, parsed);
+    }
+
+    @Test
+    public void topK() {
+        SparseVector vector = new SparseVector(new int[] { 1, 2, 3, 4 }, new float[] { 0.4f, 0.1f, 0.9f, 0.2f }, null);
+        SparseVector pruned = vector.topK(2);
+        assertArrayEquals(new int[] { 1, 3 }, pruned.getTokenIds());
+        assertArrayEquals(new float[] { 0.4f, 0.9f }, pruned.getWeights(), 0f);
+        assertSame(vector, vector.topK(0));
+        assertSame(vector, vector.topK(4));
+    }
+
+    @Test
+    public void quantize() throws IOException {
+        SparseVector vector = new SparseVector(new int[] { 1, 2, 3 }, new float[] { 0f, 1.27f, 2.55f }, null);
+        SparseVector quantized = vector.quantize();
+        assertEquals(0.01f, quantized.getQuantizationScale(), 1e-6f);
+        assertArrayEquals(new float[] { 0f, 1.27f, 2.55f }, quantized.getWeights(), 1e-5f);
+        assertSame(quantized, quantized.quantize());
+
+        // quantized weights take one byte each on the wire
+        BytesStreamOutput plain = new BytesStreamOutput();
+        vector.writeTo(plain);
+        BytesStreamOutput compact = new BytesStreamOutput();
+        quantized.writeTo(compact);
+        assertEquals(plain.size() - 3 * (Float.BYTES - 1), compact.size());
+        assertArrayEquals(quantized.getWeights(), readWrite(quantized).getWeights(), 1e-6f);
+    }
+
+    @Test
+    public void quantize_NegativeOrZeroWeights() {
+        SparseVector negative = new SparseVector(new int[] { 1, 2 }, new float[] { -1f, 1f }, null);
+        assertSame(negative, negative.quantize());
+        SparseVector zero = new SparseVector(new int[] { 1 }, new float[] { 0f }, null);
+        assertSame(zero, zero.quantize());
+    }
+
+    private SparseVector readWrite(SparseVector vector) throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        vector.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        return new SparseVector(streamInput);
+    }
+}
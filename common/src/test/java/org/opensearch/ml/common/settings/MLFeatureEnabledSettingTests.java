@@ -55,6 +55,8 @@ public class MLFeatureEnabledSettingTests {
                     MLCommonsSettings.ML_COMMONS_INDEX_INSIGHT_FEATURE_ENABLED,
                     MLCommonsSettings.ML_COMMONS_STREAM_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MAX_JSON_SIZE,
+                    MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_BYTES,
+                    MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_DELAY_MS,
                     MLCommonsSettings.ML_COMMONS_MCP_HEADER_PASSTHROUGH_ENABLED,
                     MLCommonsSettings.ML_COMMONS_AG_UI_ENABLED,
                     MLCommonsSettings.ML_COMMONS_TRUSTED_CONNECTOR_ENDPOINTS_REGEX
@@ -299,6 +301,27 @@ public class MLFeatureEnabledSettingTests {
         assertEquals(75_000_000, setting.getMaxJsonSize());
     }
 
+    @Test
+    public void testStreamFlushSettings() {
+        MLFeatureEnabledSetting setting = new MLFeatureEnabledSetting(mockClusterService, Settings.EMPTY);
+
+        // Chunks are not buffered by default
+        assertEquals(4096, setting.getStreamFlushMaxBytes());
+        assertEquals(0, setting.getStreamFlushMaxDelayMillis());
+
+        mockClusterSettings
+            .applySettings(
+                Settings
+                    .builder()
+                    .put("plugins.ml_commons.stream_flush_max_bytes", 1024)
+                    .put("plugins.ml_commons.stream_flush_max_delay_ms", 50)
+                    .build()
+            );
+
+        assertEquals(1024, setting.getStreamFlushMaxBytes());
+        assertEquals(50, setting.getStreamFlushMaxDelayMillis());
+    }
+
     @Test
     public void testMcpHeaderPassthroughDisabledByDefault() {
         Settings settings = Settings.EMPTY;
@@ -107,7 +107,11 @@ public class MLStreamingService extends MLServiceGrpc.MLServiceImplBase {
     private void executeStreamingPrediction(MLPredictionTaskRequest mlRequest, StreamObserver<PredictResponse> responseObserver) {
         try {
             // Create adapter that bridges ML streaming to gRPC streaming
-            StreamObserverAdapter<PredictResponse> adapter = new StreamObserverAdapter<>(responseObserver);
+            StreamObserverAdapter<PredictResponse> adapter = new StreamObserverAdapter<>(
+                responseObserver,
+                mlFeatureEnabledSetting,
+                client.threadPool()
+            );
 
             // Set the request to use gRPC channel
             mlRequest.setDispatchTask(false);
@@ -153,7 +157,11 @@ public class MLStreamingService extends MLServiceGrpc.MLServiceImplBase {
     private void executeAgentStreamingTask(MLExecuteTaskRequest mlRequest, StreamObserver<PredictResponse> responseObserver) {
         try {
             // Create adapter that bridges ML streaming to gRPC streaming
-            StreamObserverAdapter<PredictResponse> adapter = new StreamObserverAdapter<>(responseObserver);
+            StreamObserverAdapter<PredictResponse> adapter = new StreamObserverAdapter<>(
+                responseObserver,
+                mlFeatureEnabledSetting,
+                client.threadPool()
+            );
 
             // Set the request to enable streaming mode and use gRPC channel
             mlRequest.setDispatchTask(false);
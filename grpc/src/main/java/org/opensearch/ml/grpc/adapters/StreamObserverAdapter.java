@@ -5,12 +5,18 @@
 
 package org.opensearch.ml.grpc.adapters;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamChunkCoalescer;
 import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener;
 import org.opensearch.ml.grpc.GrpcStatusMapper;
 import org.opensearch.ml.grpc.converters.ProtoResponseConverter;
+import org.opensearch.protobufs.PredictResponse;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportChannel;
 
 import io.grpc.Status;
@@ -28,21 +34,66 @@ public class StreamObserverAdapter<ProtoResponse> extends
 
     private final StreamObserver<ProtoResponse> responseObserver;
     private final GrpcTransportChannel channel;
+    private final StreamChunkCoalescer<BufferedChunk<ProtoResponse>> coalescer;
 
     /**
-     * Creates an adapter for streaming.
+     * Creates an adapter for streaming that sends every chunk as its own message.
      *
      * @param responseObserver the gRPC response observer to stream results to
      */
     public StreamObserverAdapter(StreamObserver<ProtoResponse> responseObserver) {
-        this(responseObserver, new GrpcTransportChannel(responseObserver, null));
+        this(responseObserver, 0, 0, null);
     }
 
-    private StreamObserverAdapter(StreamObserver<ProtoResponse> responseObserver, GrpcTransportChannel channel) {
+    /**
+     * Creates an adapter for streaming that buffers text deltas following the stream flush settings, consecutive text
+     * deltas buffered together are merged into one message. Other chunks flush the buffer and are sent right away.
+     *
+     * @param responseObserver the gRPC response observer to stream results to
+     * @param mlFeatureEnabledSetting settings holding the flush policy
+     * @param threadPool thread pool running delayed flushes, chunks are not buffered if null
+     */
+    public StreamObserverAdapter(
+        StreamObserver<ProtoResponse> responseObserver,
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        ThreadPool threadPool
+    ) {
+        this(
+            responseObserver,
+            mlFeatureEnabledSetting.getStreamFlushMaxBytes(),
+            mlFeatureEnabledSetting.getStreamFlushMaxDelayMillis(),
+            threadPool
+        );
+    }
+
+    private StreamObserverAdapter(
+        StreamObserver<ProtoResponse> responseObserver,
+        int maxBytes,
+        long maxDelayMillis,
+        ThreadPool threadPool
+    ) {
+        this(responseObserver, new GrpcTransportChannel(responseObserver, null), maxBytes, maxDelayMillis, threadPool);
+    }
+
+    private StreamObserverAdapter(
+        StreamObserver<ProtoResponse> responseObserver,
+        GrpcTransportChannel channel,
+        int maxBytes,
+        long maxDelayMillis,
+        ThreadPool threadPool
+    ) {
         super(channel);
         this.responseObserver = responseObserver;
         this.channel = channel;
         this.channel.setAdapter(this);
+        this.coalescer = new StreamChunkCoalescer<>(
+            maxBytes,
+            maxDelayMillis,
+            threadPool,
+            ThreadPool.Names.GENERIC,
+            chunk -> chunk.response() instanceof PredictResponse predictResponse ? predictResponse.getSerializedSize() : 0,
+            this::send
+        );
     }
 
     public TransportChannel getChannel() {
@@ -71,6 +122,12 @@ public class StreamObserverAdapter<ProtoResponse> extends
             log.warn("onFailure called after stream already completed, ignoring: {}", e.getMessage());
             return;
         }
+        try {
+            // chunks produced before the failure still reach the client
+            coalescer.flush();
+        } catch (Exception ex) {
+            log.error("Failed to flush buffered chunks", ex);
+        }
         try {
             Status status = GrpcStatusMapper.toGrpcStatus(e);
             responseObserver.onError(status.asRuntimeException());
@@ -91,6 +148,33 @@ public class StreamObserverAdapter<ProtoResponse> extends
         return (ProtoResponse) ProtoResponseConverter.toProto(response);
     }
 
+    /**
+     * Sends buffered chunks, merging each run of consecutive text deltas into one message.
+     */
+    private void send(List<BufferedChunk<ProtoResponse>> chunks) {
+        List<ProtoResponse> contentDeltas = new ArrayList<>();
+        for (BufferedChunk<ProtoResponse> chunk : chunks) {
+            if (chunk.contentDelta()) {
+                contentDeltas.add(chunk.response());
+            } else {
+                sendMerged(contentDeltas);
+                contentDeltas.clear();
+                responseObserver.onNext(chunk.response());
+            }
+        }
+        sendMerged(contentDeltas);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sendMerged(List<ProtoResponse> contentDeltas) {
+        if (contentDeltas.size() > 1 && contentDeltas.stream().allMatch(PredictResponse.class::isInstance)) {
+            List<PredictResponse> merged = ProtoResponseConverter.mergeContentDeltas((List<PredictResponse>) (List<?>) contentDeltas);
+            merged.forEach(response -> responseObserver.onNext((ProtoResponse) response));
+        } else {
+            contentDeltas.forEach(responseObserver::onNext);
+        }
+    }
+
     /**
      * Helper method called by GrpcTransportChannel to handle streaming responses.
      * This is the bridge between the channel's sendResponseBatch() and the gRPC stream.
@@ -109,8 +193,9 @@ public class StreamObserverAdapter<ProtoResponse> extends
             // Convert response to protobuf
             ProtoResponse protoResponse = convertToProto(response);
 
-            // Send the chunk to client
-            responseObserver.onNext(protoResponse);
+            // Send the chunk to client, only text deltas wait in the buffer, any other chunk flushes it right away
+            boolean contentDelta = !isLast && ProtoResponseConverter.isContentDelta(response);
+            coalescer.add(new BufferedChunk<>(protoResponse, contentDelta), !contentDelta);
 
             // Check if content indicates last chunk
             if (isLast) {
@@ -130,10 +215,17 @@ public class StreamObserverAdapter<ProtoResponse> extends
      */
     public void completeGrpcStream() {
         if (completed.compareAndSet(false, true)) {
+            coalescer.flush();
             responseObserver.onCompleted();
             log.info("gRPC stream completed successfully");
         }
     }
 
     private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    /**
+     * A converted chunk waiting in the buffer, with whether it is a text delta that may be merged with its neighbours.
+     */
+    private record BufferedChunk<T>(T response, boolean contentDelta) {
+    }
 }
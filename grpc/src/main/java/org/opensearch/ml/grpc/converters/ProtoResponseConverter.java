@@ -5,9 +5,13 @@
 
 package org.opensearch.ml.grpc.converters;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.opensearch.ml.common.agui.AGUIConstants;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -26,6 +30,9 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class ProtoResponseConverter {
 
+    private static final Set<String> CONTENT_DELTA_FIELDS = Set.of("content", "is_last");
+    private static final String AGUI_EVENT_PREFIX = "{\"" + AGUIConstants.AGUI_FIELD_TYPE + "\":";
+
     /**
      * Converts response object to PredictResponse protobuf.
      */
@@ -40,6 +47,99 @@ public class ProtoResponseConverter {
         return buildPredictResponse(output);
     }
 
+    /**
+     * Checks whether a streamed response is a plain text delta, i.e. all its data maps only hold a text content that is not an
+     * AG-UI event and an is_last flag that is false. Only text deltas may be buffered and merged; AG-UI events, tool calls,
+     * errors and last chunks are sent as they are.
+     */
+    public static boolean isContentDelta(Object response) {
+        Object output = switch (response) {
+            case MLTaskResponse r -> r.getOutput();
+            case MLExecuteTaskResponse r -> r.getOutput();
+            default -> null;
+        };
+        if (!(output instanceof ModelTensorOutput tensorOutput) || tensorOutput.getMlModelOutputs() == null) {
+            return false;
+        }
+        boolean hasContent = false;
+        for (ModelTensors tensors : tensorOutput.getMlModelOutputs()) {
+            if (tensors.getMlModelTensors() == null) {
+                continue;
+            }
+            for (ModelTensor tensor : tensors.getMlModelTensors()) {
+                Map<String, ?> dataMap = tensor.getDataAsMap();
+                if (dataMap == null || dataMap.isEmpty()) {
+                    continue;
+                }
+                if (!CONTENT_DELTA_FIELDS.containsAll(dataMap.keySet())
+                    || Boolean.TRUE.equals(dataMap.get("is_last"))
+                    || !(dataMap.get("content") instanceof String content)
+                    || content.startsWith(AGUI_EVENT_PREFIX)) {
+                    return false;
+                }
+                hasContent = true;
+            }
+        }
+        return hasContent;
+    }
+
+    /**
+     * Merges runs of consecutive streamed text deltas with the same outputs into one response with the concatenated contents, so
+     * buffered token deltas are sent as one message. Other fields are taken from the latest response of a run, and responses
+     * with a different shape or marked as last are kept as they are. Only responses checked with {@link #isContentDelta} may be
+     * passed.
+     */
+    public static List<PredictResponse> mergeContentDeltas(List<PredictResponse> responses) {
+        List<PredictResponse> merged = new ArrayList<>(responses.size());
+        for (PredictResponse response : responses) {
+            int last = merged.size() - 1;
+            if (last >= 0 && isMergeable(merged.get(last), response)) {
+                merged.set(last, concatContent(merged.get(last), response));
+            } else {
+                merged.add(response);
+            }
+        }
+        return merged;
+    }
+
+    private static boolean isMergeable(PredictResponse previous, PredictResponse next) {
+        if (previous.getInferenceResultsCount() != next.getInferenceResultsCount()) {
+            return false;
+        }
+        for (int i = 0; i < next.getInferenceResultsCount(); i++) {
+            InferenceResults previousResults = previous.getInferenceResults(i);
+            InferenceResults nextResults = next.getInferenceResults(i);
+            if (previousResults.getOutputCount() != nextResults.getOutputCount()) {
+                return false;
+            }
+            for (int j = 0; j < nextResults.getOutputCount(); j++) {
+                Output previousOutput = previousResults.getOutput(j);
+                Output nextOutput = nextResults.getOutput(j);
+                if (!previousOutput.getName().equals(nextOutput.getName()) || previousOutput.hasDataAsMap() != nextOutput.hasDataAsMap()) {
+                    return false;
+                }
+                if (nextOutput.hasDataAsMap() && (previousOutput.getDataAsMap().getIsLast() || nextOutput.getDataAsMap().getIsLast())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static PredictResponse concatContent(PredictResponse previous, PredictResponse next) {
+        PredictResponse.Builder builder = next.toBuilder();
+        for (int i = 0; i < next.getInferenceResultsCount(); i++) {
+            for (int j = 0; j < next.getInferenceResults(i).getOutputCount(); j++) {
+                Output previousOutput = previous.getInferenceResults(i).getOutput(j);
+                if (previousOutput.hasDataAsMap()) {
+                    DataAsMap.Builder dataAsMap = builder.getInferenceResultsBuilder(i).getOutputBuilder(j).getDataAsMapBuilder();
+                    dataAsMap.setContent(previousOutput.getDataAsMap().getContent() + dataAsMap.getContent());
+                }
+            }
+        }
+        return builder.build();
+    }
+
     private static PredictResponse buildPredictResponse(ModelTensorOutput output) {
         return PredictResponse
             .newBuilder()
@@ -9,6 +9,7 @@ import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionType;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.threadpool.ThreadPool;
 
 /**
  * Interface wrapping OpenSearch client operations needed by gRPC services.
@@ -24,4 +25,9 @@ public interface MLClient {
         Request request,
         ActionListener<Response> listener
     );
+
+    /**
+     * Thread pool of the node, used to schedule delayed flushes of buffered stream chunks.
+     */
+    ThreadPool threadPool();
 }
@@ -5,19 +5,30 @@
 
 package org.opensearch.ml.grpc.adapters;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.ml.common.agui.TextMessageContentEvent;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.protobufs.PredictResponse;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 /**
  * Unit tests for StreamObserverAdapter.
@@ -177,6 +188,52 @@ public class StreamObserverAdapterTests {
         assertFalse("Should not send error after stream already completed", mockObserver.errorCalled);
     }
 
+    @Test
+    public void testBufferedStream_flushesNonContentChunksRightAway() {
+        StreamObserverAdapter<Object> bufferedAdapter = createBufferedAdapter();
+
+        bufferedAdapter.onStreamResponse(createResponse("Hel", false), false);
+        bufferedAdapter.onStreamResponse(createResponse("lo", false), false);
+        assertTrue("Text deltas should be buffered", mockObserver.values.isEmpty());
+
+        // a tool call chunk flushes the buffered deltas and is sent right away, without being merged into them
+        Map<String, Object> toolCall = Map.of("choices", List.of(Map.of("finish_reason", "tool_calls")));
+        bufferedAdapter.onStreamResponse(createResponseFromMap(toolCall), false);
+        assertEquals(2, mockObserver.values.size());
+        assertEquals("Hello", content(mockObserver.values.get(0)));
+
+        // an error chunk is not delayed either
+        bufferedAdapter.onStreamResponse(createResponseFromMap(Map.of("error", "failed", "is_last", false)), false);
+        assertEquals(3, mockObserver.values.size());
+    }
+
+    @Test
+    public void testBufferedStream_doesNotMergeAGUIEvents() {
+        StreamObserverAdapter<Object> bufferedAdapter = createBufferedAdapter();
+        String first = new TextMessageContentEvent("message", "Hel").toJsonString();
+        String second = new TextMessageContentEvent("message", "lo").toJsonString();
+
+        bufferedAdapter.onStreamResponse(createResponse(first, false), false);
+        bufferedAdapter.onStreamResponse(createResponse(second, false), false);
+
+        assertEquals(2, mockObserver.values.size());
+        assertEquals(first, content(mockObserver.values.get(0)));
+        assertEquals(second, content(mockObserver.values.get(1)));
+    }
+
+    private StreamObserverAdapter<Object> createBufferedAdapter() {
+        MLFeatureEnabledSetting mlFeatureEnabledSetting = mock(MLFeatureEnabledSetting.class);
+        when(mlFeatureEnabledSetting.getStreamFlushMaxBytes()).thenReturn(1024 * 1024);
+        when(mlFeatureEnabledSetting.getStreamFlushMaxDelayMillis()).thenReturn(60_000);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.schedule(any(), any(), anyString())).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+        return new StreamObserverAdapter<>(mockObserver, mlFeatureEnabledSetting, threadPool);
+    }
+
+    private static String content(Object response) {
+        return ((PredictResponse) response).getInferenceResults(0).getOutput(0).getDataAsMap().getContent();
+    }
+
     private MLTaskResponse createResponse(String content, boolean isLast) {
         Map<String, Object> dataAsMap = Map.of("content", content, "is_last", isLast);
         return createResponseFromMap(dataAsMap);
@@ -198,11 +255,13 @@ public class StreamObserverAdapterTests {
         boolean completedCalled = false;
         Object lastValue = null;
         Throwable lastError = null;
+        final List<Object> values = new ArrayList<>();
 
         @Override
         public void onNext(Object value) {
             nextCalled = true;
             lastValue = value;
+            values.add(value);
         }
 
         @Override
@@ -16,6 +16,7 @@ import java.util.Map;
 
 import org.junit.Test;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.agui.TextMessageContentEvent;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -227,4 +228,42 @@ public class ProtoResponseConverterTests {
         assertEquals("response", result.getInferenceResults(0).getOutput(0).getName());
         assertEquals("plain result", result.getInferenceResults(0).getOutput(0).getResult());
     }
+
+    @Test
+    public void testMergeContentDeltas() {
+        PredictResponse first = toProto("response", "Hel", false);
+        PredictResponse second = toProto("response", "lo", false);
+        PredictResponse other = toProto("answer", "!", false);
+        PredictResponse last = toProto("answer", "", true);
+
+        List<PredictResponse> merged = ProtoResponseConverter.mergeContentDeltas(List.of(first, second, other, last));
+
+        assertEquals(3, merged.size());
+        assertEquals("Hello", merged.get(0).getInferenceResults(0).getOutput(0).getDataAsMap().getContent());
+        assertEquals(other, merged.get(1));
+        assertEquals(last, merged.get(2));
+    }
+
+    @Test
+    public void testIsContentDelta() {
+        assertTrue(ProtoResponseConverter.isContentDelta(toResponse(Map.of("content", "Hel", "is_last", false))));
+        assertFalse(ProtoResponseConverter.isContentDelta(toResponse(Map.of("content", "", "is_last", true))));
+        assertFalse(ProtoResponseConverter.isContentDelta(toResponse(Map.of("error", "failed", "is_last", true))));
+        assertFalse(ProtoResponseConverter.isContentDelta(toResponse(Map.of("choices", List.of()))));
+        String event = new TextMessageContentEvent("message", "Hel").toJsonString();
+        assertFalse(ProtoResponseConverter.isContentDelta(toResponse(Map.of("content", event, "is_last", false))));
+    }
+
+    private MLTaskResponse toResponse(Map<String, Object> dataAsMap) {
+        ModelTensor tensor = ModelTensor.builder().name("response").dataAsMap(dataAsMap).build();
+        ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+        return MLTaskResponse.builder().output(ModelTensorOutput.builder().mlModelOutputs(List.of(tensors)).build()).build();
+    }
+
+    private PredictResponse toProto(String name, String content, boolean isLast) {
+        ModelTensor tensor = ModelTensor.builder().name(name).dataAsMap(Map.of("content", content, "is_last", isLast)).build();
+        ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+        ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(List.of(tensors)).build();
+        return ProtoResponseConverter.toProto(MLTaskResponse.builder().output(output).build());
+    }
 }
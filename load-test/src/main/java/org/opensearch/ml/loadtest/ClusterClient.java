@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import com.google.gson.Gson;
+
+/**
+ * Minimal REST client of the cluster under test. Test clusters use self-signed certificates, so HTTPS trusts any certificate.
+ */
+public class ClusterClient {
+
+    private static final Gson GSON = new Gson();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String authorization;
+
+    public ClusterClient(LoadTestSettings settings) {
+        HttpClient.Builder builder = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).version(HttpClient.Version.HTTP_1_1);
+        if (settings.isHttps()) {
+            builder.sslContext(trustAllContext());
+        }
+        this.httpClient = builder.build();
+        this.baseUrl = (settings.isHttps() ? "https://" : "http://") + settings.getCluster();
+        this.authorization = settings.getUser() == null
+            ? null
+            : "Basic "
+                + Base64
+                    .getEncoder()
+                    .encodeToString((settings.getUser() + ":" + settings.getPassword()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Send a request and parse the JSON response, failing on error status.
+     * @param method HTTP method
+     * @param path path and query string
+     * @param body request body, a JSON string or an object serialized to JSON, null for none
+     * @return parsed response
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> request(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(method, path, body);
+        if (response.statusCode() >= 300) {
+            throw new IOException(method + " " + path + " failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return response.body().isBlank() ? Map.of() : GSON.fromJson(response.body(), Map.class);
+    }
+
+    /**
+     * Send a request without checking the response status.
+     */
+    public HttpResponse<String> send(String method, String path, Object body) throws IOException, InterruptedException {
+        String json = body == null ? null : body instanceof String ? (String) body : GSON.toJson(body);
+        HttpRequest.Builder request = HttpRequest
+            .newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .method(method, json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json));
+        if (json != null) {
+            request.header("Content-Type", path.startsWith("/_bulk") ? "application/x-ndjson" : "application/json");
+        }
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static SSLContext trustAllContext() {
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, new TrustManager[] { new X509TrustManager() {
+                @Override
+                public void checkClientTrusted(X509Certificate[] chain, String authType) {}
+
+                @Override
+                public void checkServerTrusted(X509Certificate[] chain, String authType) {}
+
+                @Override
+                public X509Certificate[] getAcceptedIssuers() {
+                    return new X509Certificate[0];
+                }
+            } }, null);
+            return context;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to create the SSL context", e);
+        }
+    }
+}
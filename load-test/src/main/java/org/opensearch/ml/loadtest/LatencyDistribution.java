@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+/**
+ * Latency added by the mock model server before it answers, parsed from a spec:
+ * <ul>
+ *   <li>{@code none}: answer right away</li>
+ *   <li>{@code fixed:<millis>}: always the same latency</li>
+ *   <li>{@code uniform:<min>-<max>}: uniformly distributed between min and max millis</li>
+ *   <li>{@code lognormal:<median>,<sigma>}: log-normal around the median millis, the long tail of real model providers</li>
+ * </ul>
+ */
+public class LatencyDistribution {
+
+    public static final LatencyDistribution NONE = new LatencyDistribution("none", random -> 0L);
+
+    private final String spec;
+    private final ToLongFunction<Random> sampler;
+
+    private LatencyDistribution(String spec, ToLongFunction<Random> sampler) {
+        this.spec = spec;
+        this.sampler = sampler;
+    }
+
+    public static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.trim().equalsIgnoreCase("none")) {
+            return NONE;
+        }
+        String trimmed = spec.trim().toLowerCase(Locale.ROOT);
+        int separator = trimmed.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec);
+        }
+        String type = trimmed.substring(0, separator);
+        String args = trimmed.substring(separator + 1);
+        try {
+            switch (type) {
+                case "fixed":
+                    long fixed = nonNegative(Long.parseLong(args), spec);
+                    return new LatencyDistribution(trimmed, random -> fixed);
+                case "uniform":
+                    String[] bounds = args.split("-");
+                    long min = nonNegative(Long.parseLong(bounds[0]), spec);
+                    long max = Long.parseLong(bounds[1]);
+                    if (max < min) {
+                        throw new IllegalArgumentException("Invalid latency distribution: " + spec);
+                    }
+                    return new LatencyDistribution(trimmed, random -> min + (long) (random.nextDouble() * (max - min + 1)));
+                case "lognormal":
+                    String[] params = args.split(",");
+                    double median = nonNegative(Long.parseLong(params[0]), spec);
+                    double sigma = Double.parseDouble(params[1]);
+                    return new LatencyDistribution(trimmed, random -> Math.round(median * Math.exp(sigma * random.nextGaussian())));
+                default:
+                    throw new IllegalArgumentException("Invalid latency distribution: " + spec);
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec, e);
+        }
+    }
+
+    public long nextMillis(Random random) {
+        return sampler.applyAsLong(random);
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+
+    private static long nonNegative(long value, String spec) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec);
+        }
+        return value;
+    }
+}
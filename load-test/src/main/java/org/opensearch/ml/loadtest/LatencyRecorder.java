@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies and response statuses of the requests sent by one worker, merged into the result of the scenario once the workers
+ * stop. Latencies are kept exactly, a load test run records at most a few million requests.
+ */
+class LatencyRecorder {
+
+    static final int CONNECTION_ERROR = -1;
+    // the request failed in the load driver before a response was received
+    static final int CLIENT_ERROR = -2;
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long failures;
+    private final Map<Integer, Long> statuses = new TreeMap<>();
+
+    void record(long latencyNanos, int status, boolean succeeded) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!succeeded) {
+            failures++;
+        }
+        statuses.merge(status, 1L, Long::sum);
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        failures += other.failures;
+        other.statuses.forEach((status, requests) -> statuses.merge(status, requests, Long::sum));
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getFailures() {
+        return failures;
+    }
+
+    Map<Integer, Long> getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * @return mean, percentiles and max of the latencies in millis
+     */
+    Map<String, Double> latencyMillis() {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Map<String, Double> summary = new LinkedHashMap<>();
+        summary.put("mean", count == 0 ? 0 : millis((long) Arrays.stream(sorted).average().orElse(0)));
+        summary.put("p50", percentile(sorted, 50));
+        summary.put("p90", percentile(sorted, 90));
+        summary.put("p99", percentile(sorted, 99));
+        summary.put("p99.9", percentile(sorted, 99.9));
+        summary.put("max", count == 0 ? 0 : millis(sorted[count - 1]));
+        return summary;
+    }
+
+    // nearest rank percentile
+    static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return millis(sorted[Math.max(0, rank - 1)]);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 100) / 100.0;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.GsonBuilder;
+
+/**
+ * Drives the ML Commons APIs of a running cluster with remote models served by a local {@link MockModelServer}.
+ * <p>
+ * Each scenario runs in turn: {@code concurrency} workers send requests in a closed loop, requests started during the warmup
+ * are not recorded. For every scenario the driver reports the throughput, the latency percentiles and the status counts of the
+ * recorded requests, the garbage collections of the cluster nodes while the requests were recorded and the requests received
+ * by the mock model server. The report is printed and, with {@code loadtest.results}, written as JSON to compare runs.
+ */
+public class LoadDriver {
+
+    private final LoadTestSettings settings;
+    private final ClusterClient client;
+    private final LoadTestFixture fixture;
+    private final MockModelServer mockModelServer;
+
+    public LoadDriver(LoadTestSettings settings, ClusterClient client, LoadTestFixture fixture, MockModelServer mockModelServer) {
+        this.settings = settings;
+        this.client = client;
+        this.fixture = fixture;
+        this.mockModelServer = mockModelServer;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<Map<String, Object>> results = new ArrayList<>();
+        try (MockModelServer mockModelServer = settings.newMockModelServer()) {
+            mockModelServer.start();
+            System.out.println("Mock model server listening on " + mockModelServer.getEndpoint() + ", latency " + settings.getLatency());
+            ClusterClient client = new ClusterClient(settings);
+            LoadTestFixture fixture = new LoadTestFixture(client, settings, mockModelServer.getEndpoint());
+            LoadDriver driver = new LoadDriver(settings, client, fixture, mockModelServer);
+            try {
+                fixture.configureCluster(settings.getScenarios().contains(Scenario.PREDICT_STREAM));
+                for (Scenario scenario : settings.getScenarios()) {
+                    results.add(driver.run(scenario));
+                }
+            } finally {
+                fixture.cleanup();
+            }
+        }
+        String json = new GsonBuilder().setPrettyPrinting().create().toJson(results);
+        if (settings.getResultsFile() != null) {
+            Path resultsFile = Path.of(settings.getResultsFile());
+            if (resultsFile.getParent() != null) {
+                Files.createDirectories(resultsFile.getParent());
+            }
+            Files.writeString(resultsFile, json, StandardCharsets.UTF_8);
+            System.out.println("Results written to " + resultsFile.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Run a scenario and report its results.
+     * @param scenario scenario to run
+     * @return results of the scenario
+     */
+    public Map<String, Object> run(Scenario scenario) throws IOException, InterruptedException {
+        scenario.setup(fixture);
+        System.out
+            .printf(
+                Locale.ROOT,
+                "Running %s with %d workers, %ds warmup, %ds measured%n",
+                scenario,
+                settings.getConcurrency(),
+                settings.getWarmupSeconds(),
+                settings.getDurationSeconds()
+            );
+
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(settings.getWarmupSeconds());
+        long measureEnd = measureStart + TimeUnit.SECONDS.toNanos(settings.getDurationSeconds());
+        List<Thread> workers = new ArrayList<>();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        for (int i = 0; i < settings.getConcurrency(); i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            workers.add(Thread.ofPlatform().name("load-test-worker-" + i).start(() -> work(scenario, recorder, measureStart, measureEnd)));
+        }
+
+        sleepUntil(measureStart);
+        Map<String, Long> gcBefore = nodeGcStats();
+        Map<String, Object> mockBefore = mockModelServer.stats();
+        sleepUntil(measureEnd);
+        Map<String, Long> gcAfter = nodeGcStats();
+        Map<String, Object> mockAfter = mockModelServer.stats();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        LatencyRecorder total = new LatencyRecorder();
+        recorders.forEach(total::merge);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scenario", scenario.name().toLowerCase(Locale.ROOT));
+        result.put("concurrency", settings.getConcurrency());
+        result.put("duration_seconds", settings.getDurationSeconds());
+        result.put("mock_latency", settings.getLatency().toString());
+        result.put("mock_throttle_rate", settings.getThrottleRate());
+        result.put("requests", total.getCount());
+        result.put("failures", total.getFailures());
+        result.put("qps", Math.round(total.getCount() * 100.0 / Math.max(1, settings.getDurationSeconds())) / 100.0);
+        result.put("latency_millis", total.latencyMillis());
+        result.put("statuses", total.getStatuses());
+        result.put("cluster_gc", delta(gcBefore, gcAfter));
+        result.put("mock_model_server", delta(mockBefore, mockAfter));
+        print(result);
+        return result;
+    }
+
+    private void work(Scenario scenario, LatencyRecorder recorder, long measureStart, long measureEnd) {
+        long iteration = 0;
+        while (true) {
+            long requestStart = System.nanoTime();
+            if (requestStart >= measureEnd) {
+                return;
+            }
+            int status = LatencyRecorder.CLIENT_ERROR;
+            boolean succeeded;
+            try {
+                HttpResponse<String> response = scenario.run(fixture, iteration++);
+                status = response.statusCode();
+                succeeded = scenario.succeeded(response);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                status = LatencyRecorder.CONNECTION_ERROR;
+                succeeded = false;
+            } catch (RuntimeException e) {
+                // e.g. a response body that does not parse, a dead worker would silently lower the reported qps
+                succeeded = false;
+            }
+            if (requestStart >= measureStart) {
+                recorder.record(System.nanoTime() - requestStart, status, succeeded);
+            }
+        }
+    }
+
+    /**
+     * @return garbage collection counts and times summed over the nodes of the cluster
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> nodeGcStats() throws IOException, InterruptedException {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        Map<String, Object> nodes = (Map<String, Object>) client.request("GET", "/_nodes/stats/jvm", null).get("nodes");
+        for (Object node : nodes.values()) {
+            Map<String, Object> jvm = (Map<String, Object>) ((Map<String, Object>) node).get("jvm");
+            Map<String, Object> collectors = (Map<String, Object>) ((Map<String, Object>) jvm.get("gc")).get("collectors");
+            collectors.forEach((name, collector) -> {
+                Map<String, Object> values = (Map<String, Object>) collector;
+                stats.merge(name + "_collection_count", ((Number) values.get("collection_count")).longValue(), Long::sum);
+                stats.merge(name + "_collection_time_millis", ((Number) values.get("collection_time_in_millis")).longValue(), Long::sum);
+            });
+            Map<String, Object> mem = (Map<String, Object>) jvm.get("mem");
+            stats.merge("max_heap_used_percent", ((Number) mem.get("heap_used_percent")).longValue(), Math::max);
+        }
+        return stats;
+    }
+
+    private static Map<String, Object> delta(Map<String, ?> before, Map<String, ?> after) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        after.forEach((key, value) -> {
+            long end = ((Number) value).longValue();
+            // heap usage is a level, the other stats are counters
+            if (key.startsWith("max_") || !before.containsKey(key)) {
+                delta.put(key, end);
+            } else {
+                delta.put(key, end - ((Number) before.get(key)).longValue());
+            }
+        });
+        return delta;
+    }
+
+    private static void print(Map<String, Object> result) {
+        System.out
+            .printf(
+                Locale.ROOT,
+                "%-15s requests=%s failures=%s qps=%s%n    latency millis %s%n    statuses %s%n    cluster gc %s%n    mock server %s%n",
+                result.get("scenario"),
+                result.get("requests"),
+                result.get("failures"),
+                result.get("qps"),
+                result.get("latency_millis"),
+                result.get("statuses"),
+                result.get("cluster_gc"),
+                result.get("mock_model_server")
+            );
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+
+import lombok.Getter;
+
+/**
+ * Resources of the cluster under test used by the scenarios: connectors to the mock model server, remote models, pipelines,
+ * an agent and a memory. Resources are created the first time a scenario needs them and removed by {@link #cleanup()}.
+ */
+public class LoadTestFixture {
+
+    static final Gson GSON = new Gson();
+    static final String QUESTION = "How does OpenSearch run approximate k-NN search?";
+    static final String INGEST_INDEX = "ml-load-test-ingest";
+    static final String SEARCH_INDEX = "ml-load-test-search";
+    static final String INGEST_PIPELINE = "ml-load-test-ingest";
+    static final String SEARCH_PIPELINE = "ml-load-test-rag";
+
+    private static final List<String> PASSAGES = List
+        .of(
+            "OpenSearch builds HNSW graphs per segment with the Lucene or Faiss engine.",
+            "Approximate k-NN search visits the graph of each segment and merges the nearest neighbors.",
+            "Remote models call a model provider through a connector with the predict action.",
+            "An ml_inference ingest processor maps document fields to model inputs and model outputs to new fields.",
+            "Retrieval augmented generation answers a question with the search results as context."
+        );
+    private static final int SEARCH_DOCUMENTS = 200;
+    private static final long TASK_TIMEOUT_MILLIS = 120_000;
+
+    private final ClusterClient client;
+    @Getter
+    private final LoadTestSettings settings;
+    private final String mockEndpoint;
+
+    private final List<String> connectorIds = new ArrayList<>();
+    private String embeddingModelId;
+    private String chatModelId;
+    private String agentId;
+    private String memoryId;
+    private boolean ingestPipeline;
+    private boolean searchPipeline;
+    private boolean searchIndex;
+
+    public LoadTestFixture(ClusterClient client, LoadTestSettings settings, String mockEndpoint) {
+        this.client = client;
+        this.settings = settings;
+        this.mockEndpoint = mockEndpoint;
+    }
+
+    /**
+     * Allow connectors to the mock model server and remote models on every node.
+     * @param stream enable streaming predictions
+     */
+    public void configureCluster(boolean stream) throws IOException, InterruptedException {
+        Map<String, Object> persistent = new HashMap<>();
+        persistent.put("plugins.ml_commons.trusted_connector_endpoints_regex", List.of("^" + mockEndpoint.replace(".", "\\.") + "/.*$"));
+        persistent.put("plugins.ml_commons.connector.private_ip_enabled", true);
+        persistent.put("plugins.ml_commons.only_run_on_ml_node", false);
+        if (stream) {
+            persistent.put("plugins.ml_commons.stream_enabled", true);
+        }
+        client.request("PUT", "/_cluster/settings", Map.of("persistent", persistent));
+    }
+
+    HttpResponse<String> send(String method, String path, Object body) throws IOException, InterruptedException {
+        return client.send(method, path, body);
+    }
+
+    String passage(long iteration) {
+        return PASSAGES.get((int) (iteration % PASSAGES.size()));
+    }
+
+    synchronized String embeddingModelId() throws IOException, InterruptedException {
+        if (embeddingModelId == null) {
+            String connectorId = createConnector(
+                "load test embedding",
+                MockModelServer.EMBEDDINGS_PATH,
+                "{ \"input\": ${parameters.input}, \"model\": \"${parameters.model}\" }",
+                "text-embedding-3-small"
+            );
+            embeddingModelId = registerAndDeploy("load test embedding model", connectorId);
+        }
+        return embeddingModelId;
+    }
+
+    synchronized String chatModelId() throws IOException, InterruptedException {
+        if (chatModelId == null) {
+            String connectorId = createConnector(
+                "load test chat",
+                MockModelServer.CHAT_COMPLETIONS_PATH,
+                "{ \"model\": \"${parameters.model}\", \"messages\": ${parameters.messages} }",
+                "gpt-4o-mini"
+            );
+            chatModelId = registerAndDeploy("load test chat model", connectorId);
+        }
+        return chatModelId;
+    }
+
+    synchronized String ingestPipeline() throws IOException, InterruptedException {
+        if (!ingestPipeline) {
+            Map<String, Object> processor = Map
+                .of(
+                    "model_id",
+                    embeddingModelId(),
+                    "input_map",
+                    List.of(Map.of("input", "passage_text")),
+                    "output_map",
+                    List.of(Map.of("passage_embedding", "data[0].embedding"))
+                );
+            client.request("PUT", "/_ingest/pipeline/" + INGEST_PIPELINE, Map.of("processors", List.of(Map.of("ml_inference", processor))));
+            ingestPipeline = true;
+        }
+        return INGEST_PIPELINE;
+    }
+
+    synchronized String searchPipeline() throws IOException, InterruptedException {
+        if (!searchPipeline) {
+            Map<String, Object> processor = Map.of("model_id", chatModelId(), "context_field_list", List.of("passage_text"));
+            client
+                .request(
+                    "PUT",
+                    "/_search/pipeline/" + SEARCH_PIPELINE,
+                    Map.of("response_processors", List.of(Map.of("retrieval_augmented_generation", processor)))
+                );
+            searchPipeline = true;
+        }
+        return SEARCH_PIPELINE;
+    }
+
+    synchronized String searchIndex() throws IOException, InterruptedException {
+        if (!searchIndex) {
+            StringBuilder bulk = new StringBuilder();
+            for (int i = 0; i < SEARCH_DOCUMENTS; i++) {
+                bulk.append("{\"index\":{\"_index\":\"").append(SEARCH_INDEX).append("\"}}\n");
+                bulk.append(GSON.toJson(Map.of("passage_text", passage(i)))).append('\n');
+            }
+            client.request("POST", "/_bulk?refresh=true", bulk.toString());
+            searchIndex = true;
+        }
+        return SEARCH_INDEX;
+    }
+
+    synchronized String agentId() throws IOException, InterruptedException {
+        if (agentId == null) {
+            Map<String, Object> tool = Map
+                .of(
+                    "type",
+                    "MLModelTool",
+                    "parameters",
+                    Map
+                        .of(
+                            "model_id",
+                            chatModelId(),
+                            "messages",
+                            "[{\"role\": \"user\", \"content\": \"${parameters.question}\"}]",
+                            "response_field",
+                            "choices"
+                        )
+                );
+            Map<String, Object> agent = Map.of("name", "load test agent", "type", "flow", "tools", List.of(tool));
+            agentId = (String) client.request("POST", "/_plugins/_ml/agents/_register", agent).get("agent_id");
+        }
+        return agentId;
+    }
+
+    synchronized String memoryId() throws IOException, InterruptedException {
+        if (memoryId == null) {
+            memoryId = (String) client.request("POST", "/_plugins/_ml/memory", Map.of("name", "load test memory")).get("memory_id");
+        }
+        return memoryId;
+    }
+
+    /**
+     * Remove the resources created by the load test, failures are reported and skipped.
+     */
+    public synchronized void cleanup() {
+        if (agentId != null) {
+            delete("/_plugins/_ml/agents/" + agentId);
+        }
+        if (memoryId != null) {
+            delete("/_plugins/_ml/memory/" + memoryId);
+        }
+        if (searchPipeline) {
+            delete("/_search/pipeline/" + SEARCH_PIPELINE);
+        }
+        if (ingestPipeline) {
+            delete("/_ingest/pipeline/" + INGEST_PIPELINE);
+            delete("/" + INGEST_INDEX);
+        }
+        if (searchIndex) {
+            delete("/" + SEARCH_INDEX);
+        }
+        for (String modelId : new String[] { embeddingModelId, chatModelId }) {
+            if (modelId != null) {
+                try {
+                    client.request("POST", "/_plugins/_ml/models/" + modelId + "/_undeploy", null);
+                } catch (Exception e) {
+                    System.err.println("Failed to undeploy model " + modelId + ": " + e.getMessage());
+                }
+                delete("/_plugins/_ml/models/" + modelId);
+            }
+        }
+        for (String connectorId : connectorIds) {
+            delete("/_plugins/_ml/connectors/" + connectorId);
+        }
+    }
+
+    private String createConnector(String name, String path, String requestBody, String model) throws IOException,
+        InterruptedException {
+        Map<String, Object> action = Map
+            .of(
+                "action_type",
+                "predict",
+                "method",
+                "POST",
+                "url",
+                mockEndpoint + path,
+                "headers",
+                Map.of("Authorization", "Bearer ${credential.openAI_key}"),
+                "request_body",
+                requestBody
+            );
+        Map<String, Object> connector = Map
+            .of(
+                "name",
+                name,
+                "description",
+                "Connector to the mock model server of the load test",
+                "version",
+                1,
+                "protocol",
+                "http",
+                "parameters",
+                Map.of("model", model),
+                "credential",
+                Map.of("openAI_key", "mock-key"),
+                "actions",
+                List.of(action)
+            );
+        String connectorId = (String) client.request("POST", "/_plugins/_ml/connectors/_create", connector).get("connector_id");
+        connectorIds.add(connectorId);
+        return connectorId;
+    }
+
+    private String registerAndDeploy(String name, String connectorId) throws IOException, InterruptedException {
+        Map<String, Object> model = Map.of("name", name, "function_name", "remote", "connector_id", connectorId);
+        String registerTaskId = (String) client.request("POST", "/_plugins/_ml/models/_register", model).get("task_id");
+        String modelId = (String) waitForTask(registerTaskId, name).get("model_id");
+        String deployTaskId = (String) client.request("POST", "/_plugins/_ml/models/" + modelId + "/_deploy", null).get("task_id");
+        waitForTask(deployTaskId, name);
+        return modelId;
+    }
+
+    private Map<String, Object> waitForTask(String taskId, String name) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + TASK_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            Map<String, Object> task = client.request("GET", "/_plugins/_ml/tasks/" + taskId, null);
+            Object state = task.get("state");
+            if ("COMPLETED".equals(state)) {
+                return task;
+            }
+            if ("FAILED".equals(state) || "COMPLETED_WITH_ERROR".equals(state)) {
+                throw new IOException("Task " + taskId + " of " + name + " failed: " + task.get("error"));
+            }
+            Thread.sleep(500);
+        }
+        throw new IOException("Timed out waiting for task " + taskId + " of " + name);
+    }
+
+    private void delete(String path) {
+        try {
+            client.send("DELETE", path, null);
+        } catch (Exception e) {
+            System.err.println("Failed to delete " + path + ": " + e.getMessage());
+        }
+    }
+}
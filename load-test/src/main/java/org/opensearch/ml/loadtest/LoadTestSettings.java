@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * Settings of a load test run, read from {@code loadtest.*} system properties. The gradle tasks of the module pass the
+ * {@code loadtest.*} system properties of the gradle command through.
+ */
+@Getter
+public class LoadTestSettings {
+
+    static final String PREFIX = "loadtest.";
+
+    // cluster under test
+    private final String cluster;
+    private final boolean https;
+    private final String user;
+    private final String password;
+
+    // load
+    private final List<Scenario> scenarios;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int ingestBatchSize;
+    private final String resultsFile;
+
+    // mock model server
+    private final String mockHost;
+    private final int mockPort;
+    private final LatencyDistribution latency;
+    private final double throttleRate;
+    private final int embeddingDimension;
+    private final int streamChunks;
+
+    private LoadTestSettings() {
+        cluster = property("cluster", "localhost:9200");
+        https = Boolean.parseBoolean(property("https", "false"));
+        user = property("user", null);
+        password = property("password", null);
+
+        scenarios = new ArrayList<>();
+        for (String scenario : property("scenarios", "predict,ingest,search,agent,memory").split(",")) {
+            if (!scenario.isBlank()) {
+                scenarios.add(Scenario.from(scenario.trim()));
+            }
+        }
+        concurrency = intProperty("concurrency", 8);
+        warmupSeconds = intProperty("warmup", 10);
+        durationSeconds = intProperty("duration", 60);
+        ingestBatchSize = intProperty("ingestBatchSize", 10);
+        resultsFile = property("results", null);
+
+        mockHost = property("mockHost", "127.0.0.1");
+        mockPort = intProperty("mockPort", 0);
+        latency = LatencyDistribution.parse(property("latency", "lognormal:200,0.5"));
+        throttleRate = Double.parseDouble(property("throttleRate", "0"));
+        embeddingDimension = intProperty("embeddingDimension", 1536);
+        streamChunks = intProperty("streamChunks", 20);
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    public MockModelServer newMockModelServer() throws IOException {
+        return MockModelServer
+            .builder()
+            .host(mockHost)
+            .port(mockPort)
+            .latency(latency)
+            .throttleRate(throttleRate)
+            .embeddingDimension(embeddingDimension)
+            .streamChunks(streamChunks)
+            .build();
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        int value = Integer.parseInt(property(name, String.valueOf(defaultValue)));
+        if (value < 0) {
+            throw new IllegalArgumentException(PREFIX + name + " should not be negative");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.Builder;
+
+/**
+ * Local HTTP server answering like the OpenAI embeddings and chat completions APIs, so connectors can be load tested without a
+ * model provider.
+ * <p>
+ * Every request waits for a latency drawn from the configured distribution, a configured share of requests is rejected with
+ * 429 like a rate limited provider, embeddings have the configured dimension and chat completions requested with
+ * {@code "stream": true} are sent as server-sent events. Requests are handled on virtual threads, so slow answers don't limit
+ * the concurrency of the server.
+ */
+public class MockModelServer implements Closeable {
+
+    public static final String EMBEDDINGS_PATH = "/v1/embeddings";
+    public static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
+    public static final String STATS_PATH = "/stats";
+
+    static final String ANSWER = "OpenSearch runs approximate k-NN search on HNSW graphs built per segment, the query visits the graph "
+        + "of each segment and merges the nearest neighbors into the top k results.";
+    private static final String RATE_LIMIT_ERROR = "{\"error\":{\"message\":\"Rate limit reached for requests\","
+        + "\"type\":\"requests\",\"code\":\"rate_limit_exceeded\"}}";
+
+    private static final Gson GSON = new Gson();
+
+    private final LatencyDistribution latency;
+    private final double throttleRate;
+    private final int embeddingDimension;
+    private final int streamChunks;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder streamed = new LongAdder();
+
+    @Builder
+    public MockModelServer(
+        String host,
+        int port,
+        LatencyDistribution latency,
+        double throttleRate,
+        int embeddingDimension,
+        int streamChunks
+    ) throws IOException {
+        if (throttleRate < 0 || throttleRate > 1) {
+            throw new IllegalArgumentException("throttle rate should be between 0 and 1");
+        }
+        this.latency = latency == null ? LatencyDistribution.NONE : latency;
+        this.throttleRate = throttleRate;
+        this.embeddingDimension = embeddingDimension > 0 ? embeddingDimension : 1536;
+        this.streamChunks = streamChunks > 0 ? streamChunks : 20;
+        this.server = HttpServer.create(new InetSocketAddress(host == null ? "127.0.0.1" : host, port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(EMBEDDINGS_PATH, exchange -> handle(exchange, this::embeddings));
+        server.createContext(CHAT_COMPLETIONS_PATH, exchange -> handle(exchange, this::chatCompletions));
+        server.createContext(STATS_PATH, exchange -> {
+            try {
+                send(exchange, 200, GSON.toJson(stats()));
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * @return base URL of the server, like {@code http://127.0.0.1:8080}
+     */
+    public String getEndpoint() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    /**
+     * @return number of requests received, rejected with 429 and answered with server-sent events
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.sum());
+        stats.put("throttled", throttled.sum());
+        stats.put("streamed", streamed.sum());
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange, RequestHandler handler) throws IOException {
+        try {
+            requests.increment();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (throttleRate > 0 && ThreadLocalRandom.current().nextDouble() < throttleRate) {
+                throttled.increment();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                send(exchange, 429, RATE_LIMIT_ERROR);
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> request = body.isBlank() ? Map.of() : GSON.fromJson(body, Map.class);
+            handler.handle(exchange, request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            send(exchange, 400, GSON.toJson(Map.of("error", Map.of("message", String.valueOf(e.getMessage()), "type", "invalid_request"))));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void embeddings(HttpExchange exchange, Map<String, Object> request) throws IOException, InterruptedException {
+        Object input = request.get("input");
+        List<?> texts = input instanceof List ? (List<?>) input : List.of(String.valueOf(input));
+        Thread.sleep(latency.nextMillis(ThreadLocalRandom.current()));
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // a 1536 dimension embedding is about 15KB of JSON, build it without intermediate objects
+        StringBuilder response = new StringBuilder(texts.size() * embeddingDimension * 12 + 256);
+        response.append("{\"object\":\"list\",\"data\":[");
+        int tokens = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            tokens += tokens(String.valueOf(texts.get(i)));
+            if (i > 0) {
+                response.append(',');
+            }
+            response.append("{\"object\":\"embedding\",\"index\":").append(i).append(",\"embedding\":[");
+            for (int j = 0; j < embeddingDimension; j++) {
+                if (j > 0) {
+                    response.append(',');
+                }
+                response.append((random.nextFloat() - 0.5f) / 5);
+            }
+            response.append("]}");
+        }
+        response
+            .append("],\"model\":\"")
+            .append(request.getOrDefault("model", "mock-embedding"))
+            .append("\",\"usage\":{\"prompt_tokens\":")
+            .append(tokens)
+            .append(",\"total_tokens\":")
+            .append(tokens)
+            .append("}}");
+        send(exchange, 200, response.toString());
+    }
+
+    private void chatCompletions(HttpExchange exchange, Map<String, Object> request) throws IOException, InterruptedException {
+        String model = String.valueOf(request.getOrDefault("model", "mock-chat"));
+        int promptTokens = tokens(GSON.toJson(request.get("messages")));
+        int completionTokens = tokens(ANSWER);
+        long latencyMillis = latency.nextMillis(ThreadLocalRandom.current());
+        if (!Boolean.TRUE.equals(request.get("stream"))) {
+            Thread.sleep(latencyMillis);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("id", "chatcmpl-mock");
+            response.put("object", "chat.completion");
+            response.put("created", System.currentTimeMillis() / 1000);
+            response.put("model", model);
+            response
+                .put(
+                    "choices",
+                    List
+                        .of(
+                            Map
+                                .of(
+                                    "index",
+                                    0,
+                                    "message",
+                                    Map.of("role", "assistant", "content", ANSWER),
+                                    "finish_reason",
+                                    "stop"
+                                )
+                        )
+                );
+            response
+                .put(
+                    "usage",
+                    Map
+                        .of(
+                            "prompt_tokens",
+                            promptTokens,
+                            "completion_tokens",
+                            completionTokens,
+                            "total_tokens",
+                            promptTokens + completionTokens
+                        )
+                );
+            send(exchange, 200, GSON.toJson(response));
+            return;
+        }
+
+        streamed.increment();
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        String[] words = ANSWER.split(" ");
+        int chunks = Math.min(streamChunks, words.length);
+        // the latency is spread over the chunks, the first chunk arrives like the first token of a real model
+        long chunkDelay = latencyMillis / (chunks + 1);
+        OutputStream out = exchange.getResponseBody();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            Thread.sleep(chunkDelay);
+            int from = chunk * words.length / chunks;
+            int to = (chunk + 1) * words.length / chunks;
+            String content = String.join(" ", List.of(words).subList(from, to)) + (to < words.length ? " " : "");
+            Map<String, Object> delta = new LinkedHashMap<>();
+            delta.put("index", 0);
+            delta.put("delta", Map.of("content", content));
+            delta.put("finish_reason", to == words.length ? "stop" : null);
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("id", "chatcmpl-mock");
+            event.put("object", "chat.completion.chunk");
+            event.put("model", model);
+            event.put("choices", List.of(delta));
+            out.write(("data: " + GSON.toJson(event) + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+        Thread.sleep(chunkDelay);
+        out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    // rough token count of English text, like the usage reported by model providers
+    private static int tokens(String text) {
+        return Math.max(1, text.length() / 4);
+    }
+
+    @FunctionalInterface
+    private interface RequestHandler {
+        void handle(HttpExchange exchange, Map<String, Object> request) throws IOException, InterruptedException;
+    }
+
+    /**
+     * Start a mock model server configured by the {@code loadtest.*} system properties and keep it running until the JVM stops.
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        MockModelServer server = settings.newMockModelServer();
+        server.start();
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            stopped.countDown();
+        }));
+        System.out.println("Mock model server listening on " + server.getEndpoint() + " with latency " + settings.getLatency());
+        stopped.await();
+    }
+}
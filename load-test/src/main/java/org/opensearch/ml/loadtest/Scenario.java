@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ML Commons APIs driven by the load test. A scenario creates the resources it needs once, then every worker sends its
+ * request in a loop.
+ */
+public enum Scenario {
+    /**
+     * Predict with a remote embedding model.
+     */
+    PREDICT {
+        @Override
+        void setup(LoadTestFixture fixture) throws IOException, InterruptedException {
+            fixture.embeddingModelId();
+        }
+
+        @Override
+        HttpResponse<String> run(LoadTestFixture fixture, long iteration) throws IOException, InterruptedException {
+            Map<String, Object> body = Map.of("parameters", Map.of("input", List.of(fixture.passage(iteration))));
+            return fixture.send("POST", "/_plugins/_ml/models/" + fixture.embeddingModelId() + "/_predict", body);
+        }
+    },
+    /**
+     * Streaming predict with a remote chat model, the response is read until the model finishes. Needs a cluster with the
+     * streaming transport installed.
+     */
+    PREDICT_STREAM {
+        @Override
+        void setup(LoadTestFixture fixture) throws IOException, InterruptedException {
+            fixture.chatModelId();
+        }
+
+        @Override
+        HttpResponse<String> run(LoadTestFixture fixture, long iteration) throws IOException, InterruptedException {
+            Map<String, Object> body = Map
+                .of("parameters", Map.of("messages", List.of(Map.of("role", "user", "content", LoadTestFixture.QUESTION))));
+            return fixture.send("POST", "/_plugins/_ml/models/" + fixture.chatModelId() + "/_predict/stream", body);
+        }
+    },
+    /**
+     * Bulk index documents through an ingest pipeline with an ml_inference processor embedding every document.
+     */
+    INGEST {
+        @Override
+        void setup(LoadTestFixture fixture) throws IOException, InterruptedException {
+            fixture.ingestPipeline();
+        }
+
+        @Override
+        HttpResponse<String> run(LoadTestFixture fixture, long iteration) throws IOException, InterruptedException {
+            StringBuilder bulk = new StringBuilder();
+            for (int i = 0; i < fixture.getSettings().getIngestBatchSize(); i++) {
+                bulk.append("{\"index\":{\"_index\":\"").append(LoadTestFixture.INGEST_INDEX).append("\"}}\n");
+                bulk.append(LoadTestFixture.GSON.toJson(Map.of("passage_text", fixture.passage(iteration + i)))).append('\n');
+            }
+            return fixture.send("POST", "/_bulk?pipeline=" + fixture.ingestPipeline(), bulk.toString());
+        }
+
+        @Override
+        boolean succeeded(HttpResponse<String> response) {
+            // bulk answers 200 when documents fail
+            return super.succeeded(response) && !response.body().contains("\"errors\":true");
+        }
+    },
+    /**
+     * Search through a search pipeline answering the question with retrieval augmented generation.
+     */
+    SEARCH {
+        @Override
+        void setup(LoadTestFixture fixture) throws IOException, InterruptedException {
+            fixture.searchPipeline();
+            fixture.searchIndex();
+        }
+
+        @Override
+        HttpResponse<String> run(LoadTestFixture fixture, long iteration) throws IOException, InterruptedException {
+            Map<String, Object> body = Map
+                .of(
+                    "query",
+                    Map.of("match", Map.of("passage_text", "k-NN search")),
+                    "size",
+                    5,
+                    "ext",
+                    Map.of("generative_qa_parameters", Map.of("llm_model", "gpt-4o-mini", "llm_question", LoadTestFixture.QUESTION))
+                );
+            String path = "/" + fixture.searchIndex() + "/_search?search_pipeline=" + fixture.searchPipeline();
+            return fixture.send("POST", path, body);
+        }
+    },
+    /**
+     * Execute a flow agent calling the chat model with a model tool.
+     */
+    AGENT {
+        @Override
+        void setup(LoadTestFixture fixture) throws IOException, InterruptedException {
+            fixture.agentId();
+        }
+
+        @Override
+        HttpResponse<String> run(LoadTestFixture fixture, long iteration) throws IOException, InterruptedException {
+            Map<String, Object> body = Map.of("parameters", Map.of("question", LoadTestFixture.QUESTION));
+            return fixture.send("POST", "/_plugins/_ml/agents/" + fixture.agentId() + "/_execute", body);
+        }
+    },
+    /**
+     * Add messages to a conversation memory and read the latest messages, alternately.
+     */
+    MEMORY {
+        @Override
+        void setup(LoadTestFixture fixture) throws IOException, InterruptedException {
+            fixture.memoryId();
+        }
+
+        @Override
+        HttpResponse<String> run(LoadTestFixture fixture, long iteration) throws IOException, InterruptedException {
+            String path = "/_plugins/_ml/memory/" + fixture.memoryId() + "/messages";
+            if (iteration % 2 == 0) {
+                Map<String, Object> body = Map.of("input", LoadTestFixture.QUESTION, "response", MockModelServer.ANSWER);
+                return fixture.send("POST", path, body);
+            }
+            return fixture.send("GET", path + "?max_results=10", null);
+        }
+    };
+
+    /**
+     * Create the resources of the scenario.
+     */
+    abstract void setup(LoadTestFixture fixture) throws IOException, InterruptedException;
+
+    /**
+     * Send one request of the scenario.
+     * @param fixture resources of the load test
+     * @param iteration number of the request in the worker, to vary the requests
+     * @return response of the request
+     */
+    abstract HttpResponse<String> run(LoadTestFixture fixture, long iteration) throws IOException, InterruptedException;
+
+    public static Scenario from(String value) {
+        try {
+            return Scenario.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Wrong load test scenario: " + value);
+        }
+    }
+
+    /**
+     * @param response response of a request of the scenario
+     * @return true if the request succeeded
+     */
+    boolean succeeded(HttpResponse<String> response) {
+        return response.statusCode() < 300;
+    }
+}
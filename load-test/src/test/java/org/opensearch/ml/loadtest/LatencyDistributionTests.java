@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LatencyDistributionTests {
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void testNone() {
+        assertSame(LatencyDistribution.NONE, LatencyDistribution.parse(null));
+        assertSame(LatencyDistribution.NONE, LatencyDistribution.parse("none"));
+        assertEquals(0, LatencyDistribution.NONE.nextMillis(random));
+    }
+
+    @Test
+    public void testFixed() {
+        assertEquals(120, LatencyDistribution.parse("fixed:120").nextMillis(random));
+    }
+
+    @Test
+    public void testUniform() {
+        LatencyDistribution latency = LatencyDistribution.parse("uniform:20-40");
+        for (int i = 0; i < 1000; i++) {
+            long millis = latency.nextMillis(random);
+            assertTrue(millis >= 20 && millis <= 40);
+        }
+    }
+
+    @Test
+    public void testLogNormal() {
+        LatencyDistribution latency = LatencyDistribution.parse("lognormal:200,0.5");
+        int below = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (latency.nextMillis(random) < 200) {
+                below++;
+            }
+        }
+        // half of the latencies are below the median
+        assertTrue(below > 4500 && below < 5500);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongType() {
+        LatencyDistribution.parse("gaussian:100");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongBounds() {
+        LatencyDistribution.parse("uniform:40-20");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingArguments() {
+        LatencyDistribution.parse("lognormal:200");
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyRecorderTests {
+
+    @Test
+    public void testMerge() {
+        LatencyRecorder first = new LatencyRecorder();
+        LatencyRecorder second = new LatencyRecorder();
+        for (int i = 1; i <= 2000; i++) {
+            LatencyRecorder recorder = i % 2 == 0 ? first : second;
+            recorder.record(TimeUnit.MILLISECONDS.toNanos(i), i % 100 == 0 ? 429 : 200, i % 100 != 0);
+        }
+
+        LatencyRecorder total = new LatencyRecorder();
+        total.merge(first);
+        total.merge(second);
+
+        assertEquals(2000, total.getCount());
+        assertEquals(20, total.getFailures());
+        assertEquals(Map.of(200, 1980L, 429, 20L), total.getStatuses());
+        Map<String, Double> latency = total.latencyMillis();
+        assertEquals(1000.0, latency.get("p50"), 0);
+        assertEquals(1980.0, latency.get("p99"), 0);
+        assertEquals(2000.0, latency.get("max"), 0);
+        assertEquals(1000.5, latency.get("mean"), 0);
+    }
+
+    @Test
+    public void testEmpty() {
+        Map<String, Double> latency = new LatencyRecorder().latencyMillis();
+
+        assertEquals(0.0, latency.get("p99.9"), 0);
+        assertEquals(0.0, latency.get("max"), 0);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+public class MockModelServerTests {
+
+    private final Gson gson = new Gson();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private MockModelServer server;
+
+    @After
+    public void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEmbeddings() throws Exception {
+        server = MockModelServer.builder().embeddingDimension(8).build();
+        server.start();
+
+        HttpResponse<String> response = post(MockModelServer.EMBEDDINGS_PATH, "{\"input\": [\"hello\", \"world\"], \"model\": \"m\"}");
+
+        assertEquals(200, response.statusCode());
+        List<Map<String, Object>> data = (List<Map<String, Object>>) gson.fromJson(response.body(), Map.class).get("data");
+        assertEquals(2, data.size());
+        assertEquals(8, ((List<?>) data.get(1).get("embedding")).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testChatCompletions() throws Exception {
+        server = MockModelServer.builder().latency(LatencyDistribution.parse("fixed:5")).build();
+        server.start();
+
+        HttpResponse<String> response = post(MockModelServer.CHAT_COMPLETIONS_PATH, "{\"messages\": [{\"role\": \"user\"}]}");
+
+        assertEquals(200, response.statusCode());
+        List<Map<String, Object>> choices = (List<Map<String, Object>>) gson.fromJson(response.body(), Map.class).get("choices");
+        assertEquals(MockModelServer.ANSWER, ((Map<String, Object>) choices.get(0).get("message")).get("content"));
+    }
+
+    @Test
+    public void testStreamChatCompletions() throws Exception {
+        server = MockModelServer.builder().streamChunks(4).build();
+        server.start();
+
+        HttpResponse<String> response = post(MockModelServer.CHAT_COMPLETIONS_PATH, "{\"messages\": [], \"stream\": true}");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("text/event-stream", response.headers().firstValue("Content-Type").orElse(null));
+        List<String> events = List.of(response.body().split("\n\n"));
+        assertEquals(5, events.size());
+        assertEquals("data: [DONE]", events.get(4));
+        assertEquals(1L, server.stats().get("streamed"));
+    }
+
+    @Test
+    public void testThrottle() throws Exception {
+        server = MockModelServer.builder().throttleRate(1).build();
+        server.start();
+
+        HttpResponse<String> response = post(MockModelServer.EMBEDDINGS_PATH, "{\"input\": \"hello\"}");
+
+        assertEquals(429, response.statusCode());
+        assertTrue(response.body().contains("rate_limit_exceeded"));
+        assertEquals(1L, server.stats().get("requests"));
+        assertEquals(1L, server.stats().get("throttled"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongThrottleRate() throws Exception {
+        MockModelServer.builder().throttleRate(1.5).build();
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest
+            .newBuilder(URI.create(server.getEndpoint() + path))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
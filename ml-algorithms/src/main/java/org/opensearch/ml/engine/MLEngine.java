@@ -173,6 +173,20 @@ public class MLEngine {
         return predictable.predict(mlInput, model);
     }
 
+    /**
+     * Predict with a model which was already loaded into memory with {@link #deploy(MLModel, Map)}.
+     * @param input predict input
+     * @param predictable predictable with model loaded
+     * @return predicted results
+     */
+    public MLOutput predictWithLoadedModel(Input input, Predictable predictable) {
+        validateMLInput(input);
+        if (predictable == null || !predictable.isModelReady()) {
+            throw new IllegalArgumentException("Model not loaded");
+        }
+        return predictable.predict((MLInput) input);
+    }
+
     public MLOutput trainAndPredict(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
@@ -15,6 +15,7 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.agent.MLToolSpec;
 import org.opensearch.ml.common.contextmanager.ContextManagerContext;
+import org.opensearch.ml.common.contextmanager.TokenCounter;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.hooks.HookRegistry;
 import org.opensearch.ml.common.hooks.PostMemoryEvent;
@@ -24,11 +25,18 @@ import org.opensearch.ml.common.hooks.PreLLMEvent;
 import org.opensearch.ml.common.input.execute.agent.Message;
 import org.opensearch.ml.common.memory.Memory;
 import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.ml.engine.analysis.HFTokenCounter;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
 
 public class AgentContextUtil {
     private static final Logger log = LogManager.getLogger(AgentContextUtil.class);
 
+    /**
+     * Agent parameter naming the built-in tokenizer used to count context tokens, e.g. bert-uncased.
+     * The character based estimate is used when it is not set.
+     */
+    public static final String CONTEXT_TOKENIZER = "context_tokenizer";
+
     public static ContextManagerContext buildContextManagerContextForToolOutput(
         String toolOutput,
         Map<String, String> parameters,
@@ -36,6 +44,7 @@ public class AgentContextUtil {
         Memory memory
     ) {
         ContextManagerContext.ContextManagerContextBuilder builder = ContextManagerContext.builder();
+        setTokenCounter(builder, parameters);
 
         String systemPrompt = parameters.get(SYSTEM_PROMPT_FIELD);
         if (systemPrompt != null) {
@@ -80,6 +89,7 @@ public class AgentContextUtil {
         Memory memory
     ) {
         ContextManagerContext.ContextManagerContextBuilder builder = ContextManagerContext.builder();
+        setTokenCounter(builder, parameters);
 
         String systemPrompt = parameters.get(SYSTEM_PROMPT_FIELD);
         if (systemPrompt != null) {
@@ -128,6 +138,7 @@ public class AgentContextUtil {
                     toolSpecs,
                     memory
                 );
+                shareTokenCounts(context, hookRegistry);
                 PostToolEvent event = new PostToolEvent(null, null, context, new HashMap<>());
                 hookRegistry.emit(event);
 
@@ -154,6 +165,7 @@ public class AgentContextUtil {
             return context;
         }
 
+        shareTokenCounts(context, hookRegistry);
         try {
             PreLLMEvent event = new PreLLMEvent(context, new HashMap<>());
             hookRegistry.emit(event);
@@ -171,6 +183,7 @@ public class AgentContextUtil {
         List<MLToolSpec> toolSpecs
     ) {
         ContextManagerContext.ContextManagerContextBuilder builder = ContextManagerContext.builder();
+        setTokenCounter(builder, parameters);
 
         String systemPrompt = parameters.get(SYSTEM_PROMPT_FIELD);
         if (systemPrompt != null) {
@@ -207,6 +220,7 @@ public class AgentContextUtil {
             return context;
         }
 
+        shareTokenCounts(context, hookRegistry);
         try {
             PostMemoryEvent event = new PostMemoryEvent(context, retrievedHistory, new HashMap<>());
             hookRegistry.emit(event);
@@ -223,6 +237,7 @@ public class AgentContextUtil {
         List<MLToolSpec> toolSpecs
     ) {
         ContextManagerContext.ContextManagerContextBuilder builder = ContextManagerContext.builder();
+        setTokenCounter(builder, parameters);
 
         String systemPrompt = parameters.get(SYSTEM_PROMPT_FIELD);
         if (systemPrompt != null) {
@@ -259,6 +274,7 @@ public class AgentContextUtil {
             return context;
         }
 
+        shareTokenCounts(context, hookRegistry);
         try {
             PostStructuredMemoryEvent event = new PostStructuredMemoryEvent(context, retrievedStructuredHistory, new HashMap<>());
             hookRegistry.emit(event);
@@ -269,6 +285,27 @@ public class AgentContextUtil {
         }
     }
 
+    private static void setTokenCounter(ContextManagerContext.ContextManagerContextBuilder builder, Map<String, String> parameters) {
+        String tokenizer = parameters.get(CONTEXT_TOKENIZER);
+        if (tokenizer == null) {
+            return;
+        }
+        TokenCounter tokenCounter = HFTokenCounter.forName(tokenizer);
+        if (tokenCounter == null) {
+            log.warn("Unknown context tokenizer {}, using character based token count", tokenizer);
+            return;
+        }
+        builder.tokenCounter(tokenCounter);
+    }
+
+    /**
+     * Share the token counts of the agent run with a context built for one of its hooks, so the prompts, messages and
+     * interactions already counted by an earlier hook are not tokenized again.
+     */
+    private static void shareTokenCounts(ContextManagerContext context, HookRegistry hookRegistry) {
+        context.setTokenCountCache(hookRegistry.getTokenCountCache(context.getTokenCounter()));
+    }
+
     /**
      * Ensure _llm_model_id is available in params for context managers (e.g. SummarizationManager).
      * Prefers getLlm() (registered connector model) over getModel() (raw provider model ID).
@@ -44,6 +44,16 @@ public abstract class TextEmbeddingModel extends DLModel {
             if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
                 AsymmetricTextEmbeddingParameters params = (AsymmetricTextEmbeddingParameters) mlParams;
                 input.add(AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD, params.getSparseEmbeddingFormat().name());
+                if (params.getSparsePruneTopK() != null) {
+                    input.add(AsymmetricTextEmbeddingParameters.SPARSE_PRUNE_TOP_K_FIELD, String.valueOf(params.getSparsePruneTopK()));
+                }
+                if (params.getSparseWeightQuantization() != null) {
+                    input
+                        .add(
+                            AsymmetricTextEmbeddingParameters.SPARSE_WEIGHT_QUANTIZATION_FIELD,
+                            String.valueOf(params.getSparseWeightQuantization())
+                        );
+                }
             }
 
             output = getPredictor().predict(input);
@@ -91,6 +91,7 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.agent.MLMemorySpec;
 import org.opensearch.ml.common.agent.MLToolSpec;
+import org.opensearch.ml.common.connector.AbstractConnector;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.connector.McpConnector;
@@ -104,6 +105,7 @@ import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.MLEngineClassLoader;
+import org.opensearch.ml.engine.algorithms.remote.AbstractConnectorExecutor;
 import org.opensearch.ml.engine.algorithms.remote.McpConnectorExecutor;
 import org.opensearch.ml.engine.algorithms.remote.McpStreamableHttpConnectorExecutor;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -156,6 +158,12 @@ public class AgentUtils {
     public static final String TOOL_CALLS_TOOL_INPUT = "tool_calls.tool_input";
     public static final String TOOL_CALL_ID_PATH = "tool_calls.id_path";
     public static final String TOKEN_USAGE_PATH = "token_usage_path";
+    // Max number of tool calls from one LLM response which are run concurrently, 1 runs only the first tool call
+    public static final String MAX_PARALLEL_TOOL_CALLS = "max_parallel_tool_calls";
+    // Timeout of each tool call run concurrently with other tool calls, 0 means no timeout
+    public static final String TOOL_CALL_TIMEOUT_SECONDS = "tool_call_timeout_seconds";
+    // Key in parsed LLM output of all tool calls to run concurrently, as json list
+    public static final String PARALLEL_TOOL_CALLS = "parallel_tool_calls";
     private static final String NAME = "name";
     private static final String DESCRIPTION = "description";
     private static final Pattern ADDITIONAL_PROPERTIES_PATTERN = Pattern
@@ -415,6 +423,24 @@ public class AgentUtils {
         Set<String> inputTools,
         List<String> interactions,
         FunctionCalling functionCalling
+    ) {
+        return parseLLMOutput(parameters, tmpModelTensorOutput, llmResponsePatterns, inputTools, interactions, functionCalling, 1);
+    }
+
+    /**
+     * Parse LLM output to thought, action, action input or final answer.
+     * With function calling, if the LLM returns multiple tool calls and maxParallelToolCalls is greater than 1, all tool calls
+     * are kept in the assistant message and returned as json list under {@link #PARALLEL_TOOL_CALLS}, so they can be run
+     * concurrently. Otherwise only the first tool call is kept.
+     */
+    public static Map<String, String> parseLLMOutput(
+        Map<String, String> parameters,
+        ModelTensorOutput tmpModelTensorOutput,
+        List<String> llmResponsePatterns,
+        Set<String> inputTools,
+        List<String> interactions,
+        FunctionCalling functionCalling,
+        int maxParallelToolCalls
     ) {
         // TODO: Handle Function calling in a different function
         Map<String, String> modelOutput = new HashMap<>();
@@ -466,14 +492,17 @@ public class AgentUtils {
                     String toolName = "";
                     String toolInput = "";
                     String toolCallId = "";
+                    List<Map<String, String>> parallelToolCalls = null;
                     if (functionCalling != null) {
                         toolCalls = functionCalling.handle(tmpModelTensorOutput, parameters);
-                        // TODO: support multiple tool calls here
                         if (!toolCalls.isEmpty()) {
                             toolName = toolCalls.getFirst().get("tool_name");
                             toolInput = toolCalls.getFirst().get("tool_input");
                             toolCallId = toolCalls.getFirst().get("tool_call_id");
                         }
+                        if (maxParallelToolCalls > 1 && toolCalls.size() > 1) {
+                            parallelToolCalls = matchParallelToolCalls(toolCalls, inputTools);
+                        }
                     } else {
                         String toolCallsPath = parameters.get(TOOL_CALLS_PATH);
                         if (toolCallsPath.startsWith("_llm_response.")) {
@@ -495,7 +524,7 @@ public class AgentUtils {
                         if (toolCallsMsgExcludePath != null) {
                             workingDataAsMap = removeJsonPath(dataAsMap, toolCallsMsgExcludePath, false);
                         }
-                        if (functionCalling != null) {
+                        if (functionCalling != null && parallelToolCalls == null) {
                             workingDataAsMap = functionCalling.filterToFirstToolCall(workingDataAsMap, parameters);
                         }
                         Object toolCallsMsg = JsonPath.read(workingDataAsMap, toolCallsMsgPath);
@@ -514,6 +543,9 @@ public class AgentUtils {
                     modelOutput.put(ACTION, toolName);
                     modelOutput.put(ACTION_INPUT, toolInput);
                     modelOutput.put(TOOL_CALL_ID, toolCallId);
+                    if (parallelToolCalls != null) {
+                        modelOutput.put(PARALLEL_TOOL_CALLS, StringUtils.toJson(parallelToolCalls));
+                    }
                 } catch (PathNotFoundException e) {
                     if (StringUtils.isJson(response.toString())) {
                         Map<String, Object> llmResponse = StringUtils.fromJson(response.toString(), RESPONSE_FIELD);
@@ -557,6 +589,24 @@ public class AgentUtils {
         return modelOutput;
     }
 
+    /**
+     * Match tool names of all tool calls from one LLM response with the agent tools.
+     * @return tool calls with matched tool names, or null if any tool is unknown, then only the first tool call is run
+     */
+    private static List<Map<String, String>> matchParallelToolCalls(List<Map<String, String>> toolCalls, Set<String> inputTools) {
+        List<Map<String, String>> matchedToolCalls = new ArrayList<>();
+        for (Map<String, String> toolCall : toolCalls) {
+            String matchedTool = getMatchedTool(inputTools, toolCall.get("tool_name"));
+            if (matchedTool == null) {
+                return null;
+            }
+            Map<String, String> matchedToolCall = new HashMap<>(toolCall);
+            matchedToolCall.put("tool_name", matchedTool);
+            matchedToolCalls.add(matchedToolCall);
+        }
+        return matchedToolCalls;
+    }
+
     private static String postFilterFinalAnswer(Map<String, String> parameters, Map<String, Object> llmResponse) {
         String filter = parameters.get(LLM_FINAL_RESPONSE_POST_FILTER);
         if (filter != null) {
@@ -806,6 +856,7 @@ public class AgentUtils {
         Client client,
         SdkClient sdkClient,
         Encryptor encryptor,
+        McpToolSpecCache toolSpecCache,
         ActionListener<List<MLToolSpec>> listener
     ) {
         List<MLToolSpec> configuredToolSpecs = getMlToolSpecs(mlAgent, params);
@@ -820,7 +871,7 @@ public class AgentUtils {
             listener.onResponse(configuredToolSpecs);
             return;
         }
-        getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, ActionListener.wrap(mcpToolSpecs -> {
+        getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, toolSpecCache, ActionListener.wrap(mcpToolSpecs -> {
             // If several connectors expose a tool with the same name, it picks the first one from the
             // configured mcp connectors.
             Map<String, MLToolSpec> mcpToolSpecMap = mcpToolSpecs
@@ -885,11 +936,21 @@ public class AgentUtils {
         }, listener::onFailure));
     }
 
+    /**
+     * Get the tool specs of the MCP connectors configured in an agent.
+     * @param mlAgent agent
+     * @param client client
+     * @param sdkClient sdk client
+     * @param encryptor encryptor decrypting the connector credentials
+     * @param toolSpecCache node-level cache of MCP tool specs, null to always list tools from the MCP servers
+     * @param finalListener listener of the tool specs of all connectors
+     */
     public static void getMcpToolSpecs(
         MLAgent mlAgent,
         Client client,
         SdkClient sdkClient,
         Encryptor encryptor,
+        McpToolSpecCache toolSpecCache,
         ActionListener<List<MLToolSpec>> finalListener
     ) {
         String tenantId = mlAgent.getTenantId();
@@ -918,7 +979,7 @@ public class AgentUtils {
             Map<String, String> toolDescriptionOverrides = toStringMap(mcpConnectorConfig.get(TOOL_DESCRIPTIONS_FIELD));
 
             try {
-                getMCPToolSpecsFromConnector(connectorId, tenantId, sdkClient, client, encryptor, ActionListener.wrap(mcpToolspecs -> {
+                ActionListener<List<MLToolSpec>> connectorListener = ActionListener.wrap(mcpToolspecs -> {
                     try {
                         List<MLToolSpec> filteredTools;
                         if (toolFilters == null || toolFilters.isEmpty()) {
@@ -955,7 +1016,8 @@ public class AgentUtils {
                 }, e -> {
                     log.error("Error processing connector: " + connectorId, e);
                     completeIfLast(remainingConnectors, toolNameToConnectorIds, finalToolSpecs, finalListener);
-                }));
+                });
+                getMCPToolSpecsFromConnector(connectorId, tenantId, sdkClient, client, encryptor, toolSpecCache, connectorListener);
             } catch (Throwable t) {
                 // Catch synchronous throws (including Errors) so one bad connector can't strand the counter.
                 log.error("Synchronous failure initiating MCP tool spec lookup for connector: " + connectorId, t);
@@ -1112,19 +1174,22 @@ public class AgentUtils {
         SdkClient sdkClient,
         Client client,
         Encryptor encryptor,
+        McpToolSpecCache toolSpecCache,
         ActionListener<List<MLToolSpec>> toolListener
     ) {
-        getMCPToolSpecsFromConnector(connectorId, tenantId, sdkClient, client, encryptor, toolListener, false);
+        getMCPToolSpecsFromConnector(connectorId, tenantId, sdkClient, client, encryptor, toolSpecCache, toolListener, false);
     }
 
     /**
-     * Strict version of MCP tool listing for explicit user-facing APIs. This API will propagate the failures to the listener
+     * Strict version of MCP tool listing for explicit user-facing APIs. Tools are always listed from the MCP server and
+     * refresh the cached tool specs of the connector.
      *
      * @param connectorId
      * @param tenantId
      * @param sdkClient
      * @param client
      * @param encryptor
+     * @param toolSpecCache node-level cache of MCP tool specs, may be null
      * @param toolListener
      */
     public static void getMCPToolSpecsFromConnectorWithPropagatingFailures(
@@ -1133,9 +1198,10 @@ public class AgentUtils {
         SdkClient sdkClient,
         Client client,
         Encryptor encryptor,
+        McpToolSpecCache toolSpecCache,
         ActionListener<List<MLToolSpec>> toolListener
     ) {
-        getMCPToolSpecsFromConnector(connectorId, tenantId, sdkClient, client, encryptor, toolListener, true);
+        getMCPToolSpecsFromConnector(connectorId, tenantId, sdkClient, client, encryptor, toolSpecCache, toolListener, true);
     }
 
     private static void getMCPToolSpecsFromConnector(
@@ -1144,6 +1210,7 @@ public class AgentUtils {
         SdkClient sdkClient,
         Client client,
         Encryptor encryptor,
+        McpToolSpecCache toolSpecCache,
         ActionListener<List<MLToolSpec>> toolListener,
         boolean isPropagatingFailures
     ) {
@@ -1159,6 +1226,21 @@ public class AgentUtils {
                     }
                     return;
                 }
+                // Agent runs reuse the tool specs and MCP session cached on this node, the strict path used by the list tools
+                // API always lists tools from the MCP server and refreshes the cache. Requests carrying their own MCP headers
+                // get a session of their own.
+                Instant lastUpdateTime = ((AbstractConnector) connector).getLastUpdateTime();
+                boolean cacheable = client != null
+                    && toolSpecCache != null
+                    && toolSpecCache.isEnabled()
+                    && !AbstractConnectorExecutor.hasMcpRequestHeaders(client.threadPool().getThreadContext());
+                if (cacheable && !isPropagatingFailures) {
+                    List<MLToolSpec> cachedToolSpecs = toolSpecCache.get(tenantId, connectorId, lastUpdateTime);
+                    if (cachedToolSpecs != null) {
+                        toolListener.onResponse(cachedToolSpecs);
+                        return;
+                    }
+                }
                 ActionListener<Boolean> decryptSuccessfulListener = ActionListener.wrap(r -> {
                     List<MLToolSpec> mcpToolSpecs;
                     if (client == null) {
@@ -1170,19 +1252,23 @@ public class AgentUtils {
                             .initInstance(connector.getProtocol(), connector, Connector.class);
                         connectorExecutor.setClient(client);
                         mcpToolSpecs = connectorExecutor.getMcpToolSpecs();
-                        toolListener.onResponse(mcpToolSpecs);
-                        return;
-                    }
-                    if (connector instanceof McpStreamableHttpConnector) {
+                    } else {
                         McpStreamableHttpConnectorExecutor connectorExecutor = MLEngineClassLoader
                             .initInstance(connector.getProtocol(), connector, Connector.class);
                         connectorExecutor.setClient(client);
                         mcpToolSpecs = connectorExecutor.getMcpToolSpecs();
-                        toolListener.onResponse(mcpToolSpecs);
-                        return;
                     }
+                    if (cacheable) {
+                        toolSpecCache.put(tenantId, connectorId, lastUpdateTime, mcpToolSpecs, client);
+                    }
+                    toolListener.onResponse(mcpToolSpecs);
                 }, e -> {
                     log.error("Failed to decrypt credentials in connector", e);
+                    if (cacheable) {
+                        // the tools of the connector can't be listed or its MCP server can't be reached, so the tools and
+                        // session cached before are dropped too
+                        toolSpecCache.invalidate(tenantId, connectorId);
+                    }
                     toolListener.onFailure(e);
                 });
                 connector.decrypt("", encryptor::decrypt, tenantId, decryptSuccessfulListener);
@@ -1357,24 +1443,30 @@ public class AgentUtils {
         return toolParams;
     }
 
-    public static void cleanUpResource(Map<String, Tool> tools) {
+    /**
+     * Closes the MCP sync clients of MCP tools, except the sessions owned by the tool spec cache.
+     * @param tools tools of an agent run
+     * @param toolSpecCache node-level cache of MCP tool specs, may be null
+     */
+    public static void cleanUpResource(Map<String, Tool> tools, McpToolSpecCache toolSpecCache) {
         for (Map.Entry<String, Tool> entry : tools.entrySet()) {
             Tool tool = entry.getValue();
             if (tool instanceof McpSseTool) {
                 // TODO: make this more general, avoid checking specific tool type
-                ((McpSseTool) tool).getMcpSyncClient().closeGracefully();
+                closeMcpClient(((McpSseTool) tool).getMcpSyncClient(), toolSpecCache);
             } else if (tool instanceof McpStreamableHttpTool) {
                 // TODO: make this more general, avoid checking specific tool type
-                ((McpStreamableHttpTool) tool).getMcpSyncClient().closeGracefully();
+                closeMcpClient(((McpStreamableHttpTool) tool).getMcpSyncClient(), toolSpecCache);
             }
         }
     }
 
     /**
-     * Closes MCP sync clients held in {@link MLToolSpec} runtime resources.
-     * @param toolSpecs
+     * Closes MCP sync clients held in {@link MLToolSpec} runtime resources, except the sessions owned by the tool spec cache.
+     * @param toolSpecs tool specs of an agent run
+     * @param toolSpecCache node-level cache of MCP tool specs, may be null
      */
-    public static void cleanUpResource(List<MLToolSpec> toolSpecs) {
+    public static void cleanUpResource(List<MLToolSpec> toolSpecs, McpToolSpecCache toolSpecCache) {
         if (toolSpecs == null || toolSpecs.isEmpty()) {
             return;
         }
@@ -1382,12 +1474,19 @@ public class AgentUtils {
             if (toolSpec != null && toolSpec.getRuntimeResources() != null) {
                 Object client = toolSpec.getRuntimeResources().get(MCP_SYNC_CLIENT);
                 if (client instanceof McpSyncClient mcpSyncClient) {
-                    mcpSyncClient.closeGracefully();
+                    closeMcpClient(mcpSyncClient, toolSpecCache);
                 }
             }
         }
     }
 
+    // sessions cached by McpToolSpecCache are shared by agent runs and closed by the cache
+    private static void closeMcpClient(McpSyncClient mcpSyncClient, McpToolSpecCache toolSpecCache) {
+        if (mcpSyncClient != null && (toolSpecCache == null || !toolSpecCache.isCachedClient(mcpSyncClient))) {
+            mcpSyncClient.closeGracefully();
+        }
+    }
+
     /**
      * Generates a formatted current date and time string in UTC timezone.
      * 
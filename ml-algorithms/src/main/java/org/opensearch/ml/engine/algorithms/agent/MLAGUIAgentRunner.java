@@ -47,6 +47,8 @@ public class MLAGUIAgentRunner implements MLAgentRunner {
     private final Map<String, Memory.Factory> memoryFactoryMap;
     private final SdkClient sdkClient;
     private final Encryptor encryptor;
+    // null if MCP tool specs are listed from the MCP servers on every run
+    private final McpToolSpecCache mcpToolSpecCache;
     private final HookRegistry hookRegistry;
 
     public MLAGUIAgentRunner(
@@ -72,6 +74,21 @@ public class MLAGUIAgentRunner implements MLAgentRunner {
         SdkClient sdkClient,
         Encryptor encryptor,
         HookRegistry hookRegistry
+    ) {
+        this(client, settings, clusterService, xContentRegistry, toolFactories, memoryFactoryMap, sdkClient, encryptor, hookRegistry, null);
+    }
+
+    public MLAGUIAgentRunner(
+        Client client,
+        Settings settings,
+        ClusterService clusterService,
+        NamedXContentRegistry xContentRegistry,
+        Map<String, Tool.Factory> toolFactories,
+        Map<String, Memory.Factory> memoryFactoryMap,
+        SdkClient sdkClient,
+        Encryptor encryptor,
+        HookRegistry hookRegistry,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         this.client = client;
         this.settings = settings;
@@ -82,6 +99,7 @@ public class MLAGUIAgentRunner implements MLAgentRunner {
         this.sdkClient = sdkClient;
         this.encryptor = encryptor;
         this.hookRegistry = hookRegistry;
+        this.mcpToolSpecCache = mcpToolSpecCache;
     }
 
     @Override
@@ -119,7 +137,8 @@ public class MLAGUIAgentRunner implements MLAgentRunner {
                 memoryFactoryMap,
                 sdkClient,
                 encryptor,
-                hookRegistry
+                hookRegistry,
+                mcpToolSpecCache
             );
 
             // Execute with streaming - events are generated in RestMLExecuteStreamAction
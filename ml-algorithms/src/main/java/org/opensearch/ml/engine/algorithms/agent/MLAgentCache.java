@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_AGENT_CACHE_MAX_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_AGENT_CACHE_TTL_MINUTES;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.agent.MLAgent;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node-local cache of parsed agent definitions, so agent execution doesn't read and parse the agent document on every run.
+ * Cached agents are shared by concurrent runs and must be treated as read-only.
+ * <p>
+ * Agent update and delete broadcast an invalidation to all nodes. An agent read from the index while an invalidation happens
+ * is not cached, see {@link #getVersion()}, and the TTL bounds how long a node that missed the invalidation serves a stale agent.
+ */
+@Log4j2
+public class MLAgentCache {
+
+    private final Cache<String, MLAgent> agents;
+    private final boolean enabled;
+    // bumped on every invalidation, agents read before an invalidation are not cached
+    private final AtomicLong version = new AtomicLong();
+
+    public MLAgentCache(Settings settings) {
+        int maxSize = ML_COMMONS_AGENT_CACHE_MAX_SIZE.get(settings);
+        this.enabled = maxSize > 0;
+        this.agents = CacheBuilder
+            .newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ML_COMMONS_AGENT_CACHE_TTL_MINUTES.get(settings), TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Get cached agent.
+     * @param tenantId tenant id
+     * @param agentId agent id
+     * @return cached agent, null if the agent is not cached
+     */
+    public MLAgent get(String tenantId, String agentId) {
+        if (!enabled || agentId == null) {
+            return null;
+        }
+        return agents.getIfPresent(key(tenantId, agentId));
+    }
+
+    /**
+     * Version of the cache to pass to {@link #put(String, String, MLAgent, long)}, read before the agent is read from the index.
+     * @return current version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Cache an agent read from the index.
+     * @param tenantId tenant id
+     * @param agentId agent id
+     * @param mlAgent parsed agent
+     * @param readVersion cache version read before the agent was read from the index
+     */
+    public void put(String tenantId, String agentId, MLAgent mlAgent, long readVersion) {
+        if (!enabled || agentId == null || mlAgent == null) {
+            return;
+        }
+        String key = key(tenantId, agentId);
+        agents.put(key, mlAgent);
+        // the agent may have been updated after it was read, drop it rather than serve the old version until the TTL
+        if (version.get() != readVersion) {
+            agents.invalidate(key);
+            return;
+        }
+        log.debug("Cached agent {}", agentId);
+    }
+
+    /**
+     * Remove agent from cache.
+     * @param tenantId tenant id
+     * @param agentId agent id
+     */
+    public void invalidate(String tenantId, String agentId) {
+        if (agentId == null) {
+            return;
+        }
+        version.incrementAndGet();
+        agents.invalidate(key(tenantId, agentId));
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        agents.invalidateAll();
+    }
+
+    public long size() {
+        return agents.size();
+    }
+
+    public CacheStats stats() {
+        return agents.stats();
+    }
+
+    private static String key(String tenantId, String agentId) {
+        return tenantId == null ? agentId : tenantId + ":" + agentId;
+    }
+}
@@ -148,6 +148,10 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
     private volatile Boolean isMultiTenancyEnabled;
     private Encryptor encryptor;
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    // null if agents are read from the agent index on every execution
+    private MLAgentCache agentCache;
+    // null if MCP tool specs are listed from the MCP servers on every run
+    private McpToolSpecCache mcpToolSpecCache;
 
     public MLAgentExecutor(
         Client client,
@@ -159,6 +163,34 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
         Map<String, Memory.Factory> memoryFactoryMap,
         MLFeatureEnabledSetting mlFeatureEnabledSetting,
         Encryptor encryptor
+    ) {
+        this(
+            client,
+            sdkClient,
+            settings,
+            clusterService,
+            xContentRegistry,
+            toolFactories,
+            memoryFactoryMap,
+            mlFeatureEnabledSetting,
+            encryptor,
+            null,
+            null
+        );
+    }
+
+    public MLAgentExecutor(
+        Client client,
+        SdkClient sdkClient,
+        Settings settings,
+        ClusterService clusterService,
+        NamedXContentRegistry xContentRegistry,
+        Map<String, Tool.Factory> toolFactories,
+        Map<String, Memory.Factory> memoryFactoryMap,
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        Encryptor encryptor,
+        MLAgentCache agentCache,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         this.client = client;
         this.sdkClient = sdkClient;
@@ -169,6 +201,8 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
         this.memoryFactoryMap = memoryFactoryMap;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
         this.encryptor = encryptor;
+        this.agentCache = agentCache;
+        this.mcpToolSpecCache = mcpToolSpecCache;
         this.isMultiTenancyEnabled = mlFeatureEnabledSetting.isMultiTenancyEnabled();
     }
 
@@ -185,7 +219,6 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
         AgentMLInput agentMLInput = (AgentMLInput) input;
         String agentId = agentMLInput.getAgentId();
         String tenantId = agentMLInput.getTenantId();
-        Boolean isAsync = agentMLInput.getIsAsync();
 
         if (agentMLInput.getInputDataset() == null && !agentMLInput.hasStandardInput()) {
             throw new IllegalArgumentException("Agent input data can not be empty.");
@@ -204,6 +237,38 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
         List<ModelTensor> modelTensors = new ArrayList<>();
         outputs.add(ModelTensors.builder().mlModelTensors(modelTensors).build());
 
+        if (!MLIndicesHandler.doesMultiTenantIndexExist(clusterService, mlFeatureEnabledSetting.isMultiTenancyEnabled(), ML_AGENT_INDEX)) {
+            logAgentExecutionFailure("unknown", agentId, tenantId, 0, String.valueOf(RestStatus.NOT_FOUND.getStatus()));
+            listener.onFailure(new ResourceNotFoundException("Agent index not found"));
+            return;
+        }
+
+        getAgent(agentId, tenantId, ActionListener.wrap(mlAgent -> {
+            try {
+                runAgent(agentMLInput, mlAgent, outputs, modelTensors, listener, channel);
+            } catch (Exception e) {
+                log.error("Failed to parse ml agent. agentId={}, tenantId={}", agentId, tenantId, e);
+                logAgentExecutionFailure("unknown", agentId, tenantId, 0, extractStatusCode(e));
+                listener.onFailure(e);
+            }
+        }, listener::onFailure));
+    }
+
+    /**
+     * Get the agent from the node-local agent cache, or read it from the agent index and cache it.
+     * Failures are logged as agent execution failures before they are passed to the listener.
+     */
+    private void getAgent(String agentId, String tenantId, ActionListener<MLAgent> listener) {
+        if (agentCache != null) {
+            MLAgent cachedAgent = agentCache.get(tenantId, agentId);
+            if (cachedAgent != null) {
+                log.debug("Use cached agent {}", agentId);
+                listener.onResponse(cachedAgent);
+                return;
+            }
+        }
+        long cacheVersion = agentCache != null ? agentCache.getVersion() : 0;
+
         FetchSourceContext fetchSourceContext = new FetchSourceContext(true, Strings.EMPTY_ARRAY, Strings.EMPTY_ARRAY);
         GetDataObjectRequest getDataObjectRequest = GetDataObjectRequest
             .builder()
@@ -213,371 +278,290 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
             .fetchSourceContext(fetchSourceContext)
             .build();
 
-        if (MLIndicesHandler.doesMultiTenantIndexExist(clusterService, mlFeatureEnabledSetting.isMultiTenancyEnabled(), ML_AGENT_INDEX)) {
-            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-                sdkClient
-                    .getDataObjectAsync(getDataObjectRequest, client.threadPool().executor("opensearch_ml_general"))
-                    .whenComplete((response, throwable) -> {
-                        context.restore();
-                        log.debug("Completed Get Agent Request, Agent id:{}", agentId);
-                        if (throwable != null) {
-                            Exception cause = SdkClientUtils.unwrapAndConvertToException(throwable);
-                            if (ExceptionsHelper.unwrap(cause, IndexNotFoundException.class) != null) {
-                                log.error("Failed to get Agent index. agentId={}, tenantId={}", agentId, tenantId, cause);
-                                logAgentExecutionFailure("unknown", agentId, tenantId, 0, String.valueOf(RestStatus.NOT_FOUND.getStatus()));
-                                listener.onFailure(new OpenSearchStatusException("Failed to get agent index", RestStatus.NOT_FOUND));
-                            } else {
-                                log.error("Failed to get ML Agent. agentId={}, tenantId={}", agentId, tenantId, cause);
-                                logAgentExecutionFailure("unknown", agentId, tenantId, 0, extractStatusCode(cause));
-                                listener.onFailure(cause);
-                            }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient
+                .getDataObjectAsync(getDataObjectRequest, client.threadPool().executor("opensearch_ml_general"))
+                .whenComplete((response, throwable) -> {
+                    context.restore();
+                    log.debug("Completed Get Agent Request, Agent id:{}", agentId);
+                    if (throwable != null) {
+                        Exception cause = SdkClientUtils.unwrapAndConvertToException(throwable);
+                        if (ExceptionsHelper.unwrap(cause, IndexNotFoundException.class) != null) {
+                            log.error("Failed to get Agent index. agentId={}, tenantId={}", agentId, tenantId, cause);
+                            logAgentExecutionFailure("unknown", agentId, tenantId, 0, String.valueOf(RestStatus.NOT_FOUND.getStatus()));
+                            listener.onFailure(new OpenSearchStatusException("Failed to get agent index", RestStatus.NOT_FOUND));
                         } else {
-                            try {
-                                GetResponse getAgentResponse = response.parser() == null
-                                    ? null
-                                    : GetResponse.fromXContent(response.parser());
-                                if (getAgentResponse != null && getAgentResponse.isExists()) {
-                                    try (
-                                        XContentParser parser = jsonXContent
-                                            .createParser(
-                                                xContentRegistry,
-                                                LoggingDeprecationHandler.INSTANCE,
-                                                getAgentResponse.getSourceAsString()
-                                            )
-                                    ) {
-                                        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
-                                        MLAgent mlAgent = MLAgent.parse(parser);
-                                        // Use existing HookRegistry from AgentMLInput if available (set by MLExecuteTaskRunner for template
-                                        // references)
-                                        // Otherwise create a fresh HookRegistry for agent execution
-                                        final HookRegistry hookRegistry = agentMLInput.getHookRegistry() != null
-                                            ? agentMLInput.getHookRegistry()
-                                            : new HookRegistry();
-                                        if (isMultiTenancyEnabled && !Objects.equals(tenantId, mlAgent.getTenantId())) {
-                                            logAgentExecutionFailure(
-                                                mlAgent.getType(),
-                                                agentId,
-                                                tenantId,
-                                                0,
-                                                String.valueOf(RestStatus.FORBIDDEN.getStatus())
-                                            );
-                                            listener
-                                                .onFailure(
-                                                    new OpenSearchStatusException(
-                                                        "You don't have permission to access this resource",
-                                                        RestStatus.FORBIDDEN
-                                                    )
-                                                );
-                                            return;
-                                        }
-
-                                        processAgentInput(agentMLInput, mlAgent);
-
-                                        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) agentMLInput
-                                            .getInputDataset();
-                                        Map<String, String> requestParameters = inputDataSet.getParameters();
-
-                                        // Add agentId to parameters for logging in agent runners.
-                                        // Uses agent_id_log to avoid colliding with the "agent_id" tool parameter
-                                        // used by AgentTool to specify which sub-agent to invoke.
-                                        inputDataSet.getParameters().put(AGENT_ID_LOG_FIELD, agentId);
-
-                                        mlAgent = applyMemoryContainerOverride(mlAgent, inputDataSet, agentId);
-                                        final MLAgent finalMlAgent = mlAgent;
-
-                                        MLMemorySpec memorySpec = mlAgent.getMemory();
-                                        if (!mlFeatureEnabledSetting.isRemoteAgenticMemoryEnabled()) {
-                                            boolean usesRemoteMemory = memorySpec != null
-                                                && MLMemoryType.REMOTE_AGENTIC_MEMORY.name().equalsIgnoreCase(memorySpec.getType());
-                                            String memoryConfig = requestParameters != null
-                                                ? requestParameters.get(MEMORY_CONFIGURATION_FIELD)
-                                                : null;
-                                            if (usesRemoteMemory || !Strings.isNullOrEmpty(memoryConfig)) {
-                                                logAgentExecutionFailure(
-                                                    finalMlAgent.getType(),
-                                                    agentId,
-                                                    tenantId,
-                                                    0,
-                                                    String.valueOf(RestStatus.FORBIDDEN.getStatus())
-                                                );
-                                                listener
-                                                    .onFailure(
-                                                        new OpenSearchStatusException(
-                                                            ML_COMMONS_REMOTE_AGENTIC_MEMORY_DISABLED_MESSAGE,
-                                                            RestStatus.FORBIDDEN
-                                                        )
-                                                    );
-                                                return;
-                                            }
-                                        }
-                                        String memoryId = inputDataSet.getParameters().get(MEMORY_ID);
-                                        String parentInteractionId = inputDataSet.getParameters().get(PARENT_INTERACTION_ID);
-                                        String regenerateInteractionId = inputDataSet.getParameters().get(REGENERATE_INTERACTION_ID);
-                                        String appType = finalMlAgent.getAppType();
-                                        String question = inputDataSet.getParameters().get(QUESTION);
-
-                                        if (parentInteractionId != null && regenerateInteractionId != null) {
-                                            throw new IllegalArgumentException(
-                                                "Provide either `parent_interaction_id` to update an existing interaction, or `regenerate_interaction_id` to create a new one."
-                                            );
-                                        }
-
-                                        MLTask mlTask = MLTask
-                                            .builder()
-                                            .taskType(MLTaskType.AGENT_EXECUTION)
-                                            .functionName(FunctionName.AGENT)
-                                            .state(MLTaskState.CREATED)
-                                            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
-                                            .createTime(Instant.now())
-                                            .lastUpdateTime(Instant.now())
-                                            .async(false)
-                                            .tenantId(tenantId)
-                                            .build();
-
-                                        if (memoryId == null && regenerateInteractionId != null) {
-                                            throw new IllegalArgumentException("A memory ID must be provided to regenerate.");
-                                        }
-                                        if (memorySpec != null
-                                            && memorySpec.getType() != null
-                                            && memoryFactoryMap != null
-                                            && memoryFactoryMap.containsKey(MLMemoryType.from(memorySpec.getType()).name())
-                                            && (memoryId == null || parentInteractionId == null)) {
-                                            Map<String, Object> memoryParams = createMemoryParams(
-                                                question,
-                                                memoryId,
-                                                appType,
-                                                finalMlAgent,
-                                                requestParameters
-                                            );
-                                            log.debug("MLAgentExecutor creating new memory, params: {}", sanitizeForLogging(memoryParams));
-                                            // Check if inline connector metadata is present to use RemoteAgenticConversationMemory
-                                            Memory.Factory<Memory<?, ?, ?>> memoryFactory;
-                                            if (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)) {
-                                                // Use RemoteAgenticConversationMemory when inline connector metadata is detected
-                                                memoryFactory = memoryFactoryMap.get(MLMemoryType.REMOTE_AGENTIC_MEMORY.name());
-                                                log.info("Detected inline connector metadata, using RemoteAgenticConversationMemory");
-                                            } else {
-                                                // Use the originally specified memory factory
-                                                memoryFactory = memoryFactoryMap.get(MLMemoryType.from(memorySpec.getType()).name());
-                                            }
-                                            if (memoryFactory == null) {
-                                                logAgentExecutionFailure(
-                                                    finalMlAgent.getType(),
-                                                    agentId,
-                                                    tenantId,
-                                                    0,
-                                                    String.valueOf(RestStatus.BAD_REQUEST.getStatus())
-                                                );
-                                                listener
-                                                    .onFailure(
-                                                        new IllegalArgumentException(
-                                                            "Memory factory not found for type: "
-                                                                + (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)
-                                                                    ? MLMemoryType.REMOTE_AGENTIC_MEMORY.name()
-                                                                    : MLMemoryType.from(memorySpec.getType()).name())
-                                                        )
-                                                    );
-                                                return;
-                                            }
-                                            memoryFactory.create(memoryParams, ActionListener.wrap(memory -> {
-                                                inputDataSet.getParameters().put(MEMORY_ID, memory.getId());
-                                                // get question for regenerate
-                                                if (regenerateInteractionId != null) {
-                                                    log.info("Regenerate for existing interaction {}", regenerateInteractionId);
-                                                    client
-                                                        .execute(
-                                                            GetInteractionAction.INSTANCE,
-                                                            new GetInteractionRequest(regenerateInteractionId),
-                                                            ActionListener.wrap(interactionRes -> {
-                                                                inputDataSet
-                                                                    .getParameters()
-                                                                    .putIfAbsent(QUESTION, interactionRes.getInteraction().getInput());
-                                                                saveRootInteractionAndExecute(
-                                                                    listener,
-                                                                    tenantId,
-                                                                    memory,
-                                                                    inputDataSet,
-                                                                    mlTask,
-                                                                    isAsync,
-                                                                    outputs,
-                                                                    modelTensors,
-                                                                    finalMlAgent,
-                                                                    channel,
-                                                                    hookRegistry,
-                                                                    agentMLInput
-                                                                );
-                                                            }, e -> {
-                                                                log
-                                                                    .error(
-                                                                        "Failed to get existing interaction for regeneration. agentId={}, tenantId={}",
-                                                                        agentId,
-                                                                        tenantId,
-                                                                        e
-                                                                    );
-                                                                logAgentExecutionFailure(
-                                                                    finalMlAgent.getType(),
-                                                                    agentId,
-                                                                    tenantId,
-                                                                    0,
-                                                                    extractStatusCode(e)
-                                                                );
-                                                                listener.onFailure(e);
-                                                            })
-                                                        );
-                                                } else {
-                                                    saveRootInteractionAndExecute(
-                                                        listener,
-                                                        tenantId,
-                                                        memory,
-                                                        inputDataSet,
-                                                        mlTask,
-                                                        isAsync,
-                                                        outputs,
-                                                        modelTensors,
-                                                        finalMlAgent,
-                                                        channel,
-                                                        hookRegistry,
-                                                        agentMLInput
-                                                    );
-                                                }
-                                            }, ex -> {
-                                                log
-                                                    .error(
-                                                        "Failed to read conversation memory. agentId={}, tenantId={}",
-                                                        agentId,
-                                                        tenantId,
-                                                        ex
-                                                    );
-                                                logAgentExecutionFailure(
-                                                    finalMlAgent.getType(),
-                                                    agentId,
-                                                    tenantId,
-                                                    0,
-                                                    extractStatusCode(ex)
-                                                );
-                                                listener.onFailure(ex);
-                                            }));
-                                        } else {
-                                            Map<String, Object> memoryParams = createMemoryParams(
-                                                question,
-                                                memoryId,
-                                                appType,
-                                                finalMlAgent,
-                                                requestParameters
-                                            );
-                                            log
-                                                .debug(
-                                                    "MLAgentExecutor loading existing memory, params: {}",
-                                                    sanitizeForLogging(memoryParams)
-                                                );
-                                            // For existing conversations, create memory instance using factory
-                                            if (memorySpec != null && memorySpec.getType() != null) {
-                                                Memory.Factory<Memory<?, ?, ?>> memoryFactory;
-                                                if (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)) {
-                                                    // Use RemoteAgenticConversationMemory when inline connector metadata is detected
-                                                    memoryFactory = memoryFactoryMap.get(MLMemoryType.REMOTE_AGENTIC_MEMORY.name());
-                                                    log.info("Detected inline connector metadata, using RemoteAgenticConversationMemory");
-                                                } else {
-                                                    // Use the originally specified memory factory
-                                                    memoryFactory = memoryFactoryMap.get(MLMemoryType.from(memorySpec.getType()).name());
-                                                }
-
-                                                if (memoryFactory != null) {
-                                                    // memoryId exists, so create returns an object with existing
-                                                    // memory, therefore name can
-                                                    // be null
-
-                                                    memoryFactory
-                                                        .create(
-                                                            memoryParams,
-                                                            ActionListener
-                                                                .wrap(
-                                                                    createdMemory -> executeAgent(
-                                                                        inputDataSet,
-                                                                        tenantId,
-                                                                        mlTask,
-                                                                        isAsync,
-                                                                        memoryId,
-                                                                        finalMlAgent,
-                                                                        outputs,
-                                                                        modelTensors,
-                                                                        listener,
-                                                                        createdMemory,
-                                                                        channel,
-                                                                        hookRegistry,
-                                                                        null
-                                                                    ),
-                                                                    ex -> {
-                                                                        log
-                                                                            .error(
-                                                                                "Failed to find memory with memory_id: {}. agentId={}, tenantId={}",
-                                                                                memoryId,
-                                                                                agentId,
-                                                                                tenantId,
-                                                                                ex
-                                                                            );
-                                                                        logAgentExecutionFailure(
-                                                                            finalMlAgent.getType(),
-                                                                            agentId,
-                                                                            tenantId,
-                                                                            0,
-                                                                            extractStatusCode(ex)
-                                                                        );
-                                                                        listener.onFailure(ex);
-                                                                    }
-                                                                )
-                                                        );
-                                                    return;
-                                                }
-                                            }
-                                            executeAgent(
-                                                inputDataSet,
-                                                tenantId,
-                                                mlTask,
-                                                isAsync,
-                                                memoryId,
-                                                finalMlAgent,
-                                                outputs,
-                                                modelTensors,
-                                                listener,
-                                                null,
-                                                channel,
-                                                hookRegistry,
-                                                null
-                                            );
-                                        }
-                                    } catch (Exception e) {
-                                        log.error("Failed to parse ml agent. agentId={}, tenantId={}", agentId, tenantId, e);
-                                        logAgentExecutionFailure("unknown", agentId, tenantId, 0, extractStatusCode(e));
-                                        listener.onFailure(e);
-                                    }
-                                } else {
-                                    logAgentExecutionFailure(
-                                        "unknown",
+                            log.error("Failed to get ML Agent. agentId={}, tenantId={}", agentId, tenantId, cause);
+                            logAgentExecutionFailure("unknown", agentId, tenantId, 0, extractStatusCode(cause));
+                            listener.onFailure(cause);
+                        }
+                        return;
+                    }
+                    MLAgent mlAgent;
+                    try {
+                        GetResponse getAgentResponse = response.parser() == null ? null : GetResponse.fromXContent(response.parser());
+                        if (getAgentResponse == null || !getAgentResponse.isExists()) {
+                            logAgentExecutionFailure("unknown", agentId, tenantId, 0, String.valueOf(RestStatus.NOT_FOUND.getStatus()));
+                            listener
+                                .onFailure(
+                                    new OpenSearchStatusException(
+                                        "Failed to find agent with the provided agent id: " + agentId,
+                                        RestStatus.NOT_FOUND
+                                    )
+                                );
+                            return;
+                        }
+                        try (
+                            XContentParser parser = jsonXContent
+                                .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, getAgentResponse.getSourceAsString())
+                        ) {
+                            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                            mlAgent = MLAgent.parse(parser);
+                        }
+                    } catch (Exception e) {
+                        log.error("Failed to get agent. agentId={}, tenantId={}", agentId, tenantId, e);
+                        logAgentExecutionFailure("unknown", agentId, tenantId, 0, extractStatusCode(e));
+                        listener.onFailure(e);
+                        return;
+                    }
+                    // agents of other tenants are rejected by runAgent, don't cache them under this tenant
+                    if (agentCache != null && (!isMultiTenancyEnabled || Objects.equals(tenantId, mlAgent.getTenantId()))) {
+                        agentCache.put(tenantId, agentId, mlAgent, cacheVersion);
+                    }
+                    listener.onResponse(mlAgent);
+                });
+        }
+    }
+
+    private void runAgent(
+        AgentMLInput agentMLInput,
+        MLAgent mlAgent,
+        List<ModelTensors> outputs,
+        List<ModelTensor> modelTensors,
+        ActionListener<Output> listener,
+        TransportChannel channel
+    ) {
+        String agentId = agentMLInput.getAgentId();
+        String tenantId = agentMLInput.getTenantId();
+        Boolean isAsync = agentMLInput.getIsAsync();
+
+        // Use existing HookRegistry from AgentMLInput if available (set by MLExecuteTaskRunner for template references)
+        // Otherwise create a fresh HookRegistry for agent execution
+        final HookRegistry hookRegistry = agentMLInput.getHookRegistry() != null ? agentMLInput.getHookRegistry() : new HookRegistry();
+        if (isMultiTenancyEnabled && !Objects.equals(tenantId, mlAgent.getTenantId())) {
+            logAgentExecutionFailure(mlAgent.getType(), agentId, tenantId, 0, String.valueOf(RestStatus.FORBIDDEN.getStatus()));
+            listener.onFailure(new OpenSearchStatusException("You don't have permission to access this resource", RestStatus.FORBIDDEN));
+            return;
+        }
+
+        processAgentInput(agentMLInput, mlAgent);
+
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) agentMLInput.getInputDataset();
+        Map<String, String> requestParameters = inputDataSet.getParameters();
+
+        // Add agentId to parameters for logging in agent runners.
+        // Uses agent_id_log to avoid colliding with the "agent_id" tool parameter
+        // used by AgentTool to specify which sub-agent to invoke.
+        inputDataSet.getParameters().put(AGENT_ID_LOG_FIELD, agentId);
+
+        mlAgent = applyMemoryContainerOverride(mlAgent, inputDataSet, agentId);
+        final MLAgent finalMlAgent = mlAgent;
+
+        MLMemorySpec memorySpec = mlAgent.getMemory();
+        if (!mlFeatureEnabledSetting.isRemoteAgenticMemoryEnabled()) {
+            boolean usesRemoteMemory = memorySpec != null
+                && MLMemoryType.REMOTE_AGENTIC_MEMORY.name().equalsIgnoreCase(memorySpec.getType());
+            String memoryConfig = requestParameters != null ? requestParameters.get(MEMORY_CONFIGURATION_FIELD) : null;
+            if (usesRemoteMemory || !Strings.isNullOrEmpty(memoryConfig)) {
+                logAgentExecutionFailure(finalMlAgent.getType(), agentId, tenantId, 0, String.valueOf(RestStatus.FORBIDDEN.getStatus()));
+                listener.onFailure(new OpenSearchStatusException(ML_COMMONS_REMOTE_AGENTIC_MEMORY_DISABLED_MESSAGE, RestStatus.FORBIDDEN));
+                return;
+            }
+        }
+        String memoryId = inputDataSet.getParameters().get(MEMORY_ID);
+        String parentInteractionId = inputDataSet.getParameters().get(PARENT_INTERACTION_ID);
+        String regenerateInteractionId = inputDataSet.getParameters().get(REGENERATE_INTERACTION_ID);
+        String appType = finalMlAgent.getAppType();
+        String question = inputDataSet.getParameters().get(QUESTION);
+
+        if (parentInteractionId != null && regenerateInteractionId != null) {
+            throw new IllegalArgumentException(
+                "Provide either `parent_interaction_id` to update an existing interaction, or `regenerate_interaction_id` to create a new one."
+            );
+        }
+
+        MLTask mlTask = MLTask
+            .builder()
+            .taskType(MLTaskType.AGENT_EXECUTION)
+            .functionName(FunctionName.AGENT)
+            .state(MLTaskState.CREATED)
+            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
+            .createTime(Instant.now())
+            .lastUpdateTime(Instant.now())
+            .async(false)
+            .tenantId(tenantId)
+            .build();
+
+        if (memoryId == null && regenerateInteractionId != null) {
+            throw new IllegalArgumentException("A memory ID must be provided to regenerate.");
+        }
+        if (memorySpec != null
+            && memorySpec.getType() != null
+            && memoryFactoryMap != null
+            && memoryFactoryMap.containsKey(MLMemoryType.from(memorySpec.getType()).name())
+            && (memoryId == null || parentInteractionId == null)) {
+            Map<String, Object> memoryParams = createMemoryParams(question, memoryId, appType, finalMlAgent, requestParameters);
+            log.debug("MLAgentExecutor creating new memory, params: {}", sanitizeForLogging(memoryParams));
+            // Check if inline connector metadata is present to use RemoteAgenticConversationMemory
+            Memory.Factory<Memory<?, ?, ?>> memoryFactory;
+            if (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)) {
+                // Use RemoteAgenticConversationMemory when inline connector metadata is detected
+                memoryFactory = memoryFactoryMap.get(MLMemoryType.REMOTE_AGENTIC_MEMORY.name());
+                log.info("Detected inline connector metadata, using RemoteAgenticConversationMemory");
+            } else {
+                // Use the originally specified memory factory
+                memoryFactory = memoryFactoryMap.get(MLMemoryType.from(memorySpec.getType()).name());
+            }
+            if (memoryFactory == null) {
+                logAgentExecutionFailure(finalMlAgent.getType(), agentId, tenantId, 0, String.valueOf(RestStatus.BAD_REQUEST.getStatus()));
+                listener
+                    .onFailure(
+                        new IllegalArgumentException(
+                            "Memory factory not found for type: "
+                                + (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)
+                                    ? MLMemoryType.REMOTE_AGENTIC_MEMORY.name()
+                                    : MLMemoryType.from(memorySpec.getType()).name())
+                        )
+                    );
+                return;
+            }
+            memoryFactory.create(memoryParams, ActionListener.wrap(memory -> {
+                inputDataSet.getParameters().put(MEMORY_ID, memory.getId());
+                // get question for regenerate
+                if (regenerateInteractionId != null) {
+                    log.info("Regenerate for existing interaction {}", regenerateInteractionId);
+                    client
+                        .execute(
+                            GetInteractionAction.INSTANCE,
+                            new GetInteractionRequest(regenerateInteractionId),
+                            ActionListener.wrap(interactionRes -> {
+                                inputDataSet.getParameters().putIfAbsent(QUESTION, interactionRes.getInteraction().getInput());
+                                saveRootInteractionAndExecute(
+                                    listener,
+                                    tenantId,
+                                    memory,
+                                    inputDataSet,
+                                    mlTask,
+                                    isAsync,
+                                    outputs,
+                                    modelTensors,
+                                    finalMlAgent,
+                                    channel,
+                                    hookRegistry,
+                                    agentMLInput
+                                );
+                            }, e -> {
+                                log
+                                    .error(
+                                        "Failed to get existing interaction for regeneration. agentId={}, tenantId={}",
                                         agentId,
                                         tenantId,
-                                        0,
-                                        String.valueOf(RestStatus.NOT_FOUND.getStatus())
+                                        e
                                     );
-                                    listener
-                                        .onFailure(
-                                            new OpenSearchStatusException(
-                                                "Failed to find agent with the provided agent id: " + agentId,
-                                                RestStatus.NOT_FOUND
-                                            )
-                                        );
-                                }
-                            } catch (Exception e) {
-                                log.error("Failed to get agent. agentId={}, tenantId={}", agentId, tenantId, e);
-                                logAgentExecutionFailure("unknown", agentId, tenantId, 0, extractStatusCode(e));
+                                logAgentExecutionFailure(finalMlAgent.getType(), agentId, tenantId, 0, extractStatusCode(e));
                                 listener.onFailure(e);
-                            }
-                        }
-                    });
-            }
+                            })
+                        );
+                } else {
+                    saveRootInteractionAndExecute(
+                        listener,
+                        tenantId,
+                        memory,
+                        inputDataSet,
+                        mlTask,
+                        isAsync,
+                        outputs,
+                        modelTensors,
+                        finalMlAgent,
+                        channel,
+                        hookRegistry,
+                        agentMLInput
+                    );
+                }
+            }, ex -> {
+                log.error("Failed to read conversation memory. agentId={}, tenantId={}", agentId, tenantId, ex);
+                logAgentExecutionFailure(finalMlAgent.getType(), agentId, tenantId, 0, extractStatusCode(ex));
+                listener.onFailure(ex);
+            }));
         } else {
-            logAgentExecutionFailure("unknown", agentId, tenantId, 0, String.valueOf(RestStatus.NOT_FOUND.getStatus()));
-            listener.onFailure(new ResourceNotFoundException("Agent index not found"));
+            Map<String, Object> memoryParams = createMemoryParams(question, memoryId, appType, finalMlAgent, requestParameters);
+            log.debug("MLAgentExecutor loading existing memory, params: {}", sanitizeForLogging(memoryParams));
+            // For existing conversations, create memory instance using factory
+            if (memorySpec != null && memorySpec.getType() != null) {
+                Memory.Factory<Memory<?, ?, ?>> memoryFactory;
+                if (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)) {
+                    // Use RemoteAgenticConversationMemory when inline connector metadata is detected
+                    memoryFactory = memoryFactoryMap.get(MLMemoryType.REMOTE_AGENTIC_MEMORY.name());
+                    log.info("Detected inline connector metadata, using RemoteAgenticConversationMemory");
+                } else {
+                    // Use the originally specified memory factory
+                    memoryFactory = memoryFactoryMap.get(MLMemoryType.from(memorySpec.getType()).name());
+                }
+
+                if (memoryFactory != null) {
+                    // memoryId exists, so create returns an object with existing memory, therefore name can be null
+                    memoryFactory
+                        .create(
+                            memoryParams,
+                            ActionListener
+                                .wrap(
+                                    createdMemory -> executeAgent(
+                                        inputDataSet,
+                                        tenantId,
+                                        mlTask,
+                                        isAsync,
+                                        memoryId,
+                                        finalMlAgent,
+                                        outputs,
+                                        modelTensors,
+                                        listener,
+                                        createdMemory,
+                                        channel,
+                                        hookRegistry,
+                                        null
+                                    ),
+                                    ex -> {
+                                        log
+                                            .error(
+                                                "Failed to find memory with memory_id: {}. agentId={}, tenantId={}",
+                                                memoryId,
+                                                agentId,
+                                                tenantId,
+                                                ex
+                                            );
+                                        logAgentExecutionFailure(finalMlAgent.getType(), agentId, tenantId, 0, extractStatusCode(ex));
+                                        listener.onFailure(ex);
+                                    }
+                                )
+                        );
+                    return;
+                }
+            }
+            executeAgent(
+                inputDataSet,
+                tenantId,
+                mlTask,
+                isAsync,
+                memoryId,
+                finalMlAgent,
+                outputs,
+                modelTensors,
+                listener,
+                null,
+                channel,
+                hookRegistry,
+                null
+            );
         }
     }
 
@@ -1557,7 +1541,8 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
                     toolFactories,
                     memoryFactoryMap,
                     sdkClient,
-                    encryptor
+                    encryptor,
+                    mcpToolSpecCache
                 );
             case CONVERSATIONAL_FLOW:
                 return new MLConversationalFlowAgentRunner(
@@ -1568,7 +1553,8 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
                     toolFactories,
                     memoryFactoryMap,
                     sdkClient,
-                    encryptor
+                    encryptor,
+                    mcpToolSpecCache
                 );
             case CONVERSATIONAL:
                 return new MLChatAgentRunner(
@@ -1580,7 +1566,8 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
                     memoryFactoryMap,
                     sdkClient,
                     encryptor,
-                    hookRegistry
+                    hookRegistry,
+                    mcpToolSpecCache
                 );
             case PLAN_EXECUTE_AND_REFLECT:
                 return new MLPlanExecuteAndReflectAgentRunner(
@@ -1592,7 +1579,8 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
                     memoryFactoryMap,
                     sdkClient,
                     encryptor,
-                    hookRegistry
+                    hookRegistry,
+                    mcpToolSpecCache
                 );
             case AG_UI:
                 return new MLAGUIAgentRunner(
@@ -1604,10 +1592,20 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
                     memoryFactoryMap,
                     sdkClient,
                     encryptor,
-                    hookRegistry
+                    hookRegistry,
+                    mcpToolSpecCache
                 );
             case CONVERSATIONAL_V2:
-                return new MLChatAgentRunnerV2(client, settings, clusterService, xContentRegistry, toolFactories, sdkClient, encryptor);
+                return new MLChatAgentRunnerV2(
+                    client,
+                    settings,
+                    clusterService,
+                    xContentRegistry,
+                    toolFactories,
+                    sdkClient,
+                    encryptor,
+                    mcpToolSpecCache
+                );
             default:
                 throw new IllegalArgumentException("Unsupported agent type");
         }
@@ -23,11 +23,14 @@ import static org.opensearch.ml.common.utils.ToolUtils.parseResponse;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.DISABLE_TRACE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.INTERACTIONS_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_RESPONSE_FILTER;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.MAX_PARALLEL_TOOL_CALLS;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PARALLEL_TOOL_CALLS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_CHAT_HISTORY_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_SUFFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.RESPONSE_FORMAT_INSTRUCTION;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_TIMEOUT_SECONDS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESPONSE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESULT;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.VERBOSE;
@@ -57,6 +60,7 @@ import static org.opensearch.ml.engine.tools.ReadFromScratchPadTool.SCRATCHPAD_N
 import java.lang.reflect.Type;
 import java.security.PrivilegedActionException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -64,14 +68,17 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.apache.commons.text.StringSubstitutor;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.StepListener;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -109,6 +116,8 @@ import org.opensearch.ml.engine.memory.ConversationIndexMessage;
 import org.opensearch.ml.engine.tools.MLModelTool;
 import org.opensearch.ml.engine.tools.ToolArgumentValidator;
 import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.client.Client;
 
@@ -116,7 +125,9 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.reflect.TypeToken;
 import com.jayway.jsonpath.JsonPath;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -156,6 +167,8 @@ public class MLChatAgentRunner implements MLAgentRunner {
     public static final String SYSTEM_PROMPT_FIELD = "system_prompt";
     private static final String DEFAULT_SYSTEM_PROMPT = "You are a helpful assistant.";
     private static final String DEFAULT_MAX_ITERATIONS = "10";
+    private static final String DEFAULT_MAX_PARALLEL_TOOL_CALLS = "1";
+    private static final String DEFAULT_TOOL_CALL_TIMEOUT_SECONDS = "120";
     private static final String MAX_ITERATIONS_MESSAGE = "Agent reached maximum iterations (%d) without completing the task";
     private static final String MAX_ITERATIONS_SUMMARY_MESSAGE = MAX_ITERATIONS_MESSAGE
         + ". Here's a summary of the steps completed so far:\n\n%s";
@@ -168,6 +181,8 @@ public class MLChatAgentRunner implements MLAgentRunner {
     private Map<String, Memory.Factory> memoryFactoryMap;
     private SdkClient sdkClient;
     private Encryptor encryptor;
+    // null if MCP tool specs are listed from the MCP servers on every run
+    private McpToolSpecCache mcpToolSpecCache;
     private StreamingWrapper streamingWrapper;
     private HookRegistry hookRegistry;
 
@@ -194,6 +209,21 @@ public class MLChatAgentRunner implements MLAgentRunner {
         SdkClient sdkClient,
         Encryptor encryptor,
         HookRegistry hookRegistry
+    ) {
+        this(client, settings, clusterService, xContentRegistry, toolFactories, memoryFactoryMap, sdkClient, encryptor, hookRegistry, null);
+    }
+
+    public MLChatAgentRunner(
+        Client client,
+        Settings settings,
+        ClusterService clusterService,
+        NamedXContentRegistry xContentRegistry,
+        Map<String, Tool.Factory> toolFactories,
+        Map<String, Memory.Factory> memoryFactoryMap,
+        SdkClient sdkClient,
+        Encryptor encryptor,
+        HookRegistry hookRegistry,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         this.client = client;
         this.settings = settings;
@@ -204,6 +234,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
         this.sdkClient = sdkClient;
         this.encryptor = encryptor;
         this.hookRegistry = hookRegistry;
+        this.mcpToolSpecCache = mcpToolSpecCache;
     }
 
     @Override
@@ -539,6 +570,8 @@ public class MLChatAgentRunner implements MLAgentRunner {
         AtomicReference<String> lastActionInput = new AtomicReference<>();
         AtomicReference<String> lastToolSelectionResponse = new AtomicReference<>();
         AtomicReference<String> lastToolCallId = new AtomicReference<>();
+        // tool calls of the last LLM response run concurrently, null if only one tool call was run
+        AtomicReference<List<ToolCall>> lastToolCalls = new AtomicReference<>();
         Map<String, Object> additionalInfo = new ConcurrentHashMap<>();
         Map<String, String> lastToolParams = new ConcurrentHashMap<>();
 
@@ -554,6 +587,12 @@ public class MLChatAgentRunner implements MLAgentRunner {
         tmpParameters.put(PROMPT, newPrompt.get());
         List<ModelTensors> traceTensors = createModelTensors(sessionId, parentInteractionId);
         int maxIterations = Integer.parseInt(tmpParameters.getOrDefault(MAX_ITERATION, DEFAULT_MAX_ITERATIONS));
+        // Frontend tools of AG-UI agents are run by the client one at a time
+        int maxParallelToolCalls = isAGUIAgent(parameters)
+            ? 1
+            : Integer.parseInt(tmpParameters.getOrDefault(MAX_PARALLEL_TOOL_CALLS, DEFAULT_MAX_PARALLEL_TOOL_CALLS));
+        long toolCallTimeoutSeconds = Long
+            .parseLong(tmpParameters.getOrDefault(TOOL_CALL_TIMEOUT_SECONDS, DEFAULT_TOOL_CALL_TIMEOUT_SECONDS));
         for (int i = 0; i < maxIterations; i++) {
             int finalI = i;
             StepListener<?> nextStepListener = (i == maxIterations - 1) ? null : new StepListener<>();
@@ -571,7 +610,8 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         llmResponsePatterns,
                         tools.keySet(),
                         interactions,
-                        functionCalling
+                        functionCalling,
+                        maxParallelToolCalls
                     );
 
                     // Extract per-turn token usage from LLM response
@@ -621,7 +661,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
                             tenantId,
                             includeTokenUsage
                         );
-                        cleanUpResource(tools);
+                        cleanUpResource(tools, mcpToolSpecCache);
                         return;
                     }
 
@@ -631,6 +671,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
                     lastActionInput.set(actionInput);
                     lastToolSelectionResponse.set(thoughtResponse);
                     lastToolCallId.set(toolCallId);
+                    lastToolCalls.set(null);
 
                     traceTensors
                         .add(
@@ -680,6 +721,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         return;
                     }
 
+                    List<Map<String, String>> parallelToolCalls = getParallelToolCalls(modelOutput, backendTools);
                     if (tools.containsKey(action)) {
                         // Check if this is a backend tool - if it is, execute it normally in the ReAct loop
                         // If it's NOT a backend tool, it must be a frontend tool, so break out of the loop
@@ -692,6 +734,36 @@ public class MLChatAgentRunner implements MLAgentRunner {
                             if (streamingWrapper != null) {
                                 streamingWrapper.sendRunFinishedAndCloseStream(sessionId, parentInteractionId);
                             }
+                        } else if (parallelToolCalls != null) {
+                            // Run all tool calls of the LLM response concurrently, results are joined in order in the next step
+                            List<ToolCall> toolCalls = new ArrayList<>();
+                            for (Map<String, String> parallelToolCall : parallelToolCalls) {
+                                String callAction = parallelToolCall.get("tool_name");
+                                AtomicReference<String> callActionInput = new AtomicReference<>(parallelToolCall.get("tool_input"));
+                                Map<String, String> toolParams = constructToolParams(
+                                    tools,
+                                    toolSpecMap,
+                                    question,
+                                    callActionInput,
+                                    callAction,
+                                    callActionInput.get()
+                                );
+                                toolParams.put(TENANT_ID_FIELD, tenantId);
+                                toolCalls
+                                    .add(new ToolCall(callAction, callActionInput.get(), parallelToolCall.get(TOOL_CALL_ID), toolParams));
+                            }
+                            lastToolCalls.set(toolCalls);
+                            runToolsInParallel(
+                                tools,
+                                toolSpecMap,
+                                tmpParameters,
+                                (ActionListener<Object>) nextStepListener,
+                                toolCalls,
+                                interactions,
+                                functionCalling,
+                                maxParallelToolCalls,
+                                toolCallTimeoutSeconds
+                            );
                         } else {
                             // Handle backend tool normally
                             Map<String, String> toolParams = constructToolParams(
@@ -737,34 +809,55 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         ((ActionListener<Object>) nextStepListener).onResponse(res);
                     }
                 } else {
-                    // filteredOutput is the POST Tool output
-                    Object filteredOutput = filterToolOutput(lastToolParams, output);
-                    addToolOutputToAddtionalInfo(toolSpecMap, lastAction, additionalInfo, filteredOutput);
+                    List<ToolCall> toolCalls = lastToolCalls.get();
+                    List<Object> toolOutputs;
+                    if (toolCalls == null) {
+                        toolCalls = List.of(new ToolCall(lastAction.get(), lastActionInput.get(), lastToolCallId.get(), lastToolParams));
+                        toolOutputs = Collections.singletonList(output);
+                    } else {
+                        toolOutputs = (List<Object>) output;
+                    }
+                    for (int j = 0; j < toolCalls.size(); j++) {
+                        ToolCall toolCall = toolCalls.get(j);
+                        // filteredOutput is the POST Tool output
+                        Object filteredOutput = filterToolOutput(toolCall.getToolParams(), toolOutputs.get(j));
+                        addToolOutputToAddtionalInfo(toolSpecMap, toolCall.getAction(), additionalInfo, filteredOutput);
 
-                    String toolResponse = constructToolResponse(
-                        tmpParameters,
-                        lastAction,
-                        lastActionInput,
-                        lastToolSelectionResponse,
-                        filteredOutput
-                    );
-                    scratchpadBuilder.append(toolResponse).append("\n\n");
+                        String toolResponse = constructToolResponse(
+                            tmpParameters,
+                            toolCall.getAction(),
+                            toolCall.getActionInput(),
+                            lastToolSelectionResponse.get(),
+                            filteredOutput
+                        );
+                        scratchpadBuilder.append(toolResponse).append("\n\n");
 
-                    // Record tool result for summary
-                    String outputSummary = outputToOutputString(filteredOutput);
+                        String toolOutputString = outputToOutputString(filteredOutput);
 
-                    // Save trace with processed output
-                    saveTraceData(
-                        memory,
-                        "ReAct",
-                        lastActionInput.get(),
-                        outputToOutputString(filteredOutput),
-                        sessionId,
-                        traceDisabled,
-                        parentInteractionId,
-                        traceNumber,
-                        lastAction.get()
-                    );
+                        // Save trace with processed output
+                        saveTraceData(
+                            memory,
+                            "ReAct",
+                            toolCall.getActionInput(),
+                            toolOutputString,
+                            sessionId,
+                            traceDisabled,
+                            parentInteractionId,
+                            traceNumber,
+                            toolCall.getAction()
+                        );
+
+                        sessionMsgAnswerBuilder.append(toolOutputString);
+
+                        if (streamingWrapper != null) {
+                            if (isAGUIAgent(parameters)) {
+                                streamingWrapper
+                                    .sendBackendToolResult(toolCall.getToolCallId(), toolOutputString, sessionId, parentInteractionId);
+                            } else {
+                                streamingWrapper.sendToolResponse(toolOutputString, sessionId, parentInteractionId);
+                            }
+                        }
+                    }
 
                     StringSubstitutor substitutor = new StringSubstitutor(Map.of(SCRATCHPAD, scratchpadBuilder), "${parameters.", "}");
                     newPrompt.set(substitutor.replace(finalPrompt));
@@ -775,18 +868,6 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         tmpParameters.put(INTERACTIONS, ", " + interactionsStr);
                     }
 
-                    sessionMsgAnswerBuilder.append(outputToOutputString(filteredOutput));
-
-                    String toolOutputString = outputToOutputString(filteredOutput);
-
-                    if (streamingWrapper != null) {
-                        if (isAGUIAgent(parameters)) {
-                            streamingWrapper.sendBackendToolResult(lastToolCallId.get(), toolOutputString, sessionId, parentInteractionId);
-                        } else {
-                            streamingWrapper.sendToolResponse(toolOutputString, sessionId, parentInteractionId);
-                        }
-                    }
-
                     traceTensors
                         .add(
                             ModelTensors
@@ -864,9 +945,9 @@ public class MLChatAgentRunner implements MLAgentRunner {
 
     private static String constructToolResponse(
         Map<String, String> tmpParameters,
-        AtomicReference<String> lastAction,
-        AtomicReference<String> lastActionInput,
-        AtomicReference<String> lastToolSelectionResponse,
+        String action,
+        String actionInput,
+        String toolSelectionResponse,
         Object output
     ) throws PrivilegedActionException {
         String toolResponse = tmpParameters.get(TOOL_RESPONSE);
@@ -874,11 +955,11 @@ public class MLChatAgentRunner implements MLAgentRunner {
             Map
                 .of(
                     "llm_tool_selection_response",
-                    lastToolSelectionResponse.get(),
+                    toolSelectionResponse,
                     "tool_name",
-                    lastAction.get(),
+                    action,
                     "tool_input",
-                    lastActionInput.get(),
+                    actionInput,
                     "observation",
                     outputToOutputString(output)
                 ),
@@ -891,11 +972,11 @@ public class MLChatAgentRunner implements MLAgentRunner {
 
     private static void addToolOutputToAddtionalInfo(
         Map<String, MLToolSpec> toolSpecMap,
-        AtomicReference<String> lastAction,
+        String action,
         Map<String, Object> additionalInfo,
         Object output
     ) throws PrivilegedActionException {
-        MLToolSpec toolSpec = toolSpecMap.get(lastAction.get());
+        MLToolSpec toolSpec = toolSpecMap.get(action);
         if (toolSpec != null && toolSpec.isIncludeOutputInAgentResponse()) {
             String outputString = outputToOutputString(output);
             String toolOutputKey = String.format("%s.output", getToolName(toolSpec));
@@ -910,6 +991,191 @@ public class MLChatAgentRunner implements MLAgentRunner {
         }
     }
 
+    /**
+     * Get the tool calls of the LLM response to run concurrently.
+     * @return tool calls, or null if the LLM response has a single tool call or any tool is not a backend tool
+     */
+    private static List<Map<String, String>> getParallelToolCalls(Map<String, String> modelOutput, Map<String, Tool> backendTools) {
+        String parallelToolCallsJson = modelOutput.get(PARALLEL_TOOL_CALLS);
+        if (parallelToolCallsJson == null || backendTools == null) {
+            return null;
+        }
+        List<Map<String, String>> parallelToolCalls = gson.fromJson(parallelToolCallsJson, List.class);
+        for (Map<String, String> parallelToolCall : parallelToolCalls) {
+            if (!backendTools.containsKey(parallelToolCall.get("tool_name"))) {
+                return null;
+            }
+        }
+        return parallelToolCalls;
+    }
+
+    /**
+     * Run tool calls from one LLM response concurrently, at most maxParallelToolCalls at a time. Each tool call runs with its own
+     * copy of the agent parameters and is answered with a failure message if it doesn't complete within the timeout. Once all tool
+     * calls complete, tool results are added to the interactions in the order of the tool calls, and the tool outputs are passed in
+     * the same order to the next step.
+     * <p>
+     * A tool call holds its slot until the tool actually finishes. A timed-out tool call which is still running lends its slot to
+     * the next tool call, at most maxParallelToolCalls at a time, so at most twice maxParallelToolCalls tools run at once. Beyond
+     * that, the next tool call waits for a running tool to finish.
+     */
+    @VisibleForTesting
+    void runToolsInParallel(
+        Map<String, Tool> tools,
+        Map<String, MLToolSpec> toolSpecMap,
+        Map<String, String> tmpParameters,
+        ActionListener<Object> nextStepListener,
+        List<ToolCall> toolCalls,
+        List<String> interactions,
+        FunctionCalling functionCalling,
+        int maxParallelToolCalls,
+        long toolCallTimeoutSeconds
+    ) {
+        int size = toolCalls.size();
+        Object[] outputs = new Object[size];
+        List<Map<String, String>> callParameters = new ArrayList<>(Collections.nCopies(size, null));
+        AtomicInteger nextCall = new AtomicInteger(0);
+        AtomicInteger pendingCalls = new AtomicInteger(size);
+        // timed-out tool calls still running which lent their slot to the next tool call
+        AtomicInteger lentSlots = new AtomicInteger(0);
+        ThreadPool threadPool = client.threadPool();
+
+        AtomicReference<Runnable> startNextCall = new AtomicReference<>();
+        startNextCall.set(() -> {
+            int index = nextCall.getAndIncrement();
+            if (index >= size) {
+                return;
+            }
+            ToolCall toolCall = toolCalls.get(index);
+            Map<String, String> parametersOfCall = new HashMap<>(tmpParameters);
+            callParameters.set(index, parametersOfCall);
+            AtomicBoolean completed = new AtomicBoolean(false);
+            AtomicBoolean finished = new AtomicBoolean(false);
+            AtomicBoolean slotReleased = new AtomicBoolean(false);
+            AtomicReference<Scheduler.ScheduledCancellable> timeout = new AtomicReference<>();
+            Consumer<Object> complete = output -> {
+                if (!completed.compareAndSet(false, true)) {
+                    return;
+                }
+                if (timeout.get() != null) {
+                    timeout.get().cancel();
+                }
+                outputs[index] = output;
+                if (pendingCalls.decrementAndGet() == 0) {
+                    joinParallelToolCalls(
+                        tmpParameters,
+                        nextStepListener,
+                        toolCalls,
+                        outputs,
+                        callParameters,
+                        interactions,
+                        functionCalling
+                    );
+                }
+            };
+            Runnable finish = () -> {
+                if (!finished.compareAndSet(false, true)) {
+                    return;
+                }
+                if (slotReleased.compareAndSet(false, true)) {
+                    startNextCall.get().run();
+                } else {
+                    lentSlots.decrementAndGet();
+                }
+            };
+            ActionListener<Object> callListener = ActionListener.wrap(output -> {
+                complete.accept(output);
+                finish.run();
+            }, e -> {
+                complete.accept(toolFailureMessage(toolCall.getAction(), e));
+                finish.run();
+            });
+
+            if (toolCallTimeoutSeconds > 0) {
+                timeout.set(threadPool.schedule(() -> {
+                    log.warn("Tool {} timed out after {} seconds", toolCall.getAction(), toolCallTimeoutSeconds);
+                    complete
+                        .accept(
+                            String
+                                .format(
+                                    Locale.ROOT,
+                                    "Failed to run the tool %s which timed out after %d seconds.",
+                                    toolCall.getAction(),
+                                    toolCallTimeoutSeconds
+                                )
+                        );
+                    if (lentSlots.incrementAndGet() <= maxParallelToolCalls && slotReleased.compareAndSet(false, true)) {
+                        startNextCall.get().run();
+                    } else {
+                        lentSlots.decrementAndGet();
+                    }
+                }, TimeValue.timeValueSeconds(toolCallTimeoutSeconds), ThreadPool.Names.GENERIC));
+            }
+            threadPool.executor(ThreadPool.Names.GENERIC).execute(() -> {
+                try {
+                    runTool(
+                        tools,
+                        toolSpecMap,
+                        parametersOfCall,
+                        callListener,
+                        toolCall.getAction(),
+                        toolCall.getActionInput(),
+                        new HashMap<>(toolCall.getToolParams()),
+                        // tool results are added to the interactions together once all tool calls complete
+                        new ArrayList<>(),
+                        toolCall.getToolCallId(),
+                        functionCalling,
+                        hookRegistry
+                    );
+                } catch (Exception e) {
+                    log.error("Failed to run tool {}", toolCall.getAction(), e);
+                    complete.accept(toolFailureMessage(toolCall.getAction(), e));
+                    finish.run();
+                }
+            });
+        });
+
+        log.info("Running {} tool calls with at most {} in parallel", size, maxParallelToolCalls);
+        for (int i = 0; i < Math.min(size, maxParallelToolCalls); i++) {
+            startNextCall.get().run();
+        }
+    }
+
+    private static String toolFailureMessage(String action, Exception e) {
+        return String.format(Locale.ROOT, "Failed to run the tool %s with the error message %s.", action, e.getMessage());
+    }
+
+    private static void joinParallelToolCalls(
+        Map<String, String> tmpParameters,
+        ActionListener<Object> nextStepListener,
+        List<ToolCall> toolCalls,
+        Object[] outputs,
+        List<Map<String, String>> callParameters,
+        List<String> interactions,
+        FunctionCalling functionCalling
+    ) {
+        try {
+            for (Map<String, String> parametersOfCall : callParameters) {
+                updateParametersAcrossTools(tmpParameters, parametersOfCall);
+            }
+            List<Map<String, Object>> toolResults = new ArrayList<>();
+            for (int i = 0; i < toolCalls.size(); i++) {
+                String toolCallId = toolCalls.get(i).getToolCallId();
+                if (toolCallId != null) {
+                    toolResults.add(Map.of(TOOL_CALL_ID, toolCallId, TOOL_RESULT, Map.of("text", outputToOutputString(outputs[i]))));
+                }
+            }
+            // One LLM message may carry all tool results, e.g. Bedrock converse, or one message per tool result, e.g. OpenAI
+            for (LLMMessage llmMessage : functionCalling.supply(toolResults)) {
+                interactions.add(llmMessage.getResponse());
+            }
+            nextStepListener.onResponse(Arrays.asList(outputs));
+        } catch (Exception e) {
+            log.error("Failed to join results of parallel tool calls", e);
+            nextStepListener.onFailure(e);
+        }
+    }
+
     private static void runTool(
         Map<String, Tool> tools,
         Map<String, MLToolSpec> toolSpecMap,
@@ -1548,7 +1814,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
             tenantId,
             includeTokenUsage
         );
-        cleanUpResource(tools);
+        cleanUpResource(tools, mcpToolSpecCache);
     }
 
     void generateLLMSummary(
@@ -1738,7 +2004,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
         List<MLToolSpec> backendToolSpecs = getMlToolSpecs(mlAgent, params);
 
         // Handle backend tool loading with MCP tools
-        getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, ActionListener.wrap(mcpTools -> {
+        getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, mcpToolSpecCache, ActionListener.wrap(mcpTools -> {
             // Add MCP tools to backend tools
             backendToolSpecs.addAll(mcpTools);
             buildAndProcessUnifiedTools(mlAgent, params, listener, memory, functionCalling, frontendTools, backendToolSpecs);
@@ -1878,4 +2144,16 @@ public class MLChatAgentRunner implements MLAgentRunner {
             listener.onFailure(e);
         }
     }
+
+    /**
+     * A tool call from an LLM response.
+     */
+    @Getter
+    @AllArgsConstructor
+    static class ToolCall {
+        private final String action;
+        private final String actionInput;
+        private final String toolCallId;
+        private final Map<String, String> toolParams;
+    }
 }
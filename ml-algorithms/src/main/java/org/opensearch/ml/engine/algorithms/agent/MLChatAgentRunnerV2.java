@@ -53,6 +53,9 @@ public class MLChatAgentRunnerV2 extends AbstractV2AgentRunner {
     private static final String STOP_REASON_MAX_ITERATIONS = "max_iterations";
     private static final String STOP_REASON_END_TURN = "end_turn";
 
+    // null if MCP tool specs are listed from the MCP servers on every run
+    private final McpToolSpecCache mcpToolSpecCache;
+
     public MLChatAgentRunnerV2(
         Client client,
         Settings settings,
@@ -61,8 +64,22 @@ public class MLChatAgentRunnerV2 extends AbstractV2AgentRunner {
         Map<String, Tool.Factory> toolFactories,
         SdkClient sdkClient,
         Encryptor encryptor
+    ) {
+        this(client, settings, clusterService, xContentRegistry, toolFactories, sdkClient, encryptor, null);
+    }
+
+    public MLChatAgentRunnerV2(
+        Client client,
+        Settings settings,
+        ClusterService clusterService,
+        NamedXContentRegistry xContentRegistry,
+        Map<String, Tool.Factory> toolFactories,
+        SdkClient sdkClient,
+        Encryptor encryptor,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         super(client, settings, clusterService, xContentRegistry, toolFactories, sdkClient, encryptor);
+        this.mcpToolSpecCache = mcpToolSpecCache;
     }
 
     @Override
@@ -94,7 +111,7 @@ public class MLChatAgentRunnerV2 extends AbstractV2AgentRunner {
         Map<String, MLToolSpec> toolSpecMap = new HashMap<>();
 
         // Load MCP tools asynchronously, then create all tools
-        AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, ActionListener.wrap(mcpTools -> {
+        AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, mcpToolSpecCache, ActionListener.wrap(mcpTools -> {
             mlToolSpecs.addAll(mcpTools);
             try {
                 AgentUtils.createTools(toolFactories, params, mlToolSpecs, toolsMap, toolSpecMap, mlAgent);
@@ -79,6 +79,8 @@ public class MLConversationalFlowAgentRunner implements MLAgentRunner {
     private Map<String, Memory.Factory> memoryFactoryMap;
     private SdkClient sdkClient;
     private Encryptor encryptor;
+    // null if MCP tool specs are listed from the MCP servers on every run
+    private McpToolSpecCache mcpToolSpecCache;
 
     public MLConversationalFlowAgentRunner(
         Client client,
@@ -89,6 +91,20 @@ public class MLConversationalFlowAgentRunner implements MLAgentRunner {
         Map<String, Memory.Factory> memoryFactoryMap,
         SdkClient sdkClient,
         Encryptor encryptor
+    ) {
+        this(client, settings, clusterService, xContentRegistry, toolFactories, memoryFactoryMap, sdkClient, encryptor, null);
+    }
+
+    public MLConversationalFlowAgentRunner(
+        Client client,
+        Settings settings,
+        ClusterService clusterService,
+        NamedXContentRegistry xContentRegistry,
+        Map<String, Tool.Factory> toolFactories,
+        Map<String, Memory.Factory> memoryFactoryMap,
+        SdkClient sdkClient,
+        Encryptor encryptor,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         this.client = client;
         this.settings = settings;
@@ -98,6 +114,7 @@ public class MLConversationalFlowAgentRunner implements MLAgentRunner {
         this.memoryFactoryMap = memoryFactoryMap;
         this.sdkClient = sdkClient;
         this.encryptor = encryptor;
+        this.mcpToolSpecCache = mcpToolSpecCache;
     }
 
     @Override
@@ -185,9 +202,10 @@ public class MLConversationalFlowAgentRunner implements MLAgentRunner {
         String memoryId,
         String parentInteractionId
     ) {
-        resolveFlowToolSpecsWithMcpValidation(mlAgent, params, client, sdkClient, encryptor, ActionListener.wrap(toolSpecs -> {
+        ActionListener<List<MLToolSpec>> toolSpecsListener = ActionListener.wrap(toolSpecs -> {
             runAgentWithToolSpecs(mlAgent, params, listener, memory, memoryId, parentInteractionId, toolSpecs);
-        }, listener::onFailure));
+        }, listener::onFailure);
+        resolveFlowToolSpecsWithMcpValidation(mlAgent, params, client, sdkClient, encryptor, mcpToolSpecCache, toolSpecsListener);
     }
 
     private void runAgentWithToolSpecs(
@@ -252,7 +270,7 @@ public class MLConversationalFlowAgentRunner implements MLAgentRunner {
                     );
                 }, e -> {
                     log.error("Failed to run flow agent", e);
-                    cleanUpResource(tools);
+                    cleanUpResource(tools, mcpToolSpecCache);
                     listener.onFailure(e);
                 });
                 previousStepListener = nextStepListener;
@@ -280,7 +298,7 @@ public class MLConversationalFlowAgentRunner implements MLAgentRunner {
                     tools
                 );
             }, e -> {
-                cleanUpResource(tools);
+                cleanUpResource(tools, mcpToolSpecCache);
                 listener.onFailure(e);
             }));
         } else {
@@ -333,16 +351,16 @@ public class MLConversationalFlowAgentRunner implements MLAgentRunner {
         if (finalI == toolSpecs.size()) {
             ActionListener updateListener = ActionListener.<UpdateResponse>wrap(r -> {
                 log.info("Updated additional info for interaction {} of flow agent.", r.getId());
-                cleanUpResource(tools);
+                cleanUpResource(tools, mcpToolSpecCache);
                 listener.onResponse(flowAgentOutput);
             }, e -> {
                 log.error("Failed to update root interaction", e);
-                cleanUpResource(tools);
+                cleanUpResource(tools, mcpToolSpecCache);
                 listener.onResponse(flowAgentOutput);
             });
             if (memory == null) {
                 if (memoryId == null || parentInteractionId == null || memorySpec == null || memorySpec.getType() == null) {
-                    cleanUpResource(tools);
+                    cleanUpResource(tools, mcpToolSpecCache);
                     listener.onResponse(flowAgentOutput);
                 } else {
                     updateMemoryWithListener(additionalInfo, memorySpec, memoryId, parentInteractionId, updateListener);
@@ -364,7 +382,7 @@ public class MLConversationalFlowAgentRunner implements MLAgentRunner {
                         memory.update(parentInteractionId, updateContent, updateListener);
                     }, e -> {
                         log.error("Failed to update root interaction ", e);
-                        cleanUpResource(tools);
+                        cleanUpResource(tools, mcpToolSpecCache);
                         listener.onFailure(e);
                     })
                 );
@@ -386,7 +404,7 @@ public class MLConversationalFlowAgentRunner implements MLAgentRunner {
                         runNextStep(params, toolSpecs, finalI, tenantId, nextStepListener, tools);
                     }, e -> {
                         log.error("Failed to update root interaction ", e);
-                        cleanUpResource(tools);
+                        cleanUpResource(tools, mcpToolSpecCache);
                         listener.onFailure(e);
                     })
                 );
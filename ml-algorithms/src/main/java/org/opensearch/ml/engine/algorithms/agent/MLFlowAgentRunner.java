@@ -18,9 +18,17 @@ import static org.opensearch.ml.engine.memory.ConversationIndexMemory.MEMORY_ID;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.opensearch.action.StepListener;
 import org.opensearch.action.update.UpdateResponse;
@@ -44,6 +52,7 @@ import org.opensearch.ml.engine.memory.ConversationIndexMemory;
 import org.opensearch.ml.repackage.com.google.common.annotations.VisibleForTesting;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableMap;
 import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.client.Client;
 
@@ -56,6 +65,11 @@ import lombok.extern.log4j.Log4j2;
 @NoArgsConstructor
 public class MLFlowAgentRunner implements MLAgentRunner {
 
+    // Max number of tools run concurrently, tools are run in sequence by default
+    public static final String MAX_PARALLEL_TOOLS = "max_parallel_tools";
+    // Tool parameter of comma separated names of the tools whose outputs the tool consumes
+    public static final String DEPENDS_ON = "depends_on";
+
     private Client client;
     private Settings settings;
     private ClusterService clusterService;
@@ -64,6 +78,8 @@ public class MLFlowAgentRunner implements MLAgentRunner {
     private Map<String, Memory.Factory> memoryFactoryMap;
     private SdkClient sdkClient;
     private Encryptor encryptor;
+    // null if MCP tool specs are listed from the MCP servers on every run
+    private McpToolSpecCache mcpToolSpecCache;
 
     public MLFlowAgentRunner(
         Client client,
@@ -74,6 +90,20 @@ public class MLFlowAgentRunner implements MLAgentRunner {
         Map<String, Memory.Factory> memoryFactoryMap,
         SdkClient sdkClient,
         Encryptor encryptor
+    ) {
+        this(client, settings, clusterService, xContentRegistry, toolFactories, memoryFactoryMap, sdkClient, encryptor, null);
+    }
+
+    public MLFlowAgentRunner(
+        Client client,
+        Settings settings,
+        ClusterService clusterService,
+        NamedXContentRegistry xContentRegistry,
+        Map<String, Tool.Factory> toolFactories,
+        Map<String, Memory.Factory> memoryFactoryMap,
+        SdkClient sdkClient,
+        Encryptor encryptor,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         this.client = client;
         this.settings = settings;
@@ -83,13 +113,15 @@ public class MLFlowAgentRunner implements MLAgentRunner {
         this.memoryFactoryMap = memoryFactoryMap;
         this.sdkClient = sdkClient;
         this.encryptor = encryptor;
+        this.mcpToolSpecCache = mcpToolSpecCache;
     }
 
     @Override
     public void run(MLAgent mlAgent, Map<String, String> params, ActionListener<Object> listener, TransportChannel channel) {
-        resolveFlowToolSpecsWithMcpValidation(mlAgent, params, client, sdkClient, encryptor, ActionListener.wrap(toolSpecs -> {
+        ActionListener<List<MLToolSpec>> toolSpecsListener = ActionListener.wrap(toolSpecs -> {
             runWithToolSpecs(mlAgent, params, listener, toolSpecs);
-        }, listener::onFailure));
+        }, listener::onFailure);
+        resolveFlowToolSpecsWithMcpValidation(mlAgent, params, client, sdkClient, encryptor, mcpToolSpecCache, toolSpecsListener);
     }
 
     private void runWithToolSpecs(
@@ -114,6 +146,18 @@ public class MLFlowAgentRunner implements MLAgentRunner {
         String memoryId = params.get(MLAgentExecutor.MEMORY_ID);
         String parentInteractionId = params.get(MLAgentExecutor.PARENT_INTERACTION_ID);
 
+        int maxParallelTools;
+        try {
+            maxParallelTools = getMaxParallelTools(mlAgent, params);
+        } catch (IllegalArgumentException e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (maxParallelTools > 1 && toolSpecs.size() > 1) {
+            runToolGraph(mlAgent, params, listener, toolSpecs, maxParallelTools);
+            return;
+        }
+
         for (int i = 0; i <= toolSpecs.size(); i++) {
             if (i == 0) {
                 MLToolSpec toolSpec = toolSpecs.get(i);
@@ -128,42 +172,18 @@ public class MLFlowAgentRunner implements MLAgentRunner {
                 StepListener<Object> nextStepListener = new StepListener<>();
                 int finalI = i;
                 previousStepListener.whenComplete(output -> {
-                    String toolName = getToolName(previousToolSpec);
-                    String outputKey = toolName + ".output";
-                    Map<String, String> toolParameters = ToolUtils.buildToolParameters(params, previousToolSpec, mlAgent.getTenantId());
-                    String filteredOutput = parseResponse(filterToolOutput(toolParameters, output));
-                    params.put(outputKey, escapeJson(filteredOutput));
-                    if (previousToolSpec.isIncludeOutputInAgentResponse() || finalI == toolSpecs.size()) {
-                        if (toolParameters.containsKey(TOOL_OUTPUT_FILTERS_FIELD)) {
-                            flowAgentOutput.add(ModelTensor.builder().name(outputKey).result(filteredOutput).build());
-                        } else if (output instanceof ModelTensorOutput) {
-                            flowAgentOutput.addAll(((ModelTensorOutput) output).getMlModelOutputs().get(0).getMlModelTensors());
-                        } else if (toolParameters.getOrDefault("return_data_as_map", "false").equalsIgnoreCase("true")) {
-                            flowAgentOutput.add(convertOutputToModelTensor(output, outputKey));
-                        } else {
-                            ModelTensor stepOutput = ModelTensor.builder().name(toolName).result(StringUtils.toJson(output)).build();
-                            flowAgentOutput.add(stepOutput);
-                        }
-
-                        additionalInfo.put(outputKey, filteredOutput);
-                    }
+                    processToolOutput(
+                        mlAgent,
+                        params,
+                        previousToolSpec,
+                        output,
+                        finalI == toolSpecs.size(),
+                        flowAgentOutput,
+                        additionalInfo
+                    );
 
                     if (finalI == toolSpecs.size()) {
-                        if (memoryId == null || parentInteractionId == null || memorySpec == null || memorySpec.getType() == null) {
-                            cleanUpResource(tools);
-                            listener.onResponse(flowAgentOutput);
-                        } else {
-                            ActionListener<UpdateResponse> updateListener = ActionListener.wrap(updateResponse -> {
-                                log.info("Updated additional info for interaction ID: {} in the flow agent.", updateResponse.getId());
-                                cleanUpResource(tools);
-                                listener.onResponse(flowAgentOutput);
-                            }, e -> {
-                                log.error("Failed to update root interaction", e);
-                                cleanUpResource(tools);
-                                listener.onResponse(flowAgentOutput);
-                            });
-                            updateMemoryWithListener(additionalInfo, memorySpec, memoryId, parentInteractionId, updateListener);
-                        }
+                        sendFlowAgentOutput(memorySpec, memoryId, parentInteractionId, additionalInfo, flowAgentOutput, tools, listener);
                         return;
                     }
 
@@ -177,7 +197,7 @@ public class MLFlowAgentRunner implements MLAgentRunner {
 
                 }, e -> {
                     log.error("Failed to run flow agent", e);
-                    cleanUpResource(tools);
+                    cleanUpResource(tools, mcpToolSpecCache);
                     listener.onFailure(e);
                 });
                 previousStepListener = nextStepListener;
@@ -185,10 +205,10 @@ public class MLFlowAgentRunner implements MLAgentRunner {
         }
         if (toolSpecs.size() == 1) {
             firstTool.run(firstToolExecuteParams, ActionListener.wrap(r -> {
-                cleanUpResource(tools);
+                cleanUpResource(tools, mcpToolSpecCache);
                 listener.onResponse(r);
             }, e -> {
-                cleanUpResource(tools);
+                cleanUpResource(tools, mcpToolSpecCache);
                 listener.onFailure(e);
             }));
         } else {
@@ -196,6 +216,269 @@ public class MLFlowAgentRunner implements MLAgentRunner {
         }
     }
 
+    private void processToolOutput(
+        MLAgent mlAgent,
+        Map<String, String> params,
+        MLToolSpec toolSpec,
+        Object output,
+        boolean lastTool,
+        List<ModelTensor> flowAgentOutput,
+        Map<String, Object> additionalInfo
+    ) {
+        String toolName = getToolName(toolSpec);
+        String outputKey = toolName + ".output";
+        Map<String, String> toolParameters = ToolUtils.buildToolParameters(params, toolSpec, mlAgent.getTenantId());
+        String filteredOutput = parseResponse(filterToolOutput(toolParameters, output));
+        params.put(outputKey, escapeJson(filteredOutput));
+        if (toolSpec.isIncludeOutputInAgentResponse() || lastTool) {
+            if (toolParameters.containsKey(TOOL_OUTPUT_FILTERS_FIELD)) {
+                flowAgentOutput.add(ModelTensor.builder().name(outputKey).result(filteredOutput).build());
+            } else if (output instanceof ModelTensorOutput) {
+                flowAgentOutput.addAll(((ModelTensorOutput) output).getMlModelOutputs().get(0).getMlModelTensors());
+            } else if (toolParameters.getOrDefault("return_data_as_map", "false").equalsIgnoreCase("true")) {
+                flowAgentOutput.add(convertOutputToModelTensor(output, outputKey));
+            } else {
+                ModelTensor stepOutput = ModelTensor.builder().name(toolName).result(StringUtils.toJson(output)).build();
+                flowAgentOutput.add(stepOutput);
+            }
+
+            additionalInfo.put(outputKey, filteredOutput);
+        }
+    }
+
+    private void sendFlowAgentOutput(
+        MLMemorySpec memorySpec,
+        String memoryId,
+        String parentInteractionId,
+        Map<String, Object> additionalInfo,
+        List<ModelTensor> flowAgentOutput,
+        Map<String, Tool> tools,
+        ActionListener<Object> listener
+    ) {
+        if (memoryId == null || parentInteractionId == null || memorySpec == null || memorySpec.getType() == null) {
+            cleanUpResource(tools, mcpToolSpecCache);
+            listener.onResponse(flowAgentOutput);
+        } else {
+            ActionListener<UpdateResponse> updateListener = ActionListener.wrap(updateResponse -> {
+                log.info("Updated additional info for interaction ID: {} in the flow agent.", updateResponse.getId());
+                cleanUpResource(tools, mcpToolSpecCache);
+                listener.onResponse(flowAgentOutput);
+            }, e -> {
+                log.error("Failed to update root interaction", e);
+                cleanUpResource(tools, mcpToolSpecCache);
+                listener.onResponse(flowAgentOutput);
+            });
+            updateMemoryWithListener(additionalInfo, memorySpec, memoryId, parentInteractionId, updateListener);
+        }
+    }
+
+    private static int getMaxParallelTools(MLAgent mlAgent, Map<String, String> params) {
+        String maxParallelTools = params.get(MAX_PARALLEL_TOOLS);
+        if (maxParallelTools == null && mlAgent.getParameters() != null) {
+            maxParallelTools = mlAgent.getParameters().get(MAX_PARALLEL_TOOLS);
+        }
+        if (maxParallelTools == null) {
+            return 1;
+        }
+        int value;
+        try {
+            value = Integer.parseInt(maxParallelTools.trim());
+        } catch (NumberFormatException e) {
+            value = 0;
+        }
+        if (value < 1) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "%s must be a positive integer, got: %s", MAX_PARALLEL_TOOLS, maxParallelTools)
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Get the indices of the tools whose outputs the tool consumes. Dependencies are the tools listed in the depends_on tool
+     * parameter if present, otherwise the earlier tools whose output ${parameters.<tool>.output} is referenced in the parameters
+     * or config of the tool. A tool can only depend on tools listed before it, so the flow stays acyclic.
+     * @param toolSpecs tools of the flow agent in order
+     * @param index index of the tool
+     * @param params request parameters
+     * @return indices of the tools the tool depends on
+     */
+    @VisibleForTesting
+    static Set<Integer> getToolDependencies(List<MLToolSpec> toolSpecs, int index, Map<String, String> params) {
+        MLToolSpec toolSpec = toolSpecs.get(index);
+        String toolName = getToolName(toolSpec);
+        Map<String, Integer> earlierTools = new HashMap<>();
+        for (int i = 0; i < index; i++) {
+            earlierTools.put(getToolName(toolSpecs.get(i)), i);
+        }
+
+        Set<Integer> dependencies = new LinkedHashSet<>();
+        String dependsOn = params.get(toolName + "." + DEPENDS_ON);
+        if (dependsOn == null && toolSpec.getParameters() != null) {
+            dependsOn = toolSpec.getParameters().get(DEPENDS_ON);
+        }
+        if (dependsOn != null) {
+            for (String dependency : dependsOn.split(",")) {
+                String dependencyName = dependency.trim();
+                if (dependencyName.isEmpty()) {
+                    continue;
+                }
+                Integer dependencyIndex = earlierTools.get(dependencyName);
+                if (dependencyIndex == null) {
+                    throw new IllegalArgumentException(
+                        String.format(Locale.ROOT, "Tool %s depends on %s which is not a tool before it", toolName, dependencyName)
+                    );
+                }
+                dependencies.add(dependencyIndex);
+            }
+            return dependencies;
+        }
+
+        List<String> values = new ArrayList<>();
+        if (toolSpec.getParameters() != null) {
+            values.addAll(toolSpec.getParameters().values());
+        }
+        if (toolSpec.getConfigMap() != null) {
+            values.addAll(toolSpec.getConfigMap().values());
+        }
+        params.forEach((key, value) -> {
+            if (key.startsWith(toolName + ".")) {
+                values.add(value);
+            }
+        });
+        for (Map.Entry<String, Integer> earlierTool : earlierTools.entrySet()) {
+            String outputReference = "${parameters." + earlierTool.getKey() + ".output}";
+            if (values.stream().anyMatch(value -> value != null && value.contains(outputReference))) {
+                dependencies.add(earlierTool.getValue());
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Run the tools as a dependency graph: each tool starts once the tools it depends on complete, with at most maxParallelTools
+     * tools running at the same time. The first tool failure fails the flow agent and no more tools are started. Outputs are
+     * returned in the order of the tools.
+     */
+    private void runToolGraph(
+        MLAgent mlAgent,
+        Map<String, String> params,
+        ActionListener<Object> listener,
+        List<MLToolSpec> toolSpecs,
+        int maxParallelTools
+    ) {
+        int size = toolSpecs.size();
+        List<Set<Integer>> dependencies = new ArrayList<>();
+        Set<String> toolNames = new HashSet<>();
+        try {
+            for (int i = 0; i < size; i++) {
+                // tools are referenced and write their outputs by name, so tools running in parallel can't share one
+                String toolName = getToolName(toolSpecs.get(i));
+                if (!toolNames.add(toolName)) {
+                    throw new IllegalArgumentException(
+                        String.format(Locale.ROOT, "Tool name %s is used by more than one tool, parallel tools need unique names", toolName)
+                    );
+                }
+                dependencies.add(getToolDependencies(toolSpecs, i, params));
+            }
+        } catch (IllegalArgumentException e) {
+            listener.onFailure(e);
+            return;
+        }
+        log.debug("Running flow agent tools with dependencies {} and at most {} in parallel", dependencies, maxParallelTools);
+
+        // tools running in parallel write their outputs to the parameters
+        Map<String, String> graphParams = new ConcurrentHashMap<>();
+        params.forEach((key, value) -> {
+            if (key != null && value != null) {
+                graphParams.put(key, value);
+            }
+        });
+        Map<String, Tool> tools = new ConcurrentHashMap<>();
+        Map<String, Object> additionalInfo = new ConcurrentHashMap<>();
+        List<List<ModelTensor>> toolOutputs = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            toolOutputs.add(new ArrayList<>());
+        }
+        Set<Integer> started = new HashSet<>();
+        Set<Integer> completed = new HashSet<>();
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicBoolean failed = new AtomicBoolean(false);
+
+        Consumer<Exception> failFlow = e -> {
+            if (failed.compareAndSet(false, true)) {
+                log.error("Failed to run flow agent", e);
+                cleanUpResource(tools, mcpToolSpecCache);
+                listener.onFailure(e);
+            }
+        };
+
+        AtomicReference<Runnable> scheduleTools = new AtomicReference<>();
+        scheduleTools.set(() -> {
+            List<Integer> ready = new ArrayList<>();
+            synchronized (started) {
+                if (failed.get()) {
+                    return;
+                }
+                for (int i = 0; i < size && running.get() < maxParallelTools; i++) {
+                    if (!started.contains(i) && completed.containsAll(dependencies.get(i))) {
+                        started.add(i);
+                        running.incrementAndGet();
+                        ready.add(i);
+                    }
+                }
+            }
+            for (int index : ready) {
+                MLToolSpec toolSpec = toolSpecs.get(index);
+                client.threadPool().executor(ThreadPool.Names.GENERIC).execute(() -> {
+                    try {
+                        Map<String, String> executeParams = ToolUtils.buildToolParameters(graphParams, toolSpec, mlAgent.getTenantId());
+                        Tool tool = createTool(toolFactories, executeParams, toolSpec);
+                        tools.put(tool.getName(), tool);
+                        tool.run(executeParams, ActionListener.wrap(output -> {
+                            if (failed.get()) {
+                                return;
+                            }
+                            processToolOutput(
+                                mlAgent,
+                                graphParams,
+                                toolSpec,
+                                output,
+                                index == size - 1,
+                                toolOutputs.get(index),
+                                additionalInfo
+                            );
+                            boolean allCompleted;
+                            synchronized (started) {
+                                completed.add(index);
+                                running.decrementAndGet();
+                                allCompleted = completed.size() == size;
+                            }
+                            if (allCompleted) {
+                                List<ModelTensor> flowAgentOutput = new ArrayList<>();
+                                toolOutputs.forEach(flowAgentOutput::addAll);
+                                sendFlowAgentOutput(
+                                    mlAgent.getMemory(),
+                                    params.get(MLAgentExecutor.MEMORY_ID),
+                                    params.get(MLAgentExecutor.PARENT_INTERACTION_ID),
+                                    additionalInfo,
+                                    flowAgentOutput,
+                                    tools,
+                                    listener
+                                );
+                            } else {
+                                scheduleTools.get().run();
+                            }
+                        }, failFlow::accept));
+                    } catch (Exception e) {
+                        failFlow.accept(e);
+                    }
+                });
+            }
+        });
+        scheduleTools.get().run();
+    }
+
     @VisibleForTesting
     void updateMemoryWithListener(
         Map<String, Object> additionalInfo,
@@ -42,10 +42,12 @@ import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.DEFAULT_R
 import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.EXECUTOR_RESPONSIBILITY;
 import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.FINAL_RESULT_RESPONSE_INSTRUCTIONS;
 import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.MAX_STEP_SUMMARY_PER_SYSTEM_PROMPT;
+import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.PARALLEL_STEPS_INSTRUCTIONS;
 import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.getCorePlanningInstructions;
 import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.getPlanExecuteReflectResponseFormat;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -55,7 +57,9 @@ import java.util.function.Consumer;
 
 import org.apache.commons.text.StringSubstitutor;
 import org.opensearch.action.StepListener;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -110,6 +114,8 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
     private final Map<String, Memory.Factory> memoryFactoryMap;
     private SdkClient sdkClient;
     private Encryptor encryptor;
+    // null if MCP tool specs are listed from the MCP servers on every run
+    private McpToolSpecCache mcpToolSpecCache;
     private HookRegistry hookRegistry;
     // flag to track if task has been updated with executor memory ids or not
     private boolean taskUpdated = false;
@@ -132,6 +138,9 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
     private static final String DEFAULT_NO_ESCAPE_PARAMS = "tool_configs,_tools";
     private static final String DEFAULT_MAX_STEPS_EXECUTED = "20";
     private static final String DEFAULT_REACT_MAX_ITERATIONS = "20";
+    // steps are executed one at a time unless max_parallel_steps is set
+    private static final String DEFAULT_MAX_PARALLEL_STEPS = "1";
+    private static final int MAX_PARALLEL_STEPS_LIMIT = 10;
 
     // fields
     public static final String PROMPT_FIELD = "prompt";
@@ -164,6 +173,8 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
     public static final String REFLECT_PROMPT_TEMPLATE_FIELD = "reflect_prompt_template";
     public static final String PLANNER_WITH_HISTORY_TEMPLATE_FIELD = "planner_with_history_template";
     public static final String EXECUTOR_MAX_ITERATIONS_FIELD = "executor_max_iterations";
+    public static final String MAX_PARALLEL_STEPS_FIELD = "max_parallel_steps";
+    public static final String INDEPENDENT_STEPS_FIELD = "independent_steps";
 
     // controls how many messages (last x) from planner memory are passed as context during planning phase
     // these messages are added as completed steps in the reflect prompt
@@ -187,6 +198,21 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
         SdkClient sdkClient,
         Encryptor encryptor,
         HookRegistry hookRegistry
+    ) {
+        this(client, settings, clusterService, registry, toolFactories, memoryFactoryMap, sdkClient, encryptor, hookRegistry, null);
+    }
+
+    public MLPlanExecuteAndReflectAgentRunner(
+        Client client,
+        Settings settings,
+        ClusterService clusterService,
+        NamedXContentRegistry registry,
+        Map<String, Tool.Factory> toolFactories,
+        Map<String, Memory.Factory> memoryFactoryMap,
+        SdkClient sdkClient,
+        Encryptor encryptor,
+        HookRegistry hookRegistry,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         this.client = client;
         this.settings = settings;
@@ -197,6 +223,7 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
         this.sdkClient = sdkClient;
         this.encryptor = encryptor;
         this.hookRegistry = hookRegistry;
+        this.mcpToolSpecCache = mcpToolSpecCache;
         this.plannerPrompt = DEFAULT_PLANNER_PROMPT;
         this.plannerPromptTemplate = DEFAULT_PLANNER_PROMPT_TEMPLATE;
         this.reflectPrompt = DEFAULT_REFLECT_PROMPT;
@@ -270,6 +297,10 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
             params.put(SYSTEM_PROMPT_FIELD, finalPlannerPrompt);
         }
 
+        if (getMaxParallelSteps(params) > 1) {
+            params.put(SYSTEM_PROMPT_FIELD, params.get(SYSTEM_PROMPT_FIELD) + "\n" + PARALLEL_STEPS_INSTRUCTIONS);
+        }
+
         String executorSystemPrompt = params.getOrDefault(EXECUTOR_SYSTEM_PROMPT_FIELD, DEFAULT_EXECUTOR_SYSTEM_PROMPT);
         if (injectDate) {
             executorSystemPrompt = String.format("%s\n\n%s", executorSystemPrompt, currentDateTime);
@@ -494,7 +525,7 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
         };
 
         // Fetch MCP tools and handle both success and failure cases
-        getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, ActionListener.wrap(mcpTools -> {
+        getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, mcpToolSpecCache, ActionListener.wrap(mcpTools -> {
             toolSpecs.addAll(mcpTools);
             processTools.accept(toolSpecs);
         }, e -> {
@@ -620,169 +651,84 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
                 List<String> steps = (List<String>) parseLLMOutput.get(STEPS_FIELD);
                 addSteps(steps, allParams, STEPS_FIELD);
 
-                String stepToExecute = steps.getFirst();
-                String reActAgentId = allParams.get(EXECUTOR_AGENT_ID_FIELD);
-                Map<String, String> reactParams = new HashMap<>();
-                reactParams.put(QUESTION_FIELD, stepToExecute);
-                // required for agent revamp input
-                reactParams.put(PROMPT_FIELD, stepToExecute);
-                if (allParams.containsKey(EXECUTOR_AGENT_MEMORY_ID_FIELD)) {
-                    reactParams.put(MEMORY_ID_FIELD, allParams.get(EXECUTOR_AGENT_MEMORY_ID_FIELD));
-                }
-
-                reactParams.put(SYSTEM_PROMPT_FIELD, allParams.getOrDefault(EXECUTOR_SYSTEM_PROMPT_FIELD, DEFAULT_EXECUTOR_SYSTEM_PROMPT));
-                reactParams.put(LLM_RESPONSE_FILTER, allParams.get(LLM_RESPONSE_FILTER));
-                reactParams.put(MAX_ITERATION, allParams.getOrDefault(EXECUTOR_MAX_ITERATIONS_FIELD, DEFAULT_REACT_MAX_ITERATIONS));
-                reactParams
-                    .put(
-                        MLAgentExecutor.MESSAGE_HISTORY_LIMIT,
-                        allParams.getOrDefault(EXECUTOR_MESSAGE_HISTORY_LIMIT, DEFAULT_EXECUTOR_MESSAGE_HISTORY_LIMIT)
-                    );
-                if (allParams.containsKey(MEMORY_CONTAINER_ID_FIELD)) {
-                    reactParams.put(MEMORY_CONTAINER_ID_FIELD, allParams.get(MEMORY_CONTAINER_ID_FIELD));
-                }
-                if (allParams.containsKey(MEMORY_CONFIGURATION_FIELD)) {
-                    reactParams.put(MEMORY_CONFIGURATION_FIELD, allParams.get(MEMORY_CONFIGURATION_FIELD));
-                }
-                // Mark sub-agent so its token tracker suppresses logging (parent logs merged totals)
-                reactParams.put(AgentTokenTracker.IS_SUB_AGENT_FIELD, "true");
-
-                AgentMLInput agentInput = AgentMLInput
-                    .AgentMLInputBuilder()
-                    .agentId(reActAgentId)
-                    .functionName(FunctionName.AGENT)
-                    .inputDataset(RemoteInferenceInputDataSet.builder().parameters(reactParams).build())
-                    .tenantId(allParams.get(TENANT_ID_FIELD))
-                    .build();
-
-                // Pass hookRegistry to internal agent execution
-                agentInput.setHookRegistry(hookRegistry);
-
-                MLExecuteTaskRequest executeRequest = new MLExecuteTaskRequest(FunctionName.AGENT, agentInput);
-
-                client.execute(MLExecuteTaskAction.INSTANCE, executeRequest, ActionListener.wrap(executeResponse -> {
-                    ModelTensorOutput reactResult = (ModelTensorOutput) executeResponse.getOutput();
-
-                    // Navigate through the structure to get the response
-                    Map<String, String> results = new HashMap<>();
-
-                    // Process tensors in a single stream
-                    reactResult.getMlModelOutputs().stream().flatMap(output -> output.getMlModelTensors().stream()).forEach(tensor -> {
-                        switch (tensor.getName()) {
-                            case MEMORY_ID_FIELD:
-                                results.put(MEMORY_ID_FIELD, tensor.getResult());
-                                break;
-                            case PARENT_INTERACTION_ID_FIELD:
-                                results.put(PARENT_INTERACTION_ID_FIELD, tensor.getResult());
-                                break;
-                            case AgentTokenTracker.TOKEN_USAGE:
-                                if (tensor.getDataAsMap() != null) {
-                                    @SuppressWarnings("unchecked")
-                                    Map<String, Object> tokenData = (Map<String, Object>) tensor.getDataAsMap();
-                                    tokenTracker.mergeSubAgentUsage(tokenData);
-                                }
-                                break;
-                            default:
-                                String stepResult = parseTensorDataMap(tensor);
-                                if (stepResult != null) {
-                                    results.put(STEP_RESULT_FIELD, stepResult);
-                                }
+                int stepCount = getParallelStepCount(
+                    allParams,
+                    parseLLMOutput.get(INDEPENDENT_STEPS_FIELD),
+                    steps.size(),
+                    maxSteps - stepsExecuted
+                );
+                List<String> stepsToExecute = steps.subList(0, stepCount);
+
+                // independent steps run concurrently, their results are handled in plan order once all of them are done
+                GroupedActionListener<Tuple<Integer, ModelTensorOutput>> stepsListener = new GroupedActionListener<>(
+                    ActionListener.wrap(stepOutputs -> {
+                        List<Tuple<Integer, ModelTensorOutput>> orderedOutputs = new ArrayList<>(stepOutputs);
+                        orderedOutputs.sort(Comparator.comparingInt(Tuple::v1));
+                        for (Tuple<Integer, ModelTensorOutput> stepOutput : orderedOutputs) {
+                            handleStepResult(
+                                stepsToExecute.get(stepOutput.v1()),
+                                stepOutput.v2(),
+                                stepsExecuted + stepOutput.v1() + 1,
+                                stepOutput.v1() == 0,
+                                allParams,
+                                completedSteps,
+                                memory,
+                                conversationId,
+                                parentInteractionId,
+                                traceNumber,
+                                tokenTracker
+                            );
                         }
-                    });
 
-                    if (!results.containsKey(STEP_RESULT_FIELD)) {
-                        throw new IllegalStateException("No valid response found in ReAct agent output");
-                    }
-
-                    // Only add memory_id to params if it exists and is not empty
-                    String reActMemoryId = results.get(MEMORY_ID_FIELD);
-                    if (reActMemoryId != null && !reActMemoryId.isEmpty()) {
-                        allParams.put(EXECUTOR_AGENT_MEMORY_ID_FIELD, reActMemoryId);
-                    }
-
-                    String reActParentInteractionId = results.get(PARENT_INTERACTION_ID_FIELD);
-                    if (reActParentInteractionId != null && !reActParentInteractionId.isEmpty()) {
-                        allParams.put(EXECUTOR_AGENT_PARENT_INTERACTION_ID_FIELD, reActParentInteractionId);
-                    }
-
-                    Map<String, Object> memoryUpdates = new HashMap<>();
-                    if (allParams.containsKey(EXECUTOR_AGENT_MEMORY_ID_FIELD)) {
-                        memoryUpdates.put(EXECUTOR_AGENT_MEMORY_ID_FIELD, allParams.get(EXECUTOR_AGENT_MEMORY_ID_FIELD));
-                    }
-
-                    if (allParams.containsKey(EXECUTOR_AGENT_PARENT_INTERACTION_ID_FIELD)) {
-                        memoryUpdates
-                            .put(EXECUTOR_AGENT_PARENT_INTERACTION_ID_FIELD, allParams.get(EXECUTOR_AGENT_PARENT_INTERACTION_ID_FIELD));
-                    }
-
-                    String taskId = allParams.get(TASK_ID_FIELD);
-                    if (taskId != null && !taskUpdated) {
-                        taskUpdates.put(STATE_FIELD, MLTaskState.RUNNING);
-                        taskUpdates.put(RESPONSE_FIELD, memoryUpdates);
-                        updateMLTaskDirectly(
-                            taskId,
-                            allParams.get(TENANT_ID_FIELD),
-                            taskUpdates,
-                            client,
-                            sdkClient,
-                            ActionListener.wrap(updateResponse -> {
-                                log.info("Updated task {} with executor memory ID", taskId);
-                                taskUpdated = true;
-                            }, e -> log.error("Failed to update task {} with executor memory ID", taskId, e))
+                        addSteps(completedSteps, allParams, COMPLETED_STEPS_FIELD);
+
+                        useReflectPromptTemplate(allParams);
+
+                        executePlanningLoop(
+                            llm,
+                            allParams,
+                            completedSteps,
+                            memory,
+                            conversationId,
+                            stepsExecuted + stepsToExecute.size(),
+                            traceNumber,
+                            finalListener,
+                            functionCalling,
+                            tokenTracker
                         );
-                    }
+                    }, e -> {
+                        String tenantIdLog = allParams.get(TENANT_ID_FIELD);
+                        log
+                            .error(
+                                "Failed to execute ReAct agent. agentId={}, tenantId={}",
+                                allParams.get(CommonValue.AGENT_ID_LOG_FIELD),
+                                tenantIdLog,
+                                e
+                            );
+                        finalListener.onFailure(e);
+                    }),
+                    stepsToExecute.size()
+                );
 
-                    completedSteps.add(String.format("\n<step-%d>\n%s\n</step-%d>\n", stepsExecuted + 1, stepToExecute, stepsExecuted + 1));
-                    completedSteps
-                        .add(
-                            String
-                                .format(
-                                    "\n<step-%d-result>\n%s\n</step-%d-result>\n",
-                                    stepsExecuted + 1,
-                                    results.get(STEP_RESULT_FIELD),
-                                    stepsExecuted + 1
+                // build all requests before executing any, so every step sees the same executor memory
+                List<MLExecuteTaskRequest> executeRequests = new ArrayList<>(stepsToExecute.size());
+                for (String stepToExecute : stepsToExecute) {
+                    executeRequests.add(createExecuteStepRequest(stepToExecute, allParams));
+                }
+                for (int i = 0; i < executeRequests.size(); i++) {
+                    int stepIndex = i;
+                    client
+                        .execute(
+                            MLExecuteTaskAction.INSTANCE,
+                            executeRequests.get(i),
+                            ActionListener
+                                .wrap(
+                                    executeResponse -> stepsListener
+                                        .onResponse(new Tuple<>(stepIndex, (ModelTensorOutput) executeResponse.getOutput())),
+                                    stepsListener::onFailure
                                 )
                         );
-
-                    saveTraceData(
-                        memory,
-                        memory != null ? memory.getType() : null,
-                        stepToExecute,
-                        results.get(STEP_RESULT_FIELD),
-                        conversationId,
-                        false,
-                        parentInteractionId,
-                        traceNumber,
-                        "PlanExecuteReflect Agent"
-                    );
-
-                    addSteps(completedSteps, allParams, COMPLETED_STEPS_FIELD);
-
-                    useReflectPromptTemplate(allParams);
-
-                    executePlanningLoop(
-                        llm,
-                        allParams,
-                        completedSteps,
-                        memory,
-                        conversationId,
-                        stepsExecuted + 1,
-                        traceNumber,
-                        finalListener,
-                        functionCalling,
-                        tokenTracker
-                    );
-                }, e -> {
-                    String tenantIdLog = allParams.get(TENANT_ID_FIELD);
-                    log
-                        .error(
-                            "Failed to execute ReAct agent. agentId={}, tenantId={}",
-                            allParams.get(CommonValue.AGENT_ID_LOG_FIELD),
-                            tenantIdLog,
-                            e
-                        );
-                    finalListener.onFailure(e);
-                }));
+                }
             }
         }, e -> {
             log
@@ -806,6 +752,179 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
         client.execute(MLPredictionTaskAction.INSTANCE, request, planListener);
     }
 
+    private MLExecuteTaskRequest createExecuteStepRequest(String stepToExecute, Map<String, String> allParams) {
+        String reActAgentId = allParams.get(EXECUTOR_AGENT_ID_FIELD);
+        Map<String, String> reactParams = new HashMap<>();
+        reactParams.put(QUESTION_FIELD, stepToExecute);
+        // required for agent revamp input
+        reactParams.put(PROMPT_FIELD, stepToExecute);
+        if (allParams.containsKey(EXECUTOR_AGENT_MEMORY_ID_FIELD)) {
+            reactParams.put(MEMORY_ID_FIELD, allParams.get(EXECUTOR_AGENT_MEMORY_ID_FIELD));
+        }
+
+        reactParams.put(SYSTEM_PROMPT_FIELD, allParams.getOrDefault(EXECUTOR_SYSTEM_PROMPT_FIELD, DEFAULT_EXECUTOR_SYSTEM_PROMPT));
+        reactParams.put(LLM_RESPONSE_FILTER, allParams.get(LLM_RESPONSE_FILTER));
+        reactParams.put(MAX_ITERATION, allParams.getOrDefault(EXECUTOR_MAX_ITERATIONS_FIELD, DEFAULT_REACT_MAX_ITERATIONS));
+        reactParams
+            .put(
+                MLAgentExecutor.MESSAGE_HISTORY_LIMIT,
+                allParams.getOrDefault(EXECUTOR_MESSAGE_HISTORY_LIMIT, DEFAULT_EXECUTOR_MESSAGE_HISTORY_LIMIT)
+            );
+        if (allParams.containsKey(MEMORY_CONTAINER_ID_FIELD)) {
+            reactParams.put(MEMORY_CONTAINER_ID_FIELD, allParams.get(MEMORY_CONTAINER_ID_FIELD));
+        }
+        if (allParams.containsKey(MEMORY_CONFIGURATION_FIELD)) {
+            reactParams.put(MEMORY_CONFIGURATION_FIELD, allParams.get(MEMORY_CONFIGURATION_FIELD));
+        }
+        // Mark sub-agent so its token tracker suppresses logging (parent logs merged totals)
+        reactParams.put(AgentTokenTracker.IS_SUB_AGENT_FIELD, "true");
+
+        AgentMLInput agentInput = AgentMLInput
+            .AgentMLInputBuilder()
+            .agentId(reActAgentId)
+            .functionName(FunctionName.AGENT)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(reactParams).build())
+            .tenantId(allParams.get(TENANT_ID_FIELD))
+            .build();
+
+        // Pass hookRegistry to internal agent execution
+        agentInput.setHookRegistry(hookRegistry);
+
+        return new MLExecuteTaskRequest(FunctionName.AGENT, agentInput);
+    }
+
+    private void handleStepResult(
+        String stepToExecute,
+        ModelTensorOutput reactResult,
+        int stepNumber,
+        boolean firstOfBatch,
+        Map<String, String> allParams,
+        List<String> completedSteps,
+        Memory memory,
+        String conversationId,
+        String parentInteractionId,
+        AtomicInteger traceNumber,
+        AgentTokenTracker tokenTracker
+    ) {
+        // Navigate through the structure to get the response
+        Map<String, String> results = new HashMap<>();
+
+        // Process tensors in a single stream
+        reactResult.getMlModelOutputs().stream().flatMap(output -> output.getMlModelTensors().stream()).forEach(tensor -> {
+            switch (tensor.getName()) {
+                case MEMORY_ID_FIELD:
+                    results.put(MEMORY_ID_FIELD, tensor.getResult());
+                    break;
+                case PARENT_INTERACTION_ID_FIELD:
+                    results.put(PARENT_INTERACTION_ID_FIELD, tensor.getResult());
+                    break;
+                case AgentTokenTracker.TOKEN_USAGE:
+                    if (tensor.getDataAsMap() != null) {
+                        @SuppressWarnings("unchecked")
+                        Map<String, Object> tokenData = (Map<String, Object>) tensor.getDataAsMap();
+                        tokenTracker.mergeSubAgentUsage(tokenData);
+                    }
+                    break;
+                default:
+                    String stepResult = parseTensorDataMap(tensor);
+                    if (stepResult != null) {
+                        results.put(STEP_RESULT_FIELD, stepResult);
+                    }
+            }
+        });
+
+        if (!results.containsKey(STEP_RESULT_FIELD)) {
+            throw new IllegalStateException("No valid response found in ReAct agent output");
+        }
+
+        // Only add memory_id to params if it exists and is not empty. Steps executed concurrently without an executor memory
+        // each get their own, the one of the first step is kept for the following steps
+        String reActMemoryId = results.get(MEMORY_ID_FIELD);
+        if (reActMemoryId != null && !reActMemoryId.isEmpty()) {
+            if (firstOfBatch) {
+                allParams.put(EXECUTOR_AGENT_MEMORY_ID_FIELD, reActMemoryId);
+            } else {
+                allParams.putIfAbsent(EXECUTOR_AGENT_MEMORY_ID_FIELD, reActMemoryId);
+            }
+        }
+
+        String reActParentInteractionId = results.get(PARENT_INTERACTION_ID_FIELD);
+        if (reActParentInteractionId != null && !reActParentInteractionId.isEmpty()) {
+            allParams.put(EXECUTOR_AGENT_PARENT_INTERACTION_ID_FIELD, reActParentInteractionId);
+        }
+
+        Map<String, Object> memoryUpdates = new HashMap<>();
+        if (allParams.containsKey(EXECUTOR_AGENT_MEMORY_ID_FIELD)) {
+            memoryUpdates.put(EXECUTOR_AGENT_MEMORY_ID_FIELD, allParams.get(EXECUTOR_AGENT_MEMORY_ID_FIELD));
+        }
+
+        if (allParams.containsKey(EXECUTOR_AGENT_PARENT_INTERACTION_ID_FIELD)) {
+            memoryUpdates.put(EXECUTOR_AGENT_PARENT_INTERACTION_ID_FIELD, allParams.get(EXECUTOR_AGENT_PARENT_INTERACTION_ID_FIELD));
+        }
+
+        String taskId = allParams.get(TASK_ID_FIELD);
+        if (taskId != null && !taskUpdated) {
+            taskUpdates.put(STATE_FIELD, MLTaskState.RUNNING);
+            taskUpdates.put(RESPONSE_FIELD, memoryUpdates);
+            updateMLTaskDirectly(
+                taskId,
+                allParams.get(TENANT_ID_FIELD),
+                taskUpdates,
+                client,
+                sdkClient,
+                ActionListener.wrap(updateResponse -> {
+                    log.info("Updated task {} with executor memory ID", taskId);
+                    taskUpdated = true;
+                }, e -> log.error("Failed to update task {} with executor memory ID", taskId, e))
+            );
+        }
+
+        completedSteps.add(String.format("\n<step-%d>\n%s\n</step-%d>\n", stepNumber, stepToExecute, stepNumber));
+        completedSteps
+            .add(String.format("\n<step-%d-result>\n%s\n</step-%d-result>\n", stepNumber, results.get(STEP_RESULT_FIELD), stepNumber));
+
+        saveTraceData(
+            memory,
+            memory != null ? memory.getType() : null,
+            stepToExecute,
+            results.get(STEP_RESULT_FIELD),
+            conversationId,
+            false,
+            parentInteractionId,
+            traceNumber,
+            "PlanExecuteReflect Agent"
+        );
+    }
+
+    /**
+     * Number of leading plan steps to execute in this iteration. Only steps the planner marked as independent of each other are
+     * executed together, and only when parallel steps are enabled with max_parallel_steps.
+     */
+    @VisibleForTesting
+    static int getParallelStepCount(Map<String, String> allParams, Object independentSteps, int plannedSteps, int remainingSteps) {
+        int maxParallelSteps = getMaxParallelSteps(allParams);
+        int count = 1;
+        if (maxParallelSteps > 1 && independentSteps instanceof Number) {
+            count = Math.min(((Number) independentSteps).intValue(), maxParallelSteps);
+        }
+        return Math.max(1, Math.min(count, Math.min(plannedSteps, remainingSteps)));
+    }
+
+    private static int getMaxParallelSteps(Map<String, String> allParams) {
+        try {
+            int maxParallelSteps = Integer.parseInt(allParams.getOrDefault(MAX_PARALLEL_STEPS_FIELD, DEFAULT_MAX_PARALLEL_STEPS));
+            return Math.min(Math.max(maxParallelSteps, 1), MAX_PARALLEL_STEPS_LIMIT);
+        } catch (NumberFormatException e) {
+            log
+                .warn(
+                    "Invalid {} value: {}, executing steps one at a time",
+                    MAX_PARALLEL_STEPS_FIELD,
+                    allParams.get(MAX_PARALLEL_STEPS_FIELD)
+                );
+            return 1;
+        }
+    }
+
     @VisibleForTesting
     String parseTensorDataMap(ModelTensor tensor) {
         Map<String, ?> dataMap = tensor.getDataAsMap();
@@ -868,6 +987,10 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
             modelOutput.put(STEPS_FIELD, steps);
         }
 
+        if (parsedJson.get(INDEPENDENT_STEPS_FIELD) instanceof Number) {
+            modelOutput.put(INDEPENDENT_STEPS_FIELD, parsedJson.get(INDEPENDENT_STEPS_FIELD));
+        }
+
         if (parsedJson.containsKey(RESULT_FIELD)) {
             String result = (String) parsedJson.get(RESULT_FIELD);
             if (!result.isEmpty()) {
@@ -915,7 +1038,7 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
         toolsPrompt.append("No other tools are available. Do not invent tools. Only use tools to create the plan.\n\n");
         allParams.put(DEFAULT_PROMPT_TOOLS_FIELD, toolsPrompt.toString());
         populatePrompt(allParams);
-        cleanUpResource(tools);
+        cleanUpResource(tools, mcpToolSpecCache);
     }
 
     @VisibleForTesting
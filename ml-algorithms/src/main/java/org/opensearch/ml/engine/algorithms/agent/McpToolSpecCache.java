@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MCP_TOOL_SPEC_CACHE_MAX_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MCP_TOOL_SPEC_CACHE_TTL_MINUTES;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.agent.MLToolSpec;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node-level cache of the tool specs listed from MCP connectors, together with the MCP client session they were listed with.
+ * Without the cache every agent run does a full MCP handshake and a tools/list round trip for each MCP connector.
+ * <p>
+ * Entries are keyed by tenant and connector id and remember the last update time of the connector they were built from, so a
+ * connector updated on any node is reloaded on the next agent run. The session of a cached entry is shared by all agent runs
+ * and is not closed by them, see {@link #isCachedClient(Object)}. When an entry is replaced, invalidated or expires its session
+ * is closed after one more TTL so that agent runs which picked it up can finish their tool calls.
+ */
+@Log4j2
+public class McpToolSpecCache {
+
+    private final Cache<String, Entry> entries;
+    private final boolean enabled;
+    private final long ttlMinutes;
+    // sessions owned by the cache, including replaced ones waiting to be closed
+    private final Set<McpSyncClient> cachedClients = ConcurrentHashMap.newKeySet();
+
+    public McpToolSpecCache(Settings settings) {
+        int maxSize = ML_COMMONS_MCP_TOOL_SPEC_CACHE_MAX_SIZE.get(settings);
+        this.ttlMinutes = ML_COMMONS_MCP_TOOL_SPEC_CACHE_TTL_MINUTES.get(settings);
+        this.enabled = maxSize > 0;
+        this.entries = CacheBuilder
+            .newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+            .removalListener(this::onRemoval)
+            .recordStats()
+            .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get the cached tool specs of a connector.
+     * @param tenantId tenant id
+     * @param connectorId connector id
+     * @param lastUpdateTime last update time of the connector document, entries built from an older version are dropped
+     * @return copies of the cached tool specs, null if the connector is not cached
+     */
+    public List<MLToolSpec> get(String tenantId, String connectorId, Instant lastUpdateTime) {
+        if (!enabled || connectorId == null) {
+            return null;
+        }
+        String key = key(tenantId, connectorId);
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!Objects.equals(entry.getLastUpdateTime(), lastUpdateTime)) {
+            log.debug("MCP connector {} was updated, dropping cached tool specs", connectorId);
+            entries.asMap().remove(key, entry);
+            return null;
+        }
+        return copy(entry.getToolSpecs());
+    }
+
+    /**
+     * Cache the tool specs listed from a connector. Specs are cached only if they all share one MCP session.
+     * @param tenantId tenant id
+     * @param connectorId connector id
+     * @param lastUpdateTime last update time of the connector document
+     * @param toolSpecs tool specs listed from the connector
+     * @param client client whose thread pool closes the session once the entry is removed
+     * @return true if the tool specs were cached, the session is then owned by the cache
+     */
+    public boolean put(String tenantId, String connectorId, Instant lastUpdateTime, List<MLToolSpec> toolSpecs, Client client) {
+        if (!enabled || connectorId == null || toolSpecs == null || toolSpecs.isEmpty() || client == null) {
+            return false;
+        }
+        McpSyncClient mcpClient = getMcpClient(toolSpecs.get(0));
+        if (mcpClient == null || toolSpecs.stream().anyMatch(spec -> getMcpClient(spec) != mcpClient)) {
+            return false;
+        }
+        cachedClients.add(mcpClient);
+        entries.put(key(tenantId, connectorId), new Entry(lastUpdateTime, copy(toolSpecs), mcpClient, client.threadPool()));
+        log.debug("Cached {} MCP tool specs of connector {}", toolSpecs.size(), connectorId);
+        return true;
+    }
+
+    /**
+     * Drop the cached tool specs of a connector, e.g. after the connector is updated or deleted.
+     * @param tenantId tenant id
+     * @param connectorId connector id
+     */
+    public void invalidate(String tenantId, String connectorId) {
+        if (connectorId != null) {
+            entries.invalidate(key(tenantId, connectorId));
+        }
+    }
+
+    /**
+     * Drop the cached entry using an MCP session, e.g. after a tool call failed because the session lost its connection.
+     * @param mcpClient MCP client of a tool
+     */
+    public void invalidateSession(Object mcpClient) {
+        if (isCachedClient(mcpClient)) {
+            entries.asMap().values().removeIf(entry -> entry.getMcpClient() == mcpClient);
+        }
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    /**
+     * Check if an MCP session is owned by the cache. Agent runs must not close such sessions when cleaning up.
+     * @param mcpClient MCP client of a tool
+     * @return true if the session is owned by the cache
+     */
+    public boolean isCachedClient(Object mcpClient) {
+        return mcpClient != null && cachedClients.contains(mcpClient);
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return entries.stats();
+    }
+
+    private void onRemoval(RemovalNotification<String, Entry> notification) {
+        Entry entry = notification.getValue();
+        if (entry == null) {
+            return;
+        }
+        McpSyncClient mcpClient = entry.getMcpClient();
+        Runnable close = () -> {
+            cachedClients.remove(mcpClient);
+            try {
+                mcpClient.closeGracefully();
+                log.debug("Closed MCP session of removed cache entry {}", notification.getKey());
+            } catch (Exception e) {
+                log.warn("Failed to close MCP session of removed cache entry {}: {}", notification.getKey(), e.getMessage());
+            }
+        };
+        try {
+            entry.getThreadPool().schedule(close, TimeValue.timeValueMinutes(ttlMinutes), ThreadPool.Names.GENERIC);
+        } catch (Exception e) {
+            // most likely the node is shutting down, closing now is better than leaking the session
+            log.debug("Could not schedule deferred close of MCP session: {}", e.getMessage());
+            close.run();
+        }
+    }
+
+    private static McpSyncClient getMcpClient(MLToolSpec toolSpec) {
+        if (toolSpec == null || toolSpec.getRuntimeResources() == null) {
+            return null;
+        }
+        Object mcpClient = toolSpec.getRuntimeResources().get(MCP_SYNC_CLIENT);
+        return mcpClient instanceof McpSyncClient ? (McpSyncClient) mcpClient : null;
+    }
+
+    // agent runners may add parameters and runtime resources to tool specs, so each run gets its own copies
+    private static List<MLToolSpec> copy(List<MLToolSpec> toolSpecs) {
+        List<MLToolSpec> copies = new ArrayList<>(toolSpecs.size());
+        for (MLToolSpec toolSpec : toolSpecs) {
+            copies
+                .add(
+                    toolSpec
+                        .toBuilder()
+                        .parameters(copy(toolSpec.getParameters()))
+                        .attributes(copy(toolSpec.getAttributes()))
+                        .configMap(copy(toolSpec.getConfigMap()))
+                        .runtimeResources(copy(toolSpec.getRuntimeResources()))
+                        .build()
+                );
+        }
+        return copies;
+    }
+
+    private static <V> Map<String, V> copy(Map<String, V> map) {
+        return map == null ? null : new HashMap<>(map);
+    }
+
+    private static String key(String tenantId, String connectorId) {
+        return tenantId == null ? connectorId : tenantId + ":" + connectorId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Entry {
+        private final Instant lastUpdateTime;
+        private final List<MLToolSpec> toolSpecs;
+        private final McpSyncClient mcpClient;
+        private final ThreadPool threadPool;
+    }
+}
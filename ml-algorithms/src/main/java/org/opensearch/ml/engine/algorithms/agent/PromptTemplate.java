@@ -122,6 +122,13 @@ public class PromptTemplate {
         return getPlanExecuteReflectResponseFormat(null, null);
     }
 
+    public static final String PARALLEL_STEPS_INSTRUCTIONS =
+        """
+            ## Independent Steps
+            - Steps are executed by separate executors. When the first steps of your plan do not depend on each other's results (e.g. checking two different indices), they can be executed at the same time
+            - Add an "independent_steps" number to the JSON response with how many of the first steps are independent of each other, e.g. "independent_steps": 2. Use 1 or leave it out if the first step must be completed before the next one
+            """;
+
     public static final String DEFAULT_PLANNER_SYSTEM_PROMPT_PREFIX =
         "# Investigation Planner Agent\n\nYou are a thoughtful and analytical planner agent in a plan-execute-reflect framework. Your job is to design a clear, step-by-step plan for a given objective.\n\n";
 
@@ -12,10 +12,15 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -43,13 +48,19 @@ import org.opensearch.ml.common.output.execute.anomalylocalization.Counter;
 import org.opensearch.ml.engine.Executable;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.filter.Filters;
 import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.filter.FiltersAggregator.KeyedFilter;
+import org.opensearch.search.aggregations.bucket.terms.MultiTermsAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.NumericMetricsAggregation.SingleValue;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
+import org.opensearch.search.aggregations.support.MultiTermsValuesSourceConfig;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.transport.client.Client;
 
@@ -188,12 +199,16 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
         ActionListener<AnomalyLocalizationOutput> listener
     ) {
         if (setBase(result, input)) {
-            Counter counter = new HybridCounter();
-            result
-                .getBuckets()
-                .stream()
-                .filter(e -> e.getBase().isPresent() && e.getBase().get().equals(e))
-                .forEach(e -> processBaseEntry(input, agg, result, e, counter, Optional.empty(), output, listener));
+            if (input.getMode() == AnomalyLocalizationInput.Mode.APPROXIMATE) {
+                localizeByHeavyHitters(input, agg, result, output, listener);
+            } else {
+                Counter counter = new HybridCounter();
+                result
+                    .getBuckets()
+                    .stream()
+                    .filter(e -> e.getBase().isPresent() && e.getBase().get().equals(e))
+                    .forEach(e -> processBaseEntry(input, agg, result, e, counter, Optional.empty(), output, listener));
+            }
         }
         outputIfResultsAreComplete(output, listener);
     }
@@ -248,23 +263,33 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
             processBaseEntry(input, agg, result, bucket, counter, afterKey, output, listener);
         } else {
             bucket.setCounter(Optional.of(counter));
-            result.getBuckets().stream().filter(e -> e.getCompleted() != null && e.getCompleted().get() == false).forEach(e -> {
-                PriorityQueue<AnomalyLocalizationOutput.Entity> queue;
-                int queueSize = Math.max(input.getNumOutputs(), MIN_CONTRIBUTOR_CANDIDATE);
-                if (e.getOverallAggValue() > 0) {
-                    queue = new PriorityQueue<AnomalyLocalizationOutput.Entity>(
-                        queueSize,
-                        (a, b) -> (int) Math.signum(a.getContributionValue() - b.getContributionValue())
-                    );
-                } else {
-                    queue = new PriorityQueue<AnomalyLocalizationOutput.Entity>(
-                        queueSize,
-                        (a, b) -> (int) Math.signum(b.getContributionValue() - a.getContributionValue())
-                    );
-                }
-                ;
-                processNewEntry(input, agg, result, e, Optional.empty(), queue, output, listener);
-            });
+            List<NewEntryPaging> pagings = result
+                .getBuckets()
+                .stream()
+                .filter(e -> e.getCompleted() != null && e.getCompleted().get() == false)
+                .map(e -> new NewEntryPaging(e, newContributorQueue(input, e)))
+                .collect(Collectors.toList());
+            if (input.getMode() == AnomalyLocalizationInput.Mode.FUSED) {
+                processNewEntries(input, agg, result, pagings, output, listener);
+            } else {
+                pagings.forEach(e -> processNewEntry(input, agg, result, e.bucket, Optional.empty(), e.queue, output, listener));
+            }
+        }
+    }
+
+    private PriorityQueue<AnomalyLocalizationOutput.Entity> newContributorQueue(
+        AnomalyLocalizationInput input,
+        AnomalyLocalizationOutput.Bucket bucket
+    ) {
+        int queueSize = Math.max(input.getNumOutputs(), MIN_CONTRIBUTOR_CANDIDATE);
+        return new PriorityQueue<AnomalyLocalizationOutput.Entity>(queueSize, contributionComparator(bucket));
+    }
+
+    private Comparator<AnomalyLocalizationOutput.Entity> contributionComparator(AnomalyLocalizationOutput.Bucket bucket) {
+        if (bucket.getOverallAggValue() > 0) {
+            return (a, b) -> (int) Math.signum(a.getContributionValue() - b.getContributionValue());
+        } else {
+            return (a, b) -> (int) Math.signum(b.getContributionValue() - a.getContributionValue());
         }
     }
 
@@ -294,6 +319,32 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
         PriorityQueue<AnomalyLocalizationOutput.Entity> queue,
         AnomalyLocalizationOutput output,
         ActionListener<AnomalyLocalizationOutput> listener
+    ) {
+        Optional<Map<String, Object>> afterKey = addNewEntities(response, input, agg, outputBucket, queue);
+        if (afterKey.isPresent()) {
+            processNewEntry(input, agg, result, outputBucket, afterKey, queue, output, listener);
+        } else {
+            List<List<String>> keys = queue.stream().map(AnomalyLocalizationOutput.Entity::getKey).collect(Collectors.toList());
+            SearchRequest request = newSearchRequestForEntityKeys(input, agg, outputBucket, keys);
+            client
+                .search(
+                    request,
+                    wrap(r -> onEntityKeysResponse(r, input, agg, result, outputBucket, queue, output, listener), listener::onFailure)
+                );
+        }
+    }
+
+    /**
+     * Keeps the entities of a page of the new bucket that contribute the most to the overall change.
+     *
+     * @return the key after the page, empty after the last page
+     */
+    private Optional<Map<String, Object>> addNewEntities(
+        SearchResponse response,
+        AnomalyLocalizationInput input,
+        AggregationBuilder agg,
+        AnomalyLocalizationOutput.Bucket outputBucket,
+        PriorityQueue<AnomalyLocalizationOutput.Entity> queue
     ) {
         Optional<CompositeAggregation> respAgg = Optional
             .ofNullable(response.getAggregations())
@@ -312,18 +363,222 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
                 queue.add(entity);
             }
         }
-        Optional<Map<String, Object>> afterKey = respAgg.map(r -> r.afterKey());
-        if (afterKey.isPresent()) {
-            processNewEntry(input, agg, result, outputBucket, afterKey, queue, output, listener);
+        return respAgg.map(r -> r.afterKey());
+    }
+
+    /**
+     * Pages through the entities of all new buckets together. Each round is one multi-search with the next page of every bucket
+     * that has more entities, and one last multi-search gets the base values of the chosen entities of all buckets.
+     */
+    private void processNewEntries(
+        AnomalyLocalizationInput input,
+        AggregationBuilder agg,
+        AnomalyLocalizationOutput.Result result,
+        List<NewEntryPaging> pagings,
+        AnomalyLocalizationOutput output,
+        ActionListener<AnomalyLocalizationOutput> listener
+    ) {
+        List<NewEntryPaging> pending = pagings.stream().filter(e -> !e.done).collect(Collectors.toList());
+        MultiSearchRequest request = new MultiSearchRequest();
+        if (pending.isEmpty()) {
+            for (NewEntryPaging paging : pagings) {
+                List<List<String>> keys = paging.queue.stream().map(AnomalyLocalizationOutput.Entity::getKey).collect(Collectors.toList());
+                request.add(newSearchRequestForEntityKeys(input, agg, paging.bucket, keys));
+            }
+            client.multiSearch(request, wrap(r -> {
+                for (int i = 0; i < pagings.size(); i++) {
+                    NewEntryPaging paging = pagings.get(i);
+                    onEntityKeysResponse(getResponse(r, i), input, agg, result, paging.bucket, paging.queue, output, listener);
+                }
+            }, listener::onFailure));
+            return;
+        }
+        pending.forEach(e -> request.add(newSearchRequestForEntry(input, agg, e.bucket, e.afterKey)));
+        client.multiSearch(request, wrap(r -> {
+            for (int i = 0; i < pending.size(); i++) {
+                NewEntryPaging paging = pending.get(i);
+                paging.afterKey = addNewEntities(getResponse(r, i), input, agg, paging.bucket, paging.queue);
+                paging.done = paging.afterKey.isEmpty();
+            }
+            processNewEntries(input, agg, result, pagings, output, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Localizes with the heaviest entities of the buckets rather than all entities.
+     * <p>
+     * One multi-search gets the heaviest entities of the base bucket and of each new bucket, ranked by the aggregate value by
+     * terms aggregations, and a second one gets the base and new values of these candidates. The contribution of an entity is
+     * at most the larger of its base and new values when the aggregate is additive over non-negative values, and an entity that
+     * is not a candidate is lighter than the lightest candidate of a full list, so the larger of these lightest values bounds
+     * the contribution of the entities that are not compared. The bound is reported with each bucket of sum and value count
+     * aggregations, the contribution of an entity to an average, min or max is not bounded by its values. Terms aggregations
+     * merge the top entities of each shard, so the candidates, and the bound, are approximate for data spread over many shards.
+     */
+    private void localizeByHeavyHitters(
+        AnomalyLocalizationInput input,
+        AggregationBuilder agg,
+        AnomalyLocalizationOutput.Result result,
+        AnomalyLocalizationOutput output,
+        ActionListener<AnomalyLocalizationOutput> listener
+    ) {
+        AnomalyLocalizationOutput.Bucket base = result.getBuckets().get(0);
+        List<AnomalyLocalizationOutput.Bucket> buckets = result
+            .getBuckets()
+            .stream()
+            .filter(e -> e.getCompleted() != null && e.getCompleted().get() == false)
+            .collect(Collectors.toList());
+        int candidateSize = Math.max(input.getNumOutputs(), MIN_CONTRIBUTOR_CANDIDATE);
+        boolean additive = agg instanceof SumAggregationBuilder || agg instanceof ValueCountAggregationBuilder;
+        MultiSearchRequest request = new MultiSearchRequest();
+        request.add(newSearchRequestForHeavyHitters(input, agg, base, candidateSize));
+        buckets.forEach(e -> request.add(newSearchRequestForHeavyHitters(input, agg, e, candidateSize)));
+        client.multiSearch(request, wrap(r -> {
+            HeavyHitters baseHitters = getHeavyHitters(getResponse(r, 0), agg, candidateSize);
+            List<List<List<String>>> candidates = new ArrayList<>(buckets.size());
+            for (int i = 0; i < buckets.size(); i++) {
+                HeavyHitters newHitters = getHeavyHitters(getResponse(r, i + 1), agg, candidateSize);
+                Set<List<String>> keys = new LinkedHashSet<>(newHitters.values.keySet());
+                keys.addAll(baseHitters.values.keySet());
+                candidates.add(new ArrayList<>(keys));
+                if (additive) {
+                    buckets.get(i).setContributionErrorBound(Math.max(baseHitters.threshold, newHitters.threshold));
+                }
+            }
+            compareCandidates(input, agg, buckets, candidates, output, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Gets the base and new values of the candidates of each bucket and chooses the largest contributors.
+     */
+    private void compareCandidates(
+        AnomalyLocalizationInput input,
+        AggregationBuilder agg,
+        List<AnomalyLocalizationOutput.Bucket> buckets,
+        List<List<List<String>>> candidates,
+        AnomalyLocalizationOutput output,
+        ActionListener<AnomalyLocalizationOutput> listener
+    ) {
+        List<Integer> searched = new ArrayList<>();
+        MultiSearchRequest request = new MultiSearchRequest();
+        for (int i = 0; i < buckets.size(); i++) {
+            AnomalyLocalizationOutput.Bucket bucket = buckets.get(i);
+            List<List<String>> keys = candidates.get(i);
+            if (keys.isEmpty()) {
+                bucket.setEntities(Collections.emptyList());
+                bucket.getCompleted().set(true);
+                continue;
+            }
+            AnomalyLocalizationOutput.Bucket base = bucket.getBase().get();
+            request.add(newSearchRequestForEntityKeys(input, agg, base.getStartTime(), base.getEndTime(), keys));
+            request.add(newSearchRequestForEntityKeys(input, agg, bucket.getStartTime(), bucket.getEndTime(), keys));
+            searched.add(i);
+        }
+        if (searched.isEmpty()) {
+            outputIfResultsAreComplete(output, listener);
+            return;
+        }
+        client.multiSearch(request, wrap(r -> {
+            for (int i = 0; i < searched.size(); i++) {
+                AnomalyLocalizationOutput.Bucket bucket = buckets.get(searched.get(i));
+                List<List<String>> keys = candidates.get(searched.get(i));
+                Map<Integer, Double> baseValues = getEntityKeyValues(getResponse(r, 2 * i), agg);
+                Map<Integer, Double> newValues = getEntityKeyValues(getResponse(r, 2 * i + 1), agg);
+                double newChangeSign = Math.signum(bucket.getOverallAggValue() - bucket.getBase().get().getOverallAggValue());
+                List<AnomalyLocalizationOutput.Entity> entities = new ArrayList<>(keys.size());
+                for (int j = 0; j < keys.size(); j++) {
+                    AnomalyLocalizationOutput.Entity entity = new AnomalyLocalizationOutput.Entity();
+                    entity.setKey(keys.get(j));
+                    entity.setBaseValue(baseValues.getOrDefault(j, 0.));
+                    entity.setNewValue(newValues.getOrDefault(j, 0.));
+                    entity.setContributionValue(entity.getNewValue() - entity.getBaseValue());
+                    entities.add(entity);
+                }
+                entities = entities
+                    .stream()
+                    .filter(entity -> Math.signum(entity.getContributionValue()) == newChangeSign)
+                    .sorted(contributionComparator(bucket).reversed())
+                    .limit(input.getNumOutputs())
+                    .collect(Collectors.toList());
+                bucket.setEntities(entities);
+                bucket.getCompleted().set(true);
+            }
+            outputIfResultsAreComplete(output, listener);
+        }, listener::onFailure));
+    }
+
+    private HeavyHitters getHeavyHitters(SearchResponse response, AggregationBuilder agg, int size) {
+        Optional<MultiBucketsAggregation> respAgg = Optional
+            .ofNullable(response.getAggregations())
+            .map(aggs -> (MultiBucketsAggregation) aggs.get(agg.getName()));
+        HeavyHitters hitters = new HeavyHitters();
+        for (MultiBucketsAggregation.Bucket bucket : respAgg.map(a -> a.getBuckets()).orElse(Collections.emptyList())) {
+            hitters.values.put(toStringKey(bucket), getDoubleValue((SingleValue) bucket.getAggregations().get(agg.getName())));
+        }
+        // entities missing from a list that is not full have no value in the bucket
+        if (hitters.values.size() >= size) {
+            hitters.threshold = Math.max(0, hitters.values.values().stream().mapToDouble(Double::doubleValue).min().orElse(0));
+        }
+        return hitters;
+    }
+
+    private Map<Integer, Double> getEntityKeyValues(SearchResponse response, AggregationBuilder agg) {
+        Optional<Filters> respAgg = Optional.ofNullable(response.getAggregations()).map(aggs -> (Filters) aggs.get(agg.getName()));
+        Map<Integer, Double> values = new HashMap<>();
+        for (Filters.Bucket respBucket : respAgg.map(a -> a.getBuckets()).orElse(Collections.emptyList())) {
+            double aggValue = getDoubleValue((SingleValue) respBucket.getAggregations().get(agg.getName()));
+            values.put(Integer.parseInt(respBucket.getKeyAsString()), aggValue);
+        }
+        return values;
+    }
+
+    private SearchRequest newSearchRequestForHeavyHitters(
+        AnomalyLocalizationInput input,
+        AggregationBuilder agg,
+        AnomalyLocalizationOutput.Bucket bucket,
+        int size
+    ) {
+        RangeQueryBuilder timeRangeFilter = new RangeQueryBuilder(input.getTimeFieldName())
+            .from(bucket.getStartTime(), true)
+            .to(bucket.getEndTime(), true);
+        BoolQueryBuilder filter = QueryBuilders.boolQuery().filter(timeRangeFilter);
+        input.getFilterQuery().ifPresent(q -> filter.filter(q));
+        List<String> fieldNames = input.getAttributeFieldNames();
+        BucketOrder order = BucketOrder.aggregation(agg.getName(), false);
+        AggregationBuilder heavyHitters;
+        if (fieldNames.size() == 1) {
+            heavyHitters = AggregationBuilders.terms(agg.getName()).field(fieldNames.get(0)).size(size).order(order);
         } else {
-            List<List<String>> keys = queue.stream().map(AnomalyLocalizationOutput.Entity::getKey).collect(Collectors.toList());
-            SearchRequest request = newSearchRequestForEntityKeys(input, agg, outputBucket, keys);
-            client
-                .search(
-                    request,
-                    wrap(r -> onEntityKeysResponse(r, input, agg, result, outputBucket, queue, output, listener), listener::onFailure)
-                );
+            heavyHitters = new MultiTermsAggregationBuilder(agg.getName())
+                .terms(
+                    fieldNames
+                        .stream()
+                        .map(name -> new MultiTermsValuesSourceConfig.Builder().setFieldName(name).build())
+                        .collect(Collectors.toList())
+                )
+                .size(size)
+                .order(order);
+        }
+        heavyHitters.subAggregation(agg);
+        SearchSourceBuilder search = new SearchSourceBuilder().size(0).query(filter).aggregation(heavyHitters);
+        return new SearchRequest(new String[] { input.getIndexName() }, search);
+    }
+
+    private SearchResponse getResponse(MultiSearchResponse response, int index) throws Exception {
+        MultiSearchResponse.Item item = response.getResponses()[index];
+        if (item.isFailure()) {
+            throw item.getFailure();
+        }
+        return item.getResponse();
+    }
+
+    private List<String> toStringKey(MultiBucketsAggregation.Bucket bucket) {
+        // multi terms buckets are keyed by the list of values
+        if (bucket.getKey() instanceof List) {
+            return ((List<?>) bucket.getKey()).stream().map(Object::toString).collect(Collectors.toList());
         }
+        return Collections.singletonList(bucket.getKeyAsString());
     }
 
     /**
@@ -367,9 +622,18 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
         AnomalyLocalizationOutput.Bucket bucket,
         List<List<String>> keys
     ) {
-        RangeQueryBuilder timeRangeFilter = new RangeQueryBuilder(input.getTimeFieldName())
-            .from(bucket.getBase().get().getStartTime(), true)
-            .to(bucket.getBase().get().getEndTime(), true);
+        AnomalyLocalizationOutput.Bucket base = bucket.getBase().get();
+        return newSearchRequestForEntityKeys(input, agg, base.getStartTime(), base.getEndTime(), keys);
+    }
+
+    private SearchRequest newSearchRequestForEntityKeys(
+        AnomalyLocalizationInput input,
+        AggregationBuilder agg,
+        long startTime,
+        long endTime,
+        List<List<String>> keys
+    ) {
+        RangeQueryBuilder timeRangeFilter = new RangeQueryBuilder(input.getTimeFieldName()).from(startTime, true).to(endTime, true);
         BoolQueryBuilder filter = QueryBuilders.boolQuery().filter(timeRangeFilter);
         input.getFilterQuery().ifPresent(q -> filter.filter(q));
         KeyedFilter[] filters = IntStream
@@ -509,6 +773,30 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
         return Double.isFinite(value) ? value : 0.0;
     }
 
+    /**
+     * Paging state of a new bucket localized in fused mode.
+     */
+    private static class NewEntryPaging {
+        private final AnomalyLocalizationOutput.Bucket bucket;
+        private final PriorityQueue<AnomalyLocalizationOutput.Entity> queue;
+        private Optional<Map<String, Object>> afterKey = Optional.empty();
+        private boolean done = false;
+
+        private NewEntryPaging(AnomalyLocalizationOutput.Bucket bucket, PriorityQueue<AnomalyLocalizationOutput.Entity> queue) {
+            this.bucket = bucket;
+            this.queue = queue;
+        }
+    }
+
+    /**
+     * Heaviest entities of a bucket by aggregate value.
+     */
+    private static class HeavyHitters {
+        private final Map<List<String>, Double> values = new LinkedHashMap<>();
+        // value of the lightest entity when the list is full, entities not in the list are lighter
+        private double threshold = 0;
+    }
+
     @Data
     protected static class LocalizationTimeBuckets {
         private final long interval;
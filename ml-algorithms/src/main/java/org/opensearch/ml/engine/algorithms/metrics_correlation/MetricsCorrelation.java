@@ -17,8 +17,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BooleanSupplier;
 
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.get.GetRequest;
@@ -26,8 +27,8 @@ import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.cluster.service.ClusterService;
-import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
@@ -41,6 +42,7 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.exception.ExecuteException;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.Input;
@@ -57,17 +59,16 @@ import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
 import org.opensearch.ml.common.transport.model.MLModelGetAction;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
-import org.opensearch.ml.common.transport.model.MLModelGetResponse;
 import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.task.MLTaskGetAction;
 import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
-import org.opensearch.ml.common.transport.task.MLTaskGetResponse;
 import org.opensearch.ml.engine.algorithms.DLModelExecute;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -80,11 +81,15 @@ import lombok.extern.log4j.Log4j2;
 @Function(FunctionName.METRICS_CORRELATION)
 public class MetricsCorrelation extends DLModelExecute {
 
-    private static final int AWAIT_BUSY_THRESHOLD = 1000;
+    private static final long DEPLOY_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(120);
+    private static final long MIN_POLL_INTERVAL_MILLIS = 10;
+    private static final long MAX_POLL_INTERVAL_MILLIS = 1000;
     public static final String MODEL_CONTENT_HASH = "fa7c832e458b085e242f05fbe8938570f97b11aa9155dcd4ad3fbac07af85d3b";
     private Client client;
     private final Settings settings;
     private final ClusterService clusterService;
+    // requests waiting for the model deployment in progress, guarded by this
+    private List<ActionListener<String>> pendingDeployment;
     // As metrics correlation is an experimental feature we are marking the version
     // as 1.0.0b2
     public static final String MCORR_ML_VERSION = "1.0.0b2";
@@ -118,129 +123,258 @@ public class MetricsCorrelation extends DLModelExecute {
         if (!(input instanceof MetricsCorrelationInput)) {
             throw new ExecuteException("wrong input");
         }
-        List<MCorrModelTensors> tensorOutputs = new ArrayList<>();
         MetricsCorrelationInput metricsCorrelation = (MetricsCorrelationInput) input;
         List<float[]> inputData = metricsCorrelation.getInputData();
 
         // converting List of float array to 2 dimension float array for DJL input
         float[][] processedInputData = processedInput(inputData);
 
-        if (modelId == null) {
-            boolean hasModelGroupIndex = clusterService.state().getMetadata().hasIndex(ML_MODEL_GROUP_INDEX);
-            if (!hasModelGroupIndex) { // Create model group index if it doesn't exist
-                try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-                    // Load the mapping content from the file
-                    String mappingContent = org.opensearch.ml.common.utils.IndexUtils.getMappingFromFile(ML_MODEL_GROUP_INDEX_MAPPING_PATH);
-                    CreateIndexRequest request = new CreateIndexRequest(ML_MODEL_GROUP_INDEX).mapping(mappingContent, XContentType.JSON);
-                    CreateIndexResponse createIndexResponse = client.admin().indices().create(request).actionGet(1000);
-                    if (!createIndexResponse.isAcknowledged()) {
-                        throw new MLException("Failed to create model group index");
-                    }
-                } catch (java.io.IOException e) {
-                    throw new MLException("Failed to load model group index mapping", e);
-                }
+        if (isModelDeployed()) {
+            predict(processedInputData, listener);
+            return;
+        }
+        // the model is deployed by listeners, predict on a generic thread rather than on the thread completing the deployment
+        deployModelIfNeeded(
+            ActionListener
+                .wrap(
+                    deployedModelId -> client
+                        .threadPool()
+                        .executor(ThreadPool.Names.GENERIC)
+                        .execute(() -> predict(processedInputData, listener)),
+                    listener::onFailure
+                )
+        );
+    }
+
+    private void predict(float[][] processedInputData, ActionListener<org.opensearch.ml.common.output.Output> listener) {
+        List<MCorrModelTensors> tensorOutputs = new ArrayList<>();
+        try {
+            if (predictors == null) {
+                throw new ExecuteException("Model is not loaded yet. Please try again.");
             }
+            Output djlOutput = getPredictor().predict(processedInputData);
+            tensorOutputs.add(parseModelTensorOutput(djlOutput, null));
+        } catch (TranslateException translateException) {
+            listener.onFailure(new ExecuteException(translateException));
+            return;
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(new MetricsCorrelationOutput(tensorOutputs));
+    }
+
+    /**
+     * The model is deployed on this node once it is loaded into this instance, undeploying it closes the predictors.
+     */
+    @VisibleForTesting
+    boolean isModelDeployed() {
+        return modelId != null && predictors != null;
+    }
 
-            boolean hasModelIndex = clusterService.state().getMetadata().hasIndex(ML_MODEL_INDEX);
-            if (!hasModelIndex) { // If model index doesn't exist, register model
-                log.warn("Model Index Not found. Register metric correlation model");
-                try {
-                    registerModel(
+    /**
+     * Register and deploy the metrics correlation model if needed, then hand the model id to the listener once the model is
+     * deployed. Requests arriving while the model is being deployed wait for that deployment instead of starting another one.
+     *
+     * @param listener listener of the deployed model id
+     */
+    @VisibleForTesting
+    void deployModelIfNeeded(ActionListener<String> listener) {
+        synchronized (this) {
+            if (pendingDeployment != null) {
+                pendingDeployment.add(listener);
+                return;
+            }
+            pendingDeployment = new ArrayList<>();
+            pendingDeployment.add(listener);
+        }
+        long deadline = System.currentTimeMillis() + DEPLOY_TIMEOUT_MILLIS;
+        ActionListener<String> deploymentListener = ActionListener.wrap(deployedModelId -> {
+            for (ActionListener<String> waiting : completeDeployment()) {
+                waiting.onResponse(deployedModelId);
+            }
+        }, e -> {
+            for (ActionListener<String> waiting : completeDeployment()) {
+                waiting.onFailure(e);
+            }
+        });
+        try {
+            if (modelId == null) {
+                createModelGroupIndexIfAbsent(
+                    ActionListener.wrap(r -> findOrRegisterModel(deadline, deploymentListener), deploymentListener::onFailure)
+                );
+            } else {
+                waitForDeployment(modelId, deadline, MIN_POLL_INTERVAL_MILLIS, deploymentListener);
+            }
+        } catch (Exception e) {
+            deploymentListener.onFailure(e);
+        }
+    }
+
+    private synchronized List<ActionListener<String>> completeDeployment() {
+        List<ActionListener<String>> listeners = pendingDeployment;
+        pendingDeployment = null;
+        return listeners == null ? List.of() : listeners;
+    }
+
+    private void createModelGroupIndexIfAbsent(ActionListener<Boolean> listener) {
+        if (clusterService.state().getMetadata().hasIndex(ML_MODEL_GROUP_INDEX)) {
+            listener.onResponse(true);
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            // Load the mapping content from the file
+            String mappingContent = org.opensearch.ml.common.utils.IndexUtils.getMappingFromFile(ML_MODEL_GROUP_INDEX_MAPPING_PATH);
+            CreateIndexRequest request = new CreateIndexRequest(ML_MODEL_GROUP_INDEX).mapping(mappingContent, XContentType.JSON);
+            ActionListener<CreateIndexResponse> actionListener = ActionListener.wrap(r -> {
+                if (!r.isAcknowledged()) {
+                    listener.onFailure(new MLException("Failed to create model group index"));
+                    return;
+                }
+                listener.onResponse(true);
+            }, e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof ResourceAlreadyExistsException) {
+                    listener.onResponse(true);
+                } else {
+                    listener.onFailure(e);
+                }
+            });
+            client.admin().indices().create(request, ActionListener.runBefore(actionListener, context::restore));
+        } catch (IOException e) {
+            throw new MLException("Failed to load model group index mapping", e);
+        }
+    }
+
+    private void findOrRegisterModel(long deadline, ActionListener<String> listener) {
+        if (!clusterService.state().getMetadata().hasIndex(ML_MODEL_INDEX)) { // If model index doesn't exist, register model
+            log.warn("Model Index Not found. Register metric correlation model");
+            registerAndWaitForDeployment(deadline, listener);
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            GetRequest getModelRequest = new GetRequest(ML_MODEL_INDEX).id(FunctionName.METRICS_CORRELATION.name());
+            ActionListener<GetResponse> actionListener = ActionListener.wrap(r -> {
+                if (r.isExists()) {
+                    modelId = r.getId();
+                    Map<String, Object> sourceAsMap = r.getSourceAsMap();
+                    String state = (String) sourceAsMap.get(MODEL_STATE_FIELD);
+                    if (MLModelState.DEPLOYED.name().equals(state) || MLModelState.PARTIALLY_DEPLOYED.name().equals(state)) {
+                        waitForDeployment(r.getId(), deadline, MIN_POLL_INTERVAL_MILLIS, listener);
+                        return;
+                    }
+                    // if we find a model in the index but the model is not deployed then we will
+                    // deploy the model
+                    deployModel(
+                        r.getId(),
                         ActionListener
                             .wrap(
-                                registerModelResponse -> modelId = getTask(registerModelResponse.getTaskId()).getModelId(),
-                                ex -> log.error("Exception during registering the Metrics correlation model", ex)
+                                deployModelResponse -> waitForDeployment(r.getId(), deadline, MIN_POLL_INTERVAL_MILLIS, listener),
+                                e -> {
+                                    log.error("Metrics correlation model didn't get deployed to the index successfully", e);
+                                    listener.onFailure(e);
+                                }
                             )
                     );
-                } catch (InterruptedException ex) {
-                    throw new RuntimeException(ex);
+                } else { // If model index doesn't exist, register model
+                    log.info("metric correlation model not registered yet");
+                    // if we don't find any model in the index then we will register a model in the
+                    // index
+                    registerAndWaitForDeployment(deadline, listener);
                 }
-            } else {
-                try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-                    GetRequest getModelRequest = new GetRequest(ML_MODEL_INDEX).id(FunctionName.METRICS_CORRELATION.name());
-                    ActionListener<GetResponse> actionListener = ActionListener.wrap(r -> {
-                        if (r.isExists()) {
-                            modelId = r.getId();
-                            Map<String, Object> sourceAsMap = r.getSourceAsMap();
-                            String state = (String) sourceAsMap.get(MODEL_STATE_FIELD);
-                            if (!MLModelState.DEPLOYED.name().equals(state) && !MLModelState.PARTIALLY_DEPLOYED.name().equals(state)) {
-                                // if we find a model in the index but the model is not deployed then we will
-                                // deploy the model
-                                deployModel(
-                                    r.getId(),
-                                    ActionListener
-                                        .wrap(
-                                            deployModelResponse -> modelId = getTask(deployModelResponse.getTaskId()).getModelId(),
-                                            e -> log.error("Metrics correlation model didn't get deployed to the index successfully", e)
-                                        )
-                                );
-                            }
-                        } else { // If model index doesn't exist, register model
-                            log.info("metric correlation model not registered yet");
-                            // if we don't find any model in the index then we will register a model in the
-                            // index
-                            registerModel(
-                                ActionListener
-                                    .wrap(
-                                        registerModelResponse -> modelId = getTask(registerModelResponse.getTaskId()).getModelId(),
-                                        e -> log.error("Metrics correlation model didn't get registered to the index successfully", e)
-                                    )
-                            );
+            }, e -> {
+                log.error("Failed to get model", e);
+                listener.onFailure(e);
+            });
+            client.get(getModelRequest, ActionListener.runBefore(actionListener, context::restore));
+        }
+    }
+
+    private void registerAndWaitForDeployment(long deadline, ActionListener<String> listener) {
+        try {
+            registerModel(
+                ActionListener
+                    .wrap(
+                        registerModelResponse -> waitForRegistration(
+                            registerModelResponse.getTaskId(),
+                            deadline,
+                            MIN_POLL_INTERVAL_MILLIS,
+                            listener
+                        ),
+                        e -> {
+                            log.error("Metrics correlation model didn't get registered to the index successfully", e);
+                            listener.onFailure(e);
                         }
-                    }, e -> { log.error("Failed to get model", e); });
-                    client.get(getModelRequest, ActionListener.runBefore(actionListener, context::restore));
-                }
+                    )
+            );
+        } catch (InterruptedException e) {
+            listener.onFailure(new ExecuteException(e));
+        }
+    }
+
+    /**
+     * Poll the register task until it has a model id, the model id is only set once the model is uploaded.
+     */
+    private void waitForRegistration(String taskId, long deadline, long pollIntervalMillis, ActionListener<String> listener) {
+        getTask(taskId, ActionListener.wrap(task -> {
+            if (task.getModelId() != null) {
+                modelId = task.getModelId();
+                waitForDeployment(modelId, deadline, MIN_POLL_INTERVAL_MILLIS, listener);
+            } else if (task.getState() == MLTaskState.FAILED) {
+                listener.onFailure(new ExecuteException("Failed to register metrics correlation model: " + task.getError()));
+            } else {
+                schedulePoll(
+                    () -> waitForRegistration(taskId, deadline, nextPollInterval(pollIntervalMillis), listener),
+                    deadline,
+                    pollIntervalMillis,
+                    listener
+                );
+            }
+        }, listener::onFailure));
+    }
+
+    /**
+     * Poll the model state until the model is deployed, models which are undeployed or failed to deploy are deployed again.
+     * No thread is held between polls.
+     */
+    @VisibleForTesting
+    void waitForDeployment(String modelId, long deadline, long pollIntervalMillis, ActionListener<String> listener) {
+        getModel(modelId, ActionListener.wrap(model -> {
+            MLModelState modelState = model.getModelState();
+            if (modelState == MLModelState.DEPLOYED || modelState == MLModelState.PARTIALLY_DEPLOYED) {
+                log.info("Model deployed: " + modelState);
+                listener.onResponse(modelId);
+                return;
             }
-        } else {
-            MLModel model = getModel(modelId);
-            if (model.getModelState() != MLModelState.DEPLOYED && model.getModelState() != MLModelState.PARTIALLY_DEPLOYED) {
+            if (modelState == MLModelState.UNDEPLOYED || modelState == MLModelState.DEPLOY_FAILED) {
+                log.info("Model not deployed: " + modelState);
                 deployModel(
                     modelId,
                     ActionListener
                         .wrap(
-                            deployModelResponse -> modelId = getTask(deployModelResponse.getTaskId()).getModelId(),
+                            deployModelResponse -> log.debug("Deployed metrics correlation model {}", modelId),
                             e -> log.error("Metrics correlation model didn't get deployed to the index successfully", e)
                         )
                 );
             }
-        }
-
-        // We will be waiting here until actionListeners set the model id to the
-        // modelId.
-        waitUntil(() -> {
-            if (modelId != null) {
-                MLModelState modelState = getModel(modelId).getModelState();
-                if (modelState == MLModelState.DEPLOYED || modelState == MLModelState.PARTIALLY_DEPLOYED) {
-                    log.info("Model deployed: " + modelState);
-                    return true;
-                } else if (modelState == MLModelState.UNDEPLOYED || modelState == MLModelState.DEPLOY_FAILED) {
-                    log.info("Model not deployed: " + modelState);
-                    deployModel(
-                        modelId,
-                        ActionListener
-                            .wrap(
-                                deployModelResponse -> modelId = getTask(deployModelResponse.getTaskId()).getModelId(),
-                                e -> log.error("Metrics correlation model didn't get deployed to the index successfully", e)
-                            )
-                    );
-                    return false;
-                }
-            }
-            return false;
-        }, 120, TimeUnit.SECONDS);
+            schedulePoll(
+                () -> waitForDeployment(modelId, deadline, nextPollInterval(pollIntervalMillis), listener),
+                deadline,
+                pollIntervalMillis,
+                listener
+            );
+        }, listener::onFailure));
+    }
 
-        Output djlOutput;
-        try {
-            if (modelId == null) {
-                throw new ExecuteException("Model is not loaded yet. Please try again.");
-            }
-            djlOutput = getPredictor().predict(processedInputData);
-        } catch (TranslateException translateException) {
-            throw new ExecuteException(translateException);
+    private void schedulePoll(Runnable poll, long deadline, long pollIntervalMillis, ActionListener<String> listener) {
+        if (System.currentTimeMillis() + pollIntervalMillis > deadline) {
+            listener.onFailure(new ExecuteException("Model is not loaded yet. Please try again."));
+            return;
         }
+        client.threadPool().schedule(poll, TimeValue.timeValueMillis(pollIntervalMillis), ThreadPool.Names.GENERIC);
+    }
 
-        tensorOutputs.add(parseModelTensorOutput(djlOutput, null));
-        listener.onResponse(new MetricsCorrelationOutput(tensorOutputs));
+    private static long nextPollInterval(long pollIntervalMillis) {
+        return Math.min(MAX_POLL_INTERVAL_MILLIS, pollIntervalMillis * 2);
     }
 
     @VisibleForTesting
@@ -329,44 +463,24 @@ public class MetricsCorrelation extends DLModelExecute {
         return new SearchRequest().source(searchSourceBuilder).indices(CommonValue.ML_MODEL_INDEX);
     }
 
-    public static boolean waitUntil(BooleanSupplier breakSupplier, long maxWaitTime, TimeUnit unit) throws ExecuteException {
-        long maxTimeInMillis = TimeUnit.MILLISECONDS.convert(maxWaitTime, unit);
-        long timeInMillis = 1;
-        long sum = 0;
-        while (sum + timeInMillis < maxTimeInMillis) {
-            if (breakSupplier.getAsBoolean()) {
-                return true;
-            }
-            try {
-                Thread.sleep(timeInMillis);
-            } catch (InterruptedException interruptedException) {
-                throw new ExecuteException(interruptedException);
-            }
-            sum += timeInMillis;
-            timeInMillis = Math.min(AWAIT_BUSY_THRESHOLD, timeInMillis * 2);
-
-            log.info("Waiting... Time elapsed: " + sum + "ms");
-        }
-        timeInMillis = maxTimeInMillis - sum;
-        try {
-            Thread.sleep(Math.max(timeInMillis, 0));
-        } catch (InterruptedException interruptedException) {
-            throw new ExecuteException(interruptedException);
-        }
-        return breakSupplier.getAsBoolean();
-    }
-
-    public MLTask getTask(String taskId) {
+    public void getTask(String taskId, ActionListener<MLTask> listener) {
         MLTaskGetRequest getRequest = new MLTaskGetRequest(taskId, null);
-        MLTaskGetResponse response = client.execute(MLTaskGetAction.INSTANCE, getRequest).actionGet(10000);
-        return response.getMlTask();
+        client
+            .execute(
+                MLTaskGetAction.INSTANCE,
+                getRequest,
+                ActionListener.wrap(response -> listener.onResponse(response.getMlTask()), listener::onFailure)
+            );
     }
 
-    public MLModel getModel(String modelId) {
+    public void getModel(String modelId, ActionListener<MLModel> listener) {
         MLModelGetRequest getRequest = new MLModelGetRequest(modelId, false, false, null);
-        ActionFuture<MLModelGetResponse> future = client.execute(MLModelGetAction.INSTANCE, getRequest);
-        MLModelGetResponse response = future.actionGet(5000);
-        return response.getMlModel();
+        client
+            .execute(
+                MLModelGetAction.INSTANCE,
+                getRequest,
+                ActionListener.wrap(response -> listener.onResponse(response.getMlModel()), listener::onFailure)
+            );
     }
 
     /**
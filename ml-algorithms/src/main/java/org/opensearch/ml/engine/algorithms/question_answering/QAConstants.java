@@ -46,7 +46,13 @@ public final class QAConstants {
     public static final Boolean DEFAULT_WITH_OVERFLOWING_TOKENS = true;
     public static final String PADDING_KEY = "padding";
     public static final Boolean DEFAULT_PADDING = false;
+    public static final String CHUNK_BATCH_SIZE_KEY = "chunk_batch_size";
+    public static final Integer DEFAULT_CHUNK_BATCH_SIZE = 1;
     public static final String TOKENIZER_FILE_NAME = "tokenizer.json";
+    // Total length in chars of the recently highlighted contexts and (question, context) pairs whose sentences and encodings
+    // are kept, a context longer than the total is not kept
+    public static final long CONTEXT_CACHE_MAX_CHARS = 1024 * 1024;
+    public static final long ENCODING_CACHE_MAX_CHARS = 512 * 1024;
     // Special token value used to ignore tokens in sentence ID mapping
     public static final int IGNORE_TOKEN_ID = -100;
     public static final int CONTEXT_START_DEFAULT_INDEX = 0;
@@ -30,7 +30,6 @@ import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
 import org.opensearch.ml.engine.annotation.Function;
 
-import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
@@ -125,17 +124,22 @@ public class QuestionAnsweringModel extends DLModel {
         try {
             List<Map<String, Object>> allHighlights = new ArrayList<>();
 
-            // We need to process initial chunk first to get the overflow encodings
-            processChunk(question, context, HIGHLIGHTING_MODEL_INITIAL_CHUNK_NUMBER_STRING, allHighlights);
-
-            Encoding encodings = translator.getTokenizer().encode(question, context);
-            Encoding[] overflowEncodings = encodings.getOverflowing();
+            int nextChunk = 0;
+            if (translator.getTokenizer() == null) {
+                // The tokenizer is loaded by the first prediction, process the initial chunk alone to count the chunks
+                processChunks(List.of(createChunkInput(question, context, HIGHLIGHTING_MODEL_INITIAL_CHUNK_NUMBER_STRING)), allHighlights);
+                nextChunk = 1;
+            }
 
-            // Process overflow chunks if overflow encodings are present
-            if (overflowEncodings != null && overflowEncodings.length > 0) {
-                for (int i = 0; i < overflowEncodings.length; i++) {
-                    processChunk(question, context, String.valueOf(i + 1), allHighlights);
+            // Process the chunks of the context in batches, each batch is a single forward pass
+            int chunkCount = translator.getChunkCount(question, context);
+            int chunkBatchSize = Math.max(1, translator.getChunkBatchSize());
+            while (nextChunk < chunkCount) {
+                List<Input> chunkInputs = new ArrayList<>();
+                for (int end = Math.min(nextChunk + chunkBatchSize, chunkCount); nextChunk < end; nextChunk++) {
+                    chunkInputs.add(createChunkInput(question, context, String.valueOf(nextChunk)));
                 }
+                processChunks(chunkInputs, allHighlights);
             }
 
             return createHighlightOutput(allHighlights);
@@ -145,20 +149,18 @@ public class QuestionAnsweringModel extends DLModel {
         }
     }
 
-    private void processChunk(String question, String context, String chunkNumber, List<Map<String, Object>> allHighlights)
-        throws TranslateException {
+    private Input createChunkInput(String question, String context, String chunkNumber) {
         Input chunkInput = new Input();
         chunkInput.add(MLInput.QUESTION_FIELD, question);
         chunkInput.add(MLInput.CONTEXT_FIELD, context);
         chunkInput.add(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY, chunkNumber);
+        return chunkInput;
+    }
 
-        // Use batchPredict to process the chunk for complete results, predict only return the first result which can cause loss of relevant
-        // results
-        List<Output> outputs = getPredictor().batchPredict(List.of(chunkInput));
-
-        if (outputs.isEmpty()) {
-            return;
-        }
+    private void processChunks(List<Input> chunkInputs, List<Map<String, Object>> allHighlights) throws TranslateException {
+        // Use batchPredict to process the chunks for complete results, predict only return the first result which can cause loss of
+        // relevant results
+        List<Output> outputs = getPredictor().batchPredict(chunkInputs);
 
         for (Output output : outputs) {
             ModelTensors tensors = parseModelTensorOutput(output, null);
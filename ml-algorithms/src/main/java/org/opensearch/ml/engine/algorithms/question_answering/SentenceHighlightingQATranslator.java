@@ -6,11 +6,15 @@
 package org.opensearch.ml.engine.algorithms.question_answering;
 
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.ATTENTION_MASK;
+import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.CHUNK_BATCH_SIZE_KEY;
+import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.CONTEXT_CACHE_MAX_CHARS;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.CONTEXT_START_DEFAULT_INDEX;
+import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.DEFAULT_CHUNK_BATCH_SIZE;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.DEFAULT_PADDING;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.DEFAULT_TOKEN_MAX_LENGTH;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.DEFAULT_TOKEN_OVERLAP_STRIDE_LENGTH;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.DEFAULT_WITH_OVERFLOWING_TOKENS;
+import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.ENCODING_CACHE_MAX_CHARS;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.FIELD_END;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.FIELD_ERROR;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.FIELD_HIGHLIGHTS;
@@ -39,6 +43,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.jetbrains.annotations.NotNull;
 import org.opensearch.common.xcontent.json.JsonXContent;
@@ -51,6 +57,9 @@ import org.opensearch.ml.engine.algorithms.question_answering.sentence.DefaultSe
 import org.opensearch.ml.engine.algorithms.question_answering.sentence.Sentence;
 import org.opensearch.ml.engine.algorithms.question_answering.sentence.SentenceSegmenter;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.modality.Input;
@@ -97,6 +106,28 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
 
     private final MLModelConfig modelConfig;
 
+    private int chunkBatchSize;
+
+    // Sentences of recently highlighted contexts, so the chunks of a context and later questions on it segment it only once,
+    // weighed by the context length as the sentences and word ids grow with it
+    private final Cache<String, ContextSentences> sentencesCache = CacheBuilder
+        .newBuilder()
+        // a single segment, so one long context can use the whole weight
+        .concurrencyLevel(1)
+        .maximumWeight(CONTEXT_CACHE_MAX_CHARS)
+        .weigher((String context, ContextSentences sentences) -> context.length())
+        .expireAfterAccess(10, TimeUnit.MINUTES)
+        .build();
+
+    // Encodings of recent (question, context) pairs, so counting and processing the chunks of a pair tokenize it only once
+    private final Cache<List<String>, Encoding> encodingCache = CacheBuilder
+        .newBuilder()
+        .concurrencyLevel(1)
+        .maximumWeight(ENCODING_CACHE_MAX_CHARS)
+        .weigher((List<String> pair, Encoding encoding) -> pair.get(0).length() + pair.get(1).length())
+        .expireAfterAccess(1, TimeUnit.MINUTES)
+        .build();
+
     /**
      * Helper method to read a value from allConfig with a default fallback
      * @param <T> The type of value to read (String, Integer, Boolean)
@@ -159,6 +190,7 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
         );
         boolean withOverflowingTokens = readFromModelAllConfig(WITH_OVERFLOWING_TOKENS_KEY, DEFAULT_WITH_OVERFLOWING_TOKENS, Boolean.class);
         boolean padding = readFromModelAllConfig(PADDING_KEY, DEFAULT_PADDING, Boolean.class);
+        chunkBatchSize = Math.max(1, readFromModelAllConfig(CHUNK_BATCH_SIZE_KEY, DEFAULT_CHUNK_BATCH_SIZE, Integer.class));
 
         tokenizer = HuggingFaceTokenizer
             .builder()
@@ -199,21 +231,23 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
             ctx.setAttachment(MLInput.QUESTION_FIELD, question);
             ctx.setAttachment(MLInput.CONTEXT_FIELD, context);
 
-            // Step 1: Split context into sentences (using full context)
-            List<Sentence> sentences = segmenter.segment(context);
-            ctx.setAttachment(KEY_SENTENCES, sentences);
-
-            // Step 2: Create word-level sentence IDs from full context
-            int[] wordLevelSentenceIds = createWordLevelSentenceIds(sentences, context);
+            // Step 1: Split context into sentences and create word-level sentence IDs (using full context)
+            ContextSentences sentences = getContextSentences(context);
+            ctx.setAttachment(KEY_SENTENCES, sentences.sentences());
 
-            // Step 3: Get the target chunk's encoding
+            // Step 2: Get the target chunk's encoding
             Encoding targetEncoding = getChunkEncoding(question, context, chunkNumber);
 
-            // Step 4: Create sentence IDs array for this chunk
-            int[] sentenceIdsArray = createSentenceIdsArray(targetEncoding, wordLevelSentenceIds, chunkNumber);
+            // Step 3: Create sentence IDs array for this chunk
+            int[] sentenceIdsArray = createSentenceIdsArray(targetEncoding, sentences.wordLevelSentenceIds(), chunkNumber);
 
-            // Step 5: Create NDArrays for model input
-            return createModelInputs(manager, targetEncoding, sentenceIdsArray);
+            // Step 4: Create NDArrays for model input
+            return createModelInputs(
+                manager.create(targetEncoding.getIds()),
+                manager.create(targetEncoding.getAttentionMask()),
+                manager.create(targetEncoding.getTypeIds()),
+                manager.create(sentenceIdsArray)
+            );
 
         } catch (Exception e) {
             log.error("Error processing input", e);
@@ -221,11 +255,110 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
         }
     }
 
+    /**
+     * Processes chunks of one question and context in a single forward pass. Chunks are padded to the longest chunk of the batch,
+     * padded tokens are masked out and ignored for the sentence mapping.
+     *
+     * @param ctx The translator context
+     * @param inputs Inputs of the chunks, all with the same question and context
+     * @return Model inputs of shape [chunks, tokens]
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
+        try {
+            NDManager manager = ctx.getNDManager();
+            String question = inputs.get(0).getAsString(MLInput.QUESTION_FIELD);
+            String context = inputs.get(0).getAsString(MLInput.CONTEXT_FIELD);
+            ctx.setAttachment(MLInput.QUESTION_FIELD, question);
+            ctx.setAttachment(MLInput.CONTEXT_FIELD, context);
+
+            ContextSentences sentences = getContextSentences(context);
+            ctx.setAttachment(KEY_SENTENCES, sentences.sentences());
+
+            int batchSize = inputs.size();
+            Encoding[] chunkEncodings = new Encoding[batchSize];
+            int[][] chunkSentenceIds = new int[batchSize][];
+            int sequenceLength = 0;
+            for (int i = 0; i < batchSize; i++) {
+                Input input = inputs.get(i);
+                if (!question.equals(input.getAsString(MLInput.QUESTION_FIELD))
+                    || !context.equals(input.getAsString(MLInput.CONTEXT_FIELD))) {
+                    throw new IllegalArgumentException("All chunks of a batch must have the same question and context");
+                }
+                int chunkNumber = Integer.parseInt(input.getAsString(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY));
+                chunkEncodings[i] = getChunkEncoding(question, context, chunkNumber);
+                chunkSentenceIds[i] = createSentenceIdsArray(chunkEncodings[i], sentences.wordLevelSentenceIds(), chunkNumber);
+                sequenceLength = Math.max(sequenceLength, chunkEncodings[i].getIds().length);
+            }
+
+            long[][] inputIds = new long[batchSize][];
+            long[][] attentionMask = new long[batchSize][];
+            long[][] tokenTypeIds = new long[batchSize][];
+            int[][] sentenceIds = new int[batchSize][];
+            for (int i = 0; i < batchSize; i++) {
+                inputIds[i] = Arrays.copyOf(chunkEncodings[i].getIds(), sequenceLength);
+                attentionMask[i] = Arrays.copyOf(chunkEncodings[i].getAttentionMask(), sequenceLength);
+                tokenTypeIds[i] = Arrays.copyOf(chunkEncodings[i].getTypeIds(), sequenceLength);
+                sentenceIds[i] = Arrays.copyOf(chunkSentenceIds[i], sequenceLength);
+                Arrays.fill(sentenceIds[i], chunkSentenceIds[i].length, sequenceLength, IGNORE_TOKEN_ID);
+            }
+            return createModelInputs(
+                manager.create(inputIds),
+                manager.create(attentionMask),
+                manager.create(tokenTypeIds),
+                manager.create(sentenceIds)
+            );
+        } catch (Exception e) {
+            log.error("Error processing batch input", e);
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Error processing input: %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * The highlighted sentence indices of every chunk of a batch refer to the sentences of the same context, so the batch has
+     * a single output holding the highlights of all its chunks.
+     */
+    @Override
+    public List<Output> batchProcessOutput(TranslatorContext ctx, NDList list) {
+        return List.of(processOutput(ctx, list));
+    }
+
+    /**
+     * Get the number of chunks the context is split into for the question
+     *
+     * @param question The question
+     * @param context The context
+     * @return The initial chunk plus the overflow chunks
+     */
+    public int getChunkCount(String question, String context) {
+        Encoding[] overflowEncodings = encode(question, context).getOverflowing();
+        return 1 + (overflowEncodings == null ? 0 : overflowEncodings.length);
+    }
+
+    private Encoding encode(String question, String context) {
+        try {
+            return encodingCache.get(List.of(question, context), () -> tokenizer.encode(question, context));
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException("Failed to tokenize input", e.getCause());
+        }
+    }
+
+    private ContextSentences getContextSentences(String context) {
+        try {
+            return sentencesCache.get(context, () -> {
+                List<Sentence> sentences = segmenter.segment(context);
+                return new ContextSentences(sentences, createWordLevelSentenceIds(sentences, context));
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException("Failed to split context into sentences", e.getCause());
+        }
+    }
+
     /**
      * Get the encoding for a specific chunk
      */
     private Encoding getChunkEncoding(String question, String context, int chunkNumber) {
-        Encoding fullEncoding = tokenizer.encode(question, context);
+        Encoding fullEncoding = encode(question, context);
 
         if (chunkNumber == 0) {
             return fullEncoding;
@@ -277,12 +410,7 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
     /**
      * Create model inputs from encodings and sentence IDs
      */
-    private NDList createModelInputs(NDManager manager, Encoding encoding, int[] sentenceIdsArray) {
-        NDArray sentenceIdsNDArray = manager.create(sentenceIdsArray);
-        NDArray inputIds = manager.create(encoding.getIds());
-        NDArray attentionMask = manager.create(encoding.getAttentionMask());
-        NDArray tokenTypeIds = manager.create(encoding.getTypeIds());
-
+    private NDList createModelInputs(NDArray inputIds, NDArray attentionMask, NDArray tokenTypeIds, NDArray sentenceIdsNDArray) {
         sentenceIdsNDArray.setName(SENTENCE_IDS);
         inputIds.setName(INPUT_IDS);
         attentionMask.setName(ATTENTION_MASK);
@@ -305,10 +433,10 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
             int endIndex = sentence.getEndIndex();
 
             // Find all words within the sentence's start and end indices
+            int wordStart = 0;
             for (int wordIdx = 0; wordIdx < contextWords.length; wordIdx++) {
-                int wordStart = 0;
-                for (int i = 0; i < wordIdx; i++) {
-                    wordStart += contextWords[i].length() + 1; // +1 for space
+                if (wordIdx > 0) {
+                    wordStart += contextWords[wordIdx - 1].length() + 1; // +1 for space
                 }
                 int wordEnd = wordStart + contextWords[wordIdx].length();
 
@@ -437,4 +565,8 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
     // Helper class to store sentence data
     private record SentenceData(String text, boolean isRelevant, int position) {
     }
+
+    // Sentences of a context and the sentence ID of each of its words
+    private record ContextSentences(List<Sentence> sentences, int[] wordLevelSentenceIds) {
+    }
 }
@@ -27,6 +27,14 @@ import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 @Setter
 @Getter
 public abstract class AbstractConnectorExecutor implements RemoteConnectorExecutor {
+    private static final String[] MCP_REQUEST_HEADERS = {
+        CommonValue.MCP_HEADER_AWS_ACCESS_KEY_ID,
+        CommonValue.MCP_HEADER_AWS_SECRET_ACCESS_KEY,
+        CommonValue.MCP_HEADER_AWS_SESSION_TOKEN,
+        CommonValue.MCP_HEADER_AWS_REGION,
+        CommonValue.MCP_HEADER_AWS_SERVICE_NAME,
+        CommonValue.MCP_HEADER_OPENSEARCH_URL };
+
     private ConnectorClientConfig connectorClientConfig;
 
     protected final AtomicReference<SdkAsyncHttpClient> httpClientRef = new AtomicReference<>();
@@ -51,15 +59,7 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
 
         ThreadContext threadContext = getClient().threadPool().getThreadContext();
 
-        String[] mcpHeaders = {
-            CommonValue.MCP_HEADER_AWS_ACCESS_KEY_ID,
-            CommonValue.MCP_HEADER_AWS_SECRET_ACCESS_KEY,
-            CommonValue.MCP_HEADER_AWS_SESSION_TOKEN,
-            CommonValue.MCP_HEADER_AWS_REGION,
-            CommonValue.MCP_HEADER_AWS_SERVICE_NAME,
-            CommonValue.MCP_HEADER_OPENSEARCH_URL };
-
-        for (String headerName : mcpHeaders) {
+        for (String headerName : MCP_REQUEST_HEADERS) {
             String headerValue = threadContext.getHeader(headerName);
             if (headerValue != null && !headerValue.isEmpty()) {
                 builder.setHeader(headerName, headerValue);
@@ -68,6 +68,23 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
         }
     }
 
+    /**
+     * Checks if the request carries MCP request headers in ThreadContext. MCP sessions created for such requests are bound to the
+     * caller's credentials and must not be shared.
+     *
+     * @param threadContext thread context of the request
+     * @return true if any MCP request header is set
+     */
+    public static boolean hasMcpRequestHeaders(ThreadContext threadContext) {
+        for (String headerName : MCP_REQUEST_HEADERS) {
+            String headerValue = threadContext.getHeader(headerName);
+            if (headerValue != null && !headerValue.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Creates a ThreadedActionListener to offload response processing from Netty I/O thread to ML thread pool.
      * This prevents blocking I/O threads during long-running cases like PER agent.
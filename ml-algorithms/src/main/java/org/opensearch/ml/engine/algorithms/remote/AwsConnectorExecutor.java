@@ -55,6 +55,7 @@ import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublishe
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 @Log4j2
 @ConnectorExecutor(AWS_SIGV4)
@@ -141,24 +142,28 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
             // but currently it's not easy, so reusing the predict thread pool won't harm anything.
             ThreadedActionListener<Tuple<Integer, ModelTensors>> threadedListener = createThreadedListener(log, actionListener);
 
+            MLSdkAsyncHttpResponseHandler responseHandler = new MLSdkAsyncHttpResponseHandler(
+                executionContext,
+                ActionListener.runBefore(threadedListener, storedContext::restore), // Restore context before calling listener,
+                parameters,
+                connector,
+                scriptService,
+                mlGuard,
+                action
+            );
+            MetricCollector metricCollector = MLHttpClientMetrics.newCollector();
             AsyncExecuteRequest executeRequest = AsyncExecuteRequest
                 .builder()
                 .request(signRequest(request))
                 .requestContentPublisher(new SimpleHttpContentPublisher(request))
-                .responseHandler(
-                    new MLSdkAsyncHttpResponseHandler(
-                        executionContext,
-                        ActionListener.runBefore(threadedListener, storedContext::restore), // Restore context before calling listener,
-                        parameters,
-                        connector,
-                        scriptService,
-                        mlGuard,
-                        action
-                    )
-                )
+                .responseHandler(responseHandler)
+                .metricCollector(metricCollector)
                 .build();
             AccessController
-                .doPrivileged((PrivilegedExceptionAction<CompletableFuture<Void>>) () -> getHttpClient().execute(executeRequest));
+                .doPrivileged(
+                    (PrivilegedExceptionAction<CompletableFuture<Void>>) () -> MLHttpClientMetrics
+                        .recordOnCompletion(connector, metricCollector, responseHandler.execute(getHttpClient(), executeRequest))
+                );
         } catch (RuntimeException exception) {
             log.error("Failed to execute {} in aws connector: {}", action, exception.getMessage(), exception);
             actionListener.onFailure(exception);
@@ -243,7 +248,8 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
                             connectorPrivateIpEnabled,
                             connectorTrustedPrivateEndpoints,
                             connectorRestrictedIpPatterns,
-                            skipSslVerificationValue
+                            skipSslVerificationValue,
+                            super.getConnectorClientConfig()
                         )
                 );
         }
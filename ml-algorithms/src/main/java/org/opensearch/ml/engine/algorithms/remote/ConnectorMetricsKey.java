@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import org.opensearch.ml.common.connector.Connector;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Key of the node-level metrics of a connector. Connector names are not unique, so the code creating a connector instance
+ * registers it with the connector id, or with the model id for the internal connector of a model. Connectors which were not
+ * registered fall back to their name, prefixed with the tenant id.
+ */
+public class ConnectorMetricsKey {
+
+    // weak keys are compared by identity, so registering a connector doesn't keep it alive once its executor is dropped
+    private static final Cache<Connector, String> KEYS = CacheBuilder.newBuilder().weakKeys().build();
+
+    private ConnectorMetricsKey() {}
+
+    /**
+     * Register the metrics key of a connector instance.
+     * @param connector connector instance used to send requests
+     * @param connectorId connector id, null for the internal connector of a model
+     * @param modelId id of the model using the connector, used when the connector id is null
+     */
+    public static void register(Connector connector, String connectorId, String modelId) {
+        String key = connectorId != null ? connectorId : modelId;
+        if (connector != null && key != null) {
+            KEYS.put(connector, key);
+        }
+    }
+
+    /**
+     * @param connector connector instance
+     * @return metrics key of the connector, null if the connector was not registered and has no name
+     */
+    public static String of(Connector connector) {
+        if (connector == null) {
+            return null;
+        }
+        String key = KEYS.getIfPresent(connector);
+        if (key != null || connector.getName() == null) {
+            return key;
+        }
+        return connector.getTenantId() == null ? connector.getName() : connector.getTenantId() + ":" + connector.getName();
+    }
+
+    @VisibleForTesting
+    static void clear() {
+        KEYS.invalidateAll();
+    }
+}
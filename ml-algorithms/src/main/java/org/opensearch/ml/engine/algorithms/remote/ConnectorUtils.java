@@ -50,6 +50,7 @@ import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.remote.MLPredictPhaseMetrics.Phase;
 import org.opensearch.ml.engine.processor.ProcessorChain;
 import org.opensearch.script.ScriptService;
 
@@ -227,15 +228,38 @@ public class ConnectorUtils {
         if (modelResponse == null) {
             throw new IllegalArgumentException("model response is null");
         }
-        if (mlGuard != null
-            && !mlGuard
-                .validate(
-                    modelResponse,
-                    MLGuard.Type.OUTPUT,
-                    Map.of("question", org.opensearch.ml.common.utils.StringUtils.processTextDoc(modelResponse))
-                )) {
-            throw new IllegalArgumentException("guardrails triggered for LLM output");
+        if (mlGuard != null) {
+            MLPredictPhaseMetrics.Timer guardrailTimer = MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.OUTPUT_GUARDRAIL);
+            boolean valid;
+            try {
+                valid = mlGuard
+                    .validate(
+                        modelResponse,
+                        MLGuard.Type.OUTPUT,
+                        Map.of("question", org.opensearch.ml.common.utils.StringUtils.processTextDoc(modelResponse))
+                    );
+            } finally {
+                guardrailTimer.stop();
+            }
+            if (!valid) {
+                throw new IllegalArgumentException("guardrails triggered for LLM output");
+            }
         }
+        MLPredictPhaseMetrics.Timer postProcessTimer = MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.POST_PROCESS);
+        try {
+            return postProcessOutput(action, modelResponse, connector, scriptService, parameters);
+        } finally {
+            postProcessTimer.stop();
+        }
+    }
+
+    private static ModelTensors postProcessOutput(
+        String action,
+        String modelResponse,
+        Connector connector,
+        ScriptService scriptService,
+        Map<String, String> parameters
+    ) throws IOException {
         List<ModelTensor> modelTensors = new ArrayList<>();
         Optional<ConnectorAction> connectorAction = connector.findAction(action);
         if (connectorAction.isEmpty()) {
@@ -53,6 +53,7 @@ import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublishe
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 @Log4j2
 @ConnectorExecutor(HTTP)
@@ -143,24 +144,28 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
             // but currently it's not easy, so reusing the predict thread pool won't harm anything.
             ThreadedActionListener<Tuple<Integer, ModelTensors>> threadedListener = createThreadedListener(log, actionListener);
 
+            MLSdkAsyncHttpResponseHandler responseHandler = new MLSdkAsyncHttpResponseHandler(
+                executionContext,
+                ActionListener.runBefore(threadedListener, storedContext::restore),
+                parameters,
+                connector,
+                scriptService,
+                mlGuard,
+                action
+            );
+            MetricCollector metricCollector = MLHttpClientMetrics.newCollector();
             AsyncExecuteRequest executeRequest = AsyncExecuteRequest
                 .builder()
                 .request(request)
                 .requestContentPublisher(new SimpleHttpContentPublisher(request))
-                .responseHandler(
-                    new MLSdkAsyncHttpResponseHandler(
-                        executionContext,
-                        ActionListener.runBefore(threadedListener, storedContext::restore),
-                        parameters,
-                        connector,
-                        scriptService,
-                        mlGuard,
-                        action
-                    )
-                )
+                .responseHandler(responseHandler)
+                .metricCollector(metricCollector)
                 .build();
             AccessController
-                .doPrivileged((PrivilegedExceptionAction<CompletableFuture<Void>>) () -> getHttpClient().execute(executeRequest));
+                .doPrivileged(
+                    (PrivilegedExceptionAction<CompletableFuture<Void>>) () -> MLHttpClientMetrics
+                        .recordOnCompletion(connector, metricCollector, responseHandler.execute(getHttpClient(), executeRequest))
+                );
         } catch (RuntimeException e) {
             log.error("Fail to execute http connector", e);
             actionListener.onFailure(e);
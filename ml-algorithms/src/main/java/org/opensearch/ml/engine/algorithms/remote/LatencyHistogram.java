@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with fixed buckets from 0.1 ms to 60 s, percentiles are the upper bound of the bucket holding them.
+ */
+class LatencyHistogram {
+
+    public static final String COUNT = "count";
+    public static final String AVG_MILLIS = "avg_millis";
+    public static final String MAX_MILLIS = "max_millis";
+    public static final String P50_MILLIS = "p50_millis";
+    public static final String P90_MILLIS = "p90_millis";
+    public static final String P99_MILLIS = "p99_millis";
+    public static final String HISTOGRAM = "histogram";
+
+    // upper bounds of the histogram buckets in micros, the last bucket is unbounded
+    private static final long[] BUCKET_BOUNDS_MICROS = {
+        100,
+        250,
+        500,
+        1_000,
+        2_500,
+        5_000,
+        10_000,
+        25_000,
+        50_000,
+        100_000,
+        250_000,
+        500_000,
+        1_000_000,
+        2_500_000,
+        5_000_000,
+        10_000_000,
+        30_000_000,
+        60_000_000 };
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MICROS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MICROS.length && micros > BUCKET_BOUNDS_MICROS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sumNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    Map<String, Object> toMap() {
+        long[] counts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        double max = millis(maxNanos.get());
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(COUNT, count);
+        map.put(AVG_MILLIS, count == 0 ? 0.0 : millis(sumNanos.sum() / count));
+        map.put(MAX_MILLIS, max);
+        map.put(P50_MILLIS, percentile(counts, count, 50, max));
+        map.put(P90_MILLIS, percentile(counts, count, 90, max));
+        map.put(P99_MILLIS, percentile(counts, count, 99, max));
+        // requests by upper bound of the bucket in millis, empty buckets are left out
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                histogram.put(i < BUCKET_BOUNDS_MICROS.length ? String.valueOf(BUCKET_BOUNDS_MICROS[i] / 1000.0) : "+Inf", counts[i]);
+            }
+        }
+        map.put(HISTOGRAM, histogram);
+        return map;
+    }
+
+    // upper bound of the bucket holding the percentile, capped by the max as the last bucket is unbounded
+    private static double percentile(long[] counts, long count, double percentile, double max) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100 * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MICROS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(BUCKET_BOUNDS_MICROS[i] / 1000.0, max);
+            }
+        }
+        return max;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
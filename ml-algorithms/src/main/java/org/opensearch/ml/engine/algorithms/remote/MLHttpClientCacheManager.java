@@ -158,6 +158,12 @@ final class MLHttpClientCacheManager {
         keyBuilder.append("conn:").append(config.getConnectionTimeout());
         keyBuilder.append(",read:").append(config.getReadTimeout());
         keyBuilder.append(",max:").append(config.getMaxConnections());
+        keyBuilder.append(",pending:").append(config.getMaxPendingConnectionAcquires());
+        keyBuilder.append(",acquire:").append(config.getConnectionAcquisitionTimeout());
+        keyBuilder.append(",ttl:").append(config.getConnectionTtl());
+        keyBuilder.append(",idle:").append(config.getConnectionMaxIdleTime());
+        keyBuilder.append(",h2:").append(config.getHttp2Enabled());
+        keyBuilder.append(",keepAlive:").append(config.getTcpKeepAlive());
 
         Boolean skipSslVerification = config.getSkipSslVerification();
         Boolean mutualTlsEnabled = config.getMutualTlsEnabled();
@@ -301,7 +307,8 @@ final class MLHttpClientCacheManager {
                 connectorRestrictedIpPatterns,
                 skipSslVerificationValue,
                 keyManagers,
-                trustManagers
+                trustManagers,
+                config
             );
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.ml.common.connector.Connector;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Node-level connection pool metrics of the HTTP clients used by remote connectors, reported by the node stats API.
+ * <p>
+ * The HTTP client reports the pool state when a request acquires a connection. Leased, available and pending connections are
+ * the values seen by the latest request of the connector, acquire times cover all requests. Acquiring a new connection
+ * includes the TCP connect and TLS handshake, so slow acquires with free capacity point at connection churn, while pending
+ * acquires point at a pool that is too small.
+ */
+public class MLHttpClientMetrics {
+
+    public static final String REQUEST_COUNT = "request_count";
+    public static final String MAX_CONNECTIONS = "max_connections";
+    public static final String LEASED_CONNECTIONS = "leased_connections";
+    public static final String AVAILABLE_CONNECTIONS = "available_connections";
+    public static final String PENDING_ACQUIRES = "pending_acquires";
+    public static final String AVG_ACQUIRE_TIME_MILLIS = "avg_acquire_time_millis";
+    public static final String MAX_ACQUIRE_TIME_MILLIS = "max_acquire_time_millis";
+
+    private static final String COLLECTOR_NAME = "MLConnectorHttpRequest";
+    private static final int MAX_TRACKED_CONNECTORS = 1000;
+    // metrics of connectors without traffic are dropped
+    private static final Cache<String, MLHttpClientMetrics> CONNECTOR_METRICS = CacheBuilder
+        .newBuilder()
+        .maximumSize(MAX_TRACKED_CONNECTORS)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .build();
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder acquireTimeNanos = new LongAdder();
+    private final AtomicLong maxAcquireTimeNanos = new AtomicLong();
+    private volatile int maxConnections;
+    private volatile int leasedConnections;
+    private volatile int availableConnections;
+    private volatile int pendingAcquires;
+
+    /**
+     * Create the collector passed to the HTTP client with a request, the HTTP client only reports pool metrics to it.
+     * @return metric collector
+     */
+    public static MetricCollector newCollector() {
+        return MetricCollector.create(COLLECTOR_NAME);
+    }
+
+    /**
+     * Record the metrics of a request once it completes.
+     * @param connector connector that sent the request
+     * @param collector collector passed with the request
+     * @param future future of the request
+     * @return the future of the request
+     */
+    public static CompletableFuture<Void> recordOnCompletion(
+        Connector connector,
+        MetricCollector collector,
+        CompletableFuture<Void> future
+    ) {
+        if (future != null) {
+            future.whenComplete((result, e) -> record(connector, collector.collect()));
+        }
+        return future;
+    }
+
+    /**
+     * Record the metrics collected by one request of a connector.
+     * @param connector connector that sent the request
+     * @param metrics metrics collected by the HTTP client
+     */
+    public static void record(Connector connector, MetricCollection metrics) {
+        String key = ConnectorMetricsKey.of(connector);
+        if (key == null || metrics == null) {
+            return;
+        }
+        CONNECTOR_METRICS.asMap().computeIfAbsent(key, k -> new MLHttpClientMetrics()).record(metrics);
+        Duration acquireTime = last(metrics, HttpMetric.CONCURRENCY_ACQUIRE_DURATION);
+        if (acquireTime != null) {
+            MLPredictPhaseMetrics.recordConnectorPhase(connector, MLPredictPhaseMetrics.Phase.HTTP_CONNECT, acquireTime.toNanos());
+        }
+    }
+
+    /**
+     * @return pool metrics of every connector that sent requests from this node, by {@link ConnectorMetricsKey}
+     */
+    public static Map<String, Object> getAll() {
+        Map<String, Object> all = new TreeMap<>();
+        CONNECTOR_METRICS.asMap().forEach((key, metrics) -> all.put(key, metrics.toMap()));
+        return all;
+    }
+
+    @VisibleForTesting
+    static void clear() {
+        CONNECTOR_METRICS.invalidateAll();
+    }
+
+    @VisibleForTesting
+    void record(MetricCollection metrics) {
+        requestCount.increment();
+        Duration acquireTime = last(metrics, HttpMetric.CONCURRENCY_ACQUIRE_DURATION);
+        if (acquireTime != null) {
+            long nanos = acquireTime.toNanos();
+            acquireTimeNanos.add(nanos);
+            maxAcquireTimeNanos.accumulateAndGet(nanos, Math::max);
+        }
+        Integer value = last(metrics, HttpMetric.MAX_CONCURRENCY);
+        if (value != null) {
+            maxConnections = value;
+        }
+        value = last(metrics, HttpMetric.LEASED_CONCURRENCY);
+        if (value != null) {
+            leasedConnections = value;
+        }
+        value = last(metrics, HttpMetric.AVAILABLE_CONCURRENCY);
+        if (value != null) {
+            availableConnections = value;
+        }
+        value = last(metrics, HttpMetric.PENDING_CONCURRENCY_ACQUIRES);
+        if (value != null) {
+            pendingAcquires = value;
+        }
+    }
+
+    @VisibleForTesting
+    Map<String, Object> toMap() {
+        long requests = requestCount.sum();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(REQUEST_COUNT, requests);
+        map.put(MAX_CONNECTIONS, maxConnections);
+        map.put(LEASED_CONNECTIONS, leasedConnections);
+        map.put(AVAILABLE_CONNECTIONS, availableConnections);
+        map.put(PENDING_ACQUIRES, pendingAcquires);
+        map.put(AVG_ACQUIRE_TIME_MILLIS, requests == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(acquireTimeNanos.sum() / requests));
+        map.put(MAX_ACQUIRE_TIME_MILLIS, TimeUnit.NANOSECONDS.toMillis(maxAcquireTimeNanos.get()));
+        return map;
+    }
+
+    private static <T> T last(MetricCollection metrics, SdkMetric<T> metric) {
+        List<T> values = metrics.metricValues(metric);
+        return values == null || values.isEmpty() ? null : values.get(values.size() - 1);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.telemetry.tracing.attributes.Attributes;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Node-level latency histograms of the phases of a predict request, reported by the node stats API, and optional tracing spans
+ * of the same phases.
+ * <p>
+ * Phases run on the coordinating and worker nodes are recorded by model, phases run by a remote connector are recorded by
+ * connector. Both are disabled by default: a disabled phase costs a volatile read and returns a shared no-op timer.
+ */
+public class MLPredictPhaseMetrics {
+
+    public static final String MODELS = "models";
+    public static final String CONNECTORS = "connectors";
+
+    private static final String SPAN_PREFIX = "ml.predict.";
+    private static final String MODEL_ATTRIBUTE = "ml.model_id";
+    private static final String CONNECTOR_ATTRIBUTE = "ml.connector";
+    private static final int MAX_TRACKED_TARGETS = 1000;
+    // metrics of models and connectors without traffic are dropped
+    private static final Cache<String, MLPredictPhaseMetrics> MODEL_METRICS = newCache();
+    private static final Cache<String, MLPredictPhaseMetrics> CONNECTOR_METRICS = newCache();
+
+    private static volatile boolean histogramsEnabled;
+    private static volatile boolean tracingEnabled;
+    private static volatile Tracer tracer;
+
+    /**
+     * Phases of a predict request, in the order they run.
+     */
+    public enum Phase {
+        // pick the worker node of the model, auto deploys the model if needed
+        DISPATCH,
+        // predict request sent to a worker node, from sending the request to receiving the response, excludes reading the response
+        TRANSPORT,
+        // memory and disk circuit breaker check before running a local model
+        CIRCUIT_BREAKER,
+        // build the payload from the connector request body, the pre-process function and the input processors
+        PAYLOAD,
+        // validate the payload with the input guardrail
+        INPUT_GUARDRAIL,
+        // acquire a connection from the pool of the HTTP client, includes the TCP connect and TLS handshake of new connections
+        HTTP_CONNECT,
+        // from handing the request to the HTTP client to receiving the response headers
+        HTTP_FIRST_BYTE,
+        // from the response headers to the end of the response body
+        HTTP_BODY,
+        // validate the response with the output guardrail
+        OUTPUT_GUARDRAIL,
+        // parse the response with the response filter, the post-process function and the output processors
+        POST_PROCESS,
+        // read the response of the worker node on the coordinating node
+        SERIALIZATION;
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+
+    private MLPredictPhaseMetrics() {
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Enable or disable the latency histograms reported by the node stats API.
+     * @param enabled whether to record the histograms
+     */
+    public static void setHistogramsEnabled(boolean enabled) {
+        histogramsEnabled = enabled;
+    }
+
+    /**
+     * Enable or disable the tracing spans of the phases, spans are only created when a tracer is set.
+     * @param enabled whether to create spans
+     */
+    public static void setTracingEnabled(boolean enabled) {
+        tracingEnabled = enabled;
+    }
+
+    /**
+     * @param tracer tracer of the node, used to create the spans of the phases
+     */
+    public static void setTracer(Tracer tracer) {
+        MLPredictPhaseMetrics.tracer = tracer;
+    }
+
+    /**
+     * Start timing a phase run for a model.
+     * @param modelId model id
+     * @param phase phase of the predict request
+     * @return timer to stop once the phase ends
+     */
+    public static Timer startModelPhase(String modelId, Phase phase) {
+        if ((!histogramsEnabled && !tracingEnabled) || modelId == null) {
+            return Timer.NOOP;
+        }
+        return new Timer(MODEL_METRICS, modelId, phase, startSpan(MODEL_ATTRIBUTE, modelId, phase));
+    }
+
+    /**
+     * Start timing a phase run by a remote connector.
+     * @param connector connector of the remote model
+     * @param phase phase of the predict request
+     * @return timer to stop once the phase ends
+     */
+    public static Timer startConnectorPhase(Connector connector, Phase phase) {
+        if (!histogramsEnabled && !tracingEnabled) {
+            return Timer.NOOP;
+        }
+        String key = ConnectorMetricsKey.of(connector);
+        if (key == null) {
+            return Timer.NOOP;
+        }
+        return new Timer(CONNECTOR_METRICS, key, phase, startSpan(CONNECTOR_ATTRIBUTE, key, phase));
+    }
+
+    /**
+     * Record a phase of a remote connector measured by the HTTP client, no span is created for it.
+     * @param connector connector of the remote model
+     * @param phase phase of the predict request
+     * @param nanos duration of the phase
+     */
+    public static void recordConnectorPhase(Connector connector, Phase phase, long nanos) {
+        String key = histogramsEnabled ? ConnectorMetricsKey.of(connector) : null;
+        if (key != null) {
+            record(CONNECTOR_METRICS, key, phase, nanos);
+        }
+    }
+
+    /**
+     * @return latency histograms of the phases, by model id and by {@link ConnectorMetricsKey}
+     */
+    public static Map<String, Object> getAll() {
+        Map<String, Object> all = new LinkedHashMap<>();
+        all.put(MODELS, toMap(MODEL_METRICS));
+        all.put(CONNECTORS, toMap(CONNECTOR_METRICS));
+        return all;
+    }
+
+    @VisibleForTesting
+    static void clear() {
+        MODEL_METRICS.invalidateAll();
+        CONNECTOR_METRICS.invalidateAll();
+        histogramsEnabled = false;
+        tracingEnabled = false;
+        tracer = null;
+    }
+
+    private static Span startSpan(String attribute, String key, Phase phase) {
+        Tracer currentTracer = tracer;
+        if (!tracingEnabled || currentTracer == null) {
+            return null;
+        }
+        SpanCreationContext context = SpanCreationContext
+            .internal()
+            .name(SPAN_PREFIX + phase.getName())
+            .attributes(Attributes.create().addAttribute(attribute, key));
+        return currentTracer.startSpan(context);
+    }
+
+    private static void record(Cache<String, MLPredictPhaseMetrics> cache, String key, Phase phase, long nanos) {
+        cache.asMap().computeIfAbsent(key, k -> new MLPredictPhaseMetrics()).histograms.get(phase).record(nanos);
+    }
+
+    private static Map<String, Object> toMap(Cache<String, MLPredictPhaseMetrics> cache) {
+        Map<String, Object> all = new TreeMap<>();
+        cache.asMap().forEach((key, metrics) -> {
+            Map<String, Object> phases = new LinkedHashMap<>();
+            metrics.histograms.forEach((phase, histogram) -> {
+                if (histogram.count() > 0) {
+                    phases.put(phase.getName(), histogram.toMap());
+                }
+            });
+            all.put(key, phases);
+        });
+        return all;
+    }
+
+    private static Cache<String, MLPredictPhaseMetrics> newCache() {
+        return CacheBuilder.newBuilder().maximumSize(MAX_TRACKED_TARGETS).expireAfterAccess(1, TimeUnit.HOURS).build();
+    }
+
+    /**
+     * Timer of one phase run, records the duration and ends the span of the phase when stopped. Stopping a timer twice has no
+     * effect, so a timer can be stopped on every path that ends the phase.
+     */
+    public static class Timer {
+
+        public static final Timer NOOP = new Timer(null, null, null, null);
+
+        private final Cache<String, MLPredictPhaseMetrics> cache;
+        private final String key;
+        private final Phase phase;
+        private final Span span;
+        private final long startNanos;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+
+        private Timer(Cache<String, MLPredictPhaseMetrics> cache, String key, Phase phase, Span span) {
+            this.cache = cache;
+            this.key = key;
+            this.phase = phase;
+            this.span = span;
+            this.startNanos = cache == null ? 0 : System.nanoTime();
+        }
+
+        public void stop() {
+            // the failure of a request may be reported by more than one thread
+            if (cache == null || !stopped.compareAndSet(false, true)) {
+                return;
+            }
+            if (histogramsEnabled) {
+                record(cache, key, phase, System.nanoTime() - startNanos);
+            }
+            if (span != null) {
+                span.endSpan();
+            }
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.collections.MapUtils;
@@ -27,6 +28,7 @@ import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.remote.MLPredictPhaseMetrics.Phase;
 import org.opensearch.script.ScriptService;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -36,6 +38,8 @@ import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 
 @Log4j2
@@ -63,6 +67,11 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
     // used to cache exceptions before the invocation of response()
     private AtomicReference<Exception> exceptionHolder = new AtomicReference<>();
 
+    // started when the request is handed to the HTTP client
+    private volatile MLPredictPhaseMetrics.Timer firstByteTimer = MLPredictPhaseMetrics.Timer.NOOP;
+
+    private volatile MLPredictPhaseMetrics.Timer bodyTimer = MLPredictPhaseMetrics.Timer.NOOP;
+
     public MLSdkAsyncHttpResponseHandler(
         ExecutionContext executionContext,
         ActionListener<Tuple<Integer, ModelTensors>> actionListener,
@@ -81,8 +90,41 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         this.action = action;
     }
 
+    /**
+     * Hand a request with this handler to the HTTP client. The HTTP client doesn't call the handler when a request fails before
+     * it is sent, so the phases still running are ended once the request fails.
+     * @param httpClient HTTP client
+     * @param request request with this handler
+     * @return future of the request
+     */
+    public CompletableFuture<Void> execute(SdkAsyncHttpClient httpClient, AsyncExecuteRequest request) {
+        firstByteTimer = MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.HTTP_FIRST_BYTE);
+        CompletableFuture<Void> future;
+        try {
+            future = httpClient.execute(request);
+        } catch (RuntimeException e) {
+            stopTimers();
+            throw e;
+        }
+        if (future != null) {
+            future.whenComplete((result, e) -> {
+                if (e != null) {
+                    stopTimers();
+                }
+            });
+        }
+        return future;
+    }
+
+    private void stopTimers() {
+        firstByteTimer.stop();
+        bodyTimer.stop();
+    }
+
     @Override
     public void onHeaders(SdkHttpResponse response) {
+        firstByteTimer.stop();
+        bodyTimer = MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.HTTP_BODY);
         SdkHttpFullResponse sdkResponse = (SdkHttpFullResponse) response;
         log.debug("received response headers: " + sdkResponse.headers());
         this.statusCode = sdkResponse.statusCode();
@@ -100,6 +142,7 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
     @Override
     public void onError(Throwable error) {
+        stopTimers();
         log.error("Received error from remote service: {}", error.getMessage(), error);
         RestStatus status;
         if (statusCode == null) {
@@ -179,6 +222,7 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
     }
 
     private void response() {
+        bodyTimer.stop();
         String body = responseBody.toString();
         log.debug("Received response from remote service: {}", body);
         if (exceptionHolder.get() != null) {
@@ -0,0 +1,368 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.ml.common.agent.TokenUsage;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.agent.AgentUtils;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Node-level token usage of the LLMs called by remote models, reported by the node stats API. The usage of each predict
+ * response is also passed to the {@link UsageListener}, which exports it as it is recorded.
+ * <p>
+ * Predict responses are recorded by model and by connector, the usage is read from the response of the provider (OpenAI,
+ * Anthropic, Bedrock Converse, Gemini or Cohere format). Agents call their LLM through predict, so their calls are recorded
+ * the same way. Streams are recorded by connector, with the time to first token and the latency between streamed chunks.
+ * Counters are cumulative since the node started, the output throughput is the output tokens over the time of the calls
+ * reporting them.
+ */
+public class MLTokenMetrics {
+
+    public static final String MODELS = "models";
+    public static final String CONNECTORS = "connectors";
+    public static final String REQUESTS = "requests";
+    public static final String INPUT_TOKENS = TokenUsage.INPUT_TOKENS;
+    public static final String OUTPUT_TOKENS = TokenUsage.OUTPUT_TOKENS;
+    public static final String CACHE_READ_INPUT_TOKENS = TokenUsage.CACHE_READ_INPUT_TOKENS;
+    public static final String REASONING_TOKENS = TokenUsage.REASONING_TOKENS;
+    public static final String OUTPUT_TOKENS_PER_SECOND = "output_tokens_per_second";
+    public static final String STREAMS = "streams";
+    public static final String FAILED_STREAMS = "failed_streams";
+    public static final String TIME_TO_FIRST_TOKEN = "time_to_first_token";
+    public static final String INTER_TOKEN_LATENCY = "inter_token_latency";
+
+    private static final int MAX_TRACKED_TARGETS = 1000;
+    // metrics of models and connectors without traffic are dropped
+    private static final Cache<String, MLTokenMetrics> MODEL_METRICS = newCache();
+    private static final Cache<String, MLTokenMetrics> CONNECTOR_METRICS = newCache();
+
+    private static volatile boolean enabled = true;
+    private static volatile UsageListener usageListener;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder inputTokens = new LongAdder();
+    private final LongAdder outputTokens = new LongAdder();
+    private final LongAdder cacheReadInputTokens = new LongAdder();
+    private final LongAdder reasoningTokens = new LongAdder();
+    // time of the calls reporting output tokens
+    private final LongAdder outputNanos = new LongAdder();
+    private final LongAdder streams = new LongAdder();
+    private final LongAdder failedStreams = new LongAdder();
+    private final LatencyHistogram timeToFirstToken = new LatencyHistogram();
+    private final LatencyHistogram interTokenLatency = new LatencyHistogram();
+
+    private MLTokenMetrics() {}
+
+    /**
+     * Enable or disable the token metrics, a disabled recording costs a volatile read.
+     * @param enabled whether to record the token metrics
+     */
+    public static void setEnabled(boolean enabled) {
+        MLTokenMetrics.enabled = enabled;
+    }
+
+    /**
+     * Set the listener notified of the token usage of each recorded predict response.
+     * @param usageListener listener of the token usage, null to stop notifying
+     */
+    public static void setUsageListener(UsageListener usageListener) {
+        MLTokenMetrics.usageListener = usageListener;
+    }
+
+    /**
+     * Record the token usage of a predict response.
+     * @param modelId model id
+     * @param connector connector of the remote model
+     * @param output output of the remote model
+     * @param nanos duration of the call
+     */
+    public static void record(String modelId, Connector connector, MLOutput output, long nanos) {
+        if (!enabled || !(output instanceof ModelTensorOutput)) {
+            return;
+        }
+        TokenUsage usage = extractUsage((ModelTensorOutput) output);
+        if (usage == null) {
+            return;
+        }
+        if (modelId != null) {
+            MODEL_METRICS.asMap().computeIfAbsent(modelId, k -> new MLTokenMetrics()).recordUsage(usage, nanos);
+            UsageListener listener = usageListener;
+            if (listener != null) {
+                listener.onUsage(modelId, connector, usage);
+            }
+        }
+        String connectorKey = ConnectorMetricsKey.of(connector);
+        if (connectorKey != null) {
+            CONNECTOR_METRICS.asMap().computeIfAbsent(connectorKey, k -> new MLTokenMetrics()).recordUsage(usage, nanos);
+        }
+    }
+
+    /**
+     * Start recording a stream of a remote connector.
+     * @param connector connector of the remote model
+     * @return recorder to notify of the streamed chunks, the usage and the end of the stream
+     */
+    public static StreamRecorder startStream(Connector connector) {
+        String connectorKey = enabled ? ConnectorMetricsKey.of(connector) : null;
+        if (connectorKey == null) {
+            return StreamRecorder.NOOP;
+        }
+        return new StreamRecorder(CONNECTOR_METRICS.asMap().computeIfAbsent(connectorKey, k -> new MLTokenMetrics()));
+    }
+
+    /**
+     * Sum the token usage of the tensors of a predict response.
+     * @param output output of the remote model
+     * @return token usage, null if no tensor reports one
+     */
+    public static TokenUsage extractUsage(ModelTensorOutput output) {
+        TokenUsage total = null;
+        if (output.getMlModelOutputs() == null) {
+            return null;
+        }
+        for (ModelTensors tensors : output.getMlModelOutputs()) {
+            if (tensors == null || tensors.getMlModelTensors() == null) {
+                continue;
+            }
+            for (ModelTensor tensor : tensors.getMlModelTensors()) {
+                TokenUsage usage = tensor == null ? null : extractUsage(tensor.getDataAsMap());
+                if (usage != null) {
+                    total = total == null ? usage : total.addTokens(usage);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Read the token usage of a response of an LLM provider.
+     * @param dataAsMap response of the provider
+     * @return token usage, null if the response has no known usage field
+     */
+    @SuppressWarnings("unchecked")
+    public static TokenUsage extractUsage(Map<String, ?> dataAsMap) {
+        if (dataAsMap == null) {
+            return null;
+        }
+        if (dataAsMap.get("usage") instanceof Map) {
+            Map<String, Object> usage = (Map<String, Object>) dataAsMap.get("usage");
+            if (usage.containsKey("prompt_tokens") || usage.containsKey("completion_tokens")) {
+                // OpenAI chat completions
+                return TokenUsage
+                    .builder()
+                    .inputTokens(AgentUtils.getLongValue(usage, "prompt_tokens"))
+                    .outputTokens(AgentUtils.getLongValue(usage, "completion_tokens"))
+                    .cacheReadInputTokens(nestedLong(usage, "prompt_tokens_details", "cached_tokens"))
+                    .reasoningTokens(nestedLong(usage, "completion_tokens_details", "reasoning_tokens"))
+                    .build();
+            }
+            if (usage.containsKey("inputTokens") || usage.containsKey("outputTokens")) {
+                // Bedrock Converse
+                return TokenUsage
+                    .builder()
+                    .inputTokens(AgentUtils.getLongValue(usage, "inputTokens"))
+                    .outputTokens(AgentUtils.getLongValue(usage, "outputTokens"))
+                    .cacheReadInputTokens(AgentUtils.getLongValue(usage, "cacheReadInputTokens"))
+                    .build();
+            }
+            if (usage.containsKey("input_tokens") || usage.containsKey("output_tokens")) {
+                // Anthropic messages and OpenAI responses
+                Long cacheReadInputTokens = AgentUtils.getLongValue(usage, "cache_read_input_tokens");
+                return TokenUsage
+                    .builder()
+                    .inputTokens(AgentUtils.getLongValue(usage, "input_tokens"))
+                    .outputTokens(AgentUtils.getLongValue(usage, "output_tokens"))
+                    .cacheReadInputTokens(
+                        cacheReadInputTokens != null ? cacheReadInputTokens : nestedLong(usage, "input_tokens_details", "cached_tokens")
+                    )
+                    .reasoningTokens(nestedLong(usage, "output_tokens_details", "reasoning_tokens"))
+                    .build();
+            }
+        }
+        if (dataAsMap.get("usageMetadata") instanceof Map) {
+            // Gemini
+            Map<String, Object> usage = (Map<String, Object>) dataAsMap.get("usageMetadata");
+            return TokenUsage
+                .builder()
+                .inputTokens(AgentUtils.getLongValue(usage, "promptTokenCount"))
+                .outputTokens(AgentUtils.getLongValue(usage, "candidatesTokenCount"))
+                .cacheReadInputTokens(AgentUtils.getLongValue(usage, "cachedContentTokenCount"))
+                .reasoningTokens(AgentUtils.getLongValue(usage, "thoughtsTokenCount"))
+                .build();
+        }
+        if (dataAsMap.get("meta") instanceof Map && ((Map<String, Object>) dataAsMap.get("meta")).get("billed_units") instanceof Map) {
+            // Cohere
+            Map<String, Object> usage = (Map<String, Object>) ((Map<String, Object>) dataAsMap.get("meta")).get("billed_units");
+            return TokenUsage
+                .builder()
+                .inputTokens(AgentUtils.getLongValue(usage, "input_tokens"))
+                .outputTokens(AgentUtils.getLongValue(usage, "output_tokens"))
+                .build();
+        }
+        return null;
+    }
+
+    /**
+     * @return token usage, throughput and streaming latency, by model id and by {@link ConnectorMetricsKey}
+     */
+    public static Map<String, Object> getAll() {
+        Map<String, Object> all = new LinkedHashMap<>();
+        all.put(MODELS, toMap(MODEL_METRICS));
+        all.put(CONNECTORS, toMap(CONNECTOR_METRICS));
+        return all;
+    }
+
+    @VisibleForTesting
+    static void clear() {
+        MODEL_METRICS.invalidateAll();
+        CONNECTOR_METRICS.invalidateAll();
+        enabled = true;
+        usageListener = null;
+    }
+
+    private void recordUsage(TokenUsage usage, long nanos) {
+        requests.increment();
+        add(inputTokens, usage.getInputTokens());
+        add(outputTokens, usage.getOutputTokens());
+        add(cacheReadInputTokens, usage.getCacheReadInputTokens());
+        add(reasoningTokens, usage.getReasoningTokens());
+        if (usage.getOutputTokens() != null && usage.getOutputTokens() > 0) {
+            outputNanos.add(nanos);
+        }
+    }
+
+    private Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        long output = outputTokens.sum();
+        long nanos = outputNanos.sum();
+        map.put(REQUESTS, requests.sum());
+        map.put(INPUT_TOKENS, inputTokens.sum());
+        map.put(OUTPUT_TOKENS, output);
+        map.put(CACHE_READ_INPUT_TOKENS, cacheReadInputTokens.sum());
+        map.put(REASONING_TOKENS, reasoningTokens.sum());
+        map.put(OUTPUT_TOKENS_PER_SECOND, nanos == 0 ? 0.0 : Math.round(output * 100.0 * TimeUnit.SECONDS.toNanos(1) / nanos) / 100.0);
+        long streamCount = streams.sum();
+        if (streamCount > 0) {
+            map.put(STREAMS, streamCount);
+            map.put(FAILED_STREAMS, failedStreams.sum());
+            map.put(TIME_TO_FIRST_TOKEN, timeToFirstToken.toMap());
+            map.put(INTER_TOKEN_LATENCY, interTokenLatency.toMap());
+        }
+        return map;
+    }
+
+    private static void add(LongAdder adder, Long value) {
+        if (value != null && value > 0) {
+            adder.add(value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long nestedLong(Map<String, Object> map, String field, String nestedField) {
+        Object nested = map.get(field);
+        return nested instanceof Map ? AgentUtils.getLongValue((Map<String, Object>) nested, nestedField) : null;
+    }
+
+    private static Map<String, Object> toMap(Cache<String, MLTokenMetrics> cache) {
+        Map<String, Object> all = new TreeMap<>();
+        cache.asMap().forEach((key, metrics) -> all.put(key, metrics.toMap()));
+        return all;
+    }
+
+    private static Cache<String, MLTokenMetrics> newCache() {
+        return CacheBuilder.newBuilder().maximumSize(MAX_TRACKED_TARGETS).expireAfterAccess(1, TimeUnit.HOURS).build();
+    }
+
+    /**
+     * Listener of the token usage of the predict responses of remote models.
+     */
+    @FunctionalInterface
+    public interface UsageListener {
+        /**
+         * @param modelId model id
+         * @param connector connector of the remote model, may be null
+         * @param usage token usage of one predict response
+         */
+        void onUsage(String modelId, Connector connector, TokenUsage usage);
+    }
+
+    /**
+     * Recorder of one stream. The streaming handlers call it from the thread delivering the events of the stream, the end
+     * of the stream may be reported by several paths so completing or failing a stream twice has no effect.
+     */
+    public static class StreamRecorder {
+
+        public static final StreamRecorder NOOP = new StreamRecorder(null);
+
+        private final MLTokenMetrics metrics;
+        private final long startNanos;
+        private final AtomicBoolean usageRecorded = new AtomicBoolean();
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private volatile long lastTokenNanos;
+
+        private StreamRecorder(MLTokenMetrics metrics) {
+            this.metrics = metrics;
+            this.startNanos = metrics == null ? 0 : System.nanoTime();
+        }
+
+        /**
+         * Record a streamed chunk of content or tool call arguments.
+         */
+        public void onToken() {
+            if (metrics == null) {
+                return;
+            }
+            long now = System.nanoTime();
+            long last = lastTokenNanos;
+            if (last == 0) {
+                metrics.timeToFirstToken.record(now - startNanos);
+            } else {
+                metrics.interTokenLatency.record(now - last);
+            }
+            lastTokenNanos = now;
+        }
+
+        /**
+         * Record the token usage reported by the stream, only the first usage of a stream is recorded.
+         * @param usage token usage, ignored when null
+         */
+        public void onUsage(TokenUsage usage) {
+            if (metrics == null || usage == null || !usageRecorded.compareAndSet(false, true)) {
+                return;
+            }
+            long last = lastTokenNanos;
+            metrics.recordUsage(usage, (last == 0 ? System.nanoTime() : last) - startNanos);
+        }
+
+        public void complete() {
+            if (metrics != null && ended.compareAndSet(false, true)) {
+                metrics.streams.increment();
+            }
+        }
+
+        public void fail() {
+            if (metrics != null && ended.compareAndSet(false, true)) {
+                metrics.streams.increment();
+                metrics.failedStreams.increment();
+            }
+        }
+    }
+}
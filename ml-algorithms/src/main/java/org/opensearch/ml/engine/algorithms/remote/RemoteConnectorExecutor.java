@@ -54,6 +54,7 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.ml.engine.algorithms.remote.MLPredictPhaseMetrics.Phase;
 import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener;
 import org.opensearch.ml.engine.processor.ProcessorChain;
 import org.opensearch.script.ScriptService;
@@ -247,22 +248,28 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
             }
         }
 
-        RemoteInferenceInputDataSet inputData = processInput(action, mlInput, connector, parameters, getScriptService());
-        if (inputData.getParameters() != null) {
-            parameters.putAll(inputData.getParameters());
-        }
-        // override again to always prioritize the input parameter
-        parameters.putAll(inputParameters);
-        String payload = connector.createPayload(action, parameters);
-
-        List<Map<String, Object>> processorConfigs = ProcessorChain.extractProcessorConfigs(parameters, INPUT_PROCESSORS);
-        if (!processorConfigs.isEmpty()) {
-            ProcessorChain processorChain = new ProcessorChain(processorConfigs);
-            payload = StringUtils.toJson(processorChain.process(payload));
-        }
+        MLPredictPhaseMetrics.Timer payloadTimer = MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.PAYLOAD);
+        String payload;
+        try {
+            RemoteInferenceInputDataSet inputData = processInput(action, mlInput, connector, parameters, getScriptService());
+            if (inputData.getParameters() != null) {
+                parameters.putAll(inputData.getParameters());
+            }
+            // override again to always prioritize the input parameter
+            parameters.putAll(inputParameters);
+            payload = connector.createPayload(action, parameters);
+
+            List<Map<String, Object>> processorConfigs = ProcessorChain.extractProcessorConfigs(parameters, INPUT_PROCESSORS);
+            if (!processorConfigs.isEmpty()) {
+                ProcessorChain processorChain = new ProcessorChain(processorConfigs);
+                payload = StringUtils.toJson(processorChain.process(payload));
+            }
 
-        if (!Boolean.parseBoolean(parameters.getOrDefault(SKIP_VALIDATE_MISSING_PARAMETERS, "false"))) {
-            connector.validatePayload(payload);
+            if (!Boolean.parseBoolean(parameters.getOrDefault(SKIP_VALIDATE_MISSING_PARAMETERS, "false"))) {
+                connector.validatePayload(payload);
+            }
+        } finally {
+            payloadTimer.stop();
         }
         String userStr = getClient()
             .threadPool()
@@ -282,9 +289,18 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
                 RestStatus.TOO_MANY_REQUESTS
             );
         } else {
-            if (getMlGuard() != null && !getMlGuard().validate(payload, MLGuard.Type.INPUT, parameters)) {
-                getLogger().error("guardrails triggered for user input");
-                throw new IllegalArgumentException("guardrails triggered for user input");
+            if (getMlGuard() != null) {
+                MLPredictPhaseMetrics.Timer guardrailTimer = MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.INPUT_GUARDRAIL);
+                boolean valid;
+                try {
+                    valid = getMlGuard().validate(payload, MLGuard.Type.INPUT, parameters);
+                } finally {
+                    guardrailTimer.stop();
+                }
+                if (!valid) {
+                    getLogger().error("guardrails triggered for user input");
+                    throw new IllegalArgumentException("guardrails triggered for user input");
+                }
             }
             // Check for streaming first as invokeRemoteServiceWithRetry does not stream
             // TODO: support streaming with retry policy
@@ -60,6 +60,7 @@ public class RemoteModel implements Predictable {
     public static final String SETTINGS = "settings";
 
     private RemoteConnectorExecutor connectorExecutor;
+    private String modelId;
 
     @VisibleForTesting
     RemoteConnectorExecutor getConnectorExecutor() {
@@ -88,7 +89,9 @@ public class RemoteModel implements Predictable {
                 actionType = ((RemoteInferenceInputDataSet) mlInput.getInputDataset()).getActionType();
             }
             actionType = actionType == null ? ActionType.PREDICT : actionType;
-            connectorExecutor.executeAction(actionType.toString(), mlInput, actionListener, channel);
+            // streams record their token usage in the streaming handler
+            ActionListener<MLTaskResponse> listener = channel == null ? recordTokenUsage(actionListener) : actionListener;
+            connectorExecutor.executeAction(actionType.toString(), mlInput, listener, channel);
         } catch (RuntimeException e) {
             log.error("Failed to call remote model.", e);
             actionListener.onFailure(e);
@@ -98,6 +101,19 @@ public class RemoteModel implements Predictable {
         }
     }
 
+    private ActionListener<MLTaskResponse> recordTokenUsage(ActionListener<MLTaskResponse> actionListener) {
+        Connector connector = connectorExecutor.getConnector();
+        long startNanos = System.nanoTime();
+        return ActionListener.wrap(response -> {
+            try {
+                MLTokenMetrics.record(modelId, connector, response.getOutput(), System.nanoTime() - startNanos);
+            } catch (Exception e) {
+                log.warn("Failed to record token usage of model {}", modelId, e);
+            }
+            actionListener.onResponse(response);
+        }, actionListener::onFailure);
+    }
+
     @Override
     public void close() {
         if (this.connectorExecutor != null) {
@@ -145,6 +161,8 @@ public class RemoteModel implements Predictable {
                 if (connector.getTenantId() == null && model.getTenantId() != null) {
                     connector.setTenantId(model.getTenantId());
                 }
+                this.modelId = model.getModelId();
+                ConnectorMetricsKey.register(connector, model.getConnectorId(), model.getModelId());
                 this.connectorExecutor = MLEngineClassLoader.initInstance(connector.getProtocol(), connector, Connector.class);
                 this.connectorExecutor.setScriptService((ScriptService) params.get(SCRIPT_SERVICE));
                 this.connectorExecutor.setClusterService((ClusterService) params.get(CLUSTER_SERVICE));
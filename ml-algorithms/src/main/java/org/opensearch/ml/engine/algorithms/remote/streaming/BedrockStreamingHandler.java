@@ -38,6 +38,7 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.engine.algorithms.agent.AgentUtils;
+import org.opensearch.ml.engine.algorithms.remote.MLTokenMetrics;
 import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorThrottlingException;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -169,6 +170,7 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
             StringBuilder accumulatedContent = new StringBuilder();
             AtomicReference<StreamState> currentState = new AtomicReference<>(StreamState.STREAMING_CONTENT);
             AtomicReference<Map<String, Object>> tokenUsage = new AtomicReference<>();
+            MLTokenMetrics.StreamRecorder streamMetrics = MLTokenMetrics.startStream(connector);
 
             // Build Bedrock client
             BedrockRuntimeAsyncClient bedrockClient = buildBedrockRuntimeAsyncClient();
@@ -178,6 +180,7 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
 
             ConverseStreamResponseHandler handler = ConverseStreamResponseHandler.builder().onResponse(response -> {}).onError(error -> {
                 log.error("Converse stream error: {}", error.getMessage());
+                streamMetrics.fail();
 
                 Throwable actualError = error;
                 if (error instanceof CompletionException && error.getCause() != null) {
@@ -208,6 +211,7 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
                     listener.onFailure(new MLException(REMOTE_SERVICE_ERROR + actualError.getMessage(), actualError));
                 }
             }).onComplete(() -> {
+                streamMetrics.complete();
                 if (currentState.get() == StreamState.AWAITING_COMPLETION) {
                     // All paths converge here: Metadata (token usage) has been captured.
                     // Notify agent runner with response, or close stream for predict.
@@ -230,6 +234,9 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
                 // and all paths (AGUI, conv agent, predict) use it in onStreamComplete.
                 if (isMetadataEvent(event)) {
                     captureTokenUsage(event, tokenUsage);
+                    if (tokenUsage.get() != null) {
+                        streamMetrics.onUsage(MLTokenMetrics.extractUsage(Map.of("usage", tokenUsage.get())));
+                    }
                     return;
                 }
                 handleStreamEvent(
@@ -244,7 +251,8 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
                     accumulatedContent,
                     currentState,
                     streamStartTime,
-                    firstTokenReceived
+                    firstTokenReceived,
+                    streamMetrics
                 );
             }).build();
 
@@ -333,7 +341,8 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
         StringBuilder accumulatedContent,
         AtomicReference<StreamState> currentState,
         long streamStartTime,
-        AtomicBoolean firstTokenReceived
+        AtomicBoolean firstTokenReceived,
+        MLTokenMetrics.StreamRecorder streamMetrics
     ) {
         String messageId = (isAGUIAgent && parameters != null) ? parameters.get(AGUI_PARAM_MESSAGE_ID) : null;
         boolean textMessageStarted = (isAGUIAgent && parameters != null)
@@ -362,6 +371,7 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
                     // Accumulate content for all paths — needed for createFinalAnswerResponse (conv agent)
                     // and createToolUseResponse (text blocks before tool calls)
                     accumulatedContent.append(content);
+                    streamMetrics.onToken();
 
                     // Log time to first token
                     if (!firstTokenReceived.get() && content != null && !content.isEmpty()) {
@@ -420,6 +430,7 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
                 if (isToolInputDelta(event)) {
                     currentState.set(StreamState.ACCUMULATING_TOOL_INPUT);
                     String inputFragment = getToolInputFragment(event);
+                    streamMetrics.onToken();
                     accumulateToolInput(inputFragment, toolInput, toolInputAccumulator);
                     if (isAGUIAgent) {
                         parameters.put(AGUI_PARAM_TEXT_MESSAGE_STARTED, "false");
@@ -436,6 +447,7 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
                 // TODO: support parallel tool use
                 if (isToolInputDelta(event) && !firstToolSent.get()) {
                     String inputFragment = getToolInputFragment(event);
+                    streamMetrics.onToken();
                     accumulateToolInput(inputFragment, toolInput, toolInputAccumulator);
 
                     if (isAGUIAgent) {
@@ -705,7 +717,8 @@ public class BedrockStreamingHandler extends BaseStreamingHandler {
         }
     }
 
-    private BedrockRuntimeAsyncClient buildBedrockRuntimeAsyncClient() {
+    @VisibleForTesting
+    BedrockRuntimeAsyncClient buildBedrockRuntimeAsyncClient() {
         return java.security.AccessController.doPrivileged((java.security.PrivilegedAction<BedrockRuntimeAsyncClient>) () -> {
             AwsCredentialsProvider awsCredentialsProvider = connector.getSessionToken() != null
                 ? StaticCredentialsProvider
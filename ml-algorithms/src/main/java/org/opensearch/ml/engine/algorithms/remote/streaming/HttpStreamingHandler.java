@@ -40,6 +40,7 @@ import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.algorithms.agent.AgentUtils;
 import org.opensearch.ml.engine.algorithms.remote.ConnectorUtils;
+import org.opensearch.ml.engine.algorithms.remote.MLTokenMetrics;
 
 import com.jayway.jsonpath.JsonPath;
 
@@ -134,6 +135,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         private StringBuilder accumulatedContent = new StringBuilder();
         private final long streamStartTime;
         private final AtomicBoolean firstTokenReceived;
+        private final MLTokenMetrics.StreamRecorder streamMetrics;
 
         public HTTPEventSourceListener(
             StreamPredictActionListener<MLTaskResponse, ?> streamActionListener,
@@ -146,6 +148,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
             this.isStreamClosed = new AtomicBoolean(false);
             this.streamStartTime = System.currentTimeMillis();
             this.firstTokenReceived = new AtomicBoolean(false);
+            this.streamMetrics = MLTokenMetrics.startStream(connector);
 
             this.isAGUIAgent = AgentUtils.isAGUIAgent(parameters);
 
@@ -201,6 +204,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
          */
         @Override
         public void onFailure(EventSource eventSource, Throwable t, Response response) {
+            streamMetrics.fail();
             if (t != null) {
                 // Network/connection error
                 log.error("Error: " + t.getMessage(), t);
@@ -244,6 +248,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         }
 
         private void handleDoneEvent() {
+            streamMetrics.complete();
             if (!agentExecutionInProgress) {
                 if (isAGUIAgent && !isStreamClosed.get()) {
                     String messageId = (isAGUIAgent && parameters != null) ? parameters.get(AGUI_PARAM_MESSAGE_ID) : null;
@@ -278,9 +283,13 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
             boolean textMessageStarted = (isAGUIAgent && parameters != null)
                 && "true".equalsIgnoreCase(parameters.get(AGUI_PARAM_TEXT_MESSAGE_STARTED));
 
+            // usage is sent in the last chunk when the request sets stream_options.include_usage
+            streamMetrics.onUsage(MLTokenMetrics.extractUsage(dataMap));
+
             String finishReason = extractPath(dataMap, "$.choices[0].finish_reason");
             if ("stop".equals(finishReason)) {
                 agentExecutionInProgress = false;
+                streamMetrics.complete();
 
                 if (isAGUIAgent) {
                     if (textMessageStarted) {
@@ -308,6 +317,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
 
             String content = extractPath(dataMap, "$.choices[0].delta.content");
             if (content != null && !content.isEmpty()) {
+                streamMetrics.onToken();
                 // Log time to first token
                 if (!firstTokenReceived.get()) {
                     long timeToFirstToken = System.currentTimeMillis() - streamStartTime;
@@ -343,6 +353,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
 
             List<?> toolCalls = extractPath(dataMap, "$.choices[0].delta.tool_calls");
             if (toolCalls != null) {
+                streamMetrics.onToken();
                 if (isAGUIAgent) {
                     // End current text message before sending tool events
                     if (textMessageStarted) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote.streaming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Buffers streamed chunks and hands them to the flusher in batches, so a stream of small token deltas is written to the client
+ * as a few larger writes instead of one write per token.
+ * <p>
+ * Buffered chunks are flushed once they reach the byte limit, once the oldest of them was buffered for the max delay, or when a
+ * chunk is added with {@code flushNow}, e.g. tool call, error and final chunks. With a max delay of 0 every chunk is flushed as
+ * soon as it is added. Chunks are always flushed in the order they were added.
+ *
+ * @param <T> chunk type
+ */
+@Log4j2
+public class StreamChunkCoalescer<T> {
+
+    private final int maxBytes;
+    private final TimeValue maxDelay;
+    private final ThreadPool threadPool;
+    private final String executor;
+    private final ToIntFunction<T> sizer;
+    private final Consumer<List<T>> flusher;
+
+    private List<T> buffer = new ArrayList<>();
+    private long bufferedBytes;
+    private Scheduler.ScheduledCancellable scheduledFlush;
+
+    /**
+     * @param maxBytes number of buffered bytes after which chunks are flushed
+     * @param maxDelayMillis maximum time a chunk is buffered, 0 to flush every chunk
+     * @param threadPool thread pool running delayed flushes, chunks are not buffered if null
+     * @param executor executor running delayed flushes
+     * @param sizer size of a chunk in bytes
+     * @param flusher writes a batch of chunks to the client
+     */
+    public StreamChunkCoalescer(
+        int maxBytes,
+        long maxDelayMillis,
+        ThreadPool threadPool,
+        String executor,
+        ToIntFunction<T> sizer,
+        Consumer<List<T>> flusher
+    ) {
+        this.maxBytes = maxBytes;
+        this.maxDelay = threadPool == null || maxDelayMillis <= 0 ? TimeValue.ZERO : TimeValue.timeValueMillis(maxDelayMillis);
+        this.threadPool = threadPool;
+        this.executor = executor;
+        this.sizer = sizer;
+        this.flusher = flusher;
+    }
+
+    /**
+     * Add a chunk to the buffer.
+     * @param chunk streamed chunk
+     * @param flushNow true to flush the buffer including this chunk right away
+     */
+    public synchronized void add(T chunk, boolean flushNow) {
+        buffer.add(chunk);
+        bufferedBytes += sizer.applyAsInt(chunk);
+        if (flushNow || maxDelay.millis() == 0 || bufferedBytes >= maxBytes) {
+            flush();
+        } else if (scheduledFlush == null) {
+            scheduledFlush = threadPool.schedule(this::flushScheduled, maxDelay, executor);
+        }
+    }
+
+    /**
+     * Flush all buffered chunks.
+     */
+    public synchronized void flush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel();
+            scheduledFlush = null;
+        }
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<T> chunks = buffer;
+        buffer = new ArrayList<>();
+        bufferedBytes = 0;
+        flusher.accept(chunks);
+    }
+
+    private void flushScheduled() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to flush buffered stream chunks", e);
+        }
+    }
+}
@@ -5,18 +5,18 @@
 
 package org.opensearch.ml.engine.algorithms.sparse_encoding;
 
-import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
 import static org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD;
+import static org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.SPARSE_PRUNE_TOP_K_FIELD;
+import static org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.SPARSE_WEIGHT_QUANTIZATION_FIELD;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import org.opensearch.ml.common.input.parameter.textembedding.SparseEmbeddingFormat;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.output.model.SparseVector;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.modality.Input;
@@ -29,9 +29,11 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
-        String embeddingFormat = input.getAsString(SPARSE_EMBEDDING_FORMAT_FIELD);
-        if (embeddingFormat != null) {
-            ctx.setAttachment(SPARSE_EMBEDDING_FORMAT_FIELD, embeddingFormat);
+        for (String field : List.of(SPARSE_EMBEDDING_FORMAT_FIELD, SPARSE_PRUNE_TOP_K_FIELD, SPARSE_WEIGHT_QUANTIZATION_FIELD)) {
+            String value = input.getAsString(field);
+            if (value != null) {
+                ctx.setAttachment(field, value);
+            }
         }
         return super.processInput(ctx, input);
     }
@@ -43,13 +45,20 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
         SparseEmbeddingFormat embeddingFormat = embeddingFormatObject != null
             ? SparseEmbeddingFormat.valueOf(embeddingFormatObject.toString())
             : SparseEmbeddingFormat.WORD;
+        Object topKObject = ctx.getAttachment(SPARSE_PRUNE_TOP_K_FIELD);
+        int topK = topKObject != null ? Integer.parseInt(topKObject.toString()) : 0;
+        Object quantizationObject = ctx.getAttachment(SPARSE_WEIGHT_QUANTIZATION_FIELD);
+        boolean quantize = quantizationObject != null && Boolean.parseBoolean(quantizationObject.toString());
 
         List<ModelTensor> outputs = new ArrayList<>();
         for (NDArray ndArray : list) {
             String name = ndArray.getName();
-            Object result = convertOutput(ndArray, embeddingFormat);
-            Map<String, ?> wrappedMap = Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(result));
-            ModelTensor tensor = ModelTensor.builder().name(name).dataAsMap(wrappedMap).build();
+            SparseVector sparseVector = convertOutput(ndArray, embeddingFormat).topK(topK);
+            if (quantize) {
+                sparseVector = sparseVector.quantize();
+            }
+            // Carry the compact sparse vector, it's converted to the token weight map only when the output is rendered
+            ModelTensor tensor = ModelTensor.builder().name(name).sparseVector(sparseVector).build();
             outputs.add(tensor);
         }
 
@@ -58,29 +67,32 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
         return output;
     }
 
-    private Object convertOutput(NDArray array, SparseEmbeddingFormat embeddingFormat) {
+    private SparseVector convertOutput(NDArray array, SparseEmbeddingFormat embeddingFormat) {
         NDArray nonZeroIndices = array.nonzero().squeeze();
         long[] indices = nonZeroIndices.toLongArray();
 
+        int[] tokenIds = new int[indices.length];
+        float[] weights = new float[indices.length];
         if (embeddingFormat == SparseEmbeddingFormat.TOKEN_ID) {
-            // Return token_id format: {"123": 1.1, "456": 2.2}
-            Map<String, Float> tokenIdWeights = new HashMap<>();
-
-            for (long index : indices) {
-                tokenIdWeights.put(String.valueOf(index), array.getFloat(index));
+            // token_id format: {"123": 1.1, "456": 2.2}
+            for (int i = 0; i < indices.length; i++) {
+                tokenIds[i] = (int) indices[i];
+                weights[i] = array.getFloat(indices[i]);
             }
-
-            return tokenIdWeights;
-        } else {
-            // Return word format: {"token": weight, ...}
-            Map<String, Float> tokenWeights = new HashMap<>();
-            for (long index : indices) {
-                String token = this.tokenizer.decode(new long[] { index }, true);
-                if (!token.isEmpty()) {
-                    tokenWeights.put(token, array.getFloat(index));
-                }
+            return new SparseVector(tokenIds, weights, null);
+        }
+        // word format: {"token": weight, ...}, tokens decoded to empty string are dropped
+        String[] tokens = new String[indices.length];
+        int size = 0;
+        for (long index : indices) {
+            String token = this.tokenizer.decode(new long[] { index }, true);
+            if (!token.isEmpty()) {
+                tokenIds[size] = (int) index;
+                weights[size] = array.getFloat(index);
+                tokens[size] = token;
+                size++;
             }
-            return tokenWeights;
         }
+        return new SparseVector(Arrays.copyOf(tokenIds, size), Arrays.copyOf(weights, size), Arrays.copyOf(tokens, size));
     }
 }
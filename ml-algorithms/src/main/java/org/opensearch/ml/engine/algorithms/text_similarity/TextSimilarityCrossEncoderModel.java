@@ -18,13 +18,17 @@
 package org.opensearch.ml.engine.algorithms.text_similarity;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 import org.opensearch.ml.common.FunctionName;
-import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.textsimilarity.TextSimilarityParameters;
 import org.opensearch.ml.common.model.MLModelConfig;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
@@ -39,24 +43,67 @@ import ai.djl.translate.TranslatorFactory;
 @Function(FunctionName.TEXT_SIMILARITY)
 public class TextSimilarityCrossEncoderModel extends DLModel {
 
+    public static final String INDEX_NAME = "index";
+    public static final int DEFAULT_BATCH_SIZE = 1;
+
+    /**
+     * Scores every document against the query, {@link TextSimilarityParameters#getBatchSize()} pairs per forward pass. With
+     * {@link TextSimilarityParameters#getTopK()} only the k best scoring documents are kept while scoring, and returned by
+     * descending score with an {@value #INDEX_NAME} tensor holding the position of the document in the request.
+     */
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
-        MLInputDataset inputDataSet = mlInput.getInputDataset();
-        List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
-        TextSimilarityInputDataSet textSimInput = (TextSimilarityInputDataSet) inputDataSet;
+        TextSimilarityInputDataSet textSimInput = (TextSimilarityInputDataSet) mlInput.getInputDataset();
+        TextSimilarityParameters parameters = mlInput.getParameters() instanceof TextSimilarityParameters
+            ? (TextSimilarityParameters) mlInput.getParameters()
+            : TextSimilarityParameters.builder().build();
+        int batchSize = parameters.getBatchSize() == null ? DEFAULT_BATCH_SIZE : parameters.getBatchSize();
+        Integer topK = parameters.getTopK();
         String queryText = textSimInput.getQueryText();
-        for (String doc : textSimInput.getTextDocs()) {
-            Input input = new Input();
-            input.add(queryText);
-            input.add(doc);
-            output = getPredictor().predict(input);
-            ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
-            tensorOutputs.add(outputTensors);
+        List<String> textDocs = textSimInput.getTextDocs();
+
+        List<ModelTensors> tensorOutputs = new ArrayList<>();
+        PriorityQueue<ScoredDoc> topDocs = topK == null ? null : new PriorityQueue<>(topK + 1, ScoredDoc.WORST_FIRST);
+        for (int start = 0; start < textDocs.size(); start += batchSize) {
+            List<Input> inputs = new ArrayList<>();
+            for (String doc : textDocs.subList(start, Math.min(start + batchSize, textDocs.size()))) {
+                inputs.add(createInput(queryText, doc, parameters.getMaxSequenceLength()));
+            }
+            List<Output> outputs = inputs.size() == 1
+                ? List.of(getPredictor().predict(inputs.get(0)))
+                : getPredictor().batchPredict(inputs);
+            for (int i = 0; i < outputs.size(); i++) {
+                ModelTensors outputTensors = ModelTensors.fromBytes(outputs.get(i).getData().getAsBytes());
+                if (topDocs == null) {
+                    tensorOutputs.add(outputTensors);
+                    continue;
+                }
+                topDocs.add(new ScoredDoc(start + i, outputTensors));
+                if (topDocs.size() > topK) {
+                    topDocs.poll();
+                }
+            }
+        }
+        if (topDocs != null) {
+            List<ScoredDoc> bestFirst = new ArrayList<>(topDocs);
+            bestFirst.sort(ScoredDoc.WORST_FIRST.reversed());
+            for (ScoredDoc scoredDoc : bestFirst) {
+                tensorOutputs.add(scoredDoc.toModelTensors());
+            }
         }
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    private Input createInput(String queryText, String doc, Integer maxSequenceLength) {
+        Input input = new Input();
+        input.add(queryText);
+        input.add(doc);
+        if (maxSequenceLength != null) {
+            input.addProperty(TextSimilarityTranslator.MAX_SEQUENCE_LENGTH, String.valueOf(maxSequenceLength));
+        }
+        return input;
+    }
+
     @Override
     public Translator<Input, Output> getTranslator(String engine, MLModelConfig modelConfig) throws IllegalArgumentException {
         return new TextSimilarityTranslator();
@@ -66,4 +113,36 @@ public class TextSimilarityCrossEncoderModel extends DLModel {
     public TranslatorFactory getTranslatorFactory(String engine, MLModelConfig modelConfig) {
         return null;
     }
+
+    private static class ScoredDoc {
+        // ties are broken by position in the request, the first document wins
+        private static final Comparator<ScoredDoc> WORST_FIRST = Comparator
+            .comparingDouble((ScoredDoc doc) -> doc.score)
+            .thenComparing(Comparator.comparingInt((ScoredDoc doc) -> doc.index).reversed());
+
+        private final int index;
+        private final ModelTensors tensors;
+        private final float score;
+
+        private ScoredDoc(int index, ModelTensors tensors) {
+            this.index = index;
+            this.tensors = tensors;
+            this.score = tensors.getMlModelTensors().get(0).getData()[0].floatValue();
+        }
+
+        private ModelTensors toModelTensors() {
+            List<ModelTensor> modelTensors = new ArrayList<>(tensors.getMlModelTensors());
+            modelTensors
+                .add(
+                    ModelTensor
+                        .builder()
+                        .name(INDEX_NAME)
+                        .data(new Number[] { index })
+                        .shape(new long[] { 1 })
+                        .dataType(MLResultDataType.INT32)
+                        .build()
+                );
+            return new ModelTensors(modelTensors);
+        }
+    }
 }
@@ -19,6 +19,7 @@ package org.opensearch.ml.engine.algorithms.text_similarity;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -42,6 +43,7 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class TextSimilarityTranslator extends SentenceTransformerTranslator {
     public final String SIMILARITY_NAME = "similarity";
+    public static final String MAX_SEQUENCE_LENGTH = "max_sequence_length";
     private static final String INPUT_IDS = "input_ids";
     private static final String ATTENTION_MASK = "attention_mask";
     private static final String TOKEN_TYPE_IDS = "token_type_ids";
@@ -50,11 +52,12 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
     public NDList processInput(TranslatorContext ctx, Input input) {
         String sentence = input.getAsString(0);
         String context = input.getAsString(1);
+        int maxSequenceLength = getMaxSequenceLength(input);
         NDManager manager = ctx.getNDManager();
         NDList ndList = new NDList();
         Encoding encodings = tokenizer.encode(sentence, context);
-        long[] indices = encodings.getIds();
-        long[] attentionMask = encodings.getAttentionMask();
+        long[] indices = truncate(encodings.getIds(), maxSequenceLength);
+        long[] attentionMask = truncate(encodings.getAttentionMask(), maxSequenceLength);
 
         NDArray indicesArray = manager.create(indices);
         indicesArray.setName(INPUT_IDS);
@@ -66,13 +69,80 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
         ndList.add(attentionMaskArray);
 
         if (requiresTokenTypeIds(ctx)) {
-            NDArray tokenTypeArray = manager.create(encodings.getTypeIds());
+            NDArray tokenTypeArray = manager.create(truncate(encodings.getTypeIds(), maxSequenceLength));
             tokenTypeArray.setName(TOKEN_TYPE_IDS);
             ndList.add(tokenTypeArray);
         }
         return ndList;
     }
 
+    /**
+     * Tokenizes a batch of (query, document) pairs into [batch, sequence] arrays padded to the longest pair, so the batch is
+     * scored by one forward pass. Stacking the inputs of {@link #processInput} only works for pairs of the same length.
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
+        int batchSize = inputs.size();
+        long[][] indices = new long[batchSize][];
+        long[][] attentionMask = new long[batchSize][];
+        long[][] tokenTypes = new long[batchSize][];
+        int sequenceLength = 0;
+        for (int i = 0; i < batchSize; i++) {
+            Input input = inputs.get(i);
+            int maxSequenceLength = getMaxSequenceLength(input);
+            Encoding encodings = tokenizer.encode(input.getAsString(0), input.getAsString(1));
+            indices[i] = truncate(encodings.getIds(), maxSequenceLength);
+            attentionMask[i] = truncate(encodings.getAttentionMask(), maxSequenceLength);
+            tokenTypes[i] = truncate(encodings.getTypeIds(), maxSequenceLength);
+            sequenceLength = Math.max(sequenceLength, indices[i].length);
+        }
+
+        NDManager manager = ctx.getNDManager();
+        NDList ndList = new NDList();
+        NDArray indicesArray = manager.create(pad(indices, sequenceLength));
+        indicesArray.setName(INPUT_IDS);
+        ndList.add(indicesArray);
+
+        NDArray attentionMaskArray = manager.create(pad(attentionMask, sequenceLength));
+        attentionMaskArray.setName(ATTENTION_MASK);
+        ndList.add(attentionMaskArray);
+
+        if (requiresTokenTypeIds(ctx)) {
+            NDArray tokenTypeArray = manager.create(pad(tokenTypes, sequenceLength));
+            tokenTypeArray.setName(TOKEN_TYPE_IDS);
+            ndList.add(tokenTypeArray);
+        }
+        return ndList;
+    }
+
+    private int getMaxSequenceLength(Input input) {
+        String maxSequenceLength = input.getProperty(MAX_SEQUENCE_LENGTH, null);
+        return maxSequenceLength == null ? 0 : Integer.parseInt(maxSequenceLength);
+    }
+
+    /**
+     * Cuts the end of the document off a pair longer than the max sequence length, keeping the closing special token.
+     */
+    private static long[] truncate(long[] values, int maxSequenceLength) {
+        if (maxSequenceLength <= 0 || values.length <= maxSequenceLength) {
+            return values;
+        }
+        long[] truncated = Arrays.copyOf(values, maxSequenceLength);
+        truncated[maxSequenceLength - 1] = values[values.length - 1];
+        return truncated;
+    }
+
+    /**
+     * Pads every pair to the sequence length with zeros, padded positions are masked out by the attention mask.
+     */
+    private static long[][] pad(long[][] values, int sequenceLength) {
+        long[][] padded = new long[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            padded[i] = Arrays.copyOf(values[i], sequenceLength);
+        }
+        return padded;
+    }
+
     /**
      * Determines whether the loaded model expects a token_type_ids input.
      */
@@ -5,14 +5,11 @@
 
 package org.opensearch.ml.engine.algorithms.tokenize;
 
-import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
-
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +25,7 @@ import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.output.model.SparseVector;
 import org.opensearch.ml.engine.algorithms.DLModel;
 import org.opensearch.ml.engine.analysis.DJLUtils;
 import org.opensearch.ml.engine.annotation.Function;
@@ -72,36 +70,45 @@ public class SparseTokenizerModel extends DLModel {
         // Get the embedding format from parameters
         MLAlgoParams parameters = mlInput.getParameters();
         SparseEmbeddingFormat sparseEmbeddingFormat = SparseEmbeddingFormat.WORD; // default
+        int topK = 0;
+        boolean quantize = false;
 
         if (parameters instanceof AsymmetricTextEmbeddingParameters) {
             AsymmetricTextEmbeddingParameters sparseParams = (AsymmetricTextEmbeddingParameters) parameters;
             sparseEmbeddingFormat = sparseParams.getSparseEmbeddingFormat();
+            topK = sparseParams.getSparsePruneTopK() != null ? sparseParams.getSparsePruneTopK() : 0;
+            quantize = Boolean.TRUE.equals(sparseParams.getSparseWeightQuantization());
         }
 
         for (String doc : textDocsInput.getDocs()) {
             Encoding encodings = tokenizer.encode(doc);
-            long[] indices = encodings.getIds();
-            long[] uniqueIndices = Arrays.stream(indices).distinct().toArray();
-            String[] tokens = Arrays
-                .stream(uniqueIndices)
-                .mapToObj(value -> this.tokenizer.decode(new long[] { value }, true))
-                .toArray(String[]::new);
-
-            Map<String, Float> tokenWeights = new HashMap<>();
-            for (int i = 0; i < uniqueIndices.length; i++) {
-                String token = tokens[i];
+            long[] uniqueIndices = Arrays.stream(encodings.getIds()).distinct().toArray();
+
+            int[] tokenIds = new int[uniqueIndices.length];
+            float[] weights = new float[uniqueIndices.length];
+            String[] tokens = new String[uniqueIndices.length];
+            int size = 0;
+            for (long index : uniqueIndices) {
+                String token = this.tokenizer.decode(new long[] { index }, true);
                 if (token.isEmpty()) {
                     continue;
                 }
-                if (sparseEmbeddingFormat == SparseEmbeddingFormat.TOKEN_ID) {
-                    tokenWeights.put(String.valueOf(uniqueIndices[i]), idf.getOrDefault(token, 1.0f));
-                } else {
-                    tokenWeights.put(token, idf.getOrDefault(token, 1.0f));
-                }
+                tokenIds[size] = (int) index;
+                weights[size] = idf.getOrDefault(token, 1.0f);
+                tokens[size] = token;
+                size++;
+            }
+            SparseVector sparseVector = new SparseVector(
+                Arrays.copyOf(tokenIds, size),
+                Arrays.copyOf(weights, size),
+                sparseEmbeddingFormat == SparseEmbeddingFormat.TOKEN_ID ? null : Arrays.copyOf(tokens, size)
+            ).topK(topK);
+            if (quantize) {
+                sparseVector = sparseVector.quantize();
             }
 
-            Map<String, ?> wrappedMap = Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(tokenWeights));
-            ModelTensor tensor = ModelTensor.builder().dataAsMap(wrappedMap).build();
+            // Carry the compact sparse vector, it's converted to the token weight map only when the output is rendered
+            ModelTensor tensor = ModelTensor.builder().sparseVector(sparseVector).build();
             tensorOutputs.add(new ModelTensors(List.of(tensor)));
         }
         return new ModelTensorOutput(tensorOutputs);
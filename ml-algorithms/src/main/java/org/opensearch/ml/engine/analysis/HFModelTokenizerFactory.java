@@ -138,6 +138,23 @@ public class HFModelTokenizerFactory extends AbstractTokenizerFactory {
         );
     }
 
+    /**
+     * Get the Hugging Face tokenizer of a built-in tokenizer, loading it on first use.
+     * @param name name of the built-in tokenizer
+     * @return the tokenizer, or null if the name is unknown or the tokenizer failed to load
+     */
+    public static HuggingFaceTokenizer getHuggingFaceTokenizer(String name) {
+        BaseTokenizerHolder holder;
+        if (DEFAULT_TOKENIZER_NAME.equals(name)) {
+            holder = DefaultTokenizerHolder.getInstance();
+        } else if (DEFAULT_MULTILINGUAL_TOKENIZER_NAME.equals(name)) {
+            holder = DefaultMultilingualTokenizerHolder.getInstance();
+        } else {
+            return null;
+        }
+        return holder == null ? null : holder.tokenizer;
+    }
+
     public HFModelTokenizerFactory(IndexSettings indexSettings, Environment environment, String name, Settings settings) {
         // For custom tokenizer, the factory is created during IndexModule.newIndexService
         // And can be accessed via indexService.getIndexAnalyzers()
@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.engine.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.opensearch.ml.common.contextmanager.CharacterBasedTokenCounter;
+import org.opensearch.ml.common.contextmanager.TokenCounter;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.huggingface.tokenizers.jni.CharSpan;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Token counter backed by a local Hugging Face tokenizer, for agent context management.
+ * Falls back to the character based estimate when the tokenizer is not available or fails to encode the text.
+ */
+@Log4j2
+public class HFTokenCounter implements TokenCounter {
+
+    private static final TokenCounter FALLBACK = new CharacterBasedTokenCounter();
+    private static final Map<String, TokenCounter> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Supplier<HuggingFaceTokenizer> tokenizerSupplier;
+
+    public HFTokenCounter(Supplier<HuggingFaceTokenizer> tokenizerSupplier) {
+        this.tokenizerSupplier = tokenizerSupplier;
+    }
+
+    /**
+     * Get the token counter for a built-in tokenizer.
+     * @param name name of the built-in tokenizer, see {@link HFModelTokenizerFactory}
+     * @return the token counter, or null if the name is not a built-in tokenizer
+     */
+    public static TokenCounter forName(String name) {
+        if (!HFModelTokenizerFactory.DEFAULT_TOKENIZER_NAME.equals(name)
+            && !HFModelTokenizerFactory.DEFAULT_MULTILINGUAL_TOKENIZER_NAME.equals(name)) {
+            return null;
+        }
+        // one instance per tokenizer, so token counts cached for a counter are reused across the contexts of an agent run
+        return INSTANCES.computeIfAbsent(name, n -> new HFTokenCounter(() -> HFModelTokenizerFactory.getHuggingFaceTokenizer(n)));
+    }
+
+    @Override
+    public int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        List<CharSpan> spans = encode(text);
+        return spans == null ? FALLBACK.count(text) : spans.size();
+    }
+
+    @Override
+    public String truncateFromEnd(String text, int maxTokens) {
+        List<CharSpan> spans = text == null || text.isEmpty() ? null : encode(text);
+        if (spans == null) {
+            return FALLBACK.truncateFromEnd(text, maxTokens);
+        }
+        if (spans.size() <= maxTokens) {
+            return text;
+        }
+        return maxTokens <= 0 ? "" : text.substring(0, spans.get(maxTokens - 1).getEnd());
+    }
+
+    @Override
+    public String truncateFromBeginning(String text, int maxTokens) {
+        List<CharSpan> spans = text == null || text.isEmpty() ? null : encode(text);
+        if (spans == null) {
+            return FALLBACK.truncateFromBeginning(text, maxTokens);
+        }
+        if (spans.size() <= maxTokens) {
+            return text;
+        }
+        return maxTokens <= 0 ? "" : text.substring(spans.get(spans.size() - maxTokens).getStart());
+    }
+
+    @Override
+    public String truncateMiddle(String text, int maxTokens) {
+        List<CharSpan> spans = text == null || text.isEmpty() ? null : encode(text);
+        if (spans == null) {
+            return FALLBACK.truncateMiddle(text, maxTokens);
+        }
+        if (spans.size() <= maxTokens) {
+            return text;
+        }
+        // Keep equal numbers of tokens from beginning and end
+        int half = maxTokens / 2;
+        if (half <= 0) {
+            return "";
+        }
+        String beginning = text.substring(0, spans.get(half - 1).getEnd());
+        String end = text.substring(spans.get(spans.size() - half).getStart());
+        return beginning + end;
+    }
+
+    /**
+     * Encode text without special tokens.
+     * @return character spans of the tokens, including overflowing ones, or null if the tokenizer is not available
+     */
+    private List<CharSpan> encode(String text) {
+        try {
+            HuggingFaceTokenizer tokenizer = tokenizerSupplier.get();
+            if (tokenizer == null) {
+                return null;
+            }
+            Encoding encoding = tokenizer.encode(text, false, true);
+            List<CharSpan> spans = new ArrayList<>(List.of(encoding.getCharTokenSpans()));
+            for (Encoding overflowing : encoding.getOverflowing()) {
+                spans.addAll(List.of(overflowing.getCharTokenSpans()));
+            }
+            return spans;
+        } catch (Exception e) {
+            log.debug("Failed to tokenize text, falling back to character based token count: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import static org.opensearch.ml.common.CommonValue.MASTER_KEY;
 import static org.opensearch.ml.common.CommonValue.ML_CONFIG_INDEX;
 import static org.opensearch.ml.common.CommonValue.TENANT_ID_FIELD;
 import static org.opensearch.ml.common.MLConfig.CREATE_TIME_FIELD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_DECRYPTED_CREDENTIAL_CACHE_TTL_SECONDS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MASTER_KEY_CACHE_TTL_MINUTES;
 import static org.opensearch.ml.common.utils.StringUtils.hashString;
 
@@ -17,6 +18,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +35,7 @@ import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
@@ -71,6 +74,9 @@ public class EncryptorImpl implements Encryptor {
     private SdkClient sdkClient;
     private final Map<String, List<ActionListener<Boolean>>> tenantWaitingListenerMap = new ConcurrentHashMap<>();
     private final Cache<String, String> tenantMasterKeys;
+    private final Cache<String, JceMasterKey> jceMasterKeys;
+    // decrypted texts keyed by hash of master key and ciphertext, null if disabled
+    private final Cache<String, DecryptedText> decryptedTexts;
     private MLIndicesHandler mlIndicesHandler;
     private final Object lock = new Object();
     private volatile long masterKeyCacheTtlMinutes;
@@ -78,6 +84,9 @@ public class EncryptorImpl implements Encryptor {
     // concurrent map can't have null as a key. This is to support single tenancy
     // assigning some random string so that it can't be duplicate
     public static final String DEFAULT_TENANT_ID = "03000200-0400-0500-0006-000700080009";
+    private static final int DECRYPTED_TEXT_CACHE_MAX_SIZE = 10000;
+    // AwsCrypto and JceMasterKey are immutable and thread safe, so they are built once rather than per encrypt/decrypt call
+    private static final AwsCrypto CRYPTO = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
 
     public EncryptorImpl(ClusterService clusterService, Client client, SdkClient sdkClient, MLIndicesHandler mlIndicesHandler) {
         this.masterKeyCacheTtlMinutes = ML_COMMONS_MASTER_KEY_CACHE_TTL_MINUTES.get(clusterService.getSettings());
@@ -91,6 +100,8 @@ public class EncryptorImpl implements Encryptor {
                 }
             })
             .build();
+        this.jceMasterKeys = buildJceMasterKeyCache(masterKeyCacheTtlMinutes, TimeUnit.MINUTES);
+        this.decryptedTexts = buildDecryptedTextCache(ML_COMMONS_DECRYPTED_CREDENTIAL_CACHE_TTL_SECONDS.get(clusterService.getSettings()));
         this.clusterService = clusterService;
         this.client = client;
         this.sdkClient = sdkClient;
@@ -117,6 +128,8 @@ public class EncryptorImpl implements Encryptor {
                 }
             })
             .build();
+        this.jceMasterKeys = buildJceMasterKeyCache(cacheTtl, timeUnit);
+        this.decryptedTexts = buildDecryptedTextCache(ML_COMMONS_DECRYPTED_CREDENTIAL_CACHE_TTL_SECONDS.get(Settings.EMPTY));
         this.clusterService = clusterService;
         this.client = client;
         this.sdkClient = sdkClient;
@@ -139,9 +152,27 @@ public class EncryptorImpl implements Encryptor {
                 }
             })
             .build();
+        this.jceMasterKeys = buildJceMasterKeyCache(cacheTtl, timeUnit);
+        this.decryptedTexts = buildDecryptedTextCache(ML_COMMONS_DECRYPTED_CREDENTIAL_CACHE_TTL_SECONDS.get(Settings.EMPTY));
         this.tenantMasterKeys.put(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID), masterKey);
     }
 
+    private static Cache<String, JceMasterKey> buildJceMasterKeyCache(long cacheTtl, TimeUnit timeUnit) {
+        return CacheBuilder.newBuilder().expireAfterAccess(cacheTtl, timeUnit).build();
+    }
+
+    private static Cache<String, DecryptedText> buildDecryptedTextCache(long ttlSeconds) {
+        if (ttlSeconds <= 0) {
+            return null;
+        }
+        return CacheBuilder
+            .newBuilder()
+            .maximumSize(DECRYPTED_TEXT_CACHE_MAX_SIZE)
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .removalListener((RemovalListener<String, DecryptedText>) notification -> notification.getValue().zeroize())
+            .build();
+    }
+
     @Override
     public void setMasterKey(String tenantId, String masterKey) {
         this.tenantMasterKeys.put(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID), masterKey);
@@ -164,11 +195,10 @@ public class EncryptorImpl implements Encryptor {
     }
 
     private void encryptTexts(List<String> plainTexts, String masterKey, ActionListener<List<String>> listener) {
-        final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
-        JceMasterKey jceMasterKey = createJceMasterKey(masterKey);
+        JceMasterKey jceMasterKey = getJceMasterKey(masterKey);
         List<String> encryptedResults = new ArrayList<>();
         for (String plainText : plainTexts) {
-            final CryptoResult<byte[], JceMasterKey> encryptResult = crypto
+            final CryptoResult<byte[], JceMasterKey> encryptResult = CRYPTO
                 .encryptData(jceMasterKey, plainText.getBytes(StandardCharsets.UTF_8));
             encryptedResults.add(Base64.getEncoder().encodeToString(encryptResult.getResult()));
         }
@@ -187,17 +217,36 @@ public class EncryptorImpl implements Encryptor {
     }
 
     private void decryptTexts(List<String> encryptedTexts, String masterKey, ActionListener<List<String>> listener) {
-        final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
-        JceMasterKey jceMasterKey = createJceMasterKey(masterKey);
+        JceMasterKey jceMasterKey = getJceMasterKey(masterKey);
         List<String> decryptedTextList = new ArrayList<>();
         for (String encryptedText : encryptedTexts) {
-            final CryptoResult<byte[], JceMasterKey> decryptedResult = crypto
-                .decryptData(jceMasterKey, Base64.getDecoder().decode(encryptedText));
-            decryptedTextList.add(new String(decryptedResult.getResult()));
+            decryptedTextList.add(decryptText(encryptedText, masterKey, jceMasterKey));
         }
         listener.onResponse(decryptedTextList);
     }
 
+    private String decryptText(String encryptedText, String masterKey, JceMasterKey jceMasterKey) {
+        if (decryptedTexts == null) {
+            return new String(CRYPTO.decryptData(jceMasterKey, Base64.getDecoder().decode(encryptedText)).getResult());
+        }
+        // the ciphertext changes whenever a credential is re-encrypted, e.g. on connector update, so entries never go stale
+        String cacheKey = hashString(masterKey + ":" + encryptedText);
+        DecryptedText cached = decryptedTexts.getIfPresent(cacheKey);
+        String plainText = cached == null ? null : cached.get();
+        if (plainText != null) {
+            return plainText;
+        }
+        byte[] decrypted = CRYPTO.decryptData(jceMasterKey, Base64.getDecoder().decode(encryptedText)).getResult();
+        plainText = new String(decrypted);
+        decryptedTexts.put(cacheKey, new DecryptedText(decrypted));
+        return plainText;
+    }
+
+    @VisibleForTesting
+    long decryptedTextCacheSize() {
+        return decryptedTexts == null ? 0 : decryptedTexts.size();
+    }
+
     @Override
     public String generateMasterKey() {
         byte[] keyBytes = new byte[32];
@@ -205,6 +254,15 @@ public class EncryptorImpl implements Encryptor {
         return Base64.getEncoder().encodeToString(keyBytes);
     }
 
+    private JceMasterKey getJceMasterKey(String masterKey) {
+        JceMasterKey jceMasterKey = jceMasterKeys.getIfPresent(masterKey);
+        if (jceMasterKey == null) {
+            jceMasterKey = createJceMasterKey(masterKey);
+            jceMasterKeys.put(masterKey, jceMasterKey);
+        }
+        return jceMasterKey;
+    }
+
     private JceMasterKey createJceMasterKey(String masterKey) {
         byte[] bytes = Base64.getDecoder().decode(masterKey);
         return JceMasterKey.getInstance(new SecretKeySpec(bytes, "AES"), "Custom", "", "AES/GCM/NOPADDING");
@@ -495,4 +553,26 @@ public class EncryptorImpl implements Encryptor {
             }
         }
     }
+
+    /**
+     * Plaintext of a cached decrypted text, zeroed when the entry is evicted. Strings already handed out can't be zeroed, the
+     * cache only makes sure it doesn't keep the plaintext beyond its TTL.
+     */
+    private static class DecryptedText {
+        private final byte[] bytes;
+        private boolean zeroized;
+
+        DecryptedText(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        synchronized String get() {
+            return zeroized ? null : new String(bytes);
+        }
+
+        synchronized void zeroize() {
+            Arrays.fill(bytes, (byte) 0);
+            zeroized = true;
+        }
+    }
 }
@@ -16,9 +16,11 @@ import org.opensearch.ml.common.spi.tools.ToolAnnotation;
 import org.opensearch.ml.common.spi.tools.WithModelTool;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.common.utils.ToolUtils;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 import org.opensearch.ml.repackage.com.google.common.annotations.VisibleForTesting;
 
 import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import lombok.Getter;
 import lombok.Setter;
@@ -45,6 +47,8 @@ public class McpSseTool implements WithModelTool {
     private String description = DEFAULT_DESCRIPTION;
     @Getter
     private McpSyncClient mcpSyncClient;
+    // null if MCP sessions are not cached
+    private McpToolSpecCache toolSpecCache;
     @Setter
     private Parser inputParser;
     @Setter
@@ -53,7 +57,12 @@ public class McpSseTool implements WithModelTool {
     private Parser outputParser;
 
     public McpSseTool(McpSyncClient mcpSyncClient) {
+        this(mcpSyncClient, null);
+    }
+
+    public McpSseTool(McpSyncClient mcpSyncClient, McpToolSpecCache toolSpecCache) {
         this.mcpSyncClient = mcpSyncClient;
+        this.toolSpecCache = toolSpecCache;
     }
 
     @Override
@@ -67,6 +76,11 @@ public class McpSseTool implements WithModelTool {
             listener.onResponse((T) resultJson);
         } catch (Exception e) {
             log.error("Failed to call MCP tool: {}", this.getName(), e);
+            // errors returned by the MCP server leave the session usable, other failures drop the cached session so that the
+            // next agent run connects again
+            if (toolSpecCache != null && !(e instanceof McpError)) {
+                toolSpecCache.invalidateSession(mcpSyncClient);
+            }
             listener.onFailure(e);
         }
     }
@@ -115,11 +129,17 @@ public class McpSseTool implements WithModelTool {
             }
         }
 
+        private McpToolSpecCache toolSpecCache;
+
         public void init() {}
 
+        public void init(McpToolSpecCache toolSpecCache) {
+            this.toolSpecCache = toolSpecCache;
+        }
+
         @Override
         public McpSseTool create(Map<String, Object> map) {
-            return new McpSseTool((McpSyncClient) map.get(MCP_SYNC_CLIENT));
+            return new McpSseTool((McpSyncClient) map.get(MCP_SYNC_CLIENT), toolSpecCache);
         }
 
         @Override
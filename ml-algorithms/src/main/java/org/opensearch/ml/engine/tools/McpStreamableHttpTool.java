@@ -16,10 +16,12 @@ import org.opensearch.ml.common.spi.tools.ToolAnnotation;
 import org.opensearch.ml.common.spi.tools.WithModelTool;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.common.utils.ToolUtils;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 
 import com.google.common.annotations.VisibleForTesting;
 
 import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import lombok.Getter;
 import lombok.Setter;
@@ -46,13 +48,20 @@ public class McpStreamableHttpTool implements WithModelTool {
     private String description = DEFAULT_DESCRIPTION;
     @Getter
     private McpSyncClient mcpSyncClient;
+    // null if MCP sessions are not cached
+    private McpToolSpecCache toolSpecCache;
     @Setter
     @Getter
     @VisibleForTesting
     private Parser<?, ?> outputParser;
 
     public McpStreamableHttpTool(McpSyncClient mcpSyncClient) {
+        this(mcpSyncClient, null);
+    }
+
+    public McpStreamableHttpTool(McpSyncClient mcpSyncClient, McpToolSpecCache toolSpecCache) {
         this.mcpSyncClient = mcpSyncClient;
+        this.toolSpecCache = toolSpecCache;
     }
 
     @Override
@@ -68,6 +77,11 @@ public class McpStreamableHttpTool implements WithModelTool {
             listener.onResponse(response);
         } catch (Exception e) {
             log.error("Failed to call MCP streamable HTTP tool: {}", this.getName(), e);
+            // errors returned by the MCP server leave the session usable, other failures drop the cached session so that the
+            // next agent run connects again
+            if (toolSpecCache != null && !(e instanceof McpError)) {
+                toolSpecCache.invalidateSession(mcpSyncClient);
+            }
             listener.onFailure(e);
         }
     }
@@ -116,11 +130,17 @@ public class McpStreamableHttpTool implements WithModelTool {
             }
         }
 
+        private McpToolSpecCache toolSpecCache;
+
         public void init() {}
 
+        public void init(McpToolSpecCache toolSpecCache) {
+            this.toolSpecCache = toolSpecCache;
+        }
+
         @Override
         public McpStreamableHttpTool create(Map<String, Object> map) {
-            return new McpStreamableHttpTool((McpSyncClient) map.get(MCP_SYNC_CLIENT));
+            return new McpStreamableHttpTool((McpSyncClient) map.get(MCP_SYNC_CLIENT), toolSpecCache);
         }
 
         @Override
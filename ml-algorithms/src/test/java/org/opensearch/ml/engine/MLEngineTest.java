@@ -130,6 +130,28 @@ public class MLEngineTest extends MLStaticMockBase {
         assertEquals(2, predictions.size());
     }
 
+    @Test
+    public void predictWithLoadedKMeansModel() {
+        MLModel model = trainKMeansModel();
+        Predictable predictable = mlEngine.deploy(model, null);
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(constructTestDataFrame(10)).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        MLPredictionOutput output = (MLPredictionOutput) mlEngine.predictWithLoadedModel(mlInput, predictable);
+        assertEquals(10, output.getPredictionResult().size());
+        // loaded model can be reused by following requests
+        output = (MLPredictionOutput) mlEngine.predictWithLoadedModel(mlInput, predictable);
+        assertEquals(10, output.getPredictionResult().size());
+    }
+
+    @Test
+    public void predictWithLoadedModel_NotLoaded() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Model not loaded");
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(constructTestDataFrame(10)).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        mlEngine.predictWithLoadedModel(mlInput, null);
+    }
+
     @Test
     public void deployLinearRegressionModel() {
         MLModel model = trainLinearRegressionModel();
@@ -14,6 +14,7 @@ import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.agent.MLAgentModelSpec;
 import org.opensearch.ml.common.agent.MLToolSpec;
 import org.opensearch.ml.common.contextmanager.ContextManagerContext;
+import org.opensearch.ml.common.contextmanager.TokenCountCache;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.hooks.HookRegistry;
 import org.opensearch.ml.common.input.execute.agent.Message;
@@ -53,6 +54,29 @@ public class AgentContextUtilTest {
         verify(hookRegistry, times(1)).emit(any());
     }
 
+    @Test
+    public void testEmitPreLLMHookSharesTokenCountsAcrossHooks() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("question", "test question");
+        parameters.put("system_prompt", "You are a helpful assistant.");
+        List<String> interactions = new ArrayList<>(List.of("first tool result"));
+        HookRegistry hookRegistry = new HookRegistry();
+
+        ContextManagerContext first = AgentContextUtil.emitPreLLMHook(parameters, interactions, null, null, hookRegistry);
+        first.getEstimatedTokenCount();
+        TokenCountCache cache = first.getTokenCountCache();
+        assertNotNull(cache);
+        assertEquals(3, cache.size());
+
+        // the next iteration only tokenizes the new interaction
+        interactions.add("second tool result");
+        ContextManagerContext second = AgentContextUtil.emitPreLLMHook(parameters, interactions, null, null, hookRegistry);
+        assertNotSame(first, second);
+        assertSame(cache, second.getTokenCountCache());
+        assertEquals(first.getEstimatedTokenCount() + 5, second.getEstimatedTokenCount());
+        assertEquals(4, cache.size());
+    }
+
     @Test
     public void testEmitPostMemoryHookWithNullHookRegistry() {
         Map<String, String> parameters = new HashMap<>();
@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +29,7 @@ import static org.opensearch.ml.common.CommonValue.MCP_CONNECTOR_ID_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
 import static org.opensearch.ml.common.CommonValue.TENANT_ID_FIELD;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.CREDENTIAL_FIELD;
+import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.DEFAULT_DATETIME_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_FINISH_REASON_PATH;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_FINISH_REASON_TOOL_USE;
@@ -82,6 +84,7 @@ import org.apache.logging.log4j.core.layout.PatternLayout;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
@@ -100,6 +103,7 @@ import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.connector.McpConnector;
 import org.opensearch.ml.common.connector.McpStreamableHttpConnector;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -1373,7 +1377,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
         when(mlAgent.getParameters()).thenReturn(null);
 
         ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
-        AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, listener);
+        AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, null, listener);
 
         verify(listener).onResponse(Collections.emptyList());
     }
@@ -1397,11 +1401,75 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, null, listener);
             verify(listener).onResponse(expected);
         }
     }
 
+    @Test
+    public void testGetMcpToolSpecs_CachedPerConnector() throws Exception {
+        stubGetConnector();
+        McpSyncClient mcpSyncClient = mock(McpSyncClient.class);
+        MLToolSpec tool = buildTool("Demo");
+        tool.addRuntimeResource(MCP_SYNC_CLIENT, mcpSyncClient);
+
+        try (
+            MockedStatic<Connector> connStatic = mockStatic(Connector.class);
+            MockedStatic<MLEngineClassLoader> loadStatic = mockStatic(MLEngineClassLoader.class)
+        ) {
+            mockMcpConnector(connStatic);
+            McpConnectorExecutor exec = mock(McpConnectorExecutor.class);
+            when(exec.getMcpToolSpecs()).thenReturn(List.of(tool));
+            loadStatic.when(() -> MLEngineClassLoader.initInstance(anyString(), any(), any())).thenReturn(exec);
+
+            McpToolSpecCache toolSpecCache = new McpToolSpecCache(Settings.EMPTY);
+            MLAgent mlAgent = mockAgent("[{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"cached_c1\"}]", "tenant");
+            ActionListener<List<MLToolSpec>> firstListener = mock(ActionListener.class);
+            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, toolSpecCache, firstListener);
+            ActionListener<List<MLToolSpec>> secondListener = mock(ActionListener.class);
+            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, toolSpecCache, secondListener);
+
+            // tools are listed once, the second run reuses the cached specs and MCP session
+            verify(exec, times(1)).getMcpToolSpecs();
+            ArgumentCaptor<List<MLToolSpec>> captor = ArgumentCaptor.forClass(List.class);
+            verify(secondListener).onResponse(captor.capture());
+            assertEquals(1, captor.getValue().size());
+            assertEquals("Demo", captor.getValue().get(0).getName());
+            assertSame(mcpSyncClient, captor.getValue().get(0).getRuntimeResources().get(MCP_SYNC_CLIENT));
+
+            // agent runs don't close the cached session
+            AgentUtils.cleanUpResource(captor.getValue(), toolSpecCache);
+            verify(mcpSyncClient, never()).closeGracefully();
+        }
+    }
+
+    @Test
+    public void testGetMcpToolSpecs_ListFailureInvalidatesCache() throws Exception {
+        stubGetConnector();
+        MLToolSpec tool = buildTool("Demo");
+        tool.addRuntimeResource(MCP_SYNC_CLIENT, mock(McpSyncClient.class));
+        McpToolSpecCache toolSpecCache = new McpToolSpecCache(Settings.EMPTY);
+        toolSpecCache.put("tenant", "c1", null, List.of(tool), client);
+
+        try (
+            MockedStatic<Connector> connStatic = mockStatic(Connector.class);
+            MockedStatic<MLEngineClassLoader> loadStatic = mockStatic(MLEngineClassLoader.class)
+        ) {
+            mockMcpConnector(connStatic);
+            McpConnectorExecutor exec = mock(McpConnectorExecutor.class);
+            when(exec.getMcpToolSpecs()).thenThrow(new MLException("Unexpected error while getting MCP tools"));
+            loadStatic.when(() -> MLEngineClassLoader.initInstance(anyString(), any(), any())).thenReturn(exec);
+
+            ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
+            AgentUtils
+                .getMCPToolSpecsFromConnectorWithPropagatingFailures("c1", "tenant", sdkClient, client, encryptor, toolSpecCache, listener);
+
+            verify(listener).onFailure(any(MLException.class));
+            // the tools and session cached before are not served anymore
+            assertNull(toolSpecCache.get("tenant", "c1", null));
+        }
+    }
+
     @Test
     public void testGetMcpToolSpecs_ToolFilterApplied() throws Exception {
         stubGetConnector();
@@ -1429,7 +1497,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
             verify(listener).onResponse(expected);
         }
     }
@@ -1460,7 +1528,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
             verify(listener).onResponse(argThat(result -> {
                 if (result == null || result.size() != 2) {
@@ -1503,7 +1571,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
             verify(listener)
                 .onResponse(
@@ -1544,7 +1612,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
             verify(listener).onResponse(argThat(result -> {
                 if (result == null || result.size() != 3) {
@@ -1594,7 +1662,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
                 MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
                 ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-                AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+                AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
                 verify(listener).onResponse(argThat(result -> {
                     if (result == null || result.size() != 2) {
@@ -1655,7 +1723,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
                 MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
                 ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-                AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+                AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
                 verify(listener).onResponse(argThat(result -> {
                     if (result == null || result.size() != 2) {
@@ -1718,7 +1786,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
                 MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
                 ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-                AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+                AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
                 verify(listener)
                     .onResponse(
@@ -1765,7 +1833,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
             verify(listener).onResponse(argThat(result -> {
                 if (result == null || result.size() != 2) {
@@ -1809,7 +1877,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
                 MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
                 ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-                AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+                AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
                 verify(listener)
                     .onResponse(
@@ -1880,7 +1948,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
             verify(listener)
                 .onResponse(
@@ -1913,7 +1981,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
             verify(listener)
                 .onResponse(
@@ -1952,7 +2020,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             loadStatic.when(() -> MLEngineClassLoader.initInstance(anyString(), any(), any())).thenReturn(exec);
 
             ActionListener<List<MLToolSpec>> noFilterListener = mock(ActionListener.class);
-            AgentUtils.getMcpToolSpecs(mockAgent(noFilterConfig, "tenant"), client, sdkClient, encryptor, noFilterListener);
+            AgentUtils.getMcpToolSpecs(mockAgent(noFilterConfig, "tenant"), client, sdkClient, encryptor, null, noFilterListener);
             verify(noFilterListener)
                 .onResponse(
                     argThat(
@@ -1964,7 +2032,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
                 );
 
             ActionListener<List<MLToolSpec>> withFilterListener = mock(ActionListener.class);
-            AgentUtils.getMcpToolSpecs(mockAgent(withFilterConfig, "tenant"), client, sdkClient, encryptor, withFilterListener);
+            AgentUtils.getMcpToolSpecs(mockAgent(withFilterConfig, "tenant"), client, sdkClient, encryptor, null, withFilterListener);
             verify(withFilterListener)
                 .onResponse(
                     argThat(
@@ -2004,7 +2072,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
             verify(listener).onResponse(expected);
         }
     }
@@ -2073,7 +2141,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             AtomicReference<List<MLToolSpec>> response = new AtomicReference<>();
             ActionListener<List<MLToolSpec>> listener = ActionListener.wrap(response::set, e -> { Assert.fail("Should not fail"); });
 
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
 
             assertNotNull(response.get());
             return response.get();
@@ -2112,7 +2180,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent agent = mockAgent("[{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"c1\"}]", "tenant");
 
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, null, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, null, null, listener);
 
             verify(listener).onResponse(Collections.emptyList());
         }
@@ -2272,6 +2340,66 @@ public class AgentUtilsTest extends MLStaticMockBase {
         Assert.assertEquals("test_id", output.get(TOOL_CALL_ID));
     }
 
+    @Test
+    public void testParseLLMOutput_WithFunctionCalling_ParallelToolCalls() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(TOOL_CALLS_PATH, "$.tool_calls");
+        parameters.put(LLM_RESPONSE_FILTER, "$.response");
+        parameters.put(LLM_FINISH_REASON_PATH, "$.finish_reason");
+        parameters.put(LLM_FINISH_REASON_TOOL_USE, "tool_use");
+
+        Map<String, Object> dataAsMap = new HashMap<>();
+        dataAsMap
+            .put(
+                "output",
+                Map
+                    .of(
+                        "message",
+                        Map
+                            .of(
+                                "content",
+                                List
+                                    .of(
+                                        Map.of("toolUse", Map.of("name", "search_tool", "input", "input1", "toolUseId", "id1")),
+                                        Map.of("toolUse", Map.of("name", "count_tool", "input", "input2", "toolUseId", "id2"))
+                                    )
+                            )
+                    )
+            );
+        dataAsMap.put("stopReason", "tool_use");
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(
+                List
+                    .of(
+                        ModelTensors
+                            .builder()
+                            .mlModelTensors(List.of(ModelTensor.builder().name("response").dataAsMap(dataAsMap).build()))
+                            .build()
+                    )
+            )
+            .build();
+        FunctionCalling functionCalling = FunctionCallingFactory.create(LLM_INTERFACE_BEDROCK_CONVERSE_CLAUDE);
+        functionCalling.configure(parameters);
+        Set<String> tools = Set.of("search_tool", "count_tool");
+
+        Map<String, String> output = AgentUtils
+            .parseLLMOutput(parameters, modelTensorOutput, null, tools, new ArrayList<>(), functionCalling, 5);
+        Assert.assertEquals("search_tool", output.get(ACTION));
+        List<Map<String, String>> parallelToolCalls = gson.fromJson(output.get(AgentUtils.PARALLEL_TOOL_CALLS), List.class);
+        Assert.assertEquals(2, parallelToolCalls.size());
+        Assert.assertEquals("count_tool", parallelToolCalls.get(1).get("tool_name"));
+        Assert.assertEquals("id2", parallelToolCalls.get(1).get(TOOL_CALL_ID));
+
+        // only the first tool call is run if parallel tool calls are disabled or a tool is unknown
+        output = AgentUtils.parseLLMOutput(parameters, modelTensorOutput, null, tools, new ArrayList<>(), functionCalling, 1);
+        Assert.assertNull(output.get(AgentUtils.PARALLEL_TOOL_CALLS));
+        output = AgentUtils
+            .parseLLMOutput(parameters, modelTensorOutput, null, Set.of("search_tool"), new ArrayList<>(), functionCalling, 5);
+        Assert.assertNull(output.get(AgentUtils.PARALLEL_TOOL_CALLS));
+        Assert.assertEquals("search_tool", output.get(ACTION));
+    }
+
     @Test
     public void testRemoveJsonPath_WithStringPaths() {
         Map<String, Object> json = new HashMap<>();
@@ -2628,7 +2756,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, null, listener);
             verify(listener).onResponse(expected);
         }
     }
@@ -2646,7 +2774,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent agent = mockAgent("[{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"c1\"}]", "tenant");
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, null, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, null, null, listener);
             verify(listener).onResponse(Collections.emptyList());
         }
     }
@@ -2668,6 +2796,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
                     sdkClient,
                     client,
                     encryptor,
+                    null,
                     ActionListener.wrap(r -> Assert.fail("Expected to fail for unsupported connector type"), failureRef::set)
                 );
 
@@ -2700,6 +2829,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
                 sdkClient,
                 client,
                 encryptor,
+                null,
                 ActionListener.wrap(r -> Assert.fail("Expected to fail when connector lookup fails"), failureRef::set)
             );
 
@@ -2725,7 +2855,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, listener);
+            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, null, listener);
             verify(listener).onResponse(Collections.emptyList());
         }
     }
@@ -2749,7 +2879,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent mlAgent = mockAgent("[{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"c1\"}]", "tenant");
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, listener);
+            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, null, listener);
             verify(listener).onResponse(Collections.emptyList());
         }
     }
@@ -2775,7 +2905,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             MLAgent agent = mockAgent(mcpJsonConfig, "tenant");
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, null, listener);
             // Listener fires exactly once with just the good connector's tools.
             verify(listener).onResponse(goodTools);
         }
@@ -2801,7 +2931,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
         MLAgent mlAgent = mockAgent("[{\"" + MCP_CONNECTOR_ID_FIELD + "\":\"c1\"}]", "tenant");
         ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
-        AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, listener);
+        AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, null, listener);
         verify(listener).onResponse(Collections.emptyList());
     }
 
@@ -2862,7 +2992,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             AtomicReference<List<MLToolSpec>> response = new AtomicReference<>();
             ActionListener<List<MLToolSpec>> listener = ActionListener.wrap(response::set, e -> { Assert.fail("Should not fail"); });
 
-            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
 
             assertNotNull(response.get());
             assertEquals(4, response.get().size());
@@ -2912,7 +3042,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = ActionListener
                 .wrap(r -> { Assert.fail("Expected failure for missing MCP tool"); }, failure::set);
 
-            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
 
             assertNotNull(failure.get());
             assertTrue(failure.get().getMessage().contains("missing_tool"));
@@ -2926,7 +3056,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
         AtomicReference<List<MLToolSpec>> response = new AtomicReference<>();
         ActionListener<List<MLToolSpec>> listener = ActionListener.wrap(response::set, e -> { Assert.fail("Should not fail"); });
 
-        AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+        AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
 
         assertNotNull(response.get());
         assertTrue(response.get().isEmpty());
@@ -2949,12 +3079,13 @@ public class AgentUtilsTest extends MLStaticMockBase {
                             any(Client.class),
                             any(SdkClient.class),
                             any(Encryptor.class),
+                            any(),
                             any(ActionListener.class)
                         )
                 )
                 .thenCallRealMethod();
 
-            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
         }
 
         assertNotNull(response.get());
@@ -2968,7 +3099,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
         AtomicReference<List<MLToolSpec>> response = new AtomicReference<>();
         ActionListener<List<MLToolSpec>> listener = ActionListener.wrap(response::set, e -> { Assert.fail("Should not fail"); });
 
-        AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+        AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
 
         assertNotNull(response.get());
         assertEquals(1, response.get().size());
@@ -3024,7 +3155,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             AtomicReference<List<MLToolSpec>> response = new AtomicReference<>();
             ActionListener<List<MLToolSpec>> listener = ActionListener.wrap(response::set, e -> { Assert.fail("Should not fail"); });
 
-            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
 
             assertNotNull(response.get());
             assertEquals(2, response.get().size());
@@ -3080,7 +3211,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             AtomicReference<List<MLToolSpec>> response = new AtomicReference<>();
             ActionListener<List<MLToolSpec>> listener = ActionListener.wrap(response::set, e -> { Assert.fail("Should not fail"); });
 
-            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
 
             assertNotNull(response.get());
             assertEquals(1, response.get().size());
@@ -3130,7 +3261,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             AtomicReference<List<MLToolSpec>> response = new AtomicReference<>();
             ActionListener<List<MLToolSpec>> listener = ActionListener.wrap(response::set, e -> { Assert.fail("Should not fail"); });
 
-            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
 
             assertNotNull(response.get());
             assertEquals(1, response.get().size());
@@ -3187,7 +3318,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             AtomicReference<List<MLToolSpec>> response = new AtomicReference<>();
             ActionListener<List<MLToolSpec>> listener = ActionListener.wrap(response::set, e -> { Assert.fail("Should not fail"); });
 
-            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
 
             assertEquals(1, response.get().size());
             MLToolSpec merged = response.get().get(0);
@@ -3246,7 +3377,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             AtomicReference<List<MLToolSpec>> response = new AtomicReference<>();
             ActionListener<List<MLToolSpec>> listener = ActionListener.wrap(response::set, e -> { Assert.fail("Should not fail"); });
 
-            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, listener);
+            AgentUtils.resolveFlowToolSpecsWithMcpValidation(agent, new HashMap<>(), client, sdkClient, encryptor, null, listener);
 
             assertEquals(1, response.get().size());
             MLToolSpec merged = response.get().get(0);
@@ -3276,7 +3407,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
         MLToolSpec spec1 = MLToolSpec.builder().type("mcp_tool").name("tool1").build();
         spec1.addRuntimeResource(MCP_SYNC_CLIENT, mcpSyncClient);
 
-        AgentUtils.cleanUpResource(List.of(spec1));
+        AgentUtils.cleanUpResource(List.of(spec1), null);
 
         verify(mcpSyncClient, times(1)).closeGracefully();
     }
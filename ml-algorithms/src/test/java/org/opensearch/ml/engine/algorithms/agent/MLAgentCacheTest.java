@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_AGENT_CACHE_MAX_SIZE;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.agent.MLAgent;
+
+public class MLAgentCacheTest {
+
+    private MLAgentCache cache;
+    private MLAgent mlAgent;
+
+    @Before
+    public void setup() {
+        cache = new MLAgentCache(Settings.EMPTY);
+        mlAgent = MLAgent.builder().name("test_agent").type("flow").build();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        cache.put("tenant", "agent", mlAgent, cache.getVersion());
+
+        assertSame(mlAgent, cache.get("tenant", "agent"));
+        assertNull(cache.get("other_tenant", "agent"));
+        assertNull(cache.get(null, "agent"));
+        assertNull(cache.get("tenant", null));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    @Test
+    public void testPut_InvalidatedWhileReading() {
+        long version = cache.getVersion();
+        cache.invalidate("tenant", "agent");
+        cache.put("tenant", "agent", mlAgent, version);
+
+        assertNull(cache.get("tenant", "agent"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.put(null, "agent1", mlAgent, cache.getVersion());
+        cache.put(null, "agent2", mlAgent, cache.getVersion());
+        cache.invalidate(null, "agent1");
+
+        assertNull(cache.get(null, "agent1"));
+        assertSame(mlAgent, cache.get(null, "agent2"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDisabled() {
+        Settings settings = Settings.builder().put(ML_COMMONS_AGENT_CACHE_MAX_SIZE.getKey(), 0).build();
+        MLAgentCache disabledCache = new MLAgentCache(settings);
+        disabledCache.put("tenant", "agent", mlAgent, disabledCache.getVersion());
+
+        assertNull(disabledCache.get("tenant", "agent"));
+        assertEquals(0, disabledCache.size());
+    }
+}
@@ -920,6 +920,35 @@ public class MLAgentExecutorTest {
         verify(listener, timeout(5000).atLeastOnce()).onFailure(any(Exception.class));
     }
 
+    @Test
+    public void testExecute_cachedAgent_skipsAgentIndexRead() {
+        when(metadata.hasIndex(anyString())).thenReturn(true);
+        MLAgentCache agentCache = new MLAgentCache(settings);
+        MLAgent cachedAgent = MLAgent.builder().name("test_agent").type(MLAgentType.FLOW.name()).build();
+        agentCache.put(null, "test-agent", cachedAgent, agentCache.getVersion());
+        MLAgentExecutor executor = new MLAgentExecutor(
+            client,
+            sdkClient,
+            settings,
+            clusterService,
+            xContentRegistry,
+            toolFactories,
+            memoryFactoryMap,
+            mlFeatureEnabledSetting,
+            encryptor,
+            agentCache,
+            null
+        );
+
+        Map<String, String> parameters = Collections.singletonMap("question", "test question");
+        RemoteInferenceInputDataSet dataset = RemoteInferenceInputDataSet.builder().parameters(parameters).build();
+        AgentMLInput agentInput = new AgentMLInput("test-agent", null, FunctionName.AGENT, dataset);
+        executor.execute(agentInput, listener, channel);
+
+        verify(sdkClient, never()).getDataObjectAsync(any(), any());
+        assertEquals(1, agentCache.stats().hitCount());
+    }
+
     @Test
     public void test_PerformInitialMemoryOperations_WithHistoryAndInputMessages() {
         // Setup: history has 2 messages, input has 1 message
@@ -21,6 +21,7 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.DEFAULT_DATET
 import static org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor.MESSAGE_HISTORY_LIMIT;
 import static org.opensearch.ml.engine.memory.ConversationIndexMemory.LAST_N_INTERACTIONS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -43,6 +44,8 @@ import org.opensearch.action.StepListener;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
@@ -62,6 +65,8 @@ import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskRequest;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.engine.function_calling.FunctionCalling;
+import org.opensearch.ml.engine.function_calling.FunctionCallingFactory;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
 import org.opensearch.ml.engine.memory.MLMemoryManager;
 import org.opensearch.ml.engine.tools.AgentTool;
@@ -69,6 +74,8 @@ import org.opensearch.ml.engine.tools.ReadFromScratchPadTool;
 import org.opensearch.ml.engine.tools.WriteToScratchPadTool;
 import org.opensearch.ml.memory.action.conversation.CreateInteractionResponse;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableMap;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 public class MLChatAgentRunnerTest {
@@ -1731,4 +1738,107 @@ public class MLChatAgentRunnerTest {
 
         Mockito.verify(agentActionListener).onFailure(any(RuntimeException.class));
     }
+
+    @Test
+    public void testRunToolsInParallel() {
+        ThreadPool threadPool = mockThreadPool();
+        Map<String, Tool> tools = Map.of(FIRST_TOOL, firstTool, SECOND_TOOL, secondTool);
+        List<MLChatAgentRunner.ToolCall> toolCalls = List
+            .of(
+                new MLChatAgentRunner.ToolCall(FIRST_TOOL, "input1", "call1", new HashMap<>()),
+                new MLChatAgentRunner.ToolCall(SECOND_TOOL, "input2", "call2", new HashMap<>())
+            );
+        List<String> interactions = new ArrayList<>();
+        FunctionCalling functionCalling = FunctionCallingFactory.create(AgentUtils.LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS);
+        ActionListener<Object> nextStepListener = Mockito.mock(ActionListener.class);
+
+        mlChatAgentRunner
+            .runToolsInParallel(tools, Map.of(), new HashMap<>(), nextStepListener, toolCalls, interactions, functionCalling, 5, 60);
+
+        verify(nextStepListener).onResponse(objectCaptor.capture());
+        assertEquals(List.of("First tool response", "Second tool response"), objectCaptor.getValue());
+        assertEquals(2, interactions.size());
+        assertTrue(interactions.get(0).contains("call1"));
+        assertTrue(interactions.get(1).contains("call2"));
+        verify(threadPool, Mockito.times(2)).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+    }
+
+    @Test
+    public void testRunToolsInParallel_Timeout() {
+        ThreadPool threadPool = mockThreadPool();
+        // first tool never responds
+        doAnswer(invocation -> null).when(firstTool).run(Mockito.anyMap(), any());
+        ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+        Map<String, Tool> tools = Map.of(FIRST_TOOL, firstTool, SECOND_TOOL, secondTool);
+        List<MLChatAgentRunner.ToolCall> toolCalls = List
+            .of(
+                new MLChatAgentRunner.ToolCall(FIRST_TOOL, "input1", "call1", new HashMap<>()),
+                new MLChatAgentRunner.ToolCall(SECOND_TOOL, "input2", "call2", new HashMap<>())
+            );
+        FunctionCalling functionCalling = FunctionCallingFactory.create(AgentUtils.LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS);
+        ActionListener<Object> nextStepListener = Mockito.mock(ActionListener.class);
+
+        // one tool call at a time, second tool call starts once the first one times out
+        mlChatAgentRunner
+            .runToolsInParallel(tools, Map.of(), new HashMap<>(), nextStepListener, toolCalls, new ArrayList<>(), functionCalling, 1, 10);
+        verify(secondTool, never()).run(Mockito.anyMap(), any());
+        verify(threadPool).schedule(timeoutCaptor.capture(), any(TimeValue.class), anyString());
+        timeoutCaptor.getValue().run();
+
+        verify(nextStepListener).onResponse(objectCaptor.capture());
+        List<Object> outputs = (List<Object>) objectCaptor.getValue();
+        assertTrue(outputs.get(0).toString().contains("timed out after 10 seconds"));
+        assertEquals("Second tool response", outputs.get(1));
+    }
+
+    @Test
+    public void testRunToolsInParallel_TimedOutToolsHoldSlots() {
+        ThreadPool threadPool = mockThreadPool();
+        // first tool never responds by itself
+        List<ActionListener<Object>> firstToolListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            firstToolListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(firstTool).run(Mockito.anyMap(), any());
+        ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+        Map<String, Tool> tools = Map.of(FIRST_TOOL, firstTool, SECOND_TOOL, secondTool);
+        List<MLChatAgentRunner.ToolCall> toolCalls = List
+            .of(
+                new MLChatAgentRunner.ToolCall(FIRST_TOOL, "input1", "call1", new HashMap<>()),
+                new MLChatAgentRunner.ToolCall(FIRST_TOOL, "input2", "call2", new HashMap<>()),
+                new MLChatAgentRunner.ToolCall(SECOND_TOOL, "input3", "call3", new HashMap<>())
+            );
+        FunctionCalling functionCalling = FunctionCallingFactory.create(AgentUtils.LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS);
+        ActionListener<Object> nextStepListener = Mockito.mock(ActionListener.class);
+
+        mlChatAgentRunner
+            .runToolsInParallel(tools, Map.of(), new HashMap<>(), nextStepListener, toolCalls, new ArrayList<>(), functionCalling, 1, 10);
+        verify(threadPool).schedule(timeoutCaptor.capture(), any(TimeValue.class), anyString());
+        // the first timed-out tool call lends its slot to the second tool call
+        timeoutCaptor.getValue().run();
+        assertEquals(2, firstToolListeners.size());
+        verify(threadPool, Mockito.times(2)).schedule(timeoutCaptor.capture(), any(TimeValue.class), anyString());
+        // the second timed-out tool call holds its slot, as one slot is lent already
+        timeoutCaptor.getValue().run();
+        firstToolListeners.get(0).onResponse("Late response");
+        verify(secondTool, never()).run(Mockito.anyMap(), any());
+
+        // the third tool call starts once the second tool actually finishes
+        firstToolListeners.get(1).onResponse("Late response");
+        verify(secondTool).run(Mockito.anyMap(), any());
+        verify(nextStepListener).onResponse(objectCaptor.capture());
+        List<Object> outputs = (List<Object>) objectCaptor.getValue();
+        assertTrue(outputs.get(0).toString().contains("timed out after 10 seconds"));
+        assertTrue(outputs.get(1).toString().contains("timed out after 10 seconds"));
+        assertEquals("Second tool response", outputs.get(2));
+    }
+
+    private ThreadPool mockThreadPool() {
+        ThreadPool threadPool = Mockito.mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), anyString()))
+            .thenReturn(Mockito.mock(Scheduler.ScheduledCancellable.class));
+        return threadPool;
+    }
 }
@@ -9,6 +9,7 @@ import static org.apache.commons.text.StringEscapeUtils.escapeJson;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -26,6 +27,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 
@@ -43,6 +45,7 @@ import org.opensearch.action.StepListener;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
@@ -232,6 +235,153 @@ public class MLFlowAgentRunnerTest extends MLStaticMockBase {
         assertNotNull(additionalInfo.get(SECOND_TOOL + ".output"));
     }
 
+    @Test
+    public void testGetToolDependencies() {
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        MLToolSpec thirdToolSpec = MLToolSpec
+            .builder()
+            .name("thirdTool")
+            .type(FIRST_TOOL)
+            .parameters(Map.of("prompt", "Summarize ${parameters.secondTool.output}"))
+            .build();
+        List<MLToolSpec> toolSpecs = List.of(firstToolSpec, secondToolSpec, thirdToolSpec);
+
+        assertEquals(Set.of(), MLFlowAgentRunner.getToolDependencies(toolSpecs, 1, Map.of()));
+        assertEquals(Set.of(1), MLFlowAgentRunner.getToolDependencies(toolSpecs, 2, Map.of()));
+        // references in request parameters of the tool
+        assertEquals(
+            Set.of(0),
+            MLFlowAgentRunner.getToolDependencies(toolSpecs, 1, Map.of("secondTool.input", "${parameters.firstTool.output}"))
+        );
+        // explicit dependencies override inferred ones
+        assertEquals(Set.of(0), MLFlowAgentRunner.getToolDependencies(toolSpecs, 2, Map.of("thirdTool.depends_on", FIRST_TOOL)));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> MLFlowAgentRunner.getToolDependencies(toolSpecs, 1, Map.of("secondTool.depends_on", "thirdTool"))
+        );
+    }
+
+    @Test
+    public void testGetToolDependencies_FullPlaceholder() {
+        MLToolSpec shortNameSpec = MLToolSpec.builder().name("a").type(FIRST_TOOL).build();
+        MLToolSpec longNameSpec = MLToolSpec.builder().name("ba").type(SECOND_TOOL).build();
+        MLToolSpec consumerSpec = MLToolSpec
+            .builder()
+            .name("consumer")
+            .type(FIRST_TOOL)
+            .parameters(Map.of("input", "${parameters.ba.output}"))
+            .build();
+        List<MLToolSpec> toolSpecs = List.of(shortNameSpec, longNameSpec, consumerSpec);
+
+        // the output of ba doesn't reference a
+        assertEquals(Set.of(1), MLFlowAgentRunner.getToolDependencies(toolSpecs, 2, Map.of()));
+    }
+
+    @Test
+    public void testRunWithInvalidMaxParallelTools() {
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent
+            .builder()
+            .name("TestAgent")
+            .type(MLAgentType.FLOW.name())
+            .tools(Arrays.asList(firstToolSpec, secondToolSpec))
+            .build();
+
+        for (String maxParallelTools : List.of("two", "0")) {
+            ActionListener<Object> listener = mock(ActionListener.class);
+            mlFlowAgentRunner.run(mlAgent, new HashMap<>(Map.of(MLFlowAgentRunner.MAX_PARALLEL_TOOLS, maxParallelTools)), listener);
+
+            ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+            verify(listener).onFailure(argCaptor.capture());
+            assertTrue(argCaptor.getValue() instanceof IllegalArgumentException);
+            assertEquals("max_parallel_tools must be a positive integer, got: " + maxParallelTools, argCaptor.getValue().getMessage());
+        }
+        verify(firstTool, Mockito.never()).run(anyMap(), any());
+    }
+
+    @Test
+    public void testRunWithParallelTools() {
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        final Map<String, String> params = new HashMap<>();
+        params.put(MLFlowAgentRunner.MAX_PARALLEL_TOOLS, "2");
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).includeOutputInAgentResponse(true).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent
+            .builder()
+            .name("TestAgent")
+            .type(MLAgentType.FLOW.name())
+            .tools(Arrays.asList(firstToolSpec, secondToolSpec))
+            .build();
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+
+        Mockito.verify(agentActionListener).onResponse(objectCaptor.capture());
+        List<ModelTensor> agentOutput = (List<ModelTensor>) objectCaptor.getValue();
+        // outputs are in the order of the tools
+        assertEquals(2, agentOutput.size());
+        assertEquals(FIRST_TOOL, agentOutput.get(0).getName());
+        assertEquals(SECOND_TOOL, agentOutput.get(1).getName());
+        assertEquals(SECOND_TOOL_RESPONSE, agentOutput.get(1).getResult());
+    }
+
+    @Test
+    public void testRunWithParallelTools_Failure() {
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onFailure(new IllegalStateException("first tool failed"));
+            return null;
+        }).when(firstTool).run(anyMap(), any());
+        final Map<String, String> params = new HashMap<>();
+        params.put(MLFlowAgentRunner.MAX_PARALLEL_TOOLS, "2");
+        // second tool consumes the output of the first tool, so it never starts
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec
+            .builder()
+            .name(SECOND_TOOL)
+            .type(SECOND_TOOL)
+            .parameters(Map.of("input", "${parameters.firstTool.output}"))
+            .build();
+        final MLAgent mlAgent = MLAgent
+            .builder()
+            .name("TestAgent")
+            .type(MLAgentType.FLOW.name())
+            .tools(Arrays.asList(firstToolSpec, secondToolSpec))
+            .build();
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+
+        verify(agentActionListener).onFailure(any(IllegalStateException.class));
+        verify(secondTool, Mockito.never()).run(anyMap(), any());
+    }
+
+    @Test
+    public void testRunWithParallelTools_DuplicateToolNames() {
+        final Map<String, String> params = new HashMap<>();
+        params.put(MLFlowAgentRunner.MAX_PARALLEL_TOOLS, "2");
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent
+            .builder()
+            .name("TestAgent")
+            .type(MLAgentType.FLOW.name())
+            .tools(Arrays.asList(firstToolSpec, secondToolSpec))
+            .build();
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(agentActionListener).onFailure(argCaptor.capture());
+        assertTrue(argCaptor.getValue() instanceof IllegalArgumentException);
+        assertTrue(argCaptor.getValue().getMessage().contains("Tool name firstTool is used by more than one tool"));
+        verify(firstTool, Mockito.never()).run(anyMap(), any());
+        verify(secondTool, Mockito.never()).run(anyMap(), any());
+    }
+
     @Test()
     public void testRunWithNoToolSpec() {
         final Map<String, String> params = new HashMap<>();
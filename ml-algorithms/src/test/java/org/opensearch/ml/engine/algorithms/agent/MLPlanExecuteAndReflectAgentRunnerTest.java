@@ -18,11 +18,14 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.DEFAULT_PLANNER_SYSTEM_PROMPT_PREFIX;
+import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.PARALLEL_STEPS_INSTRUCTIONS;
 import static org.opensearch.ml.engine.algorithms.agent.PromptTemplate.getPlanExecuteReflectResponseFormat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -754,6 +757,116 @@ public class MLPlanExecuteAndReflectAgentRunnerTest extends MLStaticMockBase {
         );
     }
 
+    @Test
+    public void testParseLLMOutputWithIndependentSteps() {
+        ModelTensor modelTensor = ModelTensor
+            .builder()
+            .dataAsMap(
+                Map
+                    .of(
+                        MLPlanExecuteAndReflectAgentRunner.RESPONSE_FIELD,
+                        "{\"steps\":[\"step1\",\"step2\"],\"independent_steps\":2,\"result\":\"\"}"
+                    )
+            )
+            .build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+
+        Map<String, Object> result = mlPlanExecuteAndReflectAgentRunner.parseLLMOutput(new HashMap<>(), modelTensorOutput);
+
+        assertEquals(2, result.get(MLPlanExecuteAndReflectAgentRunner.INDEPENDENT_STEPS_FIELD));
+    }
+
+    @Test
+    public void testGetParallelStepCount() {
+        Map<String, String> params = new HashMap<>();
+        // disabled by default
+        assertEquals(1, MLPlanExecuteAndReflectAgentRunner.getParallelStepCount(params, 3, 3, 10));
+
+        params.put(MLPlanExecuteAndReflectAgentRunner.MAX_PARALLEL_STEPS_FIELD, "2");
+        assertEquals(2, MLPlanExecuteAndReflectAgentRunner.getParallelStepCount(params, 3, 3, 10));
+        assertEquals(1, MLPlanExecuteAndReflectAgentRunner.getParallelStepCount(params, null, 3, 10));
+        assertEquals(1, MLPlanExecuteAndReflectAgentRunner.getParallelStepCount(params, 0, 3, 10));
+        // bounded by the remaining step budget and the planned steps
+        assertEquals(1, MLPlanExecuteAndReflectAgentRunner.getParallelStepCount(params, 3, 3, 1));
+        assertEquals(1, MLPlanExecuteAndReflectAgentRunner.getParallelStepCount(params, 3, 1, 10));
+
+        params.put(MLPlanExecuteAndReflectAgentRunner.MAX_PARALLEL_STEPS_FIELD, "invalid");
+        assertEquals(1, MLPlanExecuteAndReflectAgentRunner.getParallelStepCount(params, 3, 3, 10));
+    }
+
+    @Test
+    public void testSetupPromptParametersWithParallelSteps() {
+        Map<String, String> testParams = new HashMap<>();
+        testParams.put(MLPlanExecuteAndReflectAgentRunner.QUESTION_FIELD, "test question");
+        testParams.put(MLPlanExecuteAndReflectAgentRunner.MAX_PARALLEL_STEPS_FIELD, "3");
+
+        mlPlanExecuteAndReflectAgentRunner.setupPromptParameters(testParams);
+
+        assertTrue(testParams.get(MLPlanExecuteAndReflectAgentRunner.SYSTEM_PROMPT_FIELD).contains(PARALLEL_STEPS_INSTRUCTIONS));
+    }
+
+    @Test
+    public void testExecutionWithParallelSteps() {
+        MLAgent mlAgent = createMLAgentWithTools();
+        AtomicInteger plannerCalls = new AtomicInteger();
+        List<String> completedStepsAtReflection = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(2);
+            String response;
+            if (plannerCalls.getAndIncrement() == 0) {
+                response = "{\"steps\":[\"check index a\", \"check index b\", \"compare\"], \"independent_steps\":2, \"result\":\"\"}";
+            } else {
+                MLPredictionTaskRequest request = invocation.getArgument(1);
+                RemoteInferenceInputDataSet dataSet = (RemoteInferenceInputDataSet) request.getMlInput().getInputDataset();
+                completedStepsAtReflection.add(dataSet.getParameters().get(MLPlanExecuteAndReflectAgentRunner.COMPLETED_STEPS_FIELD));
+                response = "{\"steps\":[], \"result\":\"final result\"}";
+            }
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", response)).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            MLTaskResponse taskResponse = mock(MLTaskResponse.class);
+            when(taskResponse.getOutput()).thenReturn(ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build());
+            listener.onResponse(taskResponse);
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(MLPredictionTaskRequest.class), any());
+
+        doAnswer(invocation -> {
+            MLExecuteTaskRequest request = invocation.getArgument(1);
+            ActionListener<Object> listener = invocation.getArgument(2);
+            AgentMLInput agentInput = (AgentMLInput) request.getInput();
+            String step = ((RemoteInferenceInputDataSet) agentInput.getInputDataset()).getParameters().get("question");
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", "result of " + step)).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            MLExecuteTaskResponse executeResponse = mock(MLExecuteTaskResponse.class);
+            when(executeResponse.getOutput()).thenReturn(ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build());
+            listener.onResponse(executeResponse);
+            return null;
+        }).when(client).execute(eq(MLExecuteTaskAction.INSTANCE), any(MLExecuteTaskRequest.class), any());
+
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(2);
+            listener.onResponse("success");
+            return null;
+        }).when(conversationIndexMemory).update(any(), any(), any());
+
+        Map<String, String> params = new HashMap<>();
+        params.put("question", "test question");
+        params.put(MLAgentExecutor.PARENT_INTERACTION_ID, "test_parent_interaction_id");
+        params.put(MLPlanExecuteAndReflectAgentRunner.MAX_PARALLEL_STEPS_FIELD, "4");
+        mlPlanExecuteAndReflectAgentRunner.run(mlAgent, params, agentActionListener, transportChannel);
+
+        verify(agentActionListener).onResponse(any(ModelTensorOutput.class));
+        // both independent steps were executed before the planner was asked to reflect
+        verify(client, times(2)).execute(eq(MLExecuteTaskAction.INSTANCE), any(MLExecuteTaskRequest.class), any());
+        assertEquals(1, completedStepsAtReflection.size());
+        String completedSteps = completedStepsAtReflection.get(0);
+        assertTrue(completedSteps.contains("<step-1>\ncheck index a\n</step-1>"));
+        assertTrue(completedSteps.contains("<step-2-result>\nresult of check index b\n</step-2-result>"));
+        assertFalse(completedSteps.contains("compare"));
+        assertTrue(completedSteps.indexOf("<step-1>") < completedSteps.indexOf("<step-2>"));
+    }
+
     @Test
     public void testExtractJsonFromMarkdown() {
         String markdown = "```json\n{\"key\":\"value\"}\n```";
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MCP_TOOL_SPEC_CACHE_MAX_SIZE;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.agent.MLToolSpec;
+import org.opensearch.ml.engine.tools.McpSseTool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+
+public class McpToolSpecCacheTest {
+
+    private static final Instant LAST_UPDATE_TIME = Instant.ofEpochMilli(1000);
+
+    private McpToolSpecCache cache;
+    private Client client;
+    private ThreadPool threadPool;
+    private McpSyncClient mcpSyncClient;
+
+    @Before
+    public void setup() {
+        cache = new McpToolSpecCache(Settings.EMPTY);
+        client = mock(Client.class);
+        threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        mcpSyncClient = mock(McpSyncClient.class);
+    }
+
+    @Test
+    public void testPutAndGet() {
+        List<MLToolSpec> toolSpecs = List.of(toolSpec("tool1", mcpSyncClient), toolSpec("tool2", mcpSyncClient));
+        assertTrue(cache.put("tenant", "connector", LAST_UPDATE_TIME, toolSpecs, client));
+        assertTrue(cache.isCachedClient(mcpSyncClient));
+
+        List<MLToolSpec> cached = cache.get("tenant", "connector", LAST_UPDATE_TIME);
+        assertEquals(2, cached.size());
+        assertEquals("tool1", cached.get(0).getName());
+        assertSame(mcpSyncClient, cached.get(0).getRuntimeResources().get(MCP_SYNC_CLIENT));
+        // every run gets its own copies
+        assertNotSame(cached.get(0), cache.get("tenant", "connector", LAST_UPDATE_TIME).get(0));
+        cached.get(0).addRuntimeResource("run_resource", "value");
+        assertNull(cache.get("tenant", "connector", LAST_UPDATE_TIME).get(0).getRuntimeResources().get("run_resource"));
+
+        assertNull(cache.get("other_tenant", "connector", LAST_UPDATE_TIME));
+        assertNull(cache.get("tenant", "other_connector", LAST_UPDATE_TIME));
+        assertEquals(3, cache.stats().hitCount());
+    }
+
+    @Test
+    public void testGet_ConnectorUpdated() {
+        cache.put("tenant", "connector", LAST_UPDATE_TIME, List.of(toolSpec("tool1", mcpSyncClient)), client);
+
+        assertNull(cache.get("tenant", "connector", LAST_UPDATE_TIME.plusSeconds(1)));
+        assertEquals(0, cache.size());
+        verifySessionClosedAfterGracePeriod();
+    }
+
+    @Test
+    public void testPut_NotCacheable() {
+        assertFalse(cache.put("tenant", "connector", LAST_UPDATE_TIME, List.of(), client));
+        assertFalse(cache.put("tenant", "connector", LAST_UPDATE_TIME, List.of(toolSpec("tool1", null)), client));
+        List<MLToolSpec> mixedSessions = List.of(toolSpec("tool1", mcpSyncClient), toolSpec("tool2", mock(McpSyncClient.class)));
+        assertFalse(cache.put("tenant", "connector", LAST_UPDATE_TIME, mixedSessions, client));
+        assertFalse(cache.isCachedClient(mcpSyncClient));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.put("tenant", "connector", LAST_UPDATE_TIME, List.of(toolSpec("tool1", mcpSyncClient)), client);
+        cache.invalidate("tenant", "connector");
+        cache.invalidate("tenant", null);
+
+        assertNull(cache.get("tenant", "connector", LAST_UPDATE_TIME));
+        verifySessionClosedAfterGracePeriod();
+    }
+
+    @Test
+    public void testPut_ReplacesSession() {
+        McpSyncClient newMcpSyncClient = mock(McpSyncClient.class);
+        cache.put("tenant", "connector", LAST_UPDATE_TIME, List.of(toolSpec("tool1", mcpSyncClient)), client);
+        cache.put("tenant", "connector", LAST_UPDATE_TIME, List.of(toolSpec("tool2", newMcpSyncClient)), client);
+
+        assertEquals("tool2", cache.get("tenant", "connector", LAST_UPDATE_TIME).get(0).getName());
+        assertTrue(cache.isCachedClient(newMcpSyncClient));
+        verifySessionClosedAfterGracePeriod();
+        verify(newMcpSyncClient, never()).closeGracefully();
+    }
+
+    @Test
+    public void testRemoval_ScheduleRejected() {
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), anyString()))
+            .thenThrow(new IllegalStateException("node closing"));
+        cache.put("tenant", "connector", LAST_UPDATE_TIME, List.of(toolSpec("tool1", mcpSyncClient)), client);
+        cache.invalidateAll();
+
+        verify(mcpSyncClient).closeGracefully();
+        assertFalse(cache.isCachedClient(mcpSyncClient));
+    }
+
+    @Test
+    public void testDisabled() {
+        Settings settings = Settings.builder().put(ML_COMMONS_MCP_TOOL_SPEC_CACHE_MAX_SIZE.getKey(), 0).build();
+        McpToolSpecCache disabledCache = new McpToolSpecCache(settings);
+
+        assertFalse(disabledCache.isEnabled());
+        assertFalse(disabledCache.put("tenant", "connector", LAST_UPDATE_TIME, List.of(toolSpec("tool1", mcpSyncClient)), client));
+        assertNull(disabledCache.get("tenant", "connector", LAST_UPDATE_TIME));
+    }
+
+    private void verifySessionClosedAfterGracePeriod() {
+        // the session stays open for in-flight agent runs until the scheduled close
+        verify(mcpSyncClient, never()).closeGracefully();
+        assertTrue(cache.isCachedClient(mcpSyncClient));
+        ArgumentCaptor<Runnable> closeCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(closeCaptor.capture(), any(TimeValue.class), anyString());
+        closeCaptor.getValue().run();
+        verify(mcpSyncClient).closeGracefully();
+        assertFalse(cache.isCachedClient(mcpSyncClient));
+    }
+
+    private MLToolSpec toolSpec(String name, McpSyncClient mcpClient) {
+        MLToolSpec toolSpec = MLToolSpec.builder().type(McpSseTool.TYPE).name(name).description("desc").build();
+        if (mcpClient != null) {
+            toolSpec.addRuntimeResource(MCP_SYNC_CLIENT, mcpClient);
+        }
+        return toolSpec;
+    }
+}
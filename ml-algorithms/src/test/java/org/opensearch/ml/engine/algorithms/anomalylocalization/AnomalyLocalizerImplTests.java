@@ -6,6 +6,7 @@
 package org.opensearch.ml.engine.algorithms.anomalylocalization;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -19,10 +20,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -36,7 +39,9 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 import org.opensearch.Version;
+import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.IndicesOptions;
@@ -63,6 +68,8 @@ import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
 import org.opensearch.search.aggregations.bucket.filter.Filters;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.NumericMetricsAggregation.SingleValue;
 import org.opensearch.transport.client.Client;
 
@@ -107,6 +114,10 @@ public class AnomalyLocalizerImplTests {
     private AnomalyLocalizationOutput.Bucket expectedBucketOne;
     private AnomalyLocalizationOutput.Bucket expectedBucketTwo;
     private AnomalyLocalizationOutput.Entity entity;
+    private SearchResponse respOne;
+    private SearchResponse respTwo;
+    private SearchResponse respBucketTwo;
+    private SearchResponse filtersResp;
     private static final AtomicInteger portGenerator = new AtomicInteger();
     ClusterState testState;
     String clusterName = "test cluster";
@@ -139,12 +150,12 @@ public class AnomalyLocalizerImplTests {
 
         when(valueOne.value()).thenReturn(0.);
         when(valueOne.getName()).thenReturn(agg.getName());
-        SearchResponse respOne = mock(SearchResponse.class);
+        respOne = mock(SearchResponse.class);
         when(respOne.getAggregations()).thenReturn(new Aggregations(Arrays.asList(valueOne)));
         MultiSearchResponse.Item itemOne = new MultiSearchResponse.Item(respOne, null);
         when(valueTwo.value()).thenReturn(10.);
         when(valueTwo.getName()).thenReturn(agg.getName());
-        SearchResponse respTwo = mock(SearchResponse.class);
+        respTwo = mock(SearchResponse.class);
         when(respTwo.getAggregations()).thenReturn(new Aggregations(Arrays.asList(valueTwo)));
         MultiSearchResponse.Item itemTwo = new MultiSearchResponse.Item(respTwo, null);
         MultiSearchResponse multiSearchResponse = new MultiSearchResponse(new MultiSearchResponse.Item[] { itemOne, itemTwo }, 0);
@@ -185,7 +196,7 @@ public class AnomalyLocalizerImplTests {
         when(compositeTwo.getName()).thenReturn(agg.getName());
         doReturn(Arrays.asList(bucketTwoNew, bucketOneNew, bucketTwoNew)).when(compositeTwo).getBuckets();
         when(compositeTwo.afterKey()).thenReturn(bucketOneKey);
-        SearchResponse respBucketTwo = mock(SearchResponse.class);
+        respBucketTwo = mock(SearchResponse.class);
         when(respBucketTwo.getAggregations())
             .thenReturn(new Aggregations(Arrays.asList(compositeTwo)))
             .thenReturn(new Aggregations(Collections.emptyList()));
@@ -196,7 +207,7 @@ public class AnomalyLocalizerImplTests {
         Filters filters = mock(Filters.class);
         when(filters.getName()).thenReturn(agg.getName());
         doReturn(Arrays.asList(filterBucketOne)).when(filters).getBuckets();
-        SearchResponse filtersResp = mock(SearchResponse.class);
+        filtersResp = mock(SearchResponse.class);
         when(filtersResp.getAggregations()).thenReturn(new Aggregations(Arrays.asList(filters)));
 
         doAnswer(invocation -> {
@@ -435,6 +446,157 @@ public class AnomalyLocalizerImplTests {
         assertEquals(expectedOutput, actualOutput);
     }
 
+    @Test
+    public void testGetLocalizedResultsFused() {
+        input = new AnomalyLocalizationInput(
+            indexName,
+            Arrays.asList(attributeFieldNameOne),
+            Arrays.asList(agg),
+            timeFieldName,
+            startTime,
+            endTime,
+            minTimeInterval,
+            numOutput,
+            Optional.empty(),
+            Optional.empty(),
+            AnomalyLocalizationInput.Mode.FUSED
+        );
+        doAnswer(multiSearchAnswer(respOne, respTwo))
+            .doAnswer(multiSearchAnswer(respBucketTwo))
+            .doAnswer(multiSearchAnswer(respBucketTwo))
+            .doAnswer(multiSearchAnswer(filtersResp))
+            .when(client)
+            .multiSearch(any(), any());
+        when(clusterService.state()).thenReturn(testState);
+        when(indexNameExpressionResolver.concreteIndexNames(any(ClusterState.class), any(IndicesOptions.class), anyString()))
+            .thenReturn(IndicesOptions);
+        anomalyLocalizer.getLocalizationResults(input, outputListener);
+
+        ArgumentCaptor<AnomalyLocalizationOutput> outputCaptor = ArgumentCaptor.forClass(AnomalyLocalizationOutput.class);
+        verify(outputListener).onResponse(outputCaptor.capture());
+        assertEquals(expectedOutput, outputCaptor.getValue());
+        // only the base bucket is paged through with searches
+        verify(client, times(2)).search(any(), any());
+        verify(client, times(4)).multiSearch(any(), any());
+    }
+
+    @Test
+    public void testGetLocalizedResultsApproximate() {
+        AnomalyLocalizationOutput output = getLocalizedResultsApproximate(agg);
+
+        // neither top list is full, so every entity with a value is compared
+        expectedBucketTwo.setContributionErrorBound(0.);
+        assertEquals(expectedOutput, output);
+        verify(client, times(0)).search(any(), any());
+
+        ArgumentCaptor<MultiSearchRequest> requestCaptor = ArgumentCaptor.forClass(MultiSearchRequest.class);
+        verify(client, times(3)).multiSearch(requestCaptor.capture(), any());
+        MultiSearchRequest heavyHittersRequest = requestCaptor.getAllValues().get(1);
+        assertEquals(2, heavyHittersRequest.requests().size());
+        AggregationBuilder heavyHitters = heavyHittersRequest
+            .requests()
+            .get(0)
+            .source()
+            .aggregations()
+            .getAggregatorFactories()
+            .iterator()
+            .next();
+        assertTrue(heavyHitters instanceof TermsAggregationBuilder);
+        assertEquals(AnomalyLocalizerImpl.MIN_CONTRIBUTOR_CANDIDATE, ((TermsAggregationBuilder) heavyHitters).size());
+    }
+
+    @Test
+    public void testGetLocalizedResultsApproximate_NonAdditiveAggregation() {
+        AggregationBuilder max = AggregationBuilders.max(agg.getName()).field("field");
+
+        AnomalyLocalizationOutput output = getLocalizedResultsApproximate(max);
+
+        // the contribution to a max is not bounded by the values of the entities that are not compared
+        assertNull(output.getResults().get(agg.getName()).getBuckets().get(1).getContributionErrorBound());
+        assertEquals(expectedOutput, output);
+    }
+
+    private AnomalyLocalizationOutput getLocalizedResultsApproximate(AggregationBuilder aggregation) {
+        input = new AnomalyLocalizationInput(
+            indexName,
+            Arrays.asList(attributeFieldNameOne),
+            Arrays.asList(aggregation),
+            timeFieldName,
+            startTime,
+            endTime,
+            minTimeInterval,
+            numOutput,
+            Optional.empty(),
+            Optional.empty(),
+            AnomalyLocalizationInput.Mode.APPROXIMATE
+        );
+        SearchResponse baseHeavyHitters = mockTermsResponse(termsBucket("bucketOneKeyValue", valueOne));
+        SearchResponse newHeavyHitters = mockTermsResponse(
+            termsBucket("bucketOneKeyValue", valueTwo),
+            termsBucket("bucketTwoKeyValue", valueThree)
+        );
+        SearchResponse baseValues = mockFiltersResponse(valueOne);
+        SearchResponse newValues = mockFiltersResponse(valueTwo, valueThree);
+        doAnswer(multiSearchAnswer(respOne, respTwo))
+            .doAnswer(multiSearchAnswer(baseHeavyHitters, newHeavyHitters))
+            .doAnswer(multiSearchAnswer(baseValues, newValues))
+            .when(client)
+            .multiSearch(any(), any());
+        when(clusterService.state()).thenReturn(testState);
+        when(indexNameExpressionResolver.concreteIndexNames(any(ClusterState.class), any(IndicesOptions.class), anyString()))
+            .thenReturn(IndicesOptions);
+        anomalyLocalizer.getLocalizationResults(input, outputListener);
+
+        ArgumentCaptor<AnomalyLocalizationOutput> outputCaptor = ArgumentCaptor.forClass(AnomalyLocalizationOutput.class);
+        verify(outputListener).onResponse(outputCaptor.capture());
+        return outputCaptor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Answer<Void> multiSearchAnswer(SearchResponse... responses) {
+        return invocation -> {
+            ActionListener<MultiSearchResponse> listener = (ActionListener<MultiSearchResponse>) invocation.getArguments()[1];
+            MultiSearchResponse.Item[] items = Arrays
+                .stream(responses)
+                .map(r -> new MultiSearchResponse.Item(r, null))
+                .toArray(MultiSearchResponse.Item[]::new);
+            listener.onResponse(new MultiSearchResponse(items, 0));
+            return null;
+        };
+    }
+
+    private Terms.Bucket termsBucket(String key, SingleValue value) {
+        Terms.Bucket bucket = mock(Terms.Bucket.class);
+        when(bucket.getKeyAsString()).thenReturn(key);
+        when(bucket.getAggregations()).thenReturn(new Aggregations(Arrays.asList(value)));
+        return bucket;
+    }
+
+    private SearchResponse mockTermsResponse(Terms.Bucket... buckets) {
+        Terms terms = mock(Terms.class);
+        when(terms.getName()).thenReturn(agg.getName());
+        doReturn(Arrays.asList(buckets)).when(terms).getBuckets();
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getAggregations()).thenReturn(new Aggregations(Arrays.asList(terms)));
+        return response;
+    }
+
+    private SearchResponse mockFiltersResponse(SingleValue... values) {
+        List<Filters.Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            Filters.Bucket bucket = mock(Filters.Bucket.class);
+            when(bucket.getKeyAsString()).thenReturn(String.valueOf(i));
+            when(bucket.getAggregations()).thenReturn(new Aggregations(Arrays.asList(values[i])));
+            buckets.add(bucket);
+        }
+        Filters filters = mock(Filters.class);
+        when(filters.getName()).thenReturn(agg.getName());
+        doReturn(buckets).when(filters).getBuckets();
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getAggregations()).thenReturn(new Aggregations(Arrays.asList(filters)));
+        return response;
+    }
+
     @Test
     public void testExecuteSucceed() {
         when(clusterService.state()).thenReturn(testState);
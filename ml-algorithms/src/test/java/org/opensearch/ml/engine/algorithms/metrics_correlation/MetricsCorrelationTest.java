@@ -19,7 +19,6 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -38,9 +37,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.BooleanSupplier;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -62,6 +59,7 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.ConfigConstants;
@@ -205,53 +203,108 @@ public class MetricsCorrelationTest {
     }
 
     @Test
-    public void testWaitUntilSuccess() throws ExecuteException {
-        // Test waitUntil method - success case
-        AtomicInteger counter = new AtomicInteger(0);
-        BooleanSupplier supplier = () -> {
-            counter.incrementAndGet();
-            return counter.get() >= 3; // Return true after 3 calls
-        };
-
-        boolean result = MetricsCorrelation.waitUntil(supplier, 5, TimeUnit.SECONDS);
-        assertTrue("waitUntil should return true when condition is met", result);
-        assertTrue("Counter should be at least 3", counter.get() >= 3);
+    public void testDeployModelIfNeededSharesDeployment() {
+        ClusterState mockClusterState = mock(ClusterState.class);
+        Metadata mockMetadata = mock(Metadata.class);
+        when(clusterService.state()).thenReturn(mockClusterState);
+        when(mockClusterState.getMetadata()).thenReturn(mockMetadata);
+        when(mockMetadata.hasIndex(ML_MODEL_GROUP_INDEX)).thenReturn(true);
+        when(mockMetadata.hasIndex(ML_MODEL_INDEX)).thenReturn(true);
+
+        // hold the model doc lookup so the second request arrives while the deployment is in progress
+        List<ActionListener<GetResponse>> getListeners = new ArrayList<>();
+        doAnswer(inv -> {
+            getListeners.add(inv.getArgument(1));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+        MetricsCorrelation spyMetrics = spy(new MetricsCorrelation(client, settings, clusterService));
+        doAnswer(inv -> {
+            ActionListener<MLModel> l = inv.getArgument(1);
+            l.onResponse(model.toBuilder().modelId("id-1").modelState(MLModelState.DEPLOYED).build());
+            return null;
+        }).when(spyMetrics).getModel(eq("id-1"), any());
+
+        List<String> deployedModelIds = new ArrayList<>();
+        spyMetrics.deployModelIfNeeded(ActionListener.wrap(deployedModelIds::add, e -> fail(e.getMessage())));
+        spyMetrics.deployModelIfNeeded(ActionListener.wrap(deployedModelIds::add, e -> fail(e.getMessage())));
+        assertEquals(1, getListeners.size());
+        assertTrue(deployedModelIds.isEmpty());
+
+        GetResponse gr = mock(GetResponse.class);
+        when(gr.isExists()).thenReturn(true);
+        when(gr.getId()).thenReturn("id-1");
+        when(gr.getSourceAsMap()).thenReturn(Map.of(MODEL_STATE_FIELD, MLModelState.DEPLOYED.name()));
+        getListeners.get(0).onResponse(gr);
+
+        assertEquals(List.of("id-1", "id-1"), deployedModelIds);
+        verify(spyMetrics, times(0)).deployModel(anyString(), any());
+
+        // the model id is cached, later requests only check the model state
+        spyMetrics.deployModelIfNeeded(ActionListener.wrap(deployedModelIds::add, e -> fail(e.getMessage())));
+        assertEquals(3, deployedModelIds.size());
+        assertEquals(1, getListeners.size());
     }
 
     @Test
-    public void testWaitUntilTimeout() throws ExecuteException {
-        // Test waitUntil method - timeout case
-        BooleanSupplier supplier = () -> false; // Never returns true
+    public void testWaitForDeploymentPollsUntilDeployed() {
+        MetricsCorrelation spyMetrics = spy(new MetricsCorrelation(client, settings, clusterService));
+        AtomicInteger polls = new AtomicInteger();
+        doAnswer(inv -> {
+            ActionListener<MLModel> l = inv.getArgument(1);
+            MLModelState state = polls.incrementAndGet() < 3 ? MLModelState.DEPLOYING : MLModelState.DEPLOYED;
+            l.onResponse(model.toBuilder().modelState(state).build());
+            return null;
+        }).when(spyMetrics).getModel(eq(modelId), any());
+        doAnswer(inv -> {
+            Runnable poll = inv.getArgument(0);
+            poll.run();
+            return null;
+        }).when(threadPool).schedule(any(Runnable.class), any(TimeValue.class), eq(ThreadPool.Names.GENERIC));
 
-        boolean result = MetricsCorrelation.waitUntil(supplier, 100, TimeUnit.MILLISECONDS);
-        assertFalse("waitUntil should return false when timeout occurs", result);
+        List<String> deployedModelIds = new ArrayList<>();
+        spyMetrics
+            .waitForDeployment(modelId, System.currentTimeMillis() + 10000, 10, ActionListener.wrap(deployedModelIds::add, e -> fail()));
+
+        assertEquals(List.of(modelId), deployedModelIds);
+        assertEquals(3, polls.get());
+        verify(threadPool, times(2)).schedule(any(Runnable.class), any(TimeValue.class), eq(ThreadPool.Names.GENERIC));
+        verify(spyMetrics, times(0)).deployModel(anyString(), any());
     }
 
     @Test
-    public void testWaitUntilInterrupted() {
-        // Test waitUntil method - interrupted case
-        BooleanSupplier supplier = () -> {
-            Thread.currentThread().interrupt(); // Interrupt the thread
-            return false;
-        };
+    public void testWaitForDeploymentRedeploysAndTimesOut() {
+        MetricsCorrelation spyMetrics = spy(new MetricsCorrelation(client, settings, clusterService));
+        doAnswer(inv -> {
+            ActionListener<MLModel> l = inv.getArgument(1);
+            l.onResponse(model.toBuilder().modelState(MLModelState.DEPLOY_FAILED).build());
+            return null;
+        }).when(spyMetrics).getModel(eq(modelId), any());
+        doNothing().when(spyMetrics).deployModel(eq(modelId), any());
 
-        try {
-            MetricsCorrelation.waitUntil(supplier, 1, TimeUnit.SECONDS);
-            fail("Should throw ExecuteException when interrupted");
-        } catch (ExecuteException e) {
-            assertTrue("Should be caused by InterruptedException", e.getCause() instanceof InterruptedException);
-        }
+        List<Exception> failures = new ArrayList<>();
+        spyMetrics.waitForDeployment(modelId, System.currentTimeMillis(), 10, ActionListener.wrap(r -> fail(), failures::add));
+
+        verify(spyMetrics, times(1)).deployModel(eq(modelId), any());
+        verify(threadPool, times(0)).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof ExecuteException);
+        assertEquals("Model is not loaded yet. Please try again.", failures.get(0).getMessage());
     }
 
     @Test
     public void testGetTask() {
         // Test getTask method
         MLTaskGetResponse taskResponse = new MLTaskGetResponse(mlTask);
-        ActionFuture<MLTaskGetResponse> mockedFuture = mock(ActionFuture.class);
-        when(client.execute(any(MLTaskGetAction.class), any(MLTaskGetRequest.class))).thenReturn(mockedFuture);
-        when(mockedFuture.actionGet(anyLong())).thenReturn(taskResponse);
+        doAnswer(inv -> {
+            ActionListener<MLTaskGetResponse> l = inv.getArgument(2);
+            l.onResponse(taskResponse);
+            return null;
+        }).when(client).execute(any(MLTaskGetAction.class), any(MLTaskGetRequest.class), any());
 
-        MLTask result = metricsCorrelation.getTask("task_id");
+        List<MLTask> results = new ArrayList<>();
+        metricsCorrelation.getTask("task_id", ActionListener.wrap(results::add, e -> fail()));
+        assertEquals(1, results.size());
+        MLTask result = results.get(0);
         assertNotNull("Task should not be null", result);
         assertEquals("Task ID should match", "task_id", result.getTaskId());
     }
@@ -290,12 +343,17 @@ public class MetricsCorrelationTest {
     // working
     @Test
     public void testGetModel() {
-        ActionFuture<MLModelGetResponse> mockedFuture = mock(ActionFuture.class);
         MLModel smallModel = model.toBuilder().modelConfig(modelConfig).build();
         MLModelGetResponse response = new MLModelGetResponse(smallModel);
-        when(client.execute(any(MLModelGetAction.class), any(MLModelGetRequest.class))).thenReturn(mockedFuture);
-        when(mockedFuture.actionGet(anyLong())).thenReturn(response);
-        MLModel mlModel = metricsCorrelation.getModel(modelId);
+        doAnswer(inv -> {
+            ActionListener<MLModelGetResponse> l = inv.getArgument(2);
+            l.onResponse(response);
+            return null;
+        }).when(client).execute(any(MLModelGetAction.class), any(MLModelGetRequest.class), any());
+        List<MLModel> models = new ArrayList<>();
+        metricsCorrelation.getModel(modelId, ActionListener.wrap(models::add, e -> fail()));
+        assertEquals(1, models.size());
+        MLModel mlModel = models.get(0);
         model = MLModel
             .builder()
             .modelFormat(MLModelFormat.TORCH_SCRIPT)
@@ -731,17 +789,22 @@ public class MetricsCorrelationTest {
             return null;
         }).when(client).get(any(GetRequest.class), any());
 
-        // waitUntil(...) will ask getModel("id-999"); return DEPLOYED immediately
-        doReturn(
-            MLModel
-                .builder()
-                .modelId("id-999")
-                .name(FunctionName.METRICS_CORRELATION.name())
-                .algorithm(FunctionName.METRICS_CORRELATION)
-                .version(MCORR_ML_VERSION)
-                .modelState(MLModelState.DEPLOYED)
-                .build()
-        ).when(spyMetrics).getModel("id-999");
+        // the deployment check asks getModel("id-999"); return DEPLOYED immediately
+        doAnswer(inv -> {
+            ActionListener<MLModel> l = inv.getArgument(1);
+            l
+                .onResponse(
+                    MLModel
+                        .builder()
+                        .modelId("id-999")
+                        .name(FunctionName.METRICS_CORRELATION.name())
+                        .algorithm(FunctionName.METRICS_CORRELATION)
+                        .version(MCORR_ML_VERSION)
+                        .modelState(MLModelState.DEPLOYED)
+                        .build()
+                );
+            return null;
+        }).when(spyMetrics).getModel(eq("id-999"), any());
 
         // IMPORTANT: time series length (3) > number of metrics (1)
         MetricsCorrelationInput in = MetricsCorrelationInput.builder().inputData(List.of(new float[] { 1f, 2f, 3f })).build();
@@ -790,24 +853,26 @@ public class MetricsCorrelationTest {
             String mid = inv.getArgument(0);
             @SuppressWarnings("unchecked")
             ActionListener<MLDeployModelResponse> l = inv.getArgument(1);
-            // execute(...) sets modelId from task after deploy.
-            // Stub getTask(taskId) -> MLTask with modelId "abc"
-            doReturn(MLTask.builder().modelId("abc").taskId("t1").build()).when(spyMetrics).getTask(anyString());
             l.onResponse(mock(MLDeployModelResponse.class));
             return null;
         }).when(spyMetrics).deployModel(eq("abc"), any());
 
-        // After deploy, waitUntil(...) will poll getModel("abc"); return DEPLOYED immediately
-        doReturn(
-            MLModel
-                .builder()
-                .modelId("abc")
-                .name(FunctionName.METRICS_CORRELATION.name())
-                .algorithm(FunctionName.METRICS_CORRELATION)
-                .version(MCORR_ML_VERSION)
-                .modelState(MLModelState.DEPLOYED)
-                .build()
-        ).when(spyMetrics).getModel("abc");
+        // After deploy, the deployment check polls getModel("abc"); return DEPLOYED immediately
+        doAnswer(inv -> {
+            ActionListener<MLModel> l = inv.getArgument(1);
+            l
+                .onResponse(
+                    MLModel
+                        .builder()
+                        .modelId("abc")
+                        .name(FunctionName.METRICS_CORRELATION.name())
+                        .algorithm(FunctionName.METRICS_CORRELATION)
+                        .version(MCORR_ML_VERSION)
+                        .modelState(MLModelState.DEPLOYED)
+                        .build()
+                );
+            return null;
+        }).when(spyMetrics).getModel(eq("abc"), any());
 
         // Minimal input; we don't need a real predictor
         MetricsCorrelationInput in = MetricsCorrelationInput.builder().inputData(List.of(new float[] { 1f, 2f })).build();
@@ -846,29 +911,40 @@ public class MetricsCorrelationTest {
             return null;
         }).when(client).get(any(GetRequest.class), any());
 
-        // registerModel(...) should be invoked; make it set modelId and return immediately
+        // the register listener polls the register task for the model id
+        doAnswer(inv -> {
+            ActionListener<MLTask> l = inv.getArgument(1);
+            l.onResponse(MLTask.builder().taskId("t2").modelId("after-register").build());
+            return null;
+        }).when(spyMetrics).getTask(eq("t2"), any());
+
+        // registerModel(...) should be invoked; make it return the register task immediately
         doAnswer(inv -> {
             @SuppressWarnings("unchecked")
             ActionListener<MLRegisterModelResponse> l = inv.getArgument(0);
 
-            setFieldDeep(spyMetrics, "modelId", "after-register");
-            // getTask(...) will be called inside the register listener in your code path; stub it
-            doReturn(MLTask.builder().taskId("t2").modelId("after-register").build()).when(spyMetrics).getTask(anyString());
-            l.onResponse(mock(MLRegisterModelResponse.class));
+            MLRegisterModelResponse registerResponse = mock(MLRegisterModelResponse.class);
+            when(registerResponse.getTaskId()).thenReturn("t2");
+            l.onResponse(registerResponse);
             return null;
         }).when(spyMetrics).registerModel(any());
 
-        // Now waitUntil(...) will poll getModel("after-register") → return DEPLOYED immediately
-        doReturn(
-            MLModel
-                .builder()
-                .modelId("after-register")
-                .name(FunctionName.METRICS_CORRELATION.name())
-                .algorithm(FunctionName.METRICS_CORRELATION)
-                .version(MCORR_ML_VERSION)
-                .modelState(MLModelState.DEPLOYED)
-                .build()
-        ).when(spyMetrics).getModel("after-register");
+        // Now the deployment check polls getModel("after-register") → return DEPLOYED immediately
+        doAnswer(inv -> {
+            ActionListener<MLModel> l = inv.getArgument(1);
+            l
+                .onResponse(
+                    MLModel
+                        .builder()
+                        .modelId("after-register")
+                        .name(FunctionName.METRICS_CORRELATION.name())
+                        .algorithm(FunctionName.METRICS_CORRELATION)
+                        .version(MCORR_ML_VERSION)
+                        .modelState(MLModelState.DEPLOYED)
+                        .build()
+                );
+            return null;
+        }).when(spyMetrics).getModel(eq("after-register"), any());
 
         MetricsCorrelationInput in = MetricsCorrelationInput.builder().inputData(List.of(new float[] { 3f, 4f })).build();
 
@@ -882,22 +958,4 @@ public class MetricsCorrelationTest {
         verify(spyMetrics, times(1)).registerModel(any());
     }
 
-    // Walks the class hierarchy to set a private field (e.g., modelId defined in a superclass).
-    private static void setFieldDeep(Object target, String fieldName, Object value) throws Exception {
-        Class<?> c = target.getClass();
-        NoSuchFieldException last = null;
-        while (c != null) {
-            try {
-                java.lang.reflect.Field f = c.getDeclaredField(fieldName);
-                f.setAccessible(true);
-                f.set(target, value);
-                return;
-            } catch (NoSuchFieldException e) {
-                last = e;
-                c = c.getSuperclass();
-            }
-        }
-        throw last != null ? last : new NoSuchFieldException(fieldName);
-    }
-
 }
@@ -7,16 +7,27 @@ package org.opensearch.ml.engine.algorithms.question_answering;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.*;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -24,9 +35,12 @@ import org.opensearch.ml.engine.algorithms.question_answering.sentence.DefaultSe
 import org.opensearch.ml.engine.algorithms.question_answering.sentence.Sentence;
 import org.opensearch.ml.engine.algorithms.question_answering.sentence.SentenceSegmenter;
 
+import ai.djl.Model;
+import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.translate.TranslatorContext;
 import lombok.extern.log4j.Log4j2;
@@ -247,4 +261,178 @@ public class SentenceHighlightingQATranslatorTest {
         assertNotNull(translator.getSegmenter());
         assertEquals(DefaultSentenceSegmenter.class, translator.getSegmenter().getClass());
     }
+
+    @Test
+    public void testBatchProcessInput_PadsChunks() throws Exception {
+        SentenceHighlightingQATranslator translator = prepareTranslator();
+        String question = "What are the impacts of climate change?";
+        String context = String.join(" ", sentences.stream().map(Sentence::getText).toList());
+        int chunkCount = translator.getChunkCount(question, context);
+        assertTrue(chunkCount > 1);
+
+        NDManager manager = mock(NDManager.class);
+        when(translatorContext.getNDManager()).thenReturn(manager);
+        ArgumentCaptor<long[][]> longCaptor = ArgumentCaptor.forClass(long[][].class);
+        ArgumentCaptor<int[][]> intCaptor = ArgumentCaptor.forClass(int[][].class);
+        when(manager.create(longCaptor.capture())).thenReturn(mock(NDArray.class));
+        when(manager.create(intCaptor.capture())).thenReturn(mock(NDArray.class));
+
+        List<Input> inputs = new ArrayList<>();
+        for (int i = 0; i < chunkCount; i++) {
+            inputs.add(chunkInput(question, context, i));
+        }
+        NDList ndList = translator.batchProcessInput(translatorContext, inputs);
+
+        assertEquals(4, ndList.size());
+        long[][] inputIds = longCaptor.getAllValues().get(0);
+        long[][] attentionMask = longCaptor.getAllValues().get(1);
+        int[][] sentenceIds = intCaptor.getValue();
+        assertEquals(chunkCount, inputIds.length);
+        assertEquals(chunkCount, sentenceIds.length);
+        for (int i = 0; i < chunkCount; i++) {
+            assertEquals(inputIds[0].length, inputIds[i].length);
+            assertEquals(inputIds[0].length, sentenceIds[i].length);
+            for (int j = 0; j < attentionMask[i].length; j++) {
+                if (attentionMask[i][j] == 0) {
+                    assertEquals(IGNORE_TOKEN_ID, sentenceIds[i][j]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBatchProcessInput_DifferentContexts() throws Exception {
+        SentenceHighlightingQATranslator translator = prepareTranslator();
+        when(translatorContext.getNDManager()).thenReturn(mock(NDManager.class));
+        List<Input> inputs = List.of(chunkInput("question", "first context.", 0), chunkInput("question", "second context.", 0));
+
+        assertThrows(IllegalArgumentException.class, () -> translator.batchProcessInput(translatorContext, inputs));
+    }
+
+    @Test
+    public void testBatchProcessOutput_SingleOutput() {
+        when(translatorContext.getAttachment(KEY_SENTENCES)).thenReturn(sentences);
+        NDArray firstChunk = mock(NDArray.class);
+        when(firstChunk.toLongArray()).thenReturn(new long[] { 0 });
+        NDArray secondChunk = mock(NDArray.class);
+        when(secondChunk.toLongArray()).thenReturn(new long[] { 3 });
+
+        List<Output> outputs = translator.batchProcessOutput(translatorContext, new NDList(firstChunk, secondChunk));
+
+        assertEquals(1, outputs.size());
+        ModelTensor highlightsTensor = ModelTensors.fromBytes(outputs.get(0).getData().getAsBytes()).getMlModelTensors().get(0);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> highlights = (List<Map<String, Object>>) highlightsTensor.getDataAsMap().get(FIELD_HIGHLIGHTS);
+        assertEquals(2, highlights.size());
+    }
+
+    @Test
+    public void testBatchedChunksMatchUnbatchedHighlights() throws Exception {
+        SentenceHighlightingQATranslator unbatched = prepareTranslator();
+        SentenceHighlightingQATranslator batched = prepareTranslator(
+            "{\"token_max_length\":32,\"token_overlap_stride\":8,\"chunk_batch_size\":3}"
+        );
+        assertEquals(1, unbatched.getChunkBatchSize());
+        assertEquals(3, batched.getChunkBatchSize());
+
+        String question = "What are the impacts of climate change?";
+        String context = "Many coastal cities face increased flooding during storms. "
+            + "Rising sea levels threaten coastal infrastructure and communities. "
+            + "Farmers are experiencing unpredictable growing seasons and crop failures. "
+            + "Droughts are becoming more frequent and severe in many regions. "
+            + "Scientists predict these environmental shifts will continue to accelerate. "
+            + "Global temperatures have risen significantly over the past century. "
+            + "Polar ice caps are melting at an alarming rate. "
+            + "Extreme weather events are becoming more frequent and intense.";
+        int chunkCount = batched.getChunkCount(question, context);
+        assertEquals(unbatched.getChunkCount(question, context), chunkCount);
+        // at least one full batch and a partial one, so padding is exercised
+        assertTrue(chunkCount > 3);
+
+        Map<String, Object> attachments = new HashMap<>();
+        doAnswer(invocation -> attachments.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(translatorContext)
+            .setAttachment(anyString(), any());
+        when(translatorContext.getAttachment(anyString())).thenAnswer(invocation -> attachments.get(invocation.getArgument(0)));
+        NDManager manager = mock(NDManager.class);
+        when(translatorContext.getNDManager()).thenReturn(manager);
+        List<int[]> chunkSentenceIds = new ArrayList<>();
+        when(manager.create(any(long[].class))).thenReturn(mock(NDArray.class));
+        when(manager.create(any(int[].class))).thenAnswer(invocation -> {
+            chunkSentenceIds.add(invocation.getArgument(0));
+            return mock(NDArray.class);
+        });
+        when(manager.create(any(long[][].class))).thenReturn(mock(NDArray.class));
+        when(manager.create(any(int[][].class))).thenAnswer(invocation -> {
+            chunkSentenceIds.addAll(Arrays.asList((int[][]) invocation.getArgument(0)));
+            return mock(NDArray.class);
+        });
+
+        Map<Integer, Map<String, Object>> expected = new TreeMap<>();
+        for (int i = 0; i < chunkCount; i++) {
+            chunkSentenceIds.clear();
+            unbatched.processInput(translatorContext, chunkInput(question, context, i));
+            addHighlights(expected, unbatched.processOutput(translatorContext, highlightEvenSentences(chunkSentenceIds)));
+        }
+
+        Map<Integer, Map<String, Object>> actual = new TreeMap<>();
+        for (int start = 0; start < chunkCount; start += batched.getChunkBatchSize()) {
+            List<Input> inputs = new ArrayList<>();
+            for (int i = start; i < Math.min(start + batched.getChunkBatchSize(), chunkCount); i++) {
+                inputs.add(chunkInput(question, context, i));
+            }
+            chunkSentenceIds.clear();
+            batched.batchProcessInput(translatorContext, inputs);
+            assertEquals(inputs.size(), chunkSentenceIds.size());
+            List<Output> outputs = batched.batchProcessOutput(translatorContext, highlightEvenSentences(chunkSentenceIds));
+            assertEquals(1, outputs.size());
+            addHighlights(actual, outputs.get(0));
+        }
+
+        assertTrue(expected.size() > 1);
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(actual.values()));
+    }
+
+    // Stands in for the model: every chunk highlights the even sentences it covers
+    private NDList highlightEvenSentences(List<int[]> chunkSentenceIds) {
+        NDList list = new NDList();
+        for (int[] sentenceIds : chunkSentenceIds) {
+            long[] highlighted = Arrays.stream(sentenceIds).filter(id -> id >= 0 && id % 2 == 0).distinct().asLongStream().toArray();
+            NDArray chunkOutput = mock(NDArray.class);
+            when(chunkOutput.toLongArray()).thenReturn(highlighted);
+            list.add(chunkOutput);
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addHighlights(Map<Integer, Map<String, Object>> highlightsByPosition, Output output) {
+        ModelTensor tensor = ModelTensors.fromBytes(output.getData().getAsBytes()).getMlModelTensors().get(0);
+        for (Map<String, Object> highlight : (List<Map<String, Object>>) tensor.getDataAsMap().get(FIELD_HIGHLIGHTS)) {
+            highlightsByPosition.putIfAbsent(((Number) highlight.get(FIELD_POSITION)).intValue(), highlight);
+        }
+    }
+
+    private SentenceHighlightingQATranslator prepareTranslator() throws Exception {
+        return prepareTranslator("{\"token_max_length\":32,\"token_overlap_stride\":8}");
+    }
+
+    private SentenceHighlightingQATranslator prepareTranslator(String allConfig) throws Exception {
+        MLModelConfig modelConfig = mock(MLModelConfig.class);
+        when(modelConfig.getAllConfig()).thenReturn(allConfig);
+        SentenceHighlightingQATranslator translator = SentenceHighlightingQATranslator.create(modelConfig);
+        Model model = mock(Model.class);
+        when(translatorContext.getModel()).thenReturn(model);
+        when(model.getModelPath()).thenReturn(Paths.get(getClass().getResource("../tokenize/tokenizer.json").toURI()).getParent());
+        translator.prepare(translatorContext);
+        return translator;
+    }
+
+    private Input chunkInput(String question, String context, int chunkNumber) {
+        Input input = new Input();
+        input.add(MLInput.QUESTION_FIELD, question);
+        input.add(MLInput.CONTEXT_FIELD, context);
+        input.add(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY, String.valueOf(chunkNumber));
+        return input;
+    }
 }
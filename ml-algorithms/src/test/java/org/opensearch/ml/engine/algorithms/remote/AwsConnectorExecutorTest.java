@@ -1196,7 +1196,16 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
             mockedFactory
                 .when(
                     () -> MLHttpClientFactory
-                        .getAsyncHttpClient(any(Duration.class), any(Duration.class), anyInt(), anyBoolean(), any(), any(), anyBoolean())
+                        .getAsyncHttpClient(
+                            any(Duration.class),
+                            any(Duration.class),
+                            anyInt(),
+                            anyBoolean(),
+                            any(),
+                            any(),
+                            anyBoolean(),
+                            any()
+                        )
                 )
                 .thenReturn(mockClient);
 
@@ -1220,7 +1229,8 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
                             anyBoolean(),
                             any(),
                             any(),
-                            sslVerificationCaptor.capture()
+                            sslVerificationCaptor.capture(),
+                            any()
                         )
                 );
             // Assert that skipSslVerification was set to true
@@ -1251,7 +1261,16 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
             mockedFactory
                 .when(
                     () -> MLHttpClientFactory
-                        .getAsyncHttpClient(any(Duration.class), any(Duration.class), anyInt(), anyBoolean(), any(), any(), anyBoolean())
+                        .getAsyncHttpClient(
+                            any(Duration.class),
+                            any(Duration.class),
+                            anyInt(),
+                            anyBoolean(),
+                            any(),
+                            any(),
+                            anyBoolean(),
+                            any()
+                        )
                 )
                 .thenReturn(mockClient);
 
@@ -1275,7 +1294,8 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
                             anyBoolean(),
                             any(),
                             any(),
-                            sslVerificationCaptor.capture()
+                            sslVerificationCaptor.capture(),
+                            any()
                         )
                 );
             // Assert that skipSslVerification was set to false
@@ -1305,7 +1325,16 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
             mockedFactory
                 .when(
                     () -> MLHttpClientFactory
-                        .getAsyncHttpClient(any(Duration.class), any(Duration.class), anyInt(), anyBoolean(), any(), any(), anyBoolean())
+                        .getAsyncHttpClient(
+                            any(Duration.class),
+                            any(Duration.class),
+                            anyInt(),
+                            anyBoolean(),
+                            any(),
+                            any(),
+                            anyBoolean(),
+                            any()
+                        )
                 )
                 .thenReturn(mockClient);
 
@@ -1329,7 +1358,8 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
                             anyBoolean(),
                             any(),
                             any(),
-                            sslVerificationCaptor.capture()
+                            sslVerificationCaptor.capture(),
+                            any()
                         )
                 );
             // Assert that skipSslVerification defaults to false when null
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opensearch.ml.common.connector.HttpConnector;
+
+public class ConnectorMetricsKeyTest {
+
+    @After
+    public void tearDown() {
+        ConnectorMetricsKey.clear();
+    }
+
+    @Test
+    public void testOf() {
+        HttpConnector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").build();
+        HttpConnector internalConnector = HttpConnector.builder().name("test connector").version("1").protocol("http").build();
+        HttpConnector tenantConnector = HttpConnector.builder().name("test connector").protocol("http").tenantId("tenant").build();
+
+        assertEquals("test connector", ConnectorMetricsKey.of(connector));
+        assertEquals("tenant:test connector", ConnectorMetricsKey.of(tenantConnector));
+        assertNull(ConnectorMetricsKey.of(HttpConnector.builder().protocol("http").build()));
+        assertNull(ConnectorMetricsKey.of(null));
+
+        ConnectorMetricsKey.register(connector, "connector_id", "model_id");
+        ConnectorMetricsKey.register(internalConnector, null, "model_id");
+        // equal connectors are registered apart
+        assertEquals("connector_id", ConnectorMetricsKey.of(connector));
+        assertEquals("model_id", ConnectorMetricsKey.of(internalConnector));
+    }
+}
@@ -339,6 +339,7 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
                             any(),
                             anyBoolean(),
                             any(),
+                            any(),
                             any()
                         )
                 )
@@ -372,6 +373,7 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
                             any(),
                             sslVerificationCaptor.capture(),
                             any(),
+                            any(),
                             any()
                         )
                 );
@@ -423,6 +425,7 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
                             any(),
                             anyBoolean(),
                             any(),
+                            any(),
                             any()
                         )
                 )
@@ -456,6 +459,7 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
                             any(),
                             sslVerificationCaptor.capture(),
                             any(),
+                            any(),
                             any()
                         )
                 );
@@ -507,6 +511,7 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
                             any(),
                             anyBoolean(),
                             any(),
+                            any(),
                             any()
                         )
                 )
@@ -540,6 +545,7 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
                             any(),
                             sslVerificationCaptor.capture(),
                             any(),
+                            any(),
                             any()
                         )
                 );
@@ -113,6 +113,19 @@ public class MLHttpClientCacheManagerTests {
         verify(firstClient, never()).close();
     }
 
+    @Test
+    public void testGetOrCreateHttpClient_PoolConfigChanged_CreatesNewClient() {
+        java.util.function.Supplier<SdkAsyncHttpClient> factory = alternatingFactory();
+        ConnectorClientConfig config = configWithReadTimeout(30);
+
+        SdkAsyncHttpClient first = cacheManager.getOrCreateHttpClient(connector, config, client, factory);
+        SdkAsyncHttpClient second = cacheManager
+            .getOrCreateHttpClient(connector, config.toBuilder().connectionTtl(60).http2Enabled(true).build(), client, factory);
+
+        assertNotSame("A changed pool configuration must produce a new client", first, second);
+        assertSame(secondClient, second);
+    }
+
     @Test
     public void testGetOrCreateHttpClient_ScheduleRejected_ClosesOldClientImmediately() {
         // A shutting-down node rejects new tasks. The old client must still be released rather than
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.connector.HttpConnector;
+
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class MLHttpClientMetricsTest {
+
+    private HttpConnector connector;
+
+    @Before
+    public void setUp() {
+        MLHttpClientMetrics.clear();
+        ConnectorMetricsKey.clear();
+        connector = HttpConnector.builder().name("test connector").version("1").protocol("http").build();
+    }
+
+    @After
+    public void tearDown() {
+        MLHttpClientMetrics.clear();
+        ConnectorMetricsKey.clear();
+    }
+
+    @Test
+    public void testRecordOnCompletion() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        MetricCollector collector = MLHttpClientMetrics.newCollector();
+        MLHttpClientMetrics.recordOnCompletion(connector, collector, future);
+        reportPoolMetrics(collector, 8, Duration.ofMillis(20));
+        assertTrue(MLHttpClientMetrics.getAll().isEmpty());
+
+        future.complete(null);
+
+        Map<String, Object> metrics = metrics();
+        assertEquals(1L, metrics.get(MLHttpClientMetrics.REQUEST_COUNT));
+        assertEquals(30, metrics.get(MLHttpClientMetrics.MAX_CONNECTIONS));
+        assertEquals(8, metrics.get(MLHttpClientMetrics.LEASED_CONNECTIONS));
+        assertEquals(22, metrics.get(MLHttpClientMetrics.AVAILABLE_CONNECTIONS));
+        assertEquals(0, metrics.get(MLHttpClientMetrics.PENDING_ACQUIRES));
+        assertEquals(20L, metrics.get(MLHttpClientMetrics.AVG_ACQUIRE_TIME_MILLIS));
+    }
+
+    @Test
+    public void testRecordAggregatesAcquireTimes() {
+        MetricCollector first = MLHttpClientMetrics.newCollector();
+        reportPoolMetrics(first, 1, Duration.ofMillis(10));
+        MLHttpClientMetrics.record(connector, first.collect());
+        MetricCollector second = MLHttpClientMetrics.newCollector();
+        reportPoolMetrics(second, 2, Duration.ofMillis(30));
+        MLHttpClientMetrics.record(connector, second.collect());
+
+        Map<String, Object> metrics = metrics();
+        assertEquals(2L, metrics.get(MLHttpClientMetrics.REQUEST_COUNT));
+        assertEquals(2, metrics.get(MLHttpClientMetrics.LEASED_CONNECTIONS));
+        assertEquals(20L, metrics.get(MLHttpClientMetrics.AVG_ACQUIRE_TIME_MILLIS));
+        assertEquals(30L, metrics.get(MLHttpClientMetrics.MAX_ACQUIRE_TIME_MILLIS));
+    }
+
+    @Test
+    public void testRecordWithoutPoolMetrics() {
+        MLHttpClientMetrics.record(connector, MLHttpClientMetrics.newCollector().collect());
+        MLHttpClientMetrics.record(null, MLHttpClientMetrics.newCollector().collect());
+
+        Map<String, Object> metrics = metrics();
+        assertEquals(1L, metrics.get(MLHttpClientMetrics.REQUEST_COUNT));
+        assertEquals(0L, metrics.get(MLHttpClientMetrics.AVG_ACQUIRE_TIME_MILLIS));
+    }
+
+    @Test
+    public void testRecordByConnectorId() {
+        HttpConnector sameName = HttpConnector.builder().name("test connector").version("1").protocol("http").build();
+        ConnectorMetricsKey.register(connector, "connector_id", "model_id");
+        ConnectorMetricsKey.register(sameName, null, "model_id");
+
+        MLHttpClientMetrics.record(connector, MLHttpClientMetrics.newCollector().collect());
+        MLHttpClientMetrics.record(sameName, MLHttpClientMetrics.newCollector().collect());
+
+        // connectors with the same name are recorded apart
+        assertEquals(Set.of("connector_id", "model_id"), MLHttpClientMetrics.getAll().keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> metrics() {
+        Map<String, Object> all = MLHttpClientMetrics.getAll();
+        assertEquals(1, all.size());
+        return (Map<String, Object>) all.get("test connector");
+    }
+
+    private void reportPoolMetrics(MetricCollector collector, int leased, Duration acquireTime) {
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 30);
+        collector.reportMetric(HttpMetric.LEASED_CONCURRENCY, leased);
+        collector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 30 - leased);
+        collector.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, 0);
+        collector.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, acquireTime);
+    }
+}
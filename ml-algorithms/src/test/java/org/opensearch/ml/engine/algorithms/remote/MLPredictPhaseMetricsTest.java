@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.engine.algorithms.remote.MLPredictPhaseMetrics.Phase;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.Tracer;
+
+public class MLPredictPhaseMetricsTest {
+
+    private HttpConnector connector;
+
+    @Before
+    public void setUp() {
+        MLPredictPhaseMetrics.clear();
+        connector = HttpConnector.builder().name("test connector").version("1").protocol("http").build();
+    }
+
+    @After
+    public void tearDown() {
+        MLPredictPhaseMetrics.clear();
+        ConnectorMetricsKey.clear();
+    }
+
+    @Test
+    public void testDisabled() {
+        assertSame(MLPredictPhaseMetrics.Timer.NOOP, MLPredictPhaseMetrics.startModelPhase("model", Phase.DISPATCH));
+        assertSame(MLPredictPhaseMetrics.Timer.NOOP, MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.PAYLOAD));
+        MLPredictPhaseMetrics.recordConnectorPhase(connector, Phase.HTTP_CONNECT, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertTrue(models().isEmpty());
+        assertTrue(connectors().isEmpty());
+    }
+
+    @Test
+    public void testModelPhase() {
+        MLPredictPhaseMetrics.setHistogramsEnabled(true);
+
+        MLPredictPhaseMetrics.Timer timer = MLPredictPhaseMetrics.startModelPhase("model", Phase.DISPATCH);
+        timer.stop();
+        timer.stop();
+
+        Map<String, Object> phase = phase(models(), "model", Phase.DISPATCH);
+        assertEquals(1L, phase.get(LatencyHistogram.COUNT));
+        assertEquals(1, ((Map<String, Object>) models().get("model")).size());
+        assertTrue(connectors().isEmpty());
+    }
+
+    @Test
+    public void testStopFromConcurrentThreads() throws InterruptedException {
+        Tracer tracer = mock(Tracer.class);
+        Span span = mock(Span.class);
+        when(tracer.startSpan(any(SpanCreationContext.class))).thenReturn(span);
+        MLPredictPhaseMetrics.setTracer(tracer);
+        MLPredictPhaseMetrics.setTracingEnabled(true);
+        MLPredictPhaseMetrics.setHistogramsEnabled(true);
+
+        for (int i = 0; i < 100; i++) {
+            MLPredictPhaseMetrics.Timer timer = MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.HTTP_BODY);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int j = 0; j < 2; j++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    timer.stop();
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        assertEquals(100L, phase(connectors(), "test connector", Phase.HTTP_BODY).get(LatencyHistogram.COUNT));
+        verify(span, times(100)).endSpan();
+    }
+
+    @Test
+    public void testConnectorPhaseHistogram() {
+        MLPredictPhaseMetrics.setHistogramsEnabled(true);
+        for (int i = 0; i < 90; i++) {
+            MLPredictPhaseMetrics.recordConnectorPhase(connector, Phase.HTTP_FIRST_BYTE, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        for (int i = 0; i < 10; i++) {
+            MLPredictPhaseMetrics.recordConnectorPhase(connector, Phase.HTTP_FIRST_BYTE, TimeUnit.MILLISECONDS.toNanos(200));
+        }
+
+        Map<String, Object> phase = phase(connectors(), "test connector", Phase.HTTP_FIRST_BYTE);
+        assertEquals(100L, phase.get(LatencyHistogram.COUNT));
+        assertEquals(20.9, phase.get(LatencyHistogram.AVG_MILLIS));
+        assertEquals(200.0, phase.get(LatencyHistogram.MAX_MILLIS));
+        assertEquals(1.0, phase.get(LatencyHistogram.P50_MILLIS));
+        assertEquals(1.0, phase.get(LatencyHistogram.P90_MILLIS));
+        assertEquals(200.0, phase.get(LatencyHistogram.P99_MILLIS));
+        assertEquals(Map.of("1.0", 90L, "250.0", 10L), phase.get(LatencyHistogram.HISTOGRAM));
+    }
+
+    @Test
+    public void testConnectorKeyWithTenant() {
+        MLPredictPhaseMetrics.setHistogramsEnabled(true);
+        connector.setTenantId("tenant");
+
+        MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.POST_PROCESS).stop();
+
+        assertTrue(connectors().containsKey("tenant:test connector"));
+    }
+
+    @Test
+    public void testConnectorKeyById() {
+        MLPredictPhaseMetrics.setHistogramsEnabled(true);
+        HttpConnector internalConnector = HttpConnector.builder().protocol("http").build();
+        ConnectorMetricsKey.register(connector, "connector_id", null);
+        ConnectorMetricsKey.register(internalConnector, null, "model_id");
+
+        MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.POST_PROCESS).stop();
+        MLPredictPhaseMetrics.recordConnectorPhase(internalConnector, Phase.HTTP_CONNECT, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(Set.of("connector_id", "model_id"), connectors().keySet());
+    }
+
+    @Test
+    public void testTracing() {
+        Tracer tracer = mock(Tracer.class);
+        Span span = mock(Span.class);
+        when(tracer.startSpan(any(SpanCreationContext.class))).thenReturn(span);
+        MLPredictPhaseMetrics.setTracer(tracer);
+        MLPredictPhaseMetrics.setTracingEnabled(true);
+
+        MLPredictPhaseMetrics.Timer timer = MLPredictPhaseMetrics.startConnectorPhase(connector, Phase.INPUT_GUARDRAIL);
+        timer.stop();
+        timer.stop();
+
+        verify(tracer).startSpan(any(SpanCreationContext.class));
+        verify(span, times(1)).endSpan();
+        // histograms are disabled
+        assertTrue(connectors().isEmpty());
+    }
+
+    private static Map<String, Object> models() {
+        return (Map<String, Object>) MLPredictPhaseMetrics.getAll().get(MLPredictPhaseMetrics.MODELS);
+    }
+
+    private static Map<String, Object> connectors() {
+        return (Map<String, Object>) MLPredictPhaseMetrics.getAll().get(MLPredictPhaseMetrics.CONNECTORS);
+    }
+
+    private static Map<String, Object> phase(Map<String, Object> metrics, String key, Phase phase) {
+        return (Map<String, Object>) ((Map<String, Object>) metrics.get(key)).get(phase.getName());
+    }
+}
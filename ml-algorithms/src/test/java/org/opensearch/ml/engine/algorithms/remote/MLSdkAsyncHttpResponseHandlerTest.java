@@ -6,7 +6,10 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,6 +21,7 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Before;
@@ -35,12 +39,17 @@ import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.script.ScriptService;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.Tracer;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 
 import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 
 public class MLSdkAsyncHttpResponseHandlerTest {
     private final ExecutionContext executionContext = new ExecutionContext(0);
@@ -119,6 +128,33 @@ public class MLSdkAsyncHttpResponseHandlerTest {
         assert mlSdkAsyncHttpResponseHandler.getStatusCode() == 200;
     }
 
+    @Test
+    public void test_Execute_endsFirstByteSpanOnFailure() {
+        Tracer tracer = mock(Tracer.class);
+        Span span = mock(Span.class);
+        when(tracer.startSpan(any(SpanCreationContext.class))).thenReturn(span);
+        MLPredictPhaseMetrics.setTracer(tracer);
+        MLPredictPhaseMetrics.setTracingEnabled(true);
+        SdkAsyncHttpClient httpClient = mock(SdkAsyncHttpClient.class);
+        AsyncExecuteRequest request = mock(AsyncExecuteRequest.class);
+        try {
+            // the request fails before it is sent, without calling the handler
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            when(httpClient.execute(request)).thenReturn(future);
+            mlSdkAsyncHttpResponseHandler.execute(httpClient, request);
+            verify(span, never()).endSpan();
+            future.completeExceptionally(new IllegalStateException("connection refused"));
+            verify(span, times(1)).endSpan();
+
+            // the HTTP client fails to take the request
+            when(httpClient.execute(request)).thenThrow(new IllegalStateException("client closed"));
+            assertThrows(IllegalStateException.class, () -> mlSdkAsyncHttpResponseHandler.execute(httpClient, request));
+            verify(span, times(2)).endSpan();
+        } finally {
+            MLPredictPhaseMetrics.clear();
+        }
+    }
+
     @Test
     public void test_OnHeaders_withError() {
         when(sdkHttpResponse.statusCode()).thenReturn(HttpStatusCode.BAD_REQUEST);
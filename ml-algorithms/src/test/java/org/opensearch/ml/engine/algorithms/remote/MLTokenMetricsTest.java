@@ -0,0 +1,197 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.agent.TokenUsage;
+import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+public class MLTokenMetricsTest {
+
+    private HttpConnector connector;
+
+    @Before
+    public void setUp() {
+        MLTokenMetrics.clear();
+        ConnectorMetricsKey.clear();
+        connector = HttpConnector.builder().name("test connector").version("1").protocol("http").build();
+    }
+
+    @After
+    public void tearDown() {
+        MLTokenMetrics.clear();
+        ConnectorMetricsKey.clear();
+    }
+
+    @Test
+    public void testExtractUsage_OpenAI() {
+        Map<String, Object> response = Map
+            .of(
+                "usage",
+                Map
+                    .of(
+                        "prompt_tokens",
+                        100,
+                        "completion_tokens",
+                        20,
+                        "prompt_tokens_details",
+                        Map.of("cached_tokens", 60),
+                        "completion_tokens_details",
+                        Map.of("reasoning_tokens", 5)
+                    )
+            );
+
+        TokenUsage usage = MLTokenMetrics.extractUsage(response);
+
+        assertEquals(100L, (long) usage.getInputTokens());
+        assertEquals(20L, (long) usage.getOutputTokens());
+        assertEquals(60L, (long) usage.getCacheReadInputTokens());
+        assertEquals(5L, (long) usage.getReasoningTokens());
+    }
+
+    @Test
+    public void testExtractUsage_Providers() {
+        TokenUsage anthropic = MLTokenMetrics
+            .extractUsage(Map.of("usage", Map.of("input_tokens", 10, "output_tokens", 4, "cache_read_input_tokens", 8)));
+        assertEquals(10L, (long) anthropic.getInputTokens());
+        assertEquals(4L, (long) anthropic.getOutputTokens());
+        assertEquals(8L, (long) anthropic.getCacheReadInputTokens());
+
+        TokenUsage bedrock = MLTokenMetrics.extractUsage(Map.of("usage", Map.of("inputTokens", 11, "outputTokens", 5)));
+        assertEquals(11L, (long) bedrock.getInputTokens());
+        assertEquals(5L, (long) bedrock.getOutputTokens());
+
+        TokenUsage gemini = MLTokenMetrics
+            .extractUsage(Map.of("usageMetadata", Map.of("promptTokenCount", 12, "candidatesTokenCount", 6, "thoughtsTokenCount", 3)));
+        assertEquals(12L, (long) gemini.getInputTokens());
+        assertEquals(6L, (long) gemini.getOutputTokens());
+        assertEquals(3L, (long) gemini.getReasoningTokens());
+
+        TokenUsage cohere = MLTokenMetrics
+            .extractUsage(Map.of("meta", Map.of("billed_units", Map.of("input_tokens", 13, "output_tokens", 7))));
+        assertEquals(13L, (long) cohere.getInputTokens());
+        assertEquals(7L, (long) cohere.getOutputTokens());
+
+        assertNull(MLTokenMetrics.extractUsage(Map.of("embedding", List.of(0.1, 0.2))));
+        assertNull(MLTokenMetrics.extractUsage((Map<String, ?>) null));
+    }
+
+    @Test
+    public void testRecord() {
+        MLTokenMetrics.record("model", connector, output(Map.of("usage", Map.of("prompt_tokens", 100, "completion_tokens", 20))), 0);
+        MLTokenMetrics
+            .record(
+                "model",
+                connector,
+                output(Map.of("usage", Map.of("prompt_tokens", 50, "completion_tokens", 30))),
+                TimeUnit.SECONDS.toNanos(1)
+            );
+        // responses without usage, such as embeddings, are not recorded
+        MLTokenMetrics.record("model", connector, output(Map.of("embedding", List.of(0.1))), TimeUnit.SECONDS.toNanos(1));
+
+        Map<String, Object> model = metrics(MLTokenMetrics.MODELS, "model");
+        assertEquals(2L, model.get(MLTokenMetrics.REQUESTS));
+        assertEquals(150L, model.get(MLTokenMetrics.INPUT_TOKENS));
+        assertEquals(50L, model.get(MLTokenMetrics.OUTPUT_TOKENS));
+        assertEquals(50.0, model.get(MLTokenMetrics.OUTPUT_TOKENS_PER_SECOND));
+        assertFalse(model.containsKey(MLTokenMetrics.STREAMS));
+        assertEquals(model, metrics(MLTokenMetrics.CONNECTORS, "test connector"));
+    }
+
+    @Test
+    public void testUsageListener() {
+        List<TokenUsage> usages = new ArrayList<>();
+        MLTokenMetrics.setUsageListener((modelId, c, usage) -> {
+            assertEquals("model", modelId);
+            assertSame(connector, c);
+            usages.add(usage);
+        });
+
+        MLTokenMetrics.record("model", connector, output(Map.of("usage", Map.of("prompt_tokens", 100, "completion_tokens", 20))), 0);
+        // usage of connectors without a model id is not passed to the listener
+        MLTokenMetrics.record(null, connector, output(Map.of("usage", Map.of("prompt_tokens", 50))), 0);
+        MLTokenMetrics.record("model", connector, output(Map.of("embedding", List.of(0.1))), 0);
+
+        assertEquals(1, usages.size());
+        assertEquals(100L, (long) usages.get(0).getInputTokens());
+        assertEquals(20L, (long) usages.get(0).getOutputTokens());
+    }
+
+    @Test
+    public void testDisabled() {
+        MLTokenMetrics.setEnabled(false);
+
+        MLTokenMetrics.record("model", connector, output(Map.of("usage", Map.of("prompt_tokens", 100))), 0);
+
+        assertSame(MLTokenMetrics.StreamRecorder.NOOP, MLTokenMetrics.startStream(connector));
+        assertTrue(((Map<String, Object>) MLTokenMetrics.getAll().get(MLTokenMetrics.MODELS)).isEmpty());
+        assertTrue(((Map<String, Object>) MLTokenMetrics.getAll().get(MLTokenMetrics.CONNECTORS)).isEmpty());
+    }
+
+    @Test
+    public void testStream() {
+        connector.setTenantId("tenant");
+        MLTokenMetrics.StreamRecorder stream = MLTokenMetrics.startStream(connector);
+        stream.onToken();
+        stream.onToken();
+        stream.onToken();
+        stream.onUsage(TokenUsage.builder().inputTokens(10L).outputTokens(3L).build());
+        stream.onUsage(TokenUsage.builder().inputTokens(10L).outputTokens(3L).build());
+        stream.complete();
+        stream.fail();
+
+        MLTokenMetrics.StreamRecorder failed = MLTokenMetrics.startStream(connector);
+        failed.fail();
+        failed.complete();
+
+        Map<String, Object> metrics = metrics(MLTokenMetrics.CONNECTORS, "tenant:test connector");
+        assertEquals(1L, metrics.get(MLTokenMetrics.REQUESTS));
+        assertEquals(10L, metrics.get(MLTokenMetrics.INPUT_TOKENS));
+        assertEquals(3L, metrics.get(MLTokenMetrics.OUTPUT_TOKENS));
+        assertEquals(2L, metrics.get(MLTokenMetrics.STREAMS));
+        assertEquals(1L, metrics.get(MLTokenMetrics.FAILED_STREAMS));
+        assertEquals(1L, ((Map<String, Object>) metrics.get(MLTokenMetrics.TIME_TO_FIRST_TOKEN)).get(LatencyHistogram.COUNT));
+        assertEquals(2L, ((Map<String, Object>) metrics.get(MLTokenMetrics.INTER_TOKEN_LATENCY)).get(LatencyHistogram.COUNT));
+        assertTrue(((Map<String, Object>) MLTokenMetrics.getAll().get(MLTokenMetrics.MODELS)).isEmpty());
+    }
+
+    @Test
+    public void testConnectorKeyById() {
+        ConnectorMetricsKey.register(connector, "connector_id", "model");
+
+        MLTokenMetrics.record("model", connector, output(Map.of("usage", Map.of("prompt_tokens", 100))), 0);
+        MLTokenMetrics.startStream(connector).complete();
+
+        Map<String, Object> metrics = metrics(MLTokenMetrics.CONNECTORS, "connector_id");
+        assertEquals(1L, metrics.get(MLTokenMetrics.REQUESTS));
+        assertEquals(1L, metrics.get(MLTokenMetrics.STREAMS));
+    }
+
+    private static ModelTensorOutput output(Map<String, ?> dataAsMap) {
+        ModelTensor tensor = ModelTensor.builder().name("response").dataAsMap(dataAsMap).build();
+        return ModelTensorOutput.builder().mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(tensor)).build())).build();
+    }
+
+    private static Map<String, Object> metrics(String level, String key) {
+        return (Map<String, Object>) ((Map<String, Object>) MLTokenMetrics.getAll().get(level)).get(key);
+    }
+}
@@ -10,10 +10,13 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SDK_CLIENT;
@@ -22,6 +25,7 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SETTINGS;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -44,6 +48,9 @@ import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.MLStaticMockBase;
@@ -197,6 +204,37 @@ public class RemoteModelTest extends MLStaticMockBase {
         }
     }
 
+    @Test
+    public void asyncPredict_TokenUsageRecordingFailure() {
+        ModelTensor tensor = ModelTensor.builder().name("response").dataAsMap(Map.of("usage", Map.of("prompt_tokens", 10))).build();
+        MLTaskResponse response = new MLTaskResponse(
+            ModelTensorOutput.builder().mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(tensor)).build())).build()
+        );
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            listener.onResponse(response);
+            return null;
+        }).when(remoteConnectorExecutor).executeAction(eq(ConnectorAction.ActionType.PREDICT.toString()), eq(mlInput), any(), isNull());
+        MLTokenMetrics.setUsageListener((modelId, connector, usage) -> { throw new IllegalStateException("export failed"); });
+        ActionListener<MLTaskResponse> actionListener = mock(ActionListener.class);
+        try (MockedStatic<MLEngineClassLoader> loader = mockStatic(MLEngineClassLoader.class)) {
+            Connector connector = createConnector(ImmutableMap.of("Authorization", "Bearer ${credential.key}"));
+            when(mlModel.getModelId()).thenReturn("test_model_id");
+            when(mlModel.getConnector()).thenReturn(connector);
+            loader
+                .when(() -> MLEngineClassLoader.initInstance(connector.getProtocol(), connector, Connector.class))
+                .thenReturn(remoteConnectorExecutor);
+            ActionListener<Predictable> listener = createPredictableListener(() -> remoteModel.asyncPredict(mlInput, actionListener));
+            remoteModel.initModelAsync(mlModel, ImmutableMap.of(SDK_CLIENT, sdkClient, SETTINGS, settings), encryptor, listener);
+
+            // a failure to record the token usage doesn't fail the prediction
+            verify(actionListener).onResponse(response);
+            verify(actionListener, never()).onFailure(any());
+        } finally {
+            MLTokenMetrics.clear();
+        }
+    }
+
     @Test
     public void initModelAsync_Failure_With_RuntimeException() {
         initModelAsync_Failure_With_Throwable(new IllegalArgumentException("Tag mismatch!"), MLException.class, "Tag mismatch!");
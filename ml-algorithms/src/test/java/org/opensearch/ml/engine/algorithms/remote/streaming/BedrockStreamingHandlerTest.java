@@ -3,7 +3,11 @@ package org.opensearch.ml.engine.algorithms.remote.streaming;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.InvocationTargetException;
@@ -11,6 +15,7 @@ import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
@@ -18,9 +23,17 @@ import org.junit.Test;
 import org.opensearch.ml.common.connector.AwsConnector;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.engine.algorithms.remote.ConnectorMetricsKey;
+import org.opensearch.ml.engine.algorithms.remote.MLTokenMetrics;
+import org.reactivestreams.Subscription;
 
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
+import software.amazon.awssdk.services.bedrockruntime.model.ContentBlockDelta;
+import software.amazon.awssdk.services.bedrockruntime.model.ConverseStreamOutput;
 import software.amazon.awssdk.services.bedrockruntime.model.ConverseStreamRequest;
+import software.amazon.awssdk.services.bedrockruntime.model.ConverseStreamResponseHandler;
 import software.amazon.awssdk.services.bedrockruntime.model.GuardrailStreamConfiguration;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
@@ -546,6 +559,57 @@ public class BedrockStreamingHandlerTest {
         invokeCreateToolUseResponse(new AtomicReference<>("name"), new AtomicReference<>(Map.of()), null, new StringBuilder(), null);
     }
 
+    // ==================== Tests for the stream metrics ====================
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStreamMetrics() {
+        String connectorId = "connector_" + UUID.randomUUID();
+        ConnectorMetricsKey.register(mockConnector, connectorId, null);
+        ConverseStreamResponseHandler responseHandler = startStream();
+
+        responseHandler
+            .onEventStream(
+                publisher(
+                    List
+                        .of(
+                            textDelta("Hel"),
+                            textDelta("lo"),
+                            textDelta("!"),
+                            ConverseStreamOutput.messageStopBuilder().stopReason("end_turn").build(),
+                            ConverseStreamOutput.metadataBuilder().usage(u -> u.inputTokens(10).outputTokens(3).totalTokens(13)).build()
+                        )
+                )
+            );
+        responseHandler.complete();
+
+        Map<String, Object> metrics = connectorMetrics(connectorId);
+        assertEquals(1L, metrics.get(MLTokenMetrics.REQUESTS));
+        assertEquals(10L, metrics.get(MLTokenMetrics.INPUT_TOKENS));
+        assertEquals(3L, metrics.get(MLTokenMetrics.OUTPUT_TOKENS));
+        assertEquals(1L, metrics.get(MLTokenMetrics.STREAMS));
+        assertEquals(0L, metrics.get(MLTokenMetrics.FAILED_STREAMS));
+        assertEquals(1L, ((Map<String, Object>) metrics.get(MLTokenMetrics.TIME_TO_FIRST_TOKEN)).get("count"));
+        assertEquals(2L, ((Map<String, Object>) metrics.get(MLTokenMetrics.INTER_TOKEN_LATENCY)).get("count"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStreamMetrics_Failure() {
+        String connectorId = "connector_" + UUID.randomUUID();
+        ConnectorMetricsKey.register(mockConnector, connectorId, null);
+        ConverseStreamResponseHandler responseHandler = startStream();
+
+        responseHandler.onEventStream(publisher(List.of(textDelta("Hel"))));
+        responseHandler.exceptionOccurred(new RuntimeException("connection reset"));
+
+        Map<String, Object> metrics = connectorMetrics(connectorId);
+        assertEquals(0L, metrics.get(MLTokenMetrics.REQUESTS));
+        assertEquals(1L, metrics.get(MLTokenMetrics.STREAMS));
+        assertEquals(1L, metrics.get(MLTokenMetrics.FAILED_STREAMS));
+        assertEquals(1L, ((Map<String, Object>) metrics.get(MLTokenMetrics.TIME_TO_FIRST_TOKEN)).get("count"));
+    }
+
     // ===== Reflection helper for testing private methods =====
 
     private MLTaskResponse invokeCreateToolUseResponse(
@@ -567,4 +631,66 @@ public class BedrockStreamingHandlerTest {
         method.setAccessible(true);
         return (MLTaskResponse) method.invoke(handler, toolName, toolInput, toolUseId, accumulatedContent, tokenUsage);
     }
+
+    // ===== Helpers driving a stream without calling Bedrock =====
+
+    private ConverseStreamResponseHandler startStream() {
+        BedrockRuntimeAsyncClient bedrockClient = mock(BedrockRuntimeAsyncClient.class);
+        AtomicReference<ConverseStreamResponseHandler> responseHandler = new AtomicReference<>();
+        doAnswer(invocation -> {
+            responseHandler.set(invocation.getArgument(1));
+            return null;
+        }).when(bedrockClient).converseStream(any(ConverseStreamRequest.class), any(ConverseStreamResponseHandler.class));
+        BedrockStreamingHandler streamingHandler = spy(handler);
+        doReturn(bedrockClient).when(streamingHandler).buildBedrockRuntimeAsyncClient();
+
+        streamingHandler.startStream("predict", Map.of("model", "anthropic.claude-v2"), "{}", mock(StreamPredictActionListener.class));
+        assertNotNull(responseHandler.get());
+        return responseHandler.get();
+    }
+
+    private static ConverseStreamOutput textDelta(String text) {
+        return ConverseStreamOutput
+            .contentBlockDeltaBuilder()
+            .contentBlockIndex(0)
+            .delta(ContentBlockDelta.builder().text(text).build())
+            .build();
+    }
+
+    // publishes the events one at a time, as requested by the subscriber
+    private static SdkPublisher<ConverseStreamOutput> publisher(List<ConverseStreamOutput> events) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private int next;
+            private long demand;
+            private boolean emitting;
+
+            @Override
+            public void request(long n) {
+                demand += n;
+                if (emitting) {
+                    return;
+                }
+                emitting = true;
+                while (demand > 0 && next < events.size()) {
+                    demand--;
+                    subscriber.onNext(events.get(next++));
+                }
+                if (next == events.size()) {
+                    next++;
+                    subscriber.onComplete();
+                }
+                emitting = false;
+            }
+
+            @Override
+            public void cancel() {
+                next = events.size() + 1;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> connectorMetrics(String connectorId) {
+        return (Map<String, Object>) ((Map<String, Object>) MLTokenMetrics.getAll().get(MLTokenMetrics.CONNECTORS)).get(connectorId);
+    }
 }
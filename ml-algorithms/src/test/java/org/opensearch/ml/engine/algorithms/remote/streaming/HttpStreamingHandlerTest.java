@@ -5,18 +5,23 @@
 
 package org.opensearch.ml.engine.algorithms.remote.streaming;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorClientConfig;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.engine.algorithms.remote.ConnectorMetricsKey;
+import org.opensearch.ml.engine.algorithms.remote.MLTokenMetrics;
 
 import okhttp3.sse.EventSource;
 
@@ -53,4 +58,55 @@ public class HttpStreamingHandlerTest {
 
         listener.onEvent(mockEventSource, null, null, jsonData);
     }
+
+    @Test
+    public void testStreamMetrics() {
+        String connectorId = "connector_" + UUID.randomUUID();
+        ConnectorMetricsKey.register(mockConnector, connectorId, null);
+        HttpStreamingHandler.HTTPEventSourceListener listener = handler.new HTTPEventSourceListener(
+            mock(StreamPredictActionListener.class), LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS, new HashMap<>()
+        );
+        EventSource eventSource = mock(EventSource.class);
+
+        listener.onEvent(eventSource, null, null, "{\"choices\":[{\"delta\":{\"content\":\"Hel\"},\"finish_reason\":null}]}");
+        listener.onEvent(eventSource, null, null, "{\"choices\":[{\"delta\":{\"content\":\"lo\"},\"finish_reason\":null}]}");
+        listener.onEvent(eventSource, null, null, "{\"choices\":[{\"delta\":{\"content\":\"!\"},\"finish_reason\":null}]}");
+        listener.onEvent(eventSource, null, null, "{\"choices\":[{\"delta\":{},\"finish_reason\":\"stop\"}]}");
+        // usage is sent after the finish reason when the request sets stream_options.include_usage
+        listener.onEvent(eventSource, null, null, "{\"choices\":[],\"usage\":{\"prompt_tokens\":10,\"completion_tokens\":3}}");
+        listener.onEvent(eventSource, null, null, "[DONE]");
+
+        Map<String, Object> metrics = connectorMetrics(connectorId);
+        assertEquals(1L, metrics.get(MLTokenMetrics.REQUESTS));
+        assertEquals(10L, metrics.get(MLTokenMetrics.INPUT_TOKENS));
+        assertEquals(3L, metrics.get(MLTokenMetrics.OUTPUT_TOKENS));
+        assertEquals(1L, metrics.get(MLTokenMetrics.STREAMS));
+        assertEquals(0L, metrics.get(MLTokenMetrics.FAILED_STREAMS));
+        assertEquals(1L, ((Map<String, Object>) metrics.get(MLTokenMetrics.TIME_TO_FIRST_TOKEN)).get("count"));
+        assertEquals(2L, ((Map<String, Object>) metrics.get(MLTokenMetrics.INTER_TOKEN_LATENCY)).get("count"));
+    }
+
+    @Test
+    public void testStreamMetrics_Failure() {
+        String connectorId = "connector_" + UUID.randomUUID();
+        ConnectorMetricsKey.register(mockConnector, connectorId, null);
+        HttpStreamingHandler.HTTPEventSourceListener listener = handler.new HTTPEventSourceListener(
+            mock(StreamPredictActionListener.class), LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS, new HashMap<>()
+        );
+        EventSource eventSource = mock(EventSource.class);
+
+        listener.onEvent(eventSource, null, null, "{\"choices\":[{\"delta\":{\"content\":\"Hel\"},\"finish_reason\":null}]}");
+        listener.onFailure(eventSource, new IOException("connection reset"), null);
+
+        Map<String, Object> metrics = connectorMetrics(connectorId);
+        assertEquals(0L, metrics.get(MLTokenMetrics.REQUESTS));
+        assertEquals(1L, metrics.get(MLTokenMetrics.STREAMS));
+        assertEquals(1L, metrics.get(MLTokenMetrics.FAILED_STREAMS));
+        assertEquals(1L, ((Map<String, Object>) metrics.get(MLTokenMetrics.TIME_TO_FIRST_TOKEN)).get("count"));
+        assertEquals(0L, ((Map<String, Object>) metrics.get(MLTokenMetrics.INTER_TOKEN_LATENCY)).get("count"));
+    }
+
+    private static Map<String, Object> connectorMetrics(String connectorId) {
+        return (Map<String, Object>) ((Map<String, Object>) MLTokenMetrics.getAll().get(MLTokenMetrics.CONNECTORS)).get(connectorId);
+    }
 }
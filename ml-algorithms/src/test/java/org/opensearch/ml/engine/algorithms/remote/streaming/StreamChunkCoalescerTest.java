@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+public class StreamChunkCoalescerTest {
+
+    private ThreadPool threadPool;
+    private Scheduler.ScheduledCancellable scheduledFlush;
+    private List<List<String>> flushed;
+
+    @Before
+    public void setUp() {
+        threadPool = mock(ThreadPool.class);
+        scheduledFlush = mock(Scheduler.ScheduledCancellable.class);
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), anyString())).thenReturn(scheduledFlush);
+        flushed = new ArrayList<>();
+    }
+
+    @Test
+    public void testNoDelayFlushesEveryChunk() {
+        StreamChunkCoalescer<String> coalescer = coalescer(100, 0);
+        coalescer.add("a", false);
+        coalescer.add("b", false);
+
+        assertEquals(List.of(List.of("a"), List.of("b")), flushed);
+        verifyNoInteractions(threadPool);
+    }
+
+    @Test
+    public void testFlushOnMaxBytes() {
+        StreamChunkCoalescer<String> coalescer = coalescer(4, 50);
+        coalescer.add("ab", false);
+        assertTrue(flushed.isEmpty());
+        coalescer.add("cd", false);
+
+        assertEquals(List.of(List.of("ab", "cd")), flushed);
+        verify(threadPool).schedule(any(Runnable.class), eq(TimeValue.timeValueMillis(50)), eq("stream"));
+        verify(scheduledFlush).cancel();
+    }
+
+    @Test
+    public void testFlushNow() {
+        StreamChunkCoalescer<String> coalescer = coalescer(100, 50);
+        coalescer.add("a", false);
+        coalescer.add("tool", true);
+        coalescer.flush();
+
+        assertEquals(List.of(List.of("a", "tool")), flushed);
+    }
+
+    @Test
+    public void testDelayedFlush() {
+        StreamChunkCoalescer<String> coalescer = coalescer(100, 50);
+        coalescer.add("a", false);
+        coalescer.add("b", false);
+
+        // only one flush is scheduled while chunks are buffered
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(flushCaptor.capture(), any(TimeValue.class), anyString());
+        flushCaptor.getValue().run();
+        assertEquals(List.of(List.of("a", "b")), flushed);
+
+        coalescer.add("c", false);
+        verify(threadPool, times(2)).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+    }
+
+    private StreamChunkCoalescer<String> coalescer(int maxBytes, long maxDelayMillis) {
+        return new StreamChunkCoalescer<>(maxBytes, maxDelayMillis, threadPool, "stream", String::length, flushed::add);
+    }
+}
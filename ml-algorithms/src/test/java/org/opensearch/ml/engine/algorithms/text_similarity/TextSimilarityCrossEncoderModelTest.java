@@ -20,6 +20,7 @@ package org.opensearch.ml.engine.algorithms.text_similarity;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -42,11 +43,13 @@ import java.util.UUID;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.textsimilarity.TextSimilarityParameters;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.model.ModelTensor;
@@ -191,6 +194,78 @@ public class TextSimilarityCrossEncoderModelTest {
         textSimilarityCrossEncoderModel.close();
     }
 
+    @Test
+    public void initModel_predict_TorchScript_CrossEncoder_Batched() throws URISyntaxException {
+        textSimilarityCrossEncoderModel.initModel(model, params, encryptor);
+        TextSimilarityInputDataSet dataSet = TextSimilarityInputDataSet
+            .builder()
+            .textDocs(Arrays.asList("That is a happy dog", "it's summer", "today is a sunny summer day"))
+            .queryText("it's summer")
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_SIMILARITY).inputDataset(dataSet).build();
+        List<ModelTensors> expected = ((ModelTensorOutput) textSimilarityCrossEncoderModel.predict(mlInput)).getMlModelOutputs();
+
+        mlInput.setParameters(TextSimilarityParameters.builder().batchSize(2).build());
+        List<ModelTensors> batched = ((ModelTensorOutput) textSimilarityCrossEncoderModel.predict(mlInput)).getMlModelOutputs();
+        assertEquals(3, batched.size());
+        for (int i = 0; i < batched.size(); i++) {
+            assertEquals(score(expected.get(i)), score(batched.get(i)), 1e-4);
+        }
+
+        mlInput.setParameters(TextSimilarityParameters.builder().batchSize(2).topK(2).build());
+        List<ModelTensors> topK = ((ModelTensorOutput) textSimilarityCrossEncoderModel.predict(mlInput)).getMlModelOutputs();
+        assertEquals(2, topK.size());
+        assertTrue(score(topK.get(0)) >= score(topK.get(1)));
+        for (ModelTensors tensors : topK) {
+            List<ModelTensor> mlModelTensors = tensors.getMlModelTensors();
+            assertEquals(2, mlModelTensors.size());
+            assertEquals(TextSimilarityCrossEncoderModel.INDEX_NAME, mlModelTensors.get(1).getName());
+            int index = mlModelTensors.get(1).getData()[0].intValue();
+            assertEquals(score(expected.get(index)), score(tensors), 1e-4);
+        }
+
+        mlInput.setParameters(TextSimilarityParameters.builder().batchSize(2).maxSequenceLength(8).build());
+        List<ModelTensors> truncated = ((ModelTensorOutput) textSimilarityCrossEncoderModel.predict(mlInput)).getMlModelOutputs();
+        assertEquals(3, truncated.size());
+        textSimilarityCrossEncoderModel.close();
+    }
+
+    @Test
+    public void test_TextSimilarity_Translator_BatchProcessInput() throws URISyntaxException, IOException {
+        TextSimilarityTranslator textSimilarityTranslator = new TextSimilarityTranslator();
+        TranslatorContext translatorContext = mock(TranslatorContext.class);
+        Model mlModel = mock(Model.class);
+        when(translatorContext.getModel()).thenReturn(mlModel);
+        when(mlModel.getModelPath()).thenReturn(Paths.get(getClass().getResource("../tokenize/tokenizer.json").toURI()).getParent());
+        textSimilarityTranslator.prepare(translatorContext);
+
+        NDManager manager = mock(NDManager.class);
+        when(translatorContext.getNDManager()).thenReturn(manager);
+        NDArray ndArray = mock(NDArray.class);
+        ArgumentCaptor<long[][]> captor = ArgumentCaptor.forClass(long[][].class);
+        when(manager.create(captor.capture())).thenReturn(ndArray);
+
+        Input shortPair = new Input();
+        shortPair.add("hello");
+        shortPair.add("world");
+        Input longPair = new Input();
+        longPair.add("hello world");
+        longPair.add("this document is too long for the max sequence length");
+        longPair.addProperty(TextSimilarityTranslator.MAX_SEQUENCE_LENGTH, "8");
+        NDList outputList = textSimilarityTranslator.batchProcessInput(translatorContext, List.of(shortPair, longPair));
+
+        assertEquals(3, outputList.size());
+        long[][] indices = captor.getAllValues().get(0);
+        long[][] attentionMask = captor.getAllValues().get(1);
+        assertEquals(2, indices.length);
+        assertEquals(8, indices[0].length);
+        assertEquals(8, indices[1].length);
+        // the short pair is padded and the padding is masked out
+        assertEquals(0, indices[0][7]);
+        assertEquals(0, attentionMask[0][7]);
+        assertEquals(1, attentionMask[1][7]);
+    }
+
     @Test
     public void test_TextSimilarity_Translator_ProcessInput_withoutTokenTypeIds() throws URISyntaxException, IOException {
         TextSimilarityTranslator textSimilarityTranslator = new TextSimilarityTranslator();
@@ -344,6 +419,10 @@ public class TextSimilarityCrossEncoderModelTest {
         assert (e.getMessage().startsWith("Failed to inference TEXT_SIMILARITY"));
     }
 
+    private float score(ModelTensors tensors) {
+        return tensors.getMlModelTensors().get(0).getData()[0].floatValue();
+    }
+
     @After
     public void tearDown() {
         FileUtils.deleteFileQuietly(mlCachePath);
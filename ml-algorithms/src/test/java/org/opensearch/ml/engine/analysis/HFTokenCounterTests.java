@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.engine.analysis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+
+public class HFTokenCounterTests extends HFModelAnalyzerTestCase {
+    private HFTokenCounter tokenCounter;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        HuggingFaceTokenizer huggingFaceTokenizer = DJLUtils
+            .buildHuggingFaceTokenizer(mlEngine.getAnalysisRootPath().resolve("test").resolve("tokenizer.json"));
+        tokenCounter = new HFTokenCounter(() -> huggingFaceTokenizer);
+    }
+
+    @Test
+    public void testCount() {
+        assertEquals(0, tokenCounter.count(null));
+        assertEquals(0, tokenCounter.count(""));
+        assertEquals(3, tokenCounter.count("hello world a"));
+    }
+
+    @Test
+    public void testTruncate() {
+        assertEquals("hello world", tokenCounter.truncateFromEnd("hello world a", 2));
+        assertEquals("world a", tokenCounter.truncateFromBeginning("hello world a", 2));
+        assertEquals("hellob", tokenCounter.truncateMiddle("hello a b", 2));
+        assertEquals("hello world a", tokenCounter.truncateFromEnd("hello world a", 3));
+    }
+
+    @Test
+    public void testFallbackWithoutTokenizer() {
+        HFTokenCounter unavailable = new HFTokenCounter(() -> null);
+        assertEquals(4, unavailable.count("hello world a b"));
+        assertEquals("hell", unavailable.truncateFromEnd("hello world", 1));
+    }
+
+    @Test
+    public void testForName() {
+        assertNotNull(HFTokenCounter.forName(HFModelTokenizerFactory.DEFAULT_TOKENIZER_NAME));
+        assertNull(HFTokenCounter.forName("unknown"));
+    }
+}
@@ -1168,6 +1168,32 @@ public class EncryptorImplTest {
         return new GetResponse(getResult);
     }
 
+    @Test
+    public void decrypt_CachesDecryptedTexts() {
+        EncryptorImpl cachingEncryptor = new EncryptorImpl(null, encryptor.generateMasterKey());
+        String encrypted = MLTestHelper.encryptCredentials(List.of("test"), null, cachingEncryptor);
+
+        Assert.assertEquals("test", MLTestHelper.decryptCredentials(List.of(encrypted), null, cachingEncryptor));
+        Assert.assertEquals("test", MLTestHelper.decryptCredentials(List.of(encrypted), null, cachingEncryptor));
+        Assert.assertEquals(1, cachingEncryptor.decryptedTextCacheSize());
+
+        // cached plaintext is bound to the master key it was decrypted with
+        cachingEncryptor.setMasterKey(null, cachingEncryptor.generateMasterKey());
+        Assert.assertThrows(Exception.class, () -> MLTestHelper.decryptCredentials(List.of(encrypted), null, cachingEncryptor));
+    }
+
+    @Test
+    public void decrypt_DecryptedTextCacheDisabled() {
+        Settings settings = Settings.builder().put(MLCommonsSettings.ML_COMMONS_DECRYPTED_CREDENTIAL_CACHE_TTL_SECONDS.getKey(), 0).build();
+        when(clusterService.getSettings()).thenReturn(settings);
+        EncryptorImpl nonCachingEncryptor = new EncryptorImpl(clusterService, client, sdkClient, mlIndicesHandler);
+        nonCachingEncryptor.setMasterKey(null, nonCachingEncryptor.generateMasterKey());
+        String encrypted = MLTestHelper.encryptCredentials(List.of("test"), null, nonCachingEncryptor);
+
+        Assert.assertEquals("test", MLTestHelper.decryptCredentials(List.of(encrypted), null, nonCachingEncryptor));
+        Assert.assertEquals(0, nonCachingEncryptor.decryptedTextCacheSize());
+    }
+
     // Helper method to prepare a GetResponse with a specific master key
     private GetResponse prepareMLConfigResponseWithKey(String tenantId, String masterKey) throws IOException {
         String masterKeyId = MASTER_KEY;
@@ -10,6 +10,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.spi.tools.Tool;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 
 import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -87,6 +89,18 @@ public class McpSseToolTests {
         verify(listener, never()).onResponse(any());
     }
 
+    @Test
+    public void testRunClientThrows_InvalidatesCachedSession() {
+        McpToolSpecCache toolSpecCache = mock(McpToolSpecCache.class);
+        McpSseTool cachedTool = new McpSseTool(mcpSyncClient, toolSpecCache);
+        when(mcpSyncClient.callTool(any())).thenThrow(new RuntimeException("connection closed"));
+
+        cachedTool.run(validParams, listener);
+
+        verify(listener).onFailure(any(RuntimeException.class));
+        verify(toolSpecCache).invalidateSession(mcpSyncClient);
+    }
+
     @Test
     public void testRunMissingInputParam() {
         // No "input" key in parameters should be caught
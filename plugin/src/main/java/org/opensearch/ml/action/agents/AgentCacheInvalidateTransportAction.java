@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.agents;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateAction;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodeRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesResponse;
+import org.opensearch.ml.engine.algorithms.agent.MLAgentCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Drops an updated or deleted agent from the agent cache of every node.
+ */
+@Log4j2
+public class AgentCacheInvalidateTransportAction extends
+    TransportNodesAction<MLAgentCacheInvalidateNodesRequest, MLAgentCacheInvalidateNodesResponse, MLAgentCacheInvalidateNodeRequest, MLAgentCacheInvalidateNodeResponse> {
+
+    private final ClusterService clusterService;
+    private final MLAgentCache agentCache;
+
+    @Inject
+    public AgentCacheInvalidateTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        MLAgentCache agentCache
+    ) {
+        super(
+            MLAgentCacheInvalidateAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLAgentCacheInvalidateNodesRequest::new,
+            MLAgentCacheInvalidateNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLAgentCacheInvalidateNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.agentCache = agentCache;
+    }
+
+    /**
+     * Broadcast the invalidation of an agent to all nodes. Failures are logged only, nodes which missed the invalidation
+     * serve the old agent definition until the cache TTL.
+     * @param client client
+     * @param agentId updated or deleted agent
+     * @param tenantId tenant id
+     */
+    static void invalidateAgentCache(Client client, String agentId, String tenantId) {
+        MLAgentCacheInvalidateNodesRequest request = new MLAgentCacheInvalidateNodesRequest(new String[0], agentId, tenantId);
+        client.execute(MLAgentCacheInvalidateAction.INSTANCE, request, ActionListener.wrap(r -> {
+            if (r != null && r.hasFailures()) {
+                log.warn("Failed to invalidate agent {} in agent cache on some nodes: {}", agentId, r.failures());
+            }
+        }, e -> log.warn("Failed to invalidate agent {} in agent cache", agentId, e)));
+    }
+
+    @Override
+    protected MLAgentCacheInvalidateNodesResponse newResponse(
+        MLAgentCacheInvalidateNodesRequest nodesRequest,
+        List<MLAgentCacheInvalidateNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLAgentCacheInvalidateNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLAgentCacheInvalidateNodeRequest newNodeRequest(MLAgentCacheInvalidateNodesRequest request) {
+        return new MLAgentCacheInvalidateNodeRequest(request);
+    }
+
+    @Override
+    protected MLAgentCacheInvalidateNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLAgentCacheInvalidateNodeResponse(in);
+    }
+
+    @Override
+    protected MLAgentCacheInvalidateNodeResponse nodeOperation(MLAgentCacheInvalidateNodeRequest request) {
+        MLAgentCacheInvalidateNodesRequest nodesRequest = request.getInvalidateNodesRequest();
+        agentCache.invalidate(nodesRequest.getTenantId(), nodesRequest.getAgentId());
+        log.debug("Invalidated agent {} in agent cache", nodesRequest.getAgentId());
+        return new MLAgentCacheInvalidateNodeResponse(clusterService.localNode());
+    }
+}
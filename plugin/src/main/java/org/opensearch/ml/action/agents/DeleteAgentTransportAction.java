@@ -141,7 +141,7 @@ public class DeleteAgentTransportAction extends HandledTransportAction<ActionReq
                                                         .build()
                                                 )
                                                 .whenComplete((response, delThrowable) -> {
-                                                    handleDeleteResponse(response, delThrowable, tenantId, wrappedListener);
+                                                    handleDeleteResponse(response, delThrowable, agentId, tenantId, wrappedListener);
                                                 });
                                         } catch (Exception e) {
                                             log.error("Failed to delete ML agent: {}", agentId, e);
@@ -178,6 +178,7 @@ public class DeleteAgentTransportAction extends HandledTransportAction<ActionReq
         DeleteDataObjectResponse response,
         Throwable throwable,
         String agentId,
+        String tenantId,
         ActionListener<DeleteResponse> actionListener
     ) {
         if (throwable != null) {
@@ -188,6 +189,7 @@ public class DeleteAgentTransportAction extends HandledTransportAction<ActionReq
             try {
                 DeleteResponse deleteResponse = response.deleteResponse();
                 log.info("Agent deletion result: {}, agent id: {}", deleteResponse.getResult(), response.id());
+                AgentCacheInvalidateTransportAction.invalidateAgentCache(client, agentId, tenantId);
                 actionListener.onResponse(deleteResponse);
             } catch (Exception e) {
                 actionListener.onFailure(e);
@@ -170,6 +170,7 @@ public class UpdateAgentTransportAction extends HandledTransportAction<ActionReq
                     UpdateResponse updateResponse = r.updateResponse();
                     if (updateResponse.getResult() == DocWriteResponse.Result.UPDATED) {
                         log.info("Successfully updated ML agent {}", agentId);
+                        AgentCacheInvalidateTransportAction.invalidateAgentCache(client, agentId, updateInput.getTenantId());
                         wrappedListener.onResponse(updateResponse);
                     }
                 } catch (Exception e) {
@@ -11,7 +11,6 @@ import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_BULK_SIZE;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.INGEST_THREAD_POOL;
-import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
 import static org.opensearch.ml.utils.MLExceptionUtils.OFFLINE_BATCH_INGESTION_DISABLED_ERR_MSG;
 
 import java.time.Instant;
@@ -171,7 +170,6 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
                                 taskId,
                                 null,
                                 Map.of(STATE_FIELD, FAILED, ERROR_FIELD, MLExceptionUtils.getRootCauseMessage(ex)),
-                                TASK_SEMAPHORE_TIMEOUT,
                                 true
                             );
                         listener.onFailure(ex);
@@ -193,47 +191,28 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
         } catch (PathNotFoundException jsonPathNotFoundException) {
             log.error("Error in jsonParse fields", jsonPathNotFoundException);
             mlTaskManager
-                .updateMLTask(
-                    taskId,
-                    null,
-                    Map.of(STATE_FIELD, FAILED, ERROR_FIELD, jsonPathNotFoundException.getMessage()),
-                    TASK_SEMAPHORE_TIMEOUT,
-                    true
-                );
+                .updateMLTask(taskId, null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, jsonPathNotFoundException.getMessage()), true);
         } catch (Exception e) {
             log.error("Error in ingest, failed to produce a successRate", e);
             mlTaskManager
-                .updateMLTask(
-                    taskId,
-                    null,
-                    Map.of(STATE_FIELD, FAILED, ERROR_FIELD, MLExceptionUtils.getRootCauseMessage(e)),
-                    TASK_SEMAPHORE_TIMEOUT,
-                    true
-                );
+                .updateMLTask(taskId, null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, MLExceptionUtils.getRootCauseMessage(e)), true);
         }
     }
 
     protected void handleSuccessRate(double successRate, String taskId) {
         if (successRate == 100) {
-            mlTaskManager.updateMLTask(taskId, null, Map.of(STATE_FIELD, COMPLETED), 5000, true);
+            mlTaskManager.updateMLTask(taskId, null, Map.of(STATE_FIELD, COMPLETED), true);
         } else if (successRate > 0) {
             mlTaskManager
                 .updateMLTask(
                     taskId,
                     null,
                     Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "batch ingestion successful rate is " + successRate),
-                    TASK_SEMAPHORE_TIMEOUT,
                     true
                 );
         } else {
             mlTaskManager
-                .updateMLTask(
-                    taskId,
-                    null,
-                    Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "batch ingestion successful rate is 0"),
-                    TASK_SEMAPHORE_TIMEOUT,
-                    true
-                );
+                .updateMLTask(taskId, null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "batch ingestion successful rate is 0"), true);
         }
     }
 
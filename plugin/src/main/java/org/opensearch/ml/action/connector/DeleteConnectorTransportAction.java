@@ -32,6 +32,7 @@ import org.opensearch.ml.common.exception.MLValidationException;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteRequest;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.utils.TenantAwareHelper;
 import org.opensearch.remote.metadata.client.DeleteDataObjectRequest;
@@ -56,6 +57,7 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
     private final NamedXContentRegistry xContentRegistry;
     private final ConnectorAccessControlHelper connectorAccessControlHelper;
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    private final McpToolSpecCache mcpToolSpecCache;
 
     @Inject
     public DeleteConnectorTransportAction(
@@ -65,7 +67,8 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
         SdkClient sdkClient,
         NamedXContentRegistry xContentRegistry,
         ConnectorAccessControlHelper connectorAccessControlHelper,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         super(MLConnectorDeleteAction.NAME, transportService, actionFilters, MLConnectorDeleteRequest::new);
         this.client = client;
@@ -73,6 +76,7 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
         this.xContentRegistry = xContentRegistry;
         this.connectorAccessControlHelper = connectorAccessControlHelper;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.mcpToolSpecCache = mcpToolSpecCache;
     }
 
     @Override
@@ -201,7 +205,7 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
                 .deleteDataObjectAsync(
                     DeleteDataObjectRequest.builder().index(deleteRequest.index()).id(deleteRequest.id()).tenantId(tenantId).build()
                 )
-                .whenComplete((response, throwable) -> handleDeleteResponse(response, throwable, connectorId, actionListener));
+                .whenComplete((response, throwable) -> handleDeleteResponse(response, throwable, connectorId, tenantId, actionListener));
         } catch (Exception e) {
             log.error("Failed to delete ML connector: {}", connectorId, e);
             actionListener.onFailure(e);
@@ -212,6 +216,7 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
         DeleteDataObjectResponse response,
         Throwable throwable,
         String connectorId,
+        String tenantId,
         ActionListener<DeleteResponse> actionListener
     ) {
         if (throwable != null) {
@@ -226,6 +231,7 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
             try {
                 DeleteResponse deleteResponse = response.deleteResponse();
                 log.info("Connector deletion result: {}, connector id: {}", deleteResponse.getResult(), response.id());
+                mcpToolSpecCache.invalidate(tenantId, connectorId);
                 actionListener.onResponse(deleteResponse);
             } catch (Exception e) {
                 actionListener.onFailure(e);
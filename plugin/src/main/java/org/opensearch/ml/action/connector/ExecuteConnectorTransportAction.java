@@ -25,6 +25,7 @@ import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.connector.MLExecuteConnectorAction;
 import org.opensearch.ml.common.transport.connector.MLExecuteConnectorRequest;
 import org.opensearch.ml.engine.MLEngineClassLoader;
+import org.opensearch.ml.engine.algorithms.remote.ConnectorMetricsKey;
 import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorExecutor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
@@ -99,6 +100,7 @@ public class ExecuteConnectorTransportAction extends HandledTransportAction<Acti
                     ActionListener<Boolean> decryptSuccessfulListener = ActionListener.wrap(r -> {
                         RemoteConnectorExecutor connectorExecutor = MLEngineClassLoader
                             .initInstance(connector.getProtocol(), connector, Connector.class);
+                        ConnectorMetricsKey.register(connector, connectorId, null);
                         connectorExecutor.setConnectorPrivateIpEnabled(mlFeatureEnabledSetting.isConnectorPrivateIpEnabled());
                         connectorExecutor.setTrustedConnectorEndpointsRegex(mlFeatureEnabledSetting.getTrustedConnectorEndpointsRegex());
                         connectorExecutor.setScriptService(scriptService);
@@ -41,6 +41,7 @@ import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.connector.MLUpdateConnectorAction;
 import org.opensearch.ml.common.transport.connector.MLUpdateConnectorRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.utils.TenantAwareHelper;
@@ -71,6 +72,7 @@ public class UpdateConnectorTransportAction extends HandledTransportAction<Actio
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
     final MLModelManager mlModelManager;
     final MLEngine mlEngine;
+    private final McpToolSpecCache mcpToolSpecCache;
     volatile List<String> trustedConnectorEndpointsRegex;
 
     @Inject
@@ -84,7 +86,8 @@ public class UpdateConnectorTransportAction extends HandledTransportAction<Actio
         Settings settings,
         ClusterService clusterService,
         MLEngine mlEngine,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         super(MLUpdateConnectorAction.NAME, transportService, actionFilters, MLUpdateConnectorRequest::new);
         this.client = client;
@@ -93,6 +96,7 @@ public class UpdateConnectorTransportAction extends HandledTransportAction<Actio
         this.mlModelManager = mlModelManager;
         this.mlEngine = mlEngine;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.mcpToolSpecCache = mcpToolSpecCache;
         trustedConnectorEndpointsRegex = ML_COMMONS_TRUSTED_CONNECTOR_ENDPOINTS_REGEX.get(settings);
         clusterService
             .getClusterSettings()
@@ -147,7 +151,10 @@ public class UpdateConnectorTransportAction extends HandledTransportAction<Actio
                                     updateUndeployedConnector(
                                         connectorId,
                                         updateDataObjectRequest,
-                                        ActionListener.runBefore(listener, innerContext::restore)
+                                        ActionListener.runBefore(listener, () -> {
+                                            innerContext.restore();
+                                            mcpToolSpecCache.invalidate(tenantId, connectorId);
+                                        })
                                     );
                                 }
                             }, e -> {
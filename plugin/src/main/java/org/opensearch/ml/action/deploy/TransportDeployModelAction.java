@@ -11,7 +11,6 @@ import static org.opensearch.ml.common.MLTaskState.FAILED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
-import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
 import static org.opensearch.ml.utils.MLExceptionUtils.LOCAL_MODEL_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 
@@ -323,7 +322,6 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
                         taskId,
                         tenantId,
                         Map.of(STATE_FIELD, FAILED, ERROR_FIELD, MLExceptionUtils.getRootCauseMessage(ex)),
-                        TASK_SEMAPHORE_TIMEOUT,
                         true
                     );
                 wrappedListener.onFailure(ex);
@@ -404,7 +402,7 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
     ) {
         return ActionListener.wrap(r -> {
             if (mlTaskManager.contains(taskId)) {
-                mlTaskManager.updateMLTask(taskId, tenantId, Map.of(STATE_FIELD, MLTaskState.RUNNING), TASK_SEMAPHORE_TIMEOUT, false);
+                mlTaskManager.updateMLTask(taskId, tenantId, Map.of(STATE_FIELD, MLTaskState.RUNNING), false);
             }
             log.debug("Model deployment successful for model: {}", modelId);
             listener.onResponse(new MLDeployModelResponse(taskId, MLTaskType.DEPLOY_MODEL, MLTaskState.COMPLETED.name()));
@@ -415,7 +413,6 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
                     taskId,
                     tenantId,
                     Map.of(MLTask.ERROR_FIELD, MLExceptionUtils.getRootCauseMessage(e), STATE_FIELD, FAILED),
-                    TASK_SEMAPHORE_TIMEOUT,
                     true
                 );
             mlModelManager.updateModel(modelId, tenantId, isHidden, Map.of(MLModel.MODEL_STATE_FIELD, MLModelState.DEPLOY_FAILED));
@@ -452,8 +449,7 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
         ActionListener<MLDeployModelNodesResponse> actionListener = ActionListener.wrap(r -> {
             log.debug("Successfully triggered model deployment on nodes for model: {}", modelId);
             if (mlTaskManager.contains(taskId)) {
-                mlTaskManager
-                    .updateMLTask(taskId, mlModel.getTenantId(), Map.of(STATE_FIELD, MLTaskState.RUNNING), TASK_SEMAPHORE_TIMEOUT, false);
+                mlTaskManager.updateMLTask(taskId, mlModel.getTenantId(), Map.of(STATE_FIELD, MLTaskState.RUNNING), false);
             }
         }, e -> {
             log.error("Failed to deploy model {}", modelId, e);
@@ -462,7 +458,6 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
                     taskId,
                     mlModel.getTenantId(),
                     Map.of(MLTask.ERROR_FIELD, MLExceptionUtils.getRootCauseMessage(e), STATE_FIELD, FAILED),
-                    TASK_SEMAPHORE_TIMEOUT,
                     true
                 );
             mlModelManager
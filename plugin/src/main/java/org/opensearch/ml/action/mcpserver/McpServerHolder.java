@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.mcpserver;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MCP_SERVER_CACHE_TTL_MINUTES;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.transport.mcpserver.requests.register.McpToolRegisterInput;
+
+import io.modelcontextprotocol.json.jackson3.JacksonMcpJsonMapper;
+import io.modelcontextprotocol.json.schema.jackson3.DefaultJsonSchemaValidator;
+import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.server.McpStatelessServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Keeps the stateless MCP server of this node, built with the tools of the MCP tools index.
+ * <p>
+ * The server is built on first use and serves every MCP request of the node, so a tool call only does the work of the tool.
+ * Registering, updating or removing tools on any node invalidates the server on all nodes, the next request rebuilds it. Like
+ * the agent cache, the holder keeps an invalidation counter: a server built from tools read while an invalidation happened is
+ * only used for the requests waiting for it, and a TTL bounds staleness on nodes that missed the invalidation. Requests
+ * arriving while the server is built wait for that build instead of reading the tools again.
+ */
+@Log4j2
+public class McpServerHolder {
+
+    private static final JacksonMcpJsonMapper JSON_MAPPER = new JacksonMcpJsonMapper(JsonMapper.shared());
+    private static final DefaultJsonSchemaValidator SCHEMA_VALIDATOR = new DefaultJsonSchemaValidator();
+
+    private final McpToolsHelper mcpToolsHelper;
+    private final long ttlMillis;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private volatile CachedServer cachedServer;
+    // guarded by this
+    private ServerBuild pendingBuild;
+
+    public McpServerHolder(McpToolsHelper mcpToolsHelper, Settings settings) {
+        this.mcpToolsHelper = mcpToolsHelper;
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ML_COMMONS_MCP_SERVER_CACHE_TTL_MINUTES.get(settings));
+    }
+
+    /**
+     * Get the MCP server of this node, building it from the MCP tools index if there is no valid one.
+     * @param listener listener of the transport provider handling requests for the server
+     */
+    public void getServer(ActionListener<OpenSearchMcpStatelessServerTransportProvider> listener) {
+        CachedServer cached = cachedServer;
+        if (cached != null && cached.invalidations == invalidations.get() && System.currentTimeMillis() < cached.expireTime) {
+            listener.onResponse(cached.provider);
+            return;
+        }
+        ServerBuild build;
+        synchronized (this) {
+            long currentInvalidations = invalidations.get();
+            if (pendingBuild != null && pendingBuild.invalidations == currentInvalidations) {
+                pendingBuild.listeners.add(listener);
+                return;
+            }
+            build = new ServerBuild(currentInvalidations);
+            build.listeners.add(listener);
+            pendingBuild = build;
+        }
+        mcpToolsHelper.searchAllTools(ActionListener.wrap(tools -> {
+            OpenSearchMcpStatelessServerTransportProvider provider = buildServer(tools);
+            if (ttlMillis > 0 && invalidations.get() == build.invalidations) {
+                cachedServer = new CachedServer(provider, build.invalidations, System.currentTimeMillis() + ttlMillis);
+            }
+            for (ActionListener<OpenSearchMcpStatelessServerTransportProvider> waiting : complete(build)) {
+                waiting.onResponse(provider);
+            }
+        }, e -> {
+            for (ActionListener<OpenSearchMcpStatelessServerTransportProvider> waiting : complete(build)) {
+                waiting.onFailure(e);
+            }
+        }));
+    }
+
+    /**
+     * Drop the MCP server of this node, the next MCP request rebuilds it with the current tools.
+     */
+    public void invalidate() {
+        invalidations.incrementAndGet();
+        cachedServer = null;
+    }
+
+    private synchronized List<ActionListener<OpenSearchMcpStatelessServerTransportProvider>> complete(ServerBuild build) {
+        if (pendingBuild == build) {
+            pendingBuild = null;
+        }
+        List<ActionListener<OpenSearchMcpStatelessServerTransportProvider>> listeners = build.listeners;
+        build.listeners = List.of();
+        return listeners;
+    }
+
+    private OpenSearchMcpStatelessServerTransportProvider buildServer(List<McpToolRegisterInput> tools) {
+        // Skip tools that fail to build (e.g. a tool whose plugin is no longer installed) so one
+        // bad tool doesn't fail tools/list and tools/call for every other tool.
+        List<McpStatelessServerFeatures.AsyncToolSpecification> specs = new ArrayList<>();
+        for (McpToolRegisterInput tool : tools) {
+            try {
+                specs.add(mcpToolsHelper.createToolSpecification(tool));
+            } catch (Exception e) {
+                log.error("Skipping MCP tool that failed to build: {}", tool.getName(), e);
+            }
+        }
+
+        McpSchema.ServerCapabilities serverCapabilities = McpSchema.ServerCapabilities
+            .builder()
+            .tools(true)
+            .logging()
+            .resources(false, false)
+            .prompts(false)
+            .build();
+
+        OpenSearchMcpStatelessServerTransportProvider provider = new OpenSearchMcpStatelessServerTransportProvider();
+        McpServer
+            .async(provider)
+            .jsonMapper(JSON_MAPPER)
+            .jsonSchemaValidator(SCHEMA_VALIDATOR)
+            .serverInfo("OpenSearch-MCP-Stateless-Server", "0.1.0")
+            .capabilities(serverCapabilities)
+            .instructions("OpenSearch MCP Stateless Server - provides access to ML tools without sessions")
+            .tools(specs)
+            .build();
+        log.debug("Built MCP server with {} tools", specs.size());
+        return provider;
+    }
+
+    private static class CachedServer {
+        private final OpenSearchMcpStatelessServerTransportProvider provider;
+        private final long invalidations;
+        private final long expireTime;
+
+        private CachedServer(OpenSearchMcpStatelessServerTransportProvider provider, long invalidations, long expireTime) {
+            this.provider = provider;
+            this.invalidations = invalidations;
+            this.expireTime = expireTime;
+        }
+    }
+
+    private static class ServerBuild {
+        private final long invalidations;
+        // guarded by the holder
+        private List<ActionListener<OpenSearchMcpStatelessServerTransportProvider>> listeners = new ArrayList<>();
+
+        private ServerBuild(long invalidations) {
+            this.invalidations = invalidations;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.opensearch.ml.common.transport.mcpserver.action.MLMcpConnectorListToo
 import org.opensearch.ml.common.transport.mcpserver.requests.list.MLMcpConnectorListToolsRequest;
 import org.opensearch.ml.common.transport.mcpserver.responses.list.MLMcpConnectorListToolsResponse;
 import org.opensearch.ml.common.transport.mcpserver.responses.list.McpToolInfo;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.utils.TenantAwareHelper;
@@ -46,6 +47,7 @@ public class TransportMcpConnectorListToolsAction extends HandledTransportAction
     final private EncryptorImpl encryptor;
     final private MLFeatureEnabledSetting mlFeatureEnabledSetting;
     final private ConnectorAccessControlHelper connectorAccessControlHelper;
+    final private McpToolSpecCache mcpToolSpecCache;
 
     @Inject
     public TransportMcpConnectorListToolsAction(
@@ -55,7 +57,8 @@ public class TransportMcpConnectorListToolsAction extends HandledTransportAction
         SdkClient sdkClient,
         EncryptorImpl encryptor,
         MLFeatureEnabledSetting mlFeatureEnabledSetting,
-        ConnectorAccessControlHelper connectorAccessControlHelper
+        ConnectorAccessControlHelper connectorAccessControlHelper,
+        McpToolSpecCache mcpToolSpecCache
     ) {
         super(MLMcpConnectorListToolsAction.NAME, transportService, actionFilters, MLMcpConnectorListToolsRequest::new);
         this.client = client;
@@ -63,6 +66,7 @@ public class TransportMcpConnectorListToolsAction extends HandledTransportAction
         this.encryptor = encryptor;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
         this.connectorAccessControlHelper = connectorAccessControlHelper;
+        this.mcpToolSpecCache = mcpToolSpecCache;
     }
 
     @Override
@@ -96,7 +100,7 @@ public class TransportMcpConnectorListToolsAction extends HandledTransportAction
                         List<McpToolInfo> toolInfos = toolSpecs.stream().map(this::toMcpToolInfo).toList();
                         listener.onResponse(MLMcpConnectorListToolsResponse.builder().tools(toolInfos).build());
                     } finally {
-                        cleanUpResource(toolSpecs);
+                        cleanUpResource(toolSpecs, mcpToolSpecCache);
                     }
                 }, e -> {
                     log.error("Failed to list tools for MCP connector: {}", connectorId, e);
@@ -109,7 +113,15 @@ public class TransportMcpConnectorListToolsAction extends HandledTransportAction
      * Fetches tool specs for the given connector.
      */
     protected void fetchToolSpecsFromConnector(String connectorId, String tenantId, ActionListener<List<MLToolSpec>> toolSpecsListener) {
-        getMCPToolSpecsFromConnectorWithPropagatingFailures(connectorId, tenantId, sdkClient, client, encryptor, toolSpecsListener);
+        getMCPToolSpecsFromConnectorWithPropagatingFailures(
+            connectorId,
+            tenantId,
+            sdkClient,
+            client,
+            encryptor,
+            mcpToolSpecCache,
+            toolSpecsListener
+        );
     }
 
     /**
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.mcpserver;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.mcpserver.action.MLMcpServerCacheInvalidateAction;
+import org.opensearch.ml.common.transport.mcpserver.requests.invalidate.MLMcpServerCacheInvalidateNodeRequest;
+import org.opensearch.ml.common.transport.mcpserver.requests.invalidate.MLMcpServerCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.mcpserver.responses.invalidate.MLMcpServerCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.mcpserver.responses.invalidate.MLMcpServerCacheInvalidateNodesResponse;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Drops the MCP server of every node after MCP tools are registered, updated or removed.
+ */
+@Log4j2
+public class TransportMcpServerCacheInvalidateAction extends
+    TransportNodesAction<MLMcpServerCacheInvalidateNodesRequest, MLMcpServerCacheInvalidateNodesResponse, MLMcpServerCacheInvalidateNodeRequest, MLMcpServerCacheInvalidateNodeResponse> {
+
+    private final ClusterService clusterService;
+    private final McpServerHolder mcpServerHolder;
+
+    @Inject
+    public TransportMcpServerCacheInvalidateAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        McpServerHolder mcpServerHolder
+    ) {
+        super(
+            MLMcpServerCacheInvalidateAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLMcpServerCacheInvalidateNodesRequest::new,
+            MLMcpServerCacheInvalidateNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLMcpServerCacheInvalidateNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.mcpServerHolder = mcpServerHolder;
+    }
+
+    /**
+     * Wrap the listener of a tools index write so the MCP server of all nodes is invalidated before the listener gets the
+     * response, so the tool change is visible to MCP requests on every node when the tools API responds. Invalidation failures
+     * are logged only, nodes which missed the invalidation serve the old tools until the cache TTL.
+     * @param client client
+     * @param listener listener of the tools index write
+     * @return listener invalidating the MCP servers before responding
+     * @param <T> response type
+     */
+    static <T> ActionListener<T> invalidateMcpServersBefore(Client client, ActionListener<T> listener) {
+        return ActionListener.wrap(response -> {
+            ActionListener<MLMcpServerCacheInvalidateNodesResponse> invalidateListener = ActionListener.wrap(r -> {
+                if (r != null && r.hasFailures()) {
+                    log.warn("Failed to invalidate MCP server on some nodes: {}", r.failures());
+                }
+            }, e -> log.warn("Failed to invalidate MCP server", e));
+            client
+                .execute(
+                    MLMcpServerCacheInvalidateAction.INSTANCE,
+                    new MLMcpServerCacheInvalidateNodesRequest(),
+                    ActionListener.runAfter(invalidateListener, () -> listener.onResponse(response))
+                );
+        }, listener::onFailure);
+    }
+
+    @Override
+    protected MLMcpServerCacheInvalidateNodesResponse newResponse(
+        MLMcpServerCacheInvalidateNodesRequest nodesRequest,
+        List<MLMcpServerCacheInvalidateNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLMcpServerCacheInvalidateNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLMcpServerCacheInvalidateNodeRequest newNodeRequest(MLMcpServerCacheInvalidateNodesRequest request) {
+        return new MLMcpServerCacheInvalidateNodeRequest(request);
+    }
+
+    @Override
+    protected MLMcpServerCacheInvalidateNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLMcpServerCacheInvalidateNodeResponse(in);
+    }
+
+    @Override
+    protected MLMcpServerCacheInvalidateNodeResponse nodeOperation(MLMcpServerCacheInvalidateNodeRequest request) {
+        mcpServerHolder.invalidate();
+        log.debug("Invalidated MCP server");
+        return new MLMcpServerCacheInvalidateNodeResponse(clusterService.localNode());
+    }
+}
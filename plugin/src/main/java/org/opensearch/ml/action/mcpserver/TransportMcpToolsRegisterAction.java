@@ -208,7 +208,7 @@ public class TransportMcpToolsRegisterAction extends HandledTransportAction<Acti
                 indexRequest.source(source);
                 bulkRequest.add(indexRequest);
             }
-            client.bulk(bulkRequest, indexResultListener);
+            client.bulk(bulkRequest, TransportMcpServerCacheInvalidateAction.invalidateMcpServersBefore(client, indexResultListener));
         } catch (Exception e) {
             log.error("Failed to register mcp tools", e);
             listener.onFailure(e);
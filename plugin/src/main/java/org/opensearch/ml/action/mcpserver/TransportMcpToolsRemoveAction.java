@@ -166,7 +166,7 @@ public class TransportMcpToolsRemoveAction extends HandledTransportAction<Action
                 DeleteRequest deleteRequest = new DeleteRequest(MLIndex.MCP_TOOLS.getIndexName(), name);
                 bulkRequest.add(deleteRequest);
             }
-            client.bulk(bulkRequest, bulkResultListener);
+            client.bulk(bulkRequest, TransportMcpServerCacheInvalidateAction.invalidateMcpServersBefore(client, bulkResultListener));
         } catch (Exception e) {
             log.error("Failed to remove mcp tools", e);
             listener.onFailure(e);
@@ -233,7 +233,7 @@ public class TransportMcpToolsUpdateAction extends HandledTransportAction<Action
                 bulkRequest.add(updateRequest);
             }
             bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-            client.bulk(bulkRequest, updateResultListener);
+            client.bulk(bulkRequest, TransportMcpServerCacheInvalidateAction.invalidateMcpServersBefore(client, updateResultListener));
         } catch (Exception e) {
             log.error("Failed to update mcp tools", e);
             listener.onFailure(e);
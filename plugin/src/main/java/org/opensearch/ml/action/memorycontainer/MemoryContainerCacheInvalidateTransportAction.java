@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.memorycontainer;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerCacheInvalidateAction;
+import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerCacheInvalidateNodeRequest;
+import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerCacheInvalidateNodesResponse;
+import org.opensearch.ml.helper.MemoryContainerCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Drops an updated or deleted memory container from the memory container cache of every node.
+ */
+@Log4j2
+public class MemoryContainerCacheInvalidateTransportAction extends
+    TransportNodesAction<MLMemoryContainerCacheInvalidateNodesRequest, MLMemoryContainerCacheInvalidateNodesResponse, MLMemoryContainerCacheInvalidateNodeRequest, MLMemoryContainerCacheInvalidateNodeResponse> {
+
+    private final ClusterService clusterService;
+    private final MemoryContainerCache memoryContainerCache;
+
+    @Inject
+    public MemoryContainerCacheInvalidateTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        MemoryContainerCache memoryContainerCache
+    ) {
+        super(
+            MLMemoryContainerCacheInvalidateAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLMemoryContainerCacheInvalidateNodesRequest::new,
+            MLMemoryContainerCacheInvalidateNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLMemoryContainerCacheInvalidateNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.memoryContainerCache = memoryContainerCache;
+    }
+
+    /**
+     * Broadcast the invalidation of a memory container to all nodes. The broadcast is sent from a stashed system context, so it
+     * does not depend on the permissions of the caller. Failures are logged only, nodes which missed the invalidation use the old
+     * memory container until the cache TTL.
+     * @param client client
+     * @param memoryContainerId updated or deleted memory container
+     */
+    public static void invalidateMemoryContainerCache(Client client, String memoryContainerId) {
+        MLMemoryContainerCacheInvalidateNodesRequest request = new MLMemoryContainerCacheInvalidateNodesRequest(
+            new String[0],
+            memoryContainerId
+        );
+        ActionListener<MLMemoryContainerCacheInvalidateNodesResponse> listener = ActionListener.wrap(r -> {
+            if (r != null && r.hasFailures()) {
+                log
+                    .warn(
+                        "Failed to invalidate memory container {} in memory container cache on some nodes: {}",
+                        memoryContainerId,
+                        r.failures()
+                    );
+            }
+        }, e -> log.warn("Failed to invalidate memory container {} in memory container cache", memoryContainerId, e));
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.execute(MLMemoryContainerCacheInvalidateAction.INSTANCE, request, ActionListener.runBefore(listener, context::restore));
+        }
+    }
+
+    @Override
+    protected MLMemoryContainerCacheInvalidateNodesResponse newResponse(
+        MLMemoryContainerCacheInvalidateNodesRequest nodesRequest,
+        List<MLMemoryContainerCacheInvalidateNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLMemoryContainerCacheInvalidateNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLMemoryContainerCacheInvalidateNodeRequest newNodeRequest(MLMemoryContainerCacheInvalidateNodesRequest request) {
+        return new MLMemoryContainerCacheInvalidateNodeRequest(request);
+    }
+
+    @Override
+    protected MLMemoryContainerCacheInvalidateNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLMemoryContainerCacheInvalidateNodeResponse(in);
+    }
+
+    @Override
+    protected MLMemoryContainerCacheInvalidateNodeResponse nodeOperation(MLMemoryContainerCacheInvalidateNodeRequest request) {
+        MLMemoryContainerCacheInvalidateNodesRequest nodesRequest = request.getInvalidateNodesRequest();
+        memoryContainerCache.invalidate(nodesRequest.getMemoryContainerId());
+        log.debug("Invalidated memory container {} in memory container cache", nodesRequest.getMemoryContainerId());
+        return new MLMemoryContainerCacheInvalidateNodeResponse(clusterService.localNode());
+    }
+}
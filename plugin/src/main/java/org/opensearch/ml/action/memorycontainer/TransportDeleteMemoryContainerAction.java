@@ -220,6 +220,7 @@ public class TransportDeleteMemoryContainerAction extends HandledTransportAction
         } else {
             try {
                 DeleteResponse deleteResponse = response.deleteResponse();
+                MemoryContainerCacheInvalidateTransportAction.invalidateMemoryContainerCache(client, memoryContainerId);
                 log
                     .info(
                         "Delete memory container - Event: CONTAINER_DELETED, Container ID: {}, User: {}, Timestamp: {}",
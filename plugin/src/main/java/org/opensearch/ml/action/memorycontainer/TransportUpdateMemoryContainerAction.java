@@ -304,7 +304,12 @@ public class TransportUpdateMemoryContainerAction extends HandledTransportAction
         UpdateRequest updateRequest = new UpdateRequest(indexName, memoryContainerId).doc(updateFields);
 
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-            client.update(updateRequest, ActionListener.runBefore(listener, context::restore));
+            ActionListener<UpdateResponse> restoringListener = ActionListener.runBefore(listener, context::restore);
+            client.update(updateRequest, ActionListener.wrap(r -> {
+                // invalidate from the system context, before the caller's context is restored
+                MemoryContainerCacheInvalidateTransportAction.invalidateMemoryContainerCache(client, memoryContainerId);
+                restoringListener.onResponse(r);
+            }, restoringListener::onFailure));
         } catch (Exception e) {
             log.error("Failed to update memory container {}", memoryContainerId, e);
             listener.onFailure(new OpenSearchStatusException("Internal server error", RestStatus.INTERNAL_SERVER_ERROR));
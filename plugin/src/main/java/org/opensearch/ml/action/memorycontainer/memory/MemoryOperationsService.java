@@ -30,7 +30,6 @@ import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
-import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
@@ -154,7 +153,7 @@ public class MemoryOperationsService {
             }
         }
 
-        BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        BulkRequest bulkRequest = new BulkRequest();
 
         for (IndexRequest request : addRequests) {
             bulkRequest.add(request);
@@ -171,7 +170,7 @@ public class MemoryOperationsService {
             listener.onResponse(results);
             return;
         }
-        bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        bulkRequest.setRefreshPolicy(memoryConfig.getWriteRefreshPolicy());
 
         ActionListener<BulkResponse> bulkResponseActionListener = ActionListener.wrap(bulkResponse -> {
             if (bulkResponse.hasFailures()) {
@@ -195,7 +194,7 @@ public class MemoryOperationsService {
                 return;
             }
 
-            BulkRequest bulkHistoryRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+            BulkRequest bulkHistoryRequest = new BulkRequest();
             for (MemoryResult memoryResult : results) {
                 bulkHistoryRequest
                     .add(
@@ -203,7 +202,7 @@ public class MemoryOperationsService {
                             .source(createMemoryHistory(memoryResult, namespace, input, input.getMemoryContainerId()))
                     );
             }
-            bulkHistoryRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+            bulkHistoryRequest.setRefreshPolicy(memoryConfig.getWriteRefreshPolicy());
             ActionListener<BulkResponse> bulkHistoryResponseListener = ActionListener.wrap(bulkHistoryResponse -> {
                 if (bulkHistoryResponse.hasFailures()) {
                     log.error("Bulk memory history operations had failures: {}", bulkHistoryResponse.buildFailureMessage());
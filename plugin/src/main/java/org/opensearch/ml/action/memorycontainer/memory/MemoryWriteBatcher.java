@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.memorycontainer.memory;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_MAX_BATCH_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_WINDOW_MS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.memorycontainer.MemoryConfiguration;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Group commit of agentic memory writes. Memory containers created with group_commit buffer their memory writes for a short window
+ * and write them with one bulk request that waits for the next refresh, instead of forcing a refresh of the memory index per write.
+ * A write is acknowledged only once the bulk containing it is searchable, so callers still read their own writes.
+ * <p>
+ * Only containers using system indices are batched: their writes run in the stashed system context, while writes to user owned
+ * indices run with the permissions of the calling user and can't share a bulk request with writes of other users.
+ */
+@Log4j2
+public class MemoryWriteBatcher {
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final TimeValue window;
+    private final int maxBatchSize;
+    private final Map<String, Batch> batches = new HashMap<>();
+
+    public MemoryWriteBatcher(Client client, ThreadPool threadPool, Settings settings) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.window = TimeValue.timeValueMillis(ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_WINDOW_MS.get(settings));
+        this.maxBatchSize = ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_MAX_BATCH_SIZE.get(settings);
+    }
+
+    /**
+     * Check if the memory writes of a container are batched.
+     * @param configuration memory container configuration
+     * @return true if writes should go through {@link #indexData(MemoryConfiguration, IndexRequest, ActionListener)}
+     */
+    public boolean isBatched(MemoryConfiguration configuration) {
+        return configuration != null && configuration.isGroupCommit() && configuration.isUseSystemIndex();
+    }
+
+    /**
+     * Buffer a memory write of a group commit container.
+     * @param configuration memory container configuration
+     * @param indexRequest index request, its refresh policy is replaced by the one of the shared bulk request
+     * @param listener listener, called with the thread context of the caller once the write is searchable
+     */
+    public void indexData(MemoryConfiguration configuration, IndexRequest indexRequest, ActionListener<IndexResponse> listener) {
+        // bulk items can't carry their own refresh policy
+        indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.NONE);
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        ActionListener<IndexResponse> contextPreservingListener = new ContextPreservingActionListener<>(
+            threadContext.newRestorableContext(false),
+            listener
+        );
+        String key = Objects.toString(configuration.getTenantId(), "") + ":" + configuration.getFinalMemoryIndexPrefix();
+        Batch batch;
+        boolean full;
+        synchronized (batches) {
+            batch = batches.computeIfAbsent(key, k -> new Batch());
+            batch.add(indexRequest, contextPreservingListener);
+            full = batch.size() >= maxBatchSize;
+            if (full) {
+                batches.remove(key);
+            }
+        }
+        if (full) {
+            flush(batch);
+        } else if (batch.size() == 1) {
+            scheduleFlush(key, batch);
+        }
+    }
+
+    private void scheduleFlush(String key, Batch batch) {
+        Runnable flush = () -> {
+            synchronized (batches) {
+                // the batch was written already if it filled up within the window
+                if (!batches.remove(key, batch)) {
+                    return;
+                }
+            }
+            flush(batch);
+        };
+        try {
+            threadPool.schedule(flush, window, ThreadPool.Names.GENERIC);
+        } catch (Exception e) {
+            log.debug("Could not schedule memory write flush, writing now: {}", e.getMessage());
+            flush.run();
+        }
+    }
+
+    private void flush(Batch batch) {
+        List<ActionListener<IndexResponse>> listeners = batch.getListeners();
+        BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+        batch.getRequests().forEach(bulkRequest::add);
+        log.debug("Writing {} buffered memory writes", listeners.size());
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.bulk(bulkRequest, ActionListener.runBefore(new ActionListener<BulkResponse>() {
+                @Override
+                public void onResponse(BulkResponse bulkResponse) {
+                    BulkItemResponse[] items = bulkResponse.getItems();
+                    for (int i = 0; i < listeners.size(); i++) {
+                        BulkItemResponse item = i < items.length ? items[i] : null;
+                        if (item == null) {
+                            notifyFailure(listeners.get(i), new IllegalStateException("Missing bulk item response of memory write"));
+                        } else if (item.isFailed()) {
+                            notifyFailure(listeners.get(i), item.getFailure().getCause());
+                        } else {
+                            notifyResponse(listeners.get(i), item.getResponse());
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Failed to write {} buffered memory writes", listeners.size(), e);
+                    listeners.forEach(listener -> notifyFailure(listener, e));
+                }
+            }, context::restore));
+        }
+    }
+
+    // the listeners belong to independent requests, one failing listener must not affect the others
+    private static void notifyResponse(ActionListener<IndexResponse> listener, IndexResponse response) {
+        try {
+            listener.onResponse(response);
+        } catch (Exception e) {
+            log.error("Failed to handle memory write response", e);
+        }
+    }
+
+    private static void notifyFailure(ActionListener<IndexResponse> listener, Exception failure) {
+        try {
+            listener.onFailure(failure);
+        } catch (Exception e) {
+            log.error("Failed to handle memory write failure", e);
+        }
+    }
+
+    private static class Batch {
+        private final List<IndexRequest> requests = new ArrayList<>();
+        private final List<ActionListener<IndexResponse>> listeners = new ArrayList<>();
+
+        void add(IndexRequest request, ActionListener<IndexResponse> listener) {
+            requests.add(request);
+            listeners.add(listener);
+        }
+
+        int size() {
+            return requests.size();
+        }
+
+        List<IndexRequest> getRequests() {
+            return requests;
+        }
+
+        List<ActionListener<IndexResponse>> getListeners() {
+            return listeners;
+        }
+    }
+}
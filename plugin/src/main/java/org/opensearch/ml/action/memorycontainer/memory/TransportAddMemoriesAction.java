@@ -31,7 +31,6 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
-import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.xcontent.XContentFactory;
@@ -83,6 +82,7 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
     final MemorySearchService memorySearchService;
     final MemoryOperationsService memoryOperationsService;
     final ThreadPool threadPool;
+    final MemoryWriteBatcher memoryWriteBatcher;
 
     @Inject
     public TransportAddMemoriesAction(
@@ -93,7 +93,8 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
         NamedXContentRegistry xContentRegistry,
         MLFeatureEnabledSetting mlFeatureEnabledSetting,
         MemoryContainerHelper memoryContainerHelper,
-        ThreadPool threadPool
+        ThreadPool threadPool,
+        MemoryWriteBatcher memoryWriteBatcher
     ) {
         super(MLAddMemoriesAction.NAME, transportService, actionFilters, MLAddMemoriesRequest::new);
         this.client = client;
@@ -105,6 +106,7 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
         this.memorySearchService = new MemorySearchService(memoryContainerHelper);
         this.memoryOperationsService = new MemoryOperationsService(memoryContainerHelper);
         this.threadPool = threadPool;
+        this.memoryWriteBatcher = memoryWriteBatcher;
     }
 
     @Override
@@ -195,7 +197,6 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
                     sessionSource.put(CREATED_TIME_FIELD, now.toEpochMilli());
                     sessionSource.put(LAST_UPDATED_TIME_FIELD, now.toEpochMilli());
                     indexRequest.source(sessionSource);
-                    indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
                     ActionListener<IndexResponse> responseActionListener = ActionListener.<IndexResponse>wrap(r -> {
                         input.getNamespace().put(SESSION_ID_FIELD, r.getId());
                         processAndIndexMemory(input, container, user, actionListener, true);
@@ -203,7 +204,7 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
                         log.error("Failed to index session data", e);
                         actionListener.onFailure(RestActionUtils.wrapAsStatusException(e));
                     });
-                    memoryContainerHelper.indexData(configuration, indexRequest, responseActionListener);
+                    indexMemoryData(configuration, indexRequest, responseActionListener);
                 }, exception -> {
                     // Preserve client errors (4XX) with their detailed messages
                     if (exception instanceof OpenSearchException) {
@@ -353,13 +354,23 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
                     });
                 }
             }, actionListener::onFailure);
-            memoryContainerHelper.indexData(memoryConfig, indexRequest, responseActionListener);
+            indexMemoryData(memoryConfig, indexRequest, responseActionListener);
         } catch (Exception e) {
             log.error("Failed to add memory", e);
             actionListener.onFailure(new OpenSearchStatusException("Internal server error", RestStatus.INTERNAL_SERVER_ERROR));
         }
     }
 
+    // Group commit containers buffer writes into a shared bulk request, other containers refresh on every write
+    private void indexMemoryData(MemoryConfiguration configuration, IndexRequest indexRequest, ActionListener<IndexResponse> listener) {
+        if (memoryWriteBatcher.isBatched(configuration)) {
+            memoryWriteBatcher.indexData(configuration, indexRequest, listener);
+            return;
+        }
+        indexRequest.setRefreshPolicy(configuration.getWriteRefreshPolicy());
+        memoryContainerHelper.indexData(configuration, indexRequest, listener);
+    }
+
     private IndexRequest createWorkingMemoryRequest(String workingMemoryIndex, MLAddMemoriesInput mlAddMemoriesInput) {
         IndexRequest indexRequest = new IndexRequest(workingMemoryIndex);
 
@@ -378,7 +389,6 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
             } else {
                 indexRequest.source(builder);
             }
-            indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
             return indexRequest;
         } catch (IOException e) {
             log.error("Failed to build index request source", e);
@@ -73,6 +73,8 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
+import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheAction;
+import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesRequest;
 import org.opensearch.ml.engine.utils.AgentModelsSearcher;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.utils.RestActionUtils;
@@ -344,6 +346,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
             if (throwable == null) {
                 try {
                     DeleteResponse deleteResponse = r.deleteResponse();
+                    invalidateTrainedModelCache(modelId);
                     deleteModelChunksAndController(actionListener, modelId, functionName, isHidden, deleteResponse);
                 } catch (Exception e) {
                     actionListener.onFailure(e);
@@ -360,6 +363,28 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         });
     }
 
+    /**
+     * Models trained by built-in algorithms can be predicted without deployment and are then cached on the nodes serving the
+     * predict requests, so broadcast every deletion to drop the model from these caches.
+     */
+    private void invalidateTrainedModelCache(String modelId) {
+        try {
+            MLUpdateModelCacheNodesRequest invalidateRequest = new MLUpdateModelCacheNodesRequest(new String[0], modelId);
+            client
+                .execute(
+                    MLUpdateModelCacheAction.INSTANCE,
+                    invalidateRequest,
+                    ActionListener
+                        .wrap(
+                            r -> log.debug("Invalidated trained model cache for deleted model {}", modelId),
+                            e -> log.warn("Failed to invalidate trained model cache for deleted model {}", modelId, e)
+                        )
+                );
+        } catch (Exception e) {
+            log.warn("Failed to invalidate trained model cache for deleted model {}", modelId, e);
+        }
+    }
+
     private void checkDownstreamTaskBeforeDeleteModel(
         String modelId,
         String tenantId,
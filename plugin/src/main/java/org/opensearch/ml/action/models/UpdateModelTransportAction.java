@@ -284,7 +284,7 @@ public class UpdateModelTransportAction extends HandledTransportAction<ActionReq
         MLUpdateModelInput updateModelInput,
         MLModel mlModel,
         User user,
-        ActionListener<UpdateResponse> wrappedListener
+        ActionListener<UpdateResponse> listener
     ) throws IOException {
         String newModelGroupId = (Strings.hasLength(updateModelInput.getModelGroupId())
             && !Objects.equals(updateModelInput.getModelGroupId(), mlModel.getModelGroupId())) ? updateModelInput.getModelGroupId() : null;
@@ -306,6 +306,11 @@ public class UpdateModelTransportAction extends HandledTransportAction<ActionReq
         }
         // This flag is used to decide if we need to update the model cache
         boolean isUpdateModelCache = isPredictorUpdate && isModelDeployed;
+        // Models predicted without deployment may be held in the trained model cache of any node, so every update of such a
+        // model drops it from these caches. For deployed models the model cache update drops it.
+        ActionListener<UpdateResponse> wrappedListener = isModelDeployed
+            ? listener
+            : invalidateTrainedModelCacheOnUpdate(modelId, listener);
         if (mlModel.getAlgorithm() == TEXT_EMBEDDING) {
             if (newConnectorId == null && updateModelInput.getConnector() == null) {
                 updateModelWithRegisteringToAnotherModelGroup(
@@ -693,6 +698,25 @@ public class UpdateModelTransportAction extends HandledTransportAction<ActionReq
         });
     }
 
+    private ActionListener<UpdateResponse> invalidateTrainedModelCacheOnUpdate(String modelId, ActionListener<UpdateResponse> listener) {
+        return ActionListener.wrap(updateResponse -> {
+            if (updateResponse != null && updateResponse.getResult() == DocWriteResponse.Result.UPDATED) {
+                MLUpdateModelCacheNodesRequest invalidateRequest = new MLUpdateModelCacheNodesRequest(getAllNodes(), modelId);
+                client
+                    .execute(
+                        MLUpdateModelCacheAction.INSTANCE,
+                        invalidateRequest,
+                        ActionListener
+                            .wrap(
+                                r -> log.debug("Invalidated trained model cache for updated model {}", modelId),
+                                e -> log.warn("Failed to invalidate trained model cache for updated model {}", modelId, e)
+                            )
+                    );
+            }
+            listener.onResponse(updateResponse);
+        }, listener::onFailure);
+    }
+
     private String incrementLatestVersion(Map<String, Object> modelGroupSourceMap) {
         return Integer.toString((int) modelGroupSourceMap.get(MLModelGroup.LATEST_VERSION_FIELD) + 1);
     }
@@ -225,7 +225,6 @@ public class TransportSyncUpOnNodeAction extends
                         null,
                         ImmutableMap
                             .of(MLTask.STATE_FIELD, MLTaskState.FAILED, MLTask.ERROR_FIELD, "timeout after " + mlTaskTimeout + " seconds"),
-                        10_000,
                         true
                     );
             }
@@ -112,6 +112,13 @@ public class UpdateModelCacheTransportAction extends
 
         String localNodeId = clusterService.localNode().getId();
 
+        // Models predicted without deployment are only held in the trained model cache, there is nothing else to refresh.
+        mlModelManager.invalidateTrainedModel(modelId);
+        if (!mlModelManager.isModelRunningOnNode(modelId)) {
+            modelUpdateStatus.put(modelId, "invalidated");
+            return new MLUpdateModelCacheNodeResponse(clusterService.localNode(), modelUpdateStatus);
+        }
+
         mlModelManager.updateModelCache(modelId, ActionListener.wrap(r -> {
             log.info("Successfully performing in-place update model {} on node {}", modelId, localNodeId);
         }, e -> { log.error("Failed to perform in-place update model for model {} on node {}", modelId, localNodeId); }));
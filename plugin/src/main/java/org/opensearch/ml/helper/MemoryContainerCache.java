@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.helper;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_CONTAINER_CACHE_MAX_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_CONTAINER_CACHE_TTL_SECONDS;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.memorycontainer.MLMemoryContainer;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node-local cache of parsed memory containers, so memory operations don't read and parse the memory container document
+ * before doing their actual work.
+ * <p>
+ * Entries are keyed by memory container id only, because memory operations read containers with and without tenant id; a
+ * read with a tenant id is served only by an entry of the same tenant.
+ * <p>
+ * Memory container update and delete broadcast an invalidation to all nodes. A container read from the index while an
+ * invalidation happens is not cached, see {@link #getVersion()}, and the TTL bounds how long a node that missed the
+ * invalidation uses a stale container. Callers get their own copy of the cached container and may modify it.
+ */
+@Log4j2
+public class MemoryContainerCache {
+
+    private final Cache<String, Entry> containers;
+    private final boolean enabled;
+    // bumped on every invalidation, containers read before an invalidation are not cached
+    private final AtomicLong version = new AtomicLong();
+
+    public MemoryContainerCache(Settings settings) {
+        int maxSize = ML_COMMONS_MEMORY_CONTAINER_CACHE_MAX_SIZE.get(settings);
+        this.enabled = maxSize > 0;
+        this.containers = CacheBuilder
+            .newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ML_COMMONS_MEMORY_CONTAINER_CACHE_TTL_SECONDS.get(settings), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Get a copy of a cached memory container.
+     * @param tenantId tenant id
+     * @param memoryContainerId memory container id
+     * @return copy of the cached memory container, null if the container is not cached
+     */
+    public MLMemoryContainer get(String tenantId, String memoryContainerId) {
+        if (!enabled || memoryContainerId == null) {
+            return null;
+        }
+        Entry entry = containers.getIfPresent(memoryContainerId);
+        if (entry == null || (tenantId != null && !tenantId.equals(entry.getTenantId()))) {
+            return null;
+        }
+        return copy(entry.getContainer());
+    }
+
+    /**
+     * Version of the cache to pass to {@link #put(String, String, MLMemoryContainer, long)}, read before the container is read
+     * from the index.
+     * @return current version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Cache a memory container read from the index.
+     * @param tenantId tenant id the container was read with
+     * @param memoryContainerId memory container id
+     * @param container parsed memory container, a copy is cached so the caller may keep modifying it
+     * @param readVersion cache version read before the container was read from the index
+     */
+    public void put(String tenantId, String memoryContainerId, MLMemoryContainer container, long readVersion) {
+        if (!enabled || memoryContainerId == null || container == null) {
+            return;
+        }
+        containers.put(memoryContainerId, new Entry(tenantId != null ? tenantId : container.getTenantId(), copy(container)));
+        // the container may have been updated after it was read, drop it rather than use the old version until the TTL
+        if (version.get() != readVersion) {
+            containers.invalidate(memoryContainerId);
+            return;
+        }
+        log.debug("Cached memory container {}", memoryContainerId);
+    }
+
+    /**
+     * Remove memory container from cache.
+     * @param memoryContainerId memory container id
+     */
+    public void invalidate(String memoryContainerId) {
+        if (memoryContainerId == null) {
+            return;
+        }
+        version.incrementAndGet();
+        containers.invalidate(memoryContainerId);
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        containers.invalidateAll();
+    }
+
+    public long size() {
+        return containers.size();
+    }
+
+    public CacheStats stats() {
+        return containers.stats();
+    }
+
+    private static MLMemoryContainer copy(MLMemoryContainer container) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            container.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                return new MLMemoryContainer(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to copy memory container", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Entry {
+        private final String tenantId;
+        private final MLMemoryContainer container;
+    }
+}
@@ -111,13 +111,26 @@ public class MemoryContainerHelper {
     SdkClient sdkClient;
     NamedXContentRegistry xContentRegistry;
     MLModelManager modelManager;
+    // null if memory containers are always read from the index
+    MemoryContainerCache memoryContainerCache;
 
-    @Inject
     public MemoryContainerHelper(Client client, SdkClient sdkClient, NamedXContentRegistry xContentRegistry, MLModelManager modelManager) {
+        this(client, sdkClient, xContentRegistry, modelManager, null);
+    }
+
+    @Inject
+    public MemoryContainerHelper(
+        Client client,
+        SdkClient sdkClient,
+        NamedXContentRegistry xContentRegistry,
+        MLModelManager modelManager,
+        MemoryContainerCache memoryContainerCache
+    ) {
         this.client = client;
         this.sdkClient = sdkClient;
         this.xContentRegistry = xContentRegistry;
         this.modelManager = modelManager;
+        this.memoryContainerCache = memoryContainerCache;
     }
 
     /**
@@ -138,6 +151,15 @@ public class MemoryContainerHelper {
      * @param listener action listener for the result
      */
     public void getMemoryContainer(String memoryContainerId, String tenantId, ActionListener<MLMemoryContainer> listener) {
+        if (memoryContainerCache != null) {
+            MLMemoryContainer cachedContainer = memoryContainerCache.get(tenantId, memoryContainerId);
+            if (cachedContainer != null) {
+                log.debug("Using cached memory container with ID: {} for tenant: {}", memoryContainerId, tenantId);
+                listener.onResponse(cachedContainer);
+                return;
+            }
+        }
+        long cacheVersion = memoryContainerCache != null ? memoryContainerCache.getVersion() : 0;
         log.debug("Fetching memory container with ID: {} for tenant: {}", memoryContainerId, tenantId);
         FetchSourceContext fetchSourceContext = new FetchSourceContext(true, Strings.EMPTY_ARRAY, Strings.EMPTY_ARRAY);
         GetDataObjectRequest.Builder requestBuilder = GetDataObjectRequest
@@ -172,6 +194,9 @@ public class MemoryContainerHelper {
                             ) {
                                 ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
                                 MLMemoryContainer container = MLMemoryContainer.parse(parser);
+                                if (memoryContainerCache != null) {
+                                    memoryContainerCache.put(tenantId, memoryContainerId, container, cacheVersion);
+                                }
                                 wrappedListener.onResponse(container);
                             }
                         } else {
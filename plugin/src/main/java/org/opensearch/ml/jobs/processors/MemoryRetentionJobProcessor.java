@@ -25,8 +25,11 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEM
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_ORPHAN_TTL_DAYS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_WORKING_MEMORY_TTL_DAYS;
 
 import java.util.ArrayList;
@@ -70,6 +73,7 @@ import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.reindex.AbstractBulkByScrollRequest;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
@@ -77,6 +81,7 @@ import org.opensearch.jobscheduler.spi.JobExecutionContext;
 import org.opensearch.jobscheduler.spi.LockModel;
 import org.opensearch.jobscheduler.spi.ScheduledJobParameter;
 import org.opensearch.jobscheduler.spi.utils.LockService;
+import org.opensearch.ml.action.memorycontainer.MemoryContainerCacheInvalidateTransportAction;
 import org.opensearch.ml.common.memorycontainer.MemoryConfiguration;
 import org.opensearch.ml.common.memorycontainer.MemoryType;
 import org.opensearch.ml.common.memorycontainer.RetentionRule;
@@ -95,6 +100,7 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
 import org.opensearch.transport.client.Client;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -244,6 +250,12 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
      */
     private volatile boolean lockLost = false;
 
+    /** Counters of the in-progress run, or null when idle. Logged and kept in {@link #lastRunMetrics} by {@link #finishRun()}. */
+    private final AtomicReference<RunMetrics> runMetrics = new AtomicReference<>();
+
+    /** Counters of the last finished run, or null if no run finished since node start. */
+    private volatile RunMetrics lastRunMetrics;
+
     public static MemoryRetentionJobProcessor getInstance(ClusterService clusterService, Client client, ThreadPool threadPool) {
         if (instance != null) {
             return instance;
@@ -444,6 +456,7 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
     private void kickOffPipeline(ActionListener<TriggerStatus> listener) {
         try {
             log.info("Memory retention job started");
+            runMetrics.set(new RunMetrics());
             resolveContainersWithPolicies(null);
             listener.onResponse(TriggerStatus.TRIGGERED);
         } catch (Exception e) {
@@ -559,6 +572,19 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
         if (renewal != null) {
             renewal.cancel();
         }
+        RunMetrics metrics = runMetrics.getAndSet(null);
+        if (metrics != null) {
+            metrics.elapsedMillis = System.currentTimeMillis() - metrics.startMillis;
+            lastRunMetrics = metrics;
+            log
+                .info(
+                    "[MemoryRetentionJob] run finished: containers_processed={}, sessions_deleted={}, docs_deleted={}, elapsed_ms={}",
+                    metrics.containersProcessed.get(),
+                    metrics.sessionsDeleted.get(),
+                    metrics.docsDeleted.get(),
+                    metrics.elapsedMillis
+                );
+        }
         LockModel lock = currentLock.getAndSet(null);
         LockService ls = lockService;
         if (lockLost) {
@@ -614,7 +640,7 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
         // - Initial kickoff (searchAfterValues == null, called only from kickOffPipeline): after tearing down
         // we RETHROW so kickOffPipeline reports the failure to the trigger listener and the on-demand
         // transport surfaces HTTP 500 (the pipeline never actually started).
-        // - Pagination continuation (searchAfterValues != null, re-entered from processContainerChain inside a
+        // - Pagination continuation (searchAfterValues != null, re-entered from a ContainerPage inside a
         // container's ActionListener): we must NOT rethrow. That callback's onFailure retries the chain, so a
         // rethrow would loop; the run has genuinely started, so we simply tear down and stop. finishRun() is
         // idempotent.
@@ -647,11 +673,10 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
                         return;
                     }
 
-                    processContainerChain(
+                    new ContainerPage(
                         hitArray,
-                        0,
                         hitArray.length == CONTAINER_PAGE_SIZE ? hitArray[hitArray.length - 1].getSortValues() : null
-                    );
+                    ).start();
                 }, e -> {
                     log.error("Failed to search for containers with retention policies", e);
                     finishRun();
@@ -666,50 +691,128 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
         }
     }
 
-    private void processContainerChain(SearchHit[] hits, int index, Object[] nextPageSortValues) {
-        if (index >= hits.length) {
+    /**
+     * Processes one page of containers with up to {@code retention_job_container_concurrency} containers in flight. Each lane
+     * moves on to the next unprocessed container of the page when its container finishes, after the throttle delay if the
+     * container had deletions or the local write thread pool is backlogged. Once every container of the page is done the
+     * next page is fetched, or the orphan sweep starts after the last page.
+     */
+    private final class ContainerPage {
+        private final SearchHit[] hits;
+        private final Object[] nextPageSortValues;
+        private final AtomicInteger nextIndex = new AtomicInteger(0);
+        private final AtomicInteger remaining;
+        // set once follow-up work could not be dispatched and the run was torn down; in-flight lanes then stop
+        private final AtomicBoolean aborted = new AtomicBoolean(false);
+
+        ContainerPage(SearchHit[] hits, Object[] nextPageSortValues) {
+            this.hits = hits;
+            this.nextPageSortValues = nextPageSortValues;
+            this.remaining = new AtomicInteger(hits.length);
+        }
+
+        void start() {
+            int concurrency = clusterService.getClusterSettings().get(ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY);
+            int lanes = Math.min(hits.length, concurrency);
+            for (int i = 0; i < lanes; i++) {
+                processNext();
+            }
+        }
+
+        private void processNext() {
+            if (aborted.get()) {
+                return;
+            }
+            int index = nextIndex.getAndIncrement();
+            if (index >= hits.length) {
+                return;
+            }
+            // processContainer may complete its listener more than once if a continuation throws inside it
+            AtomicBoolean completed = new AtomicBoolean(false);
+            ActionListener<Boolean> listener = ActionListener.wrap(hadDeletions -> onContainerDone(completed, hadDeletions), e -> {
+                log.error("Failed processing container [{}]", hits[index].getId(), e);
+                onContainerDone(completed, false);
+            });
+            try {
+                processContainer(hits[index], listener);
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+        }
+
+        private void onContainerDone(AtomicBoolean completed, boolean hadDeletions) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            RunMetrics metrics = runMetrics.get();
+            if (metrics != null) {
+                metrics.containersProcessed.incrementAndGet();
+            }
+            Runnable next = remaining.decrementAndGet() == 0 ? this::finishPage : this::processNext;
+            if (hadDeletions || isWriteQueueBacklogged()) {
+                scheduleThrottled(next);
+            } else {
+                runOrAbort(next);
+            }
+        }
+
+        private void finishPage() {
             if (nextPageSortValues != null) {
                 resolveContainersWithPolicies(nextPageSortValues);
             } else {
                 executeOrphanSweep();
             }
-            return;
         }
 
-        processContainer(hits[index], ActionListener.wrap(hadDeletions -> {
-            if (hadDeletions) {
-                scheduleNext(hits, index + 1, nextPageSortValues);
-            } else {
-                processContainerChain(hits, index + 1, nextPageSortValues);
+        private void scheduleThrottled(Runnable next) {
+            int throttleSeconds = clusterService.getClusterSettings().get(ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS);
+            try {
+                // The runnable executes later on the GENERIC pool, outside any ActionListener that would route a throw to
+                // onFailure, so a throw there (e.g. client.search rejecting work during node shutdown) would be swallowed by
+                // the executor and silently wedge retention with the lock-renewal task alive. runOrAbort tears the run down.
+                threadPool.schedule(() -> runOrAbort(next), TimeValue.timeValueSeconds(throttleSeconds), ThreadPool.Names.GENERIC);
+            } catch (Exception e) {
+                // Abandoning the run here: release the cluster-wide lock and per-node guard, don't just clear the flag.
+                log.error("Failed to schedule next container processing", e);
+                abort();
             }
-        }, e -> {
-            log.error("Failed processing container [{}]", hits[index].getId(), e);
-            processContainerChain(hits, index + 1, nextPageSortValues);
-        }));
+        }
+
+        private void runOrAbort(Runnable next) {
+            try {
+                next.run();
+            } catch (Throwable t) {
+                log.error("Unhandled error resuming container processing; releasing retention guard", t);
+                abort();
+            }
+        }
+
+        private void abort() {
+            if (aborted.compareAndSet(false, true)) {
+                finishRun();
+            }
+        }
     }
 
-    private void scheduleNext(SearchHit[] hits, int nextIndex, Object[] nextPageSortValues) {
-        int throttleSeconds = clusterService.getClusterSettings().get(ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS);
-        try {
-            threadPool.schedule(() -> {
-                // This runnable executes later on the GENERIC pool, outside any ActionListener that would route a
-                // throw to onFailure. It re-enters the driver (which may synchronously dispatch the next search),
-                // and if processContainerChain throws (e.g. client.search rejects work during node shutdown) the
-                // throw would be swallowed by the executor and the run's state would never reset, silently wedging
-                // retention AND leaving the lock-renewal task alive forever. Guarantee a full teardown on any
-                // unhandled failure.
-                try {
-                    processContainerChain(hits, nextIndex, nextPageSortValues);
-                } catch (Throwable t) {
-                    log.error("Unhandled error resuming container processing chain; releasing retention guard", t);
-                    finishRun();
-                }
-            }, TimeValue.timeValueSeconds(throttleSeconds), ThreadPool.Names.GENERIC);
-        } catch (Exception e) {
-            // Abandoning the run here: release the cluster-wide lock and per-node guard, don't just clear the flag.
-            log.error("Failed to schedule next container processing", e);
-            finishRun();
+    /**
+     * Whether the local write thread pool queue is above {@code retention_job_write_queue_threshold}, used to back off
+     * between containers while the node is busy indexing.
+     */
+    private boolean isWriteQueueBacklogged() {
+        int threshold = clusterService.getClusterSettings().get(ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD);
+        if (threshold < 0) {
+            return false;
+        }
+        ThreadPoolStats stats = threadPool.stats();
+        if (stats == null) {
+            return false;
+        }
+        for (ThreadPoolStats.Stats poolStats : stats) {
+            if (ThreadPool.Names.WRITE.equals(poolStats.getName())) {
+                return poolStats.getQueue() > threshold;
+            }
         }
+        return false;
     }
 
     private void processContainer(SearchHit hit, ActionListener<Boolean> listener) {
@@ -901,6 +1004,7 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
                         return;
                     }
                     log.debug("Successfully persisted default retention policy on container [{}]", containerId);
+                    MemoryContainerCacheInvalidateTransportAction.invalidateMemoryContainerCache(client, containerId);
                     listener.onResponse(true);
                 }, e -> {
                     if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
@@ -1265,13 +1369,34 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
         dbq.setRefresh(true);
 
         try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext().stashContext()) {
-            client.execute(DeleteByQueryAction.INSTANCE, dbq, ActionListener.wrap((BulkByScrollResponse bulkResponse) -> {
+            executeDeleteByQuery(dbq, ActionListener.wrap((BulkByScrollResponse bulkResponse) -> {
                 long deleted = bulkResponse.getDeleted();
                 cascadeDeleteBatch(config, workingMemoryIndex, containerId, batches, batchIndex + 1, totalDeleted + deleted, listener);
             }, listener::onFailure));
         }
     }
 
+    /**
+     * Runs a retention delete-by-query with the configured slicing and counts the deleted documents in the run metrics.
+     * Must be called with the thread context stashed.
+     */
+    private void executeDeleteByQuery(DeleteByQueryRequest dbq, ActionListener<BulkByScrollResponse> listener) {
+        int slices = clusterService.getClusterSettings().get(ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES);
+        dbq.setSlices(slices == 0 ? AbstractBulkByScrollRequest.AUTO_SLICES : slices);
+        client.execute(DeleteByQueryAction.INSTANCE, dbq, ActionListener.wrap(response -> {
+            recordDeleted(response == null ? 0 : response.getDeleted(), false);
+            listener.onResponse(response);
+        }, listener::onFailure));
+    }
+
+    private void recordDeleted(long count, boolean sessions) {
+        RunMetrics metrics = runMetrics.get();
+        if (metrics == null || count <= 0) {
+            return;
+        }
+        (sessions ? metrics.sessionsDeleted : metrics.docsDeleted).addAndGet(count);
+    }
+
     private void deleteSessionDocuments(
         MemoryConfiguration config,
         String sessionIndex,
@@ -1307,6 +1432,7 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
 
         try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext().stashContext()) {
             client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+                recordDeleted(Arrays.stream(bulkResponse.getItems()).filter(i -> !i.isFailed()).count(), true);
                 if (bulkResponse.hasFailures()) {
                     String failureMsg = bulkResponse.buildFailureMessage();
                     log
@@ -1385,7 +1511,7 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
         dbq.setRefresh(true);
 
         try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext().stashContext()) {
-            client.execute(DeleteByQueryAction.INSTANCE, dbq, ActionListener.wrap((BulkByScrollResponse response) -> {
+            executeDeleteByQuery(dbq, ActionListener.wrap((BulkByScrollResponse response) -> {
                 listener.onResponse(response.getDeleted());
             }, listener::onFailure));
         }
@@ -1600,6 +1726,7 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
         try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext().stashContext()) {
             client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
                 long batchDeleted = Arrays.stream(bulkResponse.getItems()).filter(i -> !i.isFailed()).count();
+                recordDeleted(batchDeleted, false);
                 if (bulkResponse.hasFailures()) {
                     String failureMsg = bulkResponse.buildFailureMessage();
                     log
@@ -1718,7 +1845,7 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
         dbq.setRefresh(true);
 
         try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext().stashContext()) {
-            client.execute(DeleteByQueryAction.INSTANCE, dbq, ActionListener.wrap((BulkByScrollResponse response) -> {
+            executeDeleteByQuery(dbq, ActionListener.wrap((BulkByScrollResponse response) -> {
                 log.info("[MemoryRetentionJob] container={} working_memory_ttl_deleted={}", containerId, response.getDeleted());
                 listener.onResponse(response.getDeleted() > 0);
             }, listener::onFailure));
@@ -1949,7 +2076,13 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
                         updateRequest,
                         ActionListener
                             .wrap(
-                                response -> log.debug("[MemoryRetentionJob] container={} orphan-sweep baseline recorded", containerId),
+                                response -> {
+                                    if (response.getResult() == DocWriteResponse.Result.NOOP) {
+                                        return;
+                                    }
+                                    log.debug("[MemoryRetentionJob] container={} orphan-sweep baseline recorded", containerId);
+                                    MemoryContainerCacheInvalidateTransportAction.invalidateMemoryContainerCache(client, containerId);
+                                },
                                 e -> {
                                     if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
                                         log.debug("[MemoryRetentionJob] container={} orphan-sweep baseline already set", containerId);
@@ -2340,7 +2473,7 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
         dbq.setRefresh(true);
 
         try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext().stashContext()) {
-            client.execute(DeleteByQueryAction.INSTANCE, dbq, ActionListener.wrap((BulkByScrollResponse bulkResponse) -> {
+            executeDeleteByQuery(dbq, ActionListener.wrap((BulkByScrollResponse bulkResponse) -> {
                 long deleted = bulkResponse.getDeleted();
                 deleteOrphanBatch(containerId, workingIndex, batches, batchIndex + 1, totalDeleted + deleted, listener);
             }, listener::onFailure));
@@ -2376,12 +2509,26 @@ public class MemoryRetentionJobProcessor extends MLJobProcessor {
         dbq.setRefresh(true);
 
         try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext().stashContext()) {
-            client.execute(DeleteByQueryAction.INSTANCE, dbq, ActionListener.wrap((BulkByScrollResponse response) -> {
+            executeDeleteByQuery(dbq, ActionListener.wrap((BulkByScrollResponse response) -> {
                 listener.onResponse(response.getDeleted());
             }, listener::onFailure));
         }
     }
 
+    /** Counters of one retention run, updated concurrently by the container lanes of {@link ContainerPage}. */
+    static final class RunMetrics {
+        final long startMillis = System.currentTimeMillis();
+        final AtomicLong containersProcessed = new AtomicLong();
+        final AtomicLong sessionsDeleted = new AtomicLong();
+        final AtomicLong docsDeleted = new AtomicLong();
+        volatile long elapsedMillis = -1;
+    }
+
+    @VisibleForTesting
+    RunMetrics getLastRunMetrics() {
+        return lastRunMetrics;
+    }
+
     // =====================================================================================================
     // DRY-RUN: preview exactly what the scheduled retention job WOULD delete, performing zero deletions.
     //
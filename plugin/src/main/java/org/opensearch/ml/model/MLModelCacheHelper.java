@@ -38,11 +38,13 @@ public class MLModelCacheHelper {
     private final Map<String, MLModelCache> modelCaches;
 
     private final Map<String, MLModel> autoDeployModels;
+    private final MLTrainedModelCache trainedModelCache;
     private volatile Long maxRequestCount;
 
     public MLModelCacheHelper(ClusterService clusterService, Settings settings) {
         this.modelCaches = new ConcurrentHashMap<>();
         this.autoDeployModels = new ConcurrentHashMap<>();
+        this.trainedModelCache = new MLTrainedModelCache(settings);
 
         maxRequestCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MONITORING_REQUEST_COUNT, it -> maxRequestCount = it);
@@ -476,6 +478,15 @@ public class MLModelCacheHelper {
         return modelCache.getPredictor();
     }
 
+    /**
+     * Get the cache of models trained by built-in algorithms which are predicted without deployment.
+     *
+     * @return trained model cache
+     */
+    public MLTrainedModelCache getTrainedModelCache() {
+        return trainedModelCache;
+    }
+
     /**
      * Set target worker nodes of model.
      * 
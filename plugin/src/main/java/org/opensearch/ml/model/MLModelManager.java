@@ -181,7 +181,6 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class MLModelManager {
 
-    public static final int TIMEOUT_IN_MILLIS = 5000;
     public static final long MODEL_FILE_SIZE_LIMIT = 4L * 1024 * 1024 * 1024;// 4GB
 
     private final Client client;
@@ -747,7 +746,6 @@ public class MLModelManager {
                             taskId,
                             registerModelInput.getTenantId(),
                             Map.of(MODEL_ID_FIELD, modelId, STATE_FIELD, COMPLETED),
-                            5000,
                             true
                         );
                     if (registerModelInput.isDeployModel()) {
@@ -865,13 +863,7 @@ public class MLModelManager {
                 mlTask.setModelId(modelId);
                 log.info("create new model meta doc {} for upload task {}", modelId, taskId);
                 mlTaskManager
-                    .updateMLTask(
-                        taskId,
-                        registerModelInput.getTenantId(),
-                        Map.of(MODEL_ID_FIELD, modelId, STATE_FIELD, COMPLETED),
-                        5000,
-                        true
-                    );
+                    .updateMLTask(taskId, registerModelInput.getTenantId(), Map.of(MODEL_ID_FIELD, modelId, STATE_FIELD, COMPLETED), true);
                 if (registerModelInput.isDeployModel()) {
                     deployModelAfterRegistering(registerModelInput, modelId);
                 }
@@ -1094,7 +1086,6 @@ public class MLModelManager {
                     taskId,
                     registerModelInput.getTenantId(),
                     Map.of(FUNCTION_NAME_FIELD, mlRegisterModelInput.getFunctionName()),
-                    TIMEOUT_IN_MILLIS,
                     false
                 );
             registerModelFromUrl(mlRegisterModelInput, mlTask, modelVersion);
@@ -1174,13 +1165,7 @@ public class MLModelManager {
         // For local model we don't support multi-tenancy. So we are providing tenant Id null by default.
         updateModel(modelId, null, updatedFields, ActionListener.wrap(updateResponse -> {
             mlTaskManager
-                .updateMLTask(
-                    taskId,
-                    registerModelInput.getTenantId(),
-                    Map.of(STATE_FIELD, COMPLETED, MODEL_ID_FIELD, modelId),
-                    TIMEOUT_IN_MILLIS,
-                    true
-                );
+                .updateMLTask(taskId, registerModelInput.getTenantId(), Map.of(STATE_FIELD, COMPLETED, MODEL_ID_FIELD, modelId), true);
             if (registerModelInput.isDeployModel()) {
                 deployModelAfterRegistering(registerModelInput, modelId);
             }
@@ -1255,7 +1240,7 @@ public class MLModelManager {
             mlStats.getStat(MLNodeLevelStat.ML_FAILURE_COUNT).increment();
         }
         Map<String, Object> updated = Map.of(ERROR_FIELD, MLExceptionUtils.getRootCauseMessage(e), STATE_FIELD, FAILED);
-        mlTaskManager.updateMLTask(taskId, tenantId, updated, TIMEOUT_IN_MILLIS, true);
+        mlTaskManager.updateMLTask(taskId, tenantId, updated, true);
     }
 
     /**
@@ -2620,6 +2605,45 @@ public class MLModelManager {
         return modelCacheHelper.getPredictor(modelId);
     }
 
+    /**
+     * Check if a model trained by the algorithm can be served from the trained model cache when predicting without deployment.
+     *
+     * @param functionName algorithm of the model
+     * @return true if the model can be cached
+     */
+    public boolean isTrainedModelCacheable(FunctionName functionName) {
+        return modelCacheHelper.getTrainedModelCache().isCacheable(functionName);
+    }
+
+    /**
+     * Get a non-deployed trained model which was already loaded into memory by a previous predict request.
+     *
+     * @param modelId model id
+     * @return cache entry, null if model is not cached on this node
+     */
+    public MLTrainedModelCache.Entry getTrainedModel(String modelId) {
+        return modelCacheHelper.getTrainedModelCache().get(modelId);
+    }
+
+    /**
+     * Cache a non-deployed trained model loaded into memory so following predict requests skip reading and deserializing it.
+     *
+     * @param mlModel model
+     * @param predictor predictor with model loaded
+     */
+    public void cacheTrainedModel(MLModel mlModel, Predictable predictor) {
+        modelCacheHelper.getTrainedModelCache().put(mlModel, predictor);
+    }
+
+    /**
+     * Remove a non-deployed trained model from this node's trained model cache.
+     *
+     * @param modelId model id
+     */
+    public void invalidateTrainedModel(String modelId) {
+        modelCacheHelper.getTrainedModelCache().invalidate(modelId);
+    }
+
     /**
      * Get all model ids in cache, both local model id and remote model in routing
      * table.
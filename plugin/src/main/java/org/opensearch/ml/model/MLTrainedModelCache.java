@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_MAX_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_TTL_MINUTES;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.engine.Predictable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node-local cache of models trained by built-in algorithms which are predicted without being deployed.
+ * Without the cache every predict request against such a model reads the model document and deserializes the model content.
+ * Only algorithms whose predict doesn't mutate the loaded model are cached, so one instance can serve concurrent requests.
+ */
+@Log4j2
+public class MLTrainedModelCache {
+
+    static final Set<FunctionName> CACHEABLE_ALGORITHMS = Set
+        .of(FunctionName.KMEANS, FunctionName.LINEAR_REGRESSION, FunctionName.LOGISTIC_REGRESSION, FunctionName.RCF_SUMMARIZE);
+
+    private final Cache<String, Entry> trainedModels;
+    private final boolean enabled;
+
+    public MLTrainedModelCache(Settings settings) {
+        int maxSize = ML_COMMONS_TRAINED_MODEL_CACHE_MAX_SIZE.get(settings);
+        this.enabled = maxSize > 0;
+        this.trainedModels = CacheBuilder
+            .newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ML_COMMONS_TRAINED_MODEL_CACHE_TTL_MINUTES.get(settings), TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Check if predict requests of the algorithm can be served from the cache.
+     * @param functionName algorithm of the model
+     * @return true if the model can be cached
+     */
+    public boolean isCacheable(FunctionName functionName) {
+        return enabled && isCacheableAlgorithm(functionName);
+    }
+
+    /**
+     * Check if models trained by the algorithm may be held in the cache of any node, regardless of local cache settings.
+     * @param functionName algorithm of the model
+     * @return true if models of the algorithm are cacheable
+     */
+    public static boolean isCacheableAlgorithm(FunctionName functionName) {
+        return functionName != null && CACHEABLE_ALGORITHMS.contains(functionName);
+    }
+
+    /**
+     * Get cached model.
+     * @param modelId model id
+     * @return cache entry, null if model is not cached
+     */
+    public Entry get(String modelId) {
+        if (!enabled || modelId == null) {
+            return null;
+        }
+        return trainedModels.getIfPresent(modelId);
+    }
+
+    /**
+     * Cache a model loaded into memory.
+     * @param mlModel model metadata, the model content is not retained
+     * @param predictor predictor with model loaded
+     */
+    public void put(MLModel mlModel, Predictable predictor) {
+        if (!isCacheable(mlModel.getAlgorithm()) || predictor == null || !predictor.isModelReady()) {
+            return;
+        }
+        trainedModels
+            .put(
+                mlModel.getModelId(),
+                new Entry(mlModel.getAlgorithm(), mlModel.getVersion(), mlModel.getTenantId(), mlModel.getUser(), predictor)
+            );
+        log.debug("Cached trained model {} version {}", mlModel.getModelId(), mlModel.getVersion());
+    }
+
+    /**
+     * Remove model from cache. Predictor is not closed as in-flight predict requests may still be using it.
+     * @param modelId model id
+     */
+    public void invalidate(String modelId) {
+        if (modelId != null) {
+            trainedModels.invalidate(modelId);
+        }
+    }
+
+    public long size() {
+        return trainedModels.size();
+    }
+
+    public CacheStats stats() {
+        return trainedModels.stats();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final FunctionName algorithm;
+        private final String version;
+        private final String tenantId;
+        private final User user;
+        private final Predictable predictor;
+    }
+}
@@ -72,6 +72,7 @@ import org.opensearch.ml.action.agenticsearch.GetAgenticSearchTemplateTransportA
 import org.opensearch.ml.action.agenticsearch.ListAgenticSearchTemplatesTransportAction;
 import org.opensearch.ml.action.agenticsearch.RegisterAgenticSearchTemplateTransportAction;
 import org.opensearch.ml.action.agenticsearch.UpdateAgenticSearchTemplateTransportAction;
+import org.opensearch.ml.action.agents.AgentCacheInvalidateTransportAction;
 import org.opensearch.ml.action.agents.DeleteAgentTransportAction;
 import org.opensearch.ml.action.agents.GetAgentTransportAction;
 import org.opensearch.ml.action.agents.TransportRegisterAgentAction;
@@ -104,13 +105,16 @@ import org.opensearch.ml.action.execute.TransportExecuteStreamTaskAction;
 import org.opensearch.ml.action.execute.TransportExecuteTaskAction;
 import org.opensearch.ml.action.forward.TransportForwardAction;
 import org.opensearch.ml.action.handler.MLSearchHandler;
+import org.opensearch.ml.action.mcpserver.McpServerHolder;
 import org.opensearch.ml.action.mcpserver.McpToolsHelper;
 import org.opensearch.ml.action.mcpserver.TransportMcpConnectorListToolsAction;
 import org.opensearch.ml.action.mcpserver.TransportMcpServerAction;
+import org.opensearch.ml.action.mcpserver.TransportMcpServerCacheInvalidateAction;
 import org.opensearch.ml.action.mcpserver.TransportMcpToolsListAction;
 import org.opensearch.ml.action.mcpserver.TransportMcpToolsRegisterAction;
 import org.opensearch.ml.action.mcpserver.TransportMcpToolsRemoveAction;
 import org.opensearch.ml.action.mcpserver.TransportMcpToolsUpdateAction;
+import org.opensearch.ml.action.memorycontainer.MemoryContainerCacheInvalidateTransportAction;
 import org.opensearch.ml.action.memorycontainer.TransportCreateMemoryContainerAction;
 import org.opensearch.ml.action.memorycontainer.TransportDeleteMemoryContainerAction;
 import org.opensearch.ml.action.memorycontainer.TransportExecuteMemoryRetentionAction;
@@ -118,6 +122,7 @@ import org.opensearch.ml.action.memorycontainer.TransportGetMemoryContainerActio
 import org.opensearch.ml.action.memorycontainer.TransportMemoryRetentionDryRunAction;
 import org.opensearch.ml.action.memorycontainer.TransportSearchMemoryContainerAction;
 import org.opensearch.ml.action.memorycontainer.TransportUpdateMemoryContainerAction;
+import org.opensearch.ml.action.memorycontainer.memory.MemoryWriteBatcher;
 import org.opensearch.ml.action.memorycontainer.memory.TransportAddMemoriesAction;
 import org.opensearch.ml.action.memorycontainer.memory.TransportDeleteMemoriesByQueryAction;
 import org.opensearch.ml.action.memorycontainer.memory.TransportDeleteMemoryAction;
@@ -175,6 +180,7 @@ import org.opensearch.ml.common.input.parameter.regression.LinearRegressionParam
 import org.opensearch.ml.common.input.parameter.regression.LogisticRegressionParams;
 import org.opensearch.ml.common.input.parameter.sample.SampleAlgoParams;
 import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters;
+import org.opensearch.ml.common.input.parameter.textsimilarity.TextSimilarityParameters;
 import org.opensearch.ml.common.memory.Memory;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.settings.MLCommonsSettings;
@@ -182,6 +188,7 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.spi.MLCommonsExtension;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.spi.tools.ToolAnnotation;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateAction;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentGetAction;
 import org.opensearch.ml.common.transport.agent.MLAgentUpdateAction;
@@ -221,12 +228,14 @@ import org.opensearch.ml.common.transport.indexInsight.MLIndexInsightConfigPutAc
 import org.opensearch.ml.common.transport.indexInsight.MLIndexInsightGetAction;
 import org.opensearch.ml.common.transport.mcpserver.action.MLMcpConnectorListToolsAction;
 import org.opensearch.ml.common.transport.mcpserver.action.MLMcpServerAction;
+import org.opensearch.ml.common.transport.mcpserver.action.MLMcpServerCacheInvalidateAction;
 import org.opensearch.ml.common.transport.mcpserver.action.MLMcpToolsListAction;
 import org.opensearch.ml.common.transport.mcpserver.action.MLMcpToolsRegisterAction;
 import org.opensearch.ml.common.transport.mcpserver.action.MLMcpToolsRemoveAction;
 import org.opensearch.ml.common.transport.mcpserver.action.MLMcpToolsUpdateAction;
 import org.opensearch.ml.common.transport.memorycontainer.MLCreateMemoryContainerAction;
 import org.opensearch.ml.common.transport.memorycontainer.MLExecuteMemoryRetentionAction;
+import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerCacheInvalidateAction;
 import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerDeleteAction;
 import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerGetAction;
 import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerSearchAction;
@@ -271,9 +280,14 @@ import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.algorithms.agent.MLAgentCache;
 import org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 import org.opensearch.ml.engine.algorithms.anomalylocalization.AnomalyLocalizerImpl;
 import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelation;
+import org.opensearch.ml.engine.algorithms.remote.MLHttpClientMetrics;
+import org.opensearch.ml.engine.algorithms.remote.MLPredictPhaseMetrics;
+import org.opensearch.ml.engine.algorithms.remote.MLTokenMetrics;
 import org.opensearch.ml.engine.algorithms.sample.LocalSampleCalculator;
 import org.opensearch.ml.engine.algorithms.tool.MLToolExecutor;
 import org.opensearch.ml.engine.analysis.DJLUtils;
@@ -304,6 +318,7 @@ import org.opensearch.ml.engine.tools.VisualizationsTool;
 import org.opensearch.ml.engine.tools.WriteToScratchPadTool;
 import org.opensearch.ml.engine.utils.AgentModelsSearcher;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
+import org.opensearch.ml.helper.MemoryContainerCache;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.jobs.MLJobParameter;
 import org.opensearch.ml.jobs.MLJobRunner;
@@ -441,6 +456,7 @@ import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.otel.counters.MLAdoptionMetricsCounter;
 import org.opensearch.ml.stats.otel.counters.MLOperationalMetricsCounter;
+import org.opensearch.ml.stats.otel.counters.MLTokenUsageExporter;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.stats.suppliers.IndexStatusSupplier;
 import org.opensearch.ml.task.MLExecuteTaskRunner;
@@ -520,6 +536,7 @@ public class MachineLearningPlugin extends Plugin
     public static final String ML_COMMONS_JOBS_TYPE = "opensearch_ml_commons_jobs";
 
     private MLStats mlStats;
+    private MLAgentCache mlAgentCache;
     private MLModelCacheHelper modelCacheHelper;
     private MLTaskManager mlTaskManager;
     private MLModelManager mlModelManager;
@@ -591,6 +608,8 @@ public class MachineLearningPlugin extends Plugin
                 new ActionHandler<>(MLUploadModelChunkAction.INSTANCE, TransportUploadModelChunkAction.class),
                 new ActionHandler<>(MLUpdateModelAction.INSTANCE, UpdateModelTransportAction.class),
                 new ActionHandler<>(MLUpdateModelCacheAction.INSTANCE, UpdateModelCacheTransportAction.class),
+                new ActionHandler<>(MLAgentCacheInvalidateAction.INSTANCE, AgentCacheInvalidateTransportAction.class),
+                new ActionHandler<>(MLMemoryContainerCacheInvalidateAction.INSTANCE, MemoryContainerCacheInvalidateTransportAction.class),
                 new ActionHandler<>(MLForwardAction.INSTANCE, TransportForwardAction.class),
                 new ActionHandler<>(MLSyncUpAction.INSTANCE, TransportSyncUpOnNodeAction.class),
                 new ActionHandler<>(MLRegisterModelGroupAction.INSTANCE, TransportRegisterModelGroupAction.class),
@@ -657,6 +676,7 @@ public class MachineLearningPlugin extends Plugin
                 new ActionHandler<>(MLMcpToolsListAction.INSTANCE, TransportMcpToolsListAction.class),
                 new ActionHandler<>(MLMcpToolsUpdateAction.INSTANCE, TransportMcpToolsUpdateAction.class),
                 new ActionHandler<>(MLMcpServerAction.INSTANCE, TransportMcpServerAction.class),
+                new ActionHandler<>(MLMcpServerCacheInvalidateAction.INSTANCE, TransportMcpServerCacheInvalidateAction.class),
                 new ActionHandler<>(MLCreateContextManagementTemplateAction.INSTANCE, CreateContextManagementTemplateTransportAction.class),
                 new ActionHandler<>(MLUpdateContextManagementTemplateAction.INSTANCE, UpdateContextManagementTemplateTransportAction.class),
                 new ActionHandler<>(MLGetContextManagementTemplateAction.INSTANCE, GetContextManagementTemplateTransportAction.class),
@@ -764,10 +784,30 @@ public class MachineLearningPlugin extends Plugin
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        mlAgentCache = new MLAgentCache(settings);
+        stats.put(MLNodeLevelStat.ML_AGENT_CACHE_HIT_COUNT, new MLStat<>(false, () -> mlAgentCache.stats().hitCount()));
+        stats.put(MLNodeLevelStat.ML_AGENT_CACHE_MISS_COUNT, new MLStat<>(false, () -> mlAgentCache.stats().missCount()));
+        MemoryContainerCache memoryContainerCache = new MemoryContainerCache(settings);
+        stats.put(MLNodeLevelStat.ML_MEMORY_CONTAINER_CACHE_HIT_COUNT, new MLStat<>(false, () -> memoryContainerCache.stats().hitCount()));
+        stats
+            .put(
+                MLNodeLevelStat.ML_MEMORY_CONTAINER_CACHE_MISS_COUNT,
+                new MLStat<>(false, () -> memoryContainerCache.stats().missCount())
+            );
+        stats.put(MLNodeLevelStat.ML_CONNECTOR_HTTP_CLIENT_POOLS, new MLStat<>(false, MLHttpClientMetrics::getAll));
+        stats.put(MLNodeLevelStat.ML_PREDICT_PHASE_LATENCY, new MLStat<>(false, MLPredictPhaseMetrics::getAll));
+        // the predict phases are enabled by the predict task runner
+        MLPredictPhaseMetrics.setTracer(tracer);
+        stats.put(MLNodeLevelStat.ML_TOKEN_USAGE, new MLStat<>(false, MLTokenMetrics::getAll));
+        MLTokenMetrics.setEnabled(MLCommonsSettings.ML_COMMONS_TOKEN_METRICS_ENABLED.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_TOKEN_METRICS_ENABLED, MLTokenMetrics::setEnabled);
         this.mlStats = new MLStats(stats);
 
         mlTaskManager = new MLTaskManager(client, sdkClient, threadPool, mlIndicesHandler);
         mlFeatureEnabledSetting.addListener(mlTaskManager);
+        MemoryWriteBatcher memoryWriteBatcher = new MemoryWriteBatcher(client, threadPool, settings);
         modelHelper = new ModelHelper(mlEngine);
 
         mlInputDatasetHandler = new MLInputDatasetHandler(client);
@@ -875,10 +915,11 @@ public class MachineLearningPlugin extends Plugin
 
         toolFactories = new HashMap<>();
 
+        McpToolSpecCache mcpToolSpecCache = new McpToolSpecCache(settings);
         MLModelTool.Factory.getInstance().init(client);
         IndexInsightTool.Factory.getInstance().init(client);
-        McpSseTool.Factory.getInstance().init();
-        McpStreamableHttpTool.Factory.getInstance().init();
+        McpSseTool.Factory.getInstance().init(mcpToolSpecCache);
+        McpStreamableHttpTool.Factory.getInstance().init(mcpToolSpecCache);
         AgentTool.Factory.getInstance().init(client);
         ListIndexTool.Factory.getInstance().init(client, clusterService);
         IndexMappingTool.Factory.getInstance().init(client);
@@ -933,7 +974,9 @@ public class MachineLearningPlugin extends Plugin
             toolFactories,
             memoryFactoryMap,
             mlFeatureEnabledSetting,
-            encryptor
+            encryptor,
+            mlAgentCache,
+            mcpToolSpecCache
         );
         MLEngineClassLoader.register(FunctionName.LOCAL_SAMPLE_CALCULATOR, localSampleCalculator);
         MLEngineClassLoader.register(FunctionName.AGENT, agentExecutor);
@@ -990,9 +1033,11 @@ public class MachineLearningPlugin extends Plugin
         if (mlFeatureEnabledSetting.isMetricCollectionEnabled()) {
             MLOperationalMetricsCounter.initialize(clusterService.getClusterName().toString(), metricsRegistry, mlFeatureEnabledSetting);
             MLAdoptionMetricsCounter.initialize(clusterService.getClusterName().toString(), metricsRegistry, mlFeatureEnabledSetting);
+            MLTokenMetrics.setUsageListener(new MLTokenUsageExporter(modelCacheHelper));
         }
 
         mcpToolsHelper = new McpToolsHelper(client, toolFactoryWrapper);
+        McpServerHolder mcpServerHolder = new McpServerHolder(mcpToolsHelper, settings);
 
         // Initialize gRPC service factory only if transport-grpc module is available
         try {
@@ -1039,7 +1084,12 @@ public class MachineLearningPlugin extends Plugin
                 sdkClient,
                 toolFactoryWrapper,
                 mcpToolsHelper,
-                agenticSearchTemplateService
+                mcpServerHolder,
+                agenticSearchTemplateService,
+                mlAgentCache,
+                mcpToolSpecCache,
+                memoryWriteBatcher,
+                memoryContainerCache
             );
     }
 
@@ -1435,7 +1485,8 @@ public class MachineLearningPlugin extends Plugin
                 TextEmbeddingModelConfig.XCONTENT_REGISTRY,
                 AsymmetricTextEmbeddingParameters.XCONTENT_REGISTRY,
                 AsymmetricTextEmbeddingParameters.XCONTENT_REGISTRY_SPARSE_ENCODING,
-                AsymmetricTextEmbeddingParameters.XCONTENT_REGISTRY_SPARSE_TOKENIZE
+                AsymmetricTextEmbeddingParameters.XCONTENT_REGISTRY_SPARSE_TOKENIZE,
+                TextSimilarityParameters.XCONTENT_REGISTRY
             );
     }
 
@@ -1493,6 +1544,18 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_SAFE_DELETE_WITH_USAGE_CHECK,
                 MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MASTER_KEY_CACHE_TTL_MINUTES,
+                MLCommonsSettings.ML_COMMONS_DECRYPTED_CREDENTIAL_CACHE_TTL_SECONDS,
+                MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_MAX_SIZE,
+                MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_TTL_MINUTES,
+                MLCommonsSettings.ML_COMMONS_MCP_TOOL_SPEC_CACHE_MAX_SIZE,
+                MLCommonsSettings.ML_COMMONS_MCP_TOOL_SPEC_CACHE_TTL_MINUTES,
+                MLCommonsSettings.ML_COMMONS_AGENT_CACHE_MAX_SIZE,
+                MLCommonsSettings.ML_COMMONS_AGENT_CACHE_TTL_MINUTES,
+                MLCommonsSettings.ML_COMMONS_MCP_SERVER_CACHE_TTL_MINUTES,
+                MLCommonsSettings.ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_WINDOW_MS,
+                MLCommonsSettings.ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_MAX_BATCH_SIZE,
+                MLCommonsSettings.ML_COMMONS_MEMORY_CONTAINER_CACHE_MAX_SIZE,
+                MLCommonsSettings.ML_COMMONS_MEMORY_CONTAINER_CACHE_TTL_SECONDS,
                 MLCommonsSettings.REMOTE_METADATA_TYPE,
                 MLCommonsSettings.REMOTE_METADATA_ENDPOINT,
                 MLCommonsSettings.REMOTE_METADATA_REGION,
@@ -1501,6 +1564,9 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_MCP_SERVER_ENABLED,
                 MLCommonsSettings.ML_COMMONS_METRIC_COLLECTION_ENABLED,
                 MLCommonsSettings.ML_COMMONS_STATIC_METRIC_COLLECTION_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICT_PHASE_METRICS_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICT_PHASE_TRACING_ENABLED,
+                MLCommonsSettings.ML_COMMONS_TOKEN_METRICS_ENABLED,
                 MLCommonsSettings.ML_COMMONS_EXECUTE_TOOL_ENABLED,
                 MLCommonsSettings.ML_COMMONS_AGENTIC_MEMORY_ENABLED,
                 MLCommonsSettings.ML_COMMONS_REMOTE_AGENTIC_MEMORY_ENABLED,
@@ -1510,12 +1576,17 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.REMOTE_METADATA_GLOBAL_RESOURCE_CACHE_TTL,
                 MLCommonsSettings.ML_COMMONS_STREAM_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MAX_JSON_SIZE,
+                MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_BYTES,
+                MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_DELAY_MS,
                 MLCommonsSettings.ML_COMMONS_UNIFIED_AGENT_API_ENABLED,
                 MLCommonsSettings.ML_COMMONS_AGENTIC_SEARCH_TEMPLATE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MCP_HEADER_PASSTHROUGH_ENABLED,
                 MLCommonsSettings.ML_COMMONS_AG_UI_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                 MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                 MLCommonsSettings.ML_COMMONS_MEMORY_ORPHAN_TTL_DAYS,
                 MLCommonsSettings.ML_COMMONS_MEMORY_WORKING_MEMORY_TTL_DAYS,
                 MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
@@ -1564,7 +1635,7 @@ public class MachineLearningPlugin extends Plugin
         requestProcessors
             .put(
                 GenerativeQAProcessorConstants.REQUEST_PROCESSOR_TYPE,
-                new GenerativeQARequestProcessor.Factory(this.mlFeatureEnabledSetting)
+                new GenerativeQARequestProcessor.Factory(parameters.client, this.mlFeatureEnabledSetting)
             );
         requestProcessors
             .put(
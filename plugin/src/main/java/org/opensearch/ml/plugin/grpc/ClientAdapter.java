@@ -10,6 +10,7 @@ import org.opensearch.action.ActionType;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.ml.grpc.interfaces.MLClient;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 /**
@@ -33,6 +34,11 @@ public class ClientAdapter implements MLClient {
         delegate.execute(action, request, listener);
     }
 
+    @Override
+    public ThreadPool threadPool() {
+        return delegate.threadPool();
+    }
+
     /**
      * Gets the underlying client for passing to other components.
      *
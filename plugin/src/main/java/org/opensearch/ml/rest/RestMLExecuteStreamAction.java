@@ -19,6 +19,7 @@ import static org.opensearch.ml.plugin.MachineLearningPlugin.STREAM_EXECUTE_THRE
 import static org.opensearch.ml.utils.MLExceptionUtils.AGENT_FRAMEWORK_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.MLExceptionUtils.STREAM_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_AGENT_ID;
+import static org.opensearch.ml.utils.RestActionUtils.createHttpChunkCoalescer;
 import static org.opensearch.ml.utils.RestActionUtils.hasMcpHeaders;
 import static org.opensearch.ml.utils.RestActionUtils.isAsync;
 import static org.opensearch.ml.utils.RestActionUtils.putMcpRequestHeaders;
@@ -32,6 +33,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
@@ -65,6 +67,7 @@ import org.opensearch.ml.common.agui.CustomEvent;
 import org.opensearch.ml.common.agui.RunErrorEvent;
 import org.opensearch.ml.common.agui.RunFinishedEvent;
 import org.opensearch.ml.common.agui.RunStartedEvent;
+import org.opensearch.ml.common.agui.TextMessageContentEvent;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.Input;
 import org.opensearch.ml.common.input.MLInput;
@@ -77,6 +80,7 @@ import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.execute.MLExecuteStreamTaskAction;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskRequest;
 import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamChunkCoalescer;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.repackage.com.google.common.annotations.VisibleForTesting;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableList;
@@ -102,6 +106,7 @@ import reactor.core.publisher.Mono;
 public class RestMLExecuteStreamAction extends BaseRestHandler {
 
     private static final String ML_EXECUTE_STREAM_ACTION = "ml_execute_stream_action";
+    private static final Set<String> CONTENT_DELTA_FIELDS = Set.of("content", "is_last");
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
     private ClusterService clusterService;
     private MLModelManager mlModelManager;
@@ -227,24 +232,25 @@ public class RestMLExecuteStreamAction extends BaseRestHandler {
                     StreamTransportResponseHandler<MLTaskResponse> handler = new StreamTransportResponseHandler<MLTaskResponse>() {
                         @Override
                         public void handleStreamResponse(StreamTransportResponse<MLTaskResponse> streamResponse) {
+                            StreamChunkCoalescer<HttpChunk> coalescer = createHttpChunkCoalescer(
+                                channel,
+                                mlFeatureEnabledSetting,
+                                client.threadPool(),
+                                STREAM_EXECUTE_THREAD_POOL
+                            );
                             try {
-                                MLTaskResponse response = streamResponse.nextResponse();
-
-                                if (response != null) {
+                                // drain the stream on this thread, nextResponse() blocks until the next response arrives
+                                MLTaskResponse response;
+                                while ((response = streamResponse.nextResponse()) != null) {
                                     HttpChunk responseChunk = convertToHttpChunk(response, isAGUI, threadId, runId);
-                                    channel.sendChunk(responseChunk);
-
-                                    // Recursively handle the next response
-                                    client
-                                        .threadPool()
-                                        .executor(STREAM_EXECUTE_THREAD_POOL)
-                                        .execute(() -> handleStreamResponse(streamResponse));
-                                } else {
-                                    log.info("No more responses, closing stream");
-                                    future.complete(XContentHttpChunk.last());
-                                    streamResponse.close();
+                                    coalescer.add(responseChunk, responseChunk.isLast() || !isContentDelta(response, isAGUI));
                                 }
+                                coalescer.flush();
+                                log.info("No more responses, closing stream");
+                                future.complete(XContentHttpChunk.last());
+                                streamResponse.close();
                             } catch (Exception e) {
+                                flushQuietly(coalescer);
                                 future.completeExceptionally(e);
                                 log.error("Error in stream handling", e);
                             }
@@ -527,6 +533,42 @@ public class RestMLExecuteStreamAction extends BaseRestHandler {
         return createHttpChunk(sseData, isLast);
     }
 
+    /**
+     * Whether a response only carries text streamed from the model, such responses may be buffered and sent together with the
+     * following ones. Model text deltas hold a single content tensor, while tool outputs come with the memory ids, so they are
+     * sent right away like token usage, error, last chunks and AG-UI events other than text message contents.
+     */
+    private boolean isContentDelta(MLTaskResponse response, boolean isAGUIAgent) {
+        try {
+            ModelTensorOutput output = (ModelTensorOutput) response.getOutput();
+            if (output == null || output.getMlModelOutputs().size() != 1) {
+                return false;
+            }
+            List<ModelTensor> tensors = output.getMlModelOutputs().get(0).getMlModelTensors();
+            if (tensors == null || tensors.size() != 1) {
+                return false;
+            }
+            Map<String, ?> dataMap = tensors.get(0).getDataAsMap();
+            if (dataMap == null
+                || !CONTENT_DELTA_FIELDS.containsAll(dataMap.keySet())
+                || Boolean.TRUE.equals(dataMap.get("is_last"))
+                || !(dataMap.get("content") instanceof String)) {
+                return false;
+            }
+            return !isAGUIAgent || ((String) dataMap.get("content")).contains(TextMessageContentEvent.TYPE);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void flushQuietly(StreamChunkCoalescer<HttpChunk> coalescer) {
+        try {
+            coalescer.flush();
+        } catch (Exception e) {
+            log.error("Failed to flush buffered chunks", e);
+        }
+    }
+
     private String extractTensorResult(MLTaskResponse response, String tensorName) {
         ModelTensorOutput output = (ModelTensorOutput) response.getOutput();
         if (output != null && !output.getMlModelOutputs().isEmpty()) {
@@ -13,6 +13,7 @@ import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED
 import static org.opensearch.ml.utils.MLExceptionUtils.STREAM_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_ALGORITHM;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.createHttpChunkCoalescer;
 import static org.opensearch.ml.utils.RestActionUtils.getActionTypeFromRestRequest;
 import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
 import static org.opensearch.ml.utils.TenantAwareHelper.getTenantID;
@@ -57,6 +58,7 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionStreamTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamChunkCoalescer;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -259,20 +261,33 @@ public class RestMLPredictionStreamAction extends BaseRestHandler {
         StreamTransportResponseHandler<MLTaskResponse> handler = new StreamTransportResponseHandler<MLTaskResponse>() {
             @Override
             public void handleStreamResponse(StreamTransportResponse<MLTaskResponse> streamResponse) {
+                // nextResponse() blocks, so the stream is drained on the stream predict thread pool rather than the transport thread
+                client.threadPool().executor(STREAM_PREDICT_THREAD_POOL).execute(() -> drainStream(streamResponse));
+            }
+
+            private void drainStream(StreamTransportResponse<MLTaskResponse> streamResponse) {
+                StreamChunkCoalescer<HttpChunk> coalescer = createHttpChunkCoalescer(
+                    channel,
+                    mlFeatureEnabledSetting,
+                    client.threadPool(),
+                    STREAM_PREDICT_THREAD_POOL
+                );
                 try {
-                    MLTaskResponse response = streamResponse.nextResponse();
-                    if (response != null) {
+                    MLTaskResponse response;
+                    while ((response = streamResponse.nextResponse()) != null) {
                         HttpChunk responseChunk = convertToHttpChunk(response);
-                        channel.sendChunk(responseChunk);
-
-                        // Recursively handle the next response
-                        client.threadPool().executor(STREAM_PREDICT_THREAD_POOL).execute(() -> handleStreamResponse(streamResponse));
-                    } else {
-                        log.info("No more responses, closing stream");
-                        streamResponse.close();
-                        future.complete(XContentHttpChunk.last());
+                        coalescer.add(responseChunk, responseChunk.isLast());
                     }
+                    coalescer.flush();
+                    log.info("No more responses, closing stream");
+                    streamResponse.close();
+                    future.complete(XContentHttpChunk.last());
                 } catch (Exception e) {
+                    try {
+                        coalescer.flush();
+                    } catch (Exception flushException) {
+                        log.error("Failed to flush buffered chunks", flushException);
+                    }
                     future.completeExceptionally(e);
                     log.error("Error in stream handling", e);
                 }
@@ -16,7 +16,14 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_AGENT_CACHE_HIT_COUNT, // agent executions served from the node-local agent cache
+    ML_AGENT_CACHE_MISS_COUNT,
+    ML_MEMORY_CONTAINER_CACHE_HIT_COUNT, // memory operations served from the node-local memory container cache
+    ML_MEMORY_CONTAINER_CACHE_MISS_COUNT,
+    ML_CONNECTOR_HTTP_CLIENT_POOLS, // connection pool metrics of remote connector HTTP clients, by connector
+    ML_PREDICT_PHASE_LATENCY, // latency histograms of the predict phases, by model and by connector
+    ML_TOKEN_USAGE; // token usage and throughput of remote models, by model and by connector, with the streaming latency
 
     public static MLNodeLevelStat from(String value) {
         try {
@@ -56,13 +56,17 @@ public abstract class AbstractMLMetricsCounter<T extends Enum<T>> {
     }
 
     public void incrementCounter(T metric, Tags customTags) {
+        addToCounter(metric, 1, customTags);
+    }
+
+    public void addToCounter(T metric, double value, Tags customTags) {
         if (!mlFeatureEnabledSetting.isMetricCollectionEnabled()) {
             return;
         }
 
         Counter counter = metricCounterMap.computeIfAbsent(metric, this::createMetricCounter);
         Tags metricsTags = (customTags == null ? Tags.create() : customTags).addTag(CLUSTER_NAME_TAG, clusterName);
-        counter.add(1, metricsTags);
+        counter.add(value, metricsTags);
     }
 
     public void recordHistogram(T metric, double value) {
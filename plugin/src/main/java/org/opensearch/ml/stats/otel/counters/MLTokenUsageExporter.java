@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.otel.counters;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.agent.TokenUsage;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.engine.algorithms.remote.MLTokenMetrics;
+import org.opensearch.ml.model.MLModelCacheHelper;
+import org.opensearch.ml.stats.otel.metrics.OperationalMetric;
+import org.opensearch.telemetry.metrics.tags.Tags;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Exports the token usage of the remote models called on this node as the MODEL_INPUT_TOKENS and MODEL_OUTPUT_TOKENS counters,
+ * when the usage is recorded. Each node only adds the tokens of its own calls, so the counters don't depend on any baseline and
+ * stay correct across node restarts and cluster manager changes. The counters are tagged with the model id and the tags of the
+ * model deployed on this node.
+ */
+@Log4j2
+public class MLTokenUsageExporter implements MLTokenMetrics.UsageListener {
+
+    private static final String TAG_MODEL_ID = "model_id";
+    // model tags copied to the token counters
+    private static final String[] MODEL_TAGS = { "model", "service_provider", "deployment", "type" };
+
+    private final MLModelCacheHelper modelCacheHelper;
+    // getting the tags of a remote model parses its connector, so they are computed once per model and refreshed hourly
+    private final Cache<String, Map<String, ?>> modelTags = CacheBuilder
+        .newBuilder()
+        .maximumSize(1000)
+        .expireAfterWrite(1, TimeUnit.HOURS)
+        .build();
+
+    public MLTokenUsageExporter(MLModelCacheHelper modelCacheHelper) {
+        this.modelCacheHelper = modelCacheHelper;
+    }
+
+    @Override
+    public void onUsage(String modelId, Connector connector, TokenUsage usage) {
+        addTokens(OperationalMetric.MODEL_INPUT_TOKENS, usage.getInputTokens(), modelId, connector);
+        addTokens(OperationalMetric.MODEL_OUTPUT_TOKENS, usage.getOutputTokens(), modelId, connector);
+    }
+
+    private void addTokens(OperationalMetric metric, Long tokens, String modelId, Connector connector) {
+        if (tokens == null || tokens <= 0) {
+            return;
+        }
+        MLOperationalMetricsCounter.getInstance().addToCounter(metric, tokens, getTags(modelId, connector));
+    }
+
+    // counters add tags to the given tags, so each call gets its own instance
+    private Tags getTags(String modelId, Connector connector) {
+        Tags tags = Tags.create().addTag(TAG_MODEL_ID, modelId);
+        Map<String, ?> tagsMap = modelTags.getIfPresent(modelId);
+        if (tagsMap == null) {
+            MLModel model = modelCacheHelper.getModelInfo(modelId);
+            if (model == null) {
+                return tags;
+            }
+            try {
+                tagsMap = Map.copyOf(model.getTags(connector == null ? model.getConnector() : connector).getTagsMap());
+                modelTags.put(modelId, tagsMap);
+            } catch (Exception e) {
+                log.warn("Failed to get tags of model {} for token usage metrics", modelId, e);
+                return tags;
+            }
+        }
+        for (String tag : MODEL_TAGS) {
+            if (tagsMap.get(tag) instanceof String) {
+                tags = tags.addTag(tag, (String) tagsMap.get(tag));
+            }
+        }
+        return tags;
+    }
+}
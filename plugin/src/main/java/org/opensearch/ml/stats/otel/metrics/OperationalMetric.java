@@ -10,7 +10,9 @@ import lombok.Getter;
 @Getter
 public enum OperationalMetric {
     MODEL_PREDICT_COUNT("Total number of predict calls made", MetricType.COUNTER),
-    MODEL_PREDICT_LATENCY("Latency for model predict", MetricType.HISTOGRAM);
+    MODEL_PREDICT_LATENCY("Latency for model predict", MetricType.HISTOGRAM),
+    MODEL_INPUT_TOKENS("Total number of input tokens sent to remote models", MetricType.COUNTER),
+    MODEL_OUTPUT_TOKENS("Total number of output tokens generated by remote models", MetricType.COUNTER);
 
     private final String description;
     private final MetricType type;
@@ -9,6 +9,8 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICT_PHASE_METRICS_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICT_PHASE_TRACING_ENABLED;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.permission.AccessController.checkUserPermissions;
 import static org.opensearch.ml.permission.AccessController.getUserContext;
@@ -21,7 +23,9 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchStatusException;
@@ -69,8 +73,11 @@ import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.MLPredictPhaseMetrics;
+import org.opensearch.ml.engine.algorithms.remote.MLPredictPhaseMetrics.Phase;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLTrainedModelCache;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
@@ -138,6 +145,14 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE, it -> autoDeploymentEnabled = it);
+        MLPredictPhaseMetrics.setHistogramsEnabled(ML_COMMONS_PREDICT_PHASE_METRICS_ENABLED.get(settings));
+        MLPredictPhaseMetrics.setTracingEnabled(ML_COMMONS_PREDICT_PHASE_TRACING_ENABLED.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_PHASE_METRICS_ENABLED, MLPredictPhaseMetrics::setHistogramsEnabled);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_PHASE_TRACING_ENABLED, MLPredictPhaseMetrics::setTracingEnabled);
     }
 
     @Override
@@ -155,6 +170,23 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         return new ActionListenerResponseHandler<>(listener, MLTaskResponse::new);
     }
 
+    private TransportResponseHandler<MLTaskResponse> getResponseHandler(
+        ActionListener<MLTaskResponse> listener,
+        String modelId,
+        MLPredictPhaseMetrics.Timer transportTimer
+    ) {
+        // the transport phase ends once the response is received, reading the response is the serialization phase
+        return new ActionListenerResponseHandler<>(ActionListener.runBefore(listener, transportTimer::stop), in -> {
+            transportTimer.stop();
+            MLPredictPhaseMetrics.Timer timer = MLPredictPhaseMetrics.startModelPhase(modelId, Phase.SERIALIZATION);
+            try {
+                return new MLTaskResponse(in);
+            } finally {
+                timer.stop();
+            }
+        });
+    }
+
     @Override
     protected TransportResponseHandler<MLTaskResponse> getResponseStreamHandler(MLPredictionTaskRequest request) {
         TransportChannel channel = request.getStreamingChannel();
@@ -219,8 +251,10 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             }
         }
 
+        MLPredictPhaseMetrics.Timer dispatchTimer = MLPredictPhaseMetrics.startModelPhase(modelId, Phase.DISPATCH);
         try {
             ActionListener<DiscoveryNode> actionListener = ActionListener.wrap(node -> {
+                dispatchTimer.stop();
                 if (clusterService.localNode().getId().equals(node.getId())) {
                     log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
@@ -240,10 +274,20 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                                 getResponseStreamHandler(request)
                             );
                     } else {
-                        transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+                        MLPredictPhaseMetrics.Timer transportTimer = MLPredictPhaseMetrics.startModelPhase(modelId, Phase.TRANSPORT);
+                        transportService
+                            .sendRequest(
+                                node,
+                                getTransportActionName(),
+                                request,
+                                getResponseHandler(listener, modelId, transportTimer)
+                            );
                     }
                 }
-            }, listener::onFailure);
+            }, e -> {
+                dispatchTimer.stop();
+                listener.onFailure(e);
+            });
             String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName, true);
             String[] targetWorkerNodes = mlModelManager.getTargetWorkerNodes(modelId);
 
@@ -307,11 +351,22 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             }
             mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
         } catch (Exception e) {
+            dispatchTimer.stop();
             log.error("Failed to predict model " + modelId, e);
             listener.onFailure(e);
         }
     }
 
+    @Override
+    protected void checkCircuitBreaker(MLPredictionTaskRequest request) {
+        MLPredictPhaseMetrics.Timer timer = MLPredictPhaseMetrics.startModelPhase(request.getModelId(), Phase.CIRCUIT_BREAKER);
+        try {
+            super.checkCircuitBreaker(request);
+        } finally {
+            timer.stop();
+        }
+    }
+
     /**
      * Start prediction task
      * @param request MLPredictionTaskRequest
@@ -613,6 +668,33 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                 throw new IllegalArgumentException("Model not ready to be used: " + modelId);
             }
 
+            // Requests with custom algorithm parameters need a predictable built with these parameters, so they skip the cache.
+            boolean useTrainedModelCache = mlInput.getParameters() == null && mlModelManager.isTrainedModelCacheable(algorithm);
+            if (useTrainedModelCache) {
+                MLTrainedModelCache.Entry trainedModel = mlModelManager.getTrainedModel(modelId);
+                if (trainedModel != null
+                    && trainedModel.getAlgorithm() == algorithm
+                    && Objects.equals(trainedModel.getTenantId(), tenantId)) {
+                    log.debug("Predict with cached trained model {} version {}", modelId, trainedModel.getVersion());
+                    try {
+                        predictWithTrainedModel(
+                            modelId,
+                            tenantId,
+                            mlTask,
+                            mlInput,
+                            trainedModel.getUser(),
+                            () -> mlEngine.predictWithLoadedModel(mlInput, trainedModel.getPredictor()),
+                            actionName,
+                            internalListener
+                        );
+                    } catch (Exception e) {
+                        log.error("Failed to predict model " + modelId, e);
+                        internalListener.onFailure(e);
+                    }
+                    return;
+                }
+            }
+
             // search model by model id.
             try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
                 ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
@@ -630,31 +712,15 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                         String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
                         MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
                         mlModel.setModelId(modelId);
-                        User resourceUser = mlModel.getUser();
-                        User requestUser = getUserContext(client);
-                        if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
-                            // The backend roles of request user and resource user doesn't have intersection
-                            OpenSearchException e = new OpenSearchException(
-                                "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
-                            );
-                            handlePredictFailure(mlTask, internalListener, e, false, modelId, actionName);
-                            return;
-                        }
-                        // run predict
-                        if (mlTaskManager.contains(mlTask.getTaskId())) {
-                            mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), tenantId, mlTask.isAsync());
-                        }
-                        MLOutput output = mlEngine.predict(mlInput, mlModel);
-                        if (output instanceof MLPredictionOutput) {
-                            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
-                        }
-                        if (output instanceof ModelTensorOutput) {
-                            validateOutputSchema(modelId, (ModelTensorOutput) output);
-                        }
-                        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                        handleAsyncMLTaskComplete(mlTask);
-                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                        internalListener.onResponse(response);
+                        predictWithTrainedModel(modelId, tenantId, mlTask, mlInput, mlModel.getUser(), () -> {
+                            if (!useTrainedModelCache) {
+                                return mlEngine.predict(mlInput, mlModel);
+                            }
+                            // load model once and cache it, so following requests skip reading and deserializing the model
+                            Predictable trainedPredictor = mlEngine.deploy(mlModel, null);
+                            mlModelManager.cacheTrainedModel(mlModel, trainedPredictor);
+                            return mlEngine.predictWithLoadedModel(mlInput, trainedPredictor);
+                        }, actionName, internalListener);
                     } catch (Exception e) {
                         log.error("Failed to predict model " + modelId, e);
                         internalListener.onFailure(e);
@@ -684,6 +750,42 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         }
     }
 
+    private void predictWithTrainedModel(
+        String modelId,
+        String tenantId,
+        MLTask mlTask,
+        MLInput mlInput,
+        User resourceUser,
+        Supplier<MLOutput> predictFunction,
+        ActionName actionName,
+        ActionListener<MLTaskResponse> internalListener
+    ) {
+        User requestUser = getUserContext(client);
+        if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
+            // The backend roles of request user and resource user doesn't have intersection
+            OpenSearchException e = new OpenSearchException(
+                "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
+            );
+            handlePredictFailure(mlTask, internalListener, e, false, modelId, actionName);
+            return;
+        }
+        // run predict
+        if (mlTaskManager.contains(mlTask.getTaskId())) {
+            mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), tenantId, mlTask.isAsync());
+        }
+        MLOutput output = predictFunction.get();
+        if (output instanceof MLPredictionOutput) {
+            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+        }
+        if (output instanceof ModelTensorOutput) {
+            validateOutputSchema(modelId, (ModelTensorOutput) output);
+        }
+        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+        handleAsyncMLTaskComplete(mlTask);
+        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+        internalListener.onResponse(response);
+    }
+
     private <T> ThreadedActionListener<T> threadedActionListener(FunctionName functionName, ActionListener<T> listener) {
         String threadPoolName = getPredictThreadPool(functionName);
         return new ThreadedActionListener<>(log, threadPool, threadPoolName, listener, false);
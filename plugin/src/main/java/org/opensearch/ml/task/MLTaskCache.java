@@ -5,21 +5,29 @@
 
 package org.opensearch.ml.task;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Semaphore;
 
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.MLTask;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 public class MLTaskCache {
     MLTask mlTask;
-    Semaphore updateTaskIndexSemaphore;
+    // Updates of async tasks are written one at a time. Updates arriving while a write is in flight are merged, last write wins
+    // per field, and written with a single request once the in flight write completes.
+    boolean coalesceTaskUpdates;
+    private boolean updatingTaskIndex;
+    private PendingTaskUpdate pendingTaskUpdate;
     // List of worker nodes.
     // For example when deploy model on ML nodes, these ML nodes are worker nodes. When model
     // deployed/failed on some node, the node will be removed from worker nodes.
@@ -32,9 +40,7 @@ public class MLTaskCache {
     @Builder
     public MLTaskCache(MLTask mlTask, List<String> workerNodes) {
         this.mlTask = mlTask;
-        if (mlTask.isAsync()) {
-            updateTaskIndexSemaphore = new Semaphore(1);
-        }
+        this.coalesceTaskUpdates = mlTask.isAsync();
         this.workerNodes = ConcurrentHashMap.newKeySet();
         if (workerNodes != null) {
             this.workerNodes.addAll(workerNodes);
@@ -67,4 +73,41 @@ public class MLTaskCache {
         this.workerNodes.removeAll(nodesRemovedFromCluster);
         this.workerNodeSize = this.workerNodeSize - nodesRemovedFromCluster.size();
     }
+
+    /**
+     * Start writing an update of the task, or merge it into the pending update if another update is being written.
+     * @param updatedFields updated fields
+     * @param listener listener of the update
+     * @return true if the caller should write the update now, false if it was merged into the pending update
+     */
+    synchronized boolean startOrMergeTaskUpdate(Map<String, Object> updatedFields, ActionListener<UpdateResponse> listener) {
+        if (!updatingTaskIndex) {
+            updatingTaskIndex = true;
+            return true;
+        }
+        if (pendingTaskUpdate == null) {
+            pendingTaskUpdate = new PendingTaskUpdate(new HashMap<>(), new ArrayList<>());
+        }
+        pendingTaskUpdate.getUpdatedFields().putAll(updatedFields);
+        pendingTaskUpdate.getListeners().add(listener);
+        return false;
+    }
+
+    /**
+     * Called when a write of the task completes.
+     * @return the merged update to write next, null if there is none and the task is no longer being updated
+     */
+    synchronized PendingTaskUpdate finishTaskUpdate() {
+        PendingTaskUpdate next = pendingTaskUpdate;
+        pendingTaskUpdate = null;
+        updatingTaskIndex = next != null;
+        return next;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class PendingTaskUpdate {
+        private final Map<String, Object> updatedFields;
+        private final List<ActionListener<UpdateResponse>> listeners;
+    }
 }
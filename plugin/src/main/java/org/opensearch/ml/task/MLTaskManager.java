@@ -11,7 +11,6 @@ import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTask.TASK_TYPE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.CREATED;
 import static org.opensearch.ml.common.MLTaskState.RUNNING;
-import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
 
 import java.io.IOException;
@@ -24,8 +23,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opensearch.ExceptionsHelper;
@@ -56,7 +53,6 @@ import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
-import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.settings.SettingsChangeListener;
@@ -84,7 +80,6 @@ import lombok.extern.log4j.Log4j2;
  */
 @Log4j2
 public class MLTaskManager implements SettingsChangeListener {
-    public static int TASK_SEMAPHORE_TIMEOUT = 5000; // 5 seconds
     private final Map<String, MLTaskCache> taskCaches;
     private final Client client;
     private final SdkClient sdkClient;
@@ -343,7 +338,7 @@ public class MLTaskManager implements SettingsChangeListener {
         MLTask task = getMLTask(taskId);
         task.setState(RUNNING);
         if (isAsyncTask) {
-            updateMLTask(taskId, tenantId, ImmutableMap.of(STATE_FIELD, RUNNING), TASK_SEMAPHORE_TIMEOUT, false);
+            updateMLTask(taskId, tenantId, ImmutableMap.of(STATE_FIELD, RUNNING), false);
         }
     }
 
@@ -352,16 +347,9 @@ public class MLTaskManager implements SettingsChangeListener {
      * @param taskId task id
      * @param tenantId tenant id
      * @param updatedFields updated field and values
-     * @param timeoutInMillis time out waiting for updating task semaphore, zero or negative means don't wait at all
      * @param removeFromCache remove ML task from cache
      */
-    public void updateMLTask(
-        String taskId,
-        String tenantId,
-        Map<String, Object> updatedFields,
-        long timeoutInMillis,
-        boolean removeFromCache
-    ) {
+    public void updateMLTask(String taskId, String tenantId, Map<String, Object> updatedFields, boolean removeFromCache) {
         ActionListener<UpdateResponse> internalListener = ActionListener.wrap(response -> {
             if (response.status() == RestStatus.OK) {
                 log.debug("Updated ML task successfully: {}, taskId: {}, updatedFields: {}", response.status(), taskId, updatedFields);
@@ -369,16 +357,17 @@ public class MLTaskManager implements SettingsChangeListener {
                 log.error("Failed to update ML task {}, status: {}, updatedFields: {}", taskId, response.status(), updatedFields);
             }
         }, e -> { logException("Failed to update ML task: " + taskId, e, log); });
-        updateMLTask(taskId, tenantId, updatedFields, internalListener, timeoutInMillis, removeFromCache);
+        updateMLTask(taskId, tenantId, updatedFields, internalListener, removeFromCache);
     }
 
     /**
-     * Update ML task.
+     * Update ML task. Updates of an async task never wait for each other: an update arriving while another update of the same
+     * task is being written is merged with other such updates and written once that write completes, the listeners of merged
+     * updates get the response of the merged write.
      * @param taskId task id
      * @param tenantId tenant id
      * @param updatedFields updated field and values
      * @param listener action listener
-     * @param timeoutInMillis time out waiting for updating task semaphore, zero or negative means don't wait at all
      * @param removeFromCache remove ML task from cache
      */
     public void updateMLTask(
@@ -386,7 +375,6 @@ public class MLTaskManager implements SettingsChangeListener {
         String tenantId,
         Map<String, Object> updatedFields,
         ActionListener<UpdateResponse> listener,
-        long timeoutInMillis,
         boolean removeFromCache
     ) {
         MLTaskCache taskCache = taskCaches.get(taskId);
@@ -397,63 +385,85 @@ public class MLTaskManager implements SettingsChangeListener {
             listener.onFailure(new MLResourceNotFoundException("Can't find task in cache: " + taskId));
             return;
         }
-        threadPool.executor(GENERAL_THREAD_POOL).execute(() -> {
-            Semaphore semaphore = taskCache.getUpdateTaskIndexSemaphore();
-            try {
-                if (semaphore != null && !semaphore.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS)) {
-                    listener.onFailure(new MLException("Other updating request not finished yet"));
-                    return;
-                }
-            } catch (InterruptedException e) {
-                log.error("Failed to acquire semaphore for ML task {}", taskId, e);
-                listener.onFailure(e);
-                return; // return directly if can't get semaphore
+        if (updatedFields == null || updatedFields.isEmpty()) {
+            listener.onFailure(new IllegalArgumentException("Updated fields is null or empty"));
+            return;
+        }
+        if (!taskCache.isCoalesceTaskUpdates()) {
+            writeMLTask(taskId, tenantId, updatedFields, listener);
+            return;
+        }
+        if (taskCache.startOrMergeTaskUpdate(updatedFields, listener)) {
+            ActionListener<UpdateResponse> writeListener = ActionListener
+                .runAfter(listener, () -> writePendingUpdate(taskId, tenantId, taskCache));
+            writeMLTask(taskId, tenantId, updatedFields, writeListener);
+        } else {
+            log.debug("ML task {} is being updated, merged update into pending update", taskId);
+        }
+    }
+
+    private void writePendingUpdate(String taskId, String tenantId, MLTaskCache taskCache) {
+        MLTaskCache.PendingTaskUpdate pendingUpdate = taskCache.finishTaskUpdate();
+        if (pendingUpdate == null) {
+            return;
+        }
+        List<ActionListener<UpdateResponse>> listeners = pendingUpdate.getListeners();
+        log.debug("Writing {} merged updates of ML task {}", listeners.size(), taskId);
+        ActionListener<UpdateResponse> mergedListener = ActionListener.wrap(updateResponse -> {
+            for (ActionListener<UpdateResponse> listener : listeners) {
+                notifyListener(taskId, () -> listener.onResponse(updateResponse));
             }
-            try {
-                if (updatedFields == null || updatedFields.isEmpty()) {
-                    listener.onFailure(new IllegalArgumentException("Updated fields is null or empty"));
-                    return;
-                }
-                Map<String, Object> updatedContent = new HashMap<>(updatedFields);
-                updatedContent.put(LAST_UPDATE_TIME_FIELD, Instant.now().toEpochMilli());
-
-                UpdateDataObjectRequest.Builder requestBuilder = UpdateDataObjectRequest
-                    .builder()
-                    .index(ML_TASK_INDEX)
-                    .id(taskId)
-                    .tenantId(tenantId)
-                    .dataObject(updatedContent);
-                // Conditionally add retryOnConflict based on the provided condition
-                if (updatedFields.containsKey(STATE_FIELD) && TASK_DONE_STATES.contains(updatedFields.containsKey(STATE_FIELD))) {
-                    requestBuilder.retryOnConflict(3);
-                }
+        }, e -> {
+            for (ActionListener<UpdateResponse> listener : listeners) {
+                notifyListener(taskId, () -> listener.onFailure(e));
+            }
+        });
+        writeMLTask(
+            taskId,
+            tenantId,
+            pendingUpdate.getUpdatedFields(),
+            ActionListener.runAfter(mergedListener, () -> writePendingUpdate(taskId, tenantId, taskCache))
+        );
+    }
 
-                // Build the request
-                UpdateDataObjectRequest updateDataObjectRequest = requestBuilder.build();
+    // one failing listener must not keep the listeners of the other merged updates from being notified
+    private void notifyListener(String taskId, Runnable notification) {
+        try {
+            notification.run();
+        } catch (Exception e) {
+            log.error("Failed to notify listener of ML task {} update", taskId, e);
+        }
+    }
 
-                ActionListener<UpdateResponse> actionListener = semaphore == null
-                    ? listener
-                    : ActionListener.runAfter(listener, semaphore::release);
-                try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-                    sdkClient.updateDataObjectAsync(updateDataObjectRequest).whenComplete((r, throwable) -> {
-                        context.restore(); // Restore the context once the operation is done
-                        if (semaphore != null) {
-                            semaphore.release();
-                        }
-                        handleUpdateDataObjectCompletionStage(r, throwable, getUpdateResponseListener(taskId, listener));
-                    });
-                } catch (Exception e) {
-                    log.error("Failed to update ML task {}", taskId, e);
-                    actionListener.onFailure(e);
-                }
-            } catch (Exception e) {
-                if (semaphore != null) {
-                    semaphore.release();
-                }
-                log.error("Failed to update ML task {}", taskId, e);
-                listener.onFailure(e);
+    private void writeMLTask(String taskId, String tenantId, Map<String, Object> updatedFields, ActionListener<UpdateResponse> listener) {
+        try {
+            Map<String, Object> updatedContent = new HashMap<>(updatedFields);
+            updatedContent.put(LAST_UPDATE_TIME_FIELD, Instant.now().toEpochMilli());
+
+            UpdateDataObjectRequest.Builder requestBuilder = UpdateDataObjectRequest
+                .builder()
+                .index(ML_TASK_INDEX)
+                .id(taskId)
+                .tenantId(tenantId)
+                .dataObject(updatedContent);
+            // Conditionally add retryOnConflict based on the provided condition
+            if (TASK_DONE_STATES.contains(updatedFields.get(STATE_FIELD))) {
+                requestBuilder.retryOnConflict(3);
             }
-        });
+
+            // Build the request
+            UpdateDataObjectRequest updateDataObjectRequest = requestBuilder.build();
+
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                sdkClient.updateDataObjectAsync(updateDataObjectRequest).whenComplete((r, throwable) -> {
+                    context.restore(); // Restore the context once the operation is done
+                    handleUpdateDataObjectCompletionStage(r, throwable, getUpdateResponseListener(taskId, listener));
+                });
+            }
+        } catch (Exception e) {
+            log.error("Failed to update ML task {}", taskId, e);
+            listener.onFailure(e);
+        }
     }
 
     public void updateMLTaskDirectly(String taskId, Map<String, Object> updatedFields) {
@@ -37,7 +37,6 @@ import lombok.extern.log4j.Log4j2;
  */
 @Log4j2
 public abstract class MLTaskRunner<Request extends MLTaskRequest, Response extends TransportResponse> {
-    public static final int TIMEOUT_IN_MILLIS = 2000;
     protected final MLTaskManager mlTaskManager;
     protected final MLStats mlStats;
     protected final DiscoveryNodeHelper nodeHelper;
@@ -67,8 +66,7 @@ public abstract class MLTaskRunner<Request extends MLTaskRequest, Response exten
         if (mlTask.isAsync()) {
             Map<String, Object> updatedFields = ImmutableMap
                 .of(MLTask.STATE_FIELD, MLTaskState.FAILED.name(), MLTask.ERROR_FIELD, e.getMessage());
-            // wait for 2 seconds to make sure failed state persisted
-            mlTaskManager.updateMLTask(mlTask.getTaskId(), null, updatedFields, TIMEOUT_IN_MILLIS, true);
+            mlTaskManager.updateMLTask(mlTask.getTaskId(), null, updatedFields, true);
         }
     }
 
@@ -80,8 +78,7 @@ public abstract class MLTaskRunner<Request extends MLTaskRequest, Response exten
             if (mlTask.getModelId() != null) {
                 updatedFields.put(MLTask.MODEL_ID_FIELD, mlTask.getModelId());
             }
-            // wait for 2 seconds to make sure completed state persisted
-            mlTaskManager.updateMLTask(mlTask.getTaskId(), null, updatedFields, TIMEOUT_IN_MILLIS, true);
+            mlTaskManager.updateMLTask(mlTask.getTaskId(), null, updatedFields, true);
         }
     }
 
@@ -154,8 +151,12 @@ public abstract class MLTaskRunner<Request extends MLTaskRequest, Response exten
     protected void checkCBAndExecute(FunctionName functionName, Request request, ActionListener<Response> listener) {
         // for agent and remote model prediction we don't need to check circuit breaker
         if (functionName != FunctionName.REMOTE && functionName != FunctionName.AGENT) {
-            checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
+            checkCircuitBreaker(request);
         }
         executeTask(request, listener);
     }
+
+    protected void checkCircuitBreaker(Request request) {
+        checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
+    }
 }
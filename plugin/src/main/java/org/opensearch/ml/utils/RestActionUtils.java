@@ -39,16 +39,23 @@ import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.http.HttpChunk;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.connector.ConnectorAction.ActionType;
+import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamChunkCoalescer;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.StreamingRestChannel;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -419,4 +426,52 @@ public class RestActionUtils {
         }
         return new OpenSearchStatusException("Internal server error", RestStatus.INTERNAL_SERVER_ERROR);
     }
+
+    /**
+     * Create a coalescer writing batches of streamed SSE chunks to the channel as one HTTP chunk. Every chunk holds complete SSE
+     * events, so the events stay intact when the chunks are concatenated.
+     *
+     * @param channel streaming channel
+     * @param mlFeatureEnabledSetting settings holding the flush policy
+     * @param threadPool thread pool running delayed flushes
+     * @param executor executor running delayed flushes
+     * @return chunk coalescer
+     */
+    public static StreamChunkCoalescer<HttpChunk> createHttpChunkCoalescer(
+        StreamingRestChannel channel,
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        ThreadPool threadPool,
+        String executor
+    ) {
+        return new StreamChunkCoalescer<>(
+            mlFeatureEnabledSetting.getStreamFlushMaxBytes(),
+            mlFeatureEnabledSetting.getStreamFlushMaxDelayMillis(),
+            threadPool,
+            executor,
+            chunk -> chunk.content().length(),
+            chunks -> channel.sendChunk(chunks.size() == 1 ? chunks.get(0) : combineHttpChunks(chunks))
+        );
+    }
+
+    @VisibleForTesting
+    static HttpChunk combineHttpChunks(List<HttpChunk> chunks) {
+        BytesReference content = CompositeBytesReference.of(chunks.stream().map(HttpChunk::content).toArray(BytesReference[]::new));
+        boolean isLast = chunks.get(chunks.size() - 1).isLast();
+        return new HttpChunk() {
+            @Override
+            public void close() {
+                chunks.forEach(HttpChunk::close);
+            }
+
+            @Override
+            public boolean isLast() {
+                return isLast;
+            }
+
+            @Override
+            public BytesReference content() {
+                return content;
+            }
+        };
+    }
 }
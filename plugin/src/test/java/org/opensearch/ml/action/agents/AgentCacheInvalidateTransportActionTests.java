@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.agents;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.agent.MLAgent;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateAction;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodeRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesResponse;
+import org.opensearch.ml.engine.algorithms.agent.MLAgentCache;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AgentCacheInvalidateTransportActionTests {
+
+    @Mock
+    private TransportService transportService;
+
+    @Mock
+    private ActionFilters actionFilters;
+
+    @Mock
+    private ClusterService clusterService;
+
+    @Mock
+    private Client client;
+
+    private MLAgentCache agentCache;
+
+    private AgentCacheInvalidateTransportAction action;
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() throws Exception {
+        agentCache = new MLAgentCache(Settings.EMPTY);
+        action = new AgentCacheInvalidateTransportAction(transportService, actionFilters, clusterService, null, agentCache);
+
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testNodeOperation() {
+        when(clusterService.localNode()).thenReturn(localNode);
+        MLAgent mlAgent = MLAgent.builder().name("test_agent").type("flow").build();
+        agentCache.put("tenant", "agent_id", mlAgent, agentCache.getVersion());
+        agentCache.put("tenant", "other_agent_id", mlAgent, agentCache.getVersion());
+
+        MLAgentCacheInvalidateNodesRequest request = new MLAgentCacheInvalidateNodesRequest(new String[0], "agent_id", "tenant");
+        MLAgentCacheInvalidateNodeResponse response = action.nodeOperation(action.newNodeRequest(request));
+
+        assertEquals(localNode, response.getNode());
+        assertNull(agentCache.get("tenant", "agent_id"));
+        assertNotNull(agentCache.get("tenant", "other_agent_id"));
+    }
+
+    @Test
+    public void testNewResponse() {
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("Local Cluster"));
+        MLAgentCacheInvalidateNodesRequest request = new MLAgentCacheInvalidateNodesRequest(new String[0], "agent_id", null);
+        List<MLAgentCacheInvalidateNodeResponse> responses = List.of(new MLAgentCacheInvalidateNodeResponse(localNode));
+
+        MLAgentCacheInvalidateNodesResponse response = action.newResponse(request, responses, new ArrayList<>());
+        assertEquals(1, response.getNodes().size());
+    }
+
+    @Test
+    public void testStreamRequestAndResponse() throws IOException {
+        MLAgentCacheInvalidateNodesRequest request = new MLAgentCacheInvalidateNodesRequest(new String[0], "agent_id", "tenant");
+        BytesStreamOutput output = new BytesStreamOutput();
+        new MLAgentCacheInvalidateNodeRequest(request).writeTo(output);
+        MLAgentCacheInvalidateNodeRequest parsedRequest = new MLAgentCacheInvalidateNodeRequest(output.bytes().streamInput());
+        assertEquals("agent_id", parsedRequest.getInvalidateNodesRequest().getAgentId());
+        assertEquals("tenant", parsedRequest.getInvalidateNodesRequest().getTenantId());
+
+        output = new BytesStreamOutput();
+        new MLAgentCacheInvalidateNodeResponse(localNode).writeTo(output);
+        assertEquals(localNode, action.newNodeResponse(output.bytes().streamInput()).getNode());
+    }
+
+    @Test
+    public void testInvalidateAgentCache() {
+        AgentCacheInvalidateTransportAction.invalidateAgentCache(client, "agent_id", "tenant");
+
+        ArgumentCaptor<MLAgentCacheInvalidateNodesRequest> captor = ArgumentCaptor.forClass(MLAgentCacheInvalidateNodesRequest.class);
+        verify(client).execute(eq(MLAgentCacheInvalidateAction.INSTANCE), captor.capture(), any());
+        assertEquals("agent_id", captor.getValue().getAgentId());
+        assertEquals(0, captor.getValue().nodesIds().length);
+    }
+}
@@ -7,7 +7,6 @@ package org.opensearch.ml.action.batch;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
@@ -24,7 +23,6 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_BAT
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS;
 import static org.opensearch.ml.engine.ingest.S3DataIngestion.SOURCE;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.INGEST_THREAD_POOL;
-import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.util.ArrayList;
@@ -181,56 +179,37 @@ public class TransportBatchIngestionActionTests extends OpenSearchTestCase {
     public void test_doExecute_ExecuteWithNoErrorHandling() {
         batchAction.executeWithErrorHandling(() -> {}, "taskId");
 
-        verify(mlTaskManager, never()).updateMLTask(anyString(), anyString(), isA(Map.class), anyLong(), anyBoolean());
+        verify(mlTaskManager, never()).updateMLTask(anyString(), anyString(), isA(Map.class), anyBoolean());
     }
 
     public void test_doExecute_ExecuteWithPathNotFoundException() {
         batchAction.executeWithErrorHandling(() -> { throw new PathNotFoundException("jsonPath not found!"); }, "taskId");
 
-        verify(mlTaskManager)
-            .updateMLTask("taskId", null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "jsonPath not found!"), TASK_SEMAPHORE_TIMEOUT, true);
+        verify(mlTaskManager).updateMLTask("taskId", null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "jsonPath not found!"), true);
     }
 
     public void test_doExecute_RuntimeException() {
         batchAction.executeWithErrorHandling(() -> { throw new RuntimeException("runtime exception in the ingestion!"); }, "taskId");
 
         verify(mlTaskManager)
-            .updateMLTask(
-                "taskId",
-                null,
-                Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "runtime exception in the ingestion!"),
-                TASK_SEMAPHORE_TIMEOUT,
-                true
-            );
+            .updateMLTask("taskId", null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "runtime exception in the ingestion!"), true);
     }
 
     public void test_doExecute_handleSuccessRate100() {
         batchAction.handleSuccessRate(100, "taskid");
-        verify(mlTaskManager).updateMLTask("taskid", null, Map.of(STATE_FIELD, COMPLETED), 5000, true);
+        verify(mlTaskManager).updateMLTask("taskid", null, Map.of(STATE_FIELD, COMPLETED), true);
     }
 
     public void test_doExecute_handleSuccessRate50() {
         batchAction.handleSuccessRate(50, "taskid");
         verify(mlTaskManager)
-            .updateMLTask(
-                "taskid",
-                null,
-                Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "batch ingestion successful rate is 50.0"),
-                TASK_SEMAPHORE_TIMEOUT,
-                true
-            );
+            .updateMLTask("taskid", null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "batch ingestion successful rate is 50.0"), true);
     }
 
     public void test_doExecute_handleSuccessRate0() {
         batchAction.handleSuccessRate(0, "taskid");
         verify(mlTaskManager)
-            .updateMLTask(
-                "taskid",
-                null,
-                Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "batch ingestion successful rate is 0"),
-                TASK_SEMAPHORE_TIMEOUT,
-                true
-            );
+            .updateMLTask("taskid", null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "batch ingestion successful rate is 0"), true);
     }
 
     public void test_doExecute_batchIngestionDisabled() {
@@ -357,8 +336,7 @@ public class TransportBatchIngestionActionTests extends OpenSearchTestCase {
         ArgumentCaptor<OpenSearchStatusException> argumentCaptor = ArgumentCaptor.forClass(OpenSearchStatusException.class);
         verify(actionListener).onFailure(argumentCaptor.capture());
         assertEquals("some error", argumentCaptor.getValue().getMessage());
-        verify(mlTaskManager)
-            .updateMLTask("taskId", null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "some error"), TASK_SEMAPHORE_TIMEOUT, true);
+        verify(mlTaskManager).updateMLTask("taskId", null, Map.of(STATE_FIELD, FAILED, ERROR_FIELD, "some error"), true);
     }
 
     public void test_doExecute_withConnector_success() {
@@ -47,6 +47,7 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteRequest;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.utils.TestHelper;
 import org.opensearch.remote.metadata.client.SdkClient;
@@ -98,6 +99,9 @@ public class DeleteConnectorTransportActionTests extends OpenSearchTestCase {
     @Mock
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
+    @Mock
+    private McpToolSpecCache mcpToolSpecCache;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -114,7 +118,8 @@ public class DeleteConnectorTransportActionTests extends OpenSearchTestCase {
                 sdkClient,
                 xContentRegistry,
                 connectorAccessControlHelper,
-                mlFeatureEnabledSetting
+                mlFeatureEnabledSetting,
+                mcpToolSpecCache
             )
         );
 
@@ -155,6 +160,8 @@ public class DeleteConnectorTransportActionTests extends OpenSearchTestCase {
         assertEquals(deleteResponse.getIndex(), actualResponse.getIndex());
         assertEquals(deleteResponse.getVersion(), actualResponse.getVersion());
         assertEquals(deleteResponse.getResult(), actualResponse.getResult());
+        // agent runs must not keep using the tools of a deleted MCP connector
+        verify(mcpToolSpecCache).invalidate(null, CONNECTOR_ID);
     }
 
     public void testDeleteConnector_ModelIndexNotFoundSuccess() throws InterruptedException {
@@ -51,6 +51,7 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.connector.MLUpdateConnectorRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
@@ -98,6 +99,9 @@ public class UpdateConnectorTransportActionTests extends OpenSearchTestCase {
     @Mock
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
+    @Mock
+    private McpToolSpecCache mcpToolSpecCache;
+
     @Mock
     private ActionFilters actionFilters;
 
@@ -184,7 +188,8 @@ public class UpdateConnectorTransportActionTests extends OpenSearchTestCase {
             settings,
             clusterService,
             mlEngine,
-            mlFeatureEnabledSetting
+            mlFeatureEnabledSetting,
+            mcpToolSpecCache
         );
 
         when(mlModelManager.getAllModelIds()).thenReturn(new String[] {});
@@ -8,7 +8,6 @@ package org.opensearch.ml.action.forward;
 import static java.util.Collections.emptyMap;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
@@ -189,7 +188,7 @@ public class TransportForwardActionTests extends OpenSearchTestCase {
         assertEquals("ok", response.getValue().getStatus());
         assertNull(response.getValue().getMlOutput());
         verify(mlTaskManager).addNodeError(eq(taskId), eq(nodeId1), eq(error));
-        verify(mlTaskManager, never()).updateMLTask(anyString(), anyString(), any(), anyLong(), anyBoolean());
+        verify(mlTaskManager, never()).updateMLTask(anyString(), anyString(), any(), anyBoolean());
     }
 
     public void testDoExecute_DeployModelDone_NoError() {
@@ -217,7 +216,7 @@ public class TransportForwardActionTests extends OpenSearchTestCase {
         verify(listener).onResponse(response.capture());
         assertEquals("ok", response.getValue().getStatus());
         assertNull(response.getValue().getMlOutput());
-        verify(mlTaskManager, never()).updateMLTask(anyString(), anyString(), any(), anyLong(), anyBoolean());
+        verify(mlTaskManager, never()).updateMLTask(anyString(), anyString(), any(), anyBoolean());
     }
 
     public void testDoExecute_DeployModelDone_successDeploy_ratio_exceed_configuration() {
@@ -247,7 +246,7 @@ public class TransportForwardActionTests extends OpenSearchTestCase {
         verify(listener).onResponse(response.capture());
         assertEquals("ok", response.getValue().getStatus());
         assertNull(response.getValue().getMlOutput());
-        verify(mlTaskManager, times(1)).updateMLTask(anyString(), any(), any(), anyLong(), anyBoolean());
+        verify(mlTaskManager, times(1)).updateMLTask(anyString(), any(), any(), anyBoolean());
     }
 
     public void testDoExecute_DeployModelDone_Error_NullTaskWorkerNodes() {
@@ -303,7 +302,7 @@ public class TransportForwardActionTests extends OpenSearchTestCase {
         verify(client, never()).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
         verify(mlTaskManager).addNodeError(eq(taskId), eq(nodeId1), eq(error));
         ArgumentCaptor<Map<String, Object>> updatedFields = ArgumentCaptor.forClass(Map.class);
-        verify(mlTaskManager).updateMLTask(anyString(), any(), updatedFields.capture(), anyLong(), anyBoolean());
+        verify(mlTaskManager).updateMLTask(anyString(), any(), updatedFields.capture(), anyBoolean());
         assertEquals(FAILED, (MLTaskState) updatedFields.getValue().get(MLTask.STATE_FIELD));
     }
 
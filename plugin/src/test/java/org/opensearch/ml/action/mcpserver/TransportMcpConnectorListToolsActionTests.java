@@ -37,6 +37,7 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.mcpserver.requests.list.MLMcpConnectorListToolsRequest;
 import org.opensearch.ml.common.transport.mcpserver.responses.list.MLMcpConnectorListToolsResponse;
 import org.opensearch.ml.common.transport.mcpserver.responses.list.McpToolInfo;
+import org.opensearch.ml.engine.algorithms.agent.McpToolSpecCache;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.remote.metadata.client.SdkClient;
@@ -64,6 +65,8 @@ public class TransportMcpConnectorListToolsActionTests extends OpenSearchTestCas
     @Mock
     private ConnectorAccessControlHelper connectorAccessControlHelper;
     @Mock
+    private McpToolSpecCache mcpToolSpecCache;
+    @Mock
     private Task task;
 
     /** Test-only subclass that overrides fetch to avoid static mocking. */
@@ -78,9 +81,19 @@ public class TransportMcpConnectorListToolsActionTests extends OpenSearchTestCas
             SdkClient sdkClient,
             EncryptorImpl encryptor,
             MLFeatureEnabledSetting mlFeatureEnabledSetting,
-            ConnectorAccessControlHelper connectorAccessControlHelper
+            ConnectorAccessControlHelper connectorAccessControlHelper,
+            McpToolSpecCache mcpToolSpecCache
         ) {
-            super(transportService, actionFilters, client, sdkClient, encryptor, mlFeatureEnabledSetting, connectorAccessControlHelper);
+            super(
+                transportService,
+                actionFilters,
+                client,
+                sdkClient,
+                encryptor,
+                mlFeatureEnabledSetting,
+                connectorAccessControlHelper,
+                mcpToolSpecCache
+            );
         }
 
         void setToolSpecsToReturn(List<MLToolSpec> toolSpecsToReturn) {
@@ -130,7 +143,8 @@ public class TransportMcpConnectorListToolsActionTests extends OpenSearchTestCas
             sdkClient,
             encryptor,
             mlFeatureEnabledSetting,
-            connectorAccessControlHelper
+            connectorAccessControlHelper,
+            mcpToolSpecCache
         );
     }
 
@@ -144,7 +158,8 @@ public class TransportMcpConnectorListToolsActionTests extends OpenSearchTestCas
             sdkClient,
             encryptor,
             mlFeatureEnabledSetting,
-            connectorAccessControlHelper
+            connectorAccessControlHelper,
+            mcpToolSpecCache
         );
         action.setToolSpecsToReturn(List.of(MLToolSpec.builder().type("test_tool").name("TestTool").description("Desc").build()));
 
@@ -237,7 +252,8 @@ public class TransportMcpConnectorListToolsActionTests extends OpenSearchTestCas
             sdkClient,
             encryptor,
             mlFeatureEnabledSetting,
-            connectorAccessControlHelper
+            connectorAccessControlHelper,
+            mcpToolSpecCache
         );
         MLMcpConnectorListToolsRequest request = MLMcpConnectorListToolsRequest.builder().connectorId("conn-1").tenantId(null).build();
         ActionListener<MLMcpConnectorListToolsResponse> listener = mock(ActionListener.class);
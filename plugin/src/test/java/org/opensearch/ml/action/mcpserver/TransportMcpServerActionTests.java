@@ -8,6 +8,7 @@ package org.opensearch.ml.action.mcpserver;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.CommonValue.ERROR_CODE_FIELD;
@@ -23,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.mcpserver.requests.register.McpToolRegisterInput;
@@ -63,7 +65,12 @@ public class TransportMcpServerActionTests extends OpenSearchTestCase {
     public void setUp() throws Exception {
         super.setUp();
         MockitoAnnotations.openMocks(this);
-        action = new TransportMcpServerAction(transportService, actionFilters, mlFeatureEnabledSetting, mcpToolsHelper);
+        action = new TransportMcpServerAction(
+            transportService,
+            actionFilters,
+            mlFeatureEnabledSetting,
+            new McpServerHolder(mcpToolsHelper, Settings.EMPTY)
+        );
     }
 
     private void mockTools(List<McpToolRegisterInput> tools) {
@@ -163,6 +170,47 @@ public class TransportMcpServerActionTests extends OpenSearchTestCase {
         assertNull(response.getError());
     }
 
+    public void test_doExecute_serverReusedUntilInvalidated() {
+        when(mlFeatureEnabledSetting.isMcpServerEnabled()).thenReturn(true);
+        McpToolRegisterInput tool = new McpToolRegisterInput("ToolA", "ListIndexTool", "desc", Map.of(), Map.of(), null, null);
+        mockTools(List.of(tool));
+        when(mcpToolsHelper.createToolSpecification(any())).thenReturn(toolSpec("ToolA"));
+        McpServerHolder holder = new McpServerHolder(mcpToolsHelper, Settings.EMPTY);
+        action = new TransportMcpServerAction(transportService, actionFilters, mlFeatureEnabledSetting, holder);
+        String toolsCall = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"tools/call\",\"params\":{\"name\":\"ToolA\",\"arguments\":{}}}";
+
+        action.doExecute(task, new MLMcpServerRequest(toolsCall), listener);
+        action.doExecute(task, new MLMcpServerRequest(toolsCall), listener);
+        verify(mcpToolsHelper, times(1)).searchAllTools(any());
+        verify(mcpToolsHelper, times(1)).createToolSpecification(any());
+
+        holder.invalidate();
+        action.doExecute(task, new MLMcpServerRequest(toolsCall), listener);
+        verify(mcpToolsHelper, times(2)).searchAllTools(any());
+
+        ArgumentCaptor<MLMcpServerResponse> responseCaptor = ArgumentCaptor.forClass(MLMcpServerResponse.class);
+        verify(listener, times(3)).onResponse(responseCaptor.capture());
+        responseCaptor.getAllValues().forEach(response -> {
+            assertTrue(response.getAcknowledgedResponse());
+            assertTrue(response.getMcpResponse().contains("ok"));
+        });
+    }
+
+    public void test_doExecute_toolLoadErrorNotCached() {
+        when(mlFeatureEnabledSetting.isMcpServerEnabled()).thenReturn(true);
+        doAnswer(invocation -> {
+            ActionListener<List<McpToolRegisterInput>> l = invocation.getArgument(0);
+            l.onFailure(new RuntimeException("search failed"));
+            return null;
+        }).when(mcpToolsHelper).searchAllTools(any());
+        MLMcpServerRequest request = new MLMcpServerRequest("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"tools/list\",\"params\":{}}");
+
+        action.doExecute(task, request, listener);
+        action.doExecute(task, request, listener);
+
+        verify(mcpToolsHelper, times(2)).searchAllTools(any());
+    }
+
     private McpStatelessServerFeatures.AsyncToolSpecification toolSpec(String name) {
         return new McpStatelessServerFeatures.AsyncToolSpecification(
             McpSchema.Tool.builder().name(name).description("desc").inputSchema(JSON_MAPPER, "{}").build(),
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.mcpserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.transport.mcpserver.action.MLMcpServerCacheInvalidateAction;
+import org.opensearch.ml.common.transport.mcpserver.requests.invalidate.MLMcpServerCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.mcpserver.responses.invalidate.MLMcpServerCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.mcpserver.responses.invalidate.MLMcpServerCacheInvalidateNodesResponse;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TransportMcpServerCacheInvalidateActionTests {
+
+    @Mock
+    private TransportService transportService;
+
+    @Mock
+    private ActionFilters actionFilters;
+
+    @Mock
+    private ClusterService clusterService;
+
+    @Mock
+    private McpServerHolder mcpServerHolder;
+
+    @Mock
+    private Client client;
+
+    @Mock
+    private ActionListener<String> listener;
+
+    private TransportMcpServerCacheInvalidateAction action;
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() {
+        action = new TransportMcpServerCacheInvalidateAction(transportService, actionFilters, clusterService, null, mcpServerHolder);
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testNodeOperation() {
+        when(clusterService.localNode()).thenReturn(localNode);
+
+        MLMcpServerCacheInvalidateNodeResponse response = action
+            .nodeOperation(action.newNodeRequest(new MLMcpServerCacheInvalidateNodesRequest()));
+
+        assertEquals(localNode, response.getNode());
+        verify(mcpServerHolder).invalidate();
+    }
+
+    @Test
+    public void testNewResponse() {
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("Local Cluster"));
+        List<MLMcpServerCacheInvalidateNodeResponse> responses = List.of(new MLMcpServerCacheInvalidateNodeResponse(localNode));
+
+        MLMcpServerCacheInvalidateNodesResponse response = action
+            .newResponse(new MLMcpServerCacheInvalidateNodesRequest(), responses, new ArrayList<>());
+        assertEquals(1, response.getNodes().size());
+    }
+
+    @Test
+    public void testInvalidateMcpServersBefore() {
+        List<ActionListener<MLMcpServerCacheInvalidateNodesResponse>> invalidateListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            invalidateListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(client).execute(eq(MLMcpServerCacheInvalidateAction.INSTANCE), any(), any());
+
+        TransportMcpServerCacheInvalidateAction.invalidateMcpServersBefore(client, listener).onResponse("written");
+
+        // the write is only acknowledged once all nodes dropped their MCP server
+        verify(listener, never()).onResponse(any());
+        assertEquals(1, invalidateListeners.size());
+        invalidateListeners.get(0).onFailure(new RuntimeException("node left"));
+        verify(listener).onResponse("written");
+    }
+
+    @Test
+    public void testInvalidateMcpServersBefore_WriteFailed() {
+        RuntimeException failure = new RuntimeException("bulk failed");
+
+        TransportMcpServerCacheInvalidateAction.invalidateMcpServersBefore(client, listener).onFailure(failure);
+
+        verify(listener).onFailure(failure);
+        verify(client, never()).execute(any(), any(), any());
+    }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.mcpserver;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -41,8 +42,10 @@ import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.settings.MLCommonsSettings;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.spi.tools.Tool;
+import org.opensearch.ml.common.transport.mcpserver.action.MLMcpServerCacheInvalidateAction;
 import org.opensearch.ml.common.transport.mcpserver.requests.register.MLMcpToolsRegisterNodesRequest;
 import org.opensearch.ml.common.transport.mcpserver.requests.register.McpToolRegisterInput;
+import org.opensearch.ml.common.transport.mcpserver.responses.invalidate.MLMcpServerCacheInvalidateNodesResponse;
 import org.opensearch.ml.common.transport.mcpserver.responses.register.MLMcpToolsRegisterNodesResponse;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.tools.ListIndexTool;
@@ -108,6 +111,11 @@ public class TransportMcpToolsRegisterActionTests extends OpenSearchTestCase {
                 )
             );
         TestHelper.mockClientStashContext(client, settings);
+        doAnswer(invocationOnMock -> {
+            ActionListener<MLMcpServerCacheInvalidateNodesResponse> actionListener = invocationOnMock.getArgument(2);
+            actionListener.onResponse(new MLMcpServerCacheInvalidateNodesResponse(ClusterName.DEFAULT, List.of(), List.of()));
+            return null;
+        }).when(client).execute(eq(MLMcpServerCacheInvalidateAction.INSTANCE), any(), any());
         when(toolFactoryWrapper.getToolsFactories()).thenReturn(toolFactories);
         doAnswer(invocationOnMock -> {
             ActionListener<Boolean> actionListener = invocationOnMock.getArgument(0);
@@ -161,6 +169,7 @@ public class TransportMcpToolsRegisterActionTests extends OpenSearchTestCase {
         assertEquals("localNode", response.getNodes().get(0).getNode().getId());
         assertTrue(response.getNodes().get(0).getCreated());
         assertTrue(response.failures().isEmpty());
+        verify(client).execute(eq(MLMcpServerCacheInvalidateAction.INSTANCE), any(), any());
     }
 
     public void test_doExecute_featureFlagDisabled() {
@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.mcpserver;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -41,8 +42,10 @@ import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.settings.MLCommonsSettings;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.spi.tools.Tool;
+import org.opensearch.ml.common.transport.mcpserver.action.MLMcpServerCacheInvalidateAction;
 import org.opensearch.ml.common.transport.mcpserver.requests.register.McpToolRegisterInput;
 import org.opensearch.ml.common.transport.mcpserver.requests.remove.MLMcpToolsRemoveNodesRequest;
+import org.opensearch.ml.common.transport.mcpserver.responses.invalidate.MLMcpServerCacheInvalidateNodesResponse;
 import org.opensearch.ml.common.transport.mcpserver.responses.remove.MLMcpToolsRemoveNodesResponse;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.tools.ListIndexTool;
@@ -108,6 +111,11 @@ public class TransportMcpToolsRemoveActionTests extends OpenSearchTestCase {
                 )
             );
         TestHelper.mockClientStashContext(client, settings);
+        doAnswer(invocationOnMock -> {
+            ActionListener<MLMcpServerCacheInvalidateNodesResponse> actionListener = invocationOnMock.getArgument(2);
+            actionListener.onResponse(new MLMcpServerCacheInvalidateNodesResponse(ClusterName.DEFAULT, List.of(), List.of()));
+            return null;
+        }).when(client).execute(eq(MLMcpServerCacheInvalidateAction.INSTANCE), any(), any());
         when(toolFactoryWrapper.getToolsFactories()).thenReturn(toolFactories);
         doAnswer(invocationOnMock -> {
             ActionListener<List<McpToolRegisterInput>> actionListener = invocationOnMock.getArgument(1);
@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.mcpserver;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -45,9 +46,11 @@ import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.MLIndex;
 import org.opensearch.ml.common.settings.MLCommonsSettings;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.mcpserver.action.MLMcpServerCacheInvalidateAction;
 import org.opensearch.ml.common.transport.mcpserver.requests.register.McpToolRegisterInput;
 import org.opensearch.ml.common.transport.mcpserver.requests.update.MLMcpToolsUpdateNodesRequest;
 import org.opensearch.ml.common.transport.mcpserver.requests.update.McpToolUpdateInput;
+import org.opensearch.ml.common.transport.mcpserver.responses.invalidate.MLMcpServerCacheInvalidateNodesResponse;
 import org.opensearch.ml.common.transport.mcpserver.responses.update.MLMcpToolsUpdateNodesResponse;
 import org.opensearch.ml.utils.TestHelper;
 import org.opensearch.tasks.Task;
@@ -101,6 +104,11 @@ public class TransportMcpToolsUpdateActionTests extends OpenSearchTestCase {
                 )
             );
         TestHelper.mockClientStashContext(client, settings);
+        doAnswer(invocationOnMock -> {
+            ActionListener<MLMcpServerCacheInvalidateNodesResponse> actionListener = invocationOnMock.getArgument(2);
+            actionListener.onResponse(new MLMcpServerCacheInvalidateNodesResponse(ClusterName.DEFAULT, List.of(), List.of()));
+            return null;
+        }).when(client).execute(eq(MLMcpServerCacheInvalidateAction.INSTANCE), any(), any());
         when(clusterService.state().metadata().hasIndex(MLIndex.MCP_TOOLS.getIndexName())).thenReturn(true);
 
         action = new TransportMcpToolsUpdateAction(
@@ -21,6 +21,7 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -30,6 +31,7 @@ import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.Index;
@@ -44,6 +46,7 @@ import org.opensearch.ml.common.memorycontainer.MemoryStrategyType;
 import org.opensearch.ml.common.memorycontainer.MemoryType;
 import org.opensearch.ml.common.memorycontainer.RetentionRule;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerCacheInvalidateAction;
 import org.opensearch.ml.common.transport.memorycontainer.memory.MLUpdateMemoryContainerInput;
 import org.opensearch.ml.common.transport.memorycontainer.memory.MLUpdateMemoryContainerRequest;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
@@ -236,6 +239,55 @@ public class TransportUpdateMemoryContainerActionTests extends OpenSearchTestCas
         verify(listener).onResponse(updateResponse);
     }
 
+    public void testDoExecuteSuccess_InvalidatesCacheFromSystemContext() {
+        String containerId = "test-container-id";
+        MLUpdateMemoryContainerInput input = MLUpdateMemoryContainerInput.builder().name("updated-name").build();
+        MLUpdateMemoryContainerRequest request = MLUpdateMemoryContainerRequest
+            .builder()
+            .memoryContainerId(containerId)
+            .mlUpdateMemoryContainerInput(input)
+            .build();
+
+        ActionListener<UpdateResponse> listener = mock(ActionListener.class);
+        MLMemoryContainer container = MLMemoryContainer.builder().name("old-name").build();
+
+        doAnswer(invocation -> {
+            ActionListener<MLMemoryContainer> containerListener = invocation.getArgument(1);
+            containerListener.onResponse(container);
+            return null;
+        }).when(memoryContainerHelper).getMemoryContainer(any(), any());
+        when(memoryContainerHelper.checkMemoryContainerAccess(isNull(), eq(container))).thenReturn(true);
+
+        UpdateResponse updateResponse = new UpdateResponse(
+            new ShardId(new Index("test", "uuid"), 0),
+            containerId,
+            1L,
+            1L,
+            1L,
+            org.opensearch.action.DocWriteResponse.Result.UPDATED
+        );
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> updateListener = invocation.getArgument(1);
+            updateListener.onResponse(updateResponse);
+            return null;
+        }).when(client).update(any(), any());
+
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        threadContext.putHeader("caller", "test-user");
+        AtomicReference<String> invalidatingCaller = new AtomicReference<>("not invalidated");
+        doAnswer(invocation -> {
+            invalidatingCaller.set(threadContext.getHeader("caller"));
+            return null;
+        }).when(client).execute(eq(MLMemoryContainerCacheInvalidateAction.INSTANCE), any(), any());
+
+        action.doExecute(task, request, listener);
+
+        verify(listener).onResponse(updateResponse);
+        // the invalidation is broadcast from the stashed system context, the caller's context is restored for the response
+        assertNull(invalidatingCaller.get());
+        assertEquals("test-user", threadContext.getHeader("caller"));
+    }
+
     public void testDoExecuteWhenGetContainerFails() {
         MLUpdateMemoryContainerInput input = MLUpdateMemoryContainerInput.builder().name("updated-name").build();
         MLUpdateMemoryContainerRequest request = MLUpdateMemoryContainerRequest
@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.memorycontainer.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_MAX_BATCH_SIZE;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.memorycontainer.MemoryConfiguration;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class MemoryWriteBatcherTests {
+
+    private Client client;
+    private ThreadPool threadPool;
+    private MemoryConfiguration groupCommitConfig;
+    private MemoryWriteBatcher batcher;
+
+    @Before
+    public void setup() {
+        client = mock(Client.class);
+        threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        groupCommitConfig = MemoryConfiguration.builder().indexPrefix("test").groupCommit(true).build();
+        batcher = new MemoryWriteBatcher(client, threadPool, Settings.EMPTY);
+    }
+
+    @Test
+    public void testIsBatched() {
+        assertTrue(batcher.isBatched(groupCommitConfig));
+        assertFalse(batcher.isBatched(MemoryConfiguration.builder().indexPrefix("test").build()));
+        assertFalse(batcher.isBatched(MemoryConfiguration.builder().indexPrefix("test").groupCommit(true).useSystemIndex(false).build()));
+        assertFalse(batcher.isBatched(null));
+    }
+
+    @Test
+    public void testIndexData_FlushAfterWindow() {
+        ActionListener<IndexResponse> listener1 = mock(ActionListener.class);
+        ActionListener<IndexResponse> listener2 = mock(ActionListener.class);
+        batcher.indexData(groupCommitConfig, new IndexRequest("index").setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE), listener1);
+        batcher.indexData(groupCommitConfig, new IndexRequest("index"), listener2);
+
+        // one flush is scheduled for the whole batch and nothing is written before it runs
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(1)).schedule(flushCaptor.capture(), any(TimeValue.class), anyString());
+        verify(client, never()).bulk(any(), any());
+
+        flushCaptor.getValue().run();
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        ArgumentCaptor<ActionListener<BulkResponse>> bulkListenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(client).bulk(bulkCaptor.capture(), bulkListenerCaptor.capture());
+        BulkRequest bulkRequest = bulkCaptor.getValue();
+        assertEquals(2, bulkRequest.numberOfActions());
+        assertEquals(WriteRequest.RefreshPolicy.WAIT_UNTIL, bulkRequest.getRefreshPolicy());
+        assertEquals(WriteRequest.RefreshPolicy.NONE, ((IndexRequest) bulkRequest.requests().get(0)).getRefreshPolicy());
+
+        IndexResponse indexResponse = mock(IndexResponse.class);
+        BulkItemResponse success = new BulkItemResponse(0, DocWriteRequest.OpType.INDEX, indexResponse);
+        RuntimeException cause = new RuntimeException("version conflict");
+        BulkItemResponse failure = new BulkItemResponse(
+            1,
+            DocWriteRequest.OpType.INDEX,
+            new BulkItemResponse.Failure("index", "id", cause)
+        );
+        bulkListenerCaptor.getValue().onResponse(new BulkResponse(new BulkItemResponse[] { success, failure }, 10));
+
+        verify(listener1).onResponse(indexResponse);
+        ArgumentCaptor<Exception> failureCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener2).onFailure(failureCaptor.capture());
+        assertSame(cause, failureCaptor.getValue());
+    }
+
+    @Test
+    public void testIndexData_FlushWhenFull() {
+        Settings settings = Settings.builder().put(ML_COMMONS_AGENTIC_MEMORY_GROUP_COMMIT_MAX_BATCH_SIZE.getKey(), 2).build();
+        batcher = new MemoryWriteBatcher(client, threadPool, settings);
+        ActionListener<IndexResponse> listener = mock(ActionListener.class);
+        batcher.indexData(groupCommitConfig, new IndexRequest("index"), listener);
+        batcher.indexData(groupCommitConfig, new IndexRequest("index"), listener);
+        verify(client, times(1)).bulk(any(), any());
+
+        // the scheduled flush of the batch written already is a no-op
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(flushCaptor.capture(), any(TimeValue.class), anyString());
+        flushCaptor.getValue().run();
+        verify(client, times(1)).bulk(any(), any());
+    }
+
+    @Test
+    public void testIndexData_BulkFailure() {
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), anyString())).thenThrow(new IllegalStateException("closing"));
+        ActionListener<IndexResponse> listener = mock(ActionListener.class);
+        batcher.indexData(groupCommitConfig, new IndexRequest("index"), listener);
+
+        // written right away when the flush can't be scheduled
+        ArgumentCaptor<ActionListener<BulkResponse>> bulkListenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(client).bulk(any(), bulkListenerCaptor.capture());
+        RuntimeException exception = new RuntimeException("bulk failed");
+        bulkListenerCaptor.getValue().onFailure(exception);
+        verify(listener).onFailure(exception);
+    }
+}
@@ -143,7 +143,8 @@ public class TransportAddMemoriesActionTests {
             xContentRegistry,
             mlFeatureEnabledSetting,
             memoryContainerHelper,
-            threadPool
+            threadPool,
+            new MemoryWriteBatcher(client, threadPool, Settings.EMPTY)
         );
 
         // Replace internal services with mocks via reflection for testing private methods
@@ -80,6 +80,8 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.model.MLUpdateModelInput;
 import org.opensearch.ml.common.transport.model.MLUpdateModelRequest;
+import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheAction;
+import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesRequest;
 import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesResponse;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
@@ -408,6 +410,8 @@ public class UpdateModelTransportActionTests extends OpenSearchTestCase {
         verify(actionListener).onResponse(argumentCaptor.capture());
         assertEquals(updateResponse.getId(), argumentCaptor.getValue().getId());
         assertEquals(updateResponse.getResult(), argumentCaptor.getValue().getResult());
+        // the model isn't deployed, so it's dropped from the trained model cache of every node
+        verify(client).execute(eq(MLUpdateModelCacheAction.INSTANCE), any(MLUpdateModelCacheNodesRequest.class), any());
     }
 
     @Test
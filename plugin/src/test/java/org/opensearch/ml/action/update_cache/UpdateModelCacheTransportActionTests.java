@@ -5,9 +5,12 @@
 
 package org.opensearch.ml.action.update_cache;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
 
@@ -109,6 +112,7 @@ public class UpdateModelCacheTransportActionTests {
             listener.onResponse("successful");
             return null;
         }).when(mlModelManager).updateModelCache(any(), any());
+        when(mlModelManager.isModelRunningOnNode(any())).thenReturn(true);
     }
 
     @Test
@@ -157,6 +161,19 @@ public class UpdateModelCacheTransportActionTests {
         assertNotNull(response);
     }
 
+    @Test
+    public void testNodeOperation_ModelNotRunningOnNode() {
+        when(mlModelManager.isModelRunningOnNode("testModelId")).thenReturn(false);
+        final MLUpdateModelCacheNodesRequest request = new MLUpdateModelCacheNodesRequest(
+            new String[] { "nodeId1", "nodeId2" },
+            "testModelId"
+        );
+        final MLUpdateModelCacheNodeResponse response = action.nodeOperation(new MLUpdateModelCacheNodeRequest(request));
+        assertEquals("invalidated", response.getModelUpdateStatus().get("testModelId"));
+        verify(mlModelManager).invalidateTrainedModel("testModelId");
+        verify(mlModelManager, never()).updateModelCache(any(), any());
+    }
+
     @Test
     public void testNodeOperationException() {
         doAnswer(invocation -> {
@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_CONTAINER_CACHE_MAX_SIZE;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.memorycontainer.MLMemoryContainer;
+import org.opensearch.ml.common.memorycontainer.MemoryConfiguration;
+
+public class MemoryContainerCacheTests {
+
+    private MemoryContainerCache cache;
+    private MLMemoryContainer container;
+
+    @Before
+    public void setup() {
+        cache = new MemoryContainerCache(Settings.EMPTY);
+        container = MLMemoryContainer
+            .builder()
+            .name("container")
+            .configuration(MemoryConfiguration.builder().indexPrefix("prefix").build())
+            .build();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        cache.put("tenant", "container-id", container, cache.getVersion());
+        container.setName("modified after put");
+
+        MLMemoryContainer cached = cache.get("tenant", "container-id");
+        assertEquals("container", cached.getName());
+        assertEquals(container.getConfiguration().getFinalMemoryIndexPrefix(), cached.getConfiguration().getFinalMemoryIndexPrefix());
+        // every caller gets its own copy
+        assertNotSame(cached, cache.get("tenant", "container-id"));
+        // reads without tenant id are served, reads of other tenants are not
+        assertEquals("container", cache.get(null, "container-id").getName());
+        assertNull(cache.get("other_tenant", "container-id"));
+        assertNull(cache.get("tenant", null));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testPut_InvalidatedWhileReading() {
+        long version = cache.getVersion();
+        cache.invalidate("container-id");
+        cache.put(null, "container-id", container, version);
+
+        assertNull(cache.get(null, "container-id"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.put(null, "container1", container, cache.getVersion());
+        cache.put(null, "container2", container, cache.getVersion());
+        cache.invalidate("container1");
+        cache.invalidate(null);
+
+        assertNull(cache.get(null, "container1"));
+        assertEquals("container", cache.get(null, "container2").getName());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDisabled() {
+        Settings settings = Settings.builder().put(ML_COMMONS_MEMORY_CONTAINER_CACHE_MAX_SIZE.getKey(), 0).build();
+        MemoryContainerCache disabledCache = new MemoryContainerCache(settings);
+        disabledCache.put(null, "container-id", container, disabledCache.getVersion());
+
+        assertNull(disabledCache.get(null, "container-id"));
+        assertEquals(0, disabledCache.size());
+    }
+}
@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.BEDROCK_STRUCTURED_OUTPUT_RESULT_PATH;
@@ -135,6 +136,32 @@ public class MemoryContainerHelperTests extends OpenSearchTestCase {
         assertEquals(container.getConfiguration().getIndexPrefix(), result.getConfiguration().getIndexPrefix());
     }
 
+    public void testGetMemoryContainerCached() throws Exception {
+        MemoryContainerHelper cachingHelper = new MemoryContainerHelper(
+            client,
+            sdkClient,
+            NamedXContentRegistry.EMPTY,
+            modelManager,
+            new MemoryContainerCache(Settings.EMPTY)
+        );
+        MLMemoryContainer container = createContainer();
+        GetResponse getResponse = mock(GetResponse.class);
+        when(getResponse.isExists()).thenReturn(true);
+        when(getResponse.getSourceAsString()).thenReturn(containerToJson(container));
+        GetDataObjectResponse dataResponse = mock(GetDataObjectResponse.class);
+        when(dataResponse.getResponse()).thenReturn(getResponse);
+        when(sdkClient.getDataObjectAsync(any())).thenReturn(CompletableFuture.completedFuture(dataResponse));
+
+        PlainActionFuture<MLMemoryContainer> firstListener = PlainActionFuture.newFuture();
+        cachingHelper.getMemoryContainer("container-id", firstListener);
+        firstListener.actionGet().setName("modified by caller");
+
+        PlainActionFuture<MLMemoryContainer> secondListener = PlainActionFuture.newFuture();
+        cachingHelper.getMemoryContainer("container-id", secondListener);
+        assertEquals(container.getName(), secondListener.actionGet().getName());
+        verify(sdkClient, times(1)).getDataObjectAsync(any());
+    }
+
     public void testGetMemoryContainerNotFound() {
         GetResponse getResponse = mock(GetResponse.class);
         when(getResponse.isExists()).thenReturn(false);
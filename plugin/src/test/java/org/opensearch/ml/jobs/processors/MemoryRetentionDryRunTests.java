@@ -126,6 +126,9 @@ public class MemoryRetentionDryRunTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_LONG_TERM_MAX_COUNT,
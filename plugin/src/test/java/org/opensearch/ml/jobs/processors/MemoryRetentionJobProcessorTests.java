@@ -24,6 +24,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.CommonValue.ML_MEMORY_CONTAINER_INDEX;
@@ -32,7 +33,11 @@ import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -67,6 +72,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.index.reindex.AbstractBulkByScrollRequest;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
@@ -74,6 +80,8 @@ import org.opensearch.jobscheduler.spi.LockModel;
 import org.opensearch.jobscheduler.spi.utils.LockService;
 import org.opensearch.ml.common.settings.MLCommonsSettings;
 import org.opensearch.ml.common.transport.memorycontainer.MLExecuteMemoryRetentionResponse.TriggerStatus;
+import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerCacheInvalidateAction;
+import org.opensearch.ml.common.transport.memorycontainer.MLMemoryContainerCacheInvalidateNodesRequest;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
@@ -81,6 +89,7 @@ import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
 import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
 import org.opensearch.transport.client.Client;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -134,6 +143,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
@@ -609,6 +621,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
@@ -638,6 +653,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
@@ -711,6 +729,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
@@ -808,6 +829,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
@@ -851,6 +875,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
@@ -1485,6 +1512,13 @@ public class MemoryRetentionJobProcessorTests {
 
         // Throttle (retention_job_throttle_seconds=1) is scheduled after the container with deletions
         verify(threadPool, atLeastOnce()).schedule(any(Runnable.class), eq(TimeValue.timeValueSeconds(1)), anyString());
+
+        // Run counters are kept once the run finishes
+        MemoryRetentionJobProcessor.RunMetrics metrics = processor.getLastRunMetrics();
+        assertNotNull(metrics);
+        assertEquals(1, metrics.containersProcessed.get());
+        assertTrue("cascade deletes should be counted", metrics.docsDeleted.get() >= 2);
+        assertTrue(metrics.elapsedMillis >= 0);
     }
 
     @Test
@@ -1614,6 +1648,171 @@ public class MemoryRetentionJobProcessorTests {
         verify(client, atLeast(2)).bulk(any(BulkRequest.class), isA(ActionListener.class));
     }
 
+    @Test
+    public void testContainerLanesProcessContainersConcurrently() {
+        // retention_job_container_concurrency=2 with 3 containers -> 2 containers in flight, the third starts when a lane frees up
+        updateClusterSettings(Settings.builder().put("plugins.ml_commons.memory.retention_job_container_concurrency", 2));
+        SearchResponse containerSearchResponse = sessionRetentionContainers("container-1", "container-2", "container-3");
+
+        AtomicInteger containerSearchCount = new AtomicInteger(0);
+        // session searches are held so the containers stay in flight until the test completes them
+        Deque<ActionListener<SearchResponse>> pendingSearches = new ArrayDeque<>();
+
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+
+            if (request.indices()[0].equals(ML_MEMORY_CONTAINER_INDEX)) {
+                listener.onResponse(containerSearchCount.getAndIncrement() == 0 ? containerSearchResponse : emptySearchResponse());
+            } else {
+                pendingSearches.add(listener);
+            }
+            return null;
+        }).when(client).search(any(SearchRequest.class), isA(ActionListener.class));
+
+        processor.run();
+
+        assertEquals("Two lanes should start", 2, pendingSearches.size());
+        int maxInFlight = 0;
+        while (!pendingSearches.isEmpty()) {
+            maxInFlight = Math.max(maxInFlight, pendingSearches.size());
+            pendingSearches.poll().onResponse(emptySearchResponse());
+        }
+
+        assertEquals("No more than 2 containers should be in flight", 2, maxInFlight);
+        MemoryRetentionJobProcessor.RunMetrics metrics = processor.getLastRunMetrics();
+        assertNotNull("The run should finish once every lane is done", metrics);
+        assertEquals(3, metrics.containersProcessed.get());
+        // No container deleted anything and the write queue is idle -> no throttle between containers
+        verify(threadPool, never()).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+    }
+
+    @Test
+    public void testWriteQueueBacklogThrottlesContainers() {
+        // WRITE queue above retention_job_write_queue_threshold (default 100) -> lanes back off even without deletions
+        mockWriteQueue(500);
+
+        runNoOpContainers("container-1", "container-2");
+
+        verify(threadPool, times(2)).schedule(any(Runnable.class), eq(TimeValue.timeValueSeconds(1)), anyString());
+        assertEquals(2, processor.getLastRunMetrics().containersProcessed.get());
+    }
+
+    @Test
+    public void testWriteQueueBelowThresholdSkipsThrottle() {
+        mockWriteQueue(50);
+
+        runNoOpContainers("container-1", "container-2");
+
+        verify(threadPool, never()).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+        assertEquals(2, processor.getLastRunMetrics().containersProcessed.get());
+    }
+
+    @Test
+    public void testDeleteByQueryUsesAutoSlicesByDefault() {
+        List<DeleteByQueryRequest> requests = runLongTermRetentionDeletes();
+
+        assertFalse(requests.isEmpty());
+        for (DeleteByQueryRequest request : requests) {
+            assertEquals(AbstractBulkByScrollRequest.AUTO_SLICES, request.getSlices());
+        }
+    }
+
+    @Test
+    public void testDeleteByQueryUsesConfiguredSlices() {
+        updateClusterSettings(Settings.builder().put("plugins.ml_commons.memory.retention_job_delete_slices", 3));
+
+        List<DeleteByQueryRequest> requests = runLongTermRetentionDeletes();
+
+        assertFalse(requests.isEmpty());
+        for (DeleteByQueryRequest request : requests) {
+            assertEquals(3, request.getSlices());
+        }
+    }
+
+    private void updateClusterSettings(Settings.Builder update) {
+        clusterService.getClusterSettings().applySettings(Settings.builder().put(clusterService.getSettings()).put(update.build()).build());
+    }
+
+    private SearchResponse sessionRetentionContainers(String... containerIds) {
+        SearchHit[] hits = new SearchHit[containerIds.length];
+        for (int i = 0; i < containerIds.length; i++) {
+            String sourceJson = "{\"configuration\":{\"index_prefix\":\"prefix" + i + "\","
+                + "\"use_system_index\":true,"
+                + "\"retention_policy\":{\"sessions\":{\"retention_days\":7}}}}";
+            hits[i] = new SearchHit(i, containerIds[i], null, null);
+            hits[i].sourceRef(new BytesArray(sourceJson));
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), Float.NaN));
+        return response;
+    }
+
+    private void mockWriteQueue(int queueSize) {
+        ThreadPoolStats.Stats writeStats = mock(ThreadPoolStats.Stats.class);
+        when(writeStats.getName()).thenReturn(ThreadPool.Names.WRITE);
+        when(writeStats.getQueue()).thenReturn(queueSize);
+        ThreadPoolStats stats = mock(ThreadPoolStats.class);
+        when(stats.iterator()).thenAnswer(invocation -> List.of(writeStats).iterator());
+        when(threadPool.stats()).thenReturn(stats);
+    }
+
+    private void runNoOpContainers(String... containerIds) {
+        SearchResponse containerSearchResponse = sessionRetentionContainers(containerIds);
+        AtomicInteger containerSearchCount = new AtomicInteger(0);
+
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+
+            if (request.indices()[0].equals(ML_MEMORY_CONTAINER_INDEX)) {
+                listener.onResponse(containerSearchCount.getAndIncrement() == 0 ? containerSearchResponse : emptySearchResponse());
+            } else {
+                // No expired sessions
+                listener.onResponse(emptySearchResponse());
+            }
+            return null;
+        }).when(client).search(any(SearchRequest.class), isA(ActionListener.class));
+
+        processor.run();
+    }
+
+    private List<DeleteByQueryRequest> runLongTermRetentionDeletes() {
+        String sourceJson = "{\"configuration\":{\"index_prefix\":\"test-prefix\","
+            + "\"use_system_index\":true,"
+            + "\"llm_id\":\"test-llm\","
+            + "\"strategies\":[{\"type\":\"semantic\"}],"
+            + "\"retention_policy\":{\"long-term\":{\"retention_days\":30}}}}";
+        SearchResponse containerSearchResponse = createContainerSearchResponseFromJson("container-ltm-slices", sourceJson);
+        AtomicInteger containerSearchCount = new AtomicInteger(0);
+
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+
+            if (request.indices()[0].equals(ML_MEMORY_CONTAINER_INDEX)) {
+                listener.onResponse(containerSearchCount.getAndIncrement() == 0 ? containerSearchResponse : emptySearchResponse());
+            } else {
+                listener.onResponse(emptySearchResponse());
+            }
+            return null;
+        }).when(client).search(any(SearchRequest.class), isA(ActionListener.class));
+
+        BulkByScrollResponse deleteResponse = mock(BulkByScrollResponse.class);
+        when(deleteResponse.getDeleted()).thenReturn(5L);
+        List<DeleteByQueryRequest> requests = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            requests.add(invocation.getArgument(1));
+            ActionListener<BulkByScrollResponse> listener = invocation.getArgument(2);
+            listener.onResponse(deleteResponse);
+            return null;
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(DeleteByQueryRequest.class), isA(ActionListener.class));
+
+        processor.run();
+        return requests;
+    }
+
     // --- Phase 4: Long-Term Retention Tests ---
 
     @Test
@@ -2240,6 +2439,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
@@ -2497,6 +2699,12 @@ public class MemoryRetentionJobProcessorTests {
 
         assertTrue("First observation should stamp an orphan-sweep baseline", baselineUpdateCount.get() >= 1);
         assertEquals("No orphan deletion should occur on the first observation", 0, orphanDbqCount.get());
+        verify(client, atLeastOnce())
+            .execute(
+                eq(MLMemoryContainerCacheInvalidateAction.INSTANCE),
+                any(MLMemoryContainerCacheInvalidateNodesRequest.class),
+                isA(ActionListener.class)
+            );
     }
 
     @Test
@@ -3150,6 +3358,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
@@ -3197,6 +3408,12 @@ public class MemoryRetentionJobProcessorTests {
         processor.run();
 
         assertTrue("client.update should be called to backfill default policy", updateCalled.get());
+        verify(client)
+            .execute(
+                eq(MLMemoryContainerCacheInvalidateAction.INSTANCE),
+                any(MLMemoryContainerCacheInvalidateNodesRequest.class),
+                isA(ActionListener.class)
+            );
     }
 
     @Test
@@ -3220,6 +3437,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
@@ -3523,6 +3743,9 @@ public class MemoryRetentionJobProcessorTests {
                     MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_ENABLED,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_THROTTLE_SECONDS,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_CONTAINER_CONCURRENCY,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_DELETE_SLICES,
+                    MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_WRITE_QUEUE_THRESHOLD,
                     MLCommonsSettings.ML_COMMONS_MEMORY_RETENTION_JOB_INTERVAL_HOURS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_RETENTION_DAYS,
                     MLCommonsSettings.ML_COMMONS_MEMORY_DEFAULT_SESSION_MAX_COUNT,
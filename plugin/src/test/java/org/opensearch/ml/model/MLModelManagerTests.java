@@ -7,7 +7,6 @@ package org.opensearch.ml.model;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -37,7 +36,6 @@ import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CONNECTOR_RESTRICTED_IP_PATTERNS;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CONNECTOR_TRUSTED_PRIVATE_ENDPOINTS;
-import static org.opensearch.ml.model.MLModelManager.TIMEOUT_IN_MILLIS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex;
@@ -371,7 +369,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         expectedEx.expect(MLException.class);
         expectedEx.expectMessage(error);
         modelManager.registerMLModel(registerModelInput, mlTask);
-        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyLong(), anyBoolean());
+        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyBoolean());
     }
 
     public void testRegisterMLModel_CircuitBreakerOpen() {
@@ -382,7 +380,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         expectedEx.expect(CircuitBreakingException.class);
         expectedEx.expectMessage("Disk Circuit Breaker is open, please check your resources!");
         modelManager.registerMLModel(registerModelInput, mlTask);
-        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyLong(), anyBoolean());
+        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyBoolean());
     }
 
     public void testRegisterMLModel_CircuitBreakerNotOpenForAgent() {
@@ -394,7 +392,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         expectedEx.expect(CircuitBreakingException.class);
         expectedEx.expectMessage("Disk Circuit Breaker is open, please check your resources!");
         modelManager.registerMLModel(registerModelInput, mlTask);
-        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyLong(), anyBoolean());
+        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyBoolean());
     }
 
     public void testRegisterMLModel_InitModelIndexFailure() {
@@ -404,7 +402,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         mock_MLIndicesHandler_initModelIndex_failure(mlIndicesHandler);
 
         modelManager.registerMLModel(registerModelInput, mlTask);
-        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyLong(), anyBoolean());
+        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyBoolean());
         verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
         verify(client, never()).index(any(), any());
     }
@@ -491,13 +489,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(pretrainedInput, pretrainedTask);
         assertEquals(pretrainedTask.getFunctionName(), FunctionName.SPARSE_ENCODING);
         verify(mlTaskManager)
-            .updateMLTask(
-                eq("pretrained"),
-                any(),
-                eq(ImmutableMap.of(FUNCTION_NAME_FIELD, FunctionName.SPARSE_ENCODING)),
-                eq((long) TIMEOUT_IN_MILLIS),
-                eq(false)
-            );
+            .updateMLTask(eq("pretrained"), any(), eq(ImmutableMap.of(FUNCTION_NAME_FIELD, FunctionName.SPARSE_ENCODING)), eq(false));
     }
 
     public void testRegisterMLRemoteModel() throws PrivilegedActionException, IOException {
@@ -527,7 +519,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(indexResponse.getId()).thenReturn("mockIndexId");
         modelManager.registerMLRemoteModel(sdkClient, pretrainedInput, pretrainedTask, listener);
         assertEquals(pretrainedTask.getFunctionName(), FunctionName.REMOTE);
-        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyLong(), anyBoolean());
+        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyBoolean());
     }
 
     @Test
@@ -601,7 +593,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(indexResponse.getId()).thenReturn("mockIndexId");
         modelManager.registerMLRemoteModel(sdkClient, pretrainedInput, pretrainedTask, listener);
         assertEquals(pretrainedTask.getFunctionName(), FunctionName.REMOTE);
-        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyLong(), anyBoolean());
+        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyBoolean());
     }
 
     public void testIndexRemoteModel() throws PrivilegedActionException, IOException {
@@ -631,7 +623,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         }).when(client).index(any(), any());
         modelManager.indexRemoteModel(pretrainedInput, pretrainedTask, "1.0.0");
         assertEquals(pretrainedTask.getFunctionName(), FunctionName.REMOTE);
-        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyLong(), anyBoolean());
+        verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyBoolean());
         verify(modelManager).deployModelAfterRegistering(any(), anyString());
 
     }
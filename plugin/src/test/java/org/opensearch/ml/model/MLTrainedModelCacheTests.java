@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_MAX_SIZE;
+
+import org.junit.Before;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLTrainedModelCacheTests extends OpenSearchTestCase {
+
+    private MLTrainedModelCache trainedModelCache;
+    private Predictable predictor;
+
+    @Before
+    public void setup() {
+        trainedModelCache = new MLTrainedModelCache(Settings.EMPTY);
+        predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+    }
+
+    public void testPutAndGet() {
+        MLModel mlModel = model("model_id1", FunctionName.KMEANS);
+        trainedModelCache.put(mlModel, predictor);
+
+        MLTrainedModelCache.Entry entry = trainedModelCache.get("model_id1");
+        assertNotNull(entry);
+        assertEquals(FunctionName.KMEANS, entry.getAlgorithm());
+        assertEquals("1", entry.getVersion());
+        assertEquals("tenant_id", entry.getTenantId());
+        assertSame(predictor, entry.getPredictor());
+        assertEquals(1, trainedModelCache.size());
+        assertEquals(1, trainedModelCache.stats().hitCount());
+        assertNull(trainedModelCache.get("model_id2"));
+        assertEquals(1, trainedModelCache.stats().missCount());
+    }
+
+    public void testPut_NotCacheableAlgorithm() {
+        trainedModelCache.put(model("model_id1", FunctionName.BATCH_RCF), predictor);
+        trainedModelCache.put(model("model_id2", FunctionName.REMOTE), predictor);
+        assertEquals(0, trainedModelCache.size());
+        assertFalse(trainedModelCache.isCacheable(FunctionName.FIT_RCF));
+        assertTrue(trainedModelCache.isCacheable(FunctionName.LINEAR_REGRESSION));
+    }
+
+    public void testPut_ModelNotReady() {
+        when(predictor.isModelReady()).thenReturn(false);
+        trainedModelCache.put(model("model_id1", FunctionName.KMEANS), predictor);
+        assertNull(trainedModelCache.get("model_id1"));
+    }
+
+    public void testInvalidate() {
+        trainedModelCache.put(model("model_id1", FunctionName.LOGISTIC_REGRESSION), predictor);
+        trainedModelCache.invalidate("model_id1");
+        trainedModelCache.invalidate(null);
+        assertNull(trainedModelCache.get("model_id1"));
+        // in-flight predict requests may still use the predictor
+        verify(predictor, never()).close();
+    }
+
+    public void testDisabled() {
+        Settings settings = Settings.builder().put(ML_COMMONS_TRAINED_MODEL_CACHE_MAX_SIZE.getKey(), 0).build();
+        MLTrainedModelCache disabledCache = new MLTrainedModelCache(settings);
+        assertFalse(disabledCache.isCacheable(FunctionName.KMEANS));
+        disabledCache.put(model("model_id1", FunctionName.KMEANS), predictor);
+        assertNull(disabledCache.get("model_id1"));
+        assertTrue(MLTrainedModelCache.isCacheableAlgorithm(FunctionName.KMEANS));
+    }
+
+    private MLModel model(String modelId, FunctionName algorithm) {
+        return MLModel.builder().modelId(modelId).algorithm(algorithm).version("1").tenantId("tenant_id").build();
+    }
+}
@@ -40,6 +40,8 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.agent.LLMSpec;
 import org.opensearch.ml.common.agent.MLAgent;
+import org.opensearch.ml.common.agui.TextMessageContentEvent;
+import org.opensearch.ml.common.agui.ToolCallResultEvent;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.Input;
 import org.opensearch.ml.common.input.execute.agent.AgentMLInput;
@@ -871,6 +873,35 @@ public class RestMLExecuteStreamActionTests extends OpenSearchTestCase {
         assertTrue(jsonPayload.contains("\"message\":\"test error\""));
     }
 
+    // ===== isContentDelta tests =====
+
+    @Test
+    public void testIsContentDelta_nonAGUI() throws Exception {
+        assertTrue(invokeIsContentDelta(responseWithTensors(contentTensor("Hello", false)), false));
+        assertFalse(invokeIsContentDelta(responseWithTensors(contentTensor("", true)), false));
+        // tool outputs are sent with the memory ids
+        ModelTensor memoryTensor = ModelTensor.builder().name("memory_id").result("session-1").build();
+        assertFalse(invokeIsContentDelta(responseWithTensors(contentTensor("tool output", false), memoryTensor), false));
+        assertFalse(invokeIsContentDelta(buildResponseWithTokenUsage(), false));
+        ModelTensor toolCallTensor = ModelTensor
+            .builder()
+            .name("response")
+            .dataAsMap(Map.of("content", "", "tool_calls", List.of(Map.of("name", "search")), "is_last", false))
+            .build();
+        assertFalse(invokeIsContentDelta(responseWithTensors(toolCallTensor), false));
+        ModelTensor errorTensor = ModelTensor.builder().name("error").dataAsMap(Map.of("error", "test error")).build();
+        assertFalse(invokeIsContentDelta(responseWithTensors(errorTensor), false));
+    }
+
+    @Test
+    public void testIsContentDelta_AGUI() throws Exception {
+        String textEvent = new TextMessageContentEvent("msg-1", "Hello").toJsonString();
+        String toolCallEvent = new ToolCallResultEvent("msg-1", "call-1", "result").toJsonString();
+
+        assertTrue(invokeIsContentDelta(responseWithTensors(contentTensor(textEvent, false)), true));
+        assertFalse(invokeIsContentDelta(responseWithTensors(contentTensor(toolCallEvent, false)), true));
+    }
+
     // ===== Reflection helpers for testing private methods =====
 
     @SuppressWarnings("unchecked")
@@ -905,4 +936,19 @@ public class RestMLExecuteStreamActionTests extends OpenSearchTestCase {
         method.setAccessible(true);
         return (HttpChunk) method.invoke(restAction, response, isAGUIAgent, threadId, runId);
     }
+
+    private boolean invokeIsContentDelta(MLTaskResponse response, boolean isAGUIAgent) throws Exception {
+        Method method = RestMLExecuteStreamAction.class.getDeclaredMethod("isContentDelta", MLTaskResponse.class, boolean.class);
+        method.setAccessible(true);
+        return (boolean) method.invoke(restAction, response, isAGUIAgent);
+    }
+
+    private static ModelTensor contentTensor(String content, boolean isLast) {
+        return ModelTensor.builder().name("response").dataAsMap(Map.of("content", content, "is_last", isLast)).build();
+    }
+
+    private static MLTaskResponse responseWithTensors(ModelTensor... tensors) {
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(List.of(tensors)).build();
+        return MLTaskResponse.builder().output(ModelTensorOutput.builder().mlModelOutputs(List.of(modelTensors)).build()).build();
+    }
 }
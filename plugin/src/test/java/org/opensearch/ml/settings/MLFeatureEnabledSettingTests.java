@@ -34,6 +34,8 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REM
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ENABLED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_STATIC_METRIC_COLLECTION_ENABLED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_STREAM_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_BYTES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_STREAM_FLUSH_MAX_DELAY_MS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRUSTED_CONNECTOR_ENDPOINTS_REGEX;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_UNIFIED_AGENT_API_ENABLED;
 
@@ -92,6 +94,8 @@ public class MLFeatureEnabledSettingTests {
                             ML_COMMONS_INDEX_INSIGHT_FEATURE_ENABLED,
                             ML_COMMONS_STREAM_ENABLED,
                             ML_COMMONS_MAX_JSON_SIZE,
+                            ML_COMMONS_STREAM_FLUSH_MAX_BYTES,
+                            ML_COMMONS_STREAM_FLUSH_MAX_DELAY_MS,
                             ML_COMMONS_UNIFIED_AGENT_API_ENABLED,
                             ML_COMMONS_AGENTIC_SEARCH_TEMPLATE_ENABLED,
                             ML_COMMONS_MCP_HEADER_PASSTHROUGH_ENABLED,
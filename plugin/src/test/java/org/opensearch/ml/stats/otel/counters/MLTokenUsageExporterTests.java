@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.otel.counters;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.agent.TokenUsage;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.model.MLModelCacheHelper;
+import org.opensearch.telemetry.metrics.Counter;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLTokenUsageExporterTests extends OpenSearchTestCase {
+
+    @Mock
+    private MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    @Mock
+    private MLModelCacheHelper modelCacheHelper;
+    @Mock
+    private MetricsRegistry metricsRegistry;
+    @Mock
+    private Counter counter;
+    @Mock
+    private Connector connector;
+
+    private MLTokenUsageExporter exporter;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(mlFeatureEnabledSetting.isMetricCollectionEnabled()).thenReturn(true);
+        when(metricsRegistry.createCounter(any(), any(), any())).thenReturn(counter);
+        MLOperationalMetricsCounter.reset();
+        MLOperationalMetricsCounter.initialize("test-cluster", metricsRegistry, mlFeatureEnabledSetting);
+        exporter = new MLTokenUsageExporter(modelCacheHelper);
+    }
+
+    @After
+    public void cleanup() {
+        MLOperationalMetricsCounter.reset();
+    }
+
+    public void testOnUsage() {
+        MLModel model = mock(MLModel.class);
+        when(model.getTags(connector))
+            .thenReturn(
+                Tags
+                    .create()
+                    .addTag("model", "gpt-4o")
+                    .addTag("service_provider", "openai")
+                    .addTag("deployment", "remote")
+                    .addTag("type", "llm")
+                    .addTag("algorithm", "REMOTE")
+            );
+        when(modelCacheHelper.getModelInfo("model_id")).thenReturn(model);
+
+        exporter.onUsage("model_id", connector, TokenUsage.builder().inputTokens(100L).outputTokens(20L).build());
+        exporter.onUsage("model_id", connector, TokenUsage.builder().inputTokens(50L).build());
+
+        ArgumentCaptor<Tags> tagsCaptor = ArgumentCaptor.forClass(Tags.class);
+        verify(counter).add(eq(100.0), tagsCaptor.capture());
+        verify(counter).add(eq(20.0), any(Tags.class));
+        verify(counter).add(eq(50.0), any(Tags.class));
+        verify(counter, times(3)).add(anyDouble(), any(Tags.class));
+        Map<String, ?> tags = tagsCaptor.getValue().getTagsMap();
+        assertEquals("model_id", tags.get("model_id"));
+        assertEquals("gpt-4o", tags.get("model"));
+        assertEquals("openai", tags.get("service_provider"));
+        assertEquals("remote", tags.get("deployment"));
+        assertEquals("llm", tags.get("type"));
+        assertFalse(tags.containsKey("algorithm"));
+        // the tags of a model are computed once
+        verify(model).getTags(connector);
+    }
+
+    public void testOnUsage_ModelNotDeployed() {
+        exporter.onUsage("model_id", connector, TokenUsage.builder().inputTokens(100L).build());
+
+        ArgumentCaptor<Tags> tagsCaptor = ArgumentCaptor.forClass(Tags.class);
+        verify(counter).add(eq(100.0), tagsCaptor.capture());
+        assertEquals("model_id", tagsCaptor.getValue().getTagsMap().get("model_id"));
+        assertFalse(tagsCaptor.getValue().getTagsMap().containsKey("model"));
+    }
+}
@@ -10,6 +10,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICT_PHASE_METRICS_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_PREDICT_PHASE_TRACING_ENABLED;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -18,14 +20,17 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -42,6 +47,7 @@ import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
@@ -60,6 +66,7 @@ import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
@@ -78,19 +85,25 @@ import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.MLPredictPhaseMetrics;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLTrainedModelCache;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.utils.TestData;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
@@ -152,12 +165,13 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
     MLEngine mlEngine;
     Encryptor encryptor;
     MLModel mlModel;
+    ClusterSettings clusterSettings;
 
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
         encryptor = new EncryptorImpl(null, "m+dWmfmnNRiNlOdej/QelEkvMTyH//frS2TBeS2BP4w=");
-        mlEngine = new MLEngine(Path.of("/tmp/test" + randomAlphaOfLength(10)), encryptor);
+        mlEngine = spy(new MLEngine(Path.of("/tmp/test" + randomAlphaOfLength(10)), encryptor));
         localNode = new DiscoveryNode("localNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
         remoteNode = new DiscoveryNode("remoteNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
         when(clusterService.localNode()).thenReturn(localNode);
@@ -176,7 +190,17 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
 
         Settings settings = Settings.builder().put(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE.getKey(), true).build();
-        ClusterSettings clusterSettings = new ClusterSettings(settings, new HashSet<>(Arrays.asList(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE)));
+        clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(
+                Arrays
+                    .asList(
+                        ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE,
+                        ML_COMMONS_PREDICT_PHASE_METRICS_ENABLED,
+                        ML_COMMONS_PREDICT_PHASE_TRACING_ENABLED
+                    )
+            )
+        );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         this.mlStats = new MLStats(stats);
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
@@ -248,6 +272,13 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         }).when(mlModelManager).checkMaxBatchJobTask(any(MLTask.class), isA(ActionListener.class));
     }
 
+    @After
+    public void resetPhaseMetrics() {
+        MLPredictPhaseMetrics.setHistogramsEnabled(false);
+        MLPredictPhaseMetrics.setTracingEnabled(false);
+        MLPredictPhaseMetrics.setTracer(null);
+    }
+
     public void testExecuteTask_OnLocalNode() {
         setupMocks(true, false, false, false);
 
@@ -303,12 +334,120 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("User: test_user does not have permissions to run predict by model: 111", argumentCaptor.getValue().getMessage());
     }
 
+    public void testExecuteTask_OnLocalNode_CachedTrainedModel() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(predictor.predict(any(MLInput.class))).thenReturn(MLPredictionOutput.builder().taskId("taskId").build());
+        when(mlModelManager.isTrainedModelCacheable(FunctionName.KMEANS)).thenReturn(true);
+        when(mlModelManager.getTrainedModel("111"))
+            .thenReturn(new MLTrainedModelCache.Entry(FunctionName.KMEANS, "1", null, User.parse(USER_STRING), predictor));
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(new DataFrameInputDataset(dataFrame)).build();
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder().modelId("111").mlInput(mlInput).build();
+
+        taskRunner.dispatchTask(FunctionName.KMEANS, request, transportService, listener);
+        verify(client, never()).get(any(), any());
+        verify(predictor).predict(any(MLInput.class));
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        assertEquals(MLTaskState.COMPLETED.name(), ((MLPredictionOutput) argumentCaptor.getValue().getOutput()).getStatus());
+    }
+
+    public void testExecuteTask_OnLocalNode_CacheTrainedModelOnMiss() throws IOException {
+        setupMocks(true, false, false, false);
+        MLModel kmeansModel = MLModel
+            .builder()
+            .user(User.parse(USER_STRING))
+            .version("1")
+            .name("test")
+            .algorithm(FunctionName.KMEANS)
+            .content("content")
+            .build();
+        BytesReference source = BytesReference.bytes(kmeansModel.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        getResponse = new GetResponse(new GetResult(indexName, "111", 111l, 111l, 111l, true, source, null, null));
+
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        doReturn(predictor).when(mlEngine).deploy(any(MLModel.class), any());
+        doReturn(MLPredictionOutput.builder().taskId("taskId").build()).when(mlEngine).predictWithLoadedModel(any(), eq(predictor));
+
+        // back the model manager with a real trained model cache
+        MLTrainedModelCache trainedModelCache = new MLTrainedModelCache(Settings.EMPTY);
+        when(mlModelManager.isTrainedModelCacheable(FunctionName.KMEANS)).thenReturn(true);
+        when(mlModelManager.getTrainedModel("111")).thenAnswer(invocation -> trainedModelCache.get("111"));
+        doAnswer(invocation -> {
+            trainedModelCache.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(mlModelManager).cacheTrainedModel(any(MLModel.class), any(Predictable.class));
+
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(new DataFrameInputDataset(dataFrame)).build();
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder().modelId("111").mlInput(mlInput).build();
+        taskRunner.dispatchTask(FunctionName.KMEANS, request, transportService, listener);
+        taskRunner.dispatchTask(FunctionName.KMEANS, request, transportService, listener);
+
+        // the first request reads and loads the model and caches it, the second one skips the index read
+        assertEquals(1, trainedModelCache.size());
+        verify(client, times(1)).get(any(), any());
+        verify(mlEngine, times(1)).deploy(any(MLModel.class), any());
+        verify(mlEngine, times(2)).predictWithLoadedModel(any(), eq(predictor));
+        verify(listener, times(2)).onResponse(any(MLTaskResponse.class));
+    }
+
     public void testExecuteTask_OnRemoteNode() {
         setupMocks(false, false, false, false);
         taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
         verify(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(requestWithDataFrame), any());
     }
 
+    public void testPhaseMetrics_OnRemoteNode() throws IOException {
+        Tracer tracer = mock(Tracer.class);
+        Span dispatchSpan = mock(Span.class);
+        Span transportSpan = mock(Span.class);
+        Span serializationSpan = mock(Span.class);
+        when(tracer.startSpan(any(SpanCreationContext.class))).thenReturn(dispatchSpan, transportSpan, serializationSpan);
+        MLPredictPhaseMetrics.setTracer(tracer);
+        updatePhaseSettings(true, true);
+        setupMocks(false, false, false, false);
+        String modelId = "remote_node_" + randomAlphaOfLength(10);
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder().modelId(modelId).mlInput(mlInputWithDataFrame).build();
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, request, transportService, listener);
+        ArgumentCaptor<TransportResponseHandler<MLTaskResponse>> handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+        verify(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(request), handlerCaptor.capture());
+        TransportResponseHandler<MLTaskResponse> handler = handlerCaptor.getValue();
+        BytesStreamOutput out = new BytesStreamOutput();
+        new MLTaskResponse(MLPredictionOutput.builder().taskId("taskId").status(MLTaskState.COMPLETED.name()).build()).writeTo(out);
+        handler.handleResponse(handler.read(out.bytes().streamInput()));
+
+        verify(listener).onResponse(any(MLTaskResponse.class));
+        assertEquals(Set.of("dispatch", "transport", "serialization"), modelPhases(modelId).keySet());
+        verify(dispatchSpan).endSpan();
+        // the transport phase ends before the response is read, so the phases don't overlap
+        InOrder inOrder = inOrder(transportSpan, tracer, serializationSpan);
+        inOrder.verify(transportSpan).endSpan();
+        inOrder.verify(tracer).startSpan(any(SpanCreationContext.class));
+        inOrder.verify(serializationSpan).endSpan();
+    }
+
+    public void testPhaseMetrics_OnLocalNode() {
+        updatePhaseSettings(true, false);
+        setupMocks(true, false, false, false);
+        String modelId = "local_node_" + randomAlphaOfLength(10);
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder().modelId(modelId).mlInput(mlInputWithDataFrame).build();
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, request, transportService, listener);
+
+        Map<String, Object> phases = modelPhases(modelId);
+        assertEquals(Set.of("dispatch", "circuit_breaker"), phases.keySet());
+        assertEquals(1L, ((Map<String, Object>) phases.get("circuit_breaker")).get("count"));
+
+        // disabled by the cluster setting, nothing more is recorded
+        updatePhaseSettings(false, false);
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, request, transportService, listener);
+        assertEquals(1L, ((Map<String, Object>) modelPhases(modelId).get("dispatch")).get("count"));
+        assertEquals(1L, ((Map<String, Object>) modelPhases(modelId).get("circuit_breaker")).get("count"));
+    }
+
     public void testExecuteTask_OnLocalNode_GetModelFail() {
         setupMocks(true, false, true, false);
 
@@ -763,6 +902,23 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         }
     }
 
+    private void updatePhaseSettings(boolean histogramsEnabled, boolean tracingEnabled) {
+        clusterSettings
+            .applySettings(
+                Settings
+                    .builder()
+                    .put(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE.getKey(), true)
+                    .put(ML_COMMONS_PREDICT_PHASE_METRICS_ENABLED.getKey(), histogramsEnabled)
+                    .put(ML_COMMONS_PREDICT_PHASE_TRACING_ENABLED.getKey(), tracingEnabled)
+                    .build()
+            );
+    }
+
+    private static Map<String, Object> modelPhases(String modelId) {
+        Map<String, Object> models = (Map<String, Object>) MLPredictPhaseMetrics.getAll().get(MLPredictPhaseMetrics.MODELS);
+        return (Map<String, Object>) models.get(modelId);
+    }
+
     public void testShouldTrackRemoteFailure() {
         // Test IllegalArgumentException - should not track
         assertFalse(taskRunner.shouldTrackRemoteFailure(new IllegalArgumentException("Invalid argument")));
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.CommonValue.ML_JOBS_INDEX;
@@ -24,8 +25,10 @@ import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 
 import org.junit.Assert;
@@ -121,11 +124,11 @@ public class MLTaskManagerTests extends OpenSearchTestCase {
     public void testUpdateMLTaskWithNullOrEmptyMap() {
         mlTaskManager.add(mlTask);
         ActionListener<UpdateResponse> listener = mock(ActionListener.class);
-        mlTaskManager.updateMLTask(mlTask.getTaskId(), null, new HashMap<>(), listener, 0, false);
+        mlTaskManager.updateMLTask(mlTask.getTaskId(), null, new HashMap<>(), listener, false);
         verify(client, never()).update(any(), any());
         verify(listener, times(1)).onFailure(any());
 
-        mlTaskManager.updateMLTask(mlTask.getTaskId(), null, new HashMap<>(), listener, 0, false);
+        mlTaskManager.updateMLTask(mlTask.getTaskId(), null, new HashMap<>(), listener, false);
         verify(client, never()).update(any(), any());
         verify(listener, times(2)).onFailure(any());
     }
@@ -133,33 +136,56 @@ public class MLTaskManagerTests extends OpenSearchTestCase {
     public void testUpdateMLTask_NonExistingTask() {
         ActionListener<UpdateResponse> listener = mock(ActionListener.class);
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
-        mlTaskManager.updateMLTask(mlTask.getTaskId(), null, new HashMap<>(), listener, 0, false);
+        mlTaskManager.updateMLTask(mlTask.getTaskId(), null, new HashMap<>(), listener, false);
         verify(client, never()).update(any(), any());
         verify(listener, times(1)).onFailure(argumentCaptor.capture());
         assertEquals("Can't find task in cache: task id", argumentCaptor.getValue().getMessage());
     }
 
-    public void testUpdateMLTask_NoSemaphore() {
+    public void testUpdateMLTask_MergesPendingUpdates() throws Exception {
         MLTask asyncMlTask = mlTask.toBuilder().async(true).build();
         mlTaskManager.add(asyncMlTask);
 
+        List<ActionListener<UpdateResponse>> inFlightUpdates = new CopyOnWriteArrayList<>();
         doAnswer(invocation -> {
-            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
-            ShardId shardId = new ShardId(new Index("indexName", "uuid"), 1);
-            UpdateResponse output = new UpdateResponse(shardId, "taskId", 1, 1, 1, DocWriteResponse.Result.CREATED);
-            actionListener.onResponse(output);
+            inFlightUpdates.add(invocation.getArgument(1));
             return null;
         }).when(client).update(any(UpdateRequest.class), any());
 
-        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        ActionListener<UpdateResponse> listener1 = mock(ActionListener.class);
+        ActionListener<UpdateResponse> listener2 = mock(ActionListener.class);
+        ActionListener<UpdateResponse> listener3 = mock(ActionListener.class);
+        String taskId = asyncMlTask.getTaskId();
+        mlTaskManager.updateMLTask(taskId, null, ImmutableMap.of(MLTask.STATE_FIELD, MLTaskState.RUNNING), listener1, false);
+        assertBusy(() -> assertEquals(1, inFlightUpdates.size()));
+        // updates arriving while the first one is written don't wait and are merged, last write wins per field
+        mlTaskManager.updateMLTask(taskId, null, ImmutableMap.of(MLTask.ERROR_FIELD, "error1"), listener2, false);
         mlTaskManager
-            .updateMLTask(asyncMlTask.getTaskId(), null, ImmutableMap.of(MLTask.ERROR_FIELD, "test error"), ActionListener.wrap(r -> {
-                ActionListener<UpdateResponse> listener = mock(ActionListener.class);
-                mlTaskManager.updateMLTask(asyncMlTask.getTaskId(), null, new HashMap<>(), listener, 0, false);
-                verify(client, times(1)).update(any(), any());
-                verify(listener, times(1)).onFailure(argumentCaptor.capture());
-                assertEquals("Other updating request not finished yet", argumentCaptor.getValue().getMessage());
-            }, Assert::assertNull), 0, false);
+            .updateMLTask(
+                taskId,
+                null,
+                ImmutableMap.of(MLTask.ERROR_FIELD, "error2", MLTask.STATE_FIELD, MLTaskState.FAILED),
+                listener3,
+                true
+            );
+        verify(client, times(1)).update(any(), any());
+
+        ShardId shardId = new ShardId(new Index("indexName", "uuid"), 1);
+        UpdateResponse output = new UpdateResponse(shardId, taskId, 1, 1, 1, DocWriteResponse.Result.UPDATED);
+        inFlightUpdates.get(0).onResponse(output);
+        assertBusy(() -> assertEquals(2, inFlightUpdates.size()));
+        verify(listener1, timeout(1000)).onResponse(output);
+
+        ArgumentCaptor<UpdateRequest> updateRequestCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(2)).update(updateRequestCaptor.capture(), any());
+        Map<String, Object> mergedUpdate = updateRequestCaptor.getAllValues().get(1).doc().sourceAsMap();
+        assertEquals("error2", mergedUpdate.get(MLTask.ERROR_FIELD));
+        assertEquals(MLTaskState.FAILED.name(), mergedUpdate.get(MLTask.STATE_FIELD));
+
+        inFlightUpdates.get(1).onResponse(output);
+        verify(listener2, timeout(1000)).onResponse(output);
+        verify(listener3, timeout(1000)).onResponse(output);
+        verify(client, times(2)).update(any(), any());
     }
 
     public void testUpdateMLTask_FailedToUpdate() {
@@ -175,7 +201,7 @@ public class MLTaskManagerTests extends OpenSearchTestCase {
 
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
         ActionListener<UpdateResponse> listener = mock(ActionListener.class);
-        mlTaskManager.updateMLTask(asyncMlTask.getTaskId(), null, ImmutableMap.of(MLTask.ERROR_FIELD, "test error"), listener, 0, false);
+        mlTaskManager.updateMLTask(asyncMlTask.getTaskId(), null, ImmutableMap.of(MLTask.ERROR_FIELD, "test error"), listener, false);
         verify(client, times(1)).update(any(), any());
         verify(listener, times(1)).onFailure(argumentCaptor.capture());
         assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
@@ -190,7 +216,7 @@ public class MLTaskManagerTests extends OpenSearchTestCase {
 
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
         ActionListener<UpdateResponse> listener = mock(ActionListener.class);
-        mlTaskManager.updateMLTask(asyncMlTask.getTaskId(), null, ImmutableMap.of(MLTask.ERROR_FIELD, "test error"), listener, 0, true);
+        mlTaskManager.updateMLTask(asyncMlTask.getTaskId(), null, ImmutableMap.of(MLTask.ERROR_FIELD, "test error"), listener, true);
         verify(client, times(1)).update(any(), any());
         verify(listener, times(1)).onFailure(argumentCaptor.capture());
         assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
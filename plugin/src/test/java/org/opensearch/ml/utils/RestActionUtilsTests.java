@@ -6,6 +6,7 @@
 package org.opensearch.ml.utils;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
 import static org.opensearch.ml.common.CommonValue.MCP_HEADER_AWS_ACCESS_KEY_ID;
@@ -48,8 +49,10 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.http.HttpChunk;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.plugin.MachineLearningPlugin;
@@ -633,4 +636,27 @@ public class RestActionUtilsTests extends OpenSearchTestCase {
         assertFalse(wrapped.getMessage().contains("10.0.0.5"));
         assertFalse(wrapped.getMessage().contains("abc123"));
     }
+
+    @Test
+    public void testCombineHttpChunks() {
+        HttpChunk first = mock(HttpChunk.class);
+        HttpChunk second = mock(HttpChunk.class);
+        HttpChunk third = mock(HttpChunk.class);
+        when(first.content()).thenReturn(new BytesArray("data: one\n\n"));
+        when(second.content()).thenReturn(new BytesArray("data: two\n\n"));
+        when(third.content()).thenReturn(new BytesArray("data: three\n\n"));
+        when(third.isLast()).thenReturn(true);
+
+        HttpChunk combined = RestActionUtils.combineHttpChunks(List.of(first, second, third));
+
+        // contents are concatenated in order and the chunk is last if the latest chunk is
+        assertEquals("data: one\n\ndata: two\n\ndata: three\n\n", combined.content().utf8ToString());
+        assertTrue(combined.isLast());
+        assertFalse(RestActionUtils.combineHttpChunks(List.of(third, first)).isLast());
+
+        combined.close();
+        verify(first).close();
+        verify(second).close();
+        verify(third).close();
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.searchpipelines.questionanswering.generative;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
+import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParameters;
+
+/**
+ * Chat history of a RAG request, fetched by the request processor while the search runs and handed to the response processor
+ * through the pipeline processing context, so reading the conversation memory overlaps with the query phase.
+ */
+class ChatHistoryPrefetch {
+
+    static final String CONTEXT_ATTRIBUTE = "generative_qa.chat_history_prefetch";
+    static final int DEFAULT_CHAT_HISTORY_WINDOW = 10;
+
+    private final String conversationId;
+    private final int interactionSize;
+    private final CompletableFuture<List<Interaction>> interactions = new CompletableFuture<>();
+
+    private ChatHistoryPrefetch(String conversationId, int interactionSize) {
+        this.conversationId = conversationId;
+        this.interactionSize = interactionSize;
+    }
+
+    /**
+     * Start fetching the chat history of the conversation and store the prefetch in the request context.
+     * @param memoryClient conversational memory client
+     * @param conversationId conversation id
+     * @param interactionSize number of interactions to fetch
+     * @param requestContext pipeline processing context of the search request
+     */
+    static void start(
+        ConversationalMemoryClient memoryClient,
+        String conversationId,
+        int interactionSize,
+        PipelineProcessingContext requestContext
+    ) {
+        ChatHistoryPrefetch prefetch = new ChatHistoryPrefetch(conversationId, interactionSize);
+        requestContext.setAttribute(CONTEXT_ATTRIBUTE, prefetch);
+        memoryClient
+            .getInteractions(
+                conversationId,
+                interactionSize,
+                ActionListener.wrap(prefetch.interactions::complete, prefetch.interactions::completeExceptionally)
+            );
+    }
+
+    /**
+     * Get the chat history prefetched for the conversation.
+     * @param requestContext pipeline processing context of the search request
+     * @param conversationId conversation id
+     * @param interactionSize number of interactions
+     * @return the prefetch, null if the chat history of the conversation was not prefetched
+     */
+    static ChatHistoryPrefetch get(PipelineProcessingContext requestContext, String conversationId, int interactionSize) {
+        if (requestContext == null) {
+            return null;
+        }
+        Object prefetch = requestContext.getAttribute(CONTEXT_ATTRIBUTE);
+        if (prefetch instanceof ChatHistoryPrefetch chatHistory
+            && Objects.equals(chatHistory.conversationId, conversationId)
+            && chatHistory.interactionSize == interactionSize) {
+            return chatHistory;
+        }
+        return null;
+    }
+
+    /**
+     * @param params generative QA parameters of the request
+     * @return number of interactions to use as chat history
+     */
+    static int getInteractionSize(GenerativeQAParameters params) {
+        Integer interactionSize = params.getInteractionSize();
+        if (interactionSize == null || interactionSize == GenerativeQAParameters.SIZE_NULL_VALUE) {
+            return DEFAULT_CHAT_HISTORY_WINDOW;
+        }
+        return interactionSize;
+    }
+
+    /**
+     * Hand the chat history to the listener once it is fetched.
+     * @param listener listener of the chat history
+     */
+    void whenComplete(ActionListener<List<Interaction>> listener) {
+        interactions.whenComplete((r, e) -> {
+            if (e != null) {
+                listener.onFailure(e instanceof Exception ? (Exception) e : new RuntimeException(e));
+            } else {
+                listener.onResponse(r);
+            }
+        });
+    }
+}
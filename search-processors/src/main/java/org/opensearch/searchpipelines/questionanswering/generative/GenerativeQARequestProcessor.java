@@ -20,12 +20,18 @@ package org.opensearch.searchpipelines.questionanswering.generative;
 import java.util.Map;
 
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.core.common.Strings;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.search.pipeline.AbstractProcessor;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
+import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamUtil;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParameters;
+import org.opensearch.transport.client.Client;
 
 /**
  * Defines the request processor for generative QA search pipelines.
@@ -34,6 +40,7 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
 
     private String modelId;
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    private ConversationalMemoryClient memoryClient;
 
     protected GenerativeQARequestProcessor(
         String tag,
@@ -41,10 +48,22 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
         boolean ignoreFailure,
         String modelId,
         MLFeatureEnabledSetting mlFeatureEnabledSetting
+    ) {
+        this(tag, description, ignoreFailure, modelId, mlFeatureEnabledSetting, null);
+    }
+
+    protected GenerativeQARequestProcessor(
+        String tag,
+        String description,
+        boolean ignoreFailure,
+        String modelId,
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        ConversationalMemoryClient memoryClient
     ) {
         super(tag, description, ignoreFailure);
         this.modelId = modelId;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.memoryClient = memoryClient;
     }
 
     @Override
@@ -59,6 +78,19 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
         return request;
     }
 
+    @Override
+    public SearchRequest processRequest(SearchRequest request, PipelineProcessingContext requestContext) throws Exception {
+        SearchRequest processed = processRequest(request);
+
+        // Start reading the chat history now, so it overlaps with the query phase instead of delaying the response processor.
+        GenerativeQAParameters params = GenerativeQAParamUtil.getGenerativeQAParameters(request);
+        if (memoryClient != null && requestContext != null && params != null && Strings.hasText(params.getConversationId())) {
+            ChatHistoryPrefetch
+                .start(memoryClient, params.getConversationId(), ChatHistoryPrefetch.getInteractionSize(params), requestContext);
+        }
+        return processed;
+    }
+
     @Override
     public String getType() {
         return GenerativeQAProcessorConstants.REQUEST_PROCESSOR_TYPE;
@@ -66,9 +98,15 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
 
     public static final class Factory implements Processor.Factory<SearchRequestProcessor> {
 
+        private final Client client;
         private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
         public Factory(MLFeatureEnabledSetting mlFeatureEnabledSetting) {
+            this(null, mlFeatureEnabledSetting);
+        }
+
+        public Factory(Client client, MLFeatureEnabledSetting mlFeatureEnabledSetting) {
+            this.client = client;
             this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
         }
 
@@ -93,7 +131,8 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
                             config,
                             GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID
                         ),
-                    this.mlFeatureEnabledSetting
+                    this.mlFeatureEnabledSetting,
+                    client == null ? null : new ConversationalMemoryClient(client)
                 );
             } else {
                 throw new MLException(GenerativeQAProcessorConstants.FEATURE_NOT_ENABLED_ERROR_MSG);
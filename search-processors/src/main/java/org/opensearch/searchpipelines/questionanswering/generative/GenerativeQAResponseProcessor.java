@@ -65,8 +65,6 @@ import lombok.extern.log4j.Log4j2;
 public class GenerativeQAResponseProcessor extends AbstractProcessor implements SearchResponseProcessor {
     public static String IllegalArgumentMessage =
         "Please check the provided generative_qa_parameters are complete and non-null(https://opensearch.org/docs/latest/search-plugins/conversational-search/#rag-pipeline). Messages in the memory can not have Null value for input and response";
-    private static final int DEFAULT_CHAT_HISTORY_WINDOW = 10;
-
     private static final int DEFAULT_PROCESSOR_TIME_IN_SECONDS = 30;
 
     private final String llmModel;
@@ -149,10 +147,7 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
             throw new IllegalArgumentException("Empty conversation_id is not allowed.");
         }
         Instant start = Instant.now();
-        Integer interactionSize = params.getInteractionSize();
-        if (interactionSize == null || interactionSize == GenerativeQAParameters.SIZE_NULL_VALUE) {
-            interactionSize = DEFAULT_CHAT_HISTORY_WINDOW;
-        }
+        int interactionSize = ChatHistoryPrefetch.getInteractionSize(params);
         log.debug("Using interaction size of {}", interactionSize);
 
         Integer topN = params.getContextSize();
@@ -188,7 +183,7 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
             );
         } else {
             final Instant memoryStart = Instant.now();
-            memoryClient.getInteractions(conversationId, interactionSize, ActionListener.wrap(r -> {
+            ActionListener<List<Interaction>> chatHistoryListener = ActionListener.wrap(r -> {
                 log.debug("getInteractions complete. ({})", getDuration(memoryStart));
                 chatHistory.addAll(r);
                 doChatCompletion(
@@ -210,7 +205,14 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                     response,
                     responseListener
                 );
-            }, responseListener::onFailure));
+            }, responseListener::onFailure);
+            // The request processor may have started reading the chat history while the search ran.
+            ChatHistoryPrefetch prefetch = ChatHistoryPrefetch.get(requestContext, conversationId, interactionSize);
+            if (prefetch != null) {
+                prefetch.whenComplete(chatHistoryListener);
+            } else {
+                memoryClient.getInteractions(conversationId, interactionSize, chatHistoryListener);
+            }
         }
     }
 
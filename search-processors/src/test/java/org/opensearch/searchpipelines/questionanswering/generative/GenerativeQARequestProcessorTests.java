@@ -17,10 +17,19 @@
  */
 package org.opensearch.searchpipelines.questionanswering.generative;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
@@ -29,10 +38,17 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
+import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamExtBuilder;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParameters;
 import org.opensearch.test.OpenSearchTestCase;
 
 public class GenerativeQARequestProcessorTests extends OpenSearchTestCase {
@@ -65,6 +81,72 @@ public class GenerativeQARequestProcessorTests extends OpenSearchTestCase {
         assertEquals(request, processed);
     }
 
+    public void testProcessRequestPrefetchesChatHistory() throws Exception {
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        List<Interaction> chatHistory = List
+            .of(new Interaction("0", Instant.now(), Instant.now(), "1", "question", "", "answer", "foo", Collections.emptyMap()));
+        doAnswer(invocation -> {
+            ((ActionListener<List<Interaction>>) invocation.getArguments()[2]).onResponse(chatHistory);
+            return null;
+        }).when(memoryClient).getInteractions(any(), anyInt(), any());
+        GenerativeQARequestProcessor processor = new GenerativeQARequestProcessor(
+            "tag",
+            "desc",
+            false,
+            "foo",
+            mlFeatureEnabledSetting,
+            memoryClient
+        );
+        PipelineProcessingContext requestContext = new PipelineProcessingContext();
+
+        SearchRequest request = new SearchRequest();
+        assertEquals(request, processor.processRequest(request, requestContext));
+        assertNull(requestContext.getAttribute(ChatHistoryPrefetch.CONTEXT_ATTRIBUTE));
+
+        request = searchRequest(new GenerativeQAParameters("12345", "llm_model", "question", null, null, null, 5, null, null));
+        assertEquals(request, processor.processRequest(request, requestContext));
+
+        verify(memoryClient).getInteractions(eq("12345"), eq(5), any());
+        assertNull(ChatHistoryPrefetch.get(requestContext, "12345", ChatHistoryPrefetch.DEFAULT_CHAT_HISTORY_WINDOW));
+        ChatHistoryPrefetch prefetch = ChatHistoryPrefetch.get(requestContext, "12345", 5);
+        assertNotNull(prefetch);
+        ActionListener<List<Interaction>> listener = mock(ActionListener.class);
+        prefetch.whenComplete(listener);
+        verify(listener).onResponse(chatHistory);
+    }
+
+    public void testProcessRequestWithoutConversation() throws Exception {
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        GenerativeQARequestProcessor processor = new GenerativeQARequestProcessor(
+            "tag",
+            "desc",
+            false,
+            "foo",
+            mlFeatureEnabledSetting,
+            memoryClient
+        );
+        PipelineProcessingContext requestContext = new PipelineProcessingContext();
+
+        processor
+            .processRequest(
+                searchRequest(new GenerativeQAParameters(null, "llm_model", "question", null, null, null, null, null, null)),
+                requestContext
+            );
+
+        verify(memoryClient, never()).getInteractions(any(), anyInt(), any());
+        assertNull(requestContext.getAttribute(ChatHistoryPrefetch.CONTEXT_ATTRIBUTE));
+    }
+
+    private SearchRequest searchRequest(GenerativeQAParameters params) {
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(params);
+        request.source(sourceBuilder);
+        sourceBuilder.ext(List.of(extBuilder));
+        return request;
+    }
+
     public void testGetType() {
         GenerativeQARequestProcessor processor = new GenerativeQARequestProcessor("tag", "desc", false, "foo", mlFeatureEnabledSetting);
         assertEquals(GenerativeQAProcessorConstants.REQUEST_PROCESSOR_TYPE, processor.getType());
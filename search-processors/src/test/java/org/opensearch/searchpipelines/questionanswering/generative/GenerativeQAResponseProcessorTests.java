@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAProcessorConstants.RAG_NULL_GEN_QA_PARAMS_ERROR_MSG;
@@ -52,6 +53,7 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
 import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamExtBuilder;
@@ -259,6 +261,52 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
         assertEquals(numHits, passages.size());
     }
 
+    public void testProcessResponseUsesPrefetchedChatHistory() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+
+        GenerativeQAResponseProcessor processor = (GenerativeQAResponseProcessor) new GenerativeQAResponseProcessor.Factory(
+            mock(Client.class),
+            mlFeatureEnabledSetting
+        ).create(null, "tag", "desc", true, config, null);
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        processor.setMemoryClient(memoryClient);
+
+        List<Interaction> chatHistory = List
+            .of(new Interaction("0", Instant.now(), Instant.now(), "1", "question", "", "answer", "foo", Collections.emptyMap()));
+        ConversationalMemoryClient prefetchMemoryClient = mock(ConversationalMemoryClient.class);
+        doAnswer(invocation -> {
+            ((ActionListener<List<Interaction>>) invocation.getArguments()[2]).onResponse(chatHistory);
+            return null;
+        }).when(prefetchMemoryClient).getInteractions(any(), anyInt(), any());
+        PipelineProcessingContext requestContext = new PipelineProcessingContext();
+        ChatHistoryPrefetch.start(prefetchMemoryClient, "12345", ChatHistoryPrefetch.DEFAULT_CHAT_HISTORY_WINDOW, requestContext);
+
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(new GenerativeQAParameters("12345", "llm_model", "question", null, null, null, null, null, null));
+        request.source(sourceBuilder);
+        sourceBuilder.ext(List.of(extBuilder));
+
+        XContentBuilder sourceContent = JsonXContent.contentBuilder().startObject().field("text", "passage0").endObject();
+        SearchHit hit = new SearchHit(0, "doc0", Map.of(), Map.of());
+        hit.sourceRef(BytesReference.bytes(sourceContent));
+        SearchHits searchHits = new SearchHits(new SearchHit[] { hit }, null, 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        SearchResponse response = new SearchResponse(internal, null, 1, 1, 0, 1, null, null, null);
+
+        Llm llm = mock(Llm.class);
+        processor.setLlm(llm);
+        processor.processResponseAsync(request, response, requestContext, ActionListener.wrap(r -> {}, e -> {}));
+
+        ArgumentCaptor<ChatCompletionInput> captor = ArgumentCaptor.forClass(ChatCompletionInput.class);
+        verify(llm).doChatCompletion(captor.capture(), any());
+        assertEquals(chatHistory, captor.getValue().getChatHistory());
+        verify(memoryClient, never()).getInteractions(any(), anyInt(), any());
+    }
+
     public void testProcessResponseSystemPromptAndUserInstructionsOverride() throws Exception {
         Client client = mock(Client.class);
         Map<String, Object> config = new HashMap<>();